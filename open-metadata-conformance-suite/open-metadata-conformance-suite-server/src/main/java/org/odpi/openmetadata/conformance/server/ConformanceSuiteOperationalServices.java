@@ -10,6 +10,8 @@ import org.odpi.openmetadata.conformance.beans.OpenMetadataConformanceWorkbenchW
 import org.odpi.openmetadata.conformance.beans.TechnologyUnderTestWorkPad;
 import org.odpi.openmetadata.conformance.ffdc.ConformanceSuiteErrorCode;
 import org.odpi.openmetadata.conformance.workbenches.repository.listener.ConformanceSuiteOMRSTopicListener;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkbench;
 import org.odpi.openmetadata.conformance.workbenches.platform.PlatformConformanceWorkPad;
 import org.odpi.openmetadata.conformance.workbenches.platform.PlatformConformanceWorkbench;
 import org.odpi.openmetadata.conformance.workbenches.repository.RepositoryConformanceWorkPad;
@@ -158,6 +160,27 @@ public class ConformanceSuiteOperationalServices
             enterpriseTopicConnector.registerListener(omrsTopicListener, workBenchName);
         }
 
+
+        if (conformanceSuiteConfig.getPerformanceWorkbenchConfig() != null)
+        {
+            final String workBenchName = "Repository Performance Workbench";
+            PerformanceWorkPad   performanceWorkPad = new PerformanceWorkPad(localServerUserId,
+                                                                             localServerPassword,
+                                                                             maxPageSize,
+                                                                             auditLog,
+                                                                             conformanceSuiteConfig.getPerformanceWorkbenchConfig());
+            workbenchWorkPads.add(performanceWorkPad);
+
+            PerformanceWorkbench performanceWorkbench = new PerformanceWorkbench(performanceWorkPad);
+            runningWorkbenches.add(performanceWorkbench);
+
+            Thread performanceWorkbenchThread = new Thread(performanceWorkbench, workBenchName);
+            performanceWorkbenchThread.start();
+
+            ConformanceSuiteConnectorConsumer connectorConsumer = new ConformanceSuiteConnectorConsumer(performanceWorkPad);
+            enterpriseConnectorManager.registerConnectorConsumer(connectorConsumer);
+        }
+
         instanceMap.setNewInstance(localServerName, new ConformanceServicesInstance(new TechnologyUnderTestWorkPad(workbenchWorkPads),
                                                                                     runningWorkbenches,
                                                                                     auditLog,
@@ -0,0 +1,363 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.tests.repository.RepositoryConformanceTestCase;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfile;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PerformanceTestCase is the superclass for the test cases of the performance workbench.  Each test case
+ * measures one or more operations of the repository under test for a specific type, population size and
+ * number of concurrent requests.  The measurements are reported as discovered properties so they appear in
+ * the test lab report alongside the results of the other workbenches.
+ */
+public abstract class PerformanceTestCase extends RepositoryConformanceTestCase
+{
+    private static final String assertion1    = "performance-test-case-base-01";
+    private static final String assertionMsg1 = "Metadata collection for repository connector supplied to performance workbench.";
+
+    protected PerformanceWorkPad performanceWorkPad;
+    protected PerformanceProfile profile;
+    protected String             testTypeName;
+    protected int                population;
+    protected int                concurrency;
+
+
+    /**
+     * An operation measured by a performance test case.
+     */
+    @FunctionalInterface
+    protected interface PerformanceOperation
+    {
+        /**
+         * Issue one request to the repository under test.
+         *
+         * @param operationNumber number of this request within the measurement (starting at 0)
+         * @throws Exception the request failed
+         */
+        void execute(int operationNumber) throws Exception;
+    }
+
+
+    /**
+     * Constructor sets up the test case id from the type, population and concurrency so that each
+     * measurement is reported separately.
+     *
+     * @param workPad place for parameters and results
+     * @param profile operation being measured
+     * @param testCaseId root identifier of the test case
+     * @param testCaseName name of the test case
+     * @param typeName name of the type being measured
+     * @param population number of instances of each type in the repository
+     * @param concurrency number of concurrent requests
+     */
+    protected PerformanceTestCase(PerformanceWorkPad workPad,
+                                  PerformanceProfile profile,
+                                  String             testCaseId,
+                                  String             testCaseName,
+                                  String             typeName,
+                                  int                population,
+                                  int                concurrency)
+    {
+        super(workPad, profile.getProfileId(), profile.getRequirementId());
+
+        this.performanceWorkPad = workPad;
+        this.profile = profile;
+        this.population = population;
+        this.concurrency = Math.max(1, concurrency);
+        this.testTypeName = (typeName == null) ? "<null>" : typeName;
+
+        super.updateTestId(testCaseId,
+                           testCaseId + "-" + testTypeName + "-" + population + "-" + this.concurrency,
+                           testCaseName);
+    }
+
+
+    /**
+     * Return the metadata collection used to call the repository.  The assertion is recorded against the
+     * profile of this test case rather than the repository workbench profiles.
+     *
+     * @return OMRSMetadataCollection object
+     * @throws Exception if the connector is not properly set up.
+     */
+    @Override
+    protected OMRSMetadataCollection getMetadataCollection() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = null;
+
+        if (cohortRepositoryConnector != null)
+        {
+            metadataCollection = cohortRepositoryConnector.getMetadataCollection();
+        }
+
+        assertCondition((metadataCollection != null),
+                        assertion1,
+                        assertionMsg1,
+                        profile.getProfileId(),
+                        profile.getRequirementId());
+
+        return metadataCollection;
+    }
+
+
+    /**
+     * Return the number used to generate the properties of the instance at the requested position
+     * in the population of its type.  Odd numbers are used because the property generator makes the
+     * values of non-unique properties distinct for odd instance numbers.
+     *
+     * @param position position of the instance in the population (starting at 0)
+     * @return instance number
+     */
+    protected static int getInstanceNumber(int position)
+    {
+        return (position * 2) + 1;
+    }
+
+
+    /**
+     * Return the first string property of a type.  This is the property used in searches.
+     *
+     * @param typeDefAttributes all of the properties of the type
+     * @return property definition or null if the type has no string property
+     */
+    protected TypeDefAttribute getSearchAttribute(List<TypeDefAttribute> typeDefAttributes)
+    {
+        if (typeDefAttributes != null)
+        {
+            for (TypeDefAttribute typeDefAttribute : typeDefAttributes)
+            {
+                AttributeTypeDef attributeType = typeDefAttribute.getAttributeType();
+
+                if ((attributeType != null) &&
+                    (attributeType.getCategory() == AttributeTypeDefCategory.PRIMITIVE) &&
+                    (((PrimitiveDef)attributeType).getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING))
+                {
+                    return typeDefAttribute;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the value of the search property generated for the instance at the requested position.
+     *
+     * @param userId calling user
+     * @param typeDefAttributes all of the properties of the type
+     * @param attributeName name of the search property
+     * @param position position of the instance in the population (starting at 0)
+     * @return string value or null
+     * @throws Exception problem manipulating types
+     */
+    protected String getSearchValue(String                 userId,
+                                    List<TypeDefAttribute> typeDefAttributes,
+                                    String                 attributeName,
+                                    int                    position) throws Exception
+    {
+        InstanceProperties properties = super.generatePropertiesForInstance(userId, typeDefAttributes, getInstanceNumber(position));
+
+        if (properties != null)
+        {
+            InstancePropertyValue propertyValue = properties.getPropertyValue(attributeName);
+
+            if (propertyValue instanceof PrimitivePropertyValue)
+            {
+                Object primitiveValue = ((PrimitivePropertyValue) propertyValue).getPrimitiveValue();
+
+                if (primitiveValue != null)
+                {
+                    return primitiveValue.toString();
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Issue the requested number of operations using the configured number of concurrent requests and
+     * report the throughput and latency as discovered properties.  If the repository does not support the
+     * operation, this is recorded as a not supported assertion and the measurement stops.
+     *
+     * @param operationName name of the operation used as a prefix for the discovered properties
+     * @param operationCount number of requests to issue
+     * @param operation request to issue
+     * @return true if the operation is supported
+     * @throws Exception the measurement was interrupted
+     */
+    protected boolean measure(String               operationName,
+                              int                  operationCount,
+                              PerformanceOperation operation) throws Exception
+    {
+        if (operationCount <= 0)
+        {
+            return true;
+        }
+
+        final long[]        latencies       = new long[operationCount];
+        final AtomicInteger nextOperation   = new AtomicInteger(0);
+        final AtomicInteger errorCount      = new AtomicInteger(0);
+        final AtomicBoolean notSupported    = new AtomicBoolean(false);
+        final List<String>  errorMessages   = new ArrayList<>();
+
+        Runnable worker = () ->
+        {
+            int operationNumber = nextOperation.getAndIncrement();
+
+            while ((operationNumber < operationCount) && (! notSupported.get()))
+            {
+                long start = System.nanoTime();
+
+                try
+                {
+                    operation.execute(operationNumber);
+                    latencies[operationNumber] = System.nanoTime() - start;
+                }
+                catch (FunctionNotSupportedException exception)
+                {
+                    notSupported.set(true);
+                    latencies[operationNumber] = -1;
+                }
+                catch (Exception exception)
+                {
+                    latencies[operationNumber] = -1;
+                    errorCount.incrementAndGet();
+
+                    synchronized (errorMessages)
+                    {
+                        if (errorMessages.isEmpty())
+                        {
+                            errorMessages.add(exception.getClass().getSimpleName() + ": " + exception.getMessage());
+                        }
+                    }
+                }
+
+                operationNumber = nextOperation.getAndIncrement();
+            }
+        };
+
+        int             threadCount = Math.min(concurrency, operationCount);
+        ExecutorService executor    = Executors.newFixedThreadPool(threadCount);
+        long            startTime   = System.nanoTime();
+
+        try
+        {
+            List<Future<?>> workers = new ArrayList<>();
+
+            for (int i = 0; i < threadCount; i++)
+            {
+                workers.add(executor.submit(worker));
+            }
+
+            for (Future<?> future : workers)
+            {
+                try
+                {
+                    future.get();
+                }
+                catch (ExecutionException error)
+                {
+                    errorCount.incrementAndGet();
+                }
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        long elapsedTime = System.nanoTime() - startTime;
+
+        if (notSupported.get())
+        {
+            super.addNotSupportedAssertion(testCaseId + "-" + operationName,
+                                           testTypeName + " repository does not support " + operationName + ".",
+                                           profile.getProfileId(),
+                                           profile.getRequirementId());
+            return false;
+        }
+
+        long[] successfulLatencies = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+
+        super.addDiscoveredProperty(operationName + " operations", operationCount, profile.getProfileId(), profile.getRequirementId());
+        super.addDiscoveredProperty(operationName + " errors", errorCount.get(), profile.getProfileId(), profile.getRequirementId());
+        super.addDiscoveredProperty(operationName + " population", population, profile.getProfileId(), profile.getRequirementId());
+        super.addDiscoveredProperty(operationName + " concurrency", threadCount, profile.getProfileId(), profile.getRequirementId());
+
+        if (successfulLatencies.length > 0)
+        {
+            super.addDiscoveredProperty(operationName + " throughput (operations/s)",
+                                        Math.round(successfulLatencies.length * 1000000000.0 / Math.max(1, elapsedTime)),
+                                        profile.getProfileId(),
+                                        profile.getRequirementId());
+            super.addDiscoveredProperty(operationName + " latency p50 (ms)", toMillis(getPercentile(successfulLatencies, 50)), profile.getProfileId(), profile.getRequirementId());
+            super.addDiscoveredProperty(operationName + " latency p90 (ms)", toMillis(getPercentile(successfulLatencies, 90)), profile.getProfileId(), profile.getRequirementId());
+            super.addDiscoveredProperty(operationName + " latency p99 (ms)", toMillis(getPercentile(successfulLatencies, 99)), profile.getProfileId(), profile.getRequirementId());
+            super.addDiscoveredProperty(operationName + " latency max (ms)", toMillis(successfulLatencies[successfulLatencies.length - 1]), profile.getProfileId(), profile.getRequirementId());
+        }
+
+        if (! errorMessages.isEmpty())
+        {
+            super.addDiscoveredProperty(operationName + " first error", errorMessages.get(0), profile.getProfileId(), profile.getRequirementId());
+        }
+
+        super.verifyCondition((errorCount.get() == 0),
+                              testCaseId + "-" + operationName,
+                              testTypeName + " " + operationName + " requests completed without error.",
+                              profile.getProfileId(),
+                              profile.getRequirementId());
+
+        return true;
+    }
+
+
+    /**
+     * Return the value at the requested percentile using the nearest rank method.
+     *
+     * @param sortedValues values in ascending order (at least one)
+     * @param percentile percentile to return
+     * @return value
+     */
+    private long getPercentile(long[] sortedValues, int percentile)
+    {
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+
+        return sortedValues[Math.max(0, rank - 1)];
+    }
+
+
+    /**
+     * Convert nanoseconds to milliseconds with microsecond precision.
+     *
+     * @param nanoseconds elapsed time
+     * @return milliseconds
+     */
+    private double toMillis(long nanoseconds)
+    {
+        return Math.round(nanoseconds / 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,94 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfile;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.ClassificationDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+
+import java.util.List;
+
+
+/**
+ * Measure the classification and declassification of entities.  The same entities are classified and then
+ * declassified so the population is unchanged when the test completes.
+ */
+public class TestEntityClassificationPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-classification";
+    private static final String testCaseName = "Entity classification performance test case";
+
+    private static final String classifyOperationName   = "classifyEntity";
+    private static final String declassifyOperationName = "declassifyEntity";
+
+    private ClassificationDef classificationDef;
+    private List<String>      entityGUIDs;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDef type of entities to classify
+     * @param classificationDef type of classification to add
+     * @param entityGUIDs entities to classify
+     * @param population number of instances of each type in the repository
+     * @param concurrency number of concurrent requests
+     */
+    public TestEntityClassificationPerformance(PerformanceWorkPad workPad,
+                                               EntityDef          entityDef,
+                                               ClassificationDef  classificationDef,
+                                               List<String>       entityGUIDs,
+                                               int                population,
+                                               int                concurrency)
+    {
+        super(workPad,
+              PerformanceProfile.ENTITY_CLASSIFICATION,
+              testCaseId,
+              testCaseName,
+              classificationDef.getName() + "-" + entityDef.getName(),
+              population,
+              concurrency);
+
+        this.classificationDef = classificationDef;
+        this.entityGUIDs = entityGUIDs;
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        if ((entityGUIDs == null) || (entityGUIDs.isEmpty()))
+        {
+            return;
+        }
+
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        String                 userId             = workPad.getLocalServerUserId();
+        InstanceProperties     properties         = super.getAllPropertiesForInstance(userId, classificationDef);
+        int                    operationCount     = Math.min(performanceWorkPad.getOperationsPerMeasurement(), entityGUIDs.size());
+
+        boolean supported = super.measure(classifyOperationName, operationCount, (operationNumber) ->
+            metadataCollection.classifyEntity(userId,
+                                              entityGUIDs.get(operationNumber),
+                                              classificationDef.getName(),
+                                              properties));
+
+        if (supported)
+        {
+            super.measure(declassifyOperationName, operationCount, (operationNumber) ->
+                metadataCollection.declassifyEntity(userId,
+                                                    entityGUIDs.get(operationNumber),
+                                                    classificationDef.getName()));
+        }
+
+        super.setSuccessMessage("Entities classified with " + classificationDef.getName() + ".");
+    }
+}
@@ -0,0 +1,116 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfile;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Measure the creation of entities.  The entities created by this test case form the population
+ * used by the other performance test cases so they are not removed when the test completes.
+ */
+public class TestEntityCreationPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-creation";
+    private static final String testCaseName = "Entity creation performance test case";
+
+    private static final String operationName = "addEntity";
+
+    private EntityDef entityDef;
+    private int       fromPosition;
+    private int       toPosition;
+    private String[]  createdEntityGUIDs;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDef type of entities to create
+     * @param fromPosition position in the population of the first entity to create
+     * @param toPosition position in the population after the last entity to create
+     * @param concurrency number of concurrent requests
+     */
+    public TestEntityCreationPerformance(PerformanceWorkPad workPad,
+                                         EntityDef          entityDef,
+                                         int                fromPosition,
+                                         int                toPosition,
+                                         int                concurrency)
+    {
+        super(workPad,
+              PerformanceProfile.ENTITY_CREATION,
+              testCaseId,
+              testCaseName,
+              entityDef.getName(),
+              toPosition,
+              concurrency);
+
+        this.entityDef = entityDef;
+        this.fromPosition = fromPosition;
+        this.toPosition = toPosition;
+        this.createdEntityGUIDs = new String[Math.max(0, toPosition - fromPosition)];
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        String                 userId             = workPad.getLocalServerUserId();
+
+        List<TypeDefAttribute>   typeDefAttributes = super.getPropertiesForTypeDef(userId, entityDef);
+        List<InstanceProperties> properties        = new ArrayList<>();
+
+        for (int position = fromPosition; position < toPosition; position++)
+        {
+            properties.add(super.generatePropertiesForInstance(userId, typeDefAttributes, getInstanceNumber(position)));
+        }
+
+        super.measure(operationName, createdEntityGUIDs.length, (operationNumber) ->
+        {
+            EntityDetail entity = metadataCollection.addEntity(userId,
+                                                               entityDef.getGUID(),
+                                                               properties.get(operationNumber),
+                                                               null,
+                                                               null);
+            createdEntityGUIDs[operationNumber] = entity.getGUID();
+        });
+
+        super.setSuccessMessage("Entities of type " + testTypeName + " created.");
+    }
+
+
+    /**
+     * Return the unique identifiers of the entities created by this test case in population order.
+     * Entities that could not be created are skipped.
+     *
+     * @return list of guids
+     */
+    public List<String> getCreatedEntityGUIDs()
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (String guid : createdEntityGUIDs)
+        {
+            if (guid != null)
+            {
+                guids.add(guid);
+            }
+        }
+
+        return guids;
+    }
+}
@@ -0,0 +1,117 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfile;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Measure the search for entities by the exact value of a named string property.  Each search
+ * matches one of the entities created by the entity creation test cases.
+ */
+public class TestEntityPropertySearchPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-property-search";
+    private static final String testCaseName = "Entity property search performance test case";
+
+    private static final String operationName = "findEntitiesByProperty";
+
+    private EntityDef entityDef;
+    private int       entityCount;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDef type of entities to search for
+     * @param entityCount number of entities of this type created by the workbench
+     * @param population number of instances of each type in the repository
+     * @param concurrency number of concurrent requests
+     */
+    public TestEntityPropertySearchPerformance(PerformanceWorkPad workPad,
+                                               EntityDef          entityDef,
+                                               int                entityCount,
+                                               int                population,
+                                               int                concurrency)
+    {
+        super(workPad,
+              PerformanceProfile.ENTITY_PROPERTY_SEARCH,
+              testCaseId,
+              testCaseName,
+              entityDef.getName(),
+              population,
+              concurrency);
+
+        this.entityDef = entityDef;
+        this.entityCount = entityCount;
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        String                 userId            = workPad.getLocalServerUserId();
+        List<TypeDefAttribute> typeDefAttributes = super.getPropertiesForTypeDef(userId, entityDef);
+        TypeDefAttribute       searchAttribute   = super.getSearchAttribute(typeDefAttributes);
+
+        if ((searchAttribute == null) || (entityCount <= 0))
+        {
+            return;
+        }
+
+        OMRSMetadataCollection   metadataCollection = super.getMetadataCollection();
+        OMRSRepositoryHelper     repositoryHelper   = cohortRepositoryConnector.getRepositoryHelper();
+        int                      operationCount     = performanceWorkPad.getOperationsPerMeasurement();
+        List<InstanceProperties> matchProperties    = new ArrayList<>();
+
+        for (int operationNumber = 0; operationNumber < operationCount; operationNumber++)
+        {
+            String searchValue = super.getSearchValue(userId,
+                                                      typeDefAttributes,
+                                                      searchAttribute.getAttributeName(),
+                                                      operationNumber % entityCount);
+
+            PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+            propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            propertyValue.setPrimitiveValue(repositoryHelper.getExactMatchRegex(searchValue));
+
+            InstanceProperties properties = new InstanceProperties();
+
+            properties.setProperty(searchAttribute.getAttributeName(), propertyValue);
+            matchProperties.add(properties);
+        }
+
+        super.measure(operationName, operationCount, (operationNumber) ->
+            metadataCollection.findEntitiesByProperty(userId,
+                                                      entityDef.getGUID(),
+                                                      matchProperties.get(operationNumber),
+                                                      MatchCriteria.ALL,
+                                                      0,
+                                                      null,
+                                                      null,
+                                                      null,
+                                                      null,
+                                                      null,
+                                                      super.getMaxSearchResults()));
+
+        super.setSuccessMessage("Entities of type " + testTypeName + " found by property.");
+    }
+}
@@ -0,0 +1,104 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfile;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Measure the search for entities by a value in any of their string properties.  Each search
+ * matches one of the entities created by the entity creation test cases.
+ */
+public class TestEntityValueSearchPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-value-search";
+    private static final String testCaseName = "Entity value search performance test case";
+
+    private static final String operationName = "findEntitiesByPropertyValue";
+
+    private EntityDef entityDef;
+    private int       entityCount;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDef type of entities to search for
+     * @param entityCount number of entities of this type created by the workbench
+     * @param population number of instances of each type in the repository
+     * @param concurrency number of concurrent requests
+     */
+    public TestEntityValueSearchPerformance(PerformanceWorkPad workPad,
+                                            EntityDef          entityDef,
+                                            int                entityCount,
+                                            int                population,
+                                            int                concurrency)
+    {
+        super(workPad,
+              PerformanceProfile.ENTITY_VALUE_SEARCH,
+              testCaseId,
+              testCaseName,
+              entityDef.getName(),
+              population,
+              concurrency);
+
+        this.entityDef = entityDef;
+        this.entityCount = entityCount;
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        String                 userId            = workPad.getLocalServerUserId();
+        List<TypeDefAttribute> typeDefAttributes = super.getPropertiesForTypeDef(userId, entityDef);
+        TypeDefAttribute       searchAttribute   = super.getSearchAttribute(typeDefAttributes);
+
+        if ((searchAttribute == null) || (entityCount <= 0))
+        {
+            return;
+        }
+
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        OMRSRepositoryHelper   repositoryHelper   = cohortRepositoryConnector.getRepositoryHelper();
+        int                    operationCount     = performanceWorkPad.getOperationsPerMeasurement();
+        List<String>           searchCriteria     = new ArrayList<>();
+
+        for (int operationNumber = 0; operationNumber < operationCount; operationNumber++)
+        {
+            String searchValue = super.getSearchValue(userId,
+                                                      typeDefAttributes,
+                                                      searchAttribute.getAttributeName(),
+                                                      operationNumber % entityCount);
+
+            searchCriteria.add(repositoryHelper.getExactMatchRegex(searchValue));
+        }
+
+        super.measure(operationName, operationCount, (operationNumber) ->
+            metadataCollection.findEntitiesByPropertyValue(userId,
+                                                           entityDef.getGUID(),
+                                                           searchCriteria.get(operationNumber),
+                                                           0,
+                                                           null,
+                                                           null,
+                                                           null,
+                                                           null,
+                                                           null,
+                                                           super.getMaxSearchResults()));
+
+        super.setSuccessMessage("Entities of type " + testTypeName + " found by property value.");
+    }
+}
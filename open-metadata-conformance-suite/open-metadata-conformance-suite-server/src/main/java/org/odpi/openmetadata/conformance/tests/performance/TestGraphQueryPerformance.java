@@ -0,0 +1,81 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfile;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+
+import java.util.List;
+
+
+/**
+ * Measure the retrieval of the immediate neighborhood of the entities created by the entity creation test cases.
+ */
+public class TestGraphQueryPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-graph-query";
+    private static final String testCaseName = "Graph query performance test case";
+
+    private static final String operationName = "getEntityNeighborhood";
+    private static final int    level         = 1;
+
+    private List<String> entityGUIDs;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDef type of the entities
+     * @param entityGUIDs entities to retrieve the neighborhood for
+     * @param population number of instances of each type in the repository
+     * @param concurrency number of concurrent requests
+     */
+    public TestGraphQueryPerformance(PerformanceWorkPad workPad,
+                                     EntityDef          entityDef,
+                                     List<String>       entityGUIDs,
+                                     int                population,
+                                     int                concurrency)
+    {
+        super(workPad,
+              PerformanceProfile.GRAPH_QUERIES,
+              testCaseId,
+              testCaseName,
+              entityDef.getName(),
+              population,
+              concurrency);
+
+        this.entityGUIDs = entityGUIDs;
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        if ((entityGUIDs == null) || (entityGUIDs.isEmpty()))
+        {
+            return;
+        }
+
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        String                 userId             = workPad.getLocalServerUserId();
+
+        super.measure(operationName, performanceWorkPad.getOperationsPerMeasurement(), (operationNumber) ->
+            metadataCollection.getEntityNeighborhood(userId,
+                                                     entityGUIDs.get(operationNumber % entityGUIDs.size()),
+                                                     null,
+                                                     null,
+                                                     null,
+                                                     null,
+                                                     null,
+                                                     level));
+
+        super.setSuccessMessage("Neighborhood retrieved for entities of type " + testTypeName + ".");
+    }
+}
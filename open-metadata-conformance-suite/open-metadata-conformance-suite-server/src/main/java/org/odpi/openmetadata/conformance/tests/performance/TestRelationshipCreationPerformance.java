@@ -0,0 +1,139 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfile;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Measure the creation of relationships between the entities created by the entity creation test cases.
+ * The relationships are left in the repository so that they are returned by the relationship retrieval
+ * and graph query test cases.
+ */
+public class TestRelationshipCreationPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-relationship-creation";
+    private static final String testCaseName = "Relationship creation performance test case";
+
+    private static final String operationName = "addRelationship";
+
+    private RelationshipDef relationshipDef;
+    private List<String>    end1EntityGUIDs;
+    private List<String>    end2EntityGUIDs;
+    private int             fromPosition;
+    private int             toPosition;
+    private String[]        createdRelationshipGUIDs;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param relationshipDef type of relationships to create
+     * @param end1EntityGUIDs entities that can be used at end 1 of the relationship
+     * @param end2EntityGUIDs entities that can be used at end 2 of the relationship
+     * @param fromPosition position in the population of the first relationship to create
+     * @param toPosition position in the population after the last relationship to create
+     * @param concurrency number of concurrent requests
+     */
+    public TestRelationshipCreationPerformance(PerformanceWorkPad workPad,
+                                               RelationshipDef    relationshipDef,
+                                               List<String>       end1EntityGUIDs,
+                                               List<String>       end2EntityGUIDs,
+                                               int                fromPosition,
+                                               int                toPosition,
+                                               int                concurrency)
+    {
+        super(workPad,
+              PerformanceProfile.RELATIONSHIP_CREATION,
+              testCaseId,
+              testCaseName,
+              relationshipDef.getName(),
+              toPosition,
+              concurrency);
+
+        this.relationshipDef = relationshipDef;
+        this.end1EntityGUIDs = end1EntityGUIDs;
+        this.end2EntityGUIDs = end2EntityGUIDs;
+        this.fromPosition = fromPosition;
+        this.toPosition = toPosition;
+        this.createdRelationshipGUIDs = new String[Math.max(0, toPosition - fromPosition)];
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        if ((end1EntityGUIDs == null) || (end1EntityGUIDs.isEmpty()) || (end2EntityGUIDs == null) || (end2EntityGUIDs.isEmpty()))
+        {
+            return;
+        }
+
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        String                 userId             = workPad.getLocalServerUserId();
+
+        List<TypeDefAttribute>   typeDefAttributes = super.getPropertiesForTypeDef(userId, relationshipDef);
+        List<InstanceProperties> properties        = new ArrayList<>();
+        List<String>             end1GUIDs         = new ArrayList<>();
+        List<String>             end2GUIDs         = new ArrayList<>();
+
+        /*
+         * When both ends come from the same entities, end 2 is offset so an entity is not related to itself.
+         */
+        int end2Offset = (end1EntityGUIDs == end2EntityGUIDs) ? 1 : 0;
+
+        for (int position = fromPosition; position < toPosition; position++)
+        {
+            properties.add(super.generatePropertiesForInstance(userId, typeDefAttributes, getInstanceNumber(position)));
+            end1GUIDs.add(end1EntityGUIDs.get(position % end1EntityGUIDs.size()));
+            end2GUIDs.add(end2EntityGUIDs.get((position + end2Offset) % end2EntityGUIDs.size()));
+        }
+
+        super.measure(operationName, createdRelationshipGUIDs.length, (operationNumber) ->
+        {
+            Relationship relationship = metadataCollection.addRelationship(userId,
+                                                                           relationshipDef.getGUID(),
+                                                                           properties.get(operationNumber),
+                                                                           end1GUIDs.get(operationNumber),
+                                                                           end2GUIDs.get(operationNumber),
+                                                                           null);
+            createdRelationshipGUIDs[operationNumber] = relationship.getGUID();
+        });
+
+        super.setSuccessMessage("Relationships of type " + testTypeName + " created.");
+    }
+
+
+    /**
+     * Return the unique identifiers of the relationships created by this test case.
+     *
+     * @return list of guids
+     */
+    public List<String> getCreatedRelationshipGUIDs()
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (String guid : createdRelationshipGUIDs)
+        {
+            if (guid != null)
+            {
+                guids.add(guid);
+            }
+        }
+
+        return guids;
+    }
+}
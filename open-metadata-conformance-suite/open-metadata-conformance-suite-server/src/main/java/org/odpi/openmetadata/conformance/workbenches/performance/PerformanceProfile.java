@@ -0,0 +1,172 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.conformance.beans.OpenMetadataConformanceProfilePriority;
+
+import java.io.Serializable;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * PerformanceProfile defines the list of operations measured by the performance workbench.  Each profile
+ * has a single requirement with the same identifier.  The measurements are reported as discovered properties
+ * of the test cases for the profile.  None of the profiles are mandatory because a repository does not have to
+ * support all of the operations that are measured.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum PerformanceProfile implements Serializable
+{
+    ENTITY_CREATION                (0,  "Entity creation",
+                                        "Throughput and latency of the requests to create entity instances.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-creation",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    RELATIONSHIP_CREATION          (1,  "Relationship creation",
+                                        "Throughput and latency of the requests to create relationship instances.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/relationship-creation",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    ENTITY_CLASSIFICATION          (2,  "Entity classification",
+                                        "Throughput and latency of the requests to classify and declassify entity instances.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-classification",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    ENTITY_PROPERTY_SEARCH         (3,  "Entity property search",
+                                        "Throughput and latency of the requests to find entities by the value of a named property.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-property-search",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    ENTITY_VALUE_SEARCH            (4,  "Entity value search",
+                                        "Throughput and latency of the requests to find entities by a value in any of their properties.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-value-search",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    RELATIONSHIP_RETRIEVAL         (5,  "Relationship retrieval",
+                                        "Throughput and latency of the requests to retrieve the relationships of an entity.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/relationship-retrieval",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    GRAPH_QUERIES                  (6,  "Graph queries",
+                                        "Throughput and latency of the requests to retrieve the neighborhood of an entity.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/graph-queries",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE);
+
+
+    private static final long serialVersionUID = 1L;
+
+    private int                                    profileId;
+    private String                                 profileName;
+    private String                                 profileDescription;
+    private String                                 profileDocumentationURL;
+    private OpenMetadataConformanceProfilePriority profilePriority;
+
+
+    /**
+     * Default constructor sets up the values for this enum instance.
+     *
+     * @param profileId int identifier for the enum, used for indexing arrays etc with the enum.
+     * @param profileName String name for the enum, used for message content.
+     * @param profileDescription String default description for the enum, used when there is not natural
+     *                             language resource bundle available.
+     * @param profileDocumentationURL link to more documentation
+     * @param profilePriority is the profile mandatory or not?
+     */
+    PerformanceProfile(int                                    profileId,
+                       String                                 profileName,
+                       String                                 profileDescription,
+                       String                                 profileDocumentationURL,
+                       OpenMetadataConformanceProfilePriority profilePriority)
+    {
+        this.profileId = profileId;
+        this.profileName = profileName;
+        this.profileDescription = profileDescription;
+        this.profileDocumentationURL = profileDocumentationURL;
+        this.profilePriority = profilePriority;
+    }
+
+
+    /**
+     * Return the identifier for the enum, used for indexing arrays etc with the enum.
+     *
+     * @return int identifier
+     */
+    public Integer getProfileId()
+    {
+        return profileId;
+    }
+
+
+    /**
+     * Return the identifier of the single requirement of this profile.
+     *
+     * @return int identifier
+     */
+    public Integer getRequirementId()
+    {
+        return profileId;
+    }
+
+
+    /**
+     * Return the name for the enum, used for message content.
+     *
+     * @return String name
+     */
+    public String getProfileName()
+    {
+        return profileName;
+    }
+
+
+    /**
+     * Return the default description for the enum, used when there is not natural
+     * language resource bundle available.
+     *
+     * @return String default description
+     */
+    public String getProfileDescription()
+    {
+        return profileDescription;
+    }
+
+
+    /**
+     * Return the URL to link to more documentation about this profile.
+     *
+     * @return url
+     */
+    public String getProfileDocumentationURL()
+    {
+        return profileDocumentationURL;
+    }
+
+
+    /**
+     * Return whether this profile is mandatory or optional.
+     *
+     * @return OpenMetadataConformanceProfilePriority enum
+     */
+    public OpenMetadataConformanceProfilePriority getProfilePriority()
+    {
+        return profilePriority;
+    }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "PerformanceProfile{" +
+                "profileId=" + profileId +
+                ", profileName='" + profileName + '\'' +
+                ", profileDescription='" + profileDescription + '\'' +
+                ", profileDocumentationURL='" + profileDocumentationURL + '\'' +
+                ", profilePriority=" + profilePriority +
+                '}';
+    }
+}
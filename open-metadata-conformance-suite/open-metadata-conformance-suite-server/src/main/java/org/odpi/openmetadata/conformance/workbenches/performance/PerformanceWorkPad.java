@@ -0,0 +1,229 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.RepositoryPerformanceWorkbenchConfig;
+import org.odpi.openmetadata.conformance.beans.*;
+import org.odpi.openmetadata.conformance.workbenches.repository.RepositoryConformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * PerformanceWorkPad provides the thread safe place to assemble results from the performance workbench.
+ * It extends the repository work pad because the performance workbench connects to the repository under test
+ * in the same way as the repository workbench.
+ */
+public class PerformanceWorkPad extends RepositoryConformanceWorkPad
+{
+    private static final String workbenchId            = "performance-workbench";
+    private static final String workbenchName          = "Open Metadata Repository Performance Workbench";
+    private static final String workbenchVersionNumber = "V1.0";
+    private static final String workbenchDocURL        = "https://egeria.odpi.org/open-metadata-conformance-suite/docs/" + workbenchId;
+    private static final String tutType                = "Open Metadata Repository";
+
+    private List<Integer> instancesPerType         = new ArrayList<>();
+    private List<Integer> concurrencyLevels        = new ArrayList<>();
+    private int           operationsPerMeasurement = 100;
+    private int           maxEntityTypes           = 10;
+
+
+    /**
+     * Constructor receives key information from the configuration services.
+     *
+     * @param localServerUserId userId that this server should use on requests
+     * @param localServerPassword password that this server should use on requests
+     * @param maxPageSize maximum number of elements that can be returned on a single call
+     * @param auditLog audit log for administrator messages
+     * @param configuration configuration for this work pad/workbench
+     */
+    public PerformanceWorkPad(String                                localServerUserId,
+                              String                                localServerPassword,
+                              int                                   maxPageSize,
+                              OMRSAuditLog                          auditLog,
+                              RepositoryPerformanceWorkbenchConfig  configuration)
+    {
+        super(workbenchId,
+              workbenchName,
+              workbenchVersionNumber,
+              workbenchDocURL,
+              tutType,
+              localServerUserId,
+              localServerPassword,
+              maxPageSize,
+              auditLog,
+              configuration);
+
+        if (configuration != null)
+        {
+            if (configuration.getInstancesPerType() != null)
+            {
+                this.instancesPerType = new ArrayList<>(configuration.getInstancesPerType());
+            }
+
+            if (configuration.getConcurrencyLevels() != null)
+            {
+                this.concurrencyLevels = new ArrayList<>(configuration.getConcurrencyLevels());
+            }
+
+            this.operationsPerMeasurement = configuration.getOperationsPerMeasurement();
+            this.maxEntityTypes = configuration.getMaxEntityTypes();
+        }
+
+        if (this.concurrencyLevels.isEmpty())
+        {
+            this.concurrencyLevels.add(1);
+        }
+    }
+
+
+    /**
+     * Return the population sizes to measure.  The population of each entity type is grown
+     * to each size in turn.
+     *
+     * @return list of instance counts
+     */
+    public List<Integer> getInstancesPerType()
+    {
+        return instancesPerType;
+    }
+
+
+    /**
+     * Return the numbers of concurrent requests to issue for each measurement.
+     *
+     * @return list of thread counts
+     */
+    public List<Integer> getConcurrencyLevels()
+    {
+        return concurrencyLevels;
+    }
+
+
+    /**
+     * Return the number of calls made to the repository for each measurement of a read operation.
+     *
+     * @return number of calls
+     */
+    public int getOperationsPerMeasurement()
+    {
+        return operationsPerMeasurement;
+    }
+
+
+    /**
+     * Return the maximum number of the repository's entity types to populate.  The same limit applies to
+     * the number of relationship and classification types that are measured.
+     *
+     * @return number of entity types
+     */
+    public int getMaxEntityTypes()
+    {
+        return maxEntityTypes;
+    }
+
+
+    /**
+     * Accumulate the evidences for each profile.  Each profile has a single requirement so the evidence
+     * for the profile is also the evidence for the requirement.
+     *
+     * @return the test evidence organized by profile and requirement withing profile
+     */
+    @Override
+    public synchronized List<OpenMetadataConformanceProfileResults> getProfileResults()
+    {
+        List<OpenMetadataConformanceProfileResults>  resultsList = new ArrayList<>();
+
+        for (PerformanceProfile profile : PerformanceProfile.values())
+        {
+            OpenMetadataConformanceProfileResults  profileResults = new OpenMetadataConformanceProfileResults();
+
+            profileResults.setId(profile.getProfileId());
+            profileResults.setName(profile.getProfileName());
+            profileResults.setDocumentationURL(profile.getProfileDocumentationURL());
+            profileResults.setDescription(profile.getProfileDescription());
+            profileResults.setProfilePriority(profile.getProfilePriority());
+
+            List<OpenMetadataConformanceTestEvidence> profileTestEvidence = new ArrayList<>();
+
+            if (testEvidenceList != null)
+            {
+                for (OpenMetadataConformanceTestEvidence testEvidenceItem : testEvidenceList)
+                {
+                    if ((testEvidenceItem != null) && (testEvidenceItem.getProfileId().intValue() == profileResults.getId().intValue()))
+                    {
+                        profileTestEvidence.add(testEvidenceItem);
+                    }
+                }
+            }
+
+            if (profileTestEvidence.isEmpty())
+            {
+                profileResults.setConformanceStatus(OpenMetadataConformanceStatus.UNKNOWN_STATUS);
+            }
+            else
+            {
+                List<OpenMetadataConformanceTestEvidence>       positiveTestEvidence = new ArrayList<>();
+                List<OpenMetadataConformanceTestEvidence>       negativeTestEvidence = new ArrayList<>();
+
+                profileResults.setConformanceStatus(super.processEvidence(profileTestEvidence,
+                                                                          positiveTestEvidence,
+                                                                          negativeTestEvidence));
+
+                OpenMetadataConformanceRequirementResults requirementResults = new OpenMetadataConformanceRequirementResults();
+
+                requirementResults.setId(profile.getRequirementId());
+                requirementResults.setName(profile.getProfileName());
+                requirementResults.setDescription(profile.getProfileDescription());
+                requirementResults.setDocumentationURL(profile.getProfileDocumentationURL());
+                requirementResults.setConformanceStatus(profileResults.getConformanceStatus());
+
+                if (! positiveTestEvidence.isEmpty())
+                {
+                    requirementResults.setPositiveTestEvidence(positiveTestEvidence);
+                }
+
+                if (! negativeTestEvidence.isEmpty())
+                {
+                    requirementResults.setNegativeTestEvidence(negativeTestEvidence);
+                }
+
+                List<OpenMetadataConformanceRequirementResults> requirementResultsList = new ArrayList<>();
+
+                requirementResultsList.add(requirementResults);
+                profileResults.setRequirementResults(requirementResultsList);
+            }
+
+            resultsList.add(profileResults);
+        }
+
+        return resultsList;
+    }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "PerformanceWorkPad{" +
+                "workbenchId='" + workbenchId + '\'' +
+                ", workbenchName='" + workbenchName + '\'' +
+                ", workbenchVersionNumber='" + workbenchVersionNumber + '\'' +
+                ", workbenchDocURL='" + workbenchDocURL + '\'' +
+                ", localServerUserId='" + localServerUserId + '\'' +
+                ", tutName='" + tutName + '\'' +
+                ", tutType='" + tutType + '\'' +
+                ", maxPageSize=" + maxPageSize +
+                ", instancesPerType=" + instancesPerType +
+                ", concurrencyLevels=" + concurrencyLevels +
+                ", operationsPerMeasurement=" + operationsPerMeasurement +
+                ", maxEntityTypes=" + maxEntityTypes +
+                '}';
+    }
+}
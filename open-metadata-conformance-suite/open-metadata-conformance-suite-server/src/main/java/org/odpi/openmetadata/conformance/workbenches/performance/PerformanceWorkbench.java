@@ -0,0 +1,539 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import org.odpi.openmetadata.conformance.auditlog.ConformanceSuiteAuditCode;
+import org.odpi.openmetadata.conformance.tests.performance.*;
+import org.odpi.openmetadata.conformance.workbenches.OpenMetadataConformanceWorkbench;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PerformanceWorkbench provides the thread that drives the performance workbench from the Open Metadata
+ * Conformance Suite.  It creates a population of instances from the types supported by the repository under
+ * test and measures the repository operations as the population grows to each of the configured sizes,
+ * using each of the configured numbers of concurrent requests.  The instances it creates are removed when
+ * the measurements are complete.  The same workbench configuration can be run against different repositories
+ * to compare them.
+ */
+public class PerformanceWorkbench extends OpenMetadataConformanceWorkbench
+{
+    private static final Logger     log         = LoggerFactory.getLogger(PerformanceWorkbench.class);
+
+    private PerformanceWorkPad   workPad;
+
+
+    /**
+     * Constructor receives the work pad with the configuration that provides the location to record the results.
+     *
+     * @param workPad performance workbench's work pad
+     */
+    public PerformanceWorkbench(PerformanceWorkPad workPad)
+    {
+        super(workPad.getWorkbenchId(),
+              workPad.getWorkbenchName(),
+              workPad.getWorkbenchVersionNumber(),
+              workPad.getWorkbenchDocURL());
+
+        final String              methodName = "performanceWorkbenchThread.constructor";
+
+        this.workPad = workPad;
+
+        OMRSAuditLog              auditLog   = workPad.getAuditLog();
+
+        ConformanceSuiteAuditCode auditCode = ConformanceSuiteAuditCode.WORKBENCH_INITIALIZING;
+        auditLog.logRecord(methodName,
+                           auditCode.getLogMessageId(),
+                           auditCode.getSeverity(),
+                           auditCode.getFormattedLogMessage(workbenchId, workbenchDocumentationURL),
+                           null,
+                           auditCode.getSystemAction(),
+                           auditCode.getUserAction());
+    }
+
+
+    /**
+     * Grow the population to each of the requested sizes and run the measurements at each size.  The creation
+     * of the instances needed to reach the next size is shared equally between the concurrency levels so that
+     * the create operations are measured at each level.
+     */
+    private void runTests()
+    {
+        OMRSRepositoryConnector repositoryConnector = workPad.getTutRepositoryConnector();
+        OMRSRepositoryHelper    repositoryHelper    = repositoryConnector.getRepositoryHelper();
+        String                  repositoryName      = repositoryConnector.getRepositoryName();
+
+        int                     maxTypes           = workPad.getMaxEntityTypes();
+
+        List<EntityDef>         entityDefs         = this.getTypeDefs(TypeDefCategory.ENTITY_DEF, maxTypes);
+        List<RelationshipDef>   relationshipDefs   = this.getTypeDefs(TypeDefCategory.RELATIONSHIP_DEF, 0);
+        List<ClassificationDef> classificationDefs = this.getTypeDefs(TypeDefCategory.CLASSIFICATION_DEF, 0);
+
+        Map<String, List<String>> entityGUIDsByType       = new HashMap<>();
+        Map<String, List<String>> relationshipGUIDsByType = new HashMap<>();
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            entityGUIDsByType.put(entityDef.getName(), new ArrayList<>());
+        }
+
+        List<Integer> populationSizes = new ArrayList<>(workPad.getInstancesPerType());
+        List<Integer> concurrencyLevels = workPad.getConcurrencyLevels();
+
+        populationSizes.sort(Comparator.naturalOrder());
+
+        int population = 0;
+
+        for (Integer populationSize : populationSizes)
+        {
+            if ((populationSize == null) || (populationSize <= population) || (! super.isRunning()))
+            {
+                continue;
+            }
+
+            int growth = populationSize - population;
+
+            for (int level = 0; level < concurrencyLevels.size(); level++)
+            {
+                int fromPosition = population + (growth * level / concurrencyLevels.size());
+                int toPosition   = population + (growth * (level + 1) / concurrencyLevels.size());
+
+                for (EntityDef entityDef : entityDefs)
+                {
+                    List<String> entityGUIDs = entityGUIDsByType.get(entityDef.getName());
+
+                    /*
+                     * Stop growing types that the repository could not create.
+                     */
+                    if ((fromPosition > 0) && (entityGUIDs.isEmpty()))
+                    {
+                        continue;
+                    }
+
+                    TestEntityCreationPerformance testCase = new TestEntityCreationPerformance(workPad,
+                                                                                               entityDef,
+                                                                                               fromPosition,
+                                                                                               toPosition,
+                                                                                               concurrencyLevels.get(level));
+                    testCase.executeTest();
+                    entityGUIDs.addAll(testCase.getCreatedEntityGUIDs());
+                }
+
+                int relationshipTypeCount = 0;
+
+                for (RelationshipDef relationshipDef : relationshipDefs)
+                {
+                    if (relationshipTypeCount >= maxTypes)
+                    {
+                        break;
+                    }
+
+                    List<String> end1EntityGUIDs = this.getEntityGUIDs(repositoryHelper,
+                                                                       repositoryName,
+                                                                       relationshipDef.getEndDef1(),
+                                                                       entityDefs,
+                                                                       entityGUIDsByType);
+                    List<String> end2EntityGUIDs = this.getEntityGUIDs(repositoryHelper,
+                                                                       repositoryName,
+                                                                       relationshipDef.getEndDef2(),
+                                                                       entityDefs,
+                                                                       entityGUIDsByType);
+
+                    if ((end1EntityGUIDs != null) && (end2EntityGUIDs != null))
+                    {
+                        relationshipTypeCount++;
+
+                        TestRelationshipCreationPerformance testCase = new TestRelationshipCreationPerformance(workPad,
+                                                                                                               relationshipDef,
+                                                                                                               end1EntityGUIDs,
+                                                                                                               end2EntityGUIDs,
+                                                                                                               fromPosition,
+                                                                                                               toPosition,
+                                                                                                               concurrencyLevels.get(level));
+                        testCase.executeTest();
+                        relationshipGUIDsByType.computeIfAbsent(relationshipDef.getName(), name -> new ArrayList<>())
+                                               .addAll(testCase.getCreatedRelationshipGUIDs());
+                    }
+                }
+            }
+
+            population = populationSize;
+
+            for (Integer concurrency : concurrencyLevels)
+            {
+                if (! super.isRunning())
+                {
+                    break;
+                }
+
+                for (EntityDef entityDef : entityDefs)
+                {
+                    List<String> entityGUIDs = entityGUIDsByType.get(entityDef.getName());
+
+                    if (! entityGUIDs.isEmpty())
+                    {
+                        new TestEntityPropertySearchPerformance(workPad, entityDef, entityGUIDs.size(), population, concurrency).executeTest();
+                        new TestEntityValueSearchPerformance(workPad, entityDef, entityGUIDs.size(), population, concurrency).executeTest();
+                        new TestRelationshipRetrievalPerformance(workPad, entityDef, entityGUIDs, population, concurrency).executeTest();
+                        new TestGraphQueryPerformance(workPad, entityDef, entityGUIDs, population, concurrency).executeTest();
+                    }
+                }
+
+                int classificationTypeCount = 0;
+
+                for (ClassificationDef classificationDef : classificationDefs)
+                {
+                    if (classificationTypeCount >= maxTypes)
+                    {
+                        break;
+                    }
+
+                    EntityDef entityDef = this.getClassifiableEntityDef(repositoryHelper,
+                                                                        repositoryName,
+                                                                        classificationDef,
+                                                                        entityDefs,
+                                                                        entityGUIDsByType);
+
+                    if (entityDef != null)
+                    {
+                        classificationTypeCount++;
+
+                        new TestEntityClassificationPerformance(workPad,
+                                                                entityDef,
+                                                                classificationDef,
+                                                                entityGUIDsByType.get(entityDef.getName()),
+                                                                population,
+                                                                concurrency).executeTest();
+                    }
+                }
+            }
+        }
+
+        this.removePopulation(entityDefs, relationshipDefs, entityGUIDsByType, relationshipGUIDsByType);
+    }
+
+
+    /**
+     * Return the type definitions of the requested category that are supported by the repository under test,
+     * sorted by name and optionally limited to a number of types.  Sorting by name means the same types
+     * are chosen from repositories that support the same types.
+     *
+     * @param category category of type definition
+     * @param maxTypes maximum number of types to return (0 for no limit)
+     * @param <T> subclass of TypeDef for the category
+     * @return list of type definitions (empty if the repository returns none or fails)
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends TypeDef> List<T> getTypeDefs(TypeDefCategory category, int maxTypes)
+    {
+        final String methodName = "performanceWorkbenchThread.getTypeDefs";
+
+        List<T> results = new ArrayList<>();
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = workPad.getTutRepositoryConnector().getMetadataCollection();
+            List<TypeDef>          typeDefs           = metadataCollection.findTypeDefsByCategory(workPad.getLocalServerUserId(), category);
+
+            if (typeDefs != null)
+            {
+                for (TypeDef typeDef : typeDefs)
+                {
+                    if (typeDef != null)
+                    {
+                        results.add((T) typeDef);
+                    }
+                }
+            }
+        }
+        catch (Throwable error)
+        {
+            log.error(String.format("Unable to retrieve type definitions: %s", error.getMessage()), error);
+
+            OMRSAuditLog              auditLog  = workPad.getAuditLog();
+            ConformanceSuiteAuditCode auditCode = ConformanceSuiteAuditCode.WORKBENCH_FAILURE;
+            auditLog.logRecord(methodName,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(workPad.getWorkbenchId(),
+                                                                error.getMessage()),
+                               error.toString(),
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+        }
+
+        results.sort(Comparator.comparing(TypeDef::getName));
+
+        if ((maxTypes > 0) && (results.size() > maxTypes))
+        {
+            return new ArrayList<>(results.subList(0, maxTypes));
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return the entities created for the first populated entity type that can be used at an end of a relationship.
+     *
+     * @param repositoryHelper helper for the repository under test
+     * @param repositoryName name of the repository under test
+     * @param endDef end of the relationship
+     * @param entityDefs populated entity types
+     * @param entityGUIDsByType entities created for each type
+     * @return list of entity guids or null if no populated type can be used
+     */
+    private List<String> getEntityGUIDs(OMRSRepositoryHelper      repositoryHelper,
+                                        String                    repositoryName,
+                                        RelationshipEndDef        endDef,
+                                        List<EntityDef>           entityDefs,
+                                        Map<String, List<String>> entityGUIDsByType)
+    {
+        if ((endDef == null) || (endDef.getEntityType() == null))
+        {
+            return null;
+        }
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            List<String> entityGUIDs = entityGUIDsByType.get(entityDef.getName());
+
+            if ((! entityGUIDs.isEmpty()) &&
+                (repositoryHelper.isTypeOf(repositoryName, entityDef.getName(), endDef.getEntityType().getName())))
+            {
+                return entityGUIDs;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the first populated entity type that the classification can be attached to.
+     *
+     * @param repositoryHelper helper for the repository under test
+     * @param repositoryName name of the repository under test
+     * @param classificationDef type of classification
+     * @param entityDefs populated entity types
+     * @param entityGUIDsByType entities created for each type
+     * @return entity type or null if the classification can not be attached to any populated type
+     */
+    private EntityDef getClassifiableEntityDef(OMRSRepositoryHelper      repositoryHelper,
+                                               String                    repositoryName,
+                                               ClassificationDef         classificationDef,
+                                               List<EntityDef>           entityDefs,
+                                               Map<String, List<String>> entityGUIDsByType)
+    {
+        List<TypeDefLink> validEntityDefs = classificationDef.getValidEntityDefs();
+
+        if (validEntityDefs == null)
+        {
+            return null;
+        }
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            if (! entityGUIDsByType.get(entityDef.getName()).isEmpty())
+            {
+                for (TypeDefLink validEntityDef : validEntityDefs)
+                {
+                    if ((validEntityDef != null) &&
+                        (repositoryHelper.isTypeOf(repositoryName, entityDef.getName(), validEntityDef.getName())))
+                    {
+                        return entityDef;
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Remove the instances created by the workbench.  The relationships are removed first.  Failures are ignored
+     * because the removal is a courtesy to the repository under test rather than part of the measurements.
+     *
+     * @param entityDefs populated entity types
+     * @param relationshipDefs populated relationship types
+     * @param entityGUIDsByType entities created for each type
+     * @param relationshipGUIDsByType relationships created for each type
+     */
+    private void removePopulation(List<EntityDef>           entityDefs,
+                                  List<RelationshipDef>     relationshipDefs,
+                                  Map<String, List<String>> entityGUIDsByType,
+                                  Map<String, List<String>> relationshipGUIDsByType)
+    {
+        String userId = workPad.getLocalServerUserId();
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = workPad.getTutRepositoryConnector().getMetadataCollection();
+
+            for (RelationshipDef relationshipDef : relationshipDefs)
+            {
+                List<String> relationshipGUIDs = relationshipGUIDsByType.get(relationshipDef.getName());
+
+                if (relationshipGUIDs != null)
+                {
+                    for (String relationshipGUID : relationshipGUIDs)
+                    {
+                        try
+                        {
+                            try
+                            {
+                                metadataCollection.deleteRelationship(userId, relationshipDef.getGUID(), relationshipDef.getName(), relationshipGUID);
+                            }
+                            catch (FunctionNotSupportedException exception)
+                            {
+                                // NO OP - can proceed to purge
+                            }
+
+                            metadataCollection.purgeRelationship(userId, relationshipDef.getGUID(), relationshipDef.getName(), relationshipGUID);
+                        }
+                        catch (Exception exception)
+                        {
+                            log.debug("Unable to remove relationship " + relationshipGUID, exception);
+                        }
+                    }
+                }
+            }
+
+            for (EntityDef entityDef : entityDefs)
+            {
+                for (String entityGUID : entityGUIDsByType.get(entityDef.getName()))
+                {
+                    try
+                    {
+                        try
+                        {
+                            metadataCollection.deleteEntity(userId, entityDef.getGUID(), entityDef.getName(), entityGUID);
+                        }
+                        catch (FunctionNotSupportedException exception)
+                        {
+                            // NO OP - can proceed to purge
+                        }
+
+                        metadataCollection.purgeEntity(userId, entityDef.getGUID(), entityDef.getName(), entityGUID);
+                    }
+                    catch (Exception exception)
+                    {
+                        log.debug("Unable to remove entity " + entityGUID, exception);
+                    }
+                }
+            }
+        }
+        catch (Exception exception)
+        {
+            log.debug("Unable to remove population", exception);
+        }
+    }
+
+
+    /**
+     * This is the method that provides the behaviour of the thread.
+     */
+    @Override
+    public void run()
+    {
+        final String              methodName = "performanceWorkbenchThread.run";
+
+        if (workPad !=  null)
+        {
+            long                      retryCount = 0;
+            OMRSAuditLog              auditLog   = workPad.getAuditLog();
+            ConformanceSuiteAuditCode auditCode;
+
+            auditCode = ConformanceSuiteAuditCode.WORKBENCH_INITIALIZED;
+            auditLog.logRecord(methodName,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(workPad.getWorkbenchId()),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+
+            while (super.isRunning() && (workPad.getTutRepositoryConnector() == null))
+            {
+                try
+                {
+                    /*
+                     * Wait for server to connect to the cohort
+                     */
+                    if (retryCount == 100)
+                    {
+                        retryCount = 0;
+                    }
+                    else
+                    {
+                        if (retryCount == 0)
+                        {
+                            auditCode = ConformanceSuiteAuditCode.WORKBENCH_WAITING_TO_START;
+                            auditLog.logRecord(methodName,
+                                               auditCode.getLogMessageId(),
+                                               auditCode.getSeverity(),
+                                               auditCode.getFormattedLogMessage(workPad.getWorkbenchId(),
+                                                                                workPad.getTutServerName()),
+                                               null,
+                                               auditCode.getSystemAction(),
+                                               auditCode.getUserAction());
+                        }
+
+                        retryCount++;
+                    }
+                    Thread.sleep(1000);
+                }
+                catch (InterruptedException  wakeUp)
+                {
+                    /*
+                     * Test again.
+                     */
+                }
+                catch (Throwable error)
+                {
+                    stopRunning();
+                    log.error(String.format("Unexpected error: %s", error.getMessage()), error);
+
+                    auditCode = ConformanceSuiteAuditCode.WORKBENCH_FAILURE;
+                    auditLog.logRecord(methodName,
+                                       auditCode.getLogMessageId(),
+                                       auditCode.getSeverity(),
+                                       auditCode.getFormattedLogMessage(workPad.getWorkbenchId(),
+                                                                        error.getMessage()),
+                                       error.toString(),
+                                       auditCode.getSystemAction(),
+                                       auditCode.getUserAction());
+                }
+            }
+
+            if (workPad.getTutRepositoryConnector() != null)
+            {
+                runTests();
+            }
+
+            workPad.setWorkbenchComplete();
+
+            auditCode = ConformanceSuiteAuditCode.WORKBENCH_SYNC_COMPLETED;
+            auditLog.logRecord(methodName,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(workPad.getWorkbenchId()),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+        }
+    }
+}
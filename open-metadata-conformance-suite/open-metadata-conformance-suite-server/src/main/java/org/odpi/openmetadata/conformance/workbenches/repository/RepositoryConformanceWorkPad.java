@@ -74,6 +74,45 @@ public class RepositoryConformanceWorkPad extends OpenMetadataConformanceWorkben
                                         int                                   maxPageSize,
                                         OMRSAuditLog                          auditLog,
                                         RepositoryConformanceWorkbenchConfig  configuration)
+    {
+        this(workbenchId,
+             workbenchName,
+             workbenchVersionNumber,
+             workbenchDocURL,
+             tutType,
+             localServerUserId,
+             localServerPassword,
+             maxPageSize,
+             auditLog,
+             configuration);
+    }
+
+
+    /**
+     * Constructor used by workbenches that test a repository through the same connector as the
+     * repository workbench but report under their own identity.
+     *
+     * @param workbenchId unique identifier of the workbench
+     * @param workbenchName name of the workbench
+     * @param workbenchVersionNumber version of the workbench
+     * @param workbenchDocURL link to the documentation for the workbench
+     * @param tutType type of the technology under test
+     * @param localServerUserId userId that this server should use on requests
+     * @param localServerPassword password that this server should use on requests
+     * @param maxPageSize maximum number of elements that can be returned on a single call
+     * @param auditLog audit log for administrator messages
+     * @param configuration configuration for this work pad/workbench
+     */
+    protected RepositoryConformanceWorkPad(String                                workbenchId,
+                                           String                                workbenchName,
+                                           String                                workbenchVersionNumber,
+                                           String                                workbenchDocURL,
+                                           String                                tutType,
+                                           String                                localServerUserId,
+                                           String                                localServerPassword,
+                                           int                                   maxPageSize,
+                                           OMRSAuditLog                          auditLog,
+                                           RepositoryConformanceWorkbenchConfig  configuration)
     {
         super(workbenchId,
               workbenchName,
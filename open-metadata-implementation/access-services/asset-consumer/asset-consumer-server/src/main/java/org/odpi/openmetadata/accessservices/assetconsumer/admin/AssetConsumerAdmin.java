@@ -21,9 +21,10 @@ import java.util.List;
  */
 public class AssetConsumerAdmin extends AccessServiceAdmin
 {
-    private AuditLog                      auditLog   = null;
-    private AssetConsumerServicesInstance instance   = null;
-    private String                        serverName = null;
+    private AuditLog                       auditLog          = null;
+    private AssetConsumerServicesInstance  instance          = null;
+    private String                         serverName        = null;
+    private AssetConsumerOMRSTopicListener omrsTopicListener = null;
 
     /**
      * Default constructor
@@ -73,8 +74,6 @@ public class AssetConsumerAdmin extends AccessServiceAdmin
              */
             if (accessServiceConfig.getAccessServiceOutTopic() != null)
             {
-                AssetConsumerOMRSTopicListener omrsTopicListener;
-
                 omrsTopicListener = new AssetConsumerOMRSTopicListener(accessServiceConfig.getAccessServiceOutTopic(),
                                                                        repositoryConnector.getRepositoryHelper(),
                                                                        repositoryConnector.getRepositoryValidator(),
@@ -117,6 +116,11 @@ public class AssetConsumerAdmin extends AccessServiceAdmin
     {
         final String            actionDescription = "shutdown";
 
+        if (omrsTopicListener != null)
+        {
+            omrsTopicListener.shutdown();
+        }
+
         if (instance != null)
         {
             this.instance.shutdown();
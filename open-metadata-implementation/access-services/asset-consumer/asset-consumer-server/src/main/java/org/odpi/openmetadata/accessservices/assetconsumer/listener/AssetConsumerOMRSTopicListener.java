@@ -69,6 +69,15 @@ public class AssetConsumerOMRSTopicListener extends OMRSTopicListenerBase
         publisher = new AssetConsumerPublisher(assetConsumerOutTopic, auditLog);
     }
 
+
+    /**
+     * Send any events that are waiting for the out topic and disconnect from it.
+     */
+    public void shutdown()
+    {
+        publisher.disconnect();
+    }
+
     /**
      * Unpack and deliver an instance event to the InstanceEventProcessor
      *
@@ -2,8 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.assetconsumer.outtopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.odpi.openmetadata.accessservices.assetconsumer.events.AssetConsumerEvent;
 import org.odpi.openmetadata.accessservices.assetconsumer.events.NewAssetEvent;
 import org.odpi.openmetadata.accessservices.assetconsumer.events.UpdatedAssetEvent;
 import org.odpi.openmetadata.accessservices.assetconsumer.ffdc.AssetConsumerErrorCode;
@@ -12,19 +10,22 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 
 /**
  * AssetConsumerPublisher is the connector responsible for publishing information about
- * new and changed assets.
+ * new and changed assets.  The events are sent to the out topic by a background thread.
  */
-public class AssetConsumerPublisher
+public class AssetConsumerPublisher extends OpenMetadataTopicPublisher
 {
     private static final Logger log = LoggerFactory.getLogger(AssetConsumerPublisher.class);
 
-    private OpenMetadataTopicConnector  connector = null;
+    private static final String PUBLISHER_NAME = "Asset Consumer OMAS Out Topic";
+
+    private OpenMetadataTopicConnector  connector;
 
 
     /**
@@ -38,10 +39,24 @@ public class AssetConsumerPublisher
     public AssetConsumerPublisher(Connection assetConsumerOutTopic,
                                   AuditLog   auditLog) throws OMAGConfigurationErrorException
     {
-        if (assetConsumerOutTopic != null)
-        {
-            connector = this.getTopicConnector(assetConsumerOutTopic, auditLog);
-        }
+        this(getTopicConnector(assetConsumerOutTopic, auditLog), auditLog);
+    }
+
+
+    /**
+     * Pass the topic connector to the publisher base class.
+     *
+     * @param connector connector for the out topic or null if there is no out topic
+     * @param auditLog log file for the connector.
+     */
+    private AssetConsumerPublisher(OpenMetadataTopicConnector connector,
+                                   AuditLog                   auditLog)
+    {
+        super(PUBLISHER_NAME, connector, auditLog);
+
+        this.connector = connector;
+
+        super.prepareEventClasses(NewAssetEvent.class, UpdatedAssetEvent.class);
     }
 
 
@@ -54,14 +69,11 @@ public class AssetConsumerPublisher
     {
         try
         {
-            if (connector != null)
-            {
-                connector.sendEvent(this.getJSONPayload(event));
-            }
+            super.publishEvent(event);
         }
         catch (Throwable  error)
         {
-            log.error("Unable to publish new asset event: " + event.toString() + "; error was " + error.toString());
+            log.error("Unable to publish new asset event: " + event + "; error was " + error.toString());
         }
     }
 
@@ -75,14 +87,33 @@ public class AssetConsumerPublisher
     {
         try
         {
-            if (connector != null)
-            {
-                connector.sendEvent(this.getJSONPayload(event));
-            }
+            super.publishEvent(event);
         }
         catch (Throwable  error)
         {
-            log.error("Unable to publish undated asset event: " + event.toString() + "; error was " + error.toString());
+            log.error("Unable to publish undated asset event: " + event + "; error was " + error.toString());
+        }
+    }
+
+
+    /**
+     * Send any queued events and then disconnect the topic connector.
+     */
+    @Override
+    public void disconnect()
+    {
+        super.disconnect();
+
+        if (connector != null)
+        {
+            try
+            {
+                connector.disconnect();
+            }
+            catch (Throwable  error)
+            {
+                log.error("Unable to disconnect out topic connector: " + error.toString());
+            }
         }
     }
 
@@ -92,12 +123,17 @@ public class AssetConsumerPublisher
      *
      * @param topicConnection connection to create the connector
      * @param auditLog audit log for the connector
-     * @return open metadata topic connector
+     * @return open metadata topic connector or null if there is no connection
      * @throws OMAGConfigurationErrorException problems creating the connector for the outTopic
      */
-    private OpenMetadataTopicConnector getTopicConnector(Connection  topicConnection,
-                                                         AuditLog    auditLog) throws OMAGConfigurationErrorException
+    private static OpenMetadataTopicConnector getTopicConnector(Connection  topicConnection,
+                                                                AuditLog    auditLog) throws OMAGConfigurationErrorException
     {
+        if (topicConnection == null)
+        {
+            return null;
+        }
+
         try
         {
             ConnectorBroker connectorBroker = new ConnectorBroker();
@@ -120,38 +156,9 @@ public class AssetConsumerPublisher
             throw new OMAGConfigurationErrorException(AssetConsumerErrorCode.BAD_OUT_TOPIC_CONNECTION.getMessageDefinition(topicConnection.toString(),
                                                                                                                            error.getClass().getName(),
                                                                                                                            error.getMessage()),
-                                                      this.getClass().getName(),
+                                                      AssetConsumerPublisher.class.getName(),
                                                       methodName,
                                                       error);
         }
     }
-
-
-    /**
-     * Return the event as a String where the field contents are encoded in JSON.   The event beans
-     * contain annotations that mean the whole event, down to the lowest subclass, is serialized.
-     *
-     * @param event event to serialize
-     * @return JSON payload (as String)
-     */
-    private String getJSONPayload(AssetConsumerEvent event)
-    {
-        ObjectMapper objectMapper = new ObjectMapper();
-        String       jsonString   = null;
-
-        /*
-         * This class
-         */
-        try
-        {
-            jsonString = objectMapper.writeValueAsString(event);
-        }
-        catch (Throwable  error)
-        {
-            log.error("Unable to create event payload: " + error.toString());
-        }
-
-        return jsonString;
-    }
-
 }
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.accessservices.assetlineage.server.AssetLineageServ
 import org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineageConstants;
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminErrorCode;
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -32,6 +33,7 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
     private OMRSAuditLog auditLog;
     private AssetLineageServicesInstance instance;
     private String serverName;
+    private AssetLineageOMRSTopicListener omrsTopicListener;
 
     /**
      * Default constructor
@@ -88,11 +90,13 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
             if (outTopicConnection != null) {
                 OpenMetadataTopicConnector outTopicConnector = super.getOutTopicEventBusConnector(outTopicConnection, accessServiceConfig.getAccessServiceName(), auditLog);
 
-                AssetLineageOMRSTopicListener omrsTopicListener = new AssetLineageOMRSTopicListener(
+                this.omrsTopicListener = new AssetLineageOMRSTopicListener(
                         repositoryConnector.getRepositoryHelper(), outTopicConnector, serverName,
                         serverUserName,
                         lineageClassificationTypes,
-                        auditLog);
+                        auditLog,
+                        getIntegerOption(accessServiceConfig, AssetLineageConstants.EVENT_COALESCING_WINDOW_KEY, 0),
+                        getIntegerOption(accessServiceConfig, AssetLineageConstants.EVENT_PROCESSING_THREADS_KEY, 1));
 
                 super.registerWithEnterpriseTopic(accessServiceConfig.getAccessServiceName(),
                         serverName,
@@ -135,6 +139,30 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
         return AssetLineageConstants.immutableDefaultLineageClassifications;
     }
 
+    private int getIntegerOption(AccessServiceConfig accessServiceConfig, String optionName, int defaultValue) throws OMAGConfigurationErrorException {
+        final String methodName = "getIntegerOption";
+
+        if (accessServiceConfig.getAccessServiceOptions() == null)
+            return defaultValue;
+
+        Object optionValue = accessServiceConfig.getAccessServiceOptions().get(optionName);
+        if (optionValue == null)
+            return defaultValue;
+
+        try {
+            return Integer.parseInt(optionValue.toString());
+        } catch (NumberFormatException error) {
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.BAD_CONFIG_PROPERTIES.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
+                    optionValue.toString(),
+                    optionName,
+                    error.getClass().getName(),
+                    error.getMessage()),
+                    this.getClass().getName(),
+                    methodName,
+                    error);
+        }
+    }
+
 
     /**
      * Shutdown the access service.
@@ -143,6 +171,9 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
         final String actionDescription = "shutdown";
         AssetLineageAuditCode auditCode;
 
+        if (omrsTopicListener != null)
+            this.omrsTopicListener.shutdown();
+
         if (instance != null)
             this.instance.shutdown();
 
@@ -37,8 +37,6 @@ public class AssetContextHandler {
     private final HandlerHelper handlerHelper;
     private final List<String> supportedZones;
 
-    private AssetContext graph;
-
     /**
      *
      * @param invalidParameterHandler handler for invalid parameters
@@ -68,7 +66,7 @@ public class AssetContextHandler {
     public AssetContext getAssetContext(String userId, String guid, String type) throws OCFCheckedExceptionBase {
         final String methodName = "getAssetContext";
 
-        graph = new AssetContext();
+        AssetContext graph = new AssetContext();
 
         invalidParameterHandler.validateGUID(guid, GUID_PARAMETER, methodName);
 
@@ -92,7 +90,7 @@ public class AssetContextHandler {
                 ASSET_LINEAGE_OMAS,
                 methodName);
 
-        buildAssetContext(userId, entityDetail.get());
+        buildAssetContext(graph, userId, entityDetail.get());
         return graph;
 
 
@@ -104,28 +102,28 @@ public class AssetContextHandler {
     }
 
 
-    private void buildAssetContext(String userId, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
+    private void buildAssetContext(AssetContext graph, String userId, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
         final String typeDefName = entityDetail.getType().getTypeDefName();
 
         if (typeDefName.equals(RELATIONAL_TABLE) || typeDefName.equals(DATA_FILE)) {
-            addContextForSchemaAttributeType(userId, entityDetail, typeDefName);
+            addContextForSchemaAttributeType(graph, userId, entityDetail, typeDefName);
         }
 
-        List<EntityDetail> tableTypeEntities = buildGraphByRelationshipType(userId, entityDetail, ATTRIBUTE_FOR_SCHEMA, typeDefName, false);
+        List<EntityDetail> tableTypeEntities = buildGraphByRelationshipType(graph, userId, entityDetail, ATTRIBUTE_FOR_SCHEMA, typeDefName, false);
 
         if (tableTypeEntities.isEmpty()) {
-            tableTypeEntities = buildGraphByRelationshipType(userId, entityDetail, NESTED_SCHEMA_ATTRIBUTE, typeDefName, false);
+            tableTypeEntities = buildGraphByRelationshipType(graph, userId, entityDetail, NESTED_SCHEMA_ATTRIBUTE, typeDefName, false);
         }
         for (EntityDetail schemaTypeEntity : tableTypeEntities) {
             if (isComplexSchemaType(userId, schemaTypeEntity.getType().getTypeDefName())) {
-                setAssetDetails(userId, schemaTypeEntity);
+                setAssetDetails(graph, userId, schemaTypeEntity);
             } else {
-                buildAssetContext(userId, tableTypeEntities.stream().findFirst().get());
+                buildAssetContext(graph, userId, tableTypeEntities.stream().findFirst().get());
             }
         }
     }
 
-    private List<EntityDetail> buildGraphByRelationshipType(String userId, EntityDetail startEntity,
+    private List<EntityDetail> buildGraphByRelationshipType(AssetContext graph, String userId, EntityDetail startEntity,
                                                             String relationshipType, String typeDefName, boolean changeDirection) throws OCFCheckedExceptionBase {
         List<Relationship> relationships = handlerHelper.getRelationshipsByType(userId, startEntity.getGUID(), relationshipType, typeDefName);
 
@@ -145,86 +143,86 @@ public class AssetContextHandler {
         return entityDetails;
     }
 
-    private void setAssetDetails(String userId, EntityDetail startEntity) throws OCFCheckedExceptionBase {
-        List<EntityDetail> assetEntity = buildGraphByRelationshipType(userId, startEntity, ASSET_SCHEMA_TYPE, startEntity.getType().getTypeDefName(), false);
+    private void setAssetDetails(AssetContext graph, String userId, EntityDetail startEntity) throws OCFCheckedExceptionBase {
+        List<EntityDetail> assetEntity = buildGraphByRelationshipType(graph, userId, startEntity, ASSET_SCHEMA_TYPE, startEntity.getType().getTypeDefName(), false);
         Optional<EntityDetail> first = assetEntity.stream().findFirst();
         if (first.isPresent()) {
-            buildAsset(userId, first.get());
+            buildAsset(graph, userId, first.get());
 
         }
     }
 
-    private void buildAsset(String userId, EntityDetail dataSet) throws OCFCheckedExceptionBase {
+    private void buildAsset(AssetContext graph, String userId, EntityDetail dataSet) throws OCFCheckedExceptionBase {
         final String typeDefName = dataSet.getType().getTypeDefName();
         List<EntityDetail> entityDetails;
         if (typeDefName.equals(DATA_FILE)) {
-            entityDetails = buildGraphByRelationshipType(userId, dataSet, NESTED_FILE, typeDefName, false);
+            entityDetails = buildGraphByRelationshipType(graph, userId, dataSet, NESTED_FILE, typeDefName, false);
         } else {
-            entityDetails = buildGraphByRelationshipType(userId, dataSet, DATA_CONTENT_FOR_DATA_SET, typeDefName, false);
+            entityDetails = buildGraphByRelationshipType(graph, userId, dataSet, DATA_CONTENT_FOR_DATA_SET, typeDefName, false);
         }
 
         if (CollectionUtils.isEmpty(entityDetails)) {
             return;
         }
-        addContextForEndpoints(userId, entityDetails.toArray(new EntityDetail[0]));
+        addContextForEndpoints(graph, userId, entityDetails.toArray(new EntityDetail[0]));
     }
 
 
-    private void addContextForEndpoints(String userId, EntityDetail... entityDetails) throws OCFCheckedExceptionBase {
+    private void addContextForEndpoints(AssetContext graph, String userId, EntityDetail... entityDetails) throws OCFCheckedExceptionBase {
         for (EntityDetail entityDetail : entityDetails) {
             if (entityDetail != null) {
                 if (entityDetail.getType().getTypeDefName().equals(DATABASE)) {
-                    addContextForConnections(userId, entityDetail);
+                    addContextForConnections(graph, userId, entityDetail);
                 } else {
-                    addContextFolderHierarchy(userId, entityDetail);
+                    addContextFolderHierarchy(graph, userId, entityDetail);
                 }
             }
         }
     }
 
-    private void addContextForConnections(String userId, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
+    private void addContextForConnections(AssetContext graph, String userId, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
 
-        List<EntityDetail> connections = buildGraphByRelationshipType(userId, entityDetail, CONNECTION_TO_ASSET, DATABASE, false);
+        List<EntityDetail> connections = buildGraphByRelationshipType(graph, userId, entityDetail, CONNECTION_TO_ASSET, DATABASE, false);
 
         if (!connections.isEmpty()) {
             for (EntityDetail entity : connections) {
-                buildGraphByRelationshipType(userId, entity, CONNECTION_ENDPOINT, CONNECTION, false);
+                buildGraphByRelationshipType(graph, userId, entity, CONNECTION_ENDPOINT, CONNECTION, false);
             }
         }
     }
 
-    private void addContextFolderHierarchy(String userId, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
+    private void addContextFolderHierarchy(AssetContext graph, String userId, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
 
-        List<EntityDetail> connections = buildGraphByRelationshipType(userId, entityDetail,
+        List<EntityDetail> connections = buildGraphByRelationshipType(graph, userId, entityDetail,
                 CONNECTION_TO_ASSET, entityDetail.getType().getTypeDefName(), false);
 
         Optional<EntityDetail> connection = connections.stream().findFirst();
         if (connection.isPresent()) {
-            buildGraphByRelationshipType(userId, entityDetail, CONNECTION_ENDPOINT, CONNECTION, false);
+            buildGraphByRelationshipType(graph, userId, entityDetail, CONNECTION_ENDPOINT, CONNECTION, false);
         }
 
-        Optional<EntityDetail> nestedFolder = buildGraphByRelationshipType(userId, entityDetail, FOLDER_HIERARCHY, FILE_FOLDER, false)
+        Optional<EntityDetail> nestedFolder = buildGraphByRelationshipType(graph, userId, entityDetail, FOLDER_HIERARCHY, FILE_FOLDER, false)
                 .stream()
                 .findFirst();
 
         if (nestedFolder.isPresent()) {
-            addContextFolderHierarchy(userId, nestedFolder.get());
+            addContextFolderHierarchy(graph, userId, nestedFolder.get());
         }
     }
 
-    private void addContextForSchemaAttributeType(String userId, EntityDetail entityDetail, String typeDefName) throws OCFCheckedExceptionBase {
-        List<EntityDetail> schemaAttributeTypes = buildGraphByRelationshipType(userId, entityDetail, ASSET_SCHEMA_TYPE, typeDefName, true);
+    private void addContextForSchemaAttributeType(AssetContext graph, String userId, EntityDetail entityDetail, String typeDefName) throws OCFCheckedExceptionBase {
+        List<EntityDetail> schemaAttributeTypes = buildGraphByRelationshipType(graph, userId, entityDetail, ASSET_SCHEMA_TYPE, typeDefName, true);
 
         if (schemaAttributeTypes.isEmpty()) {
-            addColumns(userId, NESTED_SCHEMA_ATTRIBUTE, typeDefName, entityDetail);
+            addColumns(graph, userId, NESTED_SCHEMA_ATTRIBUTE, typeDefName, entityDetail);
         }
 
-        addColumns(userId, ATTRIBUTE_FOR_SCHEMA, typeDefName, schemaAttributeTypes.toArray(new EntityDetail[0]));
+        addColumns(graph, userId, ATTRIBUTE_FOR_SCHEMA, typeDefName, schemaAttributeTypes.toArray(new EntityDetail[0]));
     }
 
-    private void addColumns(String userId, String relationshipType, String typeDefName, EntityDetail... entities) throws OCFCheckedExceptionBase {
+    private void addColumns(AssetContext graph, String userId, String relationshipType, String typeDefName, EntityDetail... entities) throws OCFCheckedExceptionBase {
         for (EntityDetail entityDetail : entities) {
-            buildGraphByRelationshipType(userId, entityDetail, relationshipType, typeDefName, true);
+            buildGraphByRelationshipType(graph, userId, entityDetail, relationshipType, typeDefName, true);
         }
     }
 
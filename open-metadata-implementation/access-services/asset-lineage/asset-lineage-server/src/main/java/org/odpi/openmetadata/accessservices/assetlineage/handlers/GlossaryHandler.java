@@ -29,7 +29,6 @@ public class GlossaryHandler {
 
     private RepositoryHandler repositoryHandler;
     private InvalidParameterHandler invalidParameterHandler;
-    private AssetContext graph = new AssetContext();
     private HandlerHelper handlerHelper;
 
     /**
@@ -65,28 +64,27 @@ public class GlossaryHandler {
 
         invalidParameterHandler.validateGUID(assetGuid, GUID_PARAMETER, methodName);
 
-        graph = assetContext;
-
         Set<LineageEntity> vertices = assetContext.getVertices();
         vertices = vertices.stream().filter(vertex -> superTypesRetriever.getSuperTypes(vertex.getTypeDefName()).contains(SCHEMA_ELEMENT) &&
                 !superTypesRetriever.getSuperTypes(vertex.getTypeDefName()).contains(COMPLEX_SCHEMA_TYPE)).collect(Collectors.toSet());
 
         for (LineageEntity vertex : vertices)
-            getGlossary(userId, vertex.getGuid(), vertex.getTypeDefName());
+            getGlossary(assetContext, userId, vertex.getGuid(), vertex.getTypeDefName());
 
-        return graph.getNeighbors();
+        return assetContext.getNeighbors();
 
     }
 
     /**
      * Retrieves semantic assignments for an asset
      *
+     * @param graph       context that the glossary terms are added to
      * @param userId      userId
      * @param assetGuid   guid of the asset that has been created.
      * @param typeDefName the typeName of the asset.
      * @return Glossary Term retrieved from the property server
      */
-    private void getGlossary(String userId, String assetGuid, String typeDefName) throws OCFCheckedExceptionBase {
+    private void getGlossary(AssetContext graph, String userId, String assetGuid, String typeDefName) throws OCFCheckedExceptionBase {
         final String methodName = "getGlossary";
 
         String typeGuid = handlerHelper.getTypeName(userId, SEMANTIC_ASSIGNMENT);
@@ -100,17 +98,18 @@ public class GlossaryHandler {
         if (semanticAssignments == null)
             return;
 
-        addSemanticAssignmentToContext(userId, semanticAssignments.toArray(new Relationship[0]));
+        addSemanticAssignmentToContext(graph, userId, semanticAssignments.toArray(new Relationship[0]));
     }
 
     /**
      * Add semantic assignments for an asset to the Context structure
      *
+     * @param graph               context that the glossary terms are added to
      * @param userId              userId
      * @param semanticAssignments array of the semantic assignments
      * @return true if semantic relationships exist, false otherwise
      */
-    private void addSemanticAssignmentToContext(String userId, Relationship... semanticAssignments) throws OCFCheckedExceptionBase {
+    private void addSemanticAssignmentToContext(AssetContext graph, String userId, Relationship... semanticAssignments) throws OCFCheckedExceptionBase {
         final String methodName = "addSemanticAssignmentToContext";
 
         List<EntityDetail> entityDetails = new ArrayList<>();
@@ -32,8 +32,6 @@ public class ProcessContextHandler {
     private final List<String> supportedZones;
     private final HandlerHelper handlerHelper;
 
-    private AssetContext graph;
-
     /**
      * Construct the discovery engine configuration handler caching the objects
      * needed to operate within a single server instance.
@@ -64,7 +62,7 @@ public class ProcessContextHandler {
 
         final String methodName = "getProcessContext";
 
-        graph = new AssetContext();
+        AssetContext graph = new AssetContext();
 
         Optional<EntityDetail> entityDetail = handlerHelper.getEntityDetails(userId, processGuid, PROCESS);
         if (!entityDetail.isPresent()) {
@@ -85,12 +83,12 @@ public class ProcessContextHandler {
                 ASSET_LINEAGE_OMAS,
                 methodName);
 
-        return checkIfAllRelationshipsExist(userId, entityDetail.get());
+        return checkIfAllRelationshipsExist(graph, userId, entityDetail.get());
     }
 
-    private Map<String, Set<GraphContext>> checkIfAllRelationshipsExist(String userId, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
+    private Map<String, Set<GraphContext>> checkIfAllRelationshipsExist(AssetContext graph, String userId, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
 
-        boolean entitiesTillLastRelationshipExist = hasEntitiesLinkedWithProcessPort(userId, entityDetail);
+        boolean entitiesTillLastRelationshipExist = hasEntitiesLinkedWithProcessPort(graph, userId, entityDetail);
         if (entitiesTillLastRelationshipExist) {
             return graph.getNeighbors();
         }
@@ -105,10 +103,10 @@ public class ProcessContextHandler {
                 RELATIONSHIP_NOT_FOUND.getUserAction());
     }
 
-    private boolean hasEntitiesLinkedWithProcessPort(String userId, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
+    private boolean hasEntitiesLinkedWithProcessPort(AssetContext graph, String userId, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
 
         final String typeDefName = entityDetail.getType().getTypeDefName();
-        List<EntityDetail> entityDetails = getRelationshipsBetweenEntities(userId, entityDetail.getGUID(), PROCESS_PORT, typeDefName);
+        List<EntityDetail> entityDetails = getRelationshipsBetweenEntities(graph, userId, entityDetail.getGUID(), PROCESS_PORT, typeDefName);
 
         if (entityDetails.isEmpty()) {
             log.error("No relationships Process Port has been found for the entity with guid {}", entityDetail.getGUID());
@@ -121,7 +119,7 @@ public class ProcessContextHandler {
                     RELATIONSHIP_NOT_FOUND.getUserAction());
         }
 
-        return hasRelationshipBasedOnType(entityDetails, userId);
+        return hasRelationshipBasedOnType(graph, entityDetails, userId);
 
     }
 
@@ -129,13 +127,14 @@ public class ProcessContextHandler {
     /**
      * Retrieves the relationships of an Entity
      *
+     * @param graph            context being built for the process
      * @param userId           String - userId of user making request.
      * @param guid             guid of parent entity
      * @param relationshipType type of the relationship
      * @param typeDefName      type of the entity that has the Relationship
      * @return List of entities that are on the other end of the relationship, empty list if none
      */
-    private List<EntityDetail> getRelationshipsBetweenEntities(String userId, String guid, String relationshipType, String typeDefName) throws OCFCheckedExceptionBase {
+    private List<EntityDetail> getRelationshipsBetweenEntities(AssetContext graph, String userId, String guid, String relationshipType, String typeDefName) throws OCFCheckedExceptionBase {
         List<Relationship> relationships = handlerHelper.getRelationshipsByType(userId, guid, relationshipType, typeDefName);
         EntityDetail startEntity = repositoryHandler.getEntityByGUID(userId, guid, "guid", typeDefName, "getRelationships");
 
@@ -164,17 +163,18 @@ public class ProcessContextHandler {
      * a Port Alias or to a Port Implementation. In case of Port Alias it should take the context until Port Implementation
      * entities otherwise it should take the context down to TabularColumn entities.
      *
+     * @param graph         context being built for the process
      * @param entityDetails list of entities
      * @param userId        String - userId of user making request.
      * @return boolean true if relationships exist otherwise false.
      */
-    private boolean hasRelationshipBasedOnType(List<EntityDetail> entityDetails, String userId) throws OCFCheckedExceptionBase {
+    private boolean hasRelationshipBasedOnType(AssetContext graph, List<EntityDetail> entityDetails, String userId) throws OCFCheckedExceptionBase {
         boolean relationshipsExist = false;
         if (checkIfEntityExistWithSpecificType(entityDetails, PORT_ALIAS))
-            relationshipsExist = hasEndRelationship(entityDetails, userId);
+            relationshipsExist = hasEndRelationship(graph, entityDetails, userId);
 
         if (checkIfEntityExistWithSpecificType(entityDetails, PORT_IMPLEMENTATION))
-            relationshipsExist = hasTabularSchemaTypes(entityDetails, userId);
+            relationshipsExist = hasTabularSchemaTypes(graph, entityDetails, userId);
 
         return relationshipsExist;
     }
@@ -182,14 +182,15 @@ public class ProcessContextHandler {
     /**
      * Returns if the entities that are passed as an argument in the method have any relationships.
      *
+     * @param graph         context being built for the process
      * @param entityDetails list of entities
      * @param userId        String - userId of user making request.
      * @return boolean true if relationships exist otherwise false.
      */
-    private boolean hasEndRelationship(List<EntityDetail> entityDetails, String userId) throws OCFCheckedExceptionBase {
+    private boolean hasEndRelationship(AssetContext graph, List<EntityDetail> entityDetails, String userId) throws OCFCheckedExceptionBase {
         List<EntityDetail> result = new ArrayList<>();
         for (EntityDetail entityDetail : entityDetails) {
-            result.addAll(getRelationshipsBetweenEntities(userId,
+            result.addAll(getRelationshipsBetweenEntities(graph, userId,
                     entityDetail.getGUID(),
                     immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName()),
                     entityDetail.getType().getTypeDefName()));
@@ -200,42 +201,44 @@ public class ProcessContextHandler {
     /**
      * Returns if there are any TabularSchemaTypes that are related to a Port Implementation Entity.
      *
+     * @param graph         context being built for the process
      * @param entityDetails list of entities
      * @param userId        String - userId of user making request.
      * @return boolean true if relationships exist otherwise false.
      */
-    private boolean hasTabularSchemaTypes(List<EntityDetail> entityDetails, String userId) throws OCFCheckedExceptionBase {
+    private boolean hasTabularSchemaTypes(AssetContext graph, List<EntityDetail> entityDetails, String userId) throws OCFCheckedExceptionBase {
         List<EntityDetail> result = new ArrayList<>();
         for (EntityDetail entityDetail : entityDetails) {
 
-            List<EntityDetail> tabularSchemaType = getRelationshipsBetweenEntities(userId,
+            List<EntityDetail> tabularSchemaType = getRelationshipsBetweenEntities(graph, userId,
                     entityDetail.getGUID(),
                     immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName()),
                     entityDetail.getType().getTypeDefName());
             Optional<EntityDetail> first = tabularSchemaType.stream().findFirst();
             result.add(first.orElse(null));
         }
-        return hasSchemaAttributes(result, userId);
+        return hasSchemaAttributes(graph, result, userId);
     }
 
     /**
      * Returns if the TabularColumns are part of a TabularSchemaType.
      *
+     * @param graph         context being built for the process
      * @param entityDetails list of entities
      * @param userId        String - userId of user making request.
      * @return boolean true if relationships exist otherwise false.
      */
-    private boolean hasSchemaAttributes(List<EntityDetail> entityDetails, String userId) throws OCFCheckedExceptionBase {
+    private boolean hasSchemaAttributes(AssetContext graph, List<EntityDetail> entityDetails, String userId) throws OCFCheckedExceptionBase {
         List<EntityDetail> result = new ArrayList<>();
         for (EntityDetail entityDetail : entityDetails) {
 
-            List<EntityDetail> newListOfEntityDetails = getRelationshipsBetweenEntities(userId,
+            List<EntityDetail> newListOfEntityDetails = getRelationshipsBetweenEntities(graph, userId,
                     entityDetail.getGUID(),
                     immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName()),
                     entityDetail.getType().getTypeDefName());
             result.addAll(newListOfEntityDetails);
         }
-        return hasEndRelationship(result, userId);
+        return hasEndRelationship(graph, result, userId);
     }
 
     /**
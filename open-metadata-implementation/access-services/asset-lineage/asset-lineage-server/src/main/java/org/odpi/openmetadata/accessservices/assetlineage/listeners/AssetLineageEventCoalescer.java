@@ -0,0 +1,229 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.listeners;
+
+import org.odpi.openmetadata.accessservices.assetlineage.event.AssetLineageEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * AssetLineageEventCoalescer moves the processing of instance events off the cohort topic thread.
+ * Events are collected by instance GUID until no new event has arrived for that instance for the quiet window
+ * (or until ten quiet windows have passed since the first event) and are then processed by a pool of workers.
+ * All of the events for an instance are processed by the same single threaded worker so they are processed
+ * in the order that they were received.
+ * <p>
+ * While an event is waiting it is replaced by a later event for the same instance that would publish the same type
+ * of lineage event. The context of an asset or process is rebuilt from the repositories when the event is processed
+ * so a burst of updates to an instance results in a single context event.
+ * <p>
+ * At shutdown the workers finish the events they are processing and the events that are still waiting are
+ * processed on the caller's thread, so no event that has been accepted is lost.
+ */
+class AssetLineageEventCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetLineageEventCoalescer.class);
+    private static final int MAXIMUM_DELAY_IN_WINDOWS = 10;
+    private static final long SHUTDOWN_TIMEOUT_IN_SECONDS = 30;
+
+    private final long quietWindow;
+    private final long maximumDelay;
+    private final Consumer<OMRSInstanceEvent> eventProcessor;
+    private final List<ScheduledThreadPoolExecutor> workers = new ArrayList<>();
+    private final Map<String, PendingEvents> pendingEventsByGUID = new LinkedHashMap<>();
+    private boolean shutdown = false;
+
+    /**
+     * Create the workers.
+     *
+     * @param serverName     name of this server instance (used in the thread names)
+     * @param quietWindow    number of milliseconds without a new event for an instance before its events are processed
+     * @param workerCount    number of worker threads
+     * @param eventProcessor processes a single instance event
+     */
+    AssetLineageEventCoalescer(String serverName, long quietWindow, int workerCount, Consumer<OMRSInstanceEvent> eventProcessor) {
+        this.quietWindow = Math.max(quietWindow, 0);
+        this.maximumDelay = this.quietWindow * MAXIMUM_DELAY_IN_WINDOWS;
+        this.eventProcessor = eventProcessor;
+
+        for (int workerNumber = 1; workerNumber <= Math.max(workerCount, 1); workerNumber++) {
+            ScheduledThreadPoolExecutor worker = new ScheduledThreadPoolExecutor(1,
+                    new WorkerThreadFactory(serverName + " Asset Lineage OMAS event worker " + workerNumber));
+
+            worker.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Queue an event for processing.
+     *
+     * @param instanceGUID   unique identifier of the entity or relationship in the event
+     * @param lineageEventType type of lineage event that the event will publish if it can be replaced by a later
+     *                       event for the same instance, otherwise null
+     * @param instanceEvent  event to process
+     */
+    void submit(String instanceGUID, AssetLineageEventType lineageEventType, OMRSInstanceEvent instanceEvent) {
+        synchronized (pendingEventsByGUID) {
+            if (shutdown) {
+                log.debug("Asset Lineage OMAS is shutting down and has ignored an event for instance {}", instanceGUID);
+                return;
+            }
+
+            PendingEvents pendingEvents = pendingEventsByGUID.get(instanceGUID);
+
+            if (pendingEvents != null) {
+                pendingEvents.add(lineageEventType, instanceEvent);
+                return;
+            }
+
+            pendingEvents = new PendingEvents();
+            pendingEvents.add(lineageEventType, instanceEvent);
+            pendingEventsByGUID.put(instanceGUID, pendingEvents);
+            schedule(instanceGUID, pendingEvents, quietWindow);
+        }
+    }
+
+    /**
+     * Stop the workers.  The events that the workers are processing are allowed to finish and then the events that
+     * are still waiting are processed on the caller's thread.  Events submitted after shutdown are ignored.
+     */
+    void shutdown() {
+        List<PendingEvents> waitingEvents;
+
+        synchronized (pendingEventsByGUID) {
+            shutdown = true;
+            waitingEvents = new ArrayList<>(pendingEventsByGUID.values());
+            pendingEventsByGUID.clear();
+        }
+
+        for (ScheduledThreadPoolExecutor worker : workers) {
+            worker.shutdown();
+        }
+
+        try {
+            for (ScheduledThreadPoolExecutor worker : workers) {
+                if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                    log.warn("Asset Lineage OMAS event worker did not finish processing its events within {} seconds",
+                            SHUTDOWN_TIMEOUT_IN_SECONDS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int flushedEventCount = 0;
+        for (PendingEvents pendingEvents : waitingEvents) {
+            for (OMRSInstanceEvent event : pendingEvents.getEvents()) {
+                eventProcessor.accept(event);
+                flushedEventCount++;
+            }
+        }
+
+        if (flushedEventCount > 0) {
+            log.debug("Asset Lineage OMAS processed {} waiting instance events at shutdown", flushedEventCount);
+        }
+    }
+
+    private void schedule(String instanceGUID, PendingEvents pendingEvents, long delay) {
+        ScheduledThreadPoolExecutor worker = workers.get(Math.floorMod(instanceGUID.hashCode(), workers.size()));
+
+        try {
+            worker.schedule(() -> process(instanceGUID, pendingEvents), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Asset Lineage OMAS is shutting down and has discarded the events for instance {}", instanceGUID);
+            pendingEventsByGUID.remove(instanceGUID);
+        }
+    }
+
+    private void process(String instanceGUID, PendingEvents pendingEvents) {
+        List<OMRSInstanceEvent> events;
+
+        synchronized (pendingEventsByGUID) {
+            if (pendingEventsByGUID.get(instanceGUID) != pendingEvents) {
+                return;
+            }
+
+            long remainingDelay = pendingEvents.getDueTime() - System.currentTimeMillis();
+            if (remainingDelay > 0) {
+                schedule(instanceGUID, pendingEvents, remainingDelay);
+                return;
+            }
+
+            /*
+             * Any new event for the instance starts a new set of pending events.  It is scheduled on this
+             * worker after the current task so the events are still processed in order.
+             */
+            pendingEventsByGUID.remove(instanceGUID);
+            events = pendingEvents.getEvents();
+        }
+
+        log.debug("Asset Lineage OMAS is processing {} events for instance {}", events.size(), instanceGUID);
+        for (OMRSInstanceEvent event : events) {
+            eventProcessor.accept(event);
+        }
+    }
+
+    /**
+     * The events waiting to be processed for a single instance.
+     */
+    private class PendingEvents {
+
+        private final long firstEventTime = System.currentTimeMillis();
+        private long lastEventTime = firstEventTime;
+        private final List<AssetLineageEventType> lineageEventTypes = new ArrayList<>();
+        private final List<OMRSInstanceEvent> events = new ArrayList<>();
+
+        void add(AssetLineageEventType lineageEventType, OMRSInstanceEvent instanceEvent) {
+            int lastEvent = events.size() - 1;
+
+            if (lineageEventType != null && lastEvent >= 0 && lineageEventType == lineageEventTypes.get(lastEvent)) {
+                log.debug("Asset Lineage OMAS has replaced a waiting event that would publish a {}", lineageEventType.getEventTypeName());
+                events.set(lastEvent, instanceEvent);
+            } else {
+                lineageEventTypes.add(lineageEventType);
+                events.add(instanceEvent);
+            }
+            lastEventTime = System.currentTimeMillis();
+        }
+
+        long getDueTime() {
+            return Math.min(lastEventTime + quietWindow, firstEventTime + maximumDelay);
+        }
+
+        List<OMRSInstanceEvent> getEvents() {
+            return events;
+        }
+    }
+
+    /**
+     * Names the worker threads so they can be identified in thread dumps.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        private final String threadName;
+
+        WorkerThreadFactory(String threadName) {
+            this.threadName = threadName;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, threadName);
+
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.assetlineage.listeners;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.odpi.openmetadata.accessservices.assetlineage.auditlog.AssetLineageAuditCode;
 import org.odpi.openmetadata.accessservices.assetlineage.event.AssetLineageEventType;
 import org.odpi.openmetadata.accessservices.assetlineage.event.LineageEvent;
@@ -26,7 +25,8 @@ import static org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineag
 
 /**
  * AssetLineageOMRSTopicListener received details of each OMRS event from the cohorts that the local server
- * is connected to.  It passes Lineage Entity events to the publisher.
+ * is connected to.  It passes Lineage Entity events to the publisher.  When an event coalescing window is configured
+ * the events are processed by an {@link AssetLineageEventCoalescer} rather than on the cohort topic thread.
  */
 public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
 
@@ -38,6 +38,7 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
     private OMRSAuditLog auditLog;
     private Converter converter = new Converter();
     private List<String> lineageClassificationTypes;
+    private AssetLineageEventCoalescer eventCoalescer;
 
     /**
      * The constructor is given the connection to the out topic for Asset Lineage OMAS
@@ -52,9 +53,45 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
                                          String serverName, String serverUserName, List<String> lineageClassificationTypes,
                                          OMRSAuditLog auditLog)
             throws OCFCheckedExceptionBase {
-        this.publisher = new AssetLineagePublisher(repositoryHelper, outTopicConnector, serverName, serverUserName);
+        this(repositoryHelper, outTopicConnector, serverName, serverUserName, lineageClassificationTypes, auditLog, 0, 1);
+    }
+
+    /**
+     * The constructor is given the connection to the out topic for Asset Lineage OMAS
+     * along with classes for testing and manipulating instances and the settings for coalescing events.
+     *
+     * @param repositoryHelper           helper object for building and querying TypeDefs and metadata instances
+     * @param outTopicConnector          The connector used for the Asset Lineage OMAS Out Topic
+     * @param serverName                 name of this server instance
+     * @param serverUserName             name of the user of the server instance
+     * @param lineageClassificationTypes names of the classifications that are relevant to lineage
+     * @param auditLog                   audit log for the access service
+     * @param eventCoalescingWindow      milliseconds to wait for more events about the same instance; zero processes each
+     *                                   event on the cohort topic thread
+     * @param eventProcessingThreads     number of threads that process the events when they are coalesced
+     */
+    public AssetLineageOMRSTopicListener(OMRSRepositoryHelper repositoryHelper,
+                                         OpenMetadataTopicConnector outTopicConnector,
+                                         String serverName, String serverUserName, List<String> lineageClassificationTypes,
+                                         OMRSAuditLog auditLog, long eventCoalescingWindow, int eventProcessingThreads)
+            throws OCFCheckedExceptionBase {
+        this.publisher = new AssetLineagePublisher(repositoryHelper, outTopicConnector, serverName, serverUserName, auditLog);
         this.lineageClassificationTypes = lineageClassificationTypes;
         this.auditLog = auditLog;
+
+        if (eventCoalescingWindow > 0)
+            this.eventCoalescer = new AssetLineageEventCoalescer(serverName, eventCoalescingWindow, eventProcessingThreads,
+                    this::processQueuedInstanceEvent);
+    }
+
+    /**
+     * Stop processing events.  Any events waiting in the coalescing window are processed and then the events
+     * queued for the out topic are sent.
+     */
+    public void shutdown() {
+        if (eventCoalescer != null)
+            eventCoalescer.shutdown();
+        publisher.disconnect();
     }
 
     /**
@@ -88,21 +125,40 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
             return;
         }
 
+        if (instanceEvent.getEventOriginator() == null)
+            return;
+
+        String instanceGUID = getInstanceGUID(instanceEvent);
+        if (eventCoalescer == null || instanceGUID == null) {
+            processQueuedInstanceEvent(instanceEvent);
+            return;
+        }
+
+        try {
+            eventCoalescer.submit(instanceGUID, getCoalescedEventType(instanceEvent), instanceEvent);
+        } catch (Exception e) {
+            log.error("An exception occurred while queueing OMRSTopic event: \n " + instanceEvent.toString(), e);
+            logExceptionToAudit(instanceEvent, e);
+        }
+    }
+
+    /**
+     * Process an instance event.  This is called on the cohort topic thread, or by the event coalescer.
+     *
+     * @param instanceEvent event to process
+     */
+    private void processQueuedInstanceEvent(OMRSInstanceEvent instanceEvent) {
         OMRSInstanceEventType instanceEventType = instanceEvent.getInstanceEventType();
-        OMRSEventOriginator instanceEventOriginator = instanceEvent.getEventOriginator();
         EntityDetail entityDetail = instanceEvent.getEntity();
         Relationship relationship = instanceEvent.getRelationship();
 
-        if (instanceEventOriginator == null)
-            return;
-
         try {
             switch (instanceEventType) {
                 case NEW_ENTITY_EVENT:
                     processNewEntity(entityDetail);
                     break;
                 case UPDATED_ENTITY_EVENT:
-                    if (entityDetail.getType().getTypeDefName().equals(PROCESS) && entityDetail.getStatus().getName().equals(VALUE_FOR_ACTIVE))
+                    if (isActiveProcess(entityDetail))
                         processNewEntity(entityDetail);
                     else
                         processUpdatedEntity(entityDetail);
@@ -138,7 +194,50 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         }
     }
 
-    private void processNewEntity(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
+    private String getInstanceGUID(OMRSInstanceEvent instanceEvent) {
+        if (instanceEvent.getEntity() != null)
+            return instanceEvent.getEntity().getGUID();
+        if (instanceEvent.getRelationship() != null)
+            return instanceEvent.getRelationship().getGUID();
+        return null;
+    }
+
+    /**
+     * Return the type of lineage event that an instance event will publish when it can be replaced by a later event
+     * about the same instance.  Context events are rebuilt from the repositories and update events carry the latest
+     * copy of the entity, so only the last of a run of them needs to be processed.
+     *
+     * @param instanceEvent event to check
+     * @return lineage event type or null if the event must always be processed
+     */
+    private AssetLineageEventType getCoalescedEventType(OMRSInstanceEvent instanceEvent) {
+        EntityDetail entityDetail = instanceEvent.getEntity();
+
+        if (instanceEvent.getInstanceEventType() == null || entityDetail == null || entityDetail.getType() == null)
+            return null;
+
+        switch (instanceEvent.getInstanceEventType()) {
+            case NEW_ENTITY_EVENT:
+                if (PROCESS.equals(entityDetail.getType().getTypeDefName()))
+                    return AssetLineageEventType.PROCESS_CONTEXT_EVENT;
+                return AssetLineageEventType.TECHNICAL_ELEMENT_CONTEXT_EVENT;
+            case UPDATED_ENTITY_EVENT:
+                if (isActiveProcess(entityDetail))
+                    return AssetLineageEventType.PROCESS_CONTEXT_EVENT;
+                return AssetLineageEventType.UPDATE_ENTITY_EVENT;
+            case CLASSIFIED_ENTITY_EVENT:
+            case RECLASSIFIED_ENTITY_EVENT:
+                return AssetLineageEventType.CLASSIFICATION_CONTEXT_EVENT;
+            default:
+                return null;
+        }
+    }
+
+    private boolean isActiveProcess(EntityDetail entityDetail) {
+        return entityDetail.getType().getTypeDefName().equals(PROCESS) && entityDetail.getStatus().getName().equals(VALUE_FOR_ACTIVE);
+    }
+
+    private void processNewEntity(EntityDetail entityDetail) throws OCFCheckedExceptionBase {
         if (!immutableValidLineageEntityEvents.contains(entityDetail.getType().getTypeDefName()))
             return;
         log.debug(PROCESSING_ENTITYDETAIL_DEBUG_MESSAGE, "newEntity", entityDetail.getGUID());
@@ -148,7 +247,7 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
             publisher.publishAssetContext(entityDetail);
     }
 
-    private void processUpdatedEntity(EntityDetail entityDetail) throws ConnectorCheckedException, JsonProcessingException {
+    private void processUpdatedEntity(EntityDetail entityDetail) throws ConnectorCheckedException {
         log.debug(PROCESSING_ENTITYDETAIL_DEBUG_MESSAGE, "updatedEntity", entityDetail.getGUID());
         LineageEvent event = new LineageEvent();
         event.setLineageEntity(converter.createLineageEntity(entityDetail));
@@ -156,7 +255,7 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         publisher.publishEvent(event);
     }
 
-    private void processDeletedEntity(EntityDetail entityDetail) throws ConnectorCheckedException, JsonProcessingException {
+    private void processDeletedEntity(EntityDetail entityDetail) throws ConnectorCheckedException {
         log.debug(PROCESSING_ENTITYDETAIL_DEBUG_MESSAGE, "deletedEntity", entityDetail.getGUID());
         LineageEvent event = new LineageEvent();
         event.setLineageEntity(converter.createLineageEntity(entityDetail));
@@ -164,21 +263,21 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         publisher.publishEvent(event);
     }
 
-    private void processClassifiedEntityEvent(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
+    private void processClassifiedEntityEvent(EntityDetail entityDetail) throws OCFCheckedExceptionBase {
         if (!immutableValidLineageEntityEvents.contains(entityDetail.getType().getTypeDefName()))
             return;
         log.debug(PROCESSING_ENTITYDETAIL_DEBUG_MESSAGE, "classifiedEntity", entityDetail.getGUID());
         publisher.publishClassificationContext(entityDetail);
     }
 
-    private void processReclassifiedEntityEvent(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
+    private void processReclassifiedEntityEvent(EntityDetail entityDetail) throws OCFCheckedExceptionBase {
         if (!immutableValidLineageEntityEvents.contains(entityDetail.getType().getTypeDefName()))
             return;
         log.debug(PROCESSING_ENTITYDETAIL_DEBUG_MESSAGE, "reclassifiedEntity", entityDetail.getGUID());
         publisher.publishClassificationContext(entityDetail);
     }
 
-    private void processDeclassifiedEntityEvent(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
+    private void processDeclassifiedEntityEvent(EntityDetail entityDetail) throws OCFCheckedExceptionBase {
         if (!immutableValidLineageEntityEvents.contains(entityDetail.getType().getTypeDefName()))
             return;
         log.debug(PROCESSING_ENTITYDETAIL_DEBUG_MESSAGE, "declassifiedEntity", entityDetail.getGUID());
@@ -193,7 +292,7 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         publisher.publishEvent(event);
     }
 
-    private void processNewRelationshipEvent(Relationship relationship) throws ConnectorCheckedException, JsonProcessingException {
+    private void processNewRelationshipEvent(Relationship relationship) throws ConnectorCheckedException {
         log.debug(PROCESSING_RELATIONSHIP_DEBUG_MESSAGE, AssetLineageEventType.NEW_RELATIONSHIP_EVENT.getEventTypeName(), relationship.getGUID());
         if (!PROCESS_HIERARCHY.equals(relationship.getType().getTypeDefName())) {
             return;
@@ -202,7 +301,7 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         publisher.publishLineageRelationshipEvent(converter.createLineageRelationship(relationship), AssetLineageEventType.NEW_RELATIONSHIP_EVENT);
     }
 
-    private void processUpdatedRelationshipEvent(Relationship relationship) throws OCFCheckedExceptionBase, JsonProcessingException {
+    private void processUpdatedRelationshipEvent(Relationship relationship) throws OCFCheckedExceptionBase {
         log.debug(PROCESSING_RELATIONSHIP_DEBUG_MESSAGE, AssetLineageEventType.UPDATE_RELATIONSHIP_EVENT.getEventTypeName(), relationship.getGUID());
         if (!immutableValidLineageRelationshipTypes.contains(relationship.getType().getTypeDefName())) {
             return;
@@ -211,7 +310,7 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         publisher.publishLineageRelationshipEvent(converter.createLineageRelationship(relationship), AssetLineageEventType.UPDATE_RELATIONSHIP_EVENT);
     }
 
-    private void processDeletedRelationshipEvent(Relationship relationship) throws OCFCheckedExceptionBase, JsonProcessingException {
+    private void processDeletedRelationshipEvent(Relationship relationship) throws OCFCheckedExceptionBase {
         log.debug(PROCESSING_RELATIONSHIP_DEBUG_MESSAGE, AssetLineageEventType.DELETE_RELATIONSHIP_EVENT.getEventTypeName(), relationship.getGUID());
         if (!immutableValidLineageRelationshipTypes.contains(relationship.getType().getTypeDefName())) {
             return;
@@ -3,8 +3,6 @@
 package org.odpi.openmetadata.accessservices.assetlineage.outtopic;
 
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections4.MapUtils;
 import org.odpi.openmetadata.accessservices.assetlineage.event.AssetLineageEventHeader;
 import org.odpi.openmetadata.accessservices.assetlineage.event.AssetLineageEventType;
@@ -21,7 +19,9 @@ import org.odpi.openmetadata.accessservices.assetlineage.server.AssetLineageInst
 import org.odpi.openmetadata.accessservices.assetlineage.util.SuperTypesRetriever;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFCheckedExceptionBase;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicPublisher;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.slf4j.Logger;
@@ -32,13 +32,13 @@ import java.util.Set;
 
 /**
  * AssetLineagePublisher is the connector responsible for publishing lineage context information about
- * new and changed assets.
+ * new and changed assets.  The events are sent to the out topic by a background thread.
  */
-public class AssetLineagePublisher {
+public class AssetLineagePublisher extends OpenMetadataTopicPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(AssetLineagePublisher.class);
+    private static final String PUBLISHER_NAME = "Asset Lineage OMAS Out Topic";
     private static AssetLineageInstanceHandler instanceHandler = new AssetLineageInstanceHandler();
-    private OpenMetadataTopicConnector outTopicConnector;
     private String serverUserName;
     private SuperTypesRetriever superTypesRetriever;
     private ProcessContextHandler processContextHandler;
@@ -54,12 +54,14 @@ public class AssetLineagePublisher {
      * @param outTopicConnector connection to the out topic
      * @param serverName        name of the user of the server instance
      * @param serverUserName    name of this server instance
+     * @param auditLog          audit log for errors sending the events
      */
     public AssetLineagePublisher(OMRSRepositoryHelper repositoryHelper, OpenMetadataTopicConnector outTopicConnector,
-                                 String serverName, String serverUserName)
+                                 String serverName, String serverUserName, OMRSAuditLog auditLog)
             throws OCFCheckedExceptionBase {
+        super(PUBLISHER_NAME, outTopicConnector, auditLog);
         String methodName = "AssetLineagePublisher";
-        this.outTopicConnector = outTopicConnector;
+        super.prepareEventClasses(LineageEvent.class, LineageRelationshipEvent.class);
         this.serverUserName = serverUserName;
         this.superTypesRetriever = new SuperTypesRetriever(repositoryHelper);
         this.processContextHandler = instanceHandler.getProcessHandler(serverUserName, serverName, methodName);
@@ -73,7 +75,7 @@ public class AssetLineagePublisher {
      *
      * @param entityDetail entity to get context
      */
-    public void publishProcessContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
+    public void publishProcessContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase {
         Map<String, Set<GraphContext>> processContext = processContextHandler.getProcessContext(serverUserName, entityDetail.getGUID());
         LineageEvent event = new LineageEvent();
         event.setAssetContext(processContext);
@@ -81,7 +83,7 @@ public class AssetLineagePublisher {
         publishEvent(event);
     }
 
-    public void publishAssetContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
+    public void publishAssetContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase {
         String technicalGuid = entityDetail.getGUID();
         AssetContext assetContext = this.assetContextHandler.getAssetContext(serverUserName, technicalGuid, entityDetail.getType().getTypeDefName());
         Map<String, Set<GraphContext>> context = this.glossaryHandler.getGlossaryTerm(technicalGuid, serverUserName, assetContext, this.superTypesRetriever);
@@ -94,7 +96,7 @@ public class AssetLineagePublisher {
         publishEvent(event);
     }
 
-    public void publishClassificationContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
+    public void publishClassificationContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase {
         Map<String, Set<GraphContext>> classificationContext = this.classificationHandler.buildClassificationContext(entityDetail);
         if (MapUtils.isEmpty(classificationContext)) {
             log.debug("No lineage classifications were found for the entity {} ", entityDetail.getGUID());
@@ -112,12 +114,10 @@ public class AssetLineagePublisher {
      *
      * @param lineageRelationship the LineageRelationship to be published
      * @param eventType           the type on the event
-     * @throws ConnectorCheckedException unable to send the event due to connectivity issue
-     * @throws JsonProcessingException   exception parsing the event json
+     * @throws ConnectorCheckedException unable to convert or queue the event
      */
     public void publishLineageRelationshipEvent(LineageRelationship lineageRelationship, AssetLineageEventType eventType) throws
-            ConnectorCheckedException,
-            JsonProcessingException {
+            ConnectorCheckedException {
 
         LineageRelationshipEvent event = new LineageRelationshipEvent();
         event.setLineageRelationship(lineageRelationship);
@@ -126,16 +126,13 @@ public class AssetLineagePublisher {
     }
 
     /**
-     * Output a new asset event.
+     * Output a new asset event.  The event is queued and sent to the out topic by the publisher's thread.
      *
      * @param event event to send
+     * @throws ConnectorCheckedException unable to convert or queue the event
      */
-    public void publishEvent(AssetLineageEventHeader event) throws JsonProcessingException, ConnectorCheckedException {
-        if (outTopicConnector == null)
-            return;
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        outTopicConnector.sendEvent(objectMapper.writeValueAsString(event));
+    public void publishEvent(AssetLineageEventHeader event) throws ConnectorCheckedException {
+        super.publishEvent(event);
         log.debug("Asset Lineage OMAS has published an event of type {} ", event.getAssetLineageEventType());
     }
 }
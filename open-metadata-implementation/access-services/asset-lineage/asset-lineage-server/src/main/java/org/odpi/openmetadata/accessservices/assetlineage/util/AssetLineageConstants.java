@@ -12,6 +12,8 @@ public final class AssetLineageConstants {
     private AssetLineageConstants() {}
 
     public static final String LINEAGE_CLASSIFICATION_TYPES_KEY = "LineageClassificationTypes";
+    public static final String EVENT_COALESCING_WINDOW_KEY = "EventCoalescingWindow";
+    public static final String EVENT_PROCESSING_THREADS_KEY = "EventProcessingThreads";
     public static final String ASSET_LINEAGE_OMAS = "AssetLineageOmas";
     public static final String REFERENCEABLE = "Referenceable";
     public static final String GUID_PARAMETER = "guid";
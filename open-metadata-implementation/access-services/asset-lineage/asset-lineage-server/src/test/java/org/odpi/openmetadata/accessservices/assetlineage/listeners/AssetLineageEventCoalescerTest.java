@@ -0,0 +1,171 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.listeners;
+
+import org.odpi.openmetadata.accessservices.assetlineage.event.AssetLineageEventType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that AssetLineageEventCoalescer replaces waiting events, keeps the order of the events for an instance
+ * and processes the waiting events at shutdown.
+ */
+public class AssetLineageEventCoalescerTest {
+
+    private static final String SERVER_NAME = "testServer";
+    private static final long SHORT_WINDOW = 50;
+    private static final long LONG_WINDOW = TimeUnit.MINUTES.toMillis(10);
+
+    private final List<OMRSInstanceEvent> processedEvents = Collections.synchronizedList(new ArrayList<>());
+    private final List<Thread> processingThreads = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * A burst of events for an instance that would publish the same lineage event is processed once, using the
+     * latest event.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testBurstIsCoalesced() throws Exception {
+        AssetLineageEventCoalescer coalescer = getCoalescer(SHORT_WINDOW, 1);
+
+        OMRSInstanceEvent lastEvent = getEvent("guid1");
+        coalescer.submit("guid1", AssetLineageEventType.PROCESS_CONTEXT_EVENT, getEvent("guid1"));
+        coalescer.submit("guid1", AssetLineageEventType.PROCESS_CONTEXT_EVENT, getEvent("guid1"));
+        coalescer.submit("guid1", AssetLineageEventType.PROCESS_CONTEXT_EVENT, lastEvent);
+
+        waitForProcessedEvents(1);
+        coalescer.shutdown();
+
+        assertEquals(processedEvents.size(), 1);
+        assertSame(processedEvents.get(0), lastEvent);
+    }
+
+    /**
+     * Events for an instance that publish different lineage events, or that can not be replaced, are all processed
+     * in the order they were received.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testEventOrderIsKept() throws Exception {
+        AssetLineageEventCoalescer coalescer = getCoalescer(SHORT_WINDOW, 4);
+
+        List<OMRSInstanceEvent> events = Arrays.asList(getEvent("guid1"), getEvent("guid1"), getEvent("guid1"),
+                getEvent("guid1"), getEvent("guid1"));
+
+        coalescer.submit("guid1", AssetLineageEventType.UPDATE_ENTITY_EVENT, events.get(0));
+        coalescer.submit("guid1", AssetLineageEventType.CLASSIFICATION_CONTEXT_EVENT, events.get(1));
+        coalescer.submit("guid1", null, events.get(2));
+        coalescer.submit("guid1", null, events.get(3));
+        coalescer.submit("guid1", AssetLineageEventType.UPDATE_ENTITY_EVENT, events.get(4));
+
+        waitForProcessedEvents(events.size());
+
+        /*
+         * Events for the same instance that arrive after the first set has been processed are processed later.
+         */
+        OMRSInstanceEvent laterEvent = getEvent("guid1");
+        coalescer.submit("guid1", AssetLineageEventType.UPDATE_ENTITY_EVENT, laterEvent);
+
+        waitForProcessedEvents(events.size() + 1);
+        coalescer.shutdown();
+
+        List<OMRSInstanceEvent> expectedEvents = new ArrayList<>(events);
+        expectedEvents.add(laterEvent);
+
+        assertEquals(processedEvents, expectedEvents);
+        assertTrue(processingThreads.stream().noneMatch(thread -> thread == Thread.currentThread()));
+    }
+
+    /**
+     * Events for different instances are not merged.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testInstancesAreKeptApart() throws Exception {
+        AssetLineageEventCoalescer coalescer = getCoalescer(SHORT_WINDOW, 2);
+
+        OMRSInstanceEvent event1 = getEvent("guid1");
+        OMRSInstanceEvent event2 = getEvent("guid2");
+        coalescer.submit("guid1", AssetLineageEventType.PROCESS_CONTEXT_EVENT, event1);
+        coalescer.submit("guid2", AssetLineageEventType.PROCESS_CONTEXT_EVENT, event2);
+
+        waitForProcessedEvents(2);
+        coalescer.shutdown();
+
+        assertEquals(processedEvents.size(), 2);
+        assertTrue(processedEvents.containsAll(Arrays.asList(event1, event2)));
+    }
+
+    /**
+     * The events that are still waiting at shutdown are processed, in order, on the caller's thread and later
+     * events are ignored.
+     */
+    @Test
+    public void testShutdownProcessesWaitingEvents() {
+        AssetLineageEventCoalescer coalescer = getCoalescer(LONG_WINDOW, 2);
+
+        OMRSInstanceEvent event1 = getEvent("guid1");
+        OMRSInstanceEvent event2 = getEvent("guid1");
+        OMRSInstanceEvent event3 = getEvent("guid2");
+        coalescer.submit("guid1", AssetLineageEventType.UPDATE_ENTITY_EVENT, event1);
+        coalescer.submit("guid1", AssetLineageEventType.DELETE_ENTITY_EVENT, event2);
+        coalescer.submit("guid2", AssetLineageEventType.PROCESS_CONTEXT_EVENT, event3);
+
+        assertTrue(processedEvents.isEmpty());
+
+        coalescer.shutdown();
+
+        assertEquals(processedEvents, Arrays.asList(event1, event2, event3));
+        assertTrue(processingThreads.stream().allMatch(thread -> thread == Thread.currentThread()));
+
+        coalescer.submit("guid3", AssetLineageEventType.PROCESS_CONTEXT_EVENT, getEvent("guid3"));
+        coalescer.shutdown();
+
+        assertEquals(processedEvents.size(), 3);
+    }
+
+    private AssetLineageEventCoalescer getCoalescer(long quietWindow, int workerCount) {
+        processedEvents.clear();
+        processingThreads.clear();
+
+        return new AssetLineageEventCoalescer(SERVER_NAME, quietWindow, workerCount, event -> {
+            processingThreads.add(Thread.currentThread());
+            processedEvents.add(event);
+        });
+    }
+
+    private void waitForProcessedEvents(int eventCount) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+
+        while (processedEvents.size() < eventCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        /*
+         * Allow time for any unexpected extra events.
+         */
+        Thread.sleep(SHORT_WINDOW * 2);
+    }
+
+    private OMRSInstanceEvent getEvent(String guid) {
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+
+        return new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, entity);
+    }
+}
@@ -3,21 +3,47 @@
 
 package org.odpi.openmetadata.accessservices.datamanager.connectors.outtopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.datamanager.ffdc.DataManagerAuditCode;
 import org.odpi.openmetadata.accessservices.datamanager.events.DataManagerOutTopicEvent;
 import org.odpi.openmetadata.accessservices.datamanager.ffdc.DataManagerErrorCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicPublisher;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicSenderConnectorBase;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
  * DataManagerOutTopicServerConnector is the java implementation of the
- * the server side connector that send events to the Data Manager OMAS's OutTopic.
+ * the server side connector that send events to the Data Manager OMAS's OutTopic.  Each embedded event bus
+ * connector is driven by an OpenMetadataTopicPublisher so the events are sent by a background thread.
  */
 public class DataManagerOutTopicServerConnector extends OpenMetadataTopicSenderConnectorBase
 {
+    private final List<OpenMetadataTopicPublisher> publishers = new ArrayList<>();
+
+
+    /**
+     * Start the embedded event bus connectors and create a publisher for each one.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void start() throws ConnectorCheckedException
+    {
+        super.start();
+
+        for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors)
+        {
+            publishers.add(new OpenMetadataTopicPublisher(connectionName, eventBusConnector, auditLog));
+        }
+    }
+
+
     /**
      * Send the request to the embedded event bus connector(s).
      *
@@ -28,19 +54,32 @@ public class DataManagerOutTopicServerConnector extends OpenMetadataTopicSenderC
     public void sendEvent(DataManagerOutTopicEvent event) throws InvalidParameterException, ConnectorCheckedException
     {
         final String methodName = "sendEvent";
-        ObjectMapper objectMapper = new ObjectMapper();
+
+        validateEventBusConnectors(methodName);
+
+        if (event == null)
+        {
+            final String parameterName = "event";
+
+            throw new InvalidParameterException(OMRSErrorCode.NULL_OUTBOUND_EVENT.getMessageDefinition(connectionName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                parameterName);
+        }
 
         try
         {
-            String eventString = objectMapper.writeValueAsString(event);
-            super.sendEvent(eventString);
+            for (OpenMetadataTopicPublisher publisher : publishers)
+            {
+                publisher.publishEvent(event);
+            }
 
             if (super.auditLog != null)
             {
-                super.auditLog.logMessage(methodName, DataManagerAuditCode.OUT_TOPIC_EVENT.getMessageDefinition(eventString));
+                super.auditLog.logMessage(methodName, DataManagerAuditCode.OUT_TOPIC_EVENT.getMessageDefinition(event.toString()));
             }
         }
-        catch (InvalidParameterException | ConnectorCheckedException error)
+        catch (ConnectorCheckedException error)
         {
             throw error;
         }
@@ -55,4 +94,23 @@ public class DataManagerOutTopicServerConnector extends OpenMetadataTopicSenderC
                                                 error);
         }
     }
+
+
+    /**
+     * Send the events that are waiting in the publishers before disconnecting the embedded event bus connectors.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        for (OpenMetadataTopicPublisher publisher : publishers)
+        {
+            publisher.disconnect();
+        }
+
+        publishers.clear();
+
+        super.disconnect();
+    }
 }
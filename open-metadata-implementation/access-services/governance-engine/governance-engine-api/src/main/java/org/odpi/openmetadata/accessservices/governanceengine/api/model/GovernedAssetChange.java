@@ -0,0 +1,96 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.governanceengine.api.model;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * GovernedAssetChange describes a single change to a governed asset.  For ADDED and UPDATED changes the governed
+ * asset holds the latest known content of the asset.  For REMOVED changes only the asset guid is set.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GovernedAssetChange implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private GovernedAssetChangeType changeType;
+    private String assetGuid;
+    private GovernedAsset governedAsset;
+
+    /**
+     * Default constructor
+     */
+    public GovernedAssetChange() {
+    }
+
+    /**
+     * Constructor used when a change is recorded.
+     *
+     * @param changeType    - type of change
+     * @param assetGuid     - unique identifier of the asset
+     * @param governedAsset - latest content of the asset
+     */
+    public GovernedAssetChange(GovernedAssetChangeType changeType, String assetGuid, GovernedAsset governedAsset) {
+        this.changeType = changeType;
+        this.assetGuid = assetGuid;
+        this.governedAsset = governedAsset;
+    }
+
+    public GovernedAssetChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(GovernedAssetChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public String getAssetGuid() {
+        return assetGuid;
+    }
+
+    public void setAssetGuid(String assetGuid) {
+        this.assetGuid = assetGuid;
+    }
+
+    public GovernedAsset getGovernedAsset() {
+        return governedAsset;
+    }
+
+    public void setGovernedAsset(GovernedAsset governedAsset) {
+        this.governedAsset = governedAsset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GovernedAssetChange that = (GovernedAssetChange) o;
+        return changeType == that.changeType &&
+                Objects.equals(assetGuid, that.assetGuid) &&
+                Objects.equals(governedAsset, that.governedAsset);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(changeType, assetGuid, governedAsset);
+    }
+
+    @Override
+    public String toString() {
+        return "GovernedAssetChange{" +
+                "changeType=" + changeType +
+                ", assetGuid='" + assetGuid + '\'' +
+                ", governedAsset=" + governedAsset +
+                '}';
+    }
+}
@@ -0,0 +1,77 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.governanceengine.api.model;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * GovernedAssetChangeType describes how a governed asset has changed since the change token supplied by the caller.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public enum GovernedAssetChangeType implements Serializable {
+
+    ADDED(0, "Added", "A governed classification has been assigned to the asset."),
+    UPDATED(1, "Updated", "The classifications of the governed asset have been changed."),
+    REMOVED(2, "Removed", "The asset is no longer governed or has been deleted.");
+
+    private static final long serialVersionUID = 1L;
+
+    private int changeTypeCode;
+    private String changeTypeName;
+    private String changeTypeDescription;
+
+
+    /**
+     * Default Constructor - sets up the specific values for this instance of the enum.
+     *
+     * @param changeTypeCode        - int identifier used for indexing based on the enum.
+     * @param changeTypeName        - string name used for messages that include the enum.
+     * @param changeTypeDescription - default description for the enum value - used when natural resource
+     *                              bundle is not available.
+     */
+    GovernedAssetChangeType(int changeTypeCode, String changeTypeName, String changeTypeDescription) {
+        this.changeTypeCode = changeTypeCode;
+        this.changeTypeName = changeTypeName;
+        this.changeTypeDescription = changeTypeDescription;
+    }
+
+
+    /**
+     * Return the int identifier used for indexing based on the enum.
+     *
+     * @return int identifier code
+     */
+    public int getChangeTypeCode() {
+        return changeTypeCode;
+    }
+
+
+    /**
+     * Return the string name used for messages that include the enum.
+     *
+     * @return String name
+     */
+    public String getChangeTypeName() {
+        return changeTypeName;
+    }
+
+
+    /**
+     * Return the default description for the enum value - used when natural resource
+     * bundle is not available.
+     *
+     * @return String default description
+     */
+    public String getChangeTypeDescription() {
+        return changeTypeDescription;
+    }
+}
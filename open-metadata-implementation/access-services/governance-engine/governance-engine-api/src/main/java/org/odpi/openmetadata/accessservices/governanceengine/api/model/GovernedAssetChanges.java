@@ -0,0 +1,90 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.governanceengine.api.model;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * GovernedAssetChanges is a page of changes to the governed assets.  The change token is opaque and is passed on the
+ * next request to retrieve the changes that follow this page.  When resyncRequired is set, the changes since the
+ * supplied token are no longer known and the caller must reload the governed assets before using the new token.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GovernedAssetChanges implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<GovernedAssetChange> changes;
+    private String changeToken;
+    private boolean moreChanges;
+    private boolean resyncRequired;
+
+    public List<GovernedAssetChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<GovernedAssetChange> changes) {
+        this.changes = changes;
+    }
+
+    public String getChangeToken() {
+        return changeToken;
+    }
+
+    public void setChangeToken(String changeToken) {
+        this.changeToken = changeToken;
+    }
+
+    public boolean isMoreChanges() {
+        return moreChanges;
+    }
+
+    public void setMoreChanges(boolean moreChanges) {
+        this.moreChanges = moreChanges;
+    }
+
+    public boolean isResyncRequired() {
+        return resyncRequired;
+    }
+
+    public void setResyncRequired(boolean resyncRequired) {
+        this.resyncRequired = resyncRequired;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GovernedAssetChanges that = (GovernedAssetChanges) o;
+        return moreChanges == that.moreChanges &&
+                resyncRequired == that.resyncRequired &&
+                Objects.equals(changes, that.changes) &&
+                Objects.equals(changeToken, that.changeToken);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(changes, changeToken, moreChanges, resyncRequired);
+    }
+
+    @Override
+    public String toString() {
+        return "GovernedAssetChanges{" +
+                "changes=" + changes +
+                ", changeToken='" + changeToken + '\'' +
+                ", moreChanges=" + moreChanges +
+                ", resyncRequired=" + resyncRequired +
+                '}';
+    }
+}
@@ -0,0 +1,44 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.governanceengine.api.model;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * GovernedAssetChangesResponse is the response structure used on the Governance Engine OMAS REST API calls that
+ * return the changes to the governed assets since a change token.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GovernedAssetChangesResponse extends GovernanceEngineOMASResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private GovernedAssetChanges governedAssetChanges;
+
+    /**
+     * Return the page of changes.
+     *
+     * @return changes with the next change token
+     */
+    public GovernedAssetChanges getGovernedAssetChanges() {
+        return governedAssetChanges;
+    }
+
+    /**
+     * Set up the page of changes.
+     *
+     * @param governedAssetChanges - changes with the next change token
+     */
+    public void setGovernedAssetChanges(GovernedAssetChanges governedAssetChanges) {
+        this.governedAssetChanges = governedAssetChanges;
+    }
+
+}
@@ -28,6 +28,8 @@ public class GovernanceEngine extends FFDCRESTClient implements GovernanceEngine
 
     private static final String GOVERNED_ASSETS_LISTS = "/assets?entityTypes={2}&offset={3}&pageSize={4}";
     private static final String GOVERNED_ASSET = "/assets/{2}";
+    private static final String GOVERNED_ASSET_CHANGES = "/assets/changes?maxCount={2}";
+    private static final String GOVERNED_ASSET_CHANGES_SINCE = "/assets/changes?maxCount={2}&changeToken={3}";
     private static final String CREATE_SOFTWARE_SERVER = "/software-server-capabilities";
     private static final String GET_SOFTWARE_SERVER = "/software-server-capabilities/{2}";
 
@@ -93,6 +95,32 @@ public class GovernanceEngine extends FFDCRESTClient implements GovernanceEngine
         return response.getAsset();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GovernedAssetChanges getGovernedAssetChanges(String userId, String changeToken, Integer maxCount)
+            throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
+        final String methodName = "getGovernedAssetChanges";
+        log.debug("Calling method: {}", methodName);
+
+        invalidParameterHandler.validateUserId(methodName, userId);
+        int validatedMaxCount = invalidParameterHandler.validatePaging(0, maxCount == null ? 0 : maxCount, methodName);
+
+        GovernedAssetChangesResponse response;
+        if (changeToken == null) {
+            response = callGetRESTCall(methodName, GovernedAssetChangesResponse.class,
+                    serverPlatformURLRoot + BASE_PATH + GOVERNED_ASSET_CHANGES, serverName, userId, validatedMaxCount);
+        } else {
+            response = callGetRESTCall(methodName, GovernedAssetChangesResponse.class,
+                    serverPlatformURLRoot + BASE_PATH + GOVERNED_ASSET_CHANGES_SINCE, serverName, userId, validatedMaxCount, changeToken);
+        }
+
+        detectExceptions(methodName, response);
+
+        return response.getGovernedAssetChanges();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.accessservices.governanceengine.client;
 
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAsset;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChanges;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.SoftwareServerCapability;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.SoftwareServerCapabilityRequestBody;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -53,6 +54,22 @@ public interface GovernanceEngineInterface {
     GovernedAsset getGovernedAsset(String userId, String assetGuid)
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException;
 
+    /**
+     * Returns the additions, updates and removals of governed assets since the change token.  Pass a null token
+     * to start following the changes, load the governed assets with getGovernedAssetList and then pass the
+     * returned token on each later call.  If resyncRequired is set the governed assets must be reloaded.
+     *
+     * @param userId      - String - userId of user making request.
+     * @param changeToken - String - opaque token returned by the previous call (can be null)
+     * @param maxCount    - limit the number of the changes examined
+     * @return the changes with the token to pass on the next call
+     * @throws UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     * @throws PropertyServerException    - there is a problem retrieving information from the property server(s).
+     * @throws InvalidParameterException  - one of the parameters is null or invalid.
+     */
+    GovernedAssetChanges getGovernedAssetChanges(String userId, String changeToken, Integer maxCount)
+            throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException;
+
     /**
      * Create a Software Server Capability entity
      *
@@ -20,6 +20,7 @@ public class GovernanceEngineAdmin extends AccessServiceAdmin {
     private AuditLog auditLog;
     private GovernanceEngineServicesInstance instance;
     private String serverName;
+    private GovernanceEngineOMRSTopicListener omrsTopicListener;
 
     /**
      * Initialize the access service.
@@ -67,7 +68,7 @@ public class GovernanceEngineAdmin extends AccessServiceAdmin {
 
 
             if (accessServiceConfigurationProperties.getAccessServiceOutTopic() != null) {
-                GovernanceEngineOMRSTopicListener omrsTopicListener =
+                omrsTopicListener =
                         new GovernanceEngineOMRSTopicListener(outTopicConnector,
                                 enterpriseOMRSRepositoryConnector.getRepositoryHelper(),
                                 enterpriseOMRSRepositoryConnector.getRepositoryValidator(),
@@ -104,6 +105,10 @@ public class GovernanceEngineAdmin extends AccessServiceAdmin {
         final String actionDescription = "shutdown";
         auditLog.logMessage(actionDescription, GovernanceEngineAuditCode.SERVICE_TERMINATING.getMessageDefinition());
 
+        if (omrsTopicListener != null) {
+            omrsTopicListener.shutdown();
+        }
+
         if (instance != null) {
             this.instance.shutdown();
         }
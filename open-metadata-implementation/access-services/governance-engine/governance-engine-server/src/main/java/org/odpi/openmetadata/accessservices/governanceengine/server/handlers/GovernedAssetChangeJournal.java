@@ -0,0 +1,212 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.governanceengine.server.handlers;
+
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAsset;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChange;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChangeType;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChanges;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * GovernedAssetChangeJournal keeps the most recent changes to the governed assets in memory so governance engines
+ * can retrieve the changes since their last call instead of reloading all the governed assets.
+ * <p>
+ * Each change is given the next sequence number.  The change token returned to the caller holds the identifier of
+ * the journal and the sequence number of the last change it has seen.  A token that was issued by a previous
+ * instance of the server, or that is older than the oldest change still held, can not be used to work out the
+ * changes so the caller is told to reload the governed assets.
+ * <p>
+ * The journal also remembers which assets have been reported as governed, either by a change or by a call to
+ * getGovernedAssets, so a removal can be recorded when the event that removes a classification does not say which
+ * classification was removed.
+ */
+public class GovernedAssetChangeJournal {
+
+    private static final String TOKEN_SEPARATOR = ":";
+
+    private final String journalId = UUID.randomUUID().toString();
+    private final int capacity;
+    private final Deque<JournalEntry> entries = new ArrayDeque<>();
+    private final Set<String> reportedAssetGuids = new HashSet<>();
+    private long lastSequenceNumber = 0;
+
+    /**
+     * Construct the journal.
+     *
+     * @param capacity maximum number of changes kept in the journal
+     */
+    public GovernedAssetChangeJournal(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Record a change to a governed asset.  The oldest change is dropped when the journal is full.
+     *
+     * @param changeType    type of change
+     * @param assetGuid     unique identifier of the asset
+     * @param governedAsset latest content of the asset (null for removals)
+     */
+    public synchronized void recordChange(GovernedAssetChangeType changeType, String assetGuid, GovernedAsset governedAsset) {
+        if (changeType == null || assetGuid == null) {
+            return;
+        }
+
+        GovernedAsset changedAsset = changeType == GovernedAssetChangeType.REMOVED ? null : governedAsset;
+
+        if (changeType == GovernedAssetChangeType.REMOVED) {
+            reportedAssetGuids.remove(assetGuid);
+        } else {
+            reportedAssetGuids.add(assetGuid);
+        }
+
+        lastSequenceNumber++;
+        entries.addLast(new JournalEntry(lastSequenceNumber, new GovernedAssetChange(changeType, assetGuid, changedAsset)));
+
+        while (entries.size() > capacity) {
+            entries.removeFirst();
+        }
+    }
+
+    /**
+     * Remember the assets returned to a caller as governed assets.
+     *
+     * @param governedAssets assets returned to the caller
+     */
+    public synchronized void recordReportedAssets(Collection<GovernedAsset> governedAssets) {
+        if (governedAssets == null) {
+            return;
+        }
+
+        for (GovernedAsset governedAsset : governedAssets) {
+            if (governedAsset != null && governedAsset.getGuid() != null) {
+                reportedAssetGuids.add(governedAsset.getGuid());
+            }
+        }
+    }
+
+    /**
+     * Return whether the asset has been reported as a governed asset and not removed since.
+     *
+     * @param assetGuid unique identifier of the asset
+     * @return true if the asset has been reported as governed
+     */
+    public synchronized boolean isReportedAsset(String assetGuid) {
+        return reportedAssetGuids.contains(assetGuid);
+    }
+
+    /**
+     * Return the changes recorded after the supplied change token.  Only the latest change to each asset is
+     * returned so the number of changes returned may be less than the number of changes examined.
+     *
+     * @param changeToken token from the previous call, or null to start following the changes from now
+     * @param maxCount    maximum number of changes to examine, zero for no limit
+     * @return changes with the token to use on the next call
+     */
+    public synchronized GovernedAssetChanges getChangesSince(String changeToken, int maxCount) {
+        long sequenceNumber = decodeSequenceNumber(changeToken);
+
+        if (sequenceNumber < 0 || sequenceNumber > lastSequenceNumber ||
+                (!entries.isEmpty() && entries.getFirst().sequenceNumber > sequenceNumber + 1)) {
+            return resync();
+        }
+
+        Map<String, GovernedAssetChange> latestChanges = new LinkedHashMap<>();
+        long tokenSequenceNumber = sequenceNumber;
+        int examinedCount = 0;
+
+        for (JournalEntry entry : entries) {
+            if (entry.sequenceNumber <= sequenceNumber) {
+                continue;
+            }
+            if (maxCount > 0 && examinedCount == maxCount) {
+                break;
+            }
+
+            GovernedAssetChange change = entry.change;
+            latestChanges.remove(change.getAssetGuid());
+            latestChanges.put(change.getAssetGuid(), change);
+
+            tokenSequenceNumber = entry.sequenceNumber;
+            examinedCount++;
+        }
+
+        GovernedAssetChanges governedAssetChanges = new GovernedAssetChanges();
+        governedAssetChanges.setChanges(new ArrayList<>(latestChanges.values()));
+        governedAssetChanges.setChangeToken(encodeChangeToken(tokenSequenceNumber));
+        governedAssetChanges.setMoreChanges(tokenSequenceNumber < lastSequenceNumber);
+
+        return governedAssetChanges;
+    }
+
+    /**
+     * Return the token that identifies the current end of the journal.
+     *
+     * @return change token
+     */
+    public synchronized String getCurrentChangeToken() {
+        return encodeChangeToken(lastSequenceNumber);
+    }
+
+    private GovernedAssetChanges resync() {
+        GovernedAssetChanges governedAssetChanges = new GovernedAssetChanges();
+        governedAssetChanges.setChanges(new ArrayList<>());
+        governedAssetChanges.setChangeToken(encodeChangeToken(lastSequenceNumber));
+        governedAssetChanges.setResyncRequired(true);
+
+        return governedAssetChanges;
+    }
+
+    private String encodeChangeToken(long sequenceNumber) {
+        String token = journalId + TOKEN_SEPARATOR + sequenceNumber;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Return the sequence number held in the change token.
+     *
+     * @param changeToken token from a previous call
+     * @return sequence number or -1 if the token was not issued by this journal
+     */
+    private long decodeSequenceNumber(String changeToken) {
+        if (changeToken == null) {
+            return -1;
+        }
+
+        try {
+            String token = new String(Base64.getUrlDecoder().decode(changeToken), StandardCharsets.UTF_8);
+            int separator = token.lastIndexOf(TOKEN_SEPARATOR);
+
+            if (separator < 0 || !journalId.equals(token.substring(0, separator))) {
+                return -1;
+            }
+
+            return Long.parseLong(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static class JournalEntry {
+
+        private final long sequenceNumber;
+        private final GovernedAssetChange change;
+
+        private JournalEntry(long sequenceNumber, GovernedAssetChange change) {
+            this.sequenceNumber = sequenceNumber;
+            this.change = change;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.Context;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernanceClassification;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAsset;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChangeType;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChanges;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.SoftwareServerCapability;
 import org.odpi.openmetadata.accessservices.governanceengine.server.processor.ContextBuilder;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
@@ -41,6 +43,7 @@ public class GovernedAssetHandler {
     private OpenMetadataServerSecurityVerifier securityVerifier = new OpenMetadataServerSecurityVerifier();
     private List<String> supportedZones;
     private ContextBuilder contextBuilder;
+    private final GovernedAssetChangeJournal changeJournal = new GovernedAssetChangeJournal(GOVERNED_ASSET_CHANGE_JOURNAL_SIZE);
 
     /**
      * Construct the handler information needed to interact with the repository services
@@ -97,7 +100,51 @@ public class GovernedAssetHandler {
             }
         }
 
-        return convertGovernedAssets(userId, response);
+        List<GovernedAsset> governedAssets = convertGovernedAssets(userId, response);
+        changeJournal.recordReportedAssets(governedAssets);
+
+        return governedAssets;
+    }
+
+    /**
+     * Returns the changes to the governed assets since the change token.  A caller starts by passing a null token,
+     * loading the governed assets with getGovernedAssets and then passing the returned token on each later call.
+     *
+     * @param userId      - String - userId of user making request.
+     * @param changeToken - token returned by the previous call, or null
+     * @param maxCount    - maximum number of changes to examine, null or zero for the server's maximum page size
+     * @return changes with the token to use on the next call
+     */
+    public GovernedAssetChanges getGovernedAssetChanges(String userId, String changeToken, Integer maxCount)
+            throws InvalidParameterException {
+        String methodName = "getGovernedAssetChanges";
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        int validatedMaxCount = invalidParameterHandler.validatePaging(0, maxCount == null ? 0 : maxCount, methodName);
+
+        return changeJournal.getChangesSince(changeToken, validatedMaxCount);
+    }
+
+    /**
+     * Records a change to a governed asset so it is returned by getGovernedAssetChanges.
+     *
+     * @param changeType    - type of change
+     * @param assetGuid     - unique identifier of the asset
+     * @param governedAsset - latest content of the asset
+     */
+    public void recordGovernedAssetChange(GovernedAssetChangeType changeType, String assetGuid, GovernedAsset governedAsset) {
+        changeJournal.recordChange(changeType, assetGuid, governedAsset);
+    }
+
+    /**
+     * Returns whether the asset has been reported as a governed asset, by getGovernedAssets or a recorded change,
+     * and has not been removed since.
+     *
+     * @param assetGuid - unique identifier of the asset
+     * @return true if the asset has been reported as governed
+     */
+    public boolean isReportedGovernedAsset(String assetGuid) {
+        return changeJournal.isReportedAsset(assetGuid);
     }
 
     public GovernedAsset getGovernedAsset(String userId, String assedID)
@@ -6,6 +6,7 @@ import org.odpi.openmetadata.accessservices.governanceengine.api.events.Governan
 import org.odpi.openmetadata.accessservices.governanceengine.api.events.GovernanceEngineEventType;
 import org.odpi.openmetadata.accessservices.governanceengine.api.ffdc.errorcode.GovernanceEngineAuditCode;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAsset;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChangeType;
 import org.odpi.openmetadata.accessservices.governanceengine.server.admin.GovernanceEngineInstanceHandler;
 import org.odpi.openmetadata.accessservices.governanceengine.server.handlers.GovernedAssetHandler;
 import org.odpi.openmetadata.accessservices.governanceengine.server.publisher.GovernanceEnginePublisher;
@@ -29,8 +30,8 @@ import java.util.List;
 public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase {
 
     private static final Logger log = LoggerFactory.getLogger(GovernanceEngineOMRSTopicListener.class);
-    private static GovernanceEngineInstanceHandler instanceHandler = new GovernanceEngineInstanceHandler();
 
+    private final GovernanceEngineInstanceHandler instanceHandler;
     private OMRSRepositoryHelper      repositoryHelper;
     private OMRSRepositoryValidator   repositoryValidator;
     private String                    componentName;
@@ -47,14 +48,38 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase {
                                              String serverUserId,
                                              List<String> supportedZones,
                                              AuditLog auditLog) {
+        this(new GovernanceEngineInstanceHandler(), new GovernanceEnginePublisher(openMetadataTopicConnector, auditLog),
+             repositoryHelper, repositoryValidator, componentName, serverName, serverUserId, supportedZones, auditLog);
+    }
+
+    /**
+     * Constructor that supplies the instance handler and the publisher.
+     */
+    GovernanceEngineOMRSTopicListener(GovernanceEngineInstanceHandler instanceHandler,
+                                      GovernanceEnginePublisher publisher,
+                                      OMRSRepositoryHelper repositoryHelper,
+                                      OMRSRepositoryValidator repositoryValidator,
+                                      String componentName,
+                                      String serverName,
+                                      String serverUserId,
+                                      List<String> supportedZones,
+                                      AuditLog auditLog) {
         super(componentName, auditLog);
+        this.instanceHandler     = instanceHandler;
+        this.publisher           = publisher;
         this.repositoryHelper    = repositoryHelper;
         this.repositoryValidator = repositoryValidator;
         this.componentName       = componentName;
         this.serverName          = serverName;
         this.serverUserId        = serverUserId;
         this.supportedZones      = supportedZones;
-        publisher                = new GovernanceEnginePublisher(openMetadataTopicConnector, auditLog);
+    }
+
+    /**
+     * Send any events that are waiting for the out topic.
+     */
+    public void shutdown() {
+        publisher.disconnect();
     }
 
     /**
@@ -95,6 +120,11 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase {
         }
     }
 
+    /*
+     * Events are only published for schema elements.  The changes returned by getGovernedAssetChanges cover every
+     * entity with a governed classification since that is what getGovernedAssets returns.
+     */
+
     public void processClassifiedEntityEvent(OMRSInstanceEvent instanceEvent) {
         String methodName = "processClassifiedEntityEvent";
         EntityDetail entity = instanceEvent.getEntity();
@@ -103,13 +133,16 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase {
 
         try {
             GovernedAssetHandler governedAssetHandler = instanceHandler.getGovernedAssetHandler(serverUserId, serverName, methodName);
-            if (!governedAssetHandler.isSchemaElement(entity.getType()) || !governedAssetHandler.containsGovernedClassification(entity)) {
+            if (governedAssetHandler == null || !governedAssetHandler.containsGovernedClassification(entity)) {
                 logNoProcessEvent(eventTypeName, entity);
                 return;
             }
 
-            GovernanceEngineEvent governanceEngineEvent = getGovernanceEngineEvent(entity, GovernanceEngineEventType.NEW_CLASSIFIED_ASSET);
-            publisher.publishEvent(governanceEngineEvent);
+            GovernedAsset governedAsset = governedAssetHandler.convertGovernedAsset(serverUserId, entity);
+            if (governedAssetHandler.isSchemaElement(entity.getType())) {
+                publishEvent(governedAsset, GovernanceEngineEventType.NEW_CLASSIFIED_ASSET);
+            }
+            governedAssetHandler.recordGovernedAssetChange(GovernedAssetChangeType.ADDED, entity.getGUID(), governedAsset);
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             logExceptionToAudit(methodName, instanceEvent, e);
         }
@@ -123,14 +156,25 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase {
 
         try {
             GovernedAssetHandler governedAssetHandler = instanceHandler.getGovernedAssetHandler(serverUserId, serverName, methodName);
-            if (governedAssetHandler != null && !governedAssetHandler.isSchemaElement(entity.getType())) {
+            if (governedAssetHandler == null) {
                 logNoProcessEvent(eventTypeName, entity);
                 return;
             }
 
-            GovernanceEngineEvent governanceEngineEvent = getGovernanceEngineEvent(entity, GovernanceEngineEventType.RE_CLASSIFIED_ASSET);
-            publisher.publishEvent(governanceEngineEvent);
+            boolean schemaElement = governedAssetHandler.isSchemaElement(entity.getType());
+            boolean governed = governedAssetHandler.containsGovernedClassification(entity);
+            if (!schemaElement && !governed) {
+                logNoProcessEvent(eventTypeName, entity);
+                return;
+            }
 
+            GovernedAsset governedAsset = governedAssetHandler.convertGovernedAsset(serverUserId, entity);
+            if (schemaElement) {
+                publishEvent(governedAsset, GovernanceEngineEventType.RE_CLASSIFIED_ASSET);
+            }
+            if (governed) {
+                governedAssetHandler.recordGovernedAssetChange(GovernedAssetChangeType.UPDATED, entity.getGUID(), governedAsset);
+            }
         } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException e) {
             logExceptionToAudit(methodName, instanceEvent, e);
         }
@@ -146,14 +190,15 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase {
 
         try {
             GovernedAssetHandler governedAssetHandler = instanceHandler.getGovernedAssetHandler(serverUserId, serverName, methodName);
-            if (governedAssetHandler != null &&
-                    (!governedAssetHandler.isSchemaElement(entity.getType()) || !governedAssetHandler.containsGovernedClassification(entity))) {
+            if (governedAssetHandler == null || !governedAssetHandler.containsGovernedClassification(entity)) {
                 logNoProcessEvent(eventTypeName, entity);
                 return;
             }
 
-            GovernanceEngineEvent governanceEngineEvent = getGovernanceEngineEvent(entity, GovernanceEngineEventType.DELETED_ASSET);
-            publisher.publishEvent(governanceEngineEvent);
+            if (governedAssetHandler.isSchemaElement(entity.getType())) {
+                publishEvent(governedAssetHandler.convertGovernedAsset(serverUserId, entity), GovernanceEngineEventType.DELETED_ASSET);
+            }
+            governedAssetHandler.recordGovernedAssetChange(GovernedAssetChangeType.REMOVED, entity.getGUID(), null);
         } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException e) {
             logExceptionToAudit(methodName, instanceEvent, e);
         }
@@ -168,35 +213,57 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase {
 
         try {
             GovernedAssetHandler governedAssetHandler = instanceHandler.getGovernedAssetHandler(serverUserId, serverName, methodName);
+            if (governedAssetHandler == null) {
+                logNoProcessEvent(eventTypeName, entity);
+                return;
+            }
 
-            if (governedAssetHandler != null && !governedAssetHandler.isSchemaElement(entity.getType())) {
+            boolean schemaElement = governedAssetHandler.isSchemaElement(entity.getType());
+            boolean governed = governedAssetHandler.containsGovernedClassification(entity);
+            boolean wasGoverned = !governed && wasGovernedAsset(governedAssetHandler, instanceEvent.getOriginalEntity(), entity);
+            if (!schemaElement && !governed && !wasGoverned) {
                 logNoProcessEvent(eventTypeName, entity);
                 return;
             }
 
-            GovernanceEngineEvent governanceEngineEvent = getGovernanceEngineEvent(entity, GovernanceEngineEventType.DE_CLASSIFIED_ASSET);
-            publisher.publishEvent(governanceEngineEvent);
+            GovernedAsset governedAsset = null;
+            if (schemaElement || governed) {
+                governedAsset = governedAssetHandler.convertGovernedAsset(serverUserId, entity);
+            }
+            if (schemaElement) {
+                publishEvent(governedAsset, GovernanceEngineEventType.DE_CLASSIFIED_ASSET);
+            }
+
+            if (governed) {
+                governedAssetHandler.recordGovernedAssetChange(GovernedAssetChangeType.UPDATED, entity.getGUID(), governedAsset);
+            } else if (wasGoverned) {
+                governedAssetHandler.recordGovernedAssetChange(GovernedAssetChangeType.REMOVED, entity.getGUID(), null);
+            }
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             logExceptionToAudit(methodName, instanceEvent, e);
         }
 
     }
 
-    private GovernanceEngineEvent getGovernanceEngineEvent(EntityDetail entityDetail,
-                                                           GovernanceEngineEventType governanceEngineEventType) throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
-        String methodName = "getGovernanceEngineEvent";
-        GovernedAssetHandler governedAssetHandler = instanceHandler.getGovernedAssetHandler(serverUserId, serverName, methodName);
-
-        if (governedAssetHandler == null) {
-            return null;
+    /**
+     * Return whether the entity had a governed classification before a classification was removed.  The
+     * declassified entity event does not usually carry the original entity.  In that case the asset was governed if
+     * it has been reported as a governed asset since the governance engines can only hold the assets reported to them.
+     */
+    private boolean wasGovernedAsset(GovernedAssetHandler governedAssetHandler, EntityDetail originalEntity, EntityDetail entity) {
+        if (originalEntity != null) {
+            return governedAssetHandler.containsGovernedClassification(originalEntity);
         }
 
+        return governedAssetHandler.isReportedGovernedAsset(entity.getGUID());
+    }
+
+    private void publishEvent(GovernedAsset governedAsset, GovernanceEngineEventType governanceEngineEventType) {
         GovernanceEngineEvent governanceEvent = new GovernanceEngineEvent();
         governanceEvent.setEventType(governanceEngineEventType);
-        GovernedAsset governedAsset = governedAssetHandler.convertGovernedAsset(serverUserId, entityDetail);
         governanceEvent.setGovernedAsset(governedAsset);
 
-        return governanceEvent;
+        publisher.publishEvent(governanceEvent);
     }
 
     private void logEvent(String eventType, EntityDetail entityDetail) {
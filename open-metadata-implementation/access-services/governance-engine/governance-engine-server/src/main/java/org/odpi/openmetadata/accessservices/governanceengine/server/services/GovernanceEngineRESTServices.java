@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.governanceengine.server.services;
 
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChangesResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetListResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.SoftwareServerCapabilityRequestBody;
@@ -74,6 +75,39 @@ public class GovernanceEngineRESTServices {
         return response;
     }
 
+    /**
+     * Returns the changes to the governed assets since the change token
+     * <p>
+     * Governance engines load the governed assets once and then follow the additions, updates and removals
+     * instead of reloading all the governed assets.
+     *
+     * @param serverName  - name of the server that the request is for
+     * @param userId      - String - userId of user making request.
+     * @param changeToken - opaque token returned by the previous call, or null to start following the changes
+     * @param maxCount    - maximum number of changes to examine
+     * @return GovernedAssetChanges or
+     * InvalidParameterException - one of the parameters is null or invalid.
+     * PropertyServerException - there is a problem retrieving information from the property (metadata) handlers.
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    public GovernedAssetChangesResponse getGovernedAssetChanges(String serverName, String userId, String changeToken, Integer maxCount) {
+        String methodName = "getGovernedAssetChanges";
+
+        GovernedAssetChangesResponse response = new GovernedAssetChangesResponse();
+        try {
+            GovernedAssetHandler governedAssetHandler = instanceHandler.getGovernedAssetHandler(userId, serverName, methodName);
+            response.setGovernedAssetChanges(governedAssetHandler.getGovernedAssetChanges(userId, changeToken, maxCount));
+        } catch (InvalidParameterException e) {
+            restExceptionHandler.captureInvalidParameterException(response, e);
+        } catch (UserNotAuthorizedException e) {
+            restExceptionHandler.captureUserNotAuthorizedException(response, e);
+        } catch (PropertyServerException e) {
+            restExceptionHandler.capturePropertyServerException(response, e);
+        }
+
+        return response;
+    }
+
     /**
      * Returns a single governed asset
      * <p>
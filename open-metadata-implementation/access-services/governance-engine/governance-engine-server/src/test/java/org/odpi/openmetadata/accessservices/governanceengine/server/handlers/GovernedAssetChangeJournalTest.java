@@ -0,0 +1,190 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.governanceengine.server.handlers;
+
+import org.junit.Test;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAsset;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChange;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChangeType;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChanges;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class GovernedAssetChangeJournalTest {
+
+    private static final String COLUMN_A = "column-a-guid";
+    private static final String COLUMN_B = "column-b-guid";
+    private static final String COLUMN_C = "column-c-guid";
+
+    @Test
+    public void nullTokenRequiresResync() {
+        GovernedAssetChangeJournal journal = new GovernedAssetChangeJournal(10);
+        journal.recordChange(GovernedAssetChangeType.ADDED, COLUMN_A, mockGovernedAsset(COLUMN_A));
+
+        GovernedAssetChanges changes = journal.getChangesSince(null, 0);
+
+        assertTrue(changes.isResyncRequired());
+        assertTrue(changes.getChanges().isEmpty());
+        assertEquals(journal.getCurrentChangeToken(), changes.getChangeToken());
+    }
+
+    @Test
+    public void changesAreReturnedSinceToken() {
+        GovernedAssetChangeJournal journal = new GovernedAssetChangeJournal(10);
+        String token = journal.getChangesSince(null, 0).getChangeToken();
+
+        journal.recordChange(GovernedAssetChangeType.ADDED, COLUMN_A, mockGovernedAsset(COLUMN_A));
+        journal.recordChange(GovernedAssetChangeType.ADDED, COLUMN_B, mockGovernedAsset(COLUMN_B));
+
+        GovernedAssetChanges changes = journal.getChangesSince(token, 0);
+
+        assertFalse(changes.isResyncRequired());
+        assertFalse(changes.isMoreChanges());
+        assertEquals(2, changes.getChanges().size());
+        assertEquals(COLUMN_A, changes.getChanges().get(0).getAssetGuid());
+        assertEquals(COLUMN_B, changes.getChanges().get(1).getAssetGuid());
+
+        journal.recordChange(GovernedAssetChangeType.REMOVED, COLUMN_A, mockGovernedAsset(COLUMN_A));
+
+        GovernedAssetChanges nextChanges = journal.getChangesSince(changes.getChangeToken(), 0);
+
+        assertEquals(1, nextChanges.getChanges().size());
+        assertEquals(GovernedAssetChangeType.REMOVED, nextChanges.getChanges().get(0).getChangeType());
+        assertNull(nextChanges.getChanges().get(0).getGovernedAsset());
+
+        assertTrue(journal.getChangesSince(nextChanges.getChangeToken(), 0).getChanges().isEmpty());
+    }
+
+    @Test
+    public void latestChangeToEachAssetIsReturned() {
+        GovernedAssetChangeJournal journal = new GovernedAssetChangeJournal(10);
+        String token = journal.getCurrentChangeToken();
+
+        journal.recordChange(GovernedAssetChangeType.ADDED, COLUMN_A, mockGovernedAsset(COLUMN_A));
+        journal.recordChange(GovernedAssetChangeType.ADDED, COLUMN_B, mockGovernedAsset(COLUMN_B));
+        journal.recordChange(GovernedAssetChangeType.UPDATED, COLUMN_A, mockGovernedAsset(COLUMN_A));
+
+        GovernedAssetChanges changes = journal.getChangesSince(token, 0);
+
+        assertEquals(2, changes.getChanges().size());
+        assertEquals(COLUMN_B, changes.getChanges().get(0).getAssetGuid());
+        assertEquals(COLUMN_A, changes.getChanges().get(1).getAssetGuid());
+        assertEquals(GovernedAssetChangeType.UPDATED, changes.getChanges().get(1).getChangeType());
+    }
+
+    @Test
+    public void changesArePaged() {
+        GovernedAssetChangeJournal journal = new GovernedAssetChangeJournal(10);
+        String token = journal.getCurrentChangeToken();
+
+        journal.recordChange(GovernedAssetChangeType.ADDED, COLUMN_A, mockGovernedAsset(COLUMN_A));
+        journal.recordChange(GovernedAssetChangeType.ADDED, COLUMN_B, mockGovernedAsset(COLUMN_B));
+        journal.recordChange(GovernedAssetChangeType.ADDED, COLUMN_C, mockGovernedAsset(COLUMN_C));
+
+        GovernedAssetChanges firstPage = journal.getChangesSince(token, 2);
+
+        assertEquals(2, firstPage.getChanges().size());
+        assertTrue(firstPage.isMoreChanges());
+
+        GovernedAssetChanges secondPage = journal.getChangesSince(firstPage.getChangeToken(), 2);
+
+        assertEquals(1, secondPage.getChanges().size());
+        assertEquals(COLUMN_C, secondPage.getChanges().get(0).getAssetGuid());
+        assertFalse(secondPage.isMoreChanges());
+    }
+
+    @Test
+    public void expiredTokenRequiresResync() {
+        GovernedAssetChangeJournal journal = new GovernedAssetChangeJournal(2);
+        String token = journal.getCurrentChangeToken();
+
+        journal.recordChange(GovernedAssetChangeType.ADDED, COLUMN_A, mockGovernedAsset(COLUMN_A));
+        journal.recordChange(GovernedAssetChangeType.ADDED, COLUMN_B, mockGovernedAsset(COLUMN_B));
+
+        assertFalse(journal.getChangesSince(token, 0).isResyncRequired());
+
+        journal.recordChange(GovernedAssetChangeType.ADDED, COLUMN_C, mockGovernedAsset(COLUMN_C));
+
+        GovernedAssetChanges changes = journal.getChangesSince(token, 0);
+
+        assertTrue(changes.isResyncRequired());
+        assertEquals(journal.getCurrentChangeToken(), changes.getChangeToken());
+    }
+
+    @Test
+    public void tokenFromAnotherJournalRequiresResync() {
+        GovernedAssetChangeJournal journal = new GovernedAssetChangeJournal(10);
+        String token = new GovernedAssetChangeJournal(10).getCurrentChangeToken();
+
+        assertTrue(journal.getChangesSince(token, 0).isResyncRequired());
+        assertTrue(journal.getChangesSince("not-a-change-token", 0).isResyncRequired());
+    }
+
+    @Test
+    public void scriptedClassificationEventsMatchFullReload() {
+        GovernedAssetChangeJournal journal = new GovernedAssetChangeJournal(100);
+        Map<String, GovernedAsset> governedAssets = new HashMap<>();
+        Map<String, GovernedAsset> followedAssets = new HashMap<>();
+
+        String token = journal.getChangesSince(null, 0).getChangeToken();
+
+        for (int event = 0; event < 60; event++) {
+            String guid = "column-" + (event % 7) + "-guid";
+
+            if (event % 5 == 4) {
+                governedAssets.remove(guid);
+                journal.recordChange(GovernedAssetChangeType.REMOVED, guid, null);
+            } else {
+                GovernedAssetChangeType changeType = governedAssets.containsKey(guid) ? GovernedAssetChangeType.UPDATED : GovernedAssetChangeType.ADDED;
+                GovernedAsset governedAsset = mockGovernedAsset(guid);
+                governedAsset.setName("version-" + event);
+                governedAssets.put(guid, governedAsset);
+                journal.recordChange(changeType, guid, governedAsset);
+            }
+
+            if (event % 9 == 8) {
+                token = applyChanges(journal, token, followedAssets);
+            }
+        }
+        applyChanges(journal, token, followedAssets);
+
+        assertEquals(governedAssets.keySet(), followedAssets.keySet());
+        for (Map.Entry<String, GovernedAsset> governedAsset : governedAssets.entrySet()) {
+            assertEquals(governedAsset.getValue().getName(), followedAssets.get(governedAsset.getKey()).getName());
+        }
+    }
+
+    private String applyChanges(GovernedAssetChangeJournal journal, String token, Map<String, GovernedAsset> followedAssets) {
+        GovernedAssetChanges changes;
+        do {
+            changes = journal.getChangesSince(token, 3);
+            assertFalse(changes.isResyncRequired());
+            for (GovernedAssetChange change : changes.getChanges()) {
+                if (change.getChangeType() == GovernedAssetChangeType.REMOVED) {
+                    followedAssets.remove(change.getAssetGuid());
+                } else {
+                    assertNotNull(change.getGovernedAsset());
+                    followedAssets.put(change.getAssetGuid(), change.getGovernedAsset());
+                }
+            }
+            token = changes.getChangeToken();
+        } while (changes.isMoreChanges());
+
+        return token;
+    }
+
+    private GovernedAsset mockGovernedAsset(String guid) {
+        GovernedAsset governedAsset = new GovernedAsset();
+        governedAsset.setGuid(guid);
+        governedAsset.setType("RelationalColumn");
+
+        return governedAsset;
+    }
+}
@@ -0,0 +1,242 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.governanceengine.server.listeners;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.odpi.openmetadata.accessservices.governanceengine.api.events.GovernanceEngineEvent;
+import org.odpi.openmetadata.accessservices.governanceengine.api.events.GovernanceEngineEventType;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChange;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChangeType;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChanges;
+import org.odpi.openmetadata.accessservices.governanceengine.server.admin.GovernanceEngineInstanceHandler;
+import org.odpi.openmetadata.accessservices.governanceengine.server.handlers.GovernedAssetHandler;
+import org.odpi.openmetadata.accessservices.governanceengine.server.publisher.GovernanceEnginePublisher;
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryErrorHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.odpi.openmetadata.accessservices.governanceengine.server.util.Constants.SCHEMA_ATTRIBUTE;
+import static org.odpi.openmetadata.accessservices.governanceengine.server.util.Constants.SECURITY_TAG;
+
+public class GovernanceEngineOMRSTopicListenerTest {
+
+    private static final String SERVER_NAME = "test-server";
+    private static final String USER_ID = "test-user";
+    private static final String SCHEMA_ELEMENT = "TabularColumn";
+    private static final String ASSET = "Database";
+    private static final String ASSET_GUID = "asset-guid";
+
+    @Mock
+    private GovernanceEngineInstanceHandler instanceHandler;
+
+    @Mock
+    private GovernanceEnginePublisher publisher;
+
+    @Mock
+    private RepositoryHandler repositoryHandler;
+
+    @Mock
+    private OMRSRepositoryHelper repositoryHelper;
+
+    @Mock
+    private InvalidParameterHandler invalidParameterHandler;
+
+    @Mock
+    private RepositoryErrorHandler errorHandler;
+
+    @Mock
+    private AuditLog auditLog;
+
+    private GovernedAssetHandler governedAssetHandler;
+    private GovernanceEngineOMRSTopicListener listener;
+    private String changeToken;
+
+    @Before
+    public void before() throws Exception {
+        MockitoAnnotations.initMocks(this);
+
+        governedAssetHandler = new GovernedAssetHandler("GovernanceEngine", SERVER_NAME, invalidParameterHandler,
+                repositoryHandler, repositoryHelper, errorHandler, null);
+
+        when(instanceHandler.getGovernedAssetHandler(eq(USER_ID), eq(SERVER_NAME), anyString())).thenReturn(governedAssetHandler);
+        when(repositoryHelper.isTypeOf(SERVER_NAME, SCHEMA_ELEMENT, SCHEMA_ATTRIBUTE)).thenReturn(true);
+
+        listener = new GovernanceEngineOMRSTopicListener(instanceHandler, publisher, repositoryHelper, null,
+                "GovernanceEngine", SERVER_NAME, USER_ID, null, auditLog);
+
+        changeToken = governedAssetHandler.getGovernedAssetChanges(USER_ID, null, 0).getChangeToken();
+    }
+
+    @Test
+    public void classifiedAssetIsRecordedButNotPublished() throws Exception {
+        listener.processInstanceEvent(getEvent(OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT, null, getEntity(ASSET, SECURITY_TAG)));
+
+        List<GovernedAssetChange> changes = getChanges();
+
+        assertEquals(1, changes.size());
+        assertEquals(GovernedAssetChangeType.ADDED, changes.get(0).getChangeType());
+        assertEquals(ASSET_GUID, changes.get(0).getGovernedAsset().getGuid());
+        verify(publisher, never()).publishEvent(any());
+    }
+
+    @Test
+    public void classifiedSchemaElementIsPublishedAndRecorded() throws Exception {
+        listener.processInstanceEvent(getEvent(OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT, null, getEntity(SCHEMA_ELEMENT, SECURITY_TAG)));
+
+        ArgumentCaptor<GovernanceEngineEvent> event = ArgumentCaptor.forClass(GovernanceEngineEvent.class);
+        verify(publisher).publishEvent(event.capture());
+        assertEquals(GovernanceEngineEventType.NEW_CLASSIFIED_ASSET, event.getValue().getEventType());
+        assertEquals(ASSET_GUID, event.getValue().getGovernedAsset().getGuid());
+
+        List<GovernedAssetChange> changes = getChanges();
+
+        assertEquals(1, changes.size());
+        assertEquals(GovernedAssetChangeType.ADDED, changes.get(0).getChangeType());
+    }
+
+    @Test
+    public void otherClassificationIsNotRecorded() throws Exception {
+        listener.processInstanceEvent(getEvent(OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT, null, getEntity(ASSET, "Confidentiality")));
+
+        assertTrue(getChanges().isEmpty());
+    }
+
+    @Test
+    public void deletedAssetIsRemoved() throws Exception {
+        listener.processInstanceEvent(getEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, null, getEntity(ASSET, SECURITY_TAG)));
+
+        List<GovernedAssetChange> changes = getChanges();
+
+        assertEquals(1, changes.size());
+        assertEquals(GovernedAssetChangeType.REMOVED, changes.get(0).getChangeType());
+        verify(publisher, never()).publishEvent(any());
+    }
+
+    @Test
+    public void declassifiedAssetThatWasNotGovernedIsNotRemoved() throws Exception {
+        listener.processInstanceEvent(getEvent(OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT, null, getEntity(ASSET, null)));
+
+        assertTrue(getChanges().isEmpty());
+    }
+
+    @Test
+    public void declassifiedAssetReportedByChangeIsRemoved() throws Exception {
+        listener.processInstanceEvent(getEvent(OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT, null, getEntity(ASSET, SECURITY_TAG)));
+        listener.processInstanceEvent(getEvent(OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT, null, getEntity(ASSET, null)));
+
+        List<GovernedAssetChange> changes = getChanges();
+
+        assertEquals(1, changes.size());
+        assertEquals(GovernedAssetChangeType.REMOVED, changes.get(0).getChangeType());
+        assertNull(changes.get(0).getGovernedAsset());
+
+        /*
+         * Once removed, the asset is no longer governed so removing another classification is not a change.
+         */
+        listener.processInstanceEvent(getEvent(OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT, null, getEntity(ASSET, null)));
+
+        assertTrue(getChanges().isEmpty());
+    }
+
+    @Test
+    public void declassifiedAssetReportedByGetGovernedAssetsIsRemoved() throws Exception {
+        when(repositoryHandler.getEntitiesForClassificationType(USER_ID, null, SECURITY_TAG, 0, 10, "getGovernedAssets"))
+                .thenReturn(Collections.singletonList(getEntity(ASSET, SECURITY_TAG)));
+
+        assertEquals(1, governedAssetHandler.getGovernedAssets(USER_ID, null, 0, 10).size());
+
+        listener.processInstanceEvent(getEvent(OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT, null, getEntity(ASSET, null)));
+
+        List<GovernedAssetChange> changes = getChanges();
+
+        assertEquals(1, changes.size());
+        assertEquals(GovernedAssetChangeType.REMOVED, changes.get(0).getChangeType());
+    }
+
+    @Test
+    public void declassifiedAssetUsesOriginalEntity() throws Exception {
+        listener.processInstanceEvent(getEvent(OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                getEntity(ASSET, "Confidentiality"), getEntity(ASSET, null)));
+
+        assertTrue(getChanges().isEmpty());
+
+        listener.processInstanceEvent(getEvent(OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                getEntity(ASSET, SECURITY_TAG), getEntity(ASSET, null)));
+
+        List<GovernedAssetChange> changes = getChanges();
+
+        assertEquals(1, changes.size());
+        assertEquals(GovernedAssetChangeType.REMOVED, changes.get(0).getChangeType());
+    }
+
+    @Test
+    public void declassifiedSchemaElementIsPublished() throws Exception {
+        listener.processInstanceEvent(getEvent(OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT, null, getEntity(SCHEMA_ELEMENT, null)));
+
+        ArgumentCaptor<GovernanceEngineEvent> event = ArgumentCaptor.forClass(GovernanceEngineEvent.class);
+        verify(publisher).publishEvent(event.capture());
+        assertEquals(GovernanceEngineEventType.DE_CLASSIFIED_ASSET, event.getValue().getEventType());
+        assertTrue(getChanges().isEmpty());
+    }
+
+    private List<GovernedAssetChange> getChanges() throws Exception {
+        GovernedAssetChanges governedAssetChanges = governedAssetHandler.getGovernedAssetChanges(USER_ID, changeToken, 0);
+        changeToken = governedAssetChanges.getChangeToken();
+
+        return governedAssetChanges.getChanges();
+    }
+
+    private OMRSInstanceEvent getEvent(OMRSInstanceEventType eventType, EntityDetail originalEntity, EntityDetail entity) {
+        OMRSInstanceEvent instanceEvent = originalEntity == null ? new OMRSInstanceEvent(eventType, entity)
+                : new OMRSInstanceEvent(eventType, originalEntity, entity);
+        instanceEvent.setEventOriginator(new OMRSEventOriginator());
+
+        return instanceEvent;
+    }
+
+    private EntityDetail getEntity(String typeName, String classificationName) {
+        EntityDetail entityDetail = new EntityDetail();
+        entityDetail.setGUID(ASSET_GUID);
+        entityDetail.setType(getInstanceType(typeName));
+
+        if (classificationName != null) {
+            Classification classification = new Classification();
+            classification.setName(classificationName);
+            classification.setType(getInstanceType(classificationName));
+            entityDetail.setClassifications(Collections.singletonList(classification));
+        }
+
+        return entityDetail;
+    }
+
+    private InstanceType getInstanceType(String typeName) {
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName(typeName);
+
+        return instanceType;
+    }
+}
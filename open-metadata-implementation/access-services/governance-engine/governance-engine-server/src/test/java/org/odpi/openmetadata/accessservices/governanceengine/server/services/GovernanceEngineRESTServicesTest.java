@@ -33,6 +33,7 @@ public class GovernanceEngineRESTServicesTest {
     private static final Integer PAGE_SIZE = 100;
     private static final String SCHEMA_ELEMENT_GUID = "ababa-123-acbd";
     private static final String SOFTWARE_SERVER_CAPABILITY_GUID = "accbb-1234-abba";
+    private static final String CHANGE_TOKEN = "change-token";
 
     @Mock
     RESTExceptionHandler restExceptionHandler;
@@ -83,6 +84,28 @@ public class GovernanceEngineRESTServicesTest {
         assertEquals(response, governedAssets.getGovernedAssetList());
     }
 
+    @Test
+    public void testGetGovernedAssetChanges()
+            throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+
+        when(instanceHandler.getGovernedAssetHandler(USER,
+                SERVER_NAME,
+                "getGovernedAssetChanges"))
+                .thenReturn(governedAssetHandler);
+
+        GovernedAssetChanges response = new GovernedAssetChanges();
+        response.setChangeToken(CHANGE_TOKEN);
+        when(governedAssetHandler
+                .getGovernedAssetChanges(USER, CHANGE_TOKEN, PAGE_SIZE))
+                .thenReturn(response);
+
+        GovernedAssetChangesResponse governedAssetChanges = governanceEngineRESTServices.getGovernedAssetChanges(SERVER_NAME,
+                USER,
+                CHANGE_TOKEN,
+                PAGE_SIZE);
+        assertEquals(response, governedAssetChanges.getGovernedAssetChanges());
+    }
+
     @Test
     public void testGetGovernedAsset() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
 
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.accessservices.governanceengine.server.spring;
 
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetChangesResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetListResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAssetResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.SoftwareServerCapabilityRequestBody;
@@ -50,6 +51,28 @@ public class GovernanceEngineOMASResource {
         return restAPI.getGovernedAssets(serverName, userId, entityTypes, offset, pageSize);
     }
 
+    /**
+     * Returns the changes to the governed assets since the change token
+     * <p>
+     * A governance engine starts with no change token, loads the governed assets and then passes the returned
+     * token on each later call.  If resyncRequired is set in the response the governed assets must be reloaded.
+     *
+     * @param userId      - String - userId of user making request.
+     * @param changeToken - opaque token returned by the previous call
+     * @param maxCount    - maximum number of changes to examine
+     * @return GovernedAssetChanges or
+     * InvalidParameterException - one of the parameters is null or invalid.
+     * PropertyServerException - there is a problem retrieving information from the property (metadata) handlers.
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    @GetMapping(path = "/assets/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public GovernedAssetChangesResponse getGovernedAssetChanges(@PathVariable String serverName,
+                                                                @PathVariable String userId,
+                                                                @RequestParam(value = "changeToken", required = false) String changeToken,
+                                                                @RequestParam(value = "maxCount", required = false) Integer maxCount) {
+        return restAPI.getGovernedAssetChanges(serverName, userId, changeToken, maxCount);
+    }
+
     /**
      * Returns a single governed asset
      * <p>
@@ -23,6 +23,7 @@ public class SubjectAreaAdmin extends AccessServiceAdmin {
     private AuditLog auditLog = null;
     private SubjectAreaServicesInstance instance = null;
     private String serverName = null;
+    private SubjectAreaOMRSTopicListener omrsTopicListener = null;
 
     /**
      * Default constructor
@@ -63,8 +64,6 @@ public class SubjectAreaAdmin extends AccessServiceAdmin {
              * Only set up the listening and event publishing if requested in the config.
              */
             if (accessServiceConfig.getAccessServiceOutTopic() != null) {
-                SubjectAreaOMRSTopicListener omrsTopicListener;
-
                 omrsTopicListener = new SubjectAreaOMRSTopicListener(accessServiceConfig.getAccessServiceOutTopic(),
                                                                      repositoryConnector.getRepositoryHelper(),
                                                                      repositoryConnector.getRepositoryValidator(),
@@ -101,6 +100,10 @@ public class SubjectAreaAdmin extends AccessServiceAdmin {
     public void shutdown() {
         final String actionDescription = "shutdown";
 
+        if (omrsTopicListener != null) {
+            omrsTopicListener.shutdown();
+        }
+
         if (instance != null) {
             this.instance.shutdown();
         }
@@ -0,0 +1,119 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.handlers;
+
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GlossaryCache remembers the glossaries retrieved to build the glossary summaries of terms and categories.
+ * Many of the terms and categories returned by a find request are anchored to the same glossary so the glossary
+ * is retrieved once rather than once for each term or category.
+ * <p>
+ * Glossaries are remembered for each user so that a user only sees glossaries that the repository has
+ * returned to them.  Entries expire after a short time and are removed when the glossary is changed through
+ * the Subject Area OMAS.  When the cache is full, the least recently used glossary is forgotten.
+ * The cache is shared by the handlers of a server instance.
+ */
+public class GlossaryCache {
+    private static final long DEFAULT_TIME_TO_LIVE = 30 * 1000;
+    private static final int  DEFAULT_MAX_ENTRIES  = 1000;
+
+    private final long timeToLive;
+
+    private final Map<String, Map<String, CachedGlossary>> glossaries;
+
+    /**
+     * Default constructor
+     */
+    public GlossaryCache() {
+        this(DEFAULT_TIME_TO_LIVE, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param timeToLive number of milliseconds a glossary is remembered for (0 means glossaries are not remembered)
+     * @param maxEntries maximum number of glossaries to remember
+     */
+    public GlossaryCache(long timeToLive, int maxEntries) {
+        this.timeToLive = timeToLive;
+        this.glossaries = new LinkedHashMap<String, Map<String, CachedGlossary>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, CachedGlossary>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Return the glossary previously retrieved by this user.
+     *
+     * @param userId       user that retrieved the glossary
+     * @param glossaryGuid unique identifier of the glossary
+     * @return glossary or null if it is not known or has expired
+     */
+    Glossary get(String userId, String glossaryGuid) {
+        synchronized (glossaries) {
+            Map<String, CachedGlossary> userGlossaries = glossaries.get(glossaryGuid);
+            if (userGlossaries != null) {
+                CachedGlossary cachedGlossary = userGlossaries.get(userId);
+                if (cachedGlossary != null) {
+                    if (cachedGlossary.expiryTime > System.currentTimeMillis()) {
+                        return cachedGlossary.glossary;
+                    }
+                    userGlossaries.remove(userId);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remember a glossary retrieved by a user.
+     *
+     * @param userId       user that retrieved the glossary
+     * @param glossaryGuid unique identifier of the glossary
+     * @param glossary     glossary
+     */
+    void put(String userId, String glossaryGuid, Glossary glossary) {
+        if (timeToLive <= 0 || glossaryGuid == null || glossary == null) {
+            return;
+        }
+        synchronized (glossaries) {
+            glossaries.computeIfAbsent(glossaryGuid, guid -> new HashMap<>())
+                      .put(userId, new CachedGlossary(glossary, System.currentTimeMillis() + timeToLive));
+        }
+    }
+
+    /**
+     * Forget a glossary for all users because it has changed.
+     *
+     * @param glossaryGuid unique identifier of the glossary
+     */
+    void remove(String glossaryGuid) {
+        if (glossaryGuid != null) {
+            synchronized (glossaries) {
+                glossaries.remove(glossaryGuid);
+            }
+        }
+    }
+
+    /**
+     * CachedGlossary is a glossary and the time it should be retrieved again.
+     */
+    private static class CachedGlossary {
+        private final Glossary glossary;
+        private final long     expiryTime;
+
+        CachedGlossary(Glossary glossary, long expiryTime) {
+            this.glossary = glossary;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
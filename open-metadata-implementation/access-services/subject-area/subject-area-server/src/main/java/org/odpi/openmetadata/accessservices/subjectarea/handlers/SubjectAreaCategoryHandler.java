@@ -26,9 +26,12 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 
 /**
@@ -50,6 +53,17 @@ public class SubjectAreaCategoryHandler extends SubjectAreaHandler {
         super(oMRSAPIHelper);
     }
 
+    /**
+     * Construct the Subject Area Category Handler with the glossary cache shared by the handlers
+     * of a single server instance.
+     *
+     * @param oMRSAPIHelper           omrs API helper
+     * @param glossaryCache           cache of the glossaries used in glossary summaries
+     */
+    public SubjectAreaCategoryHandler(OMRSAPIHelper oMRSAPIHelper, GlossaryCache glossaryCache) {
+        super(oMRSAPIHelper, glossaryCache);
+    }
+
     /**
      * Create a Category. There is specialization of a Category that can also be created using this operation.
      * To create this specialization, you should specify a nodeType other than Category in the supplied category.
@@ -188,8 +202,8 @@ public class SubjectAreaCategoryHandler extends SubjectAreaHandler {
             List<Category> foundCategories = findEntities(userId, CATEGORY_TYPE_NAME, findRequest, CategoryMapper.class, methodName);
 
             if (foundCategories != null) {
+                setGlossaries(userId, foundCategories, methodName);
                 for (Category category : foundCategories) {
-                    setGlossary(userId, category, methodName);
                     setParentCategory(userId, category, methodName);
                     response.addResult(category);
                 }
@@ -206,20 +220,23 @@ public class SubjectAreaCategoryHandler extends SubjectAreaHandler {
                                                                                          UserNotAuthorizedException,
                                                                                          InvalidParameterException
     {
-        final String guid = category.getSystemAttributes().getGUID();
-        List<Relationship> relationships = oMRSAPIHelper.getRelationshipsByType(userId, guid, CATEGORY_TYPE_NAME, CATEGORY_ANCHOR_RELATIONSHIP_NAME, methodName);
-        if (CollectionUtils.isNotEmpty(relationships)) {
-            for (Relationship relationship : relationships) {
-                CategoryAnchorMapper categotyAnchorMapper = mappersFactory.get(CategoryAnchorMapper.class);
-                CategoryAnchor termAnchor = categotyAnchorMapper.map(relationship);
-                GlossarySummary glossarySummary = getGlossarySummary(methodName, userId, termAnchor);
-                if (glossarySummary != null) {
-                    category.setGlossary(glossarySummary);
-                    break;
-                }
+        setGlossaries(userId, Collections.singletonList(category), methodName);
+    }
+
+    private void setGlossaries(String userId, List<Category> categories, String methodName) throws SubjectAreaCheckedException,
+                                                                                                   PropertyServerException,
+                                                                                                   UserNotAuthorizedException,
+                                                                                                   InvalidParameterException
+    {
+        List<String> guids = categories.stream().map(category -> category.getSystemAttributes().getGUID()).collect(Collectors.toList());
+        Map<String, GlossarySummary> glossarySummaries = getGlossarySummaries(methodName, userId, guids, CATEGORY_TYPE_NAME, CATEGORY_ANCHOR_RELATIONSHIP_NAME);
+        for (Category category : categories) {
+            GlossarySummary glossarySummary = glossarySummaries.get(category.getSystemAttributes().getGUID());
+            if (glossarySummary != null) {
+                category.setGlossary(glossarySummary);
             }
         }
-        // return the Term without a Glossary summary as we have not got one.
+        // categories without an anchoring glossary are returned without a Glossary summary.
     }
 
 
@@ -43,6 +43,17 @@ public class SubjectAreaGlossaryHandler extends SubjectAreaHandler {
         super(oMRSAPIHelper);
     }
 
+    /**
+     * Construct the Subject Area Glossary Handler with the glossary cache shared by the handlers
+     * of a single server instance.
+     *
+     * @param oMRSAPIHelper           omrs API helper
+     * @param glossaryCache           cache of the glossaries used in glossary summaries
+     */
+    public SubjectAreaGlossaryHandler(OMRSAPIHelper oMRSAPIHelper, GlossaryCache glossaryCache) {
+        super(oMRSAPIHelper, glossaryCache);
+    }
+
     /**
      * Create a Glossary. There are specializations of glossaries that can also be created using this operation.
      * To create a specialization, you should specify a nodeType other than Glossary in the supplied glossary.
@@ -224,6 +235,7 @@ public class SubjectAreaGlossaryHandler extends SubjectAreaHandler {
                 EntityDetail entityDetail = glossaryMapper.map(currentGlossary);
                 final String glossaryGuid = entityDetail.getGUID();
                 oMRSAPIHelper.callOMRSUpdateEntity(methodName, userId, entityDetail);
+                glossaryCache.remove(glossaryGuid);
                 response = getGlossaryByGuid(userId, glossaryGuid);
             }
         } catch (SubjectAreaCheckedException | PropertyServerException | UserNotAuthorizedException e) {
@@ -294,11 +306,13 @@ public class SubjectAreaGlossaryHandler extends SubjectAreaHandler {
         try {
             if (isPurge) {
                 oMRSAPIHelper.callOMRSPurgeEntity(methodName, userId, GLOSSARY_TYPE_NAME, guid);
+                glossaryCache.remove(guid);
             } else {
                 // if this is a not a purge then attempt to get terms and categories, as we should not delete if there are any
                 List<String> relationshipTypeNames = Arrays.asList(TERM_ANCHOR_RELATIONSHIP_NAME, CATEGORY_ANCHOR_RELATIONSHIP_NAME);
                 if (oMRSAPIHelper.isEmptyContent(relationshipTypeNames, userId, guid, GLOSSARY_TYPE_NAME, methodName)) {
                     oMRSAPIHelper.callOMRSDeleteEntity(methodName, userId, GLOSSARY_TYPE_NAME, guid);
+                    glossaryCache.remove(guid);
                 } else {
                     throw new EntityNotDeletedException(SubjectAreaErrorCode.GLOSSARY_CONTENT_PREVENTED_DELETE.getMessageDefinition(guid),
                             className,
@@ -334,6 +348,7 @@ public class SubjectAreaGlossaryHandler extends SubjectAreaHandler {
         SubjectAreaOMASAPIResponse<Glossary> response = new SubjectAreaOMASAPIResponse<>();
         try {
             this.oMRSAPIHelper.callOMRSRestoreEntity(methodName, userId, guid);
+            glossaryCache.remove(guid);
             response = getGlossaryByGuid(userId, guid);
         } catch (UserNotAuthorizedException | SubjectAreaCheckedException | PropertyServerException e) {
             response.setExceptionInfo(e, className);
@@ -51,6 +51,7 @@ public abstract class SubjectAreaHandler {
 
     protected final MappersFactory mappersFactory;
     protected final OMRSAPIHelper oMRSAPIHelper;
+    protected final GlossaryCache glossaryCache;
 
     /**
      * Construct the Subject Area Project Handler
@@ -59,8 +60,20 @@ public abstract class SubjectAreaHandler {
      * @param oMRSAPIHelper           omrs API helper
      */
     public SubjectAreaHandler(OMRSAPIHelper oMRSAPIHelper) {
+        this(oMRSAPIHelper, new GlossaryCache());
+    }
+
+    /**
+     * Construct the Subject Area Handler with a glossary cache shared with the other handlers
+     * of a single server instance.
+     *
+     * @param oMRSAPIHelper           omrs API helper
+     * @param glossaryCache           cache of the glossaries used in glossary summaries
+     */
+    public SubjectAreaHandler(OMRSAPIHelper oMRSAPIHelper, GlossaryCache glossaryCache) {
         this.oMRSAPIHelper = oMRSAPIHelper;
         this.mappersFactory = new MappersFactory(oMRSAPIHelper);
+        this.glossaryCache = glossaryCache;
     }
 
     /**
@@ -82,10 +95,8 @@ public abstract class SubjectAreaHandler {
                                                          SubjectAreaCheckedException
     {
         String guid = SubjectAreaUtils.getGlossaryGuidFromAnchor(line);
-        Optional<EntityDetail> entityDetail = oMRSAPIHelper.callOMRSGetEntityByGuid(userId, guid, GLOSSARY_TYPE_NAME, restAPIName);
-        if (entityDetail.isPresent()) {
-            GlossaryMapper glossaryMapper = mappersFactory.get(GlossaryMapper.class);
-            Glossary glossary = glossaryMapper.map(entityDetail.get());
+        Glossary glossary = getGlossary(restAPIName, userId, guid);
+        if (glossary != null) {
             // TODO sort out icons
             return SubjectAreaUtils.extractGlossarySummaryFromGlossary(glossary, line);
         }
@@ -93,6 +104,96 @@ public abstract class SubjectAreaHandler {
         return null;
     }
 
+    /**
+     * Get the glossary summaries for a list of terms or categories.  The anchor relationships of all the nodes are
+     * retrieved first so that each glossary is retrieved once, however many of the nodes it anchors.
+     *
+     * @param restAPIName rest API Name
+     * @param userId userid under which to issue the requests
+     * @param nodeGuids unique identifiers of the terms or categories
+     * @param nodeTypeName type name of the terms or categories
+     * @param anchorRelationshipName name of the anchor relationship ({@link TermAnchor} or {@link CategoryAnchor})
+     * @return map from node guid to glossary summary - nodes without an anchoring glossary are not included
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the entities.
+     * @throws SubjectAreaCheckedException standard exception Subject Area OMAS services
+     */
+    Map<String, GlossarySummary> getGlossarySummaries(String restAPIName,
+                                                      String userId,
+                                                      List<String> nodeGuids,
+                                                      String nodeTypeName,
+                                                      String anchorRelationshipName) throws UserNotAuthorizedException,
+                                                                                            PropertyServerException,
+                                                                                            InvalidParameterException,
+                                                                                            SubjectAreaCheckedException
+    {
+        Map<String, List<Line>> anchorsByNode = new HashMap<>();
+        Set<String> glossaryGuids = new LinkedHashSet<>();
+        for (String nodeGuid : nodeGuids) {
+            List<Relationship> relationships = oMRSAPIHelper.getRelationshipsByType(userId, nodeGuid, nodeTypeName, anchorRelationshipName, restAPIName);
+            List<Line> anchors = getLinesFromRelationships(relationships);
+            for (Line anchor : anchors) {
+                glossaryGuids.add(SubjectAreaUtils.getGlossaryGuidFromAnchor(anchor));
+            }
+            anchorsByNode.put(nodeGuid, anchors);
+        }
+
+        Map<String, Glossary> glossaries = new HashMap<>();
+        for (String glossaryGuid : glossaryGuids) {
+            Glossary glossary = getGlossary(restAPIName, userId, glossaryGuid);
+            if (glossary != null) {
+                glossaries.put(glossaryGuid, glossary);
+            }
+        }
+
+        Map<String, GlossarySummary> glossarySummaries = new HashMap<>();
+        for (Map.Entry<String, List<Line>> nodeAnchors : anchorsByNode.entrySet()) {
+            for (Line anchor : nodeAnchors.getValue()) {
+                Glossary glossary = glossaries.get(SubjectAreaUtils.getGlossaryGuidFromAnchor(anchor));
+                if (glossary != null) {
+                    glossarySummaries.put(nodeAnchors.getKey(), SubjectAreaUtils.extractGlossarySummaryFromGlossary(glossary, anchor));
+                    break;
+                }
+            }
+        }
+
+        return glossarySummaries;
+    }
+
+    /**
+     * Get a glossary, using the glossary cache if this user has retrieved it recently.
+     *
+     * @param restAPIName rest API Name
+     * @param userId userid under which to issue to the get of the glossary
+     * @param glossaryGuid unique identifier of the glossary
+     * @return glossary or null if it does not exist
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the entity.
+     * @throws SubjectAreaCheckedException standard exception Subject Area OMAS services
+     */
+    private Glossary getGlossary(String restAPIName,
+                                 String userId,
+                                 String glossaryGuid) throws UserNotAuthorizedException,
+                                                             PropertyServerException,
+                                                             InvalidParameterException,
+                                                             SubjectAreaCheckedException
+    {
+        Glossary glossary = glossaryCache.get(userId, glossaryGuid);
+        if (glossary == null) {
+            Optional<EntityDetail> entityDetail = oMRSAPIHelper.callOMRSGetEntityByGuid(userId, glossaryGuid, GLOSSARY_TYPE_NAME, restAPIName);
+            if (entityDetail.isPresent()) {
+                GlossaryMapper glossaryMapper = mappersFactory.get(GlossaryMapper.class);
+                glossary = glossaryMapper.map(entityDetail.get());
+                glossaryCache.put(userId, glossaryGuid, glossary);
+            }
+        }
+        return glossary;
+    }
+
     protected <T extends Node>List<T> findEntities(String userId,
                                                    String typeEntityName,
                                                    FindRequest findRequest,
@@ -25,8 +25,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -49,6 +51,17 @@ public class SubjectAreaTermHandler extends SubjectAreaHandler {
         super(oMRSAPIHelper);
     }
 
+    /**
+     * Construct the Subject Area Term Handler with the glossary cache shared by the handlers
+     * of a single server instance.
+     *
+     * @param oMRSAPIHelper           omrs API helper
+     * @param glossaryCache           cache of the glossaries used in glossary summaries
+     */
+    public SubjectAreaTermHandler(OMRSAPIHelper oMRSAPIHelper, GlossaryCache glossaryCache) {
+        super(oMRSAPIHelper, glossaryCache);
+    }
+
     /**
      * Create a Term. There are specializations of terms that can also be created using this operation.
      * To create a specialization, you should specify a nodeType other than Term in the supplied term.
@@ -175,10 +188,8 @@ public class SubjectAreaTermHandler extends SubjectAreaHandler {
         try {
             List<Term> foundTerms = findEntities(userId, TERM_TYPE_NAME, findRequest, TermMapper.class, methodName);
             if (foundTerms != null) {
-                for (Term term : foundTerms) {
-                    setGlossary(userId, term, methodName);
-                    response.addResult(term);
-                }
+                setGlossaries(userId, foundTerms, methodName);
+                response.addAllResults(foundTerms);
             } else {
                 return response;
             }
@@ -194,17 +205,20 @@ public class SubjectAreaTermHandler extends SubjectAreaHandler {
                                                                                  UserNotAuthorizedException,
                                                                                  InvalidParameterException
     {
-        final String guid = term.getSystemAttributes().getGUID();
-        List<Relationship> relationships = oMRSAPIHelper.getRelationshipsByType(userId, guid, TERM_TYPE_NAME, TERM_ANCHOR_RELATIONSHIP_NAME, methodName);
-        if (CollectionUtils.isNotEmpty(relationships)) {
-            for (Relationship relationship : relationships) {
-                TermAnchorMapper termAnchorMapper = mappersFactory.get(TermAnchorMapper.class);
-                TermAnchor termAnchor = termAnchorMapper.map(relationship);
-                GlossarySummary glossarySummary = getGlossarySummary(methodName, userId, termAnchor);
-                if (glossarySummary != null) {
-                    term.setGlossary(glossarySummary);
-                    break;
-                }
+        setGlossaries(userId, Collections.singletonList(term), methodName);
+    }
+
+    private void setGlossaries(String userId, List<Term> terms, String methodName) throws SubjectAreaCheckedException,
+                                                                                          PropertyServerException,
+                                                                                          UserNotAuthorizedException,
+                                                                                          InvalidParameterException
+    {
+        List<String> guids = terms.stream().map(term -> term.getSystemAttributes().getGUID()).collect(Collectors.toList());
+        Map<String, GlossarySummary> glossarySummaries = getGlossarySummaries(methodName, userId, guids, TERM_TYPE_NAME, TERM_ANCHOR_RELATIONSHIP_NAME);
+        for (Term term : terms) {
+            GlossarySummary glossarySummary = glossarySummaries.get(term.getSystemAttributes().getGUID());
+            if (glossarySummary != null) {
+                term.setGlossary(glossarySummary);
             }
         }
     }
@@ -53,6 +53,14 @@ public class SubjectAreaOMRSTopicListener extends OMRSTopicListenerBase {
     }
 
 
+    /**
+     * Send any events that are waiting for the out topic and disconnect from it.
+     */
+    public void shutdown() {
+        publisher.disconnect();
+    }
+
+
     /**
      * Method to pass a Registry event received on topic.
      *
@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.subjectarea.outtopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.events.SubjectAreaEvent;
 import org.odpi.openmetadata.accessservices.subjectarea.ffdc.SubjectAreaErrorCode;
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
@@ -11,6 +10,7 @@ import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,13 +18,15 @@ import org.slf4j.LoggerFactory;
 /**
  * SubjectAreaPublisher is responsible for publishing org.odpi.openmetadata.accessservices.subjectarea.common.events about glossary artifacts.  It is called
  * when an interesting OMRS Event is added to the Enterprise OMRS Topic.  It adds org.odpi.openmetadata.accessservices.subjectarea.common.events to the Subject Area OMAS
- * out topic.
+ * out topic.  The events are sent to the out topic by a background thread.
  */
-public class SubjectAreaPublisher
+public class SubjectAreaPublisher extends OpenMetadataTopicPublisher
 {
     private static final Logger log = LoggerFactory.getLogger(SubjectAreaPublisher.class);
 
-    private OpenMetadataTopicConnector connector = null;
+    private static final String PUBLISHER_NAME = "Subject Area OMAS Out Topic";
+
+    private OpenMetadataTopicConnector connector;
 
 
     /**
@@ -38,9 +40,61 @@ public class SubjectAreaPublisher
     public SubjectAreaPublisher(Connection subjectAreaOutTopic,
                                AuditLog auditLog) throws OMAGConfigurationErrorException
     {
-        if (subjectAreaOutTopic != null)
+        this(getTopicConnector(subjectAreaOutTopic, auditLog), auditLog);
+    }
+
+
+    /**
+     * Pass the topic connector to the publisher base class.
+     *
+     * @param connector connector for the out topic or null if there is no out topic
+     * @param auditLog log file for the connector.
+     */
+    private SubjectAreaPublisher(OpenMetadataTopicConnector connector,
+                                 AuditLog                   auditLog)
+    {
+        super(PUBLISHER_NAME, connector, auditLog);
+
+        this.connector = connector;
+    }
+
+
+    /**
+     * Output a subject area event.
+     *
+     * @param event event to send
+     */
+    public void publishSubjectAreaEvent(SubjectAreaEvent event)
+    {
+        try
+        {
+            super.publishEvent(event);
+        }
+        catch (Throwable  error)
+        {
+            log.error("Unable to publish subject area event: " + event + "; error was " + error.toString());
+        }
+    }
+
+
+    /**
+     * Send any queued events and then disconnect the topic connector.
+     */
+    @Override
+    public void disconnect()
+    {
+        super.disconnect();
+
+        if (connector != null)
         {
-            connector = this.getTopicConnector(subjectAreaOutTopic, auditLog);
+            try
+            {
+                connector.disconnect();
+            }
+            catch (Throwable  error)
+            {
+                log.error("Unable to disconnect out topic connector: " + error.toString());
+            }
         }
     }
 
@@ -139,12 +193,17 @@ public class SubjectAreaPublisher
      *
      * @param topicConnection connection to create the connector
      * @param auditLog audit log for the connector
-     * @return open metadata topic connector
+     * @return open metadata topic connector or null if there is no connection
      * @throws OMAGConfigurationErrorException problems creating the connector for the outTopic
      */
-    private OpenMetadataTopicConnector getTopicConnector(Connection  topicConnection,
-                                                         AuditLog    auditLog) throws OMAGConfigurationErrorException
+    private static OpenMetadataTopicConnector getTopicConnector(Connection  topicConnection,
+                                                                AuditLog    auditLog) throws OMAGConfigurationErrorException
     {
+        if (topicConnection == null)
+        {
+            return null;
+        }
+
         try
         {
             ConnectorBroker connectorBroker = new ConnectorBroker();
@@ -167,43 +226,9 @@ public class SubjectAreaPublisher
             throw new OMAGConfigurationErrorException(SubjectAreaErrorCode.BAD_OUT_TOPIC_CONNECTION.getMessageDefinition(topicConnection.toString(),
                                                                                                                          error.getClass().getName(),
                                                                                                                          error.getMessage()),
-                                                      this.getClass().getName(),
+                                                      SubjectAreaPublisher.class.getName(),
                                                       methodName,
                                                       error);
         }
     }
-
-
-    /**
-     * Return the event as a String where the field contents are encoded in JSON.   The event beans
-     * contain annotations that mean the whole event, down to the lowest subclass, is serialized.
-     *
-     * @param event event to serialize
-     * @return JSON payload (as String)
-     */
-    private String getJSONPayload(SubjectAreaEvent event)
-    {
-        ObjectMapper objectMapper = new ObjectMapper();
-        String       jsonString   = null;
-
-        /*
-         * This class
-         */
-        try
-        {
-            jsonString = objectMapper.writeValueAsString(event);
-        }
-        catch (Throwable  error)
-        {
-            log.error("Unable to create event payload: " + error.toString());
-        }
-
-        return jsonString;
-    }
-
-
-
-
-
 }
-
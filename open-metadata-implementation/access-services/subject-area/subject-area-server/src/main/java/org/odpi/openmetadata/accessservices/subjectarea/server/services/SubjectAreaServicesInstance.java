@@ -61,11 +61,13 @@ public class SubjectAreaServicesInstance extends OCFOMASServiceInstance
                 );
             }
 
-            this.glossaryHandler= new SubjectAreaGlossaryHandler(oMRSAPIHelper);
+            GlossaryCache glossaryCache = new GlossaryCache();
 
-            this.termHandler= new SubjectAreaTermHandler(oMRSAPIHelper);
+            this.glossaryHandler= new SubjectAreaGlossaryHandler(oMRSAPIHelper, glossaryCache);
 
-            this.categoryHandler= new SubjectAreaCategoryHandler(oMRSAPIHelper);
+            this.termHandler= new SubjectAreaTermHandler(oMRSAPIHelper, glossaryCache);
+
+            this.categoryHandler= new SubjectAreaCategoryHandler(oMRSAPIHelper, glossaryCache);
 
             this.projectHandler= new SubjectAreaProjectHandler(oMRSAPIHelper);
 
@@ -0,0 +1,95 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.handlers;
+
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Test the glossary cache used to build glossary summaries
+ */
+public class TestGlossaryCache
+{
+    private static final String GLOSSARY_GUID = "glossary-guid";
+    private static final String USER1         = "user1";
+    private static final String USER2         = "user2";
+
+    @Test
+    public void testGlossaryKeptPerUser()
+    {
+        GlossaryCache glossaryCache = new GlossaryCache(60000, 10);
+        Glossary      glossary      = getGlossary();
+
+        glossaryCache.put(USER1, GLOSSARY_GUID, glossary);
+
+        assertSame(glossaryCache.get(USER1, GLOSSARY_GUID), glossary);
+        assertNull(glossaryCache.get(USER2, GLOSSARY_GUID));
+        assertNull(glossaryCache.get(USER1, "other-guid"));
+    }
+
+    @Test
+    public void testRemoveForgetsGlossaryForAllUsers()
+    {
+        GlossaryCache glossaryCache = new GlossaryCache(60000, 10);
+
+        glossaryCache.put(USER1, GLOSSARY_GUID, getGlossary());
+        glossaryCache.put(USER2, GLOSSARY_GUID, getGlossary());
+
+        glossaryCache.remove(GLOSSARY_GUID);
+
+        assertNull(glossaryCache.get(USER1, GLOSSARY_GUID));
+        assertNull(glossaryCache.get(USER2, GLOSSARY_GUID));
+    }
+
+    @Test
+    public void testExpiry() throws Exception
+    {
+        GlossaryCache glossaryCache = new GlossaryCache(1, 10);
+
+        glossaryCache.put(USER1, GLOSSARY_GUID, getGlossary());
+        Thread.sleep(10);
+
+        assertNull(glossaryCache.get(USER1, GLOSSARY_GUID));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedGlossaryIsEvicted()
+    {
+        GlossaryCache glossaryCache = new GlossaryCache(60000, 2);
+        Glossary      glossary1     = getGlossary();
+        Glossary      glossary2     = getGlossary();
+        Glossary      glossary3     = getGlossary();
+
+        glossaryCache.put(USER1, "guid1", glossary1);
+        glossaryCache.put(USER1, "guid2", glossary2);
+
+        assertSame(glossaryCache.get(USER1, "guid1"), glossary1);
+
+        glossaryCache.put(USER1, "guid3", glossary3);
+
+        assertSame(glossaryCache.get(USER1, "guid1"), glossary1);
+        assertNull(glossaryCache.get(USER1, "guid2"));
+        assertSame(glossaryCache.get(USER1, "guid3"), glossary3);
+    }
+
+    @Test
+    public void testZeroTimeToLiveDisablesCache()
+    {
+        GlossaryCache glossaryCache = new GlossaryCache(0, 10);
+
+        glossaryCache.put(USER1, GLOSSARY_GUID, getGlossary());
+
+        assertNull(glossaryCache.get(USER1, GLOSSARY_GUID));
+    }
+
+    private static Glossary getGlossary()
+    {
+        Glossary glossary = new Glossary();
+        glossary.setName("Test Glossary");
+
+        return glossary;
+    }
+}
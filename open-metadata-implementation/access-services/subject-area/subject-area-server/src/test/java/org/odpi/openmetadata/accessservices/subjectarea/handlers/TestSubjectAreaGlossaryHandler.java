@@ -0,0 +1,87 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.handlers;
+
+import org.odpi.openmetadata.accessservices.subjectarea.ffdc.SubjectAreaErrorCode;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
+import org.odpi.openmetadata.accessservices.subjectarea.utilities.OMRSAPIHelper;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Test that the glossary handler only forgets a cached glossary once it has been deleted
+ */
+public class TestSubjectAreaGlossaryHandler
+{
+    private static final String GLOSSARY_GUID = "glossary-guid";
+    private static final String USER_ID       = "user1";
+
+    private OMRSAPIHelper              oMRSAPIHelper;
+    private GlossaryCache              glossaryCache;
+    private SubjectAreaGlossaryHandler glossaryHandler;
+    private Glossary                   glossary;
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        oMRSAPIHelper = mock(OMRSAPIHelper.class);
+        glossaryCache = new GlossaryCache(60000, 10);
+        glossaryHandler = new SubjectAreaGlossaryHandler(oMRSAPIHelper, glossaryCache);
+
+        glossary = new Glossary();
+        glossary.setName("Test Glossary");
+        glossaryCache.put(USER_ID, GLOSSARY_GUID, glossary);
+
+        when(oMRSAPIHelper.isEmptyContent(any(), anyString(), anyString(), anyString(), anyString())).thenReturn(true);
+    }
+
+    @Test
+    public void testSuccessfulDeleteEvicts()
+    {
+        assertNull(glossaryHandler.deleteGlossary(USER_ID, GLOSSARY_GUID, false).getExceptionClassName());
+        assertNull(glossaryCache.get(USER_ID, GLOSSARY_GUID));
+    }
+
+    @Test
+    public void testSuccessfulPurgeEvicts()
+    {
+        assertNull(glossaryHandler.deleteGlossary(USER_ID, GLOSSARY_GUID, true).getExceptionClassName());
+
+        assertNull(glossaryCache.get(USER_ID, GLOSSARY_GUID));
+    }
+
+    @Test
+    public void testFailedDeleteKeepsGlossary() throws Exception
+    {
+        doThrow(getError()).when(oMRSAPIHelper).callOMRSDeleteEntity(anyString(), anyString(), anyString(), anyString());
+
+        assertNotNull(glossaryHandler.deleteGlossary(USER_ID, GLOSSARY_GUID, false).getExceptionClassName());
+        assertSame(glossaryCache.get(USER_ID, GLOSSARY_GUID), glossary);
+    }
+
+    @Test
+    public void testDeletePreventedByContentKeepsGlossary() throws Exception
+    {
+        when(oMRSAPIHelper.isEmptyContent(any(), anyString(), anyString(), anyString(), anyString())).thenReturn(false);
+
+        assertNotNull(glossaryHandler.deleteGlossary(USER_ID, GLOSSARY_GUID, false).getExceptionClassName());
+        assertSame(glossaryCache.get(USER_ID, GLOSSARY_GUID), glossary);
+    }
+
+    private PropertyServerException getError()
+    {
+        return new PropertyServerException(SubjectAreaErrorCode.GLOSSARY_CONTENT_PREVENTED_DELETE.getMessageDefinition(GLOSSARY_GUID),
+                                           this.getClass().getName(),
+                                           "deleteGlossary");
+    }
+}
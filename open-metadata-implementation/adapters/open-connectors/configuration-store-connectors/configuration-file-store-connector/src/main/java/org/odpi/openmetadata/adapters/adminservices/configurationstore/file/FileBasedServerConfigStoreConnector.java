@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.adminservices.configurationstore.file;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.connectors.ReusableConnector;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,7 +16,12 @@ import org.apache.commons.io.FileUtils;
 import java.io.File;
 import java.io.IOException;
 
-public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreConnectorBase
+/**
+ * FileBasedServerConfigStoreConnector stores each server's configuration document in a file.  It holds no state
+ * beyond the file name, which is worked out again each time the connector is started for a server, so the admin
+ * services lease it from a connector pool.
+ */
+public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreConnectorBase implements ReusableConnector
 {
     /*
      * This is the name of the configuration file that is used if there is no file name in the connection.
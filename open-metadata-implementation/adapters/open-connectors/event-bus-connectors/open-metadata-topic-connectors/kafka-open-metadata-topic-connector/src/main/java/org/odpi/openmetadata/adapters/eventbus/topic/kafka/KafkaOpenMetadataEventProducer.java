@@ -5,6 +5,7 @@ package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.errors.RetriableException;
 import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -14,6 +15,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * KafkaOpenMetadataEventProducer manages the sending of events on Apache Kafka.  This is done through called to
@@ -22,10 +25,14 @@ import java.util.concurrent.ExecutionException;
  * Kafka is not always running.  When this occurs, the call to publish events hangs and this is disruptive to the
  * rest of the server.  So the role of this class is to manage the sending of events in a separate thread
  * and manage the logging of errors to alert the operations team that Kafka needs restarting.
+ *
+ * By default each event is sent and acknowledged before the next is sent.  In high throughput mode the events are
+ * passed to Kafka without waiting so that Kafka can batch them, up to a maximum number of unacknowledged events.
+ * The outcome of each send is then reported through a callback on the Kafka producer's own thread.
  */
 public class KafkaOpenMetadataEventProducer implements Runnable
 {
-    private volatile List<String> sendBuffer = new ArrayList<>();
+    private final Deque<String> sendBuffer = new ArrayDeque<>();
 
     private static final Logger log = LoggerFactory.getLogger(KafkaOpenMetadataEventProducer.class);
 
@@ -45,7 +52,12 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
     private KafkaOpenMetadataTopicConnector connector;
 
-    private long    messageSendCount = 0;
+    private final boolean                               highThroughput;
+    private final Semaphore                             inFlightEvents;
+    private final KafkaOpenMetadataEventProducerMetrics metrics;
+    private volatile boolean                            deliveryFailing = false;
+
+    private final AtomicLong messageSendCount = new AtomicLong();
 
 
     /**
@@ -55,16 +67,49 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      * @param topicName name of the topic to listen on.
      * @param localServerId identifier to enable receiver to identify that an event came from this server.
      * @param producerProperties properties for the consumer.
+     * @param producerConfig Egeria properties for the producer.
+     * @param metrics counts of the events sent by the connector.
+     * @param connector connector holding the inbound listeners.
+     * @param auditLog  audit log for this component.
+     */
+    KafkaOpenMetadataEventProducer(String                                      topicName,
+                                   String                                      localServerId,
+                                   Properties                                  producerProperties,
+                                   KafkaOpenMetadataEventProducerConfiguration producerConfig,
+                                   KafkaOpenMetadataEventProducerMetrics       metrics,
+                                   KafkaOpenMetadataTopicConnector             connector,
+                                   AuditLog                                    auditLog)
+    {
+        this(topicName, localServerId, producerProperties, producerConfig, metrics, connector, auditLog, null);
+    }
+
+
+    /**
+     * Constructor for the event producer that supplies the Kafka producer to use.
+     *
+     * @param topicName name of the topic to listen on.
+     * @param localServerId identifier to enable receiver to identify that an event came from this server.
+     * @param producerProperties properties for the consumer.
+     * @param producerConfig Egeria properties for the producer.
+     * @param metrics counts of the events sent by the connector.
      * @param connector connector holding the inbound listeners.
      * @param auditLog  audit log for this component.
+     * @param producer Kafka producer, or null to create one from the producer properties when the first event is sent.
      */
-    KafkaOpenMetadataEventProducer(String                          topicName,
-                                   String                          localServerId,
-                                   Properties                      producerProperties,
-                                   KafkaOpenMetadataTopicConnector connector,
-                                   AuditLog                        auditLog)
+    KafkaOpenMetadataEventProducer(String                                      topicName,
+                                   String                                      localServerId,
+                                   Properties                                  producerProperties,
+                                   KafkaOpenMetadataEventProducerConfiguration producerConfig,
+                                   KafkaOpenMetadataEventProducerMetrics       metrics,
+                                   KafkaOpenMetadataTopicConnector             connector,
+                                   AuditLog                                    auditLog,
+                                   Producer<String, String>                    producer)
     {
         this.auditLog = auditLog;
+        this.metrics = metrics;
+        this.producer = producer;
+        this.highThroughput = producerConfig.getBooleanProperty(KafkaOpenMetadataEventProducerProperty.HIGH_THROUGHPUT);
+        this.inFlightEvents = new Semaphore(Math.max(producerConfig.getIntProperty(KafkaOpenMetadataEventProducerProperty.MAX_IN_FLIGHT_EVENTS), 1));
         this.topicName = topicName;
         this.localServerId = localServerId;
         this.connector = connector;
@@ -105,9 +150,11 @@ public class KafkaOpenMetadataEventProducer implements Runnable
             {
                 log.debug("Sending message {0}" + event);
                 ProducerRecord<String, String> record = new ProducerRecord<>(topicName, localServerId, event);
-                producer.send(record).get();
+                long sendStartTime = System.nanoTime();
+                RecordMetadata recordMetadata = producer.send(record).get();
                 eventSent = true;
-                messageSendCount++;
+                messageSendCount.incrementAndGet();
+                metrics.eventSent(getSerializedSize(recordMetadata), System.nanoTime() - sendStartTime);
             }
             catch (ExecutionException error)
             {
@@ -145,7 +192,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
                     {
                         auditLog.logMessage(methodName,
                                             KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP.getMessageDefinition(topicName,
-                                                                                                                                   Long.toString(messageSendCount),
+                                                                                                                                   Long.toString(messageSendCount.get()),
                                                                                                                                    Long.toString(this.getSendBufferSize()),
                                                                                                                                    error.getMessage()));
                     }
@@ -176,6 +223,122 @@ public class KafkaOpenMetadataEventProducer implements Runnable
     }
 
 
+    /**
+     * Passes the supplied event to Kafka without waiting for it to be acknowledged.  This waits if the maximum
+     * number of unacknowledged events has been reached.  If the event can not be passed to Kafka, it is returned
+     * to the front of the send buffer so that it is the next event to be sent.
+     *
+     * @param event object containing the event properties.
+     * @throws InterruptedException the thread was interrupted while waiting for acknowledgements
+     */
+    private void publishEventAsync(String event) throws InterruptedException
+    {
+        try
+        {
+            inFlightEvents.acquire();
+        }
+        catch (InterruptedException error)
+        {
+            this.returnEvent(event);
+            throw error;
+        }
+
+        try
+        {
+            if (producer == null)
+            {
+                log.debug("Creating Producer");
+                producer = new KafkaProducer<>(producerProperties);
+            }
+
+            ProducerRecord<String, String> record = new ProducerRecord<>(topicName, localServerId, event);
+            long sendStartTime = System.nanoTime();
+
+            producer.send(record, (recordMetadata, error) -> sendCompleted(sendStartTime, recordMetadata, error));
+        }
+        catch (Throwable error)
+        {
+            /*
+             * The callback is not called if send throws an exception.
+             */
+            inFlightEvents.release();
+            metrics.sendFailed();
+            this.returnEvent(event);
+
+            if (producer != null)
+            {
+                producer.close();
+                producer = null;
+            }
+            log.debug("Send Events Throwable catch block closed producer");
+            throw error;
+        }
+    }
+
+
+    /**
+     * Called by Kafka when an event passed to publishEventAsync is acknowledged or has failed.  The first failure
+     * after a successful delivery is logged to the audit log, as is the recovery.
+     *
+     * @param sendStartTime time the event was passed to Kafka
+     * @param recordMetadata details of the stored event
+     * @param error exception if the event was not delivered
+     */
+    private void sendCompleted(long sendStartTime, RecordMetadata recordMetadata, Exception error)
+    {
+        final String methodName = "sendCompleted";
+
+        inFlightEvents.release();
+
+        if (error == null)
+        {
+            messageSendCount.incrementAndGet();
+            metrics.eventSent(getSerializedSize(recordMetadata), System.nanoTime() - sendStartTime);
+
+            if (deliveryFailing)
+            {
+                deliveryFailing = false;
+                auditLog.logMessage(methodName,
+                                    KafkaOpenMetadataTopicConnectorAuditCode.EVENT_DELIVERY_RESUMED.getMessageDefinition(topicName,
+                                                                                                                         Long.toString(metrics.getFailedSends())));
+            }
+        }
+        else
+        {
+            metrics.sendFailed();
+            log.debug("Kafka was unable to deliver an event on topic " + topicName + ": " + error.getMessage());
+
+            if (!deliveryFailing)
+            {
+                deliveryFailing = true;
+                auditLog.logMessage(methodName,
+                                    KafkaOpenMetadataTopicConnectorAuditCode.EVENT_DELIVERY_FAILED.getMessageDefinition(topicName,
+                                                                                                                        Long.toString(metrics.getEventsSent()),
+                                                                                                                        Long.toString(metrics.getFailedSends()),
+                                                                                                                        error.getClass().getName(),
+                                                                                                                        error.getMessage()));
+            }
+        }
+    }
+
+
+    /**
+     * Returns the number of bytes Kafka stored for the event.
+     *
+     * @param recordMetadata details of the stored event
+     * @return size of the key and value
+     */
+    private long getSerializedSize(RecordMetadata recordMetadata)
+    {
+        if (recordMetadata == null)
+        {
+            return 0;
+        }
+
+        return Math.max(recordMetadata.serializedKeySize(), 0) + Math.max(recordMetadata.serializedValueSize(), 0);
+    }
+
+
     /**
      * This is the method that provides the behaviour of the thread.
      */
@@ -210,7 +373,14 @@ public class KafkaOpenMetadataEventProducer implements Runnable
                      */
                     while (bufferedEvent != null)
                     {
-                        publishEvent(bufferedEvent);
+                        if (highThroughput)
+                        {
+                            publishEventAsync(bufferedEvent);
+                        }
+                        else
+                        {
+                            publishEvent(bufferedEvent);
+                        }
                         bufferedEvent = this.getEvent();
                     }
                 }
@@ -244,7 +414,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         auditLog.logMessage(actionDescription,
                             KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_SHUTDOWN.getMessageDefinition(topicName,
                                                                                                                   Integer.toString(getSendBufferSize()),
-                                                                                                                  Long.toString(messageSendCount)),
+                                                                                                                  Long.toString(messageSendCount.get())),
                            this.producerProperties.toString());
     }
 
@@ -260,12 +430,24 @@ public class KafkaOpenMetadataEventProducer implements Runnable
     }
 
 
+    /**
+     * Returns an event that could not be sent to the front of the send buffer so that it is sent before the
+     * events that were queued after it.
+     *
+     * @param event  event to send again
+     */
+    private synchronized void returnEvent(String  event)
+    {
+        sendBuffer.addFirst(event);
+    }
+
+
     /**
      * Returns the size of the send buffer
      *
      * @return int
      */
-    private synchronized int getSendBufferSize()
+    synchronized int getSendBufferSize()
     {
         return sendBuffer.size();
     }
@@ -278,12 +460,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      */
     private synchronized String getEvent()
     {
-        if (sendBuffer.isEmpty())
-        {
-            return null;
-        }
-
-        return sendBuffer.remove(0);
+        return sendBuffer.poll();
     }
 
 
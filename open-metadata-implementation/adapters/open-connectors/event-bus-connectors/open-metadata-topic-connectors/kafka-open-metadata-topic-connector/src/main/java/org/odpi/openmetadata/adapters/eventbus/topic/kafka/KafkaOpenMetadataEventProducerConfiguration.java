@@ -0,0 +1,73 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.util.Properties;
+
+
+/**
+ * Configuration for the {@link KafkaOpenMetadataEventProducer}
+ *
+ */
+public class KafkaOpenMetadataEventProducerConfiguration
+{
+	private final Properties properties;
+	private       AuditLog   auditLog;
+
+	KafkaOpenMetadataEventProducerConfiguration(Properties properties,
+												AuditLog   auditLog)
+	{
+		this.properties = properties;
+		this.auditLog = auditLog;
+	}
+
+
+	/**
+	 * Gets the value of property whose value is an integer
+	 *
+	 * @param property property object
+	 * @return property value
+	 */
+	int getIntProperty(KafkaOpenMetadataEventProducerProperty property)
+	{
+		return Integer.parseInt(getProperty(property));
+	}
+
+
+	/**
+	 * Gets the value of a property whose value is a boolean
+	 *
+	 * @param property property object
+	 * @return property value
+	 */
+	boolean getBooleanProperty(KafkaOpenMetadataEventProducerProperty property)
+	{
+		return Boolean.parseBoolean(getProperty(property));
+	}
+
+
+	/**
+	 * Gets the value of a property whose value is a String.
+	 *
+	 * @param property property object
+	 * @return property value
+	 */
+	public String getProperty(KafkaOpenMetadataEventProducerProperty property)
+	{
+		String value = properties.getProperty(property.getPropertyName(), property.getDefaultValue());
+
+		if (value == null || value.trim().length() == 0)
+		{
+			final String actionDescription = "getProperty";
+
+			auditLog.logMessage(actionDescription,
+								KafkaOpenMetadataTopicConnectorAuditCode.MISSING_PROPERTY.getMessageDefinition(property.getPropertyName()));
+
+			return property.getDefaultValue();
+		}
+
+		return value;
+	}
+}
@@ -0,0 +1,157 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * KafkaOpenMetadataEventProducerMetrics counts the events sent by the Kafka topic connector.  The counts cover
+ * every producer the connector has started since it was created.  Rates are averaged over the time since the
+ * connector was created; callers wanting the rate over an interval can take the difference between two readings
+ * of the counts.
+ */
+public class KafkaOpenMetadataEventProducerMetrics
+{
+    private final long       startTime         = System.nanoTime();
+    private final LongAdder  eventsSent        = new LongAdder();
+    private final LongAdder  bytesSent         = new LongAdder();
+    private final LongAdder  failedSends       = new LongAdder();
+    private final LongAdder  totalSendLatency  = new LongAdder();
+    private final AtomicLong maximumSendLatency = new AtomicLong();
+
+
+    /**
+     * Record an event that Kafka has acknowledged.
+     *
+     * @param eventBytes serialized size of the event's key and value
+     * @param sendLatencyNanos nanoseconds from passing the event to Kafka to the acknowledgement
+     */
+    void eventSent(long eventBytes, long sendLatencyNanos)
+    {
+        eventsSent.increment();
+        bytesSent.add(Math.max(eventBytes, 0));
+        totalSendLatency.add(sendLatencyNanos);
+        maximumSendLatency.accumulateAndGet(sendLatencyNanos, Math::max);
+    }
+
+
+    /**
+     * Record an event that Kafka was unable to deliver.
+     */
+    void sendFailed()
+    {
+        failedSends.increment();
+    }
+
+
+    /**
+     * Return the number of events acknowledged by Kafka.
+     *
+     * @return count
+     */
+    public long getEventsSent()
+    {
+        return eventsSent.sum();
+    }
+
+
+    /**
+     * Return the number of bytes (keys and values) in the events acknowledged by Kafka.
+     *
+     * @return count
+     */
+    public long getBytesSent()
+    {
+        return bytesSent.sum();
+    }
+
+
+    /**
+     * Return the number of events that Kafka was unable to deliver.
+     *
+     * @return count
+     */
+    public long getFailedSends()
+    {
+        return failedSends.sum();
+    }
+
+
+    /**
+     * Return the average number of events sent per second.
+     *
+     * @return events per second
+     */
+    public double getEventsPerSecond()
+    {
+        return getEventsSent() / getElapsedSeconds();
+    }
+
+
+    /**
+     * Return the average number of bytes sent per second.
+     *
+     * @return bytes per second
+     */
+    public double getBytesPerSecond()
+    {
+        return getBytesSent() / getElapsedSeconds();
+    }
+
+
+    /**
+     * Return the average time from passing an event to Kafka to its acknowledgement.
+     *
+     * @return milliseconds
+     */
+    public double getAverageSendLatencyMillis()
+    {
+        long sent = getEventsSent();
+
+        if (sent == 0)
+        {
+            return 0;
+        }
+
+        return totalSendLatency.sum() / (sent * (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+
+    /**
+     * Return the longest time from passing an event to Kafka to its acknowledgement.
+     *
+     * @return milliseconds
+     */
+    public double getMaximumSendLatencyMillis()
+    {
+        return maximumSendLatency.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+
+    private double getElapsedSeconds()
+    {
+        return Math.max(System.nanoTime() - startTime, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "KafkaOpenMetadataEventProducerMetrics{" +
+                "eventsSent=" + getEventsSent() +
+                ", bytesSent=" + getBytesSent() +
+                ", failedSends=" + getFailedSends() +
+                ", eventsPerSecond=" + getEventsPerSecond() +
+                ", bytesPerSecond=" + getBytesPerSecond() +
+                ", averageSendLatencyMillis=" + getAverageSendLatencyMillis() +
+                ", maximumSendLatencyMillis=" + getMaximumSendLatencyMillis() +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+/**
+ * Configurable properties for the KafkaOpenMetadataEventProducer
+ *
+ */
+public enum KafkaOpenMetadataEventProducerProperty
+{
+	/*
+	 * When true, the producer sends events without waiting for each one to be acknowledged and the Kafka
+	 * producer properties are defaulted to batch and compress the events (see HIGH_THROUGHPUT_LINGER_MS,
+	 * HIGH_THROUGHPUT_BATCH_SIZE and HIGH_THROUGHPUT_COMPRESSION_TYPE).  Any value set for linger.ms,
+	 * batch.size or compression.type in the producer properties is used in preference to these defaults.
+	 */
+	HIGH_THROUGHPUT("high_throughput", "false"),
+
+	/*
+	 * In high throughput mode, the maximum number of events that have been passed to Kafka but not yet
+	 * acknowledged.  The producer waits for acknowledgements once this number is reached.
+	 */
+	MAX_IN_FLIGHT_EVENTS("max_in_flight_events", "10000"),
+
+	/*
+	 * Value for the linger.ms producer property in high throughput mode.
+	 */
+	HIGH_THROUGHPUT_LINGER_MS("high_throughput_linger_ms", "20"),
+
+	/*
+	 * Value for the batch.size producer property in high throughput mode.
+	 */
+	HIGH_THROUGHPUT_BATCH_SIZE("high_throughput_batch_size", "262144"),
+
+	/*
+	 * Value for the compression.type producer property in high throughput mode.
+	 */
+	HIGH_THROUGHPUT_COMPRESSION_TYPE("high_throughput_compression_type", "lz4");
+
+	private String propertyName;
+	private String defaultValue;
+
+	KafkaOpenMetadataEventProducerProperty(String name, String defaultValue)
+	{
+		this.propertyName = name;
+		this.defaultValue = defaultValue;
+	}
+
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	public String getDefaultValue() {
+		return defaultValue;
+	}
+
+
+}
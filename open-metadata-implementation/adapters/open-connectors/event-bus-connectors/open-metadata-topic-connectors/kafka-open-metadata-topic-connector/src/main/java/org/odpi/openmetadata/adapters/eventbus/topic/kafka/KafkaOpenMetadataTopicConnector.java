@@ -32,13 +32,17 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
     
     private Properties producerProperties = new Properties();
-    
+    private Properties producerEgeriaProperties = new Properties();
+
     private Properties consumerEgeriaProperties = new Properties();
     private Properties consumerProperties = new Properties();
 
 
     private KafkaOpenMetadataEventConsumer consumer = null;
     private KafkaOpenMetadataEventProducer producer = null;
+    private KafkaOpenMetadataEventProducerConfiguration producerConfig = null;
+
+    private final KafkaOpenMetadataEventProducerMetrics producerMetrics = new KafkaOpenMetadataEventProducerMetrics();
 
     private String       topicName          = null;
     private String       serverId           = null;
@@ -65,7 +69,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
             /* we don't care why the thread ended , we just restart it */
             /* The thread will log on exit and on restart already, so no need to let anyone know */
-            producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, KafkaOpenMetadataTopicConnector.this, auditLog);
+            producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, producerConfig, producerMetrics, KafkaOpenMetadataTopicConnector.this, auditLog);
             producerThread = new Thread(producer, threadHeader + "Producer-" + topicName);
             executor.execute(producerThread);
         }
@@ -162,6 +166,8 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
      * one for the outbound events (producer).  The constructor sets up default values for these properties.
      * This method overrides the initial values with properties configured on the event bus admin service.
      * For most environments, the only properties needed are the bootstrap servers.
+     * If the Egeria producer properties select high throughput mode, the batching and compression defaults for
+     * that mode are applied before the producer properties so that explicit producer settings take precedence.
      *
      * @param configurationProperties additional properties from the connection.
      */
@@ -173,6 +179,17 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
         {
             Object              propertiesObject;
 
+            propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaProducerPropertyName);
+            copyProperties(propertiesObject, producerEgeriaProperties);
+
+            producerConfig = new KafkaOpenMetadataEventProducerConfiguration(producerEgeriaProperties, auditLog);
+            if (producerConfig.getBooleanProperty(KafkaOpenMetadataEventProducerProperty.HIGH_THROUGHPUT))
+            {
+                producerProperties.put("linger.ms", producerConfig.getProperty(KafkaOpenMetadataEventProducerProperty.HIGH_THROUGHPUT_LINGER_MS));
+                producerProperties.put("batch.size", producerConfig.getProperty(KafkaOpenMetadataEventProducerProperty.HIGH_THROUGHPUT_BATCH_SIZE));
+                producerProperties.put("compression.type", producerConfig.getProperty(KafkaOpenMetadataEventProducerProperty.HIGH_THROUGHPUT_COMPRESSION_TYPE));
+            }
+
             propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.producerPropertyName);
             copyProperties(propertiesObject, producerProperties);
 
@@ -203,7 +220,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
                 propertiesMap = (Map<String, Object>) propertiesObject;
                 for (Map.Entry<String, Object> entry : propertiesMap.entrySet())
                 {
-                    target.setProperty(entry.getKey(), (String) entry.getValue());
+                    target.setProperty(entry.getKey(), String.valueOf(entry.getValue()));
                 }
             }
 		    catch (Throwable error)
@@ -252,12 +269,17 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
                     kafkaStatus.getLastException());
         }
 
+        if (producerConfig == null)
+        {
+            producerConfig = new KafkaOpenMetadataEventProducerConfiguration(producerEgeriaProperties, auditLog);
+        }
+
         KafkaOpenMetadataEventConsumerConfiguration consumerConfig = new KafkaOpenMetadataEventConsumerConfiguration(consumerEgeriaProperties, auditLog);
         consumer = new KafkaOpenMetadataEventConsumer(topicName, serverId, consumerConfig, consumerProperties, this, auditLog);
         consumerThread = new Thread(consumer, threadHeader + "Consumer-" + topicName);
         consumerThread.start();
 
-        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, this, auditLog);
+        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, producerConfig, producerMetrics, this, auditLog);
         producerThread = new Thread(producer, threadHeader + "Producer-" + topicName);
         executor = new KafkaProducerExecutor();
         executor.execute(producerThread);
@@ -281,6 +303,17 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     }
 
 
+    /**
+     * Return the counts of the events sent on the topic since the connector was created.
+     *
+     * @return producer metrics
+     */
+    public KafkaOpenMetadataEventProducerMetrics getProducerMetrics()
+    {
+        return producerMetrics;
+    }
+
+
     /**
      * Look to see if there is one of more new events to process.
      *
@@ -122,7 +122,18 @@ public enum KafkaOpenMetadataTopicConnectorAuditCode implements AuditLogMessageS
             OMRSAuditLogRecordSeverity.SHUTDOWN,
             "An unexpected error was encountered while commitimg consumed messages",
             "Check Egeria and Kafka Error Logs",
-            "Ensure the server has shutdown cleanly")
+            "Ensure the server has shutdown cleanly"),
+    EVENT_DELIVERY_FAILED("OCF-KAFKA-TOPIC-CONNECTOR-0018",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "Apache Kafka was unable to deliver an event on topic {0}.  {1} events have been delivered and {2} events have failed.  The {3} exception was returned with message {4}",
+            "The event has been discarded.  Further delivery failures are not logged until Apache Kafka delivers an event successfully.",
+            "Review the operational status of Apache Kafka to ensure it is running and the topic is defined.  " +
+                    "Check the producer's delivery.timeout.ms and retries properties allow enough time for the event bus to recover."),
+    EVENT_DELIVERY_RESUMED("OCF-KAFKA-TOPIC-CONNECTOR-0019",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Apache Kafka has resumed delivering events on topic {0}.  {1} events have failed in total",
+            "The producer is delivering events again.",
+            "No action is required.  The previous failures may mean other servers have missed events from this server.")
     ;
 
     private AuditLogMessageDefinition messageDefinition;
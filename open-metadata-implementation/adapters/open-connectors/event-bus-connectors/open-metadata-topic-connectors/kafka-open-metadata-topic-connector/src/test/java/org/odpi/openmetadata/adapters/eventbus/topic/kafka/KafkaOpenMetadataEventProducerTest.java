@@ -0,0 +1,233 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the sending of events through a mock Kafka producer.
+ */
+public class KafkaOpenMetadataEventProducerTest
+{
+    private static final String TOPIC_NAME = "egeria.test.topic";
+
+    private final List<String> auditLogMessageIds = new CopyOnWriteArrayList<>();
+
+    private MockProducer<String, String>          mockProducer;
+    private KafkaOpenMetadataEventProducerMetrics metrics;
+    private KafkaOpenMetadataEventProducer        producer;
+    private Thread                                producerThread;
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        auditLogMessageIds.clear();
+        mockProducer = new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+        metrics = new KafkaOpenMetadataEventProducerMetrics();
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws InterruptedException
+    {
+        while (mockProducer.completeNext())
+        {
+            // release any waiting sends so the thread can stop
+        }
+
+        producer.safeCloseProducer();
+        producerThread.join(10000);
+        assertTrue(!producerThread.isAlive(), "Producer thread did not stop");
+    }
+
+
+    @Test
+    public void testDefaultModeWaitsForEachAcknowledgement()
+    {
+        startProducer(false, 10, 3);
+
+        waitFor(() -> mockProducer.history().size() == 1);
+        sleep();
+        assertEquals(mockProducer.history().size(), 1, "Only one event should be sent until it is acknowledged");
+
+        assertTrue(mockProducer.completeNext());
+        waitFor(() -> mockProducer.history().size() == 2);
+        assertTrue(mockProducer.completeNext());
+        waitFor(() -> mockProducer.history().size() == 3);
+        assertTrue(mockProducer.completeNext());
+
+        waitFor(() -> metrics.getEventsSent() == 3);
+    }
+
+
+    @Test
+    public void testHighThroughputModeLimitsInFlightEvents()
+    {
+        startProducer(true, 3, 5);
+
+        waitFor(() -> mockProducer.history().size() == 3);
+        sleep();
+        assertEquals(mockProducer.history().size(), 3, "No more than max_in_flight_events should be waiting");
+
+        for (int completion = 0; completion < 3; completion++)
+        {
+            assertTrue(mockProducer.completeNext());
+        }
+
+        waitFor(() -> mockProducer.history().size() == 5);
+        assertTrue(mockProducer.completeNext());
+        assertTrue(mockProducer.completeNext());
+
+        assertEquals(metrics.getEventsSent(), 5);
+        assertEquals(metrics.getFailedSends(), 0);
+        assertTrue(metrics.getEventsPerSecond() > 0);
+    }
+
+
+    @Test
+    public void testDeliveryFailuresAreAudited()
+    {
+        startProducer(true, 10, 4);
+
+        waitFor(() -> mockProducer.history().size() == 4);
+
+        assertTrue(mockProducer.errorNext(new TimeoutException("Broker not available")));
+        assertTrue(mockProducer.errorNext(new TimeoutException("Broker not available")));
+        assertEquals(countAuditLogMessages("0018"), 1, "Only the first of a run of failures should be logged");
+
+        assertTrue(mockProducer.completeNext());
+        assertEquals(countAuditLogMessages("0019"), 1);
+
+        assertTrue(mockProducer.completeNext());
+        assertEquals(metrics.getEventsSent(), 2);
+        assertEquals(metrics.getFailedSends(), 2);
+    }
+
+
+    @Test
+    public void testInterruptedEventIsSentNext()
+    {
+        startProducer(true, 1, 3);
+
+        waitFor(() -> mockProducer.history().size() == 1);
+        waitFor(() -> producer.getSendBufferSize() == 1);
+
+        /*
+         * The producer thread is waiting for the first event to be acknowledged and holds the second event.
+         * Once interrupted, it must return the second event to the buffer and take it again.
+         */
+        producerThread.interrupt();
+        sleep();
+
+        assertTrue(mockProducer.completeNext());
+        waitFor(() -> mockProducer.history().size() == 2);
+        assertTrue(mockProducer.completeNext());
+        waitFor(() -> mockProducer.history().size() == 3);
+        assertTrue(mockProducer.completeNext());
+
+        assertEquals(mockProducer.history().stream().map(ProducerRecord::value).collect(Collectors.toList()),
+                     Arrays.asList("{\"eventNumber\":0}", "{\"eventNumber\":1}", "{\"eventNumber\":2}"));
+        assertEquals(metrics.getEventsSent(), 3);
+    }
+
+
+    @Test
+    public void testEventIsKeptWhenSendFails()
+    {
+        mockProducer.sendException = new KafkaException("Producer failed");
+
+        startProducer(true, 10, 2);
+
+        waitFor(() -> !producerThread.isAlive());
+
+        assertEquals(producer.getSendBufferSize(), 2, "The event that could not be sent should be returned to the buffer");
+        assertEquals(mockProducer.history().size(), 0);
+        assertEquals(metrics.getFailedSends(), 1);
+    }
+
+
+    private void startProducer(boolean highThroughput, int maxInFlightEvents, int eventCount)
+    {
+        Properties egeriaProperties = new Properties();
+        egeriaProperties.setProperty(KafkaOpenMetadataEventProducerProperty.HIGH_THROUGHPUT.getPropertyName(), Boolean.toString(highThroughput));
+        egeriaProperties.setProperty(KafkaOpenMetadataEventProducerProperty.MAX_IN_FLIGHT_EVENTS.getPropertyName(), Integer.toString(maxInFlightEvents));
+
+        AuditLog auditLog = new AuditLog(new AuditLogDestination()
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                auditLogMessageIds.add(logRecord.getMessageId());
+            }
+        }, 0, "KafkaTest", "Kafka connector test", null);
+
+        producer = new KafkaOpenMetadataEventProducer(TOPIC_NAME,
+                                                      "testServerId",
+                                                      new Properties(),
+                                                      new KafkaOpenMetadataEventProducerConfiguration(egeriaProperties, auditLog),
+                                                      metrics,
+                                                      null,
+                                                      auditLog,
+                                                      mockProducer);
+
+        for (int eventNumber = 0; eventNumber < eventCount; eventNumber++)
+        {
+            producer.sendEvent("{\"eventNumber\":" + eventNumber + "}");
+        }
+
+        producerThread = new Thread(producer, "KafkaProducerTest");
+        producerThread.start();
+    }
+
+
+    private long countAuditLogMessages(String messageNumber)
+    {
+        return auditLogMessageIds.stream().filter(messageId -> messageId.endsWith(messageNumber)).collect(Collectors.counting());
+    }
+
+
+    private void waitFor(BooleanSupplier condition)
+    {
+        long timeout = System.currentTimeMillis() + 10000;
+
+        while (!condition.getAsBoolean())
+        {
+            assertTrue(System.currentTimeMillis() < timeout, "Timed out waiting for the producer");
+            sleep();
+        }
+    }
+
+
+    private void sleep()
+    {
+        try
+        {
+            Thread.sleep(50);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
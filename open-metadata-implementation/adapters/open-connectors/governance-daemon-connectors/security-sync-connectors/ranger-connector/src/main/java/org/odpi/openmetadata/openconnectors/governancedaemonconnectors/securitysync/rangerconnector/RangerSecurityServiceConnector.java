@@ -4,7 +4,6 @@ package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.security
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.commons.collections4.CollectionUtils;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.Context;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernanceClassification;
 import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAsset;
@@ -13,8 +12,8 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerPolicyResource;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerSecurityServicePolicies;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerServiceResource;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerServiceTags;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerTag;
-import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerTagDef;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.ResourceTagMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,11 +25,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -38,23 +37,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.COLUMN;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.DEFAULT_IMPORT_BATCH_SIZE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.DEFAULT_SCHEMA_NAME;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.NAME;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.OPEN_METADATA_OWNER;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.RANGER_CONNECTOR;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SCHEMA;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SECURITY_SERVER_AUTHORIZATION;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SECURITY_SERVER_IMPORT_BATCH_SIZE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SECURITY_TAGS;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SERVICE_POLICIES;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SERVICE_TAGS;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SERVICE_TAGS_IMPORT;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SERVICE_TAGS_MAP_TAG_GUID_RESOURCE_GUI;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SERVICE_TAGS_RESOURCES;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SERVICE_TAGS_RESOURCE_BY_GUID;
-import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SERVICE_TAGS_TAGDEF;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SERVICE_TAGS_TAG_RESOURCE_MAPS;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.TABLE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.TAG_RESOURCE_ASSOCIATION;
@@ -63,41 +63,38 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
 
     private static final Logger log = LoggerFactory.getLogger(RangerSecurityServiceConnector.class);
     private Connection connection;
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final SecurityTagSynchronizer tagSynchronizer;
 
     public RangerSecurityServiceConnector(Connection securityServerConnection) {
         this.connection = securityServerConnection;
+        this.tagSynchronizer = new SecurityTagSynchronizer(getImportBatchSize());
     }
 
+    /**
+     * Bring the resources and security tags in Ranger in line with the governed assets.  Ranger's existing resources,
+     * tags and mappings are read once, on the first call.  Only the assets whose resource or security tags have
+     * changed since the last successful import are sent, using Ranger's bulk service tags import.
+     *
+     * @param governedAssets all of the governed assets
+     */
     @Override
-    public void importTaggedResources(List<GovernedAsset> governedAssets) {
-        Set<RangerTag> tags = new HashSet<>();
+    public synchronized void importTaggedResources(List<GovernedAsset> governedAssets) {
         List<RangerServiceResource> resources = new ArrayList<>();
-        Map<String, Set<String>> tagToResource = buildResourceToTagsAssociationMap(governedAssets, tags, resources);
-
-        createRangerTagDef();
-        List<ResourceTagMapper> exitingAssociationResourceTags = getExistingAssociationResourceTags();
-        if (exitingAssociationResourceTags.isEmpty()) {
-            resources.forEach(this::createRangerServiceResource);
-            tags.forEach(this::createRangerTag);
-            tagToResource.forEach((key, value) -> value.forEach(x -> createAssociationResourceToSecurityTag(key, x)));
-            return;
-        }
+        Map<String, List<RangerTag>> resourceTags = buildResourceTags(governedAssets, resources);
 
-        List<RangerServiceResource> existingResources = getExistingResources();
-        Map<Long, RangerServiceResource> existingResourcesMap = mapResourceIds(existingResources);
-        Set<RangerTag> rangerExistingTags = getExistingTags();
-        Map<Long, RangerTag> existingTagsMap = mapTagIds(rangerExistingTags);
+        if (!tagSynchronizer.hasBaseline()) {
+            tagSynchronizer.setBaseline(getExistingResources(), getExistingTags(), getExistingAssociationResourceTags());
+        }
 
-        Map<String, Set<String>> existingAssoc = mapResourceTagsById(exitingAssociationResourceTags, existingResourcesMap, existingTagsMap);
+        List<RangerServiceTags> changes = tagSynchronizer.getChanges(resources, resourceTags);
+        log.debug("Importing {} batches of changed resources for {} governed assets", changes.size(), resources.size());
 
-        if (tagToResource.isEmpty()) {
-            existingAssoc.forEach((key, value) -> value.forEach(x -> deleteAssociationResourceToSecurityTagBasedOnIds(key, x)));
-            return;
+        for (RangerServiceTags serviceTags : changes) {
+            if (importServiceTags(serviceTags)) {
+                tagSynchronizer.changesApplied(serviceTags);
+            }
         }
-
-        syncTags(tags, rangerExistingTags);
-        syncResources(resources, existingResources);
-        syncAssociations(tagToResource, existingAssoc);
     }
 
     @Override
@@ -107,7 +104,6 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
         }
         String servicePoliciesURL = MessageFormat.format(SERVICE_POLICIES, connection.getEndpoint().getAddress(), serviceName, lastKnownVersion);
 
-        RestTemplate restTemplate = new RestTemplate();
         HttpEntity<String> entity = new HttpEntity<>(getHttpHeaders());
 
         try {
@@ -135,7 +131,6 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
         String createAssociation = getRangerURL(SERVICE_TAGS_RESOURCES);
 
         String body = getBody(resource);
-        RestTemplate restTemplate = new RestTemplate();
         HttpEntity<String> entity = new HttpEntity<>(body, getHttpHeaders());
 
         try {
@@ -151,7 +146,6 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
     public RangerServiceResource getResourceByGUID(String resourceGuid) {
         String resourceURL = getRangerURL(SERVICE_TAGS_RESOURCE_BY_GUID, resourceGuid);
 
-        RestTemplate restTemplate = new RestTemplate();
         HttpEntity<String> entity = new HttpEntity<>(getHttpHeaders());
 
         try {
@@ -167,7 +161,6 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
     @Override
     public void deleteResource(String resourceGuid) {
         String resourceURL = getRangerURL(SERVICE_TAGS_RESOURCE_BY_GUID, resourceGuid);
-        RestTemplate restTemplate = new RestTemplate();
         HttpEntity<String> entity = new HttpEntity<>(getHttpHeaders());
 
         try {
@@ -210,7 +203,6 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
         String rangerBaseURL = connection.getEndpoint().getAddress();
         String createAssociation = MessageFormat.format(SERVICE_TAGS_MAP_TAG_GUID_RESOURCE_GUI, rangerBaseURL, tagGUID, resourceGUID);
 
-        RestTemplate restTemplate = new RestTemplate();
         HttpEntity<String> entity = new HttpEntity<>(getHttpHeaders());
         try {
             ResponseEntity<ResourceTagMapper> result = restTemplate.exchange(createAssociation, HttpMethod.POST, entity, ResourceTagMapper.class);
@@ -234,41 +226,10 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
         }
     }
 
-    private void deleteAssociationResourceToSecurityTagBasedOnIds(String resourceGUID, String tagGUID) {
-        String rangerBaseURL = connection.getEndpoint().getAddress();
-        String deleteURLByGUIDs = MessageFormat.format(SERVICE_TAGS_MAP_TAG_GUID_RESOURCE_GUI, rangerBaseURL, tagGUID, resourceGUID);
-
-        Boolean isDeleted = doDelete(deleteURLByGUIDs);
-        if (isDeleted) {
-            log.debug("The association between tag {} and resoure {} has been deleted", tagGUID, resourceGUID);
-        } else {
-            log.debug("Unable to delete the association between tag {} and resource {}", tagGUID, resourceGUID);
-        }
-    }
-
-    private RangerTagDef createRangerTagDef() {
-        RangerTagDef rangerTagDef = buildRangerTagDef();
-        String body = getBody(rangerTagDef);
-
-        String createRangerTagDefURL = getRangerURL(SERVICE_TAGS_TAGDEF);
-
-        RestTemplate restTemplate = new RestTemplate();
-        HttpEntity<String> entity = new HttpEntity<>(body, getHttpHeaders());
-
-        try {
-            ResponseEntity<RangerTagDef> result = restTemplate.exchange(createRangerTagDefURL, HttpMethod.POST, entity, RangerTagDef.class);
-            return result.getBody();
-        } catch (HttpStatusCodeException exception) {
-            log.debug("Unable to create a security tag");
-        }
-        return null;
-    }
-
     private RangerTag createRangerTag(RangerTag rangerTag) {
         String createTagURL = getRangerURL(SERVICE_TAGS);
         String body = getBody(rangerTag);
 
-        RestTemplate restTemplate = new RestTemplate();
         HttpEntity<String> entity = new HttpEntity<>(body, getHttpHeaders());
 
         try {
@@ -280,15 +241,6 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
         return rangerTag;
     }
 
-    private RangerTagDef buildRangerTagDef() {
-        RangerTagDef rangerTagDef = new RangerTagDef();
-        rangerTagDef.setId(1L);
-        rangerTagDef.setCreatedBy(RANGER_CONNECTOR);
-        rangerTagDef.setName(SECURITY_TAGS);
-
-        return rangerTagDef;
-    }
-
     private RangerServiceResource buildRangerResource(GovernedAsset governedAsset) {
         RangerServiceResource serviceResource = new RangerServiceResource();
 
@@ -323,13 +275,14 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
     private List<ResourceTagMapper> getExistingAssociationResourceTags() {
         String allMappedResources = getRangerURL(SERVICE_TAGS_TAG_RESOURCE_MAPS);
 
-        RestTemplate restTemplate = new RestTemplate();
         HttpEntity<String> entity = new HttpEntity<>(getHttpHeaders());
 
         try {
             ResponseEntity<List<ResourceTagMapper>> response = restTemplate.exchange(allMappedResources, HttpMethod.GET, entity, new ParameterizedTypeReference<List<ResourceTagMapper>>() {
             });
-            return response.getBody();
+            if (response.getBody() != null) {
+                return response.getBody();
+            }
         } catch (HttpStatusCodeException exception) {
             log.debug("Unable to fetch the mapped resources");
         }
@@ -366,7 +319,6 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
     public List<RangerServiceResource> getExistingResources() {
         String createAssociation = getRangerURL(SERVICE_TAGS_RESOURCES);
 
-        RestTemplate restTemplate = new RestTemplate();
         HttpEntity<String> entity = new HttpEntity<>(getHttpHeaders());
         try {
             ResponseEntity<List<RangerServiceResource>> response =
@@ -386,7 +338,6 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
     private Set<RangerTag> getExistingTags() {
         String createTagURL = getRangerURL(SERVICE_TAGS);
 
-        RestTemplate restTemplate = new RestTemplate();
         HttpEntity<String> entity = new HttpEntity<>(getHttpHeaders());
 
         try {
@@ -403,8 +354,8 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
     }
 
 
-    private Map<String, Set<String>> buildResourceToTagsAssociationMap(List<GovernedAsset> governedAssets, Set<RangerTag> tags, List<RangerServiceResource> resources) {
-        Map<String, Set<String>> tagToResource = new HashMap<>();
+    private Map<String, List<RangerTag>> buildResourceTags(List<GovernedAsset> governedAssets, List<RangerServiceResource> resources) {
+        Map<String, List<RangerTag>> resourceTags = new HashMap<>();
 
         for (GovernedAsset governedAsset : governedAssets) {
 
@@ -418,82 +369,43 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
             resources.add(resource);
 
             GovernanceClassification governanceClassification = governedAsset.getAssignedGovernanceClassification();
+            List<RangerTag> tags = new ArrayList<>();
             for (String securityLabel : governanceClassification.getSecurityLabels()) {
-                RangerTag rangerTag = buildRangerTag(securityLabel, governanceClassification.getSecurityProperties());
-                tags.add(rangerTag);
-
-                addTag(tagToResource, resource, rangerTag);
+                tags.add(buildRangerTag(securityLabel, governanceClassification.getSecurityProperties()));
             }
+            resourceTags.put(resource.getGuid(), tags);
         }
-        return tagToResource;
-    }
-
-    private void addTag(Map<String, Set<String>> tagToResource, RangerServiceResource resource, RangerTag rangerTag) {
-        if (tagToResource.containsKey(resource.getGuid())) {
-            tagToResource.get(resource.getGuid()).add(rangerTag.getGuid());
-        } else {
-            Set<String> securityTags = new HashSet<>();
-            securityTags.add(rangerTag.getGuid());
-            tagToResource.put(resource.getGuid(), securityTags);
-        }
-    }
-
-    private void syncResources(List<RangerServiceResource> resources, List<RangerServiceResource> existingResources) {
-        Collection<RangerServiceResource> newResources = CollectionUtils.subtract(resources, existingResources);
-        newResources.forEach(this::createRangerServiceResource);
-    }
-
-    private void syncTags(Set<RangerTag> tags, Set<RangerTag> rangerExistingTags) {
-        Collection<RangerTag> newTags = CollectionUtils.subtract(tags, rangerExistingTags);
-        newTags.forEach(this::createRangerTag);
+        return resourceTags;
     }
 
-    private void syncAssociations(Map<String, Set<String>> tagToResource, Map<String, Set<String>> existingMapping) {
-        Map<String, List<String>> newMappings = new HashMap<>();
-        Map<String, List<String>> outdatedMapping = new HashMap<>();
+    private boolean importServiceTags(RangerServiceTags serviceTags) {
+        String importURL = getRangerURL(SERVICE_TAGS_IMPORT);
 
-        for (Map.Entry<String, Set<String>> tags : tagToResource.entrySet()) {
-            Set<String> existingTags = existingMapping.get(tags.getKey());
-            if (existingTags == null) {
-                newMappings.put(tags.getKey(), new ArrayList<>(tags.getValue()));
-                continue;
-            }
-
-            Collection<String> newlyAdded = CollectionUtils.subtract(tags.getValue(), existingTags);
-            if (!newlyAdded.isEmpty()) {
-                newMappings.put(tags.getKey(), (List<String>) newlyAdded);
-            }
+        String body = getBody(serviceTags);
+        HttpEntity<String> entity = new HttpEntity<>(body, getHttpHeaders());
 
-            Collection<String> outdatedTags = CollectionUtils.subtract(existingTags, tags.getValue());
-            if (!outdatedTags.isEmpty()) {
-                outdatedMapping.put(tags.getKey(), (List<String>) outdatedTags);
-            }
+        try {
+            restTemplate.exchange(importURL, HttpMethod.PUT, entity, Void.class);
+            log.debug("Imported {} resources and {} security tags", serviceTags.getServiceResources().size(), serviceTags.getTags().size());
+            return true;
+        } catch (RestClientException exception) {
+            log.error("Unable to import {} resources to Ranger, they will be sent again on the next synchronization",
+                    serviceTags.getServiceResources().size(), exception);
         }
-
-        newMappings.forEach((resourceId, tags) -> tags.forEach(tagId -> createAssociationResourceToSecurityTag(resourceId, tagId)));
-        outdatedMapping.forEach((resourceId, tags) -> tags.forEach(tag -> deleteAssociationResourceToSecurityTagBasedOnIds(resourceId, tag)));
+        return false;
     }
 
-    private Map<Long, RangerTag> mapTagIds(Set<RangerTag> tags) {
-        return tags.stream().collect(Collectors.toMap(RangerTag::getId, Function.identity()));
-    }
-
-    private Map<Long, RangerServiceResource> mapResourceIds(List<RangerServiceResource> resources) {
-        return resources.stream().collect(Collectors.toMap(RangerServiceResource::getId, Function.identity()));
-    }
-
-    private Map<String, Set<String>> mapResourceTagsById(List<ResourceTagMapper> exitingAssociationResourceTags,
-                                                         Map<Long, RangerServiceResource> existingResourcesMap, Map<Long, RangerTag> existingTagsMap) {
-
-        Map<String, Set<String>> existingAssoc = new HashMap<>();
-
-        for (ResourceTagMapper mapper : exitingAssociationResourceTags) {
-            RangerServiceResource resource = existingResourcesMap.get(mapper.getResourceId());
-            RangerTag rangerTag = existingTagsMap.get(mapper.getTagId());
-            addTag(existingAssoc, resource, rangerTag);
+    private int getImportBatchSize() {
+        if (connection != null && connection.getConfigurationProperties() != null
+                && connection.getConfigurationProperties().get(SECURITY_SERVER_IMPORT_BATCH_SIZE) != null) {
+            Object batchSize = connection.getConfigurationProperties().get(SECURITY_SERVER_IMPORT_BATCH_SIZE);
+            try {
+                return Integer.parseInt(batchSize.toString());
+            } catch (NumberFormatException exception) {
+                log.error("Invalid value {} for {}, using the default of {}", batchSize, SECURITY_SERVER_IMPORT_BATCH_SIZE, DEFAULT_IMPORT_BATCH_SIZE);
+            }
         }
-
-        return existingAssoc;
+        return DEFAULT_IMPORT_BATCH_SIZE;
     }
 
     private String getRangerURL(String s, Object... params) {
@@ -530,7 +442,6 @@ public class RangerSecurityServiceConnector extends ConnectorBase implements Sec
     }
 
     private Boolean doDelete(String deleteAssociationURL) {
-        RestTemplate restTemplate = new RestTemplate();
         HttpHeaders headers = getHttpHeaders();
         headers.add("X-HTTP-Method-Override", "DELETE");
         HttpEntity<String> entity = new HttpEntity<>(headers);
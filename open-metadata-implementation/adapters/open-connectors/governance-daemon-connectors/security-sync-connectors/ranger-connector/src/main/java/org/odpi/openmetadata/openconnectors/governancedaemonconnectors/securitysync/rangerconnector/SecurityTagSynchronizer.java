@@ -0,0 +1,261 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector;
+
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerPolicyResource;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerServiceResource;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerServiceTags;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerTag;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerTagDef;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.ResourceTagMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.DEFAULT_SCHEMA_NAME;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.RANGER_CONNECTOR;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.util.Constants.SECURITY_TAGS;
+
+/**
+ * SecurityTagSynchronizer works out which resources and security tags need to be sent to Ranger to bring it in line
+ * with the governed assets.  It remembers the resource elements and security tags of each resource that Ranger holds,
+ * starting from the resources, tags and mappings read from Ranger on the first synchronization, so later
+ * synchronizations only send the assets that have changed.  The changes are returned as batches for Ranger's
+ * bulk service tags import.
+ */
+class SecurityTagSynchronizer {
+
+    private static final Long SECURITY_TAGS_DEF_ID = 1L;
+
+    private final int batchSize;
+    private Map<String, ResourceTagging> syncedResources;
+
+    /**
+     * @param batchSize maximum number of resources in each import request
+     */
+    SecurityTagSynchronizer(int batchSize) {
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /**
+     * Return whether the current content of Ranger is known.
+     *
+     * @return true once the baseline has been set
+     */
+    boolean hasBaseline() {
+        return syncedResources != null;
+    }
+
+    /**
+     * Record the resources, tags and tag mappings that Ranger holds for the service that the connector maintains.
+     *
+     * @param resources existing resources
+     * @param tags      existing tags
+     * @param mappings  existing associations between resources and tags
+     */
+    void setBaseline(List<RangerServiceResource> resources, Collection<RangerTag> tags, List<ResourceTagMapper> mappings) {
+        Map<Long, RangerTag> tagsById = new HashMap<>();
+        for (RangerTag tag : tags) {
+            if (tag.getId() != null && SECURITY_TAGS.equals(tag.getType())) {
+                tagsById.put(tag.getId(), tag);
+            }
+        }
+
+        Map<Long, List<RangerTag>> tagsByResourceId = new HashMap<>();
+        for (ResourceTagMapper mapping : mappings) {
+            RangerTag tag = tagsById.get(mapping.getTagId());
+            if (tag != null) {
+                tagsByResourceId.computeIfAbsent(mapping.getResourceId(), resourceId -> new ArrayList<>()).add(tag);
+            }
+        }
+
+        syncedResources = new HashMap<>();
+        for (RangerServiceResource resource : resources) {
+            if (resource.getGuid() != null && DEFAULT_SCHEMA_NAME.equals(resource.getServiceName())) {
+                List<RangerTag> resourceTags = tagsByResourceId.getOrDefault(resource.getId(), Collections.emptyList());
+                syncedResources.put(resource.getGuid(), new ResourceTagging(resource, resourceTags));
+            }
+        }
+    }
+
+    /**
+     * Compare the governed assets with the baseline.  Resources whose elements or security tags have changed are
+     * included in the result, along with resources that are no longer governed and still have security tags
+     * (these are sent with no tags so that Ranger removes their tag mappings).
+     *
+     * @param resources    resources for the governed assets
+     * @param resourceTags security tags for each resource, keyed by resource guid
+     * @return import requests, empty if Ranger is up to date
+     */
+    List<RangerServiceTags> getChanges(List<RangerServiceResource> resources, Map<String, List<RangerTag>> resourceTags) {
+        Map<String, ResourceTagging> synced = hasBaseline() ? syncedResources : Collections.emptyMap();
+        List<RangerServiceTags> changes = new ArrayList<>();
+        Set<String> governedResourceGUIDs = new HashSet<>();
+        ImportBatch batch = null;
+
+        for (RangerServiceResource resource : resources) {
+            governedResourceGUIDs.add(resource.getGuid());
+
+            List<RangerTag> tags = resourceTags.getOrDefault(resource.getGuid(), Collections.emptyList());
+            if (new ResourceTagging(resource, tags).equals(synced.get(resource.getGuid()))) {
+                continue;
+            }
+
+            batch = addToBatch(changes, batch, resource, tags);
+        }
+
+        for (Map.Entry<String, ResourceTagging> syncedResource : synced.entrySet()) {
+            if (!governedResourceGUIDs.contains(syncedResource.getKey()) && syncedResource.getValue().hasTags()) {
+                RangerServiceResource resource = syncedResource.getValue().getResource(syncedResource.getKey());
+
+                batch = addToBatch(changes, batch, resource, Collections.emptyList());
+            }
+        }
+
+        return changes;
+    }
+
+    /**
+     * Record that Ranger has accepted an import request.
+     *
+     * @param serviceTags import request returned by getChanges
+     */
+    void changesApplied(RangerServiceTags serviceTags) {
+        if (syncedResources == null) {
+            syncedResources = new HashMap<>();
+        }
+
+        for (RangerServiceResource resource : serviceTags.getServiceResources()) {
+            List<RangerTag> tags = new ArrayList<>();
+            for (Long tagId : serviceTags.getResourceToTagIds().getOrDefault(resource.getId(), Collections.emptyList())) {
+                tags.add(serviceTags.getTags().get(tagId));
+            }
+
+            ResourceTagging tagging = new ResourceTagging(resource, tags);
+            if (tagging.hasTags()) {
+                syncedResources.put(resource.getGuid(), tagging);
+            } else {
+                syncedResources.remove(resource.getGuid());
+            }
+        }
+    }
+
+    private ImportBatch addToBatch(List<RangerServiceTags> changes, ImportBatch batch, RangerServiceResource resource, List<RangerTag> tags) {
+        if (batch == null || batch.getResourceCount() >= batchSize) {
+            batch = new ImportBatch();
+            changes.add(batch.getServiceTags());
+        }
+
+        batch.add(resource, tags);
+        return batch;
+    }
+
+    /**
+     * A single import request under construction.
+     */
+    private static class ImportBatch {
+
+        private final RangerServiceTags serviceTags = new RangerServiceTags();
+        private final Map<String, Long> tagIds = new HashMap<>();
+
+        ImportBatch() {
+            RangerTagDef securityTagsDef = new RangerTagDef();
+            securityTagsDef.setId(SECURITY_TAGS_DEF_ID);
+            securityTagsDef.setCreatedBy(RANGER_CONNECTOR);
+            securityTagsDef.setName(SECURITY_TAGS);
+
+            serviceTags.setServiceName(DEFAULT_SCHEMA_NAME);
+            serviceTags.getTagDefinitions().put(SECURITY_TAGS_DEF_ID, securityTagsDef);
+        }
+
+        void add(RangerServiceResource resource, List<RangerTag> tags) {
+            Long resourceId = (long) serviceTags.getServiceResources().size() + 1;
+            List<Long> resourceTagIds = new ArrayList<>();
+
+            for (RangerTag tag : tags) {
+                resourceTagIds.add(tagIds.computeIfAbsent(tag.getGuid(), guid -> {
+                    Long tagId = (long) serviceTags.getTags().size() + 1;
+                    serviceTags.getTags().put(tagId, tag);
+                    return tagId;
+                }));
+            }
+
+            resource.setId(resourceId);
+            serviceTags.getServiceResources().add(resource);
+            serviceTags.getResourceToTagIds().put(resourceId, resourceTagIds);
+        }
+
+        int getResourceCount() {
+            return serviceTags.getServiceResources().size();
+        }
+
+        RangerServiceTags getServiceTags() {
+            return serviceTags;
+        }
+    }
+
+    /**
+     * The parts of a resource and its security tags that are compared to detect a change.
+     */
+    private static class ResourceTagging {
+
+        private final String serviceName;
+        private final Map<String, List<String>> resourceElements = new HashMap<>();
+        private final Map<String, Map<String, String>> tagAttributes = new HashMap<>();
+
+        ResourceTagging(RangerServiceResource resource, List<RangerTag> tags) {
+            this.serviceName = resource.getServiceName();
+
+            if (resource.getResourceElements() != null) {
+                resource.getResourceElements().forEach((element, value) -> resourceElements.put(element, value == null ? null : value.getValues()));
+            }
+
+            for (RangerTag tag : tags) {
+                tagAttributes.put(tag.getGuid(), tag.getAttributes());
+            }
+        }
+
+        boolean hasTags() {
+            return !tagAttributes.isEmpty();
+        }
+
+        RangerServiceResource getResource(String guid) {
+            RangerServiceResource resource = new RangerServiceResource();
+            Map<String, RangerPolicyResource> elements = new HashMap<>();
+
+            resourceElements.forEach((element, values) -> {
+                RangerPolicyResource value = new RangerPolicyResource();
+                value.setValues(values);
+                elements.put(element, value);
+            });
+
+            resource.setGuid(guid);
+            resource.setServiceName(serviceName);
+            resource.setCreatedBy(RANGER_CONNECTOR);
+            resource.setResourceElements(elements);
+            return resource;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ResourceTagging that = (ResourceTagging) o;
+            return Objects.equals(serviceName, that.serviceName) &&
+                    resourceElements.equals(that.resourceElements) &&
+                    tagAttributes.equals(that.tagAttributes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serviceName, resourceElements, tagAttributes);
+        }
+    }
+}
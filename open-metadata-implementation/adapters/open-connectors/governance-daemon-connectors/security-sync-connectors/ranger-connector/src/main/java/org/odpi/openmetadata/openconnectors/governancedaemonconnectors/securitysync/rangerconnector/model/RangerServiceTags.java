@@ -0,0 +1,97 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RangerServiceTags is the request body for Ranger's bulk service tags import.  The ids of the tag definitions,
+ * tags and resources are only used to link them together within the request.  Ranger matches them with the
+ * objects it already has by their guids.
+ */
+public class RangerServiceTags {
+
+    public static final String OP_ADD_OR_UPDATE = "add_or_update";
+    public static final String OP_DELETE = "delete";
+    public static final String OP_REPLACE = "replace";
+
+    private String op = OP_ADD_OR_UPDATE;
+    private String serviceName;
+    private Long tagVersion;
+    private Map<Long, RangerTagDef> tagDefinitions = new HashMap<>();
+    private Map<Long, RangerTag> tags = new HashMap<>();
+    private List<RangerServiceResource> serviceResources = new ArrayList<>();
+    private Map<Long, List<Long>> resourceToTagIds = new HashMap<>();
+
+    public String getOp() {
+        return op;
+    }
+
+    public void setOp(String op) {
+        this.op = op;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public Long getTagVersion() {
+        return tagVersion;
+    }
+
+    public void setTagVersion(Long tagVersion) {
+        this.tagVersion = tagVersion;
+    }
+
+    public Map<Long, RangerTagDef> getTagDefinitions() {
+        return tagDefinitions;
+    }
+
+    public void setTagDefinitions(Map<Long, RangerTagDef> tagDefinitions) {
+        this.tagDefinitions = tagDefinitions;
+    }
+
+    public Map<Long, RangerTag> getTags() {
+        return tags;
+    }
+
+    public void setTags(Map<Long, RangerTag> tags) {
+        this.tags = tags;
+    }
+
+    public List<RangerServiceResource> getServiceResources() {
+        return serviceResources;
+    }
+
+    public void setServiceResources(List<RangerServiceResource> serviceResources) {
+        this.serviceResources = serviceResources;
+    }
+
+    public Map<Long, List<Long>> getResourceToTagIds() {
+        return resourceToTagIds;
+    }
+
+    public void setResourceToTagIds(Map<Long, List<Long>> resourceToTagIds) {
+        this.resourceToTagIds = resourceToTagIds;
+    }
+
+    @Override
+    public String toString() {
+        return "RangerServiceTags{" +
+                "op='" + op + '\'' +
+                ", serviceName='" + serviceName + '\'' +
+                ", tagVersion=" + tagVersion +
+                ", tagDefinitions=" + tagDefinitions +
+                ", tags=" + tags +
+                ", serviceResources=" + serviceResources +
+                ", resourceToTagIds=" + resourceToTagIds +
+                '}';
+    }
+}
@@ -0,0 +1,167 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.Context;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernanceClassification;
+import org.odpi.openmetadata.accessservices.governanceengine.api.model.GovernedAsset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.securitysync.rangerconnector.model.RangerServiceTags;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs the tag import against a stub of the Ranger tag REST API.
+ */
+public class RangerSecurityServiceConnectorTest {
+
+    private static final String EXISTING_RESOURCES = "[{\"id\":10,\"guid\":\"asset-3\",\"serviceName\":\"gaian\"," +
+            "\"resourceElements\":{\"schema\":{\"values\":[\"gaian\"]},\"table\":{\"values\":[\"customers\"]}}}]";
+    private static final String EXISTING_TAGS = "[{\"id\":20,\"guid\":\"PII\",\"type\":\"SecurityTags\",\"attributes\":{\"name\":\"PII\"}}]";
+    private static final String EXISTING_MAPPINGS = "[{\"id\":30,\"tagId\":20,\"resourceId\":10}]";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> requests = new ArrayList<>();
+    private final List<RangerServiceTags> imports = new ArrayList<>();
+    private HttpServer rangerServer;
+    private RangerSecurityServiceConnector connector;
+
+    @BeforeMethod
+    public void startRanger() throws IOException {
+        requests.clear();
+        imports.clear();
+
+        rangerServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        rangerServer.createContext("/service/tags/resources/", exchange -> respond(exchange, EXISTING_RESOURCES));
+        rangerServer.createContext("/service/tags/tags", exchange -> respond(exchange, EXISTING_TAGS));
+        rangerServer.createContext("/service/tags/tagresourcemaps", exchange -> respond(exchange, EXISTING_MAPPINGS));
+        rangerServer.createContext("/service/tags/importservicetags/", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                imports.add(objectMapper.readValue(body, RangerServiceTags.class));
+            }
+            respond(exchange, null);
+        });
+        rangerServer.start();
+    }
+
+    @AfterMethod
+    public void stopRanger() {
+        rangerServer.stop(0);
+    }
+
+    @Test
+    public void testOnlyChangedAssetsAreImported() {
+        connector = new RangerSecurityServiceConnector(getConnection(null));
+
+        List<GovernedAsset> governedAssets = new ArrayList<>(Arrays.asList(getGovernedAsset("asset-1", "orders", "Confidential"),
+                getGovernedAsset("asset-2", "payments", "Confidential"),
+                getGovernedAsset("asset-3", "customers", "PII")));
+
+        connector.importTaggedResources(governedAssets);
+
+        assertEquals(requests.size(), 4, "Existing content should be read once before a single import: " + requests);
+        assertEquals(imports.size(), 1);
+        RangerServiceTags firstImport = imports.get(0);
+        assertEquals(firstImport.getOp(), RangerServiceTags.OP_ADD_OR_UPDATE);
+        assertEquals(firstImport.getServiceResources().size(), 2, "asset-3 is already tagged in Ranger");
+        assertEquals(firstImport.getTags().size(), 1, "Confidential is shared by both resources");
+
+        connector.importTaggedResources(governedAssets);
+        assertEquals(requests.size(), 4, "Nothing has changed so nothing should be sent");
+
+        governedAssets.set(1, getGovernedAsset("asset-2", "payments", "Restricted"));
+        governedAssets.remove(2);
+        connector.importTaggedResources(governedAssets);
+
+        assertEquals(requests.size(), 5);
+        RangerServiceTags lastImport = imports.get(1);
+        assertEquals(lastImport.getServiceResources().size(), 2);
+
+        Map<String, Integer> tagCounts = new HashMap<>();
+        lastImport.getServiceResources().forEach(resource ->
+                tagCounts.put(resource.getGuid(), lastImport.getResourceToTagIds().get(resource.getId()).size()));
+        assertEquals(tagCounts.get("asset-2"), Integer.valueOf(1));
+        assertEquals(tagCounts.get("asset-3"), Integer.valueOf(0), "asset-3 is no longer governed so its tags are removed");
+    }
+
+    @Test
+    public void testImportIsBatched() {
+        connector = new RangerSecurityServiceConnector(getConnection(2));
+
+        List<GovernedAsset> governedAssets = new ArrayList<>();
+        for (int assetNumber = 0; assetNumber < 5; assetNumber++) {
+            governedAssets.add(getGovernedAsset("batched-asset-" + assetNumber, "table" + assetNumber, "Confidential"));
+        }
+
+        connector.importTaggedResources(governedAssets);
+
+        assertEquals(imports.size(), 3);
+        imports.forEach(serviceTags -> assertTrue(serviceTags.getServiceResources().size() <= 2));
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI());
+
+        if (body == null) {
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(response);
+        }
+    }
+
+    private Connection getConnection(Integer importBatchSize) {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress("http://localhost:" + rangerServer.getAddress().getPort());
+
+        Connection connection = new Connection();
+        connection.setEndpoint(endpoint);
+
+        if (importBatchSize != null) {
+            Map<String, Object> configurationProperties = new HashMap<>();
+            configurationProperties.put("securityServerImportBatchSize", importBatchSize);
+            connection.setConfigurationProperties(configurationProperties);
+        }
+        return connection;
+    }
+
+    private GovernedAsset getGovernedAsset(String guid, String table, String securityLabel) {
+        Context context = new Context();
+        context.setTable(table);
+
+        GovernanceClassification classification = new GovernanceClassification();
+        classification.setSecurityLabels(Collections.singletonList(securityLabel));
+
+        GovernedAsset governedAsset = new GovernedAsset();
+        governedAsset.setGuid(guid);
+        governedAsset.setContext(context);
+        governedAsset.setAssignedGovernanceClassification(classification);
+        return governedAsset;
+    }
+}
@@ -16,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
@@ -27,16 +28,31 @@ import static org.odpi.openmetadata.governanceservers.virtualizationservices.vie
 import static org.odpi.openmetadata.governanceservers.virtualizationservices.viewgenerator.utils.ConnectorUtils.TECHNICAL_PREFIX;
 
 /**
- * This is the interface for the generic operations on data virtualization solutions
+ * This is the interface for the generic operations on data virtualization solutions.
+ *
+ * The Gaian procedures that define the logical tables are called through prepared statements that are reused for
+ * the life of the connector.  The changes for a table are compared with the logical table definitions already in
+ * Gaian and the data sources this connector has set up, so only the tables that are missing or defined differently
+ * are changed.  The changes are sent as JDBC batches in a single transaction.  If a change fails, the transaction
+ * is rolled back and the tables are reported as not created; the rollback only undoes the work that the
+ * procedures do inside the database transaction.
  */
 public class ViewGeneratorDerbyConnector extends ViewGeneratorConnectorBase {
 
     private static final Logger log = LoggerFactory.getLogger(ViewGeneratorDerbyConnector.class);
 
+    private static final String SET_LOGICAL_TABLE          = "call setlt(?, ?, ?)";
+    private static final String SET_LOGICAL_TABLE_FOR_NODE = "call setltfornode(?, ?)";
+    private static final String SET_DATA_SOURCE            = "call setdsrdbtable(?, ?, ?, ?, ?, ?)";
+    private static final String REMOVE_LOGICAL_TABLE       = "call removelt(?)";
+
     private String              databaseUrl;
     private java.sql.Connection derbyConnection;
     private java.sql.Statement  derbyStatement;
 
+    private final Map<String, PreparedStatement> preparedStatements = new HashMap<>();
+    private final Map<String, List<String>>      dataSources        = new HashMap<>();
+
     /*
      * Variables for building the connection to the Derby database
      */
@@ -143,31 +159,104 @@ public class ViewGeneratorDerbyConnector extends ViewGeneratorConnectorBase {
 
 
     /**
-     * Delete a table
+     * Use the supplied database connection rather than the one created from the endpoint.  This allows the tests
+     * to run the connector against an embedded database.
      *
-     * @param tableName table name
-     * @return boolean whether the table is deleted successfully
+     * @param derbyConnection connection to the database
      */
-    private boolean deleteLogicalTable(String tableName) {
-        final String actionDescription = "deleteLogicalTable";
+    void setDerbyConnection(java.sql.Connection derbyConnection) {
+        this.derbyConnection = derbyConnection;
+    }
 
-        try {
-            derbyStatement = derbyConnection.createStatement();
-            derbyStatement.setQueryTimeout(timeoutInSecond);
-            derbyStatement.executeUpdate("call removelt('" + tableName + "')");
 
-            log.debug("Successfully deleted table: {}.", tableName);
+    /**
+     * Return the prepared statement for a call to Gaian.  The statement is prepared the first time it is used.
+     *
+     * @param sql statement with parameter markers
+     * @return prepared statement
+     * @throws SQLException the statement can not be prepared
+     */
+    private PreparedStatement getPreparedStatement(String sql) throws SQLException {
+        PreparedStatement preparedStatement = preparedStatements.get(sql);
+
+        if (preparedStatement == null || preparedStatement.isClosed()) {
+            preparedStatement = derbyConnection.prepareStatement(sql);
+            preparedStatement.setQueryTimeout(timeoutInSecond);
+            preparedStatements.put(sql, preparedStatement);
+        }
+        return preparedStatement;
+    }
+
+    /**
+     * Execute the changes for a table in a single transaction.  Consecutive changes that call the same procedure are
+     * sent to Gaian as one batch.  If any change fails, the transaction is rolled back.
+     *
+     * @param actionDescription calling activity
+     * @param changes ordered list of changes
+     * @return boolean whether all of the changes were made
+     */
+    private boolean executeChanges(String actionDescription, List<LogicTableChange> changes) {
+        if (changes.isEmpty()) {
             return true;
+        }
+
+        boolean autoCommit = true;
+
+        try {
+            autoCommit = derbyConnection.getAutoCommit();
+            derbyConnection.setAutoCommit(false);
+
+            PreparedStatement batch = null;
+            String batchSql = null;
 
+            for (LogicTableChange change : changes) {
+                if (!change.sql.equals(batchSql)) {
+                    if (batch != null) {
+                        batch.executeBatch();
+                    }
+                    batch = getPreparedStatement(change.sql);
+                    batchSql = change.sql;
+                }
+                for (int parameter = 0; parameter < change.parameters.length; parameter++) {
+                    batch.setString(parameter + 1, change.parameters[parameter]);
+                }
+                batch.addBatch();
+            }
+            batch.executeBatch();
+            derbyConnection.commit();
+
+            log.debug("Successfully executed {} changes: {}", changes.size(), changes);
+            return true;
         } catch (SQLException e) {
-            log.error("Error deleting table", e);
+            log.error("Error executing changes {}", changes, e);
+            rollbackChanges();
             if (auditLog != null) {
                 auditLog.logException(actionDescription,
                                       DerbyViewConnectorAuditCode.CONNECTOR_QUERY_ERROR.getMessageDefinition(),
-                                      derbyStatement.toString(),
+                                      changes.toString(),
                                       e);
             }
             return false;
+        } finally {
+            try {
+                derbyConnection.setAutoCommit(autoCommit);
+            } catch (SQLException e) {
+                log.error("Unable to restore the auto commit mode", e);
+            }
+        }
+    }
+
+    /**
+     * Roll back a transaction that failed and discard any changes still waiting in the batches.
+     */
+    private void rollbackChanges() {
+        try {
+            derbyConnection.rollback();
+            for (PreparedStatement preparedStatement : preparedStatements.values()) {
+                preparedStatement.clearBatch();
+            }
+        } catch (SQLException e) {
+            log.error("Error rolling back changes", e);
         }
     }
 
@@ -176,10 +265,7 @@ public class ViewGeneratorDerbyConnector extends ViewGeneratorConnectorBase {
 
         List<LogicTable> logicTableList = new ArrayList<>();
 
-        try {
-            derbyStatement = derbyConnection.createStatement();
-            derbyStatement.setQueryTimeout(timeoutInSecond);
-            ResultSet resultSet = derbyStatement.executeQuery(getLogicTablesQuery);
+        try (ResultSet resultSet = getPreparedStatement(getLogicTablesQuery).executeQuery()) {
             while (resultSet.next()) {
                 logicTableList.add(extractLogicTableDefinition(resultSet));
             }
@@ -189,7 +275,7 @@ public class ViewGeneratorDerbyConnector extends ViewGeneratorConnectorBase {
             if (auditLog != null) {
                 auditLog.logException(actionDescription,
                                       DerbyViewConnectorAuditCode.CONNECTOR_QUERY_ERROR.getMessageDefinition(),
-                                      derbyStatement.toString(),
+                                      getLogicTablesQuery,
                                       e);
             }
         }
@@ -245,15 +331,23 @@ public class ViewGeneratorDerbyConnector extends ViewGeneratorConnectorBase {
             String logicalTableName = ConnectorUtils.getLogicTableName(ConnectorUtils.GENERAL, tableContextEvent, gaianNodeName);
             List<MappedColumn> mappedColumns = ConnectorUtils.getMappedColumns(tableContextEvent);
 
+            List<LogicTable> logicTables = getAllLogicTables();
+
             if (mappedColumns == null || mappedColumns.isEmpty()){
                 log.info("There are no business term associations to columns in the received event, removing existing definitions");
-                if (getMatchingTables(gaianNodeName, Arrays.asList(businessTableName, technicalTableName)) != null){
-                    deleteLogicalTable(businessTableName);
-                    deleteLogicalTable(technicalTableName);
+                List<LogicTableChange> changes = new ArrayList<>();
+                List<String> tableNames = Arrays.asList(businessTableName, technicalTableName);
+                for (String tableName : tableNames) {
+                    if (logicTables.stream().anyMatch(e -> tableName.equals(e.getLogicalTableName()))) {
+                        changes.add(new LogicTableChange(REMOVE_LOGICAL_TABLE, tableName));
+                    }
+                }
+                if (executeChanges(actionDescription, changes)) {
+                    dataSources.keySet().removeAll(tableNames);
                 }
             }
             else {
-                return createTableDefinitions(tableContextEvent, gaianNodeName, technicalTableName, businessTableName, logicalTableName, mappedColumns);
+                return createTableDefinitions(tableContextEvent, logicTables, gaianNodeName, technicalTableName, businessTableName, logicalTableName, mappedColumns);
             }
         } catch (Exception e){
             log.error("Unable to process the event.", e);
@@ -292,15 +386,19 @@ public class ViewGeneratorDerbyConnector extends ViewGeneratorConnectorBase {
     }
 
 
-    private LogicTable getMatchingTables(String gaianNodeName, List<String> tables) {
-        log.debug("gaianNodeName: {}", gaianNodeName);
-        log.debug("tables to match in gaian: {}", tables);
-        List<LogicTable> logicTableList = getAllLogicTables();
-
-        if (logicTableList != null && !logicTableList.isEmpty()) {
-            return logicTableList.stream().filter(e -> (e.getNodeName().equals(gaianNodeName) && tables.contains(e.getLogicalTableName()))).findFirst().orElse(null);
-        }
-        return null;
+    /**
+     * Return the logical table with the requested name that is defined on the requested node.
+     *
+     * @param logicTables logical tables defined in Gaian
+     * @param nodeName name of the Gaian node
+     * @param tableName name of the logical table
+     * @return logical table or null if it is not defined
+     */
+    private LogicTable findLogicTable(List<LogicTable> logicTables, String nodeName, String tableName) {
+        return logicTables.stream()
+                          .filter(e -> tableName.equals(e.getLogicalTableName()) && Objects.equals(nodeName, e.getNodeName()))
+                          .findFirst()
+                          .orElse(null);
     }
 
 
@@ -320,29 +418,66 @@ public class ViewGeneratorDerbyConnector extends ViewGeneratorConnectorBase {
     }
 
 
-    private Map<String, String> createTableDefinitions(TableContextEvent tableContextEvent, String gaianNodeName, String technicalTableName, String businessTableName, String logicalTableName, List<MappedColumn> mappedColumns){
-        String methodName = "createTableDefinitions";
+    private Map<String, String> createTableDefinitions(TableContextEvent tableContextEvent, List<LogicTable> logicTables, String gaianNodeName, String technicalTableName, String businessTableName, String logicalTableName, List<MappedColumn> mappedColumns){
+        final String actionDescription = "createTableDefinitions";
         Map<String, String> createdTables = new HashMap<>();
-        LogicTable backendTable = getMatchingTables(gaianNodeName, Collections.singletonList(logicalTableName));
+        LogicTable backendTable = logicTables.stream().filter(e -> (e.getNodeName().equals(gaianNodeName) && logicalTableName.equals(e.getLogicalTableName()))).findFirst().orElse(null);
         if (backendTable != null) {
-            if (!backendTable.getNodeName().equals(gaianFrontendName)) {
-                createMirroringLogicalTable(logicalTableName, gaianNodeName);
-            }
             ConnectorUtils.updateColumnDataType(mappedColumns, backendTable);
 
-            String updatedTable = createTableDefinition(tableContextEvent.getTableSource().getDatabaseSource().getName(), businessTableName, (c -> c.getBusinessName()), mappedColumns, gaianNodeName, logicalTableName);
-            if (updatedTable != null) {
-                createdTables.put(ConnectorUtils.BUSINESS_PREFIX, updatedTable);
+            Map<String, Function<MappedColumn, String>> tables = new LinkedHashMap<>();
+            tables.put(BUSINESS_PREFIX, MappedColumn::getBusinessName);
+            tables.put(TECHNICAL_PREFIX, MappedColumn::getTechnicalName);
+
+            Map<String, String> tableNames = new HashMap<>();
+            tableNames.put(BUSINESS_PREFIX, businessTableName);
+            tableNames.put(TECHNICAL_PREFIX, technicalTableName);
+
+            /*
+             * Only the tables that are missing or defined differently in Gaian are changed.
+             */
+            Map<String, String> changedTables = new HashMap<>();
+            List<LogicTableChange> tableChanges = new ArrayList<>();
+            List<LogicTableChange> dataSourceChanges = new ArrayList<>();
+            for (Map.Entry<String, Function<MappedColumn, String>> table : tables.entrySet()) {
+                String tableName = tableNames.get(table.getKey());
+                LogicTableChange dataSourceChange = buildCreateTableDataSourceStatement(tableName, gaianNodeName, mappedColumns, logicalTableName);
+                if (isDefinitionUnchanged(findLogicTable(logicTables, gaianFrontendName, tableName), mappedColumns, table.getValue())
+                        && dataSourceChange.getParameters().equals(dataSources.get(tableName))) {
+                    log.debug("Table {} is already defined", tableName);
+                    createdTables.put(table.getKey(), tableName);
+                } else {
+                    changedTables.put(table.getKey(), tableName);
+                    tableChanges.add(buildTableCreateStatement(tableName, mappedColumns, table.getValue()));
+                    dataSourceChanges.add(dataSourceChange);
+                }
             }
 
-            updatedTable = createTableDefinition(tableContextEvent.getTableSource().getDatabaseSource().getName(), technicalTableName, (c -> c.getTechnicalName()), mappedColumns, gaianNodeName, logicalTableName);
-            if (updatedTable != null) {
-                createdTables.put(ConnectorUtils.TECHNICAL_PREFIX, updatedTable);
+            if (changedTables.isEmpty()) {
+                return createdTables;
             }
 
-            if (!backendTable.getNodeName().equals(gaianFrontendName)) {
+            boolean mirrored = !backendTable.getNodeName().equals(gaianFrontendName);
+            List<LogicTableChange> changes = new ArrayList<>();
+            if (mirrored) {
+                log.debug("Set up Logical Table {} for Gaian node {}", logicalTableName, gaianNodeName);
+                changes.add(new LogicTableChange(SET_LOGICAL_TABLE_FOR_NODE, logicalTableName, gaianNodeName));
+            }
+            changes.addAll(tableChanges);
+            changes.addAll(dataSourceChanges);
+            if (mirrored) {
                 log.info("Remove mirrored logical table: {}", logicalTableName);
-                deleteLogicalTable(logicalTableName);
+                changes.add(new LogicTableChange(REMOVE_LOGICAL_TABLE, logicalTableName));
+            }
+
+            if (executeChanges(actionDescription, changes)) {
+                log.debug("Successfully created tables {}", changedTables.values());
+                createdTables.putAll(changedTables);
+                for (LogicTableChange dataSourceChange : dataSourceChanges) {
+                    dataSources.put(dataSourceChange.getParameters().get(0), dataSourceChange.getParameters());
+                }
+            } else {
+                log.error("Failed to create tables {}", changedTables.values());
             }
             return createdTables;
         } else {
@@ -353,36 +488,32 @@ public class ViewGeneratorDerbyConnector extends ViewGeneratorConnectorBase {
 
 
     /**
-     * Set Logical Table mirroring the definition for the given Logical Table Name on another GaianDB node, so its data can be queried remotely.
+     * Test whether a logical table already has the columns and types required for the mapped columns.  The data
+     * source that maps the table to the backend table is checked separately.
      *
-     * @param logicalTableName string name
-     * @param gaianNodeName string name
+     * @param logicTable existing definition on the frontend Gaian node, or null if the table is not defined there
+     * @param mappedColumns columns that should be in the table definition
+     * @param function to retrieve the value to be used as column name; it is either technical or business name
+     * @return boolean whether the table can be left as it is
      */
-    private void createMirroringLogicalTable(String logicalTableName, String gaianNodeName) {
-        log.debug("Set up Logical Table {} for Gaian node {}", logicalTableName, gaianNodeName);
-        String setLogicalTableForNode = "call setltfornode('" +
-                logicalTableName + "','" +
-                gaianNodeName + "')";
-
-        executeCustomizedUpdate(setLogicalTableForNode);
-    }
-
-    private String createTableDefinition(String databaseName, String tableName, Function<MappedColumn, String> function, List<MappedColumn> mappedColumns, String gaianNodeName, String logicalTableName) {
-        String businessTableCreateStatement = buildTableCreateStatement(tableName, mappedColumns, function);
-        String setBusinessTableDataSource = buildCreateTableDataSourceStatement(databaseName, tableName, gaianNodeName, mappedColumns, logicalTableName);
+    private boolean isDefinitionUnchanged(LogicTable logicTable, List<MappedColumn> mappedColumns, Function<MappedColumn, String> function) {
+        if (logicTable == null || logicTable.getLogicalTableDefinition() == null) {
+            return false;
+        }
 
-        boolean queryStatus = executeCustomizedUpdate(businessTableCreateStatement);
-        if (queryStatus){
-            queryStatus = executeCustomizedUpdate(setBusinessTableDataSource);
+        Map<String, String> existingDefinition = new HashMap<>();
+        for (Map.Entry<String, String> column : logicTable.getLogicalTableDefinition().entrySet()) {
+            existingDefinition.put(column.getKey().toUpperCase(), column.getValue().toUpperCase());
         }
 
-        if (queryStatus) {
-            log.debug("Successfully created table {}", tableName);
-            return tableName;
-        } else {
-            log.error("Failed to create table {}", tableName);
+        Map<String, String> requiredDefinition = new HashMap<>();
+        for (MappedColumn mappedColumn : mappedColumns) {
+            /* Gaian's table definition only holds the first word of each column type */
+            String columnType = String.valueOf(mappedColumn.getType()).trim().split(" ")[0];
+            requiredDefinition.put(function.apply(mappedColumn).toUpperCase(), columnType.toUpperCase());
         }
-        return null;
+
+        return existingDefinition.equals(requiredDefinition);
     }
 
     /**
@@ -390,37 +521,24 @@ public class ViewGeneratorDerbyConnector extends ViewGeneratorConnectorBase {
      * @param tableName name of the table to be created
      * @param mappedColumns columns to be added to table definition
      * @param function to retrieve the value to be used as column name; it is either technical or business name
-     * @return
+     * @return change that defines the table
      */
-    private String buildTableCreateStatement(String tableName, List<MappedColumn> mappedColumns, Function<MappedColumn, String> function) {
-        StringBuilder statement = new StringBuilder("call setlt('" +
-                tableName +
-                "','");
+    private LogicTableChange buildTableCreateStatement(String tableName, List<MappedColumn> mappedColumns, Function<MappedColumn, String> function) {
+        StringJoiner columns = new StringJoiner(",");
         for (MappedColumn mappedColumn : mappedColumns) {
-            statement.append(function.apply(mappedColumn)).append(" ").append(mappedColumn.getType()).append(",");
+            columns.add(function.apply(mappedColumn) + " " + mappedColumn.getType());
         }
-        statement = new StringBuilder(statement.substring(0, (statement.length() - 1)));
-        statement.append("','')");
-        return statement.toString();
+        return new LogicTableChange(SET_LOGICAL_TABLE, tableName, columns.toString(), "");
     }
 
 
-    private String buildCreateTableDataSourceStatement(String databaseName, String tableName, String gaianNodeName, List<MappedColumn> mappedColumns, String logicalTableName) {
+    private LogicTableChange buildCreateTableDataSourceStatement(String tableName, String gaianNodeName, List<MappedColumn> mappedColumns, String logicalTableName) {
         String connectionName = gaianNodeName.toUpperCase();
-        String statementForCreatingDataSource = "call setdsrdbtable('" +
-                tableName +
-                "', '', '" +
-                connectionName +
-                "', '" +
-                logicalTableName +
-                "','', '";
-
+        StringJoiner columns = new StringJoiner(",");
         for (MappedColumn mappedColumn : mappedColumns) {
-            statementForCreatingDataSource += mappedColumn.getTechnicalName() + ",";
+            columns.add(mappedColumn.getTechnicalName());
         }
-        statementForCreatingDataSource = statementForCreatingDataSource.substring(0, (statementForCreatingDataSource.length() - 1));
-        statementForCreatingDataSource += "')";
-        return statementForCreatingDataSource;
+        return new LogicTableChange(SET_DATA_SOURCE, tableName, "", connectionName, logicalTableName, "", columns.toString());
     }
 
 
@@ -433,6 +551,15 @@ public class ViewGeneratorDerbyConnector extends ViewGeneratorConnectorBase {
     {
         super.disconnect();
 
+        for (PreparedStatement preparedStatement : preparedStatements.values()) {
+            try {
+                preparedStatement.close();
+            } catch (SQLException e) {
+                log.debug("Unable to close statement", e);
+            }
+        }
+        preparedStatements.clear();
+
         if (auditLog != null)
         {
             final String actionDescription = "Connector Disconnect";
@@ -442,4 +569,32 @@ public class ViewGeneratorDerbyConnector extends ViewGeneratorConnectorBase {
                                 connectionProperties.toString());
         }
     }
+
+
+    /**
+     * A call to one of the Gaian procedures with its parameters.
+     */
+    private static class LogicTableChange {
+        private final String   sql;
+        private final String[] parameters;
+
+        LogicTableChange(String sql, String... parameters) {
+            this.sql = sql;
+            this.parameters = parameters;
+        }
+
+        /**
+         * Return the parameters of the call.
+         *
+         * @return list of parameter values
+         */
+        List<String> getParameters() {
+            return Arrays.asList(parameters);
+        }
+
+        @Override
+        public String toString() {
+            return sql + " " + Arrays.toString(parameters);
+        }
+    }
 }
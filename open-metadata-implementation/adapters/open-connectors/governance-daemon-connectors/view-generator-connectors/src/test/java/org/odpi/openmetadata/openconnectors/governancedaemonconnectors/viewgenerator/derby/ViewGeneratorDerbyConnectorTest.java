@@ -0,0 +1,333 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.viewgenerator.derby;
+
+import org.odpi.openmetadata.accessservices.informationview.events.BusinessTerm;
+import org.odpi.openmetadata.accessservices.informationview.events.DatabaseSource;
+import org.odpi.openmetadata.accessservices.informationview.events.EndpointSource;
+import org.odpi.openmetadata.accessservices.informationview.events.TableColumn;
+import org.odpi.openmetadata.accessservices.informationview.events.TableContextEvent;
+import org.odpi.openmetadata.accessservices.informationview.events.TableSource;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs the Derby view generator against an embedded Derby database where the Gaian procedures are replaced by
+ * stubs.  The stubs record each call and keep the logical table catalog in a table, so the tests show how the
+ * calls are batched, skipped and rolled back.
+ */
+public class ViewGeneratorDerbyConnectorTest {
+
+    private static final String FRONTEND_NODE   = "frontend";
+    private static final String BACKEND_NODE    = "backendnode";
+    private static final String BACKEND_TABLE   = "DERBY_SALES_APP_CUSTOMERS";
+    private static final String BUSINESS_TABLE  = "LTB_BACKENDNODE_DERBY_SALES_APP_CUSTOMERS";
+    private static final String TECHNICAL_TABLE = "LTT_BACKENDNODE_DERBY_SALES_APP_CUSTOMERS";
+
+    private static final AtomicInteger databaseCount = new AtomicInteger();
+
+    /*
+     * Name of the procedure that the stubs should fail, or null.
+     */
+    private static volatile String failingProcedure = null;
+
+    private final List<ViewGeneratorDerbyConnector> connectors = new ArrayList<>();
+    private java.sql.Connection                     database;
+
+    @BeforeMethod
+    public void createDatabase() throws SQLException {
+        failingProcedure = null;
+
+        database = DriverManager.getConnection("jdbc:derby:memory:viewgenerator" + databaseCount.incrementAndGet() + ";create=true");
+
+        try (Statement statement = database.createStatement()) {
+            statement.execute("CREATE TABLE LT (GDB_NODE VARCHAR(128), LTNAME VARCHAR(256), LTDEF VARCHAR(2000))");
+            statement.execute("CREATE TABLE CALLS (SEQ INT GENERATED ALWAYS AS IDENTITY, CALL VARCHAR(2000))");
+            createProcedure(statement, "SETLT", "LTNAME VARCHAR(256), LTDEF VARCHAR(2000), OPTIONS VARCHAR(256)");
+            createProcedure(statement, "SETLTFORNODE", "LTNAME VARCHAR(256), NODE VARCHAR(128)");
+            createProcedure(statement, "SETDSRDBTABLE", "LTNAME VARCHAR(256), DSNAME VARCHAR(256), CONNECTION VARCHAR(256), " +
+                    "TABLENAME VARCHAR(256), OPTIONS VARCHAR(256), COLUMNS VARCHAR(2000)");
+            createProcedure(statement, "REMOVELT", "LTNAME VARCHAR(256)");
+            statement.execute("INSERT INTO LT VALUES ('" + BACKEND_NODE + "', '" + BACKEND_TABLE + "', 'ID INTEGER, NAME VARCHAR(40)')");
+        }
+    }
+
+    @AfterMethod
+    public void closeDatabase() throws Exception {
+        for (ViewGeneratorDerbyConnector connector : connectors) {
+            connector.disconnect();
+        }
+        connectors.clear();
+        database.close();
+    }
+
+    /**
+     * The calls for a new table are sent in batches and the view is not defined again while it is unchanged.
+     */
+    @Test
+    public void testTablesAreDefinedOnce() throws Exception {
+        ViewGeneratorDerbyConnector connector = getConnector();
+
+        Map<String, String> tables = connector.processInformationViewEvent(getEvent("Customer Name"));
+
+        assertEquals(tables, getExpectedTables());
+        assertEquals(getCalls(), Arrays.asList(
+                "setltfornode " + BACKEND_TABLE + " " + BACKEND_NODE,
+                "setlt " + BUSINESS_TABLE + " Customer_Id INTEGER,Customer_Name VARCHAR(40)",
+                "setlt " + TECHNICAL_TABLE + " ID INTEGER,NAME VARCHAR(40)",
+                "setdsrdbtable " + BUSINESS_TABLE + " BACKENDNODE " + BACKEND_TABLE + " ID,NAME",
+                "setdsrdbtable " + TECHNICAL_TABLE + " BACKENDNODE " + BACKEND_TABLE + " ID,NAME",
+                "removelt " + BACKEND_TABLE));
+
+        clearCalls();
+
+        assertEquals(connector.processInformationViewEvent(getEvent("Customer Name")), getExpectedTables());
+        assertTrue(getCalls().isEmpty(), "Unchanged tables are not defined again: " + getCalls());
+
+        /*
+         * A new business term only changes the business table.
+         */
+        assertEquals(connector.processInformationViewEvent(getEvent("Customer Full Name")), getExpectedTables());
+        assertEquals(getCalls(), Arrays.asList(
+                "setltfornode " + BACKEND_TABLE + " " + BACKEND_NODE,
+                "setlt " + BUSINESS_TABLE + " Customer_Id INTEGER,Customer_Full_Name VARCHAR(40)",
+                "setdsrdbtable " + BUSINESS_TABLE + " BACKENDNODE " + BACKEND_TABLE + " ID,NAME",
+                "removelt " + BACKEND_TABLE));
+    }
+
+    /**
+     * A table whose columns match is still defined again when the connector has not set up its data source.
+     */
+    @Test
+    public void testDataSourceIsChecked() throws Exception {
+        getConnector().processInformationViewEvent(getEvent("Customer Name"));
+        clearCalls();
+
+        ViewGeneratorDerbyConnector restartedConnector = getConnector();
+
+        assertEquals(restartedConnector.processInformationViewEvent(getEvent("Customer Name")), getExpectedTables());
+        assertEquals(getCalls().size(), 6, getCalls().toString());
+    }
+
+    /**
+     * A failing call rolls back the calls made before it in the same transaction and the tables are not reported.
+     */
+    @Test
+    public void testFailedChangesAreRolledBack() throws Exception {
+        ViewGeneratorDerbyConnector connector = getConnector();
+
+        failingProcedure = "removelt";
+
+        assertEquals(connector.processInformationViewEvent(getEvent("Customer Name")), Collections.emptyMap());
+        assertTrue(getCalls().isEmpty(), "Calls are rolled back: " + getCalls());
+        assertEquals(getLogicalTables(), Collections.singletonList(BACKEND_NODE + " " + BACKEND_TABLE));
+
+        failingProcedure = null;
+
+        assertEquals(connector.processInformationViewEvent(getEvent("Customer Name")), getExpectedTables());
+        assertEquals(getCalls().size(), 6, getCalls().toString());
+        assertEquals(getLogicalTables(), Arrays.asList(BACKEND_NODE + " " + BACKEND_TABLE,
+                                                       FRONTEND_NODE + " " + BUSINESS_TABLE,
+                                                       FRONTEND_NODE + " " + TECHNICAL_TABLE));
+    }
+
+    /**
+     * Stub for Gaian's setlt procedure.
+     *
+     * @param ltName logical table name
+     * @param ltDef logical table definition
+     * @param options options
+     * @throws SQLException requested failure
+     */
+    public static void setlt(String ltName, String ltDef, String options) throws SQLException {
+        recordCall("setlt", ltName + " " + ltDef);
+        removeLogicalTable(ltName);
+        try (PreparedStatement statement = getDefaultConnection().prepareStatement("INSERT INTO LT VALUES (?, ?, ?)")) {
+            statement.setString(1, FRONTEND_NODE);
+            statement.setString(2, ltName);
+            statement.setString(3, ltDef.replace(",", ", "));
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Stub for Gaian's setltfornode procedure.
+     *
+     * @param ltName logical table name
+     * @param node node that defines the table
+     * @throws SQLException requested failure
+     */
+    public static void setltfornode(String ltName, String node) throws SQLException {
+        recordCall("setltfornode", ltName + " " + node);
+    }
+
+    /**
+     * Stub for Gaian's setdsrdbtable procedure.
+     *
+     * @param ltName logical table name
+     * @param dsName data source name
+     * @param connection connection name
+     * @param tableName backend table name
+     * @param options options
+     * @param columns backend columns
+     * @throws SQLException requested failure
+     */
+    public static void setdsrdbtable(String ltName, String dsName, String connection, String tableName, String options, String columns) throws SQLException {
+        recordCall("setdsrdbtable", ltName + " " + connection + " " + tableName + " " + columns);
+    }
+
+    /**
+     * Stub for Gaian's removelt procedure.
+     *
+     * @param ltName logical table name
+     * @throws SQLException requested failure
+     */
+    public static void removelt(String ltName) throws SQLException {
+        recordCall("removelt", ltName);
+        removeLogicalTable(ltName);
+    }
+
+    private static void recordCall(String procedure, String arguments) throws SQLException {
+        if (procedure.equals(failingProcedure)) {
+            throw new SQLException("Stub failure in " + procedure);
+        }
+
+        try (PreparedStatement statement = getDefaultConnection().prepareStatement("INSERT INTO CALLS (CALL) VALUES (?)")) {
+            statement.setString(1, procedure + " " + arguments);
+            statement.executeUpdate();
+        }
+    }
+
+    private static void removeLogicalTable(String ltName) throws SQLException {
+        try (PreparedStatement statement = getDefaultConnection().prepareStatement("DELETE FROM LT WHERE GDB_NODE = ? AND LTNAME = ?")) {
+            statement.setString(1, FRONTEND_NODE);
+            statement.setString(2, ltName);
+            statement.executeUpdate();
+        }
+    }
+
+    private static java.sql.Connection getDefaultConnection() throws SQLException {
+        return DriverManager.getConnection("jdbc:default:connection");
+    }
+
+    private void createProcedure(Statement statement, String name, String parameters) throws SQLException {
+        statement.execute("CREATE PROCEDURE " + name + "(" + parameters + ") " +
+                                  "LANGUAGE JAVA PARAMETER STYLE JAVA MODIFIES SQL DATA " +
+                                  "EXTERNAL NAME '" + ViewGeneratorDerbyConnectorTest.class.getName() + "." + name.toLowerCase() + "'");
+    }
+
+    private ViewGeneratorDerbyConnector getConnector() {
+        Map<String, String> endpointProperties = new HashMap<>();
+        endpointProperties.put("create", "false");
+        endpointProperties.put("timeoutInSecond", "10");
+
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress("jdbc:derby://localhost:6414");
+        endpoint.setAdditionalProperties(endpointProperties);
+
+        Map<String, String> connectionProperties = new HashMap<>();
+        connectionProperties.put("databaseName", "gaiandb");
+        connectionProperties.put("logicTableName", "LTNAME");
+        connectionProperties.put("logicTableDefinition", "LTDEF");
+        connectionProperties.put("gdbNode", "GDB_NODE");
+        connectionProperties.put("getLogicTables", "SELECT GDB_NODE, LTNAME, LTDEF FROM LT");
+        connectionProperties.put("frontendName", FRONTEND_NODE);
+
+        Connection connection = new Connection();
+        connection.setEndpoint(endpoint);
+        connection.setAdditionalProperties(connectionProperties);
+
+        ViewGeneratorDerbyConnector connector = new ViewGeneratorDerbyConnector();
+        connector.initialize("test", new ConnectionProperties(connection));
+        connector.setDerbyConnection(database);
+        connectors.add(connector);
+
+        return connector;
+    }
+
+    private TableContextEvent getEvent(String nameTerm) {
+        EndpointSource endpointSource = new EndpointSource();
+        endpointSource.setNetworkAddress("backend.node");
+        endpointSource.setConnectorProviderName("Derby");
+
+        DatabaseSource databaseSource = new DatabaseSource();
+        databaseSource.setName("sales");
+        databaseSource.setEndpointSource(endpointSource);
+
+        TableSource tableSource = new TableSource();
+        tableSource.setName("customers");
+        tableSource.setSchemaName("app");
+        tableSource.setDatabaseSource(databaseSource);
+
+        TableContextEvent event = new TableContextEvent();
+        event.setTableSource(tableSource);
+        event.setTableColumns(Arrays.asList(getColumn("ID", "Customer Id"), getColumn("NAME", nameTerm)));
+
+        return event;
+    }
+
+    private TableColumn getColumn(String name, String termName) {
+        BusinessTerm businessTerm = new BusinessTerm();
+        businessTerm.setName(termName);
+
+        TableColumn column = new TableColumn();
+        column.setName(name);
+        column.setType("VARCHAR");
+        column.setBusinessTerms(Collections.singletonList(businessTerm));
+
+        return column;
+    }
+
+    private Map<String, String> getExpectedTables() {
+        Map<String, String> tables = new HashMap<>();
+        tables.put("LTB", BUSINESS_TABLE);
+        tables.put("LTT", TECHNICAL_TABLE);
+
+        return tables;
+    }
+
+    private List<String> getCalls() throws SQLException {
+        return query("SELECT CALL FROM CALLS ORDER BY SEQ");
+    }
+
+    private List<String> getLogicalTables() throws SQLException {
+        return query("SELECT GDB_NODE || ' ' || LTNAME FROM LT ORDER BY GDB_NODE, LTNAME");
+    }
+
+    private void clearCalls() throws SQLException {
+        try (Statement statement = database.createStatement()) {
+            statement.executeUpdate("DELETE FROM CALLS");
+        }
+    }
+
+    private List<String> query(String sql) throws SQLException {
+        List<String> results = new ArrayList<>();
+
+        try (Statement statement = database.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                results.add(resultSet.getString(1));
+            }
+        }
+        return results;
+    }
+}
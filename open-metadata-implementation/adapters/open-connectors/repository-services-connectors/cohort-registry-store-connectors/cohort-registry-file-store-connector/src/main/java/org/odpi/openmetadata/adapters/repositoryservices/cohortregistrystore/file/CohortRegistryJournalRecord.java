@@ -0,0 +1,140 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.cohortregistrystore.file;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.properties.MemberRegistration;
+
+import java.io.Serializable;
+
+
+/**
+ * CohortRegistryJournalRecord is a single change to the cohort registry that is appended to the journal of the
+ * JournaledRegistryStoreConnector.  Each record carries the complete new state of the member it changes so
+ * replaying a record more than once has the same result as replaying it once.
+ */
+public class CohortRegistryJournalRecord implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    /**
+     * JournalAction describes the change recorded in the journal.
+     */
+    public enum JournalAction
+    {
+        SAVE_LOCAL,
+        REMOVE_LOCAL,
+        SAVE_REMOTE,
+        REMOVE_REMOTE
+    }
+
+    private JournalAction      action               = null;
+    private String             metadataCollectionId = null;
+    private MemberRegistration registration         = null;
+
+
+    /**
+     * Default constructor used when the record is read from the journal.
+     */
+    public CohortRegistryJournalRecord()
+    {
+    }
+
+
+    /**
+     * Constructor used when a change is written to the journal.
+     *
+     * @param action change to the registry
+     * @param metadataCollectionId metadata collection id of the remote member being removed
+     * @param registration new registration for a save action
+     */
+    public CohortRegistryJournalRecord(JournalAction      action,
+                                       String             metadataCollectionId,
+                                       MemberRegistration registration)
+    {
+        this.action = action;
+        this.metadataCollectionId = metadataCollectionId;
+        this.registration = registration;
+    }
+
+
+    /**
+     * Return the change to the registry.
+     *
+     * @return action enum
+     */
+    public JournalAction getAction()
+    {
+        return action;
+    }
+
+
+    /**
+     * Set up the change to the registry.
+     *
+     * @param action action enum
+     */
+    public void setAction(JournalAction action)
+    {
+        this.action = action;
+    }
+
+
+    /**
+     * Return the metadata collection id of the remote member that was removed.
+     *
+     * @return String guid
+     */
+    public String getMetadataCollectionId()
+    {
+        return metadataCollectionId;
+    }
+
+
+    /**
+     * Set up the metadata collection id of the remote member that was removed.
+     *
+     * @param metadataCollectionId String guid
+     */
+    public void setMetadataCollectionId(String metadataCollectionId)
+    {
+        this.metadataCollectionId = metadataCollectionId;
+    }
+
+
+    /**
+     * Return the registration that was saved.
+     *
+     * @return member registration
+     */
+    public MemberRegistration getRegistration()
+    {
+        return registration;
+    }
+
+
+    /**
+     * Set up the registration that was saved.
+     *
+     * @param registration member registration
+     */
+    public void setRegistration(MemberRegistration registration)
+    {
+        this.registration = registration;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "CohortRegistryJournalRecord{" +
+                "action=" + action +
+                ", metadataCollectionId='" + metadataCollectionId + '\'' +
+                ", registration=" + registration +
+                '}';
+    }
+}
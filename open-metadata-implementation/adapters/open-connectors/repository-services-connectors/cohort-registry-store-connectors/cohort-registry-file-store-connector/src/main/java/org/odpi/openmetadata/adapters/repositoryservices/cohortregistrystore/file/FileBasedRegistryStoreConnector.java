@@ -3,8 +3,6 @@
 package org.odpi.openmetadata.adapters.repositoryservices.cohortregistrystore.file;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
-import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
@@ -419,159 +417,6 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
     }
 
 
-    /**
-     * Test the uniqueness of a single cohort member
-     *
-     * @param testMember member to test
-     * @param metadataCollectionIdTestMap test map
-     * @param serverNameTestMap test map
-     * @param endpointAddressTestMap test map
-     */
-    private void  mapMember(MemberRegistration               testMember,
-                            Map<String, MemberRegistration>  metadataCollectionIdTestMap,
-                            Map<String, MemberRegistration>  serverNameTestMap,
-                            Map<String, MemberRegistration>  endpointAddressTestMap)
-    {
-        if (auditLog != null)
-        {
-            String actionDescription = "saveRegistryStore";
-
-            if (testMember != null)
-            {
-                if ((testMember.getMetadataCollectionId() == null) || ("".equals(testMember.getMetadataCollectionId())))
-                {
-                    auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_REGISTERED_MC_ID.getMessageDefinition(testMember.getServerName()));
-                }
-                else
-                {
-                    MemberRegistration duplicateMember = metadataCollectionIdTestMap.put(testMember.getMetadataCollectionId(), testMember);
-
-                    if (duplicateMember != null)
-                    {
-                        auditLog.logMessage(actionDescription,
-                                            OMRSAuditCode.DUPLICATE_REGISTERED_MC_ID.getMessageDefinition(testMember.getMetadataCollectionId(),
-                                                                                                          testMember.getServerName(),
-                                                                                                          duplicateMember.getServerName()),
-                                           testMember.toString() + " " + duplicateMember.toString());
-                    }
-                }
-
-
-                if ((testMember.getServerName() == null) || ("".equals(testMember.getServerName())))
-                {
-                    auditLog.logMessage(actionDescription,
-                                        OMRSAuditCode.NULL_REGISTERED_SERVER_NAME.getMessageDefinition(testMember.getMetadataCollectionId()),
-                                        testMember.toString());
-                }
-                else
-                {
-                    MemberRegistration duplicateMember = serverNameTestMap.put(testMember.getServerName(), testMember);
-                    if (duplicateMember != null)
-                    {
-                        auditLog.logMessage(actionDescription,
-                                            OMRSAuditCode.DUPLICATE_REGISTERED_SERVER_NAME.getMessageDefinition(testMember.getServerName(),
-                                                                                                                testMember.getMetadataCollectionId(),
-                                                                                                                duplicateMember.getMetadataCollectionId()),
-                                           testMember.toString() + " " + duplicateMember.toString());
-                    }
-                }
-
-                Connection repositoryConnection = testMember.getRepositoryConnection();
-
-                if (repositoryConnection != null)
-                {
-                    Endpoint endpoint   = repositoryConnection.getEndpoint();
-                    String   serverAddress = null;
-
-                    if (endpoint != null)
-                    {
-                        serverAddress = endpoint.getAddress();
-                    }
-
-                    if (serverAddress != null)
-                    {
-                        MemberRegistration duplicateMember = endpointAddressTestMap.put(serverAddress, testMember);
-
-                        if (duplicateMember != null)
-                        {
-                            auditLog.logMessage(actionDescription,
-                                                OMRSAuditCode.DUPLICATE_REGISTERED_SERVER_ADDR.getMessageDefinition(testMember.getServerName(),
-                                                                                testMember.getMetadataCollectionId(),
-                                                                                serverAddress,
-                                                                                duplicateMember.getServerName(),
-                                                                                duplicateMember.getMetadataCollectionId()),
-                                               testMember.toString() + " " + duplicateMember.toString());
-                        }
-                    }
-                    else
-                    {
-                        auditLog.logMessage(actionDescription,
-                                            OMRSAuditCode.NULL_REGISTERED_SERVER_NAME.getMessageDefinition(testMember.getServerName(),
-                                                                                                           testMember.getMetadataCollectionId()),
-                                            testMember.toString());
-                    }
-                }
-                else
-                {
-                    auditLog.logMessage(actionDescription,
-                                        OMRSAuditCode.NULL_REGISTERED_SERVER_CONNECTION.getMessageDefinition(testMember.getServerName(),
-                                                                                                             testMember.getMetadataCollectionId()),
-                                       testMember.toString());
-                }
-            }
-            else
-            {
-                auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_MEMBER_REGISTRATION.getMessageDefinition());
-            }
-        }
-    }
-
-
-    /**
-     * This method performs a number of checks to ensure each member of the cohort is unique
-     * in terms of its metadata collection id, server name and endpoint address.
-     *
-     * @param newRegistryStoreProperties values that are about to written the registry store
-     */
-    private void validateRegistryStore(CohortMembership   newRegistryStoreProperties)
-    {
-        if (newRegistryStoreProperties != null)
-        {
-            Map<String, MemberRegistration> metadataCollectionIdTestMap = new HashMap<>();
-            Map<String, MemberRegistration> serverNameTestMap           = new HashMap<>();
-            Map<String, MemberRegistration> endpointAddressTestMap      = new HashMap<>();
-
-            /*
-             * It is ok for the local registration to be null
-             */
-            if (newRegistryStoreProperties.getLocalRegistration() != null)
-            {
-                /*
-                 * Add the local member to each of the test maps
-                 */
-                mapMember(newRegistryStoreProperties.getLocalRegistration(),
-                          metadataCollectionIdTestMap,
-                          serverNameTestMap,
-                          endpointAddressTestMap);
-            }
-
-            if (newRegistryStoreProperties.getRemoteRegistrations() != null)
-            {
-                /*
-                 * The remote members should not be null/empty
-                 */
-                for (MemberRegistration  remoteMember : newRegistryStoreProperties.getRemoteRegistrations())
-                {
-                    mapMember(remoteMember,
-                              metadataCollectionIdTestMap,
-                              serverNameTestMap,
-                              endpointAddressTestMap);
-                }
-            }
-        }
-    }
-
-
     /**
      * Writes the supplied registry store properties to the registry store.
      *
@@ -581,7 +426,7 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
     {
         File    registryStoreFile = new File(registryStoreName);
 
-        this.validateRegistryStore(newRegistryStoreProperties);
+        CohortRegistryStoreValidator.validateRegistryStore(newRegistryStoreProperties, auditLog);
 
         try
         {
@@ -0,0 +1,877 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.cohortregistrystore.file;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.OMRSCohortRegistryStoreConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.properties.CohortMembership;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.properties.MemberRegistration;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+/**
+ * JournaledRegistryStoreConnector stores details of the membership of the open metadata repository cohort on
+ * behalf of the OMRSCohortRegistry.  It keeps the registry in memory and appends each change to a journal file
+ * rather than rewriting the whole registry.  When the registry store is opened, the in-memory view is rebuilt
+ * from the last snapshot and the journal.  After a number of changes, and when the connector is disconnected,
+ * the registry is compacted: a new snapshot is written and the journal is emptied.
+ * <p>
+ * The snapshot uses the same JSON format as the FileBasedRegistryStoreConnector so an existing registry file can
+ * be used as the snapshot.  The journal is stored alongside the snapshot with the ".journal" suffix.
+ * </p>
+ * <p>
+ * The connector supports the following configuration properties:
+ * </p>
+ * <ul>
+ *     <li>syncOnWrite - when true (the default) each change is forced to disk before the call returns.</li>
+ *     <li>compactionThreshold - the number of changes written to the journal before it is compacted (default 100).</li>
+ * </ul>
+ */
+public class JournaledRegistryStoreConnector extends OMRSCohortRegistryStoreConnectorBase
+{
+    public static final String SYNC_ON_WRITE_PROPERTY         = "syncOnWrite";
+    public static final String COMPACTION_THRESHOLD_PROPERTY  = "compactionThreshold";
+
+    public static final int    DEFAULT_COMPACTION_THRESHOLD   = 100;
+
+    /*
+     * This is the name of the cohort registry file that is used if there is no file name in the connection.
+     */
+    private static final String defaultFilename  = "cohort.registry";
+    private static final String journalSuffix    = ".journal";
+    private static final String temporarySuffix  = ".tmp";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /*
+     * Variables used in writing to the files.
+     */
+    private String           registryStoreName       = defaultFilename;
+    private boolean          syncOnWrite             = true;
+    private int              compactionThreshold     = DEFAULT_COMPACTION_THRESHOLD;
+
+    /*
+     * The in-memory view of the registry and the state of the journal.  They are protected by the lock.
+     */
+    private final ReadWriteLock                   registryLock         = new ReentrantReadWriteLock();
+    private final Map<String, MemberRegistration> remoteRegistrations  = new LinkedHashMap<>();
+    private MemberRegistration                    localRegistration    = null;
+    private FileChannel                           journalChannel       = null;
+    private int                                   journalRecordCount   = 0;
+    private volatile boolean                      isLoaded             = false;
+
+    /*
+     * Variables used for logging and debug.
+     */
+    private static final Logger log = LoggerFactory.getLogger(JournaledRegistryStoreConnector.class);
+
+
+    /**
+     * Initialize the connector.
+     *
+     * @param connectorInstanceId - unique id for the connector instance - useful for messages etc
+     * @param connectionProperties - POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String connectorInstanceId, ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        EndpointProperties endpoint = connectionProperties.getEndpoint();
+
+        if (endpoint != null)
+        {
+            registryStoreName = endpoint.getAddress();
+
+            if (registryStoreName == null)
+            {
+                registryStoreName = defaultFilename;
+            }
+        }
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            Object syncOnWriteProperty = configurationProperties.get(SYNC_ON_WRITE_PROPERTY);
+
+            if (syncOnWriteProperty != null)
+            {
+                syncOnWrite = Boolean.parseBoolean(syncOnWriteProperty.toString());
+            }
+
+            Object compactionThresholdProperty = configurationProperties.get(COMPACTION_THRESHOLD_PROPERTY);
+
+            if (compactionThresholdProperty != null)
+            {
+                try
+                {
+                    compactionThreshold = Math.max(Integer.parseInt(compactionThresholdProperty.toString()), 1);
+                }
+                catch (NumberFormatException error)
+                {
+                    log.debug("Ignoring invalid compaction threshold " + compactionThresholdProperty);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Indicates that the connector is completely configured and can begin processing.
+     * This is when the registry store is opened.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void start() throws ConnectorCheckedException
+    {
+        super.start();
+
+        this.loadRegistryStore();
+    }
+
+
+    /**
+     * Save the local registration to the cohort registry store.  This provides details of the local repository's
+     * registration with the metadata repository cohort.
+     * Any previous local registration information is overwritten.
+     *
+     * @param localRegistration - details of the local repository's registration with the metadata cohort.
+     */
+    public void saveLocalRegistration(MemberRegistration localRegistration)
+    {
+        if (localRegistration != null)
+        {
+            this.loadRegistryStore();
+
+            registryLock.writeLock().lock();
+
+            try
+            {
+                this.localRegistration = new MemberRegistration(localRegistration);
+
+                this.writeJournalRecord(new CohortRegistryJournalRecord(CohortRegistryJournalRecord.JournalAction.SAVE_LOCAL,
+                                                                        localRegistration.getMetadataCollectionId(),
+                                                                        localRegistration));
+            }
+            finally
+            {
+                registryLock.writeLock().unlock();
+            }
+        }
+        else
+        {
+            if (auditLog != null)
+            {
+                String actionDescription = "Saving Local Registration to Registry Store";
+
+                auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_MEMBER_REGISTRATION.getMessageDefinition(registryStoreName));
+            }
+
+            log.debug("Null local registration passed to saveLocalRegistration :(");
+        }
+    }
+
+
+    /**
+     * Retrieve details of the local registration from the cohort registry store.  A null may be returned if the
+     * local registration information has not been saved (typically because this is a new server instance).
+     *
+     * @return MemberRegistration object containing details for the local repository's registration with the
+     * metadata cohort (may be null if no registration has taken place).
+     */
+    public MemberRegistration retrieveLocalRegistration()
+    {
+        this.loadRegistryStore();
+
+        registryLock.readLock().lock();
+
+        try
+        {
+            if (localRegistration == null)
+            {
+                log.debug("Null local registration returned from retrieveLocalRegistration");
+
+                return null;
+            }
+
+            return new MemberRegistration(localRegistration);
+        }
+        finally
+        {
+            registryLock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Remove details of the local registration from the cohort registry store.  This is used when the local
+     * repository unregisters from the open metadata repository cohort.
+     */
+    public void removeLocalRegistration()
+    {
+        log.debug("Removing local repository from  cohort registry store.");
+
+        this.loadRegistryStore();
+
+        registryLock.writeLock().lock();
+
+        try
+        {
+            localRegistration = null;
+
+            this.writeJournalRecord(new CohortRegistryJournalRecord(CohortRegistryJournalRecord.JournalAction.REMOVE_LOCAL, null, null));
+        }
+        finally
+        {
+            registryLock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Save details of a remote registration.  This contains details of one of the other repositories in the
+     * metadata repository cohort.  Any previous registration for the same metadata collection id is overwritten.
+     *
+     * @param remoteRegistration - details of a remote repository in the metadata repository cohort.
+     */
+    public void saveRemoteRegistration(MemberRegistration  remoteRegistration)
+    {
+        if ((remoteRegistration != null) && (remoteRegistration.getMetadataCollectionId() != null))
+        {
+            this.loadRegistryStore();
+
+            registryLock.writeLock().lock();
+
+            try
+            {
+                remoteRegistrations.put(remoteRegistration.getMetadataCollectionId(), new MemberRegistration(remoteRegistration));
+
+                this.writeJournalRecord(new CohortRegistryJournalRecord(CohortRegistryJournalRecord.JournalAction.SAVE_REMOTE,
+                                                                        remoteRegistration.getMetadataCollectionId(),
+                                                                        remoteRegistration));
+            }
+            finally
+            {
+                registryLock.writeLock().unlock();
+            }
+        }
+        else
+        {
+            if (auditLog != null)
+            {
+                String actionDescription = "Saving a Remote Registration to Cohort Registry Store";
+
+                auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_MEMBER_REGISTRATION.getMessageDefinition(registryStoreName));
+            }
+
+            log.debug("Null remote registration passed to saveRemoteRegistration :(");
+        }
+    }
+
+
+    /**
+     * Return a list of all of the remote metadata repositories registered in the metadata repository cohort.
+     *
+     * @return Remote registrations list
+     */
+    public List<MemberRegistration> retrieveRemoteRegistrations()
+    {
+        this.loadRegistryStore();
+
+        registryLock.readLock().lock();
+
+        try
+        {
+            if (remoteRegistrations.isEmpty())
+            {
+                return null;
+            }
+
+            List<MemberRegistration> remoteRegistrationList = new ArrayList<>();
+
+            for (MemberRegistration remoteRegistration : remoteRegistrations.values())
+            {
+                remoteRegistrationList.add(new MemberRegistration(remoteRegistration));
+            }
+
+            return remoteRegistrationList;
+        }
+        finally
+        {
+            registryLock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Return the registration information for a specific metadata repository, identified by its metadataCollectionId.
+     * If the metadataCollectionId is not recognized then null is returned.
+     *
+     * @param metadataCollectionId - unique identifier for the repository
+     * @return MemberRegistration object containing details of the remote metadata repository. (null if not found)
+     */
+    public MemberRegistration retrieveRemoteRegistration(String    metadataCollectionId)
+    {
+        if (metadataCollectionId != null)
+        {
+            this.loadRegistryStore();
+
+            registryLock.readLock().lock();
+
+            try
+            {
+                MemberRegistration remoteRegistration = remoteRegistrations.get(metadataCollectionId);
+
+                if (remoteRegistration != null)
+                {
+                    return new MemberRegistration(remoteRegistration);
+                }
+            }
+            finally
+            {
+                registryLock.readLock().unlock();
+            }
+
+            log.debug("No remote registration for " + metadataCollectionId);
+        }
+        else
+        {
+            if (auditLog != null)
+            {
+                String actionDescription = "Retrieving Remote Registration from Cohort Registry Store";
+
+                auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_MEMBER_REGISTRATION.getMessageDefinition(registryStoreName));
+            }
+
+            log.debug("Null metadataCollectionId passed to retrieveRemoteRegistration :(");
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Remove details of the requested remote repository's registration from the store.
+     *
+     * @param metadataCollectionId - unique identifier for the repository
+     */
+    public void removeRemoteRegistration(String    metadataCollectionId)
+    {
+        if (metadataCollectionId != null)
+        {
+            MemberRegistration removedMember;
+
+            this.loadRegistryStore();
+
+            registryLock.writeLock().lock();
+
+            try
+            {
+                removedMember = remoteRegistrations.remove(metadataCollectionId);
+
+                if (removedMember != null)
+                {
+                    this.writeJournalRecord(new CohortRegistryJournalRecord(CohortRegistryJournalRecord.JournalAction.REMOVE_REMOTE,
+                                                                            metadataCollectionId,
+                                                                            null));
+                }
+            }
+            finally
+            {
+                registryLock.writeLock().unlock();
+            }
+
+            if (removedMember == null)
+            {
+                if (auditLog != null)
+                {
+                    String actionDescription = "Removing Remote Registration from Cohort Registry Store";
+
+                    auditLog.logMessage(actionDescription, OMRSAuditCode.MISSING_MEMBER_REGISTRATION.getMessageDefinition(metadataCollectionId, registryStoreName));
+                }
+
+                log.debug("MetadataCollectionId : " + metadataCollectionId + " passed to removeRemoteRegistration not found :(");
+            }
+        }
+        else
+        {
+            if (auditLog != null)
+            {
+                String actionDescription = "Removing Remote Registration from Cohort Registry Store";
+
+                auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_MEMBER_REGISTRATION.getMessageDefinition(registryStoreName));
+            }
+
+            log.debug("Null metadataCollectionId passed to removeRemoteRegistration :(");
+        }
+    }
+
+
+    /**
+     * Remove the local and remote registrations from the cohort registry store since the local server has
+     * unregistered from the cohort.  Both the snapshot and the journal are deleted.
+     */
+    public void clearAllRegistrations()
+    {
+        registryLock.writeLock().lock();
+
+        try
+        {
+            localRegistration = null;
+            remoteRegistrations.clear();
+
+            this.closeJournal();
+
+            Files.deleteIfExists(new File(registryStoreName + journalSuffix).toPath());
+            Files.deleteIfExists(new File(registryStoreName).toPath());
+
+            journalRecordCount = 0;
+            isLoaded = true;
+        }
+        catch (IOException ioException)
+        {
+            this.logUnusableRegistryStore("Clearing Cohort Registry Store", ioException);
+        }
+        finally
+        {
+            registryLock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Compact the journal and close the registry store.
+     */
+    public void disconnect()
+    {
+        registryLock.writeLock().lock();
+
+        try
+        {
+            if ((isLoaded) && (journalRecordCount > 0))
+            {
+                this.compactRegistryStore();
+            }
+
+            this.closeJournal();
+
+            isLoaded = false;
+        }
+        finally
+        {
+            registryLock.writeLock().unlock();
+        }
+
+        try
+        {
+            super.disconnect();
+        }
+        catch (Throwable  exec)
+        {
+            log.debug("Ignoring unexpected exception " + exec.getClass().getSimpleName() + " with message " + exec.getMessage());
+        }
+
+        log.debug("Closing Cohort Registry Store.");
+    }
+
+
+    /**
+     * Flush all changes and close the registry store.
+     */
+    public void close()
+    {
+        this.disconnect();
+    }
+
+
+    /**
+     * Return the number of changes in the journal that have not been compacted into the snapshot.
+     *
+     * @return count
+     */
+    int getJournalRecordCount()
+    {
+        registryLock.readLock().lock();
+
+        try
+        {
+            return journalRecordCount;
+        }
+        finally
+        {
+            registryLock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Build the in-memory view of the registry from the snapshot and the journal if this has not already been done.
+     * Replay stops at the first record that can not be read since it is the result of a write that did not
+     * complete.  If the journal contains any records, the registry is compacted straight away so that new records
+     * are not appended after a partial record.
+     */
+    private void loadRegistryStore()
+    {
+        if (isLoaded)
+        {
+            return;
+        }
+
+        registryLock.writeLock().lock();
+
+        try
+        {
+            if (isLoaded)
+            {
+                return;
+            }
+
+            localRegistration = null;
+            remoteRegistrations.clear();
+            journalRecordCount = 0;
+
+            File snapshotFile = new File(registryStoreName);
+            File journalFile  = new File(registryStoreName + journalSuffix);
+
+            if ((! snapshotFile.exists()) && (! journalFile.exists()))
+            {
+                if (auditLog != null)
+                {
+                    String actionDescription = "Retrieving Cohort Registry Store Properties";
+
+                    auditLog.logMessage(actionDescription, OMRSAuditCode.CREATE_REGISTRY_FILE.getMessageDefinition(registryStoreName));
+                }
+
+                log.debug("New Cohort Registry Store " + registryStoreName);
+            }
+
+            if (snapshotFile.exists())
+            {
+                try
+                {
+                    CohortMembership snapshot = objectMapper.readValue(snapshotFile, CohortMembership.class);
+
+                    localRegistration = snapshot.getLocalRegistration();
+
+                    if (snapshot.getRemoteRegistrations() != null)
+                    {
+                        for (MemberRegistration remoteRegistration : snapshot.getRemoteRegistrations())
+                        {
+                            if ((remoteRegistration != null) && (remoteRegistration.getMetadataCollectionId() != null))
+                            {
+                                remoteRegistrations.put(remoteRegistration.getMetadataCollectionId(), remoteRegistration);
+                            }
+                        }
+                    }
+                }
+                catch (IOException ioException)
+                {
+                    this.logUnusableRegistryStore("Retrieving Cohort Registry Store Properties", ioException);
+                }
+            }
+
+            if ((journalFile.exists()) && (journalFile.length() > 0))
+            {
+                int unreadableRecordCount = 0;
+
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(journalFile),
+                                                                                      StandardCharsets.UTF_8)))
+                {
+                    String journalLine;
+
+                    while ((journalLine = reader.readLine()) != null)
+                    {
+                        if (unreadableRecordCount > 0)
+                        {
+                            unreadableRecordCount++;
+                        }
+                        else if (! journalLine.trim().isEmpty())
+                        {
+                            if (this.replayJournalRecord(journalLine))
+                            {
+                                journalRecordCount++;
+                            }
+                            else
+                            {
+                                unreadableRecordCount++;
+                            }
+                        }
+                    }
+                }
+                catch (IOException ioException)
+                {
+                    this.logUnusableRegistryStore("Replaying Cohort Registry Store Journal", ioException);
+                }
+
+                if (unreadableRecordCount > 0)
+                {
+                    if (auditLog != null)
+                    {
+                        String actionDescription = "Replaying Cohort Registry Store Journal";
+
+                        auditLog.logMessage(actionDescription,
+                                            OMRSAuditCode.UNREADABLE_REGISTRY_JOURNAL.getMessageDefinition(Integer.toString(unreadableRecordCount),
+                                                                                                          registryStoreName));
+                    }
+
+                    log.debug("Ignored " + unreadableRecordCount + " unreadable records in " + journalFile.getName());
+                }
+
+                this.compactRegistryStore();
+            }
+
+            isLoaded = true;
+        }
+        finally
+        {
+            registryLock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Apply a single record from the journal to the in-memory view.
+     *
+     * @param journalLine record in JSON
+     * @return false if the record can not be read
+     */
+    private boolean replayJournalRecord(String journalLine)
+    {
+        CohortRegistryJournalRecord journalRecord;
+
+        try
+        {
+            journalRecord = objectMapper.readValue(journalLine, CohortRegistryJournalRecord.class);
+        }
+        catch (IOException ioException)
+        {
+            log.debug("Unreadable journal record: " + journalLine, ioException);
+
+            return false;
+        }
+
+        if (journalRecord.getAction() == null)
+        {
+            return false;
+        }
+
+        switch (journalRecord.getAction())
+        {
+            case SAVE_LOCAL:
+                if (journalRecord.getRegistration() == null)
+                {
+                    return false;
+                }
+
+                localRegistration = journalRecord.getRegistration();
+                break;
+
+            case REMOVE_LOCAL:
+                localRegistration = null;
+                break;
+
+            case SAVE_REMOTE:
+                if ((journalRecord.getRegistration() == null) || (journalRecord.getMetadataCollectionId() == null))
+                {
+                    return false;
+                }
+
+                remoteRegistrations.put(journalRecord.getMetadataCollectionId(), journalRecord.getRegistration());
+                break;
+
+            case REMOVE_REMOTE:
+                if (journalRecord.getMetadataCollectionId() == null)
+                {
+                    return false;
+                }
+
+                remoteRegistrations.remove(journalRecord.getMetadataCollectionId());
+                break;
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Append a change to the journal and compact the registry if the journal has reached the compaction threshold.
+     * The caller must hold the write lock and has already applied the change to the in-memory view.
+     *
+     * @param journalRecord change to the registry
+     */
+    private void writeJournalRecord(CohortRegistryJournalRecord journalRecord)
+    {
+        CohortRegistryStoreValidator.validateRegistryStore(this.getCohortMembership(), auditLog);
+
+        try
+        {
+            log.debug("Writing cohort registry journal record " + journalRecord);
+
+            if (journalChannel == null)
+            {
+                journalChannel = FileChannel.open(new File(registryStoreName + journalSuffix).toPath(),
+                                                  StandardOpenOption.CREATE,
+                                                  StandardOpenOption.WRITE,
+                                                  StandardOpenOption.APPEND);
+            }
+
+            /*
+             * The record and its line separator are written together so a partial write can only affect
+             * the last record in the journal.
+             */
+            ByteBuffer journalLine = ByteBuffer.wrap((objectMapper.writeValueAsString(journalRecord) + "\n").getBytes(StandardCharsets.UTF_8));
+
+            while (journalLine.hasRemaining())
+            {
+                journalChannel.write(journalLine);
+            }
+
+            if (syncOnWrite)
+            {
+                journalChannel.force(false);
+            }
+
+            journalRecordCount++;
+        }
+        catch (IOException ioException)
+        {
+            this.logUnusableRegistryStore("Writing Cohort Registry Store Journal", ioException);
+        }
+
+        if (journalRecordCount >= compactionThreshold)
+        {
+            this.compactRegistryStore();
+        }
+    }
+
+
+    /**
+     * Write the in-memory view to a new snapshot and empty the journal.  The snapshot is written to a temporary
+     * file and forced to disk before it replaces the old snapshot so there is always a complete snapshot on disk.
+     * If the server stops after the snapshot is replaced but before the journal is removed, replaying the journal
+     * again on the new snapshot gives the same registry.  The caller must hold the write lock.
+     */
+    private void compactRegistryStore()
+    {
+        File snapshotFile  = new File(registryStoreName);
+        File temporaryFile = new File(registryStoreName + temporarySuffix);
+
+        try
+        {
+            log.debug("Compacting cohort registry store " + registryStoreName + " with " + journalRecordCount + " journal records");
+
+            try (FileOutputStream snapshotStream = new FileOutputStream(temporaryFile))
+            {
+                snapshotStream.write(objectMapper.writeValueAsBytes(this.getCohortMembership()));
+                snapshotStream.getFD().sync();
+            }
+
+            try
+            {
+                Files.move(temporaryFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException notSupported)
+            {
+                Files.move(temporaryFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            this.closeJournal();
+
+            Files.deleteIfExists(new File(registryStoreName + journalSuffix).toPath());
+
+            journalRecordCount = 0;
+        }
+        catch (IOException ioException)
+        {
+            this.logUnusableRegistryStore("Compacting Cohort Registry Store", ioException);
+        }
+    }
+
+
+    /**
+     * Return the in-memory view in the format used by the snapshot.  The caller must hold a lock.
+     *
+     * @return cohort membership
+     */
+    private CohortMembership getCohortMembership()
+    {
+        CohortMembership cohortMembership = new CohortMembership();
+
+        cohortMembership.setLocalRegistration(localRegistration);
+
+        if (! remoteRegistrations.isEmpty())
+        {
+            cohortMembership.setRemoteRegistrations(new ArrayList<>(remoteRegistrations.values()));
+        }
+
+        return cohortMembership;
+    }
+
+
+    /**
+     * Close the journal file if it is open.  The caller must hold the write lock.
+     */
+    private void closeJournal()
+    {
+        if (journalChannel != null)
+        {
+            try
+            {
+                journalChannel.close();
+            }
+            catch (IOException ioException)
+            {
+                log.debug("Ignoring error closing journal " + ioException.getMessage());
+            }
+
+            journalChannel = null;
+        }
+    }
+
+
+    /**
+     * Log an error reading or writing the registry store files.
+     *
+     * @param actionDescription activity that failed
+     * @param ioException exception from the file system
+     */
+    private void logUnusableRegistryStore(String actionDescription, IOException ioException)
+    {
+        if (auditLog != null)
+        {
+            auditLog.logException(actionDescription,
+                                  OMRSAuditCode.UNUSABLE_REGISTRY_FILE.getMessageDefinition(registryStoreName),
+                                  ioException);
+        }
+
+        log.debug("Unusable Cohort Registry Store :(", ioException);
+    }
+}
@@ -0,0 +1,37 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.cohortregistrystore.file;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.OMRSCohortRegistryStoreProviderBase;
+
+/**
+ * JournaledRegistryStoreProvider is the OCF connector provider for the journaled cohort registry store.
+ */
+public class JournaledRegistryStoreProvider extends OMRSCohortRegistryStoreProviderBase
+{
+    static final String  connectorTypeGUID = "5b0c3c6e-8a2f-4d0e-9f43-2d6e1c7b9a51";
+    static final String  connectorTypeName = "Journaled Cohort Registry Store Connector";
+    static final String  connectorTypeDescription = "Connector supports storing of the open metadata cohort registry in a snapshot file and a journal of changes.";
+
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * registry store implementation.
+     */
+    public JournaledRegistryStoreProvider()
+    {
+        Class<?>    connectorClass = JournaledRegistryStoreConnector.class;
+
+        super.setConnectorClassName(connectorClass.getName());
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeName);
+        connectorType.setDisplayName(connectorTypeName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+
+        super.connectorTypeBean = connectorType;
+    }
+}
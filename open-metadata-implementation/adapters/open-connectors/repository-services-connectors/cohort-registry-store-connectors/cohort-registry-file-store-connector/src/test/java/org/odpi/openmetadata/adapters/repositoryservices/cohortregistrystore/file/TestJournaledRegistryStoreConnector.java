@@ -0,0 +1,308 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.cohortregistrystore.file;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.properties.MemberRegistration;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test that the JournaledRegistryStoreConnector rebuilds the registry from its snapshot and journal,
+ * survives a partially written journal record and compacts the journal.
+ */
+public class TestJournaledRegistryStoreConnector
+{
+    private Path   registryDirectory;
+    private String registryStoreName;
+
+
+    @BeforeMethod
+    public void createRegistryDirectory() throws IOException
+    {
+        registryDirectory = Files.createTempDirectory("journaled-registry");
+        registryStoreName = new File(registryDirectory.toFile(), "Test.registrystore").getPath();
+    }
+
+
+    @AfterMethod
+    public void removeRegistryDirectory()
+    {
+        File[] registryFiles = registryDirectory.toFile().listFiles();
+
+        if (registryFiles != null)
+        {
+            for (File registryFile : registryFiles)
+            {
+                registryFile.delete();
+            }
+        }
+
+        registryDirectory.toFile().delete();
+    }
+
+
+    private ConnectionProperties getConnectionProperties(String connectorProviderClassName,
+                                                         boolean syncOnWrite,
+                                                         int    compactionThreshold)
+    {
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setType(Endpoint.getEndpointType());
+        endpoint.setAddress(registryStoreName);
+
+        ConnectorType connectorType = new ConnectorType();
+
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setConnectorProviderClassName(connectorProviderClassName);
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(JournaledRegistryStoreConnector.SYNC_ON_WRITE_PROPERTY, syncOnWrite);
+        configurationProperties.put(JournaledRegistryStoreConnector.COMPACTION_THRESHOLD_PROPERTY, compactionThreshold);
+
+        Connection connection = new Connection();
+
+        connection.setType(Connection.getConnectionType());
+        connection.setGUID(UUID.randomUUID().toString());
+        connection.setEndpoint(endpoint);
+        connection.setConnectorType(connectorType);
+        connection.setConfigurationProperties(configurationProperties);
+
+        return new ConnectionProperties(connection);
+    }
+
+
+    private JournaledRegistryStoreConnector getConnector(boolean syncOnWrite, int compactionThreshold) throws Exception
+    {
+        JournaledRegistryStoreConnector connector = new JournaledRegistryStoreConnector();
+
+        connector.initialize(UUID.randomUUID().toString(),
+                             getConnectionProperties(JournaledRegistryStoreProvider.class.getName(), syncOnWrite, compactionThreshold));
+        connector.start();
+
+        return connector;
+    }
+
+
+    private  MemberRegistration  getMemberRegistration(String   name)
+    {
+        MemberRegistration   member = new MemberRegistration();
+
+        member.setMetadataCollectionId(name + "MetadataCollectionId");
+        member.setMetadataCollectionName(name + "MetadataCollectionName");
+        member.setOrganizationName(name + "OrganizationName");
+        member.setServerName(name + "ServerName");
+        member.setServerType(name + "ServerType");
+        member.setRegistrationTime(new Date());
+        member.setRepositoryConnection(new Connection());
+
+        return member;
+    }
+
+
+    @Test public void testActiveConnector() throws Exception
+    {
+        JournaledRegistryStoreConnector connector = getConnector(true, 100);
+
+        assertTrue(connector.isActive());
+
+        MemberRegistration   local = getMemberRegistration("local");
+        MemberRegistration   fred  = getMemberRegistration("Fred");
+
+        connector.saveLocalRegistration(null);
+        assertNull(connector.retrieveLocalRegistration());
+        assertNull(connector.retrieveRemoteRegistrations());
+
+        connector.saveLocalRegistration(local);
+        connector.saveRemoteRegistration(fred);
+
+        assertEquals(connector.retrieveLocalRegistration(), local);
+        assertEquals(connector.retrieveRemoteRegistration("FredMetadataCollectionId"), fred);
+        assertNull(connector.retrieveRemoteRegistration("JoeMetadataCollectionId"));
+        assertEquals(connector.retrieveRemoteRegistrations().size(), 1);
+
+        connector.removeLocalRegistration();
+        assertNull(connector.retrieveLocalRegistration());
+
+        connector.removeRemoteRegistration("FredMetadataCollectionId");
+        connector.removeRemoteRegistration("JoeMetadataCollectionId");
+        assertNull(connector.retrieveRemoteRegistrations());
+
+        connector.saveRemoteRegistration(fred);
+        connector.clearAllRegistrations();
+
+        assertNull(connector.retrieveRemoteRegistration("FredMetadataCollectionId"));
+        assertFalse(new File(registryStoreName).exists());
+        assertFalse(new File(registryStoreName + ".journal").exists());
+
+        connector.close();
+        assertFalse(connector.isActive());
+    }
+
+
+    @Test public void testRegistryIsRebuiltAfterCrash() throws Exception
+    {
+        JournaledRegistryStoreConnector connector = getConnector(true, 100);
+
+        MemberRegistration   local = getMemberRegistration("local");
+        MemberRegistration   fred  = getMemberRegistration("Fred");
+        MemberRegistration   joe   = getMemberRegistration("Joe");
+
+        connector.saveLocalRegistration(local);
+        connector.saveRemoteRegistration(fred);
+        connector.saveRemoteRegistration(joe);
+        connector.removeRemoteRegistration("FredMetadataCollectionId");
+
+        joe.setServerType("NewServerType");
+        connector.saveRemoteRegistration(joe);
+
+        assertEquals(connector.getJournalRecordCount(), 5);
+
+        /*
+         * The first connector is not disconnected so the registry is only in the journal.
+         */
+        JournaledRegistryStoreConnector restarted = getConnector(true, 100);
+
+        assertEquals(restarted.retrieveLocalRegistration(), local);
+        assertNull(restarted.retrieveRemoteRegistration("FredMetadataCollectionId"));
+        assertEquals(restarted.retrieveRemoteRegistration("JoeMetadataCollectionId"), joe);
+        assertEquals(restarted.retrieveRemoteRegistrations().size(), 1);
+        assertEquals(restarted.getJournalRecordCount(), 0, "The journal is compacted when the registry is rebuilt");
+
+        restarted.close();
+    }
+
+
+    @Test public void testPartialJournalRecordIsIgnored() throws Exception
+    {
+        JournaledRegistryStoreConnector connector = getConnector(true, 100);
+
+        connector.saveLocalRegistration(getMemberRegistration("local"));
+        connector.saveRemoteRegistration(getMemberRegistration("Fred"));
+        connector.saveRemoteRegistration(getMemberRegistration("Joe"));
+
+        /*
+         * Simulate a crash part way through writing the last record.
+         */
+        try (RandomAccessFile journal = new RandomAccessFile(registryStoreName + ".journal", "rw"))
+        {
+            journal.setLength(journal.length() - 20);
+        }
+
+        JournaledRegistryStoreConnector restarted = getConnector(true, 100);
+
+        assertEquals(restarted.retrieveLocalRegistration().getServerName(), "localServerName");
+        assertEquals(restarted.retrieveRemoteRegistration("FredMetadataCollectionId").getServerName(), "FredServerName");
+        assertNull(restarted.retrieveRemoteRegistration("JoeMetadataCollectionId"));
+
+        /*
+         * New changes are not lost behind the partial record.
+         */
+        restarted.saveRemoteRegistration(getMemberRegistration("Bob"));
+
+        JournaledRegistryStoreConnector restartedAgain = getConnector(true, 100);
+
+        assertEquals(restartedAgain.retrieveRemoteRegistrations().size(), 2);
+        assertEquals(restartedAgain.retrieveRemoteRegistration("BobMetadataCollectionId").getServerName(), "BobServerName");
+
+        restartedAgain.close();
+    }
+
+
+    @Test public void testJournalIsCompacted() throws Exception
+    {
+        JournaledRegistryStoreConnector connector = getConnector(true, 10);
+
+        for (int member = 0; member < 25; member++)
+        {
+            connector.saveRemoteRegistration(getMemberRegistration("Member" + member));
+        }
+
+        assertEquals(connector.getJournalRecordCount(), 5);
+        assertTrue(new File(registryStoreName).exists());
+
+        connector.close();
+
+        assertFalse(new File(registryStoreName + ".journal").exists(), "The journal is compacted on disconnect");
+
+        JournaledRegistryStoreConnector restarted = getConnector(true, 10);
+
+        assertEquals(restarted.retrieveRemoteRegistrations().size(), 25);
+
+        restarted.close();
+    }
+
+
+    @Test public void testSnapshotIsCompatibleWithFileBasedStore() throws Exception
+    {
+        FileBasedRegistryStoreConnector fileBasedConnector = new FileBasedRegistryStoreConnector();
+
+        fileBasedConnector.initialize(UUID.randomUUID().toString(),
+                                      getConnectionProperties(FileBasedRegistryStoreProvider.class.getName(), true, 100));
+        fileBasedConnector.start();
+        fileBasedConnector.saveLocalRegistration(getMemberRegistration("local"));
+        fileBasedConnector.saveRemoteRegistration(getMemberRegistration("Fred"));
+        fileBasedConnector.close();
+
+        JournaledRegistryStoreConnector connector = getConnector(true, 100);
+
+        assertEquals(connector.retrieveLocalRegistration().getServerName(), "localServerName");
+        assertEquals(connector.retrieveRemoteRegistration("FredMetadataCollectionId").getServerName(), "FredServerName");
+
+        connector.saveRemoteRegistration(getMemberRegistration("Joe"));
+        connector.close();
+
+        fileBasedConnector = new FileBasedRegistryStoreConnector();
+        fileBasedConnector.initialize(UUID.randomUUID().toString(),
+                                      getConnectionProperties(FileBasedRegistryStoreProvider.class.getName(), true, 100));
+
+        assertEquals(fileBasedConnector.retrieveRemoteRegistrations().size(), 2);
+    }
+
+
+    @Test public void testManyChanges() throws Exception
+    {
+        final int memberCount = 2000;
+
+        JournaledRegistryStoreConnector connector = getConnector(false, JournaledRegistryStoreConnector.DEFAULT_COMPACTION_THRESHOLD);
+
+        for (int member = 0; member < memberCount; member++)
+        {
+            connector.saveRemoteRegistration(getMemberRegistration("Member" + member));
+        }
+
+        for (int member = 0; member < memberCount; member = member + 2)
+        {
+            connector.removeRemoteRegistration("Member" + member + "MetadataCollectionId");
+        }
+
+        assertTrue(connector.getJournalRecordCount() < JournaledRegistryStoreConnector.DEFAULT_COMPACTION_THRESHOLD);
+
+        JournaledRegistryStoreConnector restarted = getConnector(false, JournaledRegistryStoreConnector.DEFAULT_COMPACTION_THRESHOLD);
+
+        assertEquals(restarted.retrieveRemoteRegistrations().size(), memberCount / 2);
+        assertNull(restarted.retrieveRemoteRegistration("Member0MetadataCollectionId"));
+        assertEquals(restarted.retrieveRemoteRegistration("Member1MetadataCollectionId").getServerName(), "Member1ServerName");
+
+        restarted.close();
+    }
+}
@@ -2,19 +2,43 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
-import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
-
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * FileBasedOpenMetadataArchiveStoreConnector reads and writes an open metadata archive stored as a JSON file.
+ * The file may optionally be compressed with gzip.  Compressed files are detected from their content when
+ * they are read, and are written when the file name ends in ".gz".
+ * When the archive is loaded into a server, the file is read with a streaming parser so that only one
+ * type or instance at a time needs to be held in memory.
+ */
 public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector
 {
     /*
@@ -22,11 +46,29 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
      */
     private static final String defaultFilename = "open.metadata.archive";
 
+    /*
+     * Values used when working with compressed archives.
+     */
+    private static final String compressedFileSuffix = ".gz";
+    private static final int    bufferSize           = 64 * 1024;
+
+    /*
+     * Names of the sections of the archive that are processed by the streaming reader.
+     */
+    private static final String archivePropertiesFieldName    = "archiveProperties";
+    private static final String archiveTypeStoreFieldName     = "archiveTypeStore";
+    private static final String archiveInstanceStoreFieldName = "archiveInstanceStore";
+    private static final String entitiesFieldName             = "entities";
+    private static final String relationshipsFieldName        = "relationships";
+    private static final String classificationsFieldName      = "classifications";
+
     /*
      * Variables used in writing to the file.
      */
     private String archiveStoreName = null;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     /*
      * Variables used for logging and debug.
      */
@@ -67,26 +109,21 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
      */
     public OpenMetadataArchive getArchiveContents()
     {
-        File                archiveStoreFile     = new File(archiveStoreName);
         OpenMetadataArchive newOpenMetadataArchive;
 
-        try
+        try (InputStream archiveStream = this.openArchiveFile())
         {
-            log.debug("Retrieving server configuration properties");
+            log.debug("Retrieving open metadata archive contents");
 
-            String configStoreFileContents = FileUtils.readFileToString(archiveStoreFile, "UTF-8");
-
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            newOpenMetadataArchive = objectMapper.readValue(configStoreFileContents, OpenMetadataArchive.class);
+            newOpenMetadataArchive = objectMapper.readValue(archiveStream, OpenMetadataArchive.class);
         }
         catch (IOException ioException)
         {
             /*
-             * The config file is not found, create a new one ...
+             * The archive file is not found, create a new one ...
              */
 
-            log.debug("New server config Store", ioException);
+            log.debug("New open metadata archive", ioException);
 
             newOpenMetadataArchive = new OpenMetadataArchive();
         }
@@ -95,6 +132,157 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     }
 
 
+    /**
+     * Pass the contents of the archive to the content processor as the file is read.  The file is read twice.
+     * The first pass extracts the archive properties and the type store, skipping over the instances.
+     * The second pass streams the instances, one at a time, to the processor.  This means the types
+     * are always processed before the instances, whatever order the sections appear in the file.
+     *
+     * @param contentProcessor receiver of the archive's contents
+     */
+    @Override
+    public void processArchiveContents(OpenMetadataArchiveContentProcessor contentProcessor)
+    {
+        OpenMetadataArchiveProperties archiveProperties = null;
+        OpenMetadataArchiveTypeStore  archiveTypeStore  = null;
+        boolean                       hasInstances      = false;
+
+        try (JsonParser jsonParser = objectMapper.getFactory().createParser(this.openArchiveFile()))
+        {
+            log.debug("Reading open metadata archive header and types");
+
+            if (jsonParser.nextToken() == JsonToken.START_OBJECT)
+            {
+                while (jsonParser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                    String fieldName = jsonParser.getCurrentName();
+
+                    jsonParser.nextToken();
+
+                    if (archivePropertiesFieldName.equals(fieldName))
+                    {
+                        archiveProperties = jsonParser.readValueAs(OpenMetadataArchiveProperties.class);
+                    }
+                    else if (archiveTypeStoreFieldName.equals(fieldName))
+                    {
+                        archiveTypeStore = jsonParser.readValueAs(OpenMetadataArchiveTypeStore.class);
+                    }
+                    else
+                    {
+                        if (archiveInstanceStoreFieldName.equals(fieldName))
+                        {
+                            hasInstances = (jsonParser.currentToken() == JsonToken.START_OBJECT);
+                        }
+
+                        jsonParser.skipChildren();
+                    }
+                }
+            }
+        }
+        catch (IOException ioException)
+        {
+            log.debug("Unable to read open metadata archive", ioException);
+
+            contentProcessor.processArchiveError(ioException);
+
+            return;
+        }
+
+        if (archiveProperties == null)
+        {
+            return;
+        }
+
+        contentProcessor.processArchiveProperties(archiveProperties);
+
+        if (archiveTypeStore != null)
+        {
+            super.processTypeStore(archiveTypeStore, contentProcessor);
+        }
+
+        if (hasInstances)
+        {
+            this.processInstanceStore(contentProcessor);
+        }
+    }
+
+
+    /**
+     * Stream the instances from the archive's instance store to the content processor.
+     *
+     * @param contentProcessor receiver of the archive's contents
+     */
+    private void processInstanceStore(OpenMetadataArchiveContentProcessor contentProcessor)
+    {
+        try (JsonParser jsonParser = objectMapper.getFactory().createParser(this.openArchiveFile()))
+        {
+            log.debug("Reading open metadata archive instances");
+
+            if (jsonParser.nextToken() == JsonToken.START_OBJECT)
+            {
+                while (jsonParser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                    String fieldName = jsonParser.getCurrentName();
+
+                    jsonParser.nextToken();
+
+                    if (archiveInstanceStoreFieldName.equals(fieldName))
+                    {
+                        while (jsonParser.nextToken() == JsonToken.FIELD_NAME)
+                        {
+                            String instanceFieldName = jsonParser.getCurrentName();
+
+                            jsonParser.nextToken();
+
+                            if (jsonParser.currentToken() != JsonToken.START_ARRAY)
+                            {
+                                jsonParser.skipChildren();
+                            }
+                            else if (entitiesFieldName.equals(instanceFieldName))
+                            {
+                                while (jsonParser.nextToken() != JsonToken.END_ARRAY)
+                                {
+                                    contentProcessor.processEntity(jsonParser.readValueAs(EntityDetail.class));
+                                }
+                            }
+                            else if (relationshipsFieldName.equals(instanceFieldName))
+                            {
+                                while (jsonParser.nextToken() != JsonToken.END_ARRAY)
+                                {
+                                    contentProcessor.processRelationship(jsonParser.readValueAs(Relationship.class));
+                                }
+                            }
+                            else if (classificationsFieldName.equals(instanceFieldName))
+                            {
+                                while (jsonParser.nextToken() != JsonToken.END_ARRAY)
+                                {
+                                    contentProcessor.processClassification(jsonParser.readValueAs(ClassificationEntityExtension.class));
+                                }
+                            }
+                            else
+                            {
+                                jsonParser.skipChildren();
+                            }
+                        }
+
+                        return;
+                    }
+                    else
+                    {
+                        jsonParser.skipChildren();
+                    }
+                }
+            }
+        }
+        catch (IOException ioException)
+        {
+            log.debug("Unable to read instances from open metadata archive", ioException);
+
+            contentProcessor.processArchiveError(ioException);
+        }
+    }
+
+
     /**
      * Set new contents into the archive.  This overrides any content previously stored.
      *
@@ -114,20 +302,54 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
             }
             else
             {
-                ObjectMapper objectMapper = new ObjectMapper();
+                OutputStream archiveStream = new BufferedOutputStream(Files.newOutputStream(archiveStoreFile.toPath()), bufferSize);
 
-                String archiveStoreFileContents = objectMapper.writeValueAsString(archiveContents);
+                if (archiveStoreName.endsWith(compressedFileSuffix))
+                {
+                    archiveStream = new GZIPOutputStream(archiveStream, bufferSize);
+                }
 
-                FileUtils.writeStringToFile(archiveStoreFile, archiveStoreFileContents, (String)null,false);
+                try (OutputStream outputStream = archiveStream)
+                {
+                    objectMapper.writeValue(outputStream, archiveContents);
+                }
             }
         }
         catch (IOException   ioException)
         {
-            log.debug("Unusable Server config Store :(", ioException);
+            log.debug("Unusable open metadata archive store :(", ioException);
         }
     }
 
 
+    /**
+     * Open the archive file for reading through a file channel.  If the file begins with the gzip header,
+     * the returned stream decompresses the content.
+     *
+     * @return buffered stream over the archive's JSON content
+     * @throws IOException the file can not be opened or read
+     */
+    private InputStream openArchiveFile() throws IOException
+    {
+        FileChannel fileChannel = FileChannel.open(new File(archiveStoreName).toPath(), StandardOpenOption.READ);
+        InputStream fileStream  = new BufferedInputStream(Channels.newInputStream(fileChannel), bufferSize);
+
+        fileStream.mark(2);
+
+        int firstByte  = fileStream.read();
+        int secondByte = fileStream.read();
+
+        fileStream.reset();
+
+        if ((firstByte == (GZIPInputStream.GZIP_MAGIC & 0xff)) && (secondByte == (GZIPInputStream.GZIP_MAGIC >> 8)))
+        {
+            return new BufferedInputStream(new GZIPInputStream(fileStream, bufferSize), bufferSize);
+        }
+
+        return fileStream;
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      *
@@ -0,0 +1,255 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Test that the FileBasedOpenMetadataArchiveStoreConnector can write an archive and read it back,
+ * both as a complete archive and through the streaming reader, with and without gzip compression.
+ */
+public class TestFileBasedOpenMetadataArchiveStoreConnector
+{
+    private File archiveDirectory;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        archiveDirectory = Files.createTempDirectory("TestFileBasedOpenMetadataArchiveStoreConnector").toFile();
+    }
+
+
+    @AfterMethod
+    public void tearDown()
+    {
+        File[] archiveFiles = archiveDirectory.listFiles();
+
+        if (archiveFiles != null)
+        {
+            for (File archiveFile : archiveFiles)
+            {
+                archiveFile.delete();
+            }
+        }
+
+        archiveDirectory.delete();
+    }
+
+
+    @Test
+    public void testCompressedArchiveRoundTrip() throws Exception
+    {
+        File                archiveFile = new File(archiveDirectory, "test.archive.json.gz");
+        OpenMetadataArchive archive     = getArchive();
+
+        getConnector(archiveFile).setArchiveContents(archive);
+
+        try (InputStream archiveStream = Files.newInputStream(archiveFile.toPath()))
+        {
+            assertEquals(archiveStream.read(), GZIPInputStream.GZIP_MAGIC & 0xff);
+            assertEquals(archiveStream.read(), GZIPInputStream.GZIP_MAGIC >> 8);
+        }
+
+        exerciseArchive(archiveFile, archive);
+    }
+
+
+    @Test
+    public void testUncompressedArchiveRoundTrip() throws Exception
+    {
+        File                archiveFile = new File(archiveDirectory, "test.archive.json");
+        OpenMetadataArchive archive     = getArchive();
+
+        getConnector(archiveFile).setArchiveContents(archive);
+
+        try (InputStream archiveStream = Files.newInputStream(archiveFile.toPath()))
+        {
+            assertEquals(archiveStream.read(), '{');
+        }
+
+        exerciseArchive(archiveFile, archive);
+    }
+
+
+    @Test
+    public void testMissingArchive()
+    {
+        List<String> received = new ArrayList<>();
+
+        getConnector(new File(archiveDirectory, "missing.archive.json.gz")).processArchiveContents(new RecordingContentProcessor(received));
+
+        assertEquals(received, Collections.singletonList("error"));
+    }
+
+
+    /**
+     * Read the archive back from the file, first as a complete archive and then through the streaming reader.
+     *
+     * @param archiveFile file containing the archive
+     * @param archive archive that was written to the file
+     */
+    private void exerciseArchive(File archiveFile, OpenMetadataArchive archive)
+    {
+        FileBasedOpenMetadataArchiveStoreConnector connector = getConnector(archiveFile);
+
+        assertEquals(connector.getArchiveContents(), archive);
+
+        List<String> received = new ArrayList<>();
+
+        connector.processArchiveContents(new RecordingContentProcessor(received));
+
+        assertEquals(received, Arrays.asList("properties:TestArchiveGUID",
+                                             "typeDef:TestEntityType",
+                                             "entity:TestEntityGUID1",
+                                             "entity:TestEntityGUID2",
+                                             "relationship:TestRelationshipGUID"));
+    }
+
+
+    private FileBasedOpenMetadataArchiveStoreConnector getConnector(File archiveFile)
+    {
+        Endpoint   endpoint   = new Endpoint();
+        Connection connection = new Connection();
+
+        endpoint.setAddress(archiveFile.getPath());
+        connection.setEndpoint(endpoint);
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = new FileBasedOpenMetadataArchiveStoreConnector();
+
+        connector.initialize("TestConnectorInstanceId", new ConnectionProperties(connection));
+
+        return connector;
+    }
+
+
+    private OpenMetadataArchive getArchive()
+    {
+        OpenMetadataArchiveProperties    archiveProperties = new OpenMetadataArchiveProperties();
+        OpenMetadataArchiveTypeStore     typeStore         = new OpenMetadataArchiveTypeStore();
+        OpenMetadataArchiveInstanceStore instanceStore     = new OpenMetadataArchiveInstanceStore();
+        EntityDef                        entityDef         = new EntityDef();
+
+        archiveProperties.setArchiveGUID("TestArchiveGUID");
+        archiveProperties.setArchiveName("TestArchive");
+        archiveProperties.setArchiveType(OpenMetadataArchiveType.CONTENT_PACK);
+
+        entityDef.setGUID("TestEntityTypeGUID");
+        entityDef.setName("TestEntityType");
+        typeStore.setNewTypeDefs(Collections.singletonList(entityDef));
+
+        instanceStore.setEntities(Arrays.asList(getEntity("TestEntityGUID1"), getEntity("TestEntityGUID2")));
+        instanceStore.setRelationships(Collections.singletonList(getRelationship("TestRelationshipGUID")));
+
+        OpenMetadataArchive archive = new OpenMetadataArchive();
+
+        archive.setArchiveProperties(archiveProperties);
+        archive.setArchiveTypeStore(typeStore);
+        archive.setArchiveInstanceStore(instanceStore);
+
+        return archive;
+    }
+
+
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String guid)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+
+        return relationship;
+    }
+
+
+    /**
+     * Content processor that records the order that it receives the archive content.
+     */
+    private static class RecordingContentProcessor implements OpenMetadataArchiveContentProcessor
+    {
+        private List<String> received;
+
+        RecordingContentProcessor(List<String> received)
+        {
+            this.received = received;
+        }
+
+        public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            received.add("properties:" + archiveProperties.getArchiveGUID());
+        }
+
+        public void processAttributeTypeDef(AttributeTypeDef attributeTypeDef)
+        {
+            received.add("attributeTypeDef:" + attributeTypeDef.getName());
+        }
+
+        public void processNewTypeDef(TypeDef typeDef)
+        {
+            received.add("typeDef:" + typeDef.getName());
+        }
+
+        public void processTypeDefPatch(TypeDefPatch typeDefPatch)
+        {
+            received.add("typeDefPatch:" + typeDefPatch.getTypeDefGUID());
+        }
+
+        public void processEntity(EntityDetail entity)
+        {
+            received.add("entity:" + entity.getGUID());
+        }
+
+        public void processRelationship(Relationship relationship)
+        {
+            received.add("relationship:" + relationship.getGUID());
+        }
+
+        public void processClassification(ClassificationEntityExtension classification)
+        {
+            received.add("classification");
+        }
+
+        public void processArchiveError(Throwable error)
+        {
+            received.add("error");
+        }
+    }
+}
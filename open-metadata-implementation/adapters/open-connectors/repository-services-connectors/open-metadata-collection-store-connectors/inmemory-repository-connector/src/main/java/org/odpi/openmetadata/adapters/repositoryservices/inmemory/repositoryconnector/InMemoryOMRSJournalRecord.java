@@ -0,0 +1,294 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.io.Serializable;
+
+
+/**
+ * InMemoryOMRSJournalRecord is a single change to the InMemoryOMRSMetadataStore.  The same records are used in the
+ * journal and in the snapshot.  A change that also moves a version of an instance into the history store is
+ * recorded in one record so it is either replayed completely or not at all.  Each record has a sequence number so
+ * records in the journal that are already included in the snapshot are not applied a second time.
+ */
+class InMemoryOMRSJournalRecord implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    /**
+     * JournalAction describes the change to the store.  SNAPSHOT is the first record of a snapshot and carries the
+     * sequence number of the last change included in the snapshot.  The history actions are only used in snapshots.
+     */
+    enum JournalAction
+    {
+        SNAPSHOT,
+        SAVE_ENTITY,
+        REMOVE_ENTITY,
+        SAVE_ENTITY_PROXY,
+        REMOVE_ENTITY_PROXY,
+        SAVE_RELATIONSHIP,
+        REMOVE_RELATIONSHIP,
+        ADD_ENTITY_HISTORY,
+        ADD_RELATIONSHIP_HISTORY
+    }
+
+    private long          sequenceNumber      = 0;
+    private JournalAction action              = null;
+    private String        guid                = null;
+    private EntityDetail  entity              = null;
+    private EntityProxy   entityProxy         = null;
+    private Relationship  relationship        = null;
+    private boolean       addToHistory        = false;
+    private EntityDetail  historyEntity       = null;
+    private Relationship  historyRelationship = null;
+
+
+    /**
+     * Default constructor used when the record is read from a file.
+     */
+    InMemoryOMRSJournalRecord()
+    {
+    }
+
+
+    /**
+     * Constructor used when a change is written to a file.
+     *
+     * @param sequenceNumber position of the change in the sequence of changes to the store
+     * @param action change to the store
+     * @param guid unique identifier of the instance that is removed
+     */
+    InMemoryOMRSJournalRecord(long          sequenceNumber,
+                              JournalAction action,
+                              String        guid)
+    {
+        this.sequenceNumber = sequenceNumber;
+        this.action = action;
+        this.guid = guid;
+    }
+
+
+    /**
+     * Return the position of the change in the sequence of changes to the store.
+     *
+     * @return sequence number
+     */
+    public long getSequenceNumber()
+    {
+        return sequenceNumber;
+    }
+
+
+    /**
+     * Set up the position of the change in the sequence of changes to the store.
+     *
+     * @param sequenceNumber sequence number
+     */
+    public void setSequenceNumber(long sequenceNumber)
+    {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+
+    /**
+     * Return the change to the store.
+     *
+     * @return action enum
+     */
+    public JournalAction getAction()
+    {
+        return action;
+    }
+
+
+    /**
+     * Set up the change to the store.
+     *
+     * @param action action enum
+     */
+    public void setAction(JournalAction action)
+    {
+        this.action = action;
+    }
+
+
+    /**
+     * Return the unique identifier of the instance that is removed.
+     *
+     * @return String guid
+     */
+    public String getGUID()
+    {
+        return guid;
+    }
+
+
+    /**
+     * Set up the unique identifier of the instance that is removed.
+     *
+     * @param guid String guid
+     */
+    public void setGUID(String guid)
+    {
+        this.guid = guid;
+    }
+
+
+    /**
+     * Return the entity that is saved.
+     *
+     * @return entity
+     */
+    public EntityDetail getEntity()
+    {
+        return entity;
+    }
+
+
+    /**
+     * Set up the entity that is saved.
+     *
+     * @param entity entity
+     */
+    public void setEntity(EntityDetail entity)
+    {
+        this.entity = entity;
+    }
+
+
+    /**
+     * Return the entity proxy that is saved.
+     *
+     * @return entity proxy
+     */
+    public EntityProxy getEntityProxy()
+    {
+        return entityProxy;
+    }
+
+
+    /**
+     * Set up the entity proxy that is saved.
+     *
+     * @param entityProxy entity proxy
+     */
+    public void setEntityProxy(EntityProxy entityProxy)
+    {
+        this.entityProxy = entityProxy;
+    }
+
+
+    /**
+     * Return the relationship that is saved.
+     *
+     * @return relationship
+     */
+    public Relationship getRelationship()
+    {
+        return relationship;
+    }
+
+
+    /**
+     * Set up the relationship that is saved.
+     *
+     * @param relationship relationship
+     */
+    public void setRelationship(Relationship relationship)
+    {
+        this.relationship = relationship;
+    }
+
+
+    /**
+     * Return whether the change adds a version of the entity or relationship to the front of the history store.
+     * The version added may be null.
+     *
+     * @return boolean
+     */
+    public boolean isAddToHistory()
+    {
+        return addToHistory;
+    }
+
+
+    /**
+     * Set up whether the change adds a version of the entity or relationship to the front of the history store.
+     *
+     * @param addToHistory boolean
+     */
+    public void setAddToHistory(boolean addToHistory)
+    {
+        this.addToHistory = addToHistory;
+    }
+
+
+    /**
+     * Return the version of the entity that is added to the history store.
+     *
+     * @return entity
+     */
+    public EntityDetail getHistoryEntity()
+    {
+        return historyEntity;
+    }
+
+
+    /**
+     * Set up the version of the entity that is added to the history store.
+     *
+     * @param historyEntity entity
+     */
+    public void setHistoryEntity(EntityDetail historyEntity)
+    {
+        this.historyEntity = historyEntity;
+    }
+
+
+    /**
+     * Return the version of the relationship that is added to the history store.
+     *
+     * @return relationship
+     */
+    public Relationship getHistoryRelationship()
+    {
+        return historyRelationship;
+    }
+
+
+    /**
+     * Set up the version of the relationship that is added to the history store.
+     *
+     * @param historyRelationship relationship
+     */
+    public void setHistoryRelationship(Relationship historyRelationship)
+    {
+        this.historyRelationship = historyRelationship;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "InMemoryOMRSJournalRecord{" +
+                "sequenceNumber=" + sequenceNumber +
+                ", action=" + action +
+                ", guid='" + guid + '\'' +
+                ", entity=" + entity +
+                ", entityProxy=" + entityProxy +
+                ", relationship=" + relationship +
+                ", addToHistory=" + addToHistory +
+                ", historyEntity=" + historyEntity +
+                ", historyRelationship=" + historyRelationship +
+                '}';
+    }
+}
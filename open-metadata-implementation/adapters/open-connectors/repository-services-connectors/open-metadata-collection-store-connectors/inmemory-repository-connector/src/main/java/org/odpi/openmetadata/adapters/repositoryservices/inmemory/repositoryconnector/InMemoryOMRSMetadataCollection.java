@@ -53,6 +53,18 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return the store that holds the instances for this metadata collection.  It is used by the connector to
+     * manage the snapshot of the store.
+     *
+     * @return in memory store
+     */
+    InMemoryOMRSMetadataStore getRepositoryStore()
+    {
+        return repositoryStore;
+    }
+
+
     /* ===================================================
      * Group 3: Locating entity and relationship instances
      */
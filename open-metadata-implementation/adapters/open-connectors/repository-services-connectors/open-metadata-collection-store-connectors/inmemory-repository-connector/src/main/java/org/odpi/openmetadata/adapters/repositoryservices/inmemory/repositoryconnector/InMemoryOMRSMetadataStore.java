@@ -12,7 +12,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import java.util.*;
 
 /**
- * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector
+ * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector.
+ * Optionally, the stores can be backed by a journal so that they can be restored after the server restarts.
+ * Each change is written to the journal by the synchronized method that makes it, so the journal holds the
+ * changes in the order they were made.  Snapshots are written without holding the lock on the stores.
  */
 class InMemoryOMRSMetadataStore
 {
@@ -23,6 +26,10 @@ class InMemoryOMRSMetadataStore
     private volatile Map<String, Relationship>     relationshipStore        = new HashMap<>();
     private volatile List<Relationship>            relationshipHistoryStore = new ArrayList<>();
 
+    private InMemoryOMRSMetadataStoreJournal       journal                  = null;
+    private long                                   sequenceNumber           = 0;
+    private final Object                           snapshotLock             = new Object();
+
 
     /**
      * Default constructor
@@ -288,6 +295,8 @@ class InMemoryOMRSMetadataStore
             existingEntity = entityStore.put(entity.getGUID(), entity);
         }
 
+        this.journalEntity(entity, false, null);
+
         return entity;
     }
 
@@ -312,6 +321,8 @@ class InMemoryOMRSMetadataStore
             existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
         }
 
+        this.journalRelationship(relationship, false, null);
+
         return relationship;
     }
 
@@ -324,6 +335,8 @@ class InMemoryOMRSMetadataStore
     synchronized void addEntityProxyToStore(EntityProxy    entityProxy)
     {
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
+
+        this.journalEntityProxy(entityProxy);
     }
 
 
@@ -341,6 +354,8 @@ class InMemoryOMRSMetadataStore
         {
             entityHistoryStore.add(0, oldEntity);
         }
+
+        this.journalEntity(entity, oldEntity != null, oldEntity);
     }
 
 
@@ -352,6 +367,8 @@ class InMemoryOMRSMetadataStore
     synchronized void updateEntityProxyInStore(EntityProxy    entityProxy)
     {
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
+
+        this.journalEntityProxy(entityProxy);
     }
 
 
@@ -370,6 +387,8 @@ class InMemoryOMRSMetadataStore
         {
             relationshipHistoryStore.add(0, oldRelationship);
         }
+
+        this.journalRelationship(relationship, oldRelationship != null, oldRelationship);
     }
 
 
@@ -382,6 +401,8 @@ class InMemoryOMRSMetadataStore
     synchronized void saveReferenceEntityToStore(EntityDetail    entity)
     {
         entityStore.put(entity.getGUID(), entity);
+
+        this.journalEntity(entity, false, null);
     }
 
 
@@ -394,6 +415,8 @@ class InMemoryOMRSMetadataStore
     synchronized void saveReferenceRelationshipToStore(Relationship    relationship)
     {
         relationshipStore.put(relationship.getGUID(), relationship);
+
+        this.journalRelationship(relationship, false, null);
     }
 
 
@@ -441,6 +464,7 @@ class InMemoryOMRSMetadataStore
                         newRelationship.setUpdateTime(restoreTime);
                         relationshipStore.put(guid, newRelationship);
                         relationshipHistoryStore.add(0, currentVersionOfRelationship);
+                        this.journalRelationship(newRelationship, true, currentVersionOfRelationship);
                         return newRelationship;
 
                     }
@@ -497,6 +521,7 @@ class InMemoryOMRSMetadataStore
                         newEntity.setUpdateTime(restoreTime);
                         entityStore.put(guid, newEntity);
                         entityHistoryStore.add(0, currentVersionOfEntity);
+                        this.journalEntity(newEntity, true, currentVersionOfEntity);
                         return newEntity;
 
                     }
@@ -517,6 +542,8 @@ class InMemoryOMRSMetadataStore
     {
         entityStore.remove(entity.getGUID());
         entityHistoryStore.add(0, entity);
+
+        this.journalRemoval(InMemoryOMRSJournalRecord.JournalAction.REMOVE_ENTITY, entity.getGUID(), entity, null);
     }
 
 
@@ -532,6 +559,8 @@ class InMemoryOMRSMetadataStore
         if (entity != null)
         {
             entityHistoryStore.add(0, entity);
+
+            this.journalRemoval(InMemoryOMRSJournalRecord.JournalAction.REMOVE_ENTITY, guid, entity, null);
         }
     }
 
@@ -543,7 +572,10 @@ class InMemoryOMRSMetadataStore
      */
     synchronized void removeEntityProxyFromStore(String     guid)
     {
-        entityProxyStore.remove(guid);
+        if (entityProxyStore.remove(guid) != null)
+        {
+            this.journalRemoval(InMemoryOMRSJournalRecord.JournalAction.REMOVE_ENTITY_PROXY, guid, null, null);
+        }
     }
 
 
@@ -556,6 +588,8 @@ class InMemoryOMRSMetadataStore
     {
         relationshipStore.remove(relationship.getGUID());
         relationshipHistoryStore.add(0, relationship);
+
+        this.journalRemoval(InMemoryOMRSJournalRecord.JournalAction.REMOVE_RELATIONSHIP, relationship.getGUID(), null, relationship);
     }
 
 
@@ -571,6 +605,377 @@ class InMemoryOMRSMetadataStore
         if (relationship != null)
         {
             relationshipHistoryStore.add(0, relationship);
+
+            this.journalRemoval(InMemoryOMRSJournalRecord.JournalAction.REMOVE_RELATIONSHIP, guid, null, relationship);
+        }
+    }
+
+
+    /*
+     * ===============================
+     * Snapshot and journal management
+     */
+
+
+    /**
+     * Rebuild the stores from the snapshot and journal and then record all further changes in the journal.
+     * If the journal contains any changes, a new snapshot is written straight away so that new changes are not
+     * appended after a partial record.
+     *
+     * @param journal snapshot and journal files for this repository
+     * @param metadataCollectionId unique identifier of the metadata collection - used for logging
+     */
+    void restoreFromJournal(InMemoryOMRSMetadataStoreJournal journal,
+                            String                           metadataCollectionId)
+    {
+        synchronized (snapshotLock)
+        {
+            synchronized (this)
+            {
+                long startTime = System.currentTimeMillis();
+
+                this.journal = null;
+
+                entityStore.clear();
+                entityProxyStore.clear();
+                entityHistoryStore.clear();
+                relationshipStore.clear();
+                relationshipHistoryStore.clear();
+
+                long snapshotSequenceNumber = journal.readSnapshot(this::applySnapshotRecord);
+
+                sequenceNumber = snapshotSequenceNumber;
+
+                int replayedRecordCount = journal.readJournal(snapshotSequenceNumber, this::applyJournalRecord);
+
+                this.journal = journal;
+
+                if (journal.getJournalRecordCount() > 0)
+                {
+                    this.writeSnapshot();
+                }
+
+                journal.logRestore(metadataCollectionId,
+                                   entityStore.size(),
+                                   relationshipStore.size(),
+                                   replayedRecordCount,
+                                   System.currentTimeMillis() - startTime);
+            }
+        }
+    }
+
+
+    /**
+     * Write a snapshot of the stores if there are changes in the journal.  The contents of the stores are copied
+     * while they are locked and then written to disk after the lock is released so changes are not held up by the
+     * file system.  The instances are not copied since a change to an instance always stores a new object.
+     * Only one snapshot is written at a time.
+     */
+    void writeSnapshot()
+    {
+        synchronized (snapshotLock)
+        {
+            InMemoryOMRSMetadataStoreJournal snapshotJournal;
+            List<InMemoryOMRSJournalRecord>  snapshotRecords;
+
+            synchronized (this)
+            {
+                if ((journal == null) || (journal.getJournalRecordCount() == 0))
+                {
+                    return;
+                }
+
+                snapshotJournal = journal;
+                snapshotRecords = this.getSnapshotRecords();
+
+                snapshotJournal.startSnapshot();
+            }
+
+            snapshotJournal.writeSnapshot(snapshotRecords);
+        }
+    }
+
+
+    /**
+     * Return the records that make up a snapshot of the stores.  This is called while the stores are locked.
+     *
+     * @return the header record followed by a record for each instance in the stores
+     */
+    private List<InMemoryOMRSJournalRecord> getSnapshotRecords()
+    {
+        List<InMemoryOMRSJournalRecord> snapshotRecords = new ArrayList<>();
+
+        snapshotRecords.add(new InMemoryOMRSJournalRecord(sequenceNumber, InMemoryOMRSJournalRecord.JournalAction.SNAPSHOT, null));
+
+        for (EntityDetail entity : entityStore.values())
+        {
+            InMemoryOMRSJournalRecord snapshotRecord = new InMemoryOMRSJournalRecord(sequenceNumber, InMemoryOMRSJournalRecord.JournalAction.SAVE_ENTITY, null);
+
+            snapshotRecord.setEntity(entity);
+            snapshotRecords.add(snapshotRecord);
+        }
+
+        for (EntityProxy entityProxy : entityProxyStore.values())
+        {
+            InMemoryOMRSJournalRecord snapshotRecord = new InMemoryOMRSJournalRecord(sequenceNumber, InMemoryOMRSJournalRecord.JournalAction.SAVE_ENTITY_PROXY, null);
+
+            snapshotRecord.setEntityProxy(entityProxy);
+            snapshotRecords.add(snapshotRecord);
+        }
+
+        for (Relationship relationship : relationshipStore.values())
+        {
+            InMemoryOMRSJournalRecord snapshotRecord = new InMemoryOMRSJournalRecord(sequenceNumber, InMemoryOMRSJournalRecord.JournalAction.SAVE_RELATIONSHIP, null);
+
+            snapshotRecord.setRelationship(relationship);
+            snapshotRecords.add(snapshotRecord);
+        }
+
+        /*
+         * The history stores are written in order, latest first, and appended to the stores when they are read.
+         */
+        for (EntityDetail entity : entityHistoryStore)
+        {
+            InMemoryOMRSJournalRecord snapshotRecord = new InMemoryOMRSJournalRecord(sequenceNumber, InMemoryOMRSJournalRecord.JournalAction.ADD_ENTITY_HISTORY, null);
+
+            snapshotRecord.setHistoryEntity(entity);
+            snapshotRecords.add(snapshotRecord);
+        }
+
+        for (Relationship relationship : relationshipHistoryStore)
+        {
+            InMemoryOMRSJournalRecord snapshotRecord = new InMemoryOMRSJournalRecord(sequenceNumber, InMemoryOMRSJournalRecord.JournalAction.ADD_RELATIONSHIP_HISTORY, null);
+
+            snapshotRecord.setHistoryRelationship(relationship);
+            snapshotRecords.add(snapshotRecord);
+        }
+
+        return snapshotRecords;
+    }
+
+
+    /**
+     * Write a final snapshot and stop recording changes in the journal.  Any change made after the final snapshot
+     * is copied stays in the journal and is replayed when the store is restored.
+     */
+    void closeJournal()
+    {
+        synchronized (snapshotLock)
+        {
+            this.writeSnapshot();
+
+            synchronized (this)
+            {
+                if (journal != null)
+                {
+                    journal.close();
+                    journal = null;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of changes that have been made since the last snapshot.
+     *
+     * @return count
+     */
+    synchronized int getJournalRecordCount()
+    {
+        if (journal != null)
+        {
+            return journal.getJournalRecordCount();
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Record a change to an entity in the journal.
+     *
+     * @param entity new version of the entity
+     * @param addToHistory does the change add a version to the history store
+     * @param historyEntity version added to the history store (may be null)
+     */
+    private void journalEntity(EntityDetail entity,
+                               boolean      addToHistory,
+                               EntityDetail historyEntity)
+    {
+        if (journal != null)
+        {
+            InMemoryOMRSJournalRecord journalRecord = new InMemoryOMRSJournalRecord(++sequenceNumber, InMemoryOMRSJournalRecord.JournalAction.SAVE_ENTITY, null);
+
+            journalRecord.setEntity(entity);
+            journalRecord.setAddToHistory(addToHistory);
+            journalRecord.setHistoryEntity(historyEntity);
+
+            journal.writeJournalRecord(journalRecord);
+        }
+    }
+
+
+    /**
+     * Record a change to an entity proxy in the journal.
+     *
+     * @param entityProxy new version of the entity proxy
+     */
+    private void journalEntityProxy(EntityProxy entityProxy)
+    {
+        if (journal != null)
+        {
+            InMemoryOMRSJournalRecord journalRecord = new InMemoryOMRSJournalRecord(++sequenceNumber, InMemoryOMRSJournalRecord.JournalAction.SAVE_ENTITY_PROXY, null);
+
+            journalRecord.setEntityProxy(entityProxy);
+
+            journal.writeJournalRecord(journalRecord);
+        }
+    }
+
+
+    /**
+     * Record a change to a relationship in the journal.
+     *
+     * @param relationship new version of the relationship
+     * @param addToHistory does the change add a version to the history store
+     * @param historyRelationship version added to the history store (may be null)
+     */
+    private void journalRelationship(Relationship relationship,
+                                     boolean      addToHistory,
+                                     Relationship historyRelationship)
+    {
+        if (journal != null)
+        {
+            InMemoryOMRSJournalRecord journalRecord = new InMemoryOMRSJournalRecord(++sequenceNumber, InMemoryOMRSJournalRecord.JournalAction.SAVE_RELATIONSHIP, null);
+
+            journalRecord.setRelationship(relationship);
+            journalRecord.setAddToHistory(addToHistory);
+            journalRecord.setHistoryRelationship(historyRelationship);
+
+            journal.writeJournalRecord(journalRecord);
+        }
+    }
+
+
+    /**
+     * Record the removal of an instance from the active store in the journal.
+     *
+     * @param action type of instance removed
+     * @param guid unique identifier of the instance
+     * @param historyEntity entity added to the history store (or null)
+     * @param historyRelationship relationship added to the history store (or null)
+     */
+    private void journalRemoval(InMemoryOMRSJournalRecord.JournalAction action,
+                                String                                  guid,
+                                EntityDetail                            historyEntity,
+                                Relationship                            historyRelationship)
+    {
+        if (journal != null)
+        {
+            InMemoryOMRSJournalRecord journalRecord = new InMemoryOMRSJournalRecord(++sequenceNumber, action, guid);
+
+            journalRecord.setAddToHistory((historyEntity != null) || (historyRelationship != null));
+            journalRecord.setHistoryEntity(historyEntity);
+            journalRecord.setHistoryRelationship(historyRelationship);
+
+            journal.writeJournalRecord(journalRecord);
+        }
+    }
+
+
+    /**
+     * Add a record from the snapshot to the stores.
+     *
+     * @param snapshotRecord record from the snapshot
+     */
+    private void applySnapshotRecord(InMemoryOMRSJournalRecord snapshotRecord)
+    {
+        switch (snapshotRecord.getAction())
+        {
+            case ADD_ENTITY_HISTORY:
+                entityHistoryStore.add(snapshotRecord.getHistoryEntity());
+                break;
+
+            case ADD_RELATIONSHIP_HISTORY:
+                relationshipHistoryStore.add(snapshotRecord.getHistoryRelationship());
+                break;
+
+            default:
+                this.applyJournalRecord(snapshotRecord);
+                break;
+        }
+    }
+
+
+    /**
+     * Apply a change from the journal to the stores.
+     *
+     * @param journalRecord record from the journal
+     */
+    private void applyJournalRecord(InMemoryOMRSJournalRecord journalRecord)
+    {
+        switch (journalRecord.getAction())
+        {
+            case SAVE_ENTITY:
+                if (journalRecord.getEntity() != null)
+                {
+                    entityStore.put(journalRecord.getEntity().getGUID(), journalRecord.getEntity());
+                }
+                break;
+
+            case REMOVE_ENTITY:
+                entityStore.remove(journalRecord.getGUID());
+                break;
+
+            case SAVE_ENTITY_PROXY:
+                if (journalRecord.getEntityProxy() != null)
+                {
+                    entityProxyStore.put(journalRecord.getEntityProxy().getGUID(), journalRecord.getEntityProxy());
+                }
+                break;
+
+            case REMOVE_ENTITY_PROXY:
+                entityProxyStore.remove(journalRecord.getGUID());
+                break;
+
+            case SAVE_RELATIONSHIP:
+                if (journalRecord.getRelationship() != null)
+                {
+                    relationshipStore.put(journalRecord.getRelationship().getGUID(), journalRecord.getRelationship());
+                }
+                break;
+
+            case REMOVE_RELATIONSHIP:
+                relationshipStore.remove(journalRecord.getGUID());
+                break;
+
+            default:
+                break;
+        }
+
+        if (journalRecord.isAddToHistory())
+        {
+            switch (journalRecord.getAction())
+            {
+                case SAVE_ENTITY:
+                case REMOVE_ENTITY:
+                    entityHistoryStore.add(0, journalRecord.getHistoryEntity());
+                    break;
+
+                case SAVE_RELATIONSHIP:
+                case REMOVE_RELATIONSHIP:
+                    relationshipHistoryStore.add(0, journalRecord.getHistoryRelationship());
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        if (journalRecord.getSequenceNumber() > sequenceNumber)
+        {
+            sequenceNumber = journalRecord.getSequenceNumber();
         }
     }
 
@@ -0,0 +1,502 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+
+/**
+ * InMemoryOMRSMetadataStoreJournal manages the files that allow the InMemoryOMRSMetadataStore to be restored when
+ * the server restarts.  The snapshot file holds a complete copy of the store and the journal file holds the changes
+ * made since the snapshot was written.  While a new snapshot is being written, the journal it replaces is kept
+ * as the previous journal file and new changes go to a new journal file.  The files hold one
+ * InMemoryOMRSJournalRecord in JSON on each line.
+ * The files are named after the metadata collection id so a snapshot is only restored into the repository that
+ * wrote it.
+ */
+class InMemoryOMRSMetadataStoreJournal
+{
+    private static final String snapshotSuffix  = ".snapshot";
+    private static final String journalSuffix   = ".journal";
+    private static final String previousSuffix  = ".previous";
+    private static final String temporarySuffix = ".tmp";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryOMRSMetadataStoreJournal.class);
+
+    private final File     snapshotFile;
+    private final File     journalFile;
+    private final File     previousJournalFile;
+    private final boolean  syncOnWrite;
+    private final AuditLog auditLog;
+
+    private FileChannel    journalChannel      = null;
+    private int            journalRecordCount  = 0;
+    private int            previousRecordCount = 0;
+
+
+    /**
+     * Constructor supplies the location of the files.
+     *
+     * @param snapshotDirectory directory for the snapshot and journal files
+     * @param metadataCollectionId unique identifier of the metadata collection stored in the files
+     * @param syncOnWrite should each change be forced to disk before the call that made it returns
+     * @param auditLog logging destination
+     */
+    InMemoryOMRSMetadataStoreJournal(String   snapshotDirectory,
+                                     String   metadataCollectionId,
+                                     boolean  syncOnWrite,
+                                     AuditLog auditLog)
+    {
+        this.snapshotFile = new File(snapshotDirectory, metadataCollectionId + snapshotSuffix);
+        this.journalFile = new File(snapshotDirectory, metadataCollectionId + journalSuffix);
+        this.previousJournalFile = new File(snapshotDirectory, metadataCollectionId + journalSuffix + previousSuffix);
+        this.syncOnWrite = syncOnWrite;
+        this.auditLog = auditLog;
+    }
+
+
+    /**
+     * Pass each record in the snapshot to the consumer.
+     *
+     * @param recordConsumer consumer that applies the records to the store
+     * @return sequence number of the last change included in the snapshot
+     */
+    long readSnapshot(Consumer<InMemoryOMRSJournalRecord> recordConsumer)
+    {
+        long snapshotSequenceNumber = 0;
+
+        if (snapshotFile.exists())
+        {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(snapshotFile),
+                                                                                  StandardCharsets.UTF_8)))
+            {
+                String snapshotLine;
+
+                while ((snapshotLine = reader.readLine()) != null)
+                {
+                    if (! snapshotLine.trim().isEmpty())
+                    {
+                        InMemoryOMRSJournalRecord snapshotRecord = objectMapper.readValue(snapshotLine, InMemoryOMRSJournalRecord.class);
+
+                        if (snapshotRecord.getAction() == InMemoryOMRSJournalRecord.JournalAction.SNAPSHOT)
+                        {
+                            snapshotSequenceNumber = snapshotRecord.getSequenceNumber();
+                        }
+                        else
+                        {
+                            recordConsumer.accept(snapshotRecord);
+                        }
+                    }
+                }
+            }
+            catch (IOException ioException)
+            {
+                this.logUnusableSnapshot("Reading In-Memory Repository Snapshot", ioException);
+            }
+        }
+
+        return snapshotSequenceNumber;
+    }
+
+
+    /**
+     * Pass each record in the journals that is not already included in the snapshot to the consumer.
+     * The previous journal is only present if the server stopped, or the write failed, while a snapshot was being
+     * written so its records come before those in the current journal.
+     *
+     * @param snapshotSequenceNumber sequence number of the last change included in the snapshot
+     * @param recordConsumer consumer that applies the records to the store
+     * @return number of records passed to the consumer
+     */
+    synchronized int readJournal(long                                 snapshotSequenceNumber,
+                                 Consumer<InMemoryOMRSJournalRecord>  recordConsumer)
+    {
+        journalRecordCount = 0;
+        previousRecordCount = 0;
+
+        int replayedRecordCount = this.readJournalFile(previousJournalFile, snapshotSequenceNumber, recordConsumer);
+
+        return replayedRecordCount + this.readJournalFile(journalFile, snapshotSequenceNumber, recordConsumer);
+    }
+
+
+    /**
+     * Pass each record in a journal file that is not already included in the snapshot to the consumer.
+     * Replay stops at the first record that can not be read since it is the result of a write that did not complete.
+     *
+     * @param file journal file to read
+     * @param snapshotSequenceNumber sequence number of the last change included in the snapshot
+     * @param recordConsumer consumer that applies the records to the store
+     * @return number of records passed to the consumer
+     */
+    private int readJournalFile(File                                 file,
+                                long                                 snapshotSequenceNumber,
+                                Consumer<InMemoryOMRSJournalRecord>  recordConsumer)
+    {
+        int replayedRecordCount   = 0;
+        int unreadableRecordCount = 0;
+
+        if ((file.exists()) && (file.length() > 0))
+        {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file),
+                                                                                  StandardCharsets.UTF_8)))
+            {
+                String journalLine;
+
+                while ((journalLine = reader.readLine()) != null)
+                {
+                    if (unreadableRecordCount > 0)
+                    {
+                        unreadableRecordCount++;
+                    }
+                    else if (! journalLine.trim().isEmpty())
+                    {
+                        InMemoryOMRSJournalRecord journalRecord = this.readJournalRecord(journalLine);
+
+                        if (journalRecord == null)
+                        {
+                            unreadableRecordCount++;
+                        }
+                        else if (journalRecord.getSequenceNumber() > snapshotSequenceNumber)
+                        {
+                            recordConsumer.accept(journalRecord);
+                            replayedRecordCount++;
+                        }
+                    }
+                }
+            }
+            catch (IOException ioException)
+            {
+                this.logUnusableSnapshot("Replaying In-Memory Repository Journal", ioException);
+            }
+
+            if (unreadableRecordCount > 0)
+            {
+                if (auditLog != null)
+                {
+                    final String actionDescription = "Replaying In-Memory Repository Journal";
+
+                    auditLog.logMessage(actionDescription,
+                                        OMRSAuditCode.UNREADABLE_IN_MEMORY_JOURNAL.getMessageDefinition(Integer.toString(unreadableRecordCount),
+                                                                                                       snapshotFile.getPath()));
+                }
+
+                log.debug("Ignored " + unreadableRecordCount + " unreadable records in " + file.getName());
+            }
+        }
+
+        journalRecordCount = journalRecordCount + replayedRecordCount + unreadableRecordCount;
+
+        return replayedRecordCount;
+    }
+
+
+    /**
+     * Parse a record from the journal.
+     *
+     * @param journalLine record in JSON
+     * @return record or null if it can not be read
+     */
+    private InMemoryOMRSJournalRecord readJournalRecord(String journalLine)
+    {
+        try
+        {
+            InMemoryOMRSJournalRecord journalRecord = objectMapper.readValue(journalLine, InMemoryOMRSJournalRecord.class);
+
+            if (journalRecord.getAction() != null)
+            {
+                return journalRecord;
+            }
+        }
+        catch (IOException ioException)
+        {
+            log.debug("Unreadable journal record: " + journalLine, ioException);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Append a change to the journal.  The record and its line separator are written together so a partial write
+     * can only affect the last record in the journal.
+     *
+     * @param journalRecord change to the store
+     */
+    synchronized void writeJournalRecord(InMemoryOMRSJournalRecord journalRecord)
+    {
+        try
+        {
+            if (journalChannel == null)
+            {
+                journalChannel = FileChannel.open(journalFile.toPath(),
+                                                  StandardOpenOption.CREATE,
+                                                  StandardOpenOption.WRITE,
+                                                  StandardOpenOption.APPEND);
+            }
+
+            ByteBuffer journalLine = ByteBuffer.wrap((objectMapper.writeValueAsString(journalRecord) + "\n").getBytes(StandardCharsets.UTF_8));
+
+            while (journalLine.hasRemaining())
+            {
+                journalChannel.write(journalLine);
+            }
+
+            if (syncOnWrite)
+            {
+                journalChannel.force(false);
+            }
+
+            journalRecordCount++;
+        }
+        catch (IOException ioException)
+        {
+            this.logUnusableSnapshot("Writing In-Memory Repository Journal", ioException);
+        }
+    }
+
+
+    /**
+     * Move the journal aside so that the changes made while the new snapshot is written go to a new journal.
+     * This is called while the store is locked, after the contents of the snapshot have been copied, so the
+     * previous journal holds exactly the changes that are in the new snapshot.  If an earlier snapshot failed,
+     * the journal is added to the end of the previous journal that is still waiting to be replaced.
+     */
+    synchronized void startSnapshot()
+    {
+        this.close();
+
+        previousRecordCount = previousRecordCount + journalRecordCount;
+        journalRecordCount = 0;
+
+        try
+        {
+            if (journalFile.exists())
+            {
+                if (previousJournalFile.exists())
+                {
+                    try (FileChannel previousChannel = FileChannel.open(previousJournalFile.toPath(),
+                                                                        StandardOpenOption.WRITE,
+                                                                        StandardOpenOption.APPEND);
+                         FileChannel currentChannel  = FileChannel.open(journalFile.toPath(),
+                                                                        StandardOpenOption.READ))
+                    {
+                        long position = 0;
+
+                        while (position < currentChannel.size())
+                        {
+                            position = position + currentChannel.transferTo(position,
+                                                                            currentChannel.size() - position,
+                                                                            previousChannel);
+                        }
+                    }
+
+                    Files.delete(journalFile.toPath());
+                }
+                else
+                {
+                    Files.move(journalFile.toPath(), previousJournalFile.toPath());
+                }
+            }
+        }
+        catch (IOException ioException)
+        {
+            /*
+             * Any records left in the journal are also in the new snapshot and so are skipped when they are replayed.
+             */
+            this.logUnusableSnapshot("Starting In-Memory Repository Snapshot", ioException);
+        }
+    }
+
+
+    /**
+     * Write a new snapshot and remove the previous journal.  The snapshot is written to a temporary file and forced
+     * to disk before it replaces the old snapshot so there is always a complete snapshot on disk.  If the server
+     * stops before the previous journal is removed, the sequence numbers prevent it being applied to the new
+     * snapshot.  If the snapshot can not be written, the previous journal is kept and the next snapshot replaces it.
+     * This is called without the store locked so it does not hold up changes to the store.
+     *
+     * @param snapshotRecords the header record followed by the records that make up the store
+     */
+    void writeSnapshot(Iterable<InMemoryOMRSJournalRecord> snapshotRecords)
+    {
+        File temporaryFile = new File(snapshotFile.getPath() + temporarySuffix);
+
+        try
+        {
+            log.debug("Writing in-memory repository snapshot " + snapshotFile.getPath() + " to replace " + this.getPreviousRecordCount() + " journal records");
+
+            try (FileOutputStream snapshotStream = new FileOutputStream(temporaryFile))
+            {
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(snapshotStream, StandardCharsets.UTF_8));
+
+                for (InMemoryOMRSJournalRecord snapshotRecord : snapshotRecords)
+                {
+                    writer.write(objectMapper.writeValueAsString(snapshotRecord));
+                    writer.newLine();
+                }
+
+                writer.flush();
+                snapshotStream.getFD().sync();
+            }
+
+            try
+            {
+                Files.move(temporaryFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException notSupported)
+            {
+                Files.move(temporaryFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            this.completeSnapshot();
+        }
+        catch (IOException ioException)
+        {
+            this.failSnapshot();
+            this.logUnusableSnapshot("Writing In-Memory Repository Snapshot", ioException);
+        }
+    }
+
+
+    /**
+     * Remove the previous journal once the new snapshot is in place.
+     *
+     * @throws IOException the previous journal can not be removed
+     */
+    private synchronized void completeSnapshot() throws IOException
+    {
+        previousRecordCount = 0;
+
+        Files.deleteIfExists(previousJournalFile.toPath());
+    }
+
+
+    /**
+     * Keep the count of the changes in the previous journal since they are still not in a snapshot.
+     */
+    private synchronized void failSnapshot()
+    {
+        journalRecordCount = journalRecordCount + previousRecordCount;
+        previousRecordCount = 0;
+    }
+
+
+    /**
+     * Return the number of changes in the previous journal.
+     *
+     * @return count
+     */
+    private synchronized int getPreviousRecordCount()
+    {
+        return previousRecordCount;
+    }
+
+
+    /**
+     * Return the number of changes in the journal that are not in the snapshot.
+     *
+     * @return count
+     */
+    synchronized int getJournalRecordCount()
+    {
+        return journalRecordCount;
+    }
+
+
+    /**
+     * Log the completion of the restore of the store.
+     *
+     * @param metadataCollectionId unique identifier of the metadata collection
+     * @param entityCount number of entities restored
+     * @param relationshipCount number of relationships restored
+     * @param replayedRecordCount number of records replayed from the journal
+     * @param elapsedTime time taken to restore the store in milliseconds
+     */
+    void logRestore(String metadataCollectionId,
+                    int    entityCount,
+                    int    relationshipCount,
+                    int    replayedRecordCount,
+                    long   elapsedTime)
+    {
+        if (auditLog != null)
+        {
+            final String actionDescription = "Restoring In-Memory Repository";
+
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.IN_MEMORY_REPOSITORY_RESTORED.getMessageDefinition(metadataCollectionId,
+                                                                                                 Integer.toString(entityCount),
+                                                                                                 Integer.toString(relationshipCount),
+                                                                                                 Integer.toString(replayedRecordCount),
+                                                                                                 Long.toString(elapsedTime)));
+        }
+
+        log.debug("Restored " + entityCount + " entities and " + relationshipCount + " relationships for " + metadataCollectionId);
+    }
+
+
+    /**
+     * Close the journal file if it is open.
+     */
+    synchronized void close()
+    {
+        if (journalChannel != null)
+        {
+            try
+            {
+                journalChannel.close();
+            }
+            catch (IOException ioException)
+            {
+                log.debug("Ignoring error closing journal " + ioException.getMessage());
+            }
+
+            journalChannel = null;
+        }
+    }
+
+
+    /**
+     * Log an error reading or writing the snapshot or journal.
+     *
+     * @param actionDescription activity that failed
+     * @param ioException exception from the file system
+     */
+    private void logUnusableSnapshot(String actionDescription, IOException ioException)
+    {
+        if (auditLog != null)
+        {
+            auditLog.logException(actionDescription,
+                                  OMRSAuditCode.UNUSABLE_IN_MEMORY_SNAPSHOT.getMessageDefinition(snapshotFile.getPath(),
+                                                                                                 ioException.getClass().getName(),
+                                                                                                 ioException.getMessage()),
+                                  ioException);
+        }
+
+        log.debug("Unusable in-memory repository snapshot :(", ioException);
+    }
+}
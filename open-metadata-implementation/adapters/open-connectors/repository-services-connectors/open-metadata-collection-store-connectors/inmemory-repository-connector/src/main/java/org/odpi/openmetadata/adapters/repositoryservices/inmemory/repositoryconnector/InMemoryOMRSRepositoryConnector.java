@@ -3,15 +3,42 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 /**
  * The InMemoryOMRSRepositoryConnector is a connector to a local in memory repository.  It is used for test,
  * small scale fixed or temporary repositories where the initial content comes from open metadata archives and
  * other members of connected open metadata repository cohorts.
+ * <p>
+ * By default the content of the repository is lost when the server stops.  If the snapshotDirectory
+ * configuration property is set, the repository writes its content to a snapshot file in this directory and
+ * records each change in a journal between snapshots.  The content is restored from the snapshot and the journal
+ * when the connector is started.  The connector supports the following configuration properties:
+ * </p>
+ * <ul>
+ *     <li>snapshotDirectory - directory for the snapshot and journal files.</li>
+ *     <li>snapshotInterval - number of seconds between snapshots (default 300).  Zero means a snapshot is
+ *     only written when the connector is started and disconnected.</li>
+ *     <li>syncOnWrite - when true each change is forced to disk before the call returns (default false).</li>
+ * </ul>
  */
 public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
 {
+    public static final String SNAPSHOT_DIRECTORY_PROPERTY = "snapshotDirectory";
+    public static final String SNAPSHOT_INTERVAL_PROPERTY  = "snapshotInterval";
+    public static final String SYNC_ON_WRITE_PROPERTY      = "syncOnWrite";
+
+    public static final int    DEFAULT_SNAPSHOT_INTERVAL   = 300;
+
+    private ScheduledExecutorService snapshotScheduler = null;
+
+
     /**
      * Default constructor used by the OCF Connector Provider.
      */
@@ -44,4 +71,111 @@ public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
                                                                           metadataCollectionId);
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Indicates that the connector is completely configured and can begin processing.
+     * If a snapshot directory is configured, this is when the content of the repository is restored.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void start() throws ConnectorCheckedException
+    {
+        super.start();
+
+        String  snapshotDirectory = null;
+        int     snapshotInterval  = DEFAULT_SNAPSHOT_INTERVAL;
+        boolean syncOnWrite       = false;
+
+        Map<String, Object> configurationProperties = null;
+
+        if (connectionProperties != null)
+        {
+            configurationProperties = connectionProperties.getConfigurationProperties();
+        }
+
+        if (configurationProperties != null)
+        {
+            Object snapshotDirectoryProperty = configurationProperties.get(SNAPSHOT_DIRECTORY_PROPERTY);
+
+            if (snapshotDirectoryProperty != null)
+            {
+                snapshotDirectory = snapshotDirectoryProperty.toString();
+            }
+
+            Object snapshotIntervalProperty = configurationProperties.get(SNAPSHOT_INTERVAL_PROPERTY);
+
+            if (snapshotIntervalProperty != null)
+            {
+                try
+                {
+                    snapshotInterval = Integer.parseInt(snapshotIntervalProperty.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    snapshotInterval = DEFAULT_SNAPSHOT_INTERVAL;
+                }
+            }
+
+            Object syncOnWriteProperty = configurationProperties.get(SYNC_ON_WRITE_PROPERTY);
+
+            if (syncOnWriteProperty != null)
+            {
+                syncOnWrite = Boolean.parseBoolean(syncOnWriteProperty.toString());
+            }
+        }
+
+        if ((snapshotDirectory != null) && (metadataCollection instanceof InMemoryOMRSMetadataCollection))
+        {
+            InMemoryOMRSMetadataStore repositoryStore = ((InMemoryOMRSMetadataCollection)metadataCollection).getRepositoryStore();
+
+            repositoryStore.restoreFromJournal(new InMemoryOMRSMetadataStoreJournal(snapshotDirectory,
+                                                                                    metadataCollectionId,
+                                                                                    syncOnWrite,
+                                                                                    auditLog),
+                                               metadataCollectionId);
+
+            if (snapshotInterval > 0)
+            {
+                snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+                {
+                    Thread snapshotThread = new Thread(runnable, "InMemoryRepositorySnapshot-" + metadataCollectionId);
+
+                    snapshotThread.setDaemon(true);
+
+                    return snapshotThread;
+                });
+
+                snapshotScheduler.scheduleWithFixedDelay(repositoryStore::writeSnapshot,
+                                                         snapshotInterval,
+                                                         snapshotInterval,
+                                                         TimeUnit.SECONDS);
+            }
+        }
+    }
+
+
+    /**
+     * Free up any resources held since the connector is no longer needed.  If a snapshot directory is configured,
+     * a final snapshot is written.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        if (snapshotScheduler != null)
+        {
+            snapshotScheduler.shutdown();
+            snapshotScheduler = null;
+        }
+
+        if (metadataCollection instanceof InMemoryOMRSMetadataCollection)
+        {
+            ((InMemoryOMRSMetadataCollection)metadataCollection).getRepositoryStore().closeJournal();
+        }
+
+        super.disconnect();
+    }
+}
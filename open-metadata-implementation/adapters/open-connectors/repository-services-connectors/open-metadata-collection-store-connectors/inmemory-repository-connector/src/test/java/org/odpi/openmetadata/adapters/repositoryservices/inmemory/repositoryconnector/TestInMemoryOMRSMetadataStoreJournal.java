@@ -0,0 +1,387 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Date;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Test that the InMemoryOMRSMetadataStore is restored from its snapshot and journal after simulated crashes.
+ */
+public class TestInMemoryOMRSMetadataStoreJournal
+{
+    private static final String metadataCollectionId = "TestMetadataCollectionId";
+
+    private Path snapshotDirectory;
+
+
+    @BeforeMethod
+    public void createSnapshotDirectory() throws IOException
+    {
+        snapshotDirectory = Files.createTempDirectory("inmemory-snapshot");
+    }
+
+
+    @AfterMethod
+    public void removeSnapshotDirectory()
+    {
+        File[] snapshotFiles = snapshotDirectory.toFile().listFiles();
+
+        if (snapshotFiles != null)
+        {
+            for (File snapshotFile : snapshotFiles)
+            {
+                snapshotFile.delete();
+            }
+        }
+
+        snapshotDirectory.toFile().delete();
+    }
+
+
+    private InMemoryOMRSMetadataStore getStore()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.restoreFromJournal(new InMemoryOMRSMetadataStoreJournal(snapshotDirectory.toString(), metadataCollectionId, false, null),
+                                 metadataCollectionId);
+
+        return store;
+    }
+
+
+    private File getJournalFile()
+    {
+        return new File(snapshotDirectory.toFile(), metadataCollectionId + ".journal");
+    }
+
+
+    private EntityDetail getEntity(String name, long version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefGUID("TestTypeGUID");
+        instanceType.setTypeDefName("TestType");
+
+        PrimitivePropertyValue nameValue = new PrimitivePropertyValue();
+
+        nameValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        nameValue.setPrimitiveValue(name);
+
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty("name", nameValue);
+
+        entity.setGUID(name + "GUID");
+        entity.setType(instanceType);
+        entity.setMetadataCollectionId(metadataCollectionId);
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setVersion(version);
+        entity.setCreateTime(new Date());
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+
+    private EntityProxy getEntityProxy(String name)
+    {
+        EntityProxy entityProxy = new EntityProxy();
+
+        entityProxy.setGUID(name + "GUID");
+        entityProxy.setMetadataCollectionId("RemoteMetadataCollectionId");
+
+        return entityProxy;
+    }
+
+
+    private Relationship getRelationship(String name, EntityProxy entityOne, EntityProxy entityTwo)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(name + "GUID");
+        relationship.setMetadataCollectionId(metadataCollectionId);
+        relationship.setStatus(InstanceStatus.ACTIVE);
+        relationship.setVersion(1);
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        return relationship;
+    }
+
+
+    @Test public void testStoreIsRestoredAfterCrash()
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+
+        EntityProxy fredProxy = getEntityProxy("Fred");
+        EntityProxy joeProxy  = getEntityProxy("Joe");
+
+        store.createEntityInStore(getEntity("Bob", 1));
+        store.createEntityInStore(getEntity("Sue", 1));
+        store.updateEntityInStore(getEntity("Bob", 2));
+        store.addEntityProxyToStore(fredProxy);
+        store.addEntityProxyToStore(joeProxy);
+        store.removeEntityProxyFromStore(joeProxy.getGUID());
+        store.createRelationshipInStore(getRelationship("Link1", fredProxy, joeProxy));
+        store.createRelationshipInStore(getRelationship("Link2", fredProxy, joeProxy));
+        store.removeRelationshipFromStore(store.getRelationship("Link2GUID"));
+        store.removeEntityFromStore(store.getEntity("SueGUID"));
+
+        assertEquals(store.getJournalRecordCount(), 10);
+
+        /*
+         * The first store is not closed so its changes are only in the journal.
+         */
+        InMemoryOMRSMetadataStore restored = getStore();
+
+        assertEquals(restored.getEntities().size(), 1);
+        assertEquals(restored.getEntity("BobGUID"), store.getEntity("BobGUID"));
+        assertNull(restored.getEntity("SueGUID"));
+        assertEquals(restored.getEntityProxy("FredGUID"), fredProxy);
+        assertNull(restored.getEntityProxy("JoeGUID"));
+        assertEquals(restored.getRelationships().size(), 1);
+        assertEquals(restored.getRelationship("Link1GUID"), store.getRelationship("Link1GUID"));
+        assertNull(restored.getRelationship("Link2GUID"));
+        assertEquals(restored.getJournalRecordCount(), 0, "A snapshot is written when the store is restored");
+
+        /*
+         * The history is restored in the same order.
+         */
+        EntityDetail previousBob = restored.retrievePreviousVersionOfEntity("BobGUID");
+
+        assertNotNull(previousBob);
+        assertEquals(previousBob.getVersion(), 3);
+        assertEquals(previousBob.getProperties(), getEntity("Bob", 1).getProperties());
+        assertEquals(restored.retrievePreviousVersionOfEntity("SueGUID").getGUID(), "SueGUID");
+        assertEquals(restored.retrievePreviousVersionOfRelationship("Link2GUID").getGUID(), "Link2GUID");
+    }
+
+
+    @Test public void testPartialJournalRecordIsIgnored() throws IOException
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+
+        store.createEntityInStore(getEntity("Bob", 1));
+        store.createEntityInStore(getEntity("Sue", 1));
+        store.createEntityInStore(getEntity("Tom", 1));
+
+        /*
+         * Simulate a crash part way through writing the last record.
+         */
+        try (RandomAccessFile journal = new RandomAccessFile(getJournalFile(), "rw"))
+        {
+            journal.setLength(journal.length() - 20);
+        }
+
+        InMemoryOMRSMetadataStore restored = getStore();
+
+        assertNotNull(restored.getEntity("BobGUID"));
+        assertNotNull(restored.getEntity("SueGUID"));
+        assertNull(restored.getEntity("TomGUID"));
+
+        /*
+         * New changes are not lost behind the partial record.
+         */
+        restored.createEntityInStore(getEntity("Ann", 1));
+
+        InMemoryOMRSMetadataStore restoredAgain = getStore();
+
+        assertEquals(restoredAgain.getEntities().size(), 3);
+        assertNotNull(restoredAgain.getEntity("AnnGUID"));
+    }
+
+
+    @Test public void testJournalIsReplayedOnSnapshot()
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+
+        store.createEntityInStore(getEntity("Bob", 1));
+        store.updateEntityInStore(getEntity("Bob", 2));
+        store.writeSnapshot();
+
+        assertEquals(store.getJournalRecordCount(), 0);
+        assertFalse(getJournalFile().exists());
+
+        store.updateEntityInStore(getEntity("Bob", 3));
+        store.saveReferenceEntityToStore(getEntity("Sue", 4));
+
+        InMemoryOMRSMetadataStore restored = getStore();
+
+        assertEquals(restored.getEntity("BobGUID").getVersion(), 3);
+        assertEquals(restored.getEntity("SueGUID").getVersion(), 4);
+        assertEquals(restored.timeWarpEntityStore(null).size(), 2);
+        assertEquals(restored.retrievePreviousVersionOfEntity("BobGUID").getProperties(), getEntity("Bob", 2).getProperties());
+    }
+
+
+    @Test public void testJournalIsNotReappliedAfterSnapshot() throws IOException
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+
+        store.createEntityInStore(getEntity("Bob", 1));
+        store.updateEntityInStore(getEntity("Bob", 2));
+        store.removeEntityFromStore(store.getEntity("BobGUID"));
+
+        /*
+         * Simulate a crash after the new snapshot is in place but before the journal is removed.
+         */
+        File savedJournal = new File(snapshotDirectory.toFile(), "saved.journal");
+
+        Files.copy(getJournalFile().toPath(), savedJournal.toPath());
+        store.closeJournal();
+        Files.move(savedJournal.toPath(), getJournalFile().toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        InMemoryOMRSMetadataStore restored = getStore();
+
+        assertNull(restored.getEntity("BobGUID"));
+
+        EntityDetail previousBob = restored.retrievePreviousVersionOfEntity("BobGUID");
+
+        assertEquals(previousBob.getProperties(), getEntity("Bob", 2).getProperties());
+
+        previousBob = restored.retrievePreviousVersionOfEntity("BobGUID");
+
+        assertEquals(previousBob.getProperties(), getEntity("Bob", 2).getProperties(), "The history is not duplicated");
+    }
+
+
+    @Test public void testChangesDuringSnapshotAreKept() throws InterruptedException
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        Thread changeThread = new Thread(() -> store.createEntityInStore(getEntity("Sue", 1)));
+
+        InMemoryOMRSMetadataStoreJournal journal = new InMemoryOMRSMetadataStoreJournal(snapshotDirectory.toString(), metadataCollectionId, false, null)
+        {
+            @Override
+            void writeSnapshot(Iterable<InMemoryOMRSJournalRecord> snapshotRecords)
+            {
+                /*
+                 * The store is not locked while the snapshot is written so the change completes.
+                 */
+                changeThread.start();
+
+                try
+                {
+                    changeThread.join(10000);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
+                assertFalse(changeThread.isAlive(), "The store is locked while the snapshot is written");
+
+                super.writeSnapshot(snapshotRecords);
+            }
+        };
+
+        store.restoreFromJournal(journal, metadataCollectionId);
+        store.createEntityInStore(getEntity("Bob", 1));
+        store.writeSnapshot();
+
+        assertEquals(store.getJournalRecordCount(), 1, "The change made during the snapshot is still in the journal");
+
+        InMemoryOMRSMetadataStore restored = getStore();
+
+        assertNotNull(restored.getEntity("BobGUID"));
+        assertNotNull(restored.getEntity("SueGUID"));
+    }
+
+
+    @Test public void testPreviousJournalIsReplayedWhenSnapshotIsNotWritten()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        InMemoryOMRSMetadataStoreJournal journal = new InMemoryOMRSMetadataStoreJournal(snapshotDirectory.toString(), metadataCollectionId, false, null)
+        {
+            @Override
+            void writeSnapshot(Iterable<InMemoryOMRSJournalRecord> snapshotRecords)
+            {
+                /*
+                 * Simulate a crash while the snapshot is being written.
+                 */
+            }
+        };
+
+        store.restoreFromJournal(journal, metadataCollectionId);
+        store.createEntityInStore(getEntity("Bob", 1));
+        store.writeSnapshot();
+        store.createEntityInStore(getEntity("Sue", 1));
+        store.writeSnapshot();
+        store.updateEntityInStore(getEntity("Bob", 2));
+
+        assertFalse(new File(snapshotDirectory.toFile(), metadataCollectionId + ".snapshot").exists());
+
+        InMemoryOMRSMetadataStore restored = getStore();
+
+        assertEquals(restored.getEntity("BobGUID").getVersion(), 2);
+        assertNotNull(restored.getEntity("SueGUID"));
+        assertEquals(snapshotDirectory.toFile().list().length, 1, "Only the new snapshot is left");
+    }
+
+
+    @Test public void testStoreWithoutJournal()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntity("Bob", 1));
+        store.writeSnapshot();
+        store.closeJournal();
+
+        assertEquals(store.getJournalRecordCount(), 0);
+        assertEquals(snapshotDirectory.toFile().list().length, 0);
+    }
+
+
+    @Test public void testRecoveryTime()
+    {
+        final int entityCount = 5000;
+
+        InMemoryOMRSMetadataStore store = getStore();
+
+        for (int entity = 0; entity < entityCount; entity++)
+        {
+            store.createEntityInStore(getEntity("Entity" + entity, 1));
+        }
+
+        store.writeSnapshot();
+
+        for (int entity = 0; entity < entityCount; entity = entity + 2)
+        {
+            store.updateEntityInStore(getEntity("Entity" + entity, 2));
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        InMemoryOMRSMetadataStore restored = getStore();
+
+        long recoveryTime = System.currentTimeMillis() - startTime;
+
+        assertEquals(restored.getEntities().size(), entityCount);
+        assertEquals(restored.getEntity("Entity0GUID").getVersion(), 2);
+        assertEquals(restored.getEntity("Entity1GUID").getVersion(), 1);
+        assertTrue(recoveryTime < 60000, "Recovery took " + recoveryTime + " milliseconds");
+    }
+}
@@ -26,6 +26,7 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
 
     private PlatformConformanceWorkbenchConfig   platformWorkbenchConfig   = null;
     private RepositoryConformanceWorkbenchConfig repositoryWorkbenchConfig = null;
+    private RepositoryPerformanceWorkbenchConfig performanceWorkbenchConfig = null;
 
 
     /**
@@ -50,6 +51,7 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
         {
             platformWorkbenchConfig = template.getPlatformWorkbenchConfig();
             repositoryWorkbenchConfig = template.getRepositoryWorkbenchConfig();
+            performanceWorkbenchConfig = template.getPerformanceWorkbenchConfig();
         }
     }
 
@@ -98,6 +100,28 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the configuration for the repository performance workbench.
+     *
+     * @return performance workbench config properties
+     */
+    public RepositoryPerformanceWorkbenchConfig getPerformanceWorkbenchConfig()
+    {
+        return performanceWorkbenchConfig;
+    }
+
+
+    /**
+     * Set up the configuration for the repository performance workbench.
+     *
+     * @param performanceWorkbenchConfig performance workbench config properties
+     */
+    public void setPerformanceWorkbenchConfig(RepositoryPerformanceWorkbenchConfig performanceWorkbenchConfig)
+    {
+        this.performanceWorkbenchConfig = performanceWorkbenchConfig;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -109,6 +133,7 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
         return "ConformanceSuiteConfig{" +
                 ", platformWorkbenchConfig=" + platformWorkbenchConfig +
                 ", repositoryWorkbenchConfig=" + repositoryWorkbenchConfig +
+                ", performanceWorkbenchConfig=" + performanceWorkbenchConfig +
                 '}';
     }
 
@@ -132,7 +157,8 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
         }
         ConformanceSuiteConfig that = (ConformanceSuiteConfig) objectToCompare;
         return Objects.equals(getPlatformWorkbenchConfig(), that.getPlatformWorkbenchConfig()) &&
-                Objects.equals(getRepositoryWorkbenchConfig(), that.getRepositoryWorkbenchConfig());
+                Objects.equals(getRepositoryWorkbenchConfig(), that.getRepositoryWorkbenchConfig()) &&
+                Objects.equals(getPerformanceWorkbenchConfig(), that.getPerformanceWorkbenchConfig());
     }
 
 
@@ -144,6 +170,6 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
     @Override
     public int hashCode()
     {
-        return Objects.hash(getPlatformWorkbenchConfig(), getRepositoryWorkbenchConfig());
+        return Objects.hash(getPlatformWorkbenchConfig(), getRepositoryWorkbenchConfig(), getPerformanceWorkbenchConfig());
     }
 }
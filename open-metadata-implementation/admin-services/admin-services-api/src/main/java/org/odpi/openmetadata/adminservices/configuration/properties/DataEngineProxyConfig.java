@@ -26,11 +26,14 @@ public class DataEngineProxyConfig extends AdminServicesConfigHeader
     private static final long    serialVersionUID = 1L;
 
     /* Properties needed to call the access service REST APIs */
-    private String     accessServiceRootURL    = null;
-    private String     accessServiceServerName = null;
+    private String     accessServiceRootURL     = null;
+    private String     accessServiceServerName  = null;
 
-    private Connection dataEngineConnection    = null;
-    private int        pollIntervalInSeconds   = 60;
+    private Connection dataEngineConnection     = null;
+    private int        pollIntervalInSeconds    = 60;
+    private int        minPollIntervalInSeconds = 0;
+    private int        maxPollIntervalInSeconds = 0;
+    private int        pollingThreads           = 5;
 
     /**
      * Default constuctor
@@ -46,10 +49,13 @@ public class DataEngineProxyConfig extends AdminServicesConfigHeader
      */
     public DataEngineProxyConfig(DataEngineProxyConfig template) {
         if (template != null) {
-            this.accessServiceRootURL    = template.accessServiceRootURL;
-            this.accessServiceServerName = template.accessServiceServerName;
-            this.dataEngineConnection    = template.dataEngineConnection;
-            this.pollIntervalInSeconds   = template.pollIntervalInSeconds;
+            this.accessServiceRootURL     = template.accessServiceRootURL;
+            this.accessServiceServerName  = template.accessServiceServerName;
+            this.dataEngineConnection     = template.dataEngineConnection;
+            this.pollIntervalInSeconds    = template.pollIntervalInSeconds;
+            this.minPollIntervalInSeconds = template.minPollIntervalInSeconds;
+            this.maxPollIntervalInSeconds = template.maxPollIntervalInSeconds;
+            this.pollingThreads           = template.pollingThreads;
         }
     }
 
@@ -105,6 +111,44 @@ public class DataEngineProxyConfig extends AdminServicesConfigHeader
      */
     public void setPollIntervalInSeconds(int pollIntervalInSeconds) { this.pollIntervalInSeconds = pollIntervalInSeconds; }
 
+    /**
+     * Provide the shortest number of seconds to wait between polls when the data engine is producing many changes.
+     * Zero means the poll interval is not shortened below pollIntervalInSeconds.
+     * @return int
+     */
+    public int getMinPollIntervalInSeconds() { return minPollIntervalInSeconds; }
+
+    /**
+     * Set the shortest number of seconds to wait between polls when the data engine is producing many changes.
+     * @param minPollIntervalInSeconds the minimum number of seconds to wait between each poll for changes
+     */
+    public void setMinPollIntervalInSeconds(int minPollIntervalInSeconds) { this.minPollIntervalInSeconds = minPollIntervalInSeconds; }
+
+    /**
+     * Provide the longest number of seconds to wait between polls when the data engine has no changes.
+     * Zero means the poll interval is not lengthened above pollIntervalInSeconds.
+     * @return int
+     */
+    public int getMaxPollIntervalInSeconds() { return maxPollIntervalInSeconds; }
+
+    /**
+     * Set the longest number of seconds to wait between polls when the data engine has no changes.
+     * @param maxPollIntervalInSeconds the maximum number of seconds to wait between each poll for changes
+     */
+    public void setMaxPollIntervalInSeconds(int maxPollIntervalInSeconds) { this.maxPollIntervalInSeconds = maxPollIntervalInSeconds; }
+
+    /**
+     * Provide the number of threads used to retrieve the different types of changes from the data engine in parallel.
+     * @return int
+     */
+    public int getPollingThreads() { return pollingThreads; }
+
+    /**
+     * Set the number of threads used to retrieve the different types of changes from the data engine in parallel.
+     * @param pollingThreads the number of threads that call the Data Engine Connector
+     */
+    public void setPollingThreads(int pollingThreads) { this.pollingThreads = pollingThreads; }
+
     /**
      * {@inheritDoc}
      */
@@ -116,7 +160,10 @@ public class DataEngineProxyConfig extends AdminServicesConfigHeader
         return Objects.equals(getAccessServiceRootURL(), that.getAccessServiceRootURL()) &&
                 Objects.equals(getAccessServiceServerName(), that.getAccessServiceServerName()) &&
                 Objects.equals(getDataEngineConnection(), that.getDataEngineConnection()) &&
-                Objects.equals(getPollIntervalInSeconds(), that.getPollIntervalInSeconds());
+                Objects.equals(getPollIntervalInSeconds(), that.getPollIntervalInSeconds()) &&
+                Objects.equals(getMinPollIntervalInSeconds(), that.getMinPollIntervalInSeconds()) &&
+                Objects.equals(getMaxPollIntervalInSeconds(), that.getMaxPollIntervalInSeconds()) &&
+                Objects.equals(getPollingThreads(), that.getPollingThreads());
     }
 
     /**
@@ -125,7 +172,8 @@ public class DataEngineProxyConfig extends AdminServicesConfigHeader
     @Override
     public int hashCode() {
         return Objects.hash(getAccessServiceRootURL(), getAccessServiceServerName(),
-                getDataEngineConnection(), getPollIntervalInSeconds());
+                getDataEngineConnection(), getPollIntervalInSeconds(), getMinPollIntervalInSeconds(),
+                getMaxPollIntervalInSeconds(), getPollingThreads());
     }
 
 }
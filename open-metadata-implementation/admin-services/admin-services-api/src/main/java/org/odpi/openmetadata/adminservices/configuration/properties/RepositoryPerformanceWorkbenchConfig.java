@@ -0,0 +1,215 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.configuration.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RepositoryPerformanceWorkbenchConfig provides the config that drives the PerformanceWorkbench within the
+ * Open Metadata Conformance Suite.  The performance workbench creates a synthetic population of instances
+ * in the repository under test and measures the throughput and latency of the repository operations
+ * as the population grows and the number of concurrent requests increases.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RepositoryPerformanceWorkbenchConfig extends RepositoryConformanceWorkbenchConfig
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<Integer> instancesPerType         = new ArrayList<>(Arrays.asList(10, 100));
+    private List<Integer> concurrencyLevels        = new ArrayList<>(Arrays.asList(1, 4));
+    private int           operationsPerMeasurement = 100;
+    private int           maxEntityTypes           = 10;
+
+
+    /**
+     * Default constructor does nothing.
+     */
+    public RepositoryPerformanceWorkbenchConfig()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RepositoryPerformanceWorkbenchConfig(RepositoryPerformanceWorkbenchConfig template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            instancesPerType = template.getInstancesPerType();
+            concurrencyLevels = template.getConcurrencyLevels();
+            operationsPerMeasurement = template.getOperationsPerMeasurement();
+            maxEntityTypes = template.getMaxEntityTypes();
+        }
+    }
+
+
+    /**
+     * Return the population sizes to measure.  Each value is the number of entity instances of each
+     * entity type that are in the repository when the measurements are taken.  The population is grown
+     * to each size in turn.
+     *
+     * @return list of instance counts
+     */
+    public List<Integer> getInstancesPerType()
+    {
+        return instancesPerType;
+    }
+
+
+    /**
+     * Set up the population sizes to measure.
+     *
+     * @param instancesPerType list of instance counts
+     */
+    public void setInstancesPerType(List<Integer> instancesPerType)
+    {
+        this.instancesPerType = instancesPerType;
+    }
+
+
+    /**
+     * Return the numbers of concurrent requests to issue for each measurement.
+     *
+     * @return list of thread counts
+     */
+    public List<Integer> getConcurrencyLevels()
+    {
+        return concurrencyLevels;
+    }
+
+
+    /**
+     * Set up the numbers of concurrent requests to issue for each measurement.
+     *
+     * @param concurrencyLevels list of thread counts
+     */
+    public void setConcurrencyLevels(List<Integer> concurrencyLevels)
+    {
+        this.concurrencyLevels = concurrencyLevels;
+    }
+
+
+    /**
+     * Return the number of calls made to the repository for each measurement of a read operation.
+     *
+     * @return number of calls
+     */
+    public int getOperationsPerMeasurement()
+    {
+        return operationsPerMeasurement;
+    }
+
+
+    /**
+     * Set up the number of calls made to the repository for each measurement of a read operation.
+     *
+     * @param operationsPerMeasurement number of calls
+     */
+    public void setOperationsPerMeasurement(int operationsPerMeasurement)
+    {
+        this.operationsPerMeasurement = operationsPerMeasurement;
+    }
+
+
+    /**
+     * Return the maximum number of the repository's entity types to populate.  This keeps the time taken
+     * by the workbench under control for repositories that support all of the open metadata types.
+     * The same limit applies to the number of relationship and classification types that are measured.
+     *
+     * @return number of entity types
+     */
+    public int getMaxEntityTypes()
+    {
+        return maxEntityTypes;
+    }
+
+
+    /**
+     * Set up the maximum number of the repository's entity types to populate.
+     *
+     * @param maxEntityTypes number of entity types
+     */
+    public void setMaxEntityTypes(int maxEntityTypes)
+    {
+        this.maxEntityTypes = maxEntityTypes;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "RepositoryPerformanceWorkbenchConfig{" +
+                "tutRepositoryServerName='" + getTutRepositoryServerName() + '\'' +
+                ", maxSearchResults=" + getMaxSearchResults() +
+                ", instancesPerType=" + instancesPerType +
+                ", concurrencyLevels=" + concurrencyLevels +
+                ", operationsPerMeasurement=" + operationsPerMeasurement +
+                ", maxEntityTypes=" + maxEntityTypes +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        RepositoryPerformanceWorkbenchConfig that = (RepositoryPerformanceWorkbenchConfig) objectToCompare;
+        return getOperationsPerMeasurement() == that.getOperationsPerMeasurement()
+                && getMaxEntityTypes() == that.getMaxEntityTypes()
+                && Objects.equals(getInstancesPerType(), that.getInstancesPerType())
+                && Objects.equals(getConcurrencyLevels(), that.getConcurrencyLevels());
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getInstancesPerType(), getConcurrencyLevels(), getOperationsPerMeasurement(), getMaxEntityTypes());
+    }
+}
@@ -83,6 +83,18 @@ public enum OMAGAdminAuditCode implements AuditLogMessageSet
                             "Review the shutdown messages to ensure that all of the subsystems have successfully released the" +
                                     "resources that they were using.  Restart the server whenever its services are needed again."),
 
+    PARALLEL_SERVICE_START_UP("OMAG-ADMIN-0008",
+                              OMRSAuditLogRecordSeverity.STARTUP,
+                              "The {0} server will initialize up to {1} of its access or view services concurrently",
+                              "The OMAG Server Platform has been configured to start services in parallel.  The services in each " +
+                                      "group (for example, the access services) are independent of one another and so they are " +
+                                      "initialized concurrently once the services they depend on have started.  The messages from " +
+                                      "the services themselves may be interleaved.  The start up messages from the operational admin " +
+                                      "services are logged in the order that the services appear in the configuration document.",
+                              "No action is required.  If the interleaved messages make a problem hard to diagnose, set the " +
+                                      "platform's startup.service.parallelism property to 1 and restart the server to start " +
+                                      "the services one at a time."),
+
     STARTING_ACCESS_SERVICES("OMAG-ADMIN-0010",
         OMRSAuditLogRecordSeverity.STARTUP,
         "The Open Metadata Access Services (OMASs) are starting",
@@ -167,6 +179,12 @@ public enum OMAGAdminAuditCode implements AuditLogMessageSet
                     "in the access service's configuration and restart the server instance. Otherwise, " +
                     "remove the configuration for this access service and restart the server."),
 
+    ACCESS_SERVICE_STARTED("OMAG-ADMIN-0019",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The {0} has completed initialization in server {1}",
+            "The access service subsystem has started and is ready for use.",
+            "Review the start up messages from the access service to ensure that it is operating without errors."),
+
     STARTING_VIEW_SERVICES("OMAG-ADMIN-0020",
             OMRSAuditLogRecordSeverity.STARTUP,
             "The Open Metadata View Services (OMVSs) are starting",
@@ -250,6 +268,12 @@ public enum OMAGAdminAuditCode implements AuditLogMessageSet
                     "in the view service's configuration and restart the server instance. Otherwise, " +
                     "remove the configuration for this view service and restart the view server."),
 
+    VIEW_SERVICE_STARTED("OMAG-ADMIN-0029",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The {0} has completed initialization in view server {1}",
+            "The view service subsystem has started and is ready for use.",
+            "Review the start up messages from the view service to ensure that it is operating without errors."),
+
 
     STARTING_GOVERNANCE_SERVICES("OMAG-ADMIN-0100",
                                  OMRSAuditLogRecordSeverity.STARTUP,
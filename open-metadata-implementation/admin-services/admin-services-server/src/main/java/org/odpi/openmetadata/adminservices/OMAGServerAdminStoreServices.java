@@ -34,6 +34,13 @@ public class OMAGServerAdminStoreServices
 {
     private static Connection  configurationStoreConnection = null;
 
+    /*
+     * Every admin request reads or writes the configuration document, so the configuration store connectors are
+     * leased from a pool rather than created for each request.  Connectors that are idle for 5 minutes are disconnected.
+     */
+    private static final long            configurationStoreIdleTimeout = 5 * 60 * 1000;
+    private static final ConnectorBroker configurationStoreBroker      = new ConnectorBroker(null, configurationStoreIdleTimeout);
+
     private static RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(OMAGServerAdminStoreServices.class),
                                                                       CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceName());
 
@@ -178,7 +185,8 @@ public class OMAGServerAdminStoreServices
 
 
     /**
-     * Retrieve the connection to the config file.
+     * Retrieve the connection to the config file.  The connector is leased from the configuration store broker
+     * and must be passed to releaseServerConfigStore() when the caller has finished with it.
      *
      * @param serverName  name of the server
      * @param methodName  method requesting the server details
@@ -189,12 +197,11 @@ public class OMAGServerAdminStoreServices
                                                        String   methodName) throws OMAGInvalidParameterException
     {
         Connection   connection = this.getConnection(serverName);
+        Connector    connector  = null;
 
         try
         {
-            ConnectorBroker connectorBroker = new ConnectorBroker();
-
-            Connector connector = connectorBroker.getConnector(connection);
+            connector = configurationStoreBroker.getConnector(connection);
 
             OMAGServerConfigStore serverConfigStore = (OMAGServerConfigStore) connector;
 
@@ -206,6 +213,8 @@ public class OMAGServerAdminStoreServices
         }
         catch (Throwable   error)
         {
+            configurationStoreBroker.release(connector);
+
             throw new OMAGInvalidParameterException(OMAGAdminErrorCode.BAD_CONFIG_FILE.getMessageDefinition(serverName,
                                                                                                             methodName,
                                                                                                             error.getClass().getName(),
@@ -217,6 +226,20 @@ public class OMAGServerAdminStoreServices
     }
 
 
+    /**
+     * Hand back the configuration store connector returned by getServerConfigStore().
+     *
+     * @param serverConfigStore configuration store connector
+     */
+    private void releaseServerConfigStore(OMAGServerConfigStore serverConfigStore)
+    {
+        if (serverConfigStore instanceof Connector)
+        {
+            configurationStoreBroker.release((Connector) serverConfigStore);
+        }
+    }
+
+
     /**
      * Retrieve any saved configuration for this server.
      *
@@ -237,7 +260,14 @@ public class OMAGServerAdminStoreServices
 
         if (serverConfigStore != null)
         {
-            serverConfig = serverConfigStore.retrieveServerConfig();
+            try
+            {
+                serverConfig = serverConfigStore.retrieveServerConfig();
+            }
+            finally
+            {
+                this.releaseServerConfigStore(serverConfigStore);
+            }
         }
 
         if (serverConfig == null)
@@ -329,17 +359,24 @@ public class OMAGServerAdminStoreServices
 
         if (serverConfigStore != null)
         {
-            if (serverConfig != null)
+            try
             {
-                validateConfigServerName(serverName, serverConfig.getLocalServerName(), methodName);
-                serverConfigStore.saveServerConfig(serverConfig);
+                if (serverConfig != null)
+                {
+                    validateConfigServerName(serverName, serverConfig.getLocalServerName(), methodName);
+                    serverConfigStore.saveServerConfig(serverConfig);
+                }
+                else
+                {
+                    /*
+                     * If the server config is null we delete the file rather than have an empty file hanging around.
+                     */
+                    serverConfigStore.removeServerConfig();
+                }
             }
-            else
+            finally
             {
-                /*
-                 * If the server config is null we delete the file rather than have an empty file hanging around.
-                 */
-                serverConfigStore.removeServerConfig();
+                this.releaseServerConfigStore(serverConfigStore);
             }
         }
     }
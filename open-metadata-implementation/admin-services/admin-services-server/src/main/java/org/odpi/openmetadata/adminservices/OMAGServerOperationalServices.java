@@ -59,6 +59,26 @@ public class OMAGServerOperationalServices
     private static RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(OMAGServerOperationalServices.class),
                                                                       CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceName());
 
+    /*
+     * The maximum number of access services or view services that are initialized at the same time in a server.
+     * This is a platform-wide setting.  The default of 1 starts the services one at a time.
+     */
+    private static volatile int serviceStartUpParallelism = 1;
+
+
+    /**
+     * Set the maximum number of access services or view services that are initialized concurrently during the
+     * start up of each server on this platform.  A value of 1 (the default) starts the services one at a time in the
+     * order they appear in the server's configuration document.
+     *
+     * @param parallelism maximum number of services to initialize concurrently - values less than 1 are treated as 1
+     */
+    public static void setServiceStartUpParallelism(int parallelism)
+    {
+        serviceStartUpParallelism = Math.max(parallelism, 1);
+    }
+
+
     /*
      * =============================================================
      * Initialization and shutdown
@@ -79,6 +99,30 @@ public class OMAGServerOperationalServices
      */
     public SuccessMessageResponse activateServerListWithStoredConfig(String       userId,
                                                                      List<String> serverNames)
+    {
+        return activateServerListWithStoredConfig(userId, serverNames, 1);
+    }
+
+
+    /**
+     * Activate the list of open metadata and governance servers using the stored configuration information.
+     * Up to serverParallelism servers are started at the same time.  The servers are independent of one another
+     * so the order of their start up does not matter.  When all of the servers have been started (or have failed to start)
+     * the response for the first server in the list that failed is returned.  Otherwise the successful
+     * start up messages are returned in the order of the list.
+     *
+     * @param userId  user that is issuing the request
+     * @param serverNames  list of server names
+     * @param serverParallelism maximum number of servers to start at the same time.  A value of 1 starts the servers
+     *                          one at a time and stops at the first failure.
+     * @return success message or
+     * OMAGNotAuthorizedException the supplied userId is not authorized to issue this command or
+     * OMAGInvalidParameterException the server name is invalid or
+     * OMAGConfigurationErrorException there is a problem using the supplied configuration.
+     */
+    public SuccessMessageResponse activateServerListWithStoredConfig(String       userId,
+                                                                     List<String> serverNames,
+                                                                     int          serverParallelism)
     {
         String                 startUpMessage = null;
         SuccessMessageResponse response       = new SuccessMessageResponse();
@@ -87,30 +131,39 @@ public class OMAGServerOperationalServices
 
         if (serverNames != null)
         {
+            List<String> validServerNames = new ArrayList<>();
+
             for (String serverName : serverNames)
             {
                 if (serverName != null)
                 {
-                    response = activateWithStoredConfig(userId, serverName.trim());
+                    validServerNames.add(serverName.trim());
+                }
+            }
+
+            List<SuccessMessageResponse> serverResponses = this.activateServers(userId, validServerNames, serverParallelism);
+
+            for (int serverNumber = 0; serverNumber < serverResponses.size(); serverNumber++)
+            {
+                response = serverResponses.get(serverNumber);
 
-                    if (response.getRelatedHTTPCode() == 200)
+                if (response.getRelatedHTTPCode() == 200)
+                {
+                    String serverStartUpMessage = "OMAG Server '" + validServerNames.get(serverNumber) + "' successful start , with message: " +
+                            response.getSuccessMessage() + System.lineSeparator();
+                    if (startUpMessage == null)
                     {
-                        String serverStartUpMessage = "OMAG Server '" + serverName + "' successful start , with message: " +
-                                response.getSuccessMessage() + System.lineSeparator();
-                        if (startUpMessage == null)
-                        {
-                            startUpMessage = serverStartUpMessage;
-                        }
-                        else
-                        {
-                            startUpMessage += serverStartUpMessage;
-                        }
+                        startUpMessage = serverStartUpMessage;
                     }
                     else
                     {
-                        break;
+                        startUpMessage += serverStartUpMessage;
                     }
                 }
+                else
+                {
+                    break;
+                }
             }
         }
         else
@@ -127,6 +180,72 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Start each of the servers and return their responses in the order of the list.  When the servers are
+     * started one at a time, the list ends with the first server that failed to start.
+     *
+     * @param userId  user that is issuing the request
+     * @param serverNames  list of server names
+     * @param serverParallelism maximum number of servers to start at the same time
+     * @return list of responses
+     */
+    private List<SuccessMessageResponse> activateServers(String       userId,
+                                                         List<String> serverNames,
+                                                         int          serverParallelism)
+    {
+        final String platformName = "OMAG Server Platform";
+        final String groupName    = "OMAG Servers";
+
+        List<SuccessMessageResponse> serverResponses = new ArrayList<>();
+
+        if ((serverParallelism <= 1) || (serverNames.size() <= 1))
+        {
+            for (String serverName : serverNames)
+            {
+                SuccessMessageResponse serverResponse = activateWithStoredConfig(userId, serverName);
+
+                serverResponses.add(serverResponse);
+
+                if (serverResponse.getRelatedHTTPCode() != 200)
+                {
+                    break;
+                }
+            }
+
+            return serverResponses;
+        }
+
+        List<OMAGServerStartUpExecutor.StartUpTask<SuccessMessageResponse>> startUpTasks = new ArrayList<>();
+
+        for (String serverName : serverNames)
+        {
+            startUpTasks.add(() -> activateWithStoredConfig(userId, serverName));
+        }
+
+        OMAGServerStartUpExecutor<SuccessMessageResponse> startUpExecutor = new OMAGServerStartUpExecutor<>(platformName,
+                                                                                                            groupName,
+                                                                                                            serverParallelism);
+
+        try
+        {
+            startUpExecutor.run(startUpTasks, (serverNumber, serverResponse) -> serverResponses.add(serverResponse));
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            /*
+             * activateWithStoredConfig() reports its errors in its response rather than throwing them so this is only
+             * possible if the start up is interrupted.
+             */
+            SuccessMessageResponse errorResponse = new SuccessMessageResponse();
+
+            exceptionHandler.captureConfigurationErrorException(errorResponse, error);
+            serverResponses.add(errorResponse);
+        }
+
+        return serverResponses;
+    }
+
+
     /**
      * Activate the open metadata and governance services using the stored configuration information.
      *
@@ -292,6 +411,16 @@ public class OMAGServerOperationalServices
              */
             this.validateMaxPageSize(configuration.getMaxPageSize(), serverName, auditLog, methodName);
 
+            /*
+             * The platform may be configured to initialize the independent services in this server concurrently.
+             */
+            if (serviceStartUpParallelism > 1)
+            {
+                auditLog.logMessage(actionDescription,
+                                    OMAGAdminAuditCode.PARALLEL_SERVICE_START_UP.getMessageDefinition(serverName,
+                                                                                                      Integer.toString(serviceStartUpParallelism)));
+            }
+
             /*
              * Save the instance of the repository services and then initialize it.  OMRS has 2 modes of initialization.
              * Firstly for a basic server such as a governance server, just the audit log is initialized.
@@ -637,7 +766,6 @@ public class OMAGServerOperationalServices
                                           List<String>                    activatedServiceList,
                                           OMRSAuditLog                    auditLog) throws OMAGConfigurationErrorException
     {
-        final String methodName = "initializeAccessServices";
         final String actionDescription = "Initialize Access Services";
 
         List<AccessServiceAdmin>        operationalAccessServiceAdminList = instance.getOperationalAccessServiceAdminList();
@@ -651,6 +779,9 @@ public class OMAGServerOperationalServices
             int  configuredAccessServiceCount = 0;
             int  enabledAccessServiceCount = 0;
 
+            List<AccessServiceConfig>                                       startUpConfigs = new ArrayList<>();
+            List<OMAGServerStartUpExecutor.StartUpTask<AccessServiceAdmin>> startUpTasks   = new ArrayList<>();
+
             for (AccessServiceConfig  accessServiceConfig : accessServiceConfigList)
             {
                 /*
@@ -666,56 +797,13 @@ public class OMAGServerOperationalServices
                     {
                         enabledAccessServiceCount ++;
 
-                        try
-                        {
-                            AccessServiceAdmin accessServiceAdmin = this.getAccessServiceAdminClass(accessServiceConfig, auditLog, serverName);
-
-                            /*
-                             * Each access service has its own audit log instance.
-                             */
-                            OMRSAuditLog accessServicesAuditLog
-                                    = operationalRepositoryServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
-                                                                                accessServiceConfig.getAccessServiceFullName(),
-                                                                                accessServiceConfig.getAccessServiceDescription(),
-                                                                                accessServiceConfig.getAccessServiceWiki());
-
-                            /*
-                             * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
-                             * AuditLog.  The default implementation of this method delegates to the new version of the method so
-                             */
-                            accessServiceAdmin.initialize(accessServiceConfig,
-                                                          enterpriseTopicConnector,
-                                                          operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName()),
-                                                          accessServicesAuditLog,
-                                                          localServerUserId);
-                            operationalAccessServiceAdminList.add(accessServiceAdmin);
-                            activatedServiceList.add(accessServiceConfig.getAccessServiceFullName());
-
-                        }
-                        catch (OMAGConfigurationErrorException error)
-                        {
-                            auditLog.logException(methodName,
-                                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
-                                                                                                                          error.getMessage()),
-                                                  accessServiceConfig.toString(),
-                                                  error);
-                            throw error;
-                        }
-                        catch (Throwable error)
-                        {
-                            auditLog.logException(methodName,
-                                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
-                                                                                                                          accessServiceConfig.getAccessServiceName(),
-                                                                                                                          error.getMessage()),
-                                                  accessServiceConfig.toString(),
-                                                  error);
-
-                            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
-                                                                                                                                                  accessServiceConfig.getAccessServiceName()),
-                                                                      this.getClass().getName(),
-                                                                      methodName,
-                                                                      error);
-                        }
+                        startUpConfigs.add(accessServiceConfig);
+                        startUpTasks.add(this.getAccessServiceStartUpTask(accessServiceConfig,
+                                                                          operationalRepositoryServices,
+                                                                          enterpriseTopicConnector,
+                                                                          localServerUserId,
+                                                                          serverName,
+                                                                          auditLog));
                     }
                     else
                     {
@@ -726,6 +814,26 @@ public class OMAGServerOperationalServices
                 }
             }
 
+            /*
+             * The access services only depend on the repository services so they are independent of one another.
+             * They are initialized together and the results are recorded in the order of the configuration document.
+             */
+            OMAGServerStartUpExecutor<AccessServiceAdmin> startUpExecutor = new OMAGServerStartUpExecutor<>(serverName,
+                                                                                                            "Access Services",
+                                                                                                            serviceStartUpParallelism);
+
+            startUpExecutor.run(startUpTasks, (taskNumber, accessServiceAdmin) ->
+            {
+                AccessServiceConfig accessServiceConfig = startUpConfigs.get(taskNumber);
+
+                operationalAccessServiceAdminList.add(accessServiceAdmin);
+                activatedServiceList.add(accessServiceConfig.getAccessServiceFullName());
+
+                auditLog.logMessage(actionDescription,
+                                    OMAGAdminAuditCode.ACCESS_SERVICE_STARTED.getMessageDefinition(accessServiceConfig.getAccessServiceFullName(),
+                                                                                                   serverName));
+            });
+
             auditLog.logMessage(actionDescription,
                                 OMAGAdminAuditCode.ALL_ACCESS_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledAccessServiceCount),
                                                                                                     Integer.toString(configuredAccessServiceCount)));
@@ -738,6 +846,138 @@ public class OMAGServerOperationalServices
         instance.setOperationalAccessServiceAdminList(operationalAccessServiceAdminList);
     }
 
+    /**
+     * Create the task that initializes an access service.  The admin object, audit log and enterprise repository
+     * connector for the access service are created when the task is prepared and the admin object initializes
+     * the access service when the task is started.
+     *
+     * @param accessServiceConfig configuration for the access service
+     * @param operationalRepositoryServices repository services
+     * @param enterpriseTopicConnector events from the cohort
+     * @param localServerUserId servers userId
+     * @param serverName server name
+     * @param auditLog audit log for the operational admin services
+     * @return start up task
+     */
+    private OMAGServerStartUpExecutor.StartUpTask<AccessServiceAdmin> getAccessServiceStartUpTask(AccessServiceConfig     accessServiceConfig,
+                                                                                                 OMRSOperationalServices operationalRepositoryServices,
+                                                                                                 OMRSTopicConnector      enterpriseTopicConnector,
+                                                                                                 String                  localServerUserId,
+                                                                                                 String                  serverName,
+                                                                                                 OMRSAuditLog            auditLog)
+    {
+        return new OMAGServerStartUpExecutor.StartUpTask<AccessServiceAdmin>()
+        {
+            private AccessServiceAdmin      accessServiceAdmin            = null;
+            private OMRSAuditLog            accessServicesAuditLog        = null;
+            private OMRSRepositoryConnector enterpriseRepositoryConnector = null;
+
+
+            /**
+             * Create the admin object, audit log and enterprise repository connector for the access service.
+             *
+             * @throws OMAGConfigurationErrorException problem with the configuration
+             */
+            @Override
+            public void prepare() throws OMAGConfigurationErrorException
+            {
+                try
+                {
+                    accessServiceAdmin = getAccessServiceAdminClass(accessServiceConfig, auditLog, serverName);
+
+                    /*
+                     * Each access service has its own audit log instance.
+                     */
+                    accessServicesAuditLog
+                            = operationalRepositoryServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
+                                                                        accessServiceConfig.getAccessServiceFullName(),
+                                                                        accessServiceConfig.getAccessServiceDescription(),
+                                                                        accessServiceConfig.getAccessServiceWiki());
+
+                    enterpriseRepositoryConnector
+                            = operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName());
+                }
+                catch (Throwable error)
+                {
+                    throw getAccessServiceFailure(accessServiceConfig, serverName, auditLog, error);
+                }
+            }
+
+
+            /**
+             * Initialize the access service.
+             *
+             * @return admin object for the access service
+             * @throws OMAGConfigurationErrorException problem with the configuration
+             */
+            @Override
+            @SuppressWarnings(value = "deprecation")
+            public AccessServiceAdmin start() throws OMAGConfigurationErrorException
+            {
+                try
+                {
+                    /*
+                     * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
+                     * AuditLog.  The default implementation of this method delegates to the new version of the method so
+                     */
+                    accessServiceAdmin.initialize(accessServiceConfig,
+                                                  enterpriseTopicConnector,
+                                                  enterpriseRepositoryConnector,
+                                                  accessServicesAuditLog,
+                                                  localServerUserId);
+
+                    return accessServiceAdmin;
+                }
+                catch (Throwable error)
+                {
+                    throw getAccessServiceFailure(accessServiceConfig, serverName, auditLog, error);
+                }
+            }
+        };
+    }
+
+
+    /**
+     * Log the failure of an access service to start and return the exception to throw.
+     *
+     * @param accessServiceConfig configuration for the access service
+     * @param serverName server name
+     * @param auditLog audit log for the operational admin services
+     * @param error cause of the failure
+     * @return exception to throw
+     */
+    private OMAGConfigurationErrorException getAccessServiceFailure(AccessServiceConfig accessServiceConfig,
+                                                                    String              serverName,
+                                                                    OMRSAuditLog        auditLog,
+                                                                    Throwable           error)
+    {
+        final String methodName = "initializeAccessServices";
+
+        if (error instanceof OMAGConfigurationErrorException)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
+                                                                                                          error.getMessage()),
+                                  accessServiceConfig.toString(),
+                                  error);
+            return (OMAGConfigurationErrorException) error;
+        }
+
+        auditLog.logException(methodName,
+                              OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                      accessServiceConfig.getAccessServiceName(),
+                                                                                                      error.getMessage()),
+                              accessServiceConfig.toString(),
+                              error);
+
+        return new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                               accessServiceConfig.getAccessServiceName()),
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   error);
+    }
+
+
     /**
      * Start up the view services.
      *
@@ -760,7 +1000,6 @@ public class OMAGServerOperationalServices
                                         int                             maxPageSize,
                                         OMRSAuditLog                    auditLog) throws OMAGConfigurationErrorException
     {
-        final String methodName = "initializeViewServices";
         final String actionDescription = "Initialize View Services";
 
         List<ViewServiceAdmin> operationalViewServiceAdminList = instance.getOperationalViewServiceAdminList();
@@ -774,6 +1013,9 @@ public class OMAGServerOperationalServices
             int configuredViewServiceCount = 0;
             int enabledViewServiceCount = 0;
 
+            List<ViewServiceConfig>                                       startUpConfigs = new ArrayList<>();
+            List<OMAGServerStartUpExecutor.StartUpTask<ViewServiceAdmin>> startUpTasks   = new ArrayList<>();
+
             for (ViewServiceConfig viewServiceConfig : viewServiceConfigList)
             {
                 configuredViewServiceCount++;
@@ -782,52 +1024,13 @@ public class OMAGServerOperationalServices
                 {
                     enabledViewServiceCount++;
 
-                    try
-                    {
-                        ViewServiceAdmin viewServiceAdmin = this.getViewServiceAdminClass(viewServiceConfig, auditLog, serverName);
-
-                        /*
-                         * Each view service has its own audit log instance.
-                         */
-                        OMRSAuditLog viewServicesAuditLog
-                                = operationalRepositoryServices.getAuditLog(viewServiceConfig.getViewServiceId(),
-                                                                            viewServiceConfig.getViewServiceFullName(),
-                                                                            viewServiceConfig.getViewServiceDescription(),
-                                                                            viewServiceConfig.getViewServiceWiki());
-
-                        viewServiceAdmin.initialize(serverName,
-                                                    viewServiceConfig,
-                                                    viewServicesAuditLog,
-                                                    localServerUserId,
-                                                    maxPageSize);
-                        operationalViewServiceAdminList.add(viewServiceAdmin);
-                        activatedServiceList.add(viewServiceConfig.getViewServiceFullName());
-
-                    }
-                    catch (OMAGConfigurationErrorException error)
-                    {
-                        auditLog.logException(methodName,
-                                              OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(viewServiceConfig.getViewServiceName(),
-                                                                                                                    error.getMessage()),
-                                              viewServiceConfig.toString(),
-                                              error);
-                        throw error;
-                    }
-                    catch (Throwable error)
-                    {
-                        auditLog.logException(methodName,
-                                              OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
-                                                                                                                    viewServiceConfig.getViewServiceName(),
-                                                                                                                    error.getMessage()),
-                                              viewServiceConfig.toString(),
-                                              error);
-
-                        throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
-                                                                                                                                              viewServiceConfig.getViewServiceName()),
-                                                                  this.getClass().getName(),
-                                                                  methodName,
-                                                                  error);
-                    }
+                    startUpConfigs.add(viewServiceConfig);
+                    startUpTasks.add(this.getViewServiceStartUpTask(viewServiceConfig,
+                                                                    operationalRepositoryServices,
+                                                                    localServerUserId,
+                                                                    serverName,
+                                                                    maxPageSize,
+                                                                    auditLog));
                 }
                 else
                 {
@@ -838,6 +1041,26 @@ public class OMAGServerOperationalServices
 
             }
 
+            /*
+             * The view services call their access services through REST so they are independent of one another
+             * within this server.  They are initialized together and the results are recorded in the order of the configuration document.
+             */
+            OMAGServerStartUpExecutor<ViewServiceAdmin> startUpExecutor = new OMAGServerStartUpExecutor<>(serverName,
+                                                                                                          "View Services",
+                                                                                                          serviceStartUpParallelism);
+
+            startUpExecutor.run(startUpTasks, (taskNumber, viewServiceAdmin) ->
+            {
+                ViewServiceConfig viewServiceConfig = startUpConfigs.get(taskNumber);
+
+                operationalViewServiceAdminList.add(viewServiceAdmin);
+                activatedServiceList.add(viewServiceConfig.getViewServiceFullName());
+
+                auditLog.logMessage(actionDescription,
+                                    OMAGAdminAuditCode.VIEW_SERVICE_STARTED.getMessageDefinition(viewServiceConfig.getViewServiceFullName(),
+                                                                                                 serverName));
+            });
+
             auditLog.logMessage(actionDescription,
                                 OMAGAdminAuditCode.ALL_VIEW_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledViewServiceCount),
                                                                                                   Integer.toString(configuredViewServiceCount)));
@@ -851,6 +1074,128 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Create the task that initializes a view service.  The admin object and audit log for the view service are
+     * created when the task is prepared and the admin object initializes the view service when the task is started.
+     *
+     * @param viewServiceConfig             configuration for the view service
+     * @param operationalRepositoryServices repository services
+     * @param localServerUserId             servers userId
+     * @param serverName                    server name
+     * @param maxPageSize                   maximum page size. 0 means unlimited
+     * @param auditLog                      audit log for the operational admin services
+     * @return start up task
+     */
+    private OMAGServerStartUpExecutor.StartUpTask<ViewServiceAdmin> getViewServiceStartUpTask(ViewServiceConfig       viewServiceConfig,
+                                                                                             OMRSOperationalServices operationalRepositoryServices,
+                                                                                             String                  localServerUserId,
+                                                                                             String                  serverName,
+                                                                                             int                     maxPageSize,
+                                                                                             OMRSAuditLog            auditLog)
+    {
+        return new OMAGServerStartUpExecutor.StartUpTask<ViewServiceAdmin>()
+        {
+            private ViewServiceAdmin viewServiceAdmin     = null;
+            private OMRSAuditLog     viewServicesAuditLog = null;
+
+
+            /**
+             * Create the admin object and audit log for the view service.
+             *
+             * @throws OMAGConfigurationErrorException problem with the configuration
+             */
+            @Override
+            public void prepare() throws OMAGConfigurationErrorException
+            {
+                try
+                {
+                    viewServiceAdmin = getViewServiceAdminClass(viewServiceConfig, auditLog, serverName);
+
+                    /*
+                     * Each view service has its own audit log instance.
+                     */
+                    viewServicesAuditLog
+                            = operationalRepositoryServices.getAuditLog(viewServiceConfig.getViewServiceId(),
+                                                                        viewServiceConfig.getViewServiceFullName(),
+                                                                        viewServiceConfig.getViewServiceDescription(),
+                                                                        viewServiceConfig.getViewServiceWiki());
+                }
+                catch (Throwable error)
+                {
+                    throw getViewServiceFailure(viewServiceConfig, serverName, auditLog, error);
+                }
+            }
+
+
+            /**
+             * Initialize the view service.
+             *
+             * @return admin object for the view service
+             * @throws OMAGConfigurationErrorException problem with the configuration
+             */
+            @Override
+            public ViewServiceAdmin start() throws OMAGConfigurationErrorException
+            {
+                try
+                {
+                    viewServiceAdmin.initialize(serverName,
+                                                viewServiceConfig,
+                                                viewServicesAuditLog,
+                                                localServerUserId,
+                                                maxPageSize);
+
+                    return viewServiceAdmin;
+                }
+                catch (Throwable error)
+                {
+                    throw getViewServiceFailure(viewServiceConfig, serverName, auditLog, error);
+                }
+            }
+        };
+    }
+
+
+    /**
+     * Log the failure of a view service to start and return the exception to throw.
+     *
+     * @param viewServiceConfig configuration for the view service
+     * @param serverName        server name
+     * @param auditLog          audit log for the operational admin services
+     * @param error             cause of the failure
+     * @return exception to throw
+     */
+    private OMAGConfigurationErrorException getViewServiceFailure(ViewServiceConfig viewServiceConfig,
+                                                                  String            serverName,
+                                                                  OMRSAuditLog      auditLog,
+                                                                  Throwable         error)
+    {
+        final String methodName = "initializeViewServices";
+
+        if (error instanceof OMAGConfigurationErrorException)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(viewServiceConfig.getViewServiceName(),
+                                                                                                        error.getMessage()),
+                                  viewServiceConfig.toString(),
+                                  error);
+            return (OMAGConfigurationErrorException) error;
+        }
+
+        auditLog.logException(methodName,
+                              OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                    viewServiceConfig.getViewServiceName(),
+                                                                                                    error.getMessage()),
+                              viewServiceConfig.toString(),
+                              error);
+
+        return new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                               viewServiceConfig.getViewServiceName()),
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   error);
+    }
+
+
     /**
      *
      * @param accessServiceConfig configuration for the access service
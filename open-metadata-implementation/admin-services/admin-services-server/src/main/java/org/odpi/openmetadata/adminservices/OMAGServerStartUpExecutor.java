@@ -0,0 +1,242 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminErrorCode;
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * OMAGServerStartUpExecutor runs a group of independent start up tasks, such as the initialization of
+ * each of the access services in a server.  The tasks in a group only depend on the subsystems started before the
+ * group and so they may run concurrently on a bounded pool of threads.  The results are passed back to the
+ * caller's thread in the order that the tasks were supplied so that the audit log messages from the
+ * operational admin services and the lists of running services follow the order of the configuration document.
+ *
+ * Each task has two phases.  The preparation phase, which creates the objects that the task needs, always runs
+ * on the caller's thread.  The start phase initializes the service.
+ *
+ * With a parallelism of one the tasks run one at a time on the caller's thread - each task is prepared and started
+ * before the next is prepared - and the first failure stops the group.  This is the same sequence as a simple
+ * loop over the services.  With a higher parallelism, every task is prepared on the caller's thread and then the
+ * start phases run concurrently.  Every start phase is allowed to finish so the successfully started services
+ * are known to the caller (and can be shut down) before the first failure, in task order, is returned.
+ *
+ * @param <T> type of object returned by each task
+ */
+class OMAGServerStartUpExecutor<T>
+{
+    /**
+     * A single start up task.  It is responsible for logging its own failures.
+     *
+     * @param <T> type of object returned by the task
+     */
+    interface StartUpTask<T>
+    {
+        /**
+         * Create the objects needed to start the service.  This is always called on the caller's thread,
+         * before start().
+         *
+         * @throws OMAGConfigurationErrorException the service can not be created
+         */
+        default void prepare() throws OMAGConfigurationErrorException
+        {
+        }
+
+
+        /**
+         * Start the service.
+         *
+         * @return object representing the started service
+         * @throws OMAGConfigurationErrorException the service failed to start
+         */
+        T start() throws OMAGConfigurationErrorException;
+    }
+
+
+    /**
+     * Receives the results of the successful tasks on the caller's thread.
+     *
+     * @param <T> type of object returned by each task
+     */
+    interface StartUpListener<T>
+    {
+        /**
+         * A task has completed successfully.
+         *
+         * @param taskNumber position of the task in the list supplied to the executor
+         * @param result object returned by the task
+         */
+        void started(int taskNumber, T result);
+    }
+
+
+    private String serverName;
+    private String groupName;
+    private int    parallelism;
+
+
+    /**
+     * Constructor supplies the parameters that control the start up.
+     *
+     * @param serverName name of the server being started
+     * @param groupName name of the group of services (used for thread names and error messages)
+     * @param parallelism maximum number of tasks to run concurrently
+     */
+    OMAGServerStartUpExecutor(String serverName,
+                              String groupName,
+                              int    parallelism)
+    {
+        this.serverName  = serverName;
+        this.groupName   = groupName;
+        this.parallelism = parallelism;
+    }
+
+
+    /**
+     * Run the start up tasks.
+     *
+     * @param tasks tasks to run
+     * @param listener receives the results of the successful tasks in task order
+     * @throws OMAGConfigurationErrorException the first failure in task order
+     */
+    void run(List<StartUpTask<T>> tasks,
+             StartUpListener<T>   listener) throws OMAGConfigurationErrorException
+    {
+        if ((tasks == null) || (tasks.isEmpty()))
+        {
+            return;
+        }
+
+        if ((parallelism <= 1) || (tasks.size() == 1))
+        {
+            for (int taskNumber = 0; taskNumber < tasks.size(); taskNumber++)
+            {
+                StartUpTask<T> task = tasks.get(taskNumber);
+
+                task.prepare();
+                listener.started(taskNumber, task.start());
+            }
+        }
+        else
+        {
+            this.runConcurrently(tasks, listener);
+        }
+    }
+
+
+    /**
+     * Run the start up tasks on a pool of threads and wait for them all to complete.
+     *
+     * @param tasks tasks to run
+     * @param listener receives the results of the successful tasks in task order
+     * @throws OMAGConfigurationErrorException the first failure in task order
+     */
+    private void runConcurrently(List<StartUpTask<T>> tasks,
+                                 StartUpListener<T>   listener) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "runConcurrently";
+
+        for (StartUpTask<T> task : tasks)
+        {
+            task.prepare();
+        }
+
+        ExecutorService startUpPool = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()),
+                                                                   new StartUpThreadFactory());
+        List<Future<T>> futures     = new ArrayList<>();
+
+        try
+        {
+            for (StartUpTask<T> task : tasks)
+            {
+                futures.add(startUpPool.submit(task::start));
+            }
+
+            OMAGConfigurationErrorException firstError = null;
+
+            for (int taskNumber = 0; taskNumber < futures.size(); taskNumber++)
+            {
+                try
+                {
+                    listener.started(taskNumber, futures.get(taskNumber).get());
+                }
+                catch (ExecutionException error)
+                {
+                    if (firstError == null)
+                    {
+                        if (error.getCause() instanceof OMAGConfigurationErrorException)
+                        {
+                            firstError = (OMAGConfigurationErrorException) error.getCause();
+                        }
+                        else
+                        {
+                            firstError = new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(groupName,
+                                                                                                                                                        error.getCause().getClass().getName(),
+                                                                                                                                                        error.getCause().getMessage()),
+                                                                             this.getClass().getName(),
+                                                                             methodName,
+                                                                             error.getCause());
+                        }
+                    }
+                }
+            }
+
+            if (firstError != null)
+            {
+                throw firstError;
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(groupName,
+                                                                                                                                  error.getClass().getName(),
+                                                                                                                                  error.getMessage()),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      error);
+        }
+        finally
+        {
+            startUpPool.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Names the start up threads after the server and the group of services so they can be identified in
+     * thread dumps.
+     */
+    private class StartUpThreadFactory implements ThreadFactory
+    {
+        private AtomicInteger threadNumber = new AtomicInteger(1);
+
+
+        /**
+         * Create a new start up thread.
+         *
+         * @param runnable task to run
+         * @return new thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, serverName + " " + groupName + " start up " + threadNumber.getAndIncrement());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
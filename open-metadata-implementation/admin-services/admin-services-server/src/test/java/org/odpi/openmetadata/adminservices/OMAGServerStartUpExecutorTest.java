@@ -0,0 +1,322 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminErrorCode;
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate the order in which OMAGServerStartUpExecutor prepares and starts its tasks and how it reports failures.
+ */
+public class OMAGServerStartUpExecutorTest
+{
+    private static final String serverName = "testServer";
+    private static final String groupName  = "Test Services";
+
+
+    /**
+     * With a parallelism of one, each task is prepared and started on the caller's thread before the next task
+     * is prepared.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testSerialStartUpInterleavesPrepareAndStart() throws Exception
+    {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        OMAGServerStartUpExecutor<String> executor = new OMAGServerStartUpExecutor<>(serverName, groupName, 1);
+
+        executor.run(Arrays.asList(new RecordingTask("A", events, false),
+                                   new RecordingTask("B", events, false),
+                                   new RecordingTask("C", events, false)),
+                     (taskNumber, result) -> events.add("started " + taskNumber + " " + result));
+
+        assertEquals(events, Arrays.asList("prepare A", "start A", "started 0 A",
+                                           "prepare B", "start B", "started 1 B",
+                                           "prepare C", "start C", "started 2 C"));
+    }
+
+
+    /**
+     * With a parallelism of one, the first failure stops the group so the later tasks are not prepared.
+     */
+    @Test
+    public void testSerialStartUpStopsAtFirstFailure()
+    {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        OMAGServerStartUpExecutor<String> executor = new OMAGServerStartUpExecutor<>(serverName, groupName, 1);
+
+        try
+        {
+            executor.run(Arrays.asList(new RecordingTask("A", events, false),
+                                       new RecordingTask("B", events, true),
+                                       new RecordingTask("C", events, false)),
+                         (taskNumber, result) -> events.add("started " + taskNumber + " " + result));
+
+            fail("Failure not reported");
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            assertTrue(error.getMessage().contains("B"));
+        }
+
+        assertEquals(events, Arrays.asList("prepare A", "start A", "started 0 A",
+                                           "prepare B", "start B"));
+    }
+
+
+    /**
+     * With a higher parallelism, every task is prepared on the caller's thread before any is started and the
+     * results are delivered on the caller's thread in task order, even when the tasks finish in a different order.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testConcurrentStartUpPreservesTaskOrder() throws Exception
+    {
+        List<String>   events        = Collections.synchronizedList(new ArrayList<>());
+        List<String>   startThreads  = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch lastTaskStart = new CountDownLatch(1);
+        Thread         callerThread  = Thread.currentThread();
+
+        OMAGServerStartUpExecutor.StartUpTask<String> slowTask = new OMAGServerStartUpExecutor.StartUpTask<String>()
+        {
+            @Override
+            public void prepare()
+            {
+                assertSame(Thread.currentThread(), callerThread);
+                events.add("prepare slow");
+            }
+
+
+            @Override
+            public String start() throws OMAGConfigurationErrorException
+            {
+                startThreads.add(Thread.currentThread().getName());
+
+                try
+                {
+                    /*
+                     * Finish after the second task so the results are not in completion order.
+                     */
+                    assertTrue(lastTaskStart.await(10, TimeUnit.SECONDS));
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
+                return "slow";
+            }
+        };
+
+        OMAGServerStartUpExecutor.StartUpTask<String> fastTask = new OMAGServerStartUpExecutor.StartUpTask<String>()
+        {
+            @Override
+            public void prepare()
+            {
+                assertSame(Thread.currentThread(), callerThread);
+                events.add("prepare fast");
+            }
+
+
+            @Override
+            public String start()
+            {
+                startThreads.add(Thread.currentThread().getName());
+                lastTaskStart.countDown();
+
+                return "fast";
+            }
+        };
+
+        List<String> results = new ArrayList<>();
+
+        OMAGServerStartUpExecutor<String> executor = new OMAGServerStartUpExecutor<>(serverName, groupName, 2);
+
+        executor.run(Arrays.asList(slowTask, fastTask), (taskNumber, result) ->
+        {
+            assertSame(Thread.currentThread(), callerThread);
+            results.add(taskNumber + " " + result);
+        });
+
+        assertEquals(events, Arrays.asList("prepare slow", "prepare fast"));
+        assertEquals(results, Arrays.asList("0 slow", "1 fast"));
+        assertEquals(startThreads.size(), 2);
+
+        for (String threadName : startThreads)
+        {
+            assertTrue(threadName.startsWith(serverName + " " + groupName + " start up "), threadName);
+        }
+    }
+
+
+    /**
+     * With a higher parallelism, every task finishes, the successful results are delivered and the first failure in
+     * task order is returned.
+     */
+    @Test
+    public void testConcurrentStartUpReportsFirstFailureInTaskOrder()
+    {
+        List<String> events  = Collections.synchronizedList(new ArrayList<>());
+        List<String> results = new ArrayList<>();
+
+        OMAGServerStartUpExecutor<String> executor = new OMAGServerStartUpExecutor<>(serverName, groupName, 4);
+
+        try
+        {
+            executor.run(Arrays.asList(new RecordingTask("A", events, false),
+                                       new RecordingTask("B", events, true),
+                                       new RecordingTask("C", events, true),
+                                       new RecordingTask("D", events, false)),
+                         (taskNumber, result) -> results.add(taskNumber + " " + result));
+
+            fail("Failure not reported");
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            assertTrue(error.getMessage().contains("B"), error.getMessage());
+        }
+
+        assertEquals(results, Arrays.asList("0 A", "3 D"));
+        assertTrue(events.containsAll(Arrays.asList("start A", "start B", "start C", "start D")));
+        assertEquals(events.subList(0, 4), Arrays.asList("prepare A", "prepare B", "prepare C", "prepare D"));
+    }
+
+
+    /**
+     * A failure to prepare a task stops the group before any task is started.
+     */
+    @Test
+    public void testConcurrentStartUpStopsAtPrepareFailure()
+    {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        OMAGServerStartUpExecutor.StartUpTask<String> badTask = new OMAGServerStartUpExecutor.StartUpTask<String>()
+        {
+            @Override
+            public void prepare() throws OMAGConfigurationErrorException
+            {
+                events.add("prepare bad");
+
+                throw getError("bad");
+            }
+
+
+            @Override
+            public String start()
+            {
+                events.add("start bad");
+
+                return "bad";
+            }
+        };
+
+        OMAGServerStartUpExecutor<String> executor = new OMAGServerStartUpExecutor<>(serverName, groupName, 2);
+
+        try
+        {
+            executor.run(Arrays.asList(new RecordingTask("A", events, false),
+                                       badTask,
+                                       new RecordingTask("C", events, false)),
+                         (taskNumber, result) -> events.add("started " + taskNumber + " " + result));
+
+            fail("Failure not reported");
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            assertTrue(error.getMessage().contains("bad"), error.getMessage());
+        }
+
+        assertEquals(events, Arrays.asList("prepare A", "prepare bad"));
+    }
+
+
+    /**
+     * Return an exception for a failed task.
+     *
+     * @param taskName name of the task
+     * @return exception
+     */
+    private static OMAGConfigurationErrorException getError(String taskName)
+    {
+        return new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(taskName,
+                                                                                                                               "TestException",
+                                                                                                                               taskName + " failed"),
+                                                   OMAGServerStartUpExecutorTest.class.getName(),
+                                                   "start");
+    }
+
+
+    /**
+     * Start up task that records when it is prepared and started.
+     */
+    private static class RecordingTask implements OMAGServerStartUpExecutor.StartUpTask<String>
+    {
+        private String       name;
+        private List<String> events;
+        private boolean      fail;
+
+
+        /**
+         * Constructor supplies the behavior of the task.
+         *
+         * @param name name of the task (returned when it starts)
+         * @param events list of events
+         * @param fail should the task fail to start
+         */
+        RecordingTask(String       name,
+                      List<String> events,
+                      boolean      fail)
+        {
+            this.name = name;
+            this.events = events;
+            this.fail = fail;
+        }
+
+
+        /**
+         * Record the preparation.
+         */
+        @Override
+        public void prepare()
+        {
+            events.add("prepare " + name);
+        }
+
+
+        /**
+         * Record the start.
+         *
+         * @return name of the task
+         * @throws OMAGConfigurationErrorException requested failure
+         */
+        @Override
+        public String start() throws OMAGConfigurationErrorException
+        {
+            events.add("start " + name);
+
+            if (fail)
+            {
+                throw getError(name);
+            }
+
+            return name;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * OpenMetadataSecurityDecisionCache remembers the decisions made by the open metadata server security connector
+ * for a period of time so that repeated checks for the same user, operation, scope (such as the metadata
+ * collection name), type and zones do not need to call the connector.  Both approvals and rejections are
+ * remembered.  When the cache is full, the least recently used decision is discarded.  The cache is
+ * discarded when the security connector is replaced.
+ */
+class OpenMetadataSecurityDecisionCache
+{
+    private final Map<DecisionKey, Decision> decisions;
+    private final long                       timeToLive;
+
+    private final AtomicLong hitCount  = new AtomicLong(0);
+    private final AtomicLong missCount = new AtomicLong(0);
+
+
+    /**
+     * An authorization check that may be rejected.
+     */
+    interface AuthorizationCheck
+    {
+        void validate() throws UserNotAuthorizedException;
+    }
+
+
+    /**
+     * A calculation of the supported zones for a user.
+     */
+    interface ZoneCalculation
+    {
+        List<String> calculate() throws InvalidParameterException, PropertyServerException;
+    }
+
+
+    /**
+     * Constructor sets up the limits of the cache.
+     *
+     * @param timeToLive number of milliseconds that a decision is remembered
+     * @param maxEntries maximum number of decisions to remember
+     */
+    OpenMetadataSecurityDecisionCache(long timeToLive,
+                                      int  maxEntries)
+    {
+        this.timeToLive = timeToLive;
+        this.decisions = new LinkedHashMap<DecisionKey, Decision>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DecisionKey, Decision> eldest)
+            {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+
+    /**
+     * Run the authorization check unless there is a valid remembered decision for the same
+     * user, operation, scope, type and zones.
+     *
+     * @param userId calling user
+     * @param operation name of the security operation
+     * @param scope additional qualifier of the decision, such as the metadata collection name (may be null)
+     * @param typeName name of the type of the element being accessed
+     * @param zones zones of the element being accessed
+     * @param authorizationCheck call to the security connector
+     * @throws UserNotAuthorizedException the user is not authorized (either now or when the decision was remembered)
+     */
+    void validate(String             userId,
+                  String             operation,
+                  String             scope,
+                  String             typeName,
+                  List<String>       zones,
+                  AuthorizationCheck authorizationCheck) throws UserNotAuthorizedException
+    {
+        DecisionKey decisionKey = new DecisionKey(userId, operation, scope, typeName, zones);
+        Decision    decision    = this.getDecision(decisionKey);
+
+        if (decision == null)
+        {
+            try
+            {
+                authorizationCheck.validate();
+                this.saveDecision(decisionKey, new Decision(null, null, System.currentTimeMillis() + timeToLive));
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                this.saveDecision(decisionKey, new Decision(error, null, System.currentTimeMillis() + timeToLive));
+                throw error;
+            }
+        }
+        else if (decision.rejection != null)
+        {
+            throw decision.rejection;
+        }
+    }
+
+
+    /**
+     * Return the supported zones for the user, calculating them only if there is no valid remembered result.
+     *
+     * @param userId calling user
+     * @param serviceName name of the called service
+     * @param supportedZones default supported zones for the service
+     * @param zoneCalculation call to the security connector
+     * @return list of supported zones for the user
+     * @throws InvalidParameterException one of the parameter values is invalid
+     * @throws PropertyServerException there is a problem calculating the zones
+     */
+    List<String> getSupportedZones(String          userId,
+                                   String          serviceName,
+                                   List<String>    supportedZones,
+                                   ZoneCalculation zoneCalculation) throws InvalidParameterException,
+                                                                           PropertyServerException
+    {
+        final String operation = "setSupportedZonesForUser";
+
+        DecisionKey decisionKey = new DecisionKey(userId, operation, null, serviceName, supportedZones);
+        Decision    decision    = this.getDecision(decisionKey);
+
+        if (decision == null)
+        {
+            List<String> zones = zoneCalculation.calculate();
+
+            decision = new Decision(null, zones, System.currentTimeMillis() + timeToLive);
+            this.saveDecision(decisionKey, decision);
+        }
+
+        if (decision.zones == null)
+        {
+            return null;
+        }
+
+        return new ArrayList<>(decision.zones);
+    }
+
+
+    /**
+     * Return the number of remembered decisions.
+     *
+     * @return count
+     */
+    int size()
+    {
+        synchronized (decisions)
+        {
+            return decisions.size();
+        }
+    }
+
+
+    /**
+     * Return the number of checks that were satisfied from the cache.
+     *
+     * @return count
+     */
+    long getHitCount()
+    {
+        return hitCount.get();
+    }
+
+
+    /**
+     * Return the number of checks that needed to call the security connector.
+     *
+     * @return count
+     */
+    long getMissCount()
+    {
+        return missCount.get();
+    }
+
+
+    /**
+     * Retrieve an unexpired decision.
+     *
+     * @param decisionKey identity of the decision
+     * @return decision or null
+     */
+    private Decision getDecision(DecisionKey decisionKey)
+    {
+        Decision decision;
+
+        synchronized (decisions)
+        {
+            decision = decisions.get(decisionKey);
+
+            if ((decision != null) && (decision.expiryTime < System.currentTimeMillis()))
+            {
+                decisions.remove(decisionKey);
+                decision = null;
+            }
+        }
+
+        if (decision == null)
+        {
+            missCount.incrementAndGet();
+        }
+        else
+        {
+            hitCount.incrementAndGet();
+        }
+
+        return decision;
+    }
+
+
+    /**
+     * Remember a decision.  If the cache is full, the least recently used decision is discarded.
+     *
+     * @param decisionKey identity of the decision
+     * @param decision result of the security connector call
+     */
+    private void saveDecision(DecisionKey decisionKey,
+                              Decision    decision)
+    {
+        synchronized (decisions)
+        {
+            decisions.put(decisionKey, decision);
+        }
+    }
+
+
+    /**
+     * Decision is the remembered outcome of a call to the security connector.
+     */
+    private static class Decision
+    {
+        private final UserNotAuthorizedException rejection;
+        private final List<String>               zones;
+        private final long                       expiryTime;
+
+        Decision(UserNotAuthorizedException rejection,
+                 List<String>               zones,
+                 long                       expiryTime)
+        {
+            this.rejection = rejection;
+            this.zones = (zones == null) ? null : new ArrayList<>(zones);
+            this.expiryTime = expiryTime;
+        }
+    }
+
+
+    /**
+     * DecisionKey identifies a decision.
+     */
+    private static class DecisionKey
+    {
+        private final String       userId;
+        private final String       operation;
+        private final String       scope;
+        private final String       typeName;
+        private final List<String> zones;
+
+        DecisionKey(String       userId,
+                    String       operation,
+                    String       scope,
+                    String       typeName,
+                    List<String> zones)
+        {
+            this.userId = userId;
+            this.operation = operation;
+            this.scope = scope;
+            this.typeName = typeName;
+            this.zones = (zones == null) ? null : new ArrayList<>(zones);
+        }
+
+
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            DecisionKey that = (DecisionKey) objectToCompare;
+            return Objects.equals(userId, that.userId) &&
+                           Objects.equals(operation, that.operation) &&
+                           Objects.equals(scope, that.scope) &&
+                           Objects.equals(typeName, that.typeName) &&
+                           Objects.equals(zones, that.zones);
+        }
+
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(userId, operation, scope, typeName, zones);
+        }
+    }
+}
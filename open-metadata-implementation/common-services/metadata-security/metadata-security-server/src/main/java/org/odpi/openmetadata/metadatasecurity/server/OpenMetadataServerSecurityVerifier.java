@@ -25,13 +25,24 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 
 /**
  * OpenMetadataServerSecurityVerifier provides the plug-in point for the open metadata server connector.
  * It supports the same security interfaces, and handles the fact that the security connector is
  * optional.
+ *
+ * The decisions made by the security connector for reading entities and assets, and for calculating the
+ * supported zones for a user, can optionally be cached.  The cache is enabled by setting the
+ * decisionCacheTimeToLive configuration property (in seconds) in the security connector's connection.
+ * Cached decisions are keyed on the user, the operation, the metadata collection name (for entity reads),
+ * the type of the element and its zones.  The cache is therefore only valid for security connectors whose
+ * decisions are based solely on these values.  It must not be enabled for connectors that look at other
+ * properties or classifications of the element (such as its owner or security tags), or whose policies
+ * change while the server is running.  Re-registering the security connector discards the cache.
  */
 public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositorySecurity,
                                                            OpenMetadataServerSecurity,
@@ -39,7 +50,22 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                            OpenMetadataConnectionSecurity,
                                                            OpenMetadataAssetSecurity
 {
-    private OpenMetadataServerSecurityConnector connector   = null;
+    /**
+     * Name of the connection configuration property that sets the number of seconds that a security decision
+     * is cached.  The cache is only used if this value is greater than zero.
+     */
+    public static final String DECISION_CACHE_TIME_TO_LIVE_PROPERTY = "decisionCacheTimeToLive";
+
+    /**
+     * Name of the connection configuration property that sets the maximum number of cached security decisions.
+     */
+    public static final String DECISION_CACHE_MAX_ENTRIES_PROPERTY = "decisionCacheMaxEntries";
+
+    private static final int    defaultDecisionCacheMaxEntries = 10000;
+    private static final String zoneMembershipPropertyName     = "zoneMembership";
+
+    private OpenMetadataServerSecurityConnector connector     = null;
+    private OpenMetadataSecurityDecisionCache   decisionCache = null;
 
     // Todo remove - temporary workaround to bring connectors into class path
     private CocoPharmaServerSecurityConnector   demoObject1 = null;
@@ -72,10 +98,12 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         try
         {
+            this.decisionCache = null;
             this.connector = this.getServerSecurityConnector(localServerUserId,
                                                              serverName,
                                                              auditLog,
                                                              connection);
+            this.decisionCache = this.getDecisionCache(connection);
         }
         catch (InvalidParameterException error)
         {
@@ -136,6 +164,156 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     }
 
 
+    /**
+     * Create the decision cache if it is requested in the connection's configuration properties.
+     *
+     * @param connection connection from the configuration document
+     * @return decision cache or null
+     */
+    private OpenMetadataSecurityDecisionCache getDecisionCache(Connection   connection)
+    {
+        if ((connection != null) && (connection.getConfigurationProperties() != null))
+        {
+            Map<String, Object> configurationProperties = connection.getConfigurationProperties();
+
+            long timeToLive = this.getNumericProperty(configurationProperties, DECISION_CACHE_TIME_TO_LIVE_PROPERTY, 0);
+            long maxEntries = this.getNumericProperty(configurationProperties,
+                                                      DECISION_CACHE_MAX_ENTRIES_PROPERTY,
+                                                      defaultDecisionCacheMaxEntries);
+
+            if ((timeToLive > 0) && (maxEntries > 0))
+            {
+                return new OpenMetadataSecurityDecisionCache(timeToLive * 1000, (int)Math.min(maxEntries, Integer.MAX_VALUE));
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Extract a numeric value from the configuration properties.
+     *
+     * @param configurationProperties properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is missing or invalid
+     * @return property value
+     */
+    private long getNumericProperty(Map<String, Object> configurationProperties,
+                                    String              propertyName,
+                                    long                defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue != null)
+        {
+            try
+            {
+                return Long.parseLong(propertyValue.toString());
+            }
+            catch (NumberFormatException error)
+            {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Return the number of security checks that were satisfied from the decision cache.
+     *
+     * @return count (zero if the cache is not enabled)
+     */
+    public long getDecisionCacheHitCount()
+    {
+        OpenMetadataSecurityDecisionCache currentDecisionCache = decisionCache;
+
+        if (currentDecisionCache != null)
+        {
+            return currentDecisionCache.getHitCount();
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Return the number of security checks that were passed to the security connector because there
+     * was no cached decision.
+     *
+     * @return count (zero if the cache is not enabled)
+     */
+    public long getDecisionCacheMissCount()
+    {
+        OpenMetadataSecurityDecisionCache currentDecisionCache = decisionCache;
+
+        if (currentDecisionCache != null)
+        {
+            return currentDecisionCache.getMissCount();
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Return the zones that an entity belongs to.
+     *
+     * @param instance entity
+     * @return list of zone names or null
+     */
+    private List<String> getEntityZones(EntityDetail instance)
+    {
+        if ((instance != null) && (instance.getProperties() != null))
+        {
+            InstancePropertyValue zoneMembership = instance.getProperties().getPropertyValue(zoneMembershipPropertyName);
+
+            if (zoneMembership instanceof ArrayPropertyValue)
+            {
+                InstanceProperties arrayValues = ((ArrayPropertyValue) zoneMembership).getArrayValues();
+
+                if ((arrayValues != null) && (arrayValues.getInstanceProperties() != null))
+                {
+                    List<String> zones = new ArrayList<>();
+
+                    for (int i = 0; i < arrayValues.getPropertyCount(); i++)
+                    {
+                        InstancePropertyValue zone = arrayValues.getPropertyValue(Integer.toString(i));
+
+                        if (zone instanceof PrimitivePropertyValue)
+                        {
+                            zones.add(String.valueOf(((PrimitivePropertyValue) zone).getPrimitiveValue()));
+                        }
+                    }
+
+                    return zones;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the name of an entity's type.
+     *
+     * @param instance entity
+     * @return type name or null
+     */
+    private String getEntityTypeName(EntityDetail instance)
+    {
+        if ((instance != null) && (instance.getType() != null))
+        {
+            return instance.getType().getTypeDefName();
+        }
+
+        return null;
+    }
+
+
     /**
      * Determine the appropriate setting for the supported zones depending on the user and the
      * default supported zones set up for the service.  This is called whenever an asset is accessed.
@@ -153,9 +331,20 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                  String        user) throws InvalidParameterException,
                                                                             PropertyServerException
     {
-        if (connector != null)
+        OpenMetadataServerSecurityConnector currentConnector     = connector;
+        OpenMetadataSecurityDecisionCache   currentDecisionCache = decisionCache;
+
+        if (currentConnector != null)
         {
-            return connector.setSupportedZonesForUser(supportedZones, serviceName, user);
+            if (currentDecisionCache != null)
+            {
+                return currentDecisionCache.getSupportedZones(user,
+                                                              serviceName,
+                                                              supportedZones,
+                                                              () -> currentConnector.setSupportedZonesForUser(supportedZones, serviceName, user));
+            }
+
+            return currentConnector.setSupportedZonesForUser(supportedZones, serviceName, user);
         }
 
         return supportedZones;
@@ -385,9 +574,33 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     public void  validateUserForAssetRead(String     userId,
                                           Asset      asset) throws UserNotAuthorizedException
     {
-        if (connector != null)
+        final String operation = "validateUserForAssetRead";
+
+        OpenMetadataServerSecurityConnector currentConnector     = connector;
+        OpenMetadataSecurityDecisionCache   currentDecisionCache = decisionCache;
+
+        if (currentConnector != null)
         {
-            connector.validateUserForAssetRead(userId, new Asset(asset));
+            if ((currentDecisionCache != null) && (asset != null))
+            {
+                String typeName = null;
+
+                if (asset.getType() != null)
+                {
+                    typeName = asset.getType().getElementTypeName();
+                }
+
+                currentDecisionCache.validate(userId,
+                                              operation,
+                                              null,
+                                              typeName,
+                                              asset.getZoneMembership(),
+                                              () -> currentConnector.validateUserForAssetRead(userId, new Asset(asset)));
+            }
+            else
+            {
+                currentConnector.validateUserForAssetRead(userId, new Asset(asset));
+            }
         }
     }
 
@@ -709,13 +922,68 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                            String          metadataCollectionName,
                                            EntityDetail    instance) throws UserNotAuthorizedException
     {
-        if (connector != null)
+        final String operation = "validateUserForEntityRead";
+
+        OpenMetadataServerSecurityConnector currentConnector     = connector;
+        OpenMetadataSecurityDecisionCache   currentDecisionCache = decisionCache;
+
+        if (currentConnector != null)
         {
-            connector.validateUserForEntityRead(userId, metadataCollectionName, new EntityDetail(instance));
+            if ((currentDecisionCache != null) && (instance != null))
+            {
+                currentDecisionCache.validate(userId,
+                                              operation,
+                                              metadataCollectionName,
+                                              this.getEntityTypeName(instance),
+                                              this.getEntityZones(instance),
+                                              () -> currentConnector.validateUserForEntityRead(userId,
+                                                                                               metadataCollectionName,
+                                                                                               new EntityDetail(instance)));
+            }
+            else
+            {
+                currentConnector.validateUserForEntityRead(userId, metadataCollectionName, new EntityDetail(instance));
+            }
         }
     }
 
 
+    /**
+     * Tests for whether a specific user should have read access to each of a list of instances within a repository.
+     * When the decision cache is enabled, the security connector is called once for each distinct combination
+     * of type and zones in the list.
+     *
+     * @param userId identifier of user
+     * @param metadataCollectionName configurable name of the metadata collection
+     * @param instances list of instance details
+     * @return the instances in the list, without any null entries (or null if the list is null)
+     * @throws UserNotAuthorizedException the user is not authorized to retrieve one of the instances
+     */
+    public List<EntityDetail>  validateUserForEntityListRead(String              userId,
+                                                             String              metadataCollectionName,
+                                                             List<EntityDetail>  instances) throws UserNotAuthorizedException
+    {
+        if (instances == null)
+        {
+            return null;
+        }
+
+        List<EntityDetail> readableInstances = new ArrayList<>();
+
+        for (EntityDetail instance : instances)
+        {
+            if (instance != null)
+            {
+                this.validateUserForEntityRead(userId, metadataCollectionName, instance);
+
+                readableInstances.add(instance);
+            }
+        }
+
+        return readableInstances;
+    }
+
+
     /**
      * Tests for whether a specific user should have read access to a specific instance within a repository.
      *
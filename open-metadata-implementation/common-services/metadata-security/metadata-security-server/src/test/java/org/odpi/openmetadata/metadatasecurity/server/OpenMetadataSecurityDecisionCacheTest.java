@@ -0,0 +1,223 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.metadatasecurity.ffdc.OpenMetadataSecurityErrorCode;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate that OpenMetadataSecurityDecisionCache remembers decisions for the right key and discards
+ * them when they expire or the cache is full.
+ */
+public class OpenMetadataSecurityDecisionCacheTest
+{
+    private static final String       userId    = "testUser";
+    private static final String       operation = "validateUserForEntityRead";
+    private static final String       typeName  = "Asset";
+    private static final List<String> zones     = Collections.singletonList("quarantine");
+
+
+    /**
+     * Repeated checks for the same key only call the security connector once.
+     *
+     * @throws UserNotAuthorizedException unexpected rejection
+     */
+    @Test
+    public void testApprovalIsRemembered() throws UserNotAuthorizedException
+    {
+        OpenMetadataSecurityDecisionCache decisionCache = new OpenMetadataSecurityDecisionCache(60000, 10);
+        AtomicInteger                     callCount     = new AtomicInteger(0);
+
+        for (int i = 0; i < 3; i++)
+        {
+            decisionCache.validate(userId, operation, "collection1", typeName, zones, callCount::incrementAndGet);
+        }
+
+        assertEquals(callCount.get(), 1);
+        assertEquals(decisionCache.getMissCount(), 1);
+        assertEquals(decisionCache.getHitCount(), 2);
+    }
+
+
+    /**
+     * A rejection is remembered and rethrown without calling the security connector again.
+     */
+    @Test
+    public void testRejectionIsRemembered()
+    {
+        OpenMetadataSecurityDecisionCache decisionCache = new OpenMetadataSecurityDecisionCache(60000, 10);
+        AtomicInteger                     callCount     = new AtomicInteger(0);
+        UserNotAuthorizedException        rejection     = this.getRejection();
+
+        for (int i = 0; i < 2; i++)
+        {
+            try
+            {
+                decisionCache.validate(userId, operation, "collection1", typeName, zones, () ->
+                {
+                    callCount.incrementAndGet();
+                    throw rejection;
+                });
+
+                fail("Rejection not returned");
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                assertSame(error, rejection);
+            }
+        }
+
+        assertEquals(callCount.get(), 1);
+    }
+
+
+    /**
+     * Decisions for different metadata collections, types, zones or users are kept separately.
+     *
+     * @throws UserNotAuthorizedException unexpected rejection
+     */
+    @Test
+    public void testDecisionsAreKeyedOnScope() throws UserNotAuthorizedException
+    {
+        OpenMetadataSecurityDecisionCache decisionCache = new OpenMetadataSecurityDecisionCache(60000, 10);
+        AtomicInteger                     callCount     = new AtomicInteger(0);
+
+        decisionCache.validate(userId, operation, "collection1", typeName, zones, callCount::incrementAndGet);
+        decisionCache.validate(userId, operation, "collection2", typeName, zones, callCount::incrementAndGet);
+        decisionCache.validate(userId, operation, "collection1", "Glossary", zones, callCount::incrementAndGet);
+        decisionCache.validate(userId, operation, "collection1", typeName, null, callCount::incrementAndGet);
+        decisionCache.validate("otherUser", operation, "collection1", typeName, zones, callCount::incrementAndGet);
+
+        assertEquals(callCount.get(), 5);
+
+        try
+        {
+            decisionCache.validate(userId, operation, "collection3", typeName, zones, () ->
+            {
+                throw this.getRejection();
+            });
+
+            fail("Rejection not returned");
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            /*
+             * Expected - the approval for the other collections is not reused.
+             */
+        }
+
+        decisionCache.validate(userId, operation, "collection1", typeName, zones, callCount::incrementAndGet);
+
+        assertEquals(callCount.get(), 5);
+    }
+
+
+    /**
+     * When the cache is full, only the least recently used decision is discarded.
+     *
+     * @throws UserNotAuthorizedException unexpected rejection
+     */
+    @Test
+    public void testLeastRecentlyUsedDecisionIsEvicted() throws UserNotAuthorizedException
+    {
+        OpenMetadataSecurityDecisionCache decisionCache = new OpenMetadataSecurityDecisionCache(60000, 2);
+        AtomicInteger                     callCount     = new AtomicInteger(0);
+
+        decisionCache.validate(userId, operation, "collection1", typeName, zones, callCount::incrementAndGet);
+        decisionCache.validate(userId, operation, "collection2", typeName, zones, callCount::incrementAndGet);
+        decisionCache.validate(userId, operation, "collection1", typeName, zones, callCount::incrementAndGet);
+        decisionCache.validate(userId, operation, "collection3", typeName, zones, callCount::incrementAndGet);
+
+        assertEquals(callCount.get(), 3);
+        assertEquals(decisionCache.size(), 2);
+
+        decisionCache.validate(userId, operation, "collection1", typeName, zones, callCount::incrementAndGet);
+        decisionCache.validate(userId, operation, "collection3", typeName, zones, callCount::incrementAndGet);
+
+        assertEquals(callCount.get(), 3);
+
+        decisionCache.validate(userId, operation, "collection2", typeName, zones, callCount::incrementAndGet);
+
+        assertEquals(callCount.get(), 4);
+        assertEquals(decisionCache.size(), 2);
+    }
+
+
+    /**
+     * Expired decisions are not reused.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testExpiredDecisionIsRecalculated() throws Exception
+    {
+        OpenMetadataSecurityDecisionCache decisionCache = new OpenMetadataSecurityDecisionCache(1, 10);
+        AtomicInteger                     callCount     = new AtomicInteger(0);
+
+        decisionCache.validate(userId, operation, "collection1", typeName, zones, callCount::incrementAndGet);
+
+        Thread.sleep(10);
+
+        decisionCache.validate(userId, operation, "collection1", typeName, zones, callCount::incrementAndGet);
+
+        assertEquals(callCount.get(), 2);
+    }
+
+
+    /**
+     * The calculated supported zones are remembered and a copy is returned each time.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testSupportedZonesAreRemembered() throws Exception
+    {
+        OpenMetadataSecurityDecisionCache decisionCache = new OpenMetadataSecurityDecisionCache(60000, 10);
+        AtomicInteger                     callCount     = new AtomicInteger(0);
+        List<String>                      userZones     = Arrays.asList("data-lake", "research");
+
+        List<String> firstResult = decisionCache.getSupportedZones(userId, "asset-consumer", zones, () ->
+        {
+            callCount.incrementAndGet();
+            return userZones;
+        });
+
+        firstResult.clear();
+
+        List<String> secondResult = decisionCache.getSupportedZones(userId, "asset-consumer", zones, () ->
+        {
+            callCount.incrementAndGet();
+            return userZones;
+        });
+
+        assertEquals(secondResult, userZones);
+        assertEquals(callCount.get(), 1);
+    }
+
+
+    /**
+     * Return a rejection from the security connector.
+     *
+     * @return exception
+     */
+    private UserNotAuthorizedException getRejection()
+    {
+        return new UserNotAuthorizedException(OpenMetadataSecurityErrorCode.UNAUTHORIZED_INSTANCE_ACCESS.getMessageDefinition(userId,
+                                                                                                                             "guid",
+                                                                                                                             typeName,
+                                                                                                                             "testServer"),
+                                              this.getClass().getName(),
+                                              operation,
+                                              userId);
+    }
+}
@@ -0,0 +1,214 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate that OpenMetadataServerSecurityVerifier caches the security connector's entity read decisions
+ * separately for each metadata collection.
+ */
+public class OpenMetadataServerSecurityVerifierTest
+{
+    private static final String userId     = "testUser";
+    private static final String serverName = "testServer";
+
+
+    /**
+     * Reset the security connector's call count.
+     */
+    @BeforeMethod
+    public void resetConnector()
+    {
+        TestServerSecurityConnector.entityReadCount.set(0);
+    }
+
+
+    /**
+     * Without the cache, every check calls the security connector.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testNoCacheByDefault() throws Exception
+    {
+        OpenMetadataServerSecurityVerifier verifier = this.getVerifier(null);
+
+        verifier.validateUserForEntityRead(userId, "collection1", this.getEntity("guid1"));
+        verifier.validateUserForEntityRead(userId, "collection1", this.getEntity("guid2"));
+
+        assertEquals(TestServerSecurityConnector.entityReadCount.get(), 2);
+        assertEquals(verifier.getDecisionCacheHitCount(), 0);
+        assertEquals(verifier.getDecisionCacheMissCount(), 0);
+    }
+
+
+    /**
+     * With the cache, entities of the same type and zones in the same collection share a decision.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testDecisionsAreCached() throws Exception
+    {
+        OpenMetadataServerSecurityVerifier verifier = this.getVerifier("60");
+
+        verifier.validateUserForEntityRead(userId, "collection1", this.getEntity("guid1"));
+        verifier.validateUserForEntityRead(userId, "collection1", this.getEntity("guid2"));
+
+        List<EntityDetail> readableEntities = verifier.validateUserForEntityListRead(userId,
+                                                                                     "collection1",
+                                                                                     Collections.singletonList(this.getEntity("guid3")));
+
+        assertEquals(readableEntities.size(), 1);
+        assertEquals(TestServerSecurityConnector.entityReadCount.get(), 1);
+        assertEquals(verifier.getDecisionCacheMissCount(), 1);
+        assertEquals(verifier.getDecisionCacheHitCount(), 2);
+    }
+
+
+    /**
+     * An approval for one metadata collection is not reused for another collection.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testDecisionsAreKeyedOnMetadataCollection() throws Exception
+    {
+        OpenMetadataServerSecurityVerifier verifier = this.getVerifier("60");
+
+        verifier.validateUserForEntityRead(userId, "collection1", this.getEntity("guid1"));
+
+        for (int i = 0; i < 2; i++)
+        {
+            try
+            {
+                verifier.validateUserForEntityRead(userId,
+                                                   TestServerSecurityConnector.restrictedCollectionName,
+                                                   this.getEntity("guid1"));
+
+                fail("Read from restricted collection allowed");
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                /*
+                 * Expected
+                 */
+            }
+        }
+
+        try
+        {
+            verifier.validateUserForEntityListRead(userId,
+                                                   TestServerSecurityConnector.restrictedCollectionName,
+                                                   Collections.singletonList(this.getEntity("guid2")));
+
+            fail("List read from restricted collection allowed");
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            /*
+             * Expected
+             */
+        }
+
+        assertEquals(TestServerSecurityConnector.entityReadCount.get(), 2);
+    }
+
+
+    /**
+     * Re-registering the security connector discards the cached decisions.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testReRegistrationDiscardsCache() throws Exception
+    {
+        OpenMetadataServerSecurityVerifier verifier = this.getVerifier("60");
+
+        verifier.validateUserForEntityRead(userId, "collection1", this.getEntity("guid1"));
+
+        verifier.registerSecurityValidator(userId, serverName, null, this.getConnection("60"));
+
+        verifier.validateUserForEntityRead(userId, "collection1", this.getEntity("guid1"));
+
+        assertEquals(TestServerSecurityConnector.entityReadCount.get(), 2);
+        assertEquals(verifier.getDecisionCacheHitCount(), 0);
+    }
+
+
+    /**
+     * Create a verifier with the test security connector.
+     *
+     * @param timeToLive value for the decision cache time to live property (or null for no cache)
+     * @return verifier
+     * @throws Exception unable to create the connector
+     */
+    private OpenMetadataServerSecurityVerifier getVerifier(String timeToLive) throws Exception
+    {
+        OpenMetadataServerSecurityVerifier verifier = new OpenMetadataServerSecurityVerifier();
+
+        verifier.registerSecurityValidator(userId, serverName, null, this.getConnection(timeToLive));
+
+        return verifier;
+    }
+
+
+    /**
+     * Return a connection for the test security connector.
+     *
+     * @param timeToLive value for the decision cache time to live property (or null for no cache)
+     * @return connection
+     */
+    private Connection getConnection(String timeToLive)
+    {
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setConnectorProviderClassName(TestServerSecurityProvider.class.getName());
+
+        Connection connection = new Connection();
+        connection.setConnectorType(connectorType);
+
+        if (timeToLive != null)
+        {
+            Map<String, Object> configurationProperties = new HashMap<>();
+            configurationProperties.put(OpenMetadataServerSecurityVerifier.DECISION_CACHE_TIME_TO_LIVE_PROPERTY, timeToLive);
+
+            connection.setConfigurationProperties(configurationProperties);
+        }
+
+        return connection;
+    }
+
+
+    /**
+     * Return an entity of a fixed type with no zones.
+     *
+     * @param guid unique identifier of the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid)
+    {
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName("DataFile");
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setType(instanceType);
+
+        return entity;
+    }
+}
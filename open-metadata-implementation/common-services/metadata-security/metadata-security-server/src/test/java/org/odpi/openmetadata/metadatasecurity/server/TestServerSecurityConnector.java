@@ -0,0 +1,43 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TestServerSecurityConnector counts the entity read checks it is asked to make and rejects reads
+ * from the restricted metadata collection.
+ */
+public class TestServerSecurityConnector extends OpenMetadataServerSecurityConnector
+{
+    static final String        restrictedCollectionName = "restrictedCollection";
+    static final AtomicInteger entityReadCount          = new AtomicInteger(0);
+
+
+    /**
+     * Tests for whether a specific user should have read access to a specific instance within a repository.
+     *
+     * @param userId identifier of user
+     * @param metadataCollectionName configurable name of the metadata collection
+     * @param instance instance details
+     * @throws UserNotAuthorizedException the user is not authorized to access this instance
+     */
+    @Override
+    public void  validateUserForEntityRead(String          userId,
+                                           String          metadataCollectionName,
+                                           EntityDetail    instance) throws UserNotAuthorizedException
+    {
+        final String methodName = "validateUserForEntityRead";
+
+        entityReadCount.incrementAndGet();
+
+        if (restrictedCollectionName.equals(metadataCollectionName))
+        {
+            super.throwUnauthorizedInstanceAccess(userId, instance.getGUID(), instance.getType().getTypeDefName(), methodName);
+        }
+    }
+}
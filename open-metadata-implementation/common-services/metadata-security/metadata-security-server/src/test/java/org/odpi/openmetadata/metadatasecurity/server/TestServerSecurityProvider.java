@@ -0,0 +1,21 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityProvider;
+
+/**
+ * TestServerSecurityProvider creates the TestServerSecurityConnector.
+ */
+public class TestServerSecurityProvider extends OpenMetadataServerSecurityProvider
+{
+    /**
+     * Constructor sets up the connector class name.
+     */
+    public TestServerSecurityProvider()
+    {
+        super();
+
+        super.setConnectorClassName(TestServerSecurityConnector.class.getName());
+    }
+}
@@ -28,6 +28,8 @@ public class ConnectedAssetClientBase
 
     protected InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
 
+    private   ConnectorBroker         connectorBroker         = new ConnectorBroker(); /* Reuses connector providers */
+
     protected static NullRequestBody         nullRequestBody         = new NullRequestBody();
 
 
@@ -174,8 +176,6 @@ public class ConnectedAssetClientBase
                                                   String          methodName) throws ConnectionCheckedException,
                                                                                      ConnectorCheckedException
     {
-        ConnectorBroker connectorBroker = new ConnectorBroker();
-
         /*
          * Pass the connection to the ConnectorBroker to create the connector instance.
          * Again, exceptions from this process are returned directly to the caller.
@@ -0,0 +1,81 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.handlers;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AssetContentsSummary holds the counts of each type of attachment for an asset along with its top-level
+ * schema type.  It is returned by AssetHandler.getAssetContentsSummary().
+ */
+public class AssetContentsSummary
+{
+    private Map<String, Integer> attachmentCounts;
+    private SchemaType           schemaType;
+
+
+    /**
+     * Constructor supplies the contents of the summary.
+     *
+     * @param attachmentCounts map of attachment type name to count (see AssetHandler.getAttachmentCounts())
+     * @param schemaType top-level schema type or null
+     */
+    AssetContentsSummary(Map<String, Integer> attachmentCounts,
+                         SchemaType           schemaType)
+    {
+        this.attachmentCounts = attachmentCounts;
+        this.schemaType = schemaType;
+    }
+
+
+    /**
+     * Return the count for a type of attachment.
+     *
+     * @param attachmentTypeName name of the type used to count the attachment
+     * @return count (zero if the type was not counted)
+     */
+    public int getAttachmentCount(String attachmentTypeName)
+    {
+        if (attachmentCounts != null)
+        {
+            Integer count = attachmentCounts.get(attachmentTypeName);
+
+            if (count != null)
+            {
+                return count;
+            }
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Return the counts of each type of attachment.
+     *
+     * @return map of attachment type name to count
+     */
+    public Map<String, Integer> getAttachmentCounts()
+    {
+        if (attachmentCounts == null)
+        {
+            return new HashMap<>();
+        }
+
+        return new HashMap<>(attachmentCounts);
+    }
+
+
+    /**
+     * Return the top-level schema type for the asset.
+     *
+     * @return schema type or null
+     */
+    public SchemaType getSchemaType()
+    {
+        return schemaType;
+    }
+}
@@ -4773,6 +4773,292 @@ public class AssetHandler
     }
 
 
+    /**
+     * Return the counts of each type of attachment for an asset.  The relationships for the asset are retrieved
+     * from the repository in a single call to getEntityNeighborhood and counted in memory.  If the repository does
+     * not support neighborhood queries, each type of attachment is counted with a separate call.
+     * The map is keyed by the relationship type name used to count the attachment (for example,
+     * CertificationMapper.CERTIFICATION_OF_REFERENCEABLE_TYPE_NAME), apart from the count of related assets
+     * which is keyed by AssetMapper.ASSET_TYPE_NAME.
+     *
+     * @param userId     calling user
+     * @param assetGUID identifier for the asset that the objects are attached to
+     * @param methodName calling method
+     * @return map of attachment type name to count
+     * @throws InvalidParameterException  the parameters are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    public Map<String, Integer> getAttachmentCounts(String   userId,
+                                                    String   assetGUID,
+                                                    String   methodName) throws InvalidParameterException,
+                                                                                PropertyServerException,
+                                                                                UserNotAuthorizedException
+    {
+        final String guidParameterName = "assetGUID";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(assetGUID, guidParameterName, methodName);
+
+        InstanceGraph neighborhood = this.getAssetNeighborhood(userId, assetGUID, methodName);
+
+        if (neighborhood == null)
+        {
+            return this.getAttachmentCountsByType(userId, assetGUID, methodName);
+        }
+
+        return this.getAttachmentCounts(assetGUID, neighborhood);
+    }
+
+
+    /**
+     * Return the attachment counts and top-level schema type for an asset.  Where the repository supports
+     * neighborhood queries, the asset's relationships and the schema type entity are retrieved with one call
+     * and the schema type's attributes and embedded types with a second, rather than a call for each type of
+     * attachment and schema relationship.
+     *
+     * @param userId     calling user
+     * @param assetGUID identifier for the asset
+     * @param methodName calling method
+     * @return attachment counts and schema type
+     * @throws InvalidParameterException  the parameters are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    public AssetContentsSummary getAssetContentsSummary(String   userId,
+                                                        String   assetGUID,
+                                                        String   methodName) throws InvalidParameterException,
+                                                                                    PropertyServerException,
+                                                                                    UserNotAuthorizedException
+    {
+        final String guidParameterName = "assetGUID";
+        final String schemaTypeGUIDParameterName = "assetSchemaType.getEntityTwoProxy().getGUID()";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(assetGUID, guidParameterName, methodName);
+
+        this.getValidatedVisibleAsset(userId, supportedZones, assetGUID, serviceName, methodName);
+
+        InstanceGraph neighborhood = this.getAssetNeighborhood(userId, assetGUID, methodName);
+
+        if (neighborhood == null)
+        {
+            return new AssetContentsSummary(this.getAttachmentCountsByType(userId, assetGUID, methodName),
+                                            schemaTypeHandler.getSchemaTypeForAsset(userId, assetGUID, methodName));
+        }
+
+        SchemaType schemaType = null;
+
+        if (neighborhood.getRelationships() != null)
+        {
+            for (Relationship relationship : neighborhood.getRelationships())
+            {
+                if ((relationship != null) &&
+                    (relationship.getType() != null) &&
+                    (repositoryHelper.isTypeOf(serviceName,
+                                               relationship.getType().getTypeDefName(),
+                                               AssetMapper.ASSET_TO_SCHEMA_TYPE_TYPE_NAME)))
+                {
+                    EntityProxy schemaTypeProxy = repositoryHandler.getOtherEnd(assetGUID, relationship);
+
+                    if ((schemaTypeProxy != null) && (schemaTypeProxy.getGUID() != null))
+                    {
+                        EntityDetail schemaTypeEntity = this.getNeighborhoodEntity(neighborhood, schemaTypeProxy.getGUID());
+
+                        if (schemaTypeEntity == null)
+                        {
+                            schemaTypeEntity = repositoryHandler.getEntityByGUID(userId,
+                                                                                 schemaTypeProxy.getGUID(),
+                                                                                 schemaTypeGUIDParameterName,
+                                                                                 SchemaElementMapper.SCHEMA_TYPE_TYPE_NAME,
+                                                                                 methodName);
+                        }
+
+                        schemaType = schemaTypeHandler.getSchemaTypeFromEntityNeighborhood(userId, schemaTypeEntity, methodName);
+                        break;
+                    }
+                }
+            }
+        }
+
+        return new AssetContentsSummary(this.getAttachmentCounts(assetGUID, neighborhood), schemaType);
+    }
+
+
+    /**
+     * Retrieve the level 1 neighborhood of an asset.
+     *
+     * @param userId     calling user
+     * @param assetGUID identifier for the asset
+     * @param methodName calling method
+     * @return neighborhood or null if the repository does not support neighborhood queries
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private InstanceGraph getAssetNeighborhood(String   userId,
+                                               String   assetGUID,
+                                               String   methodName) throws PropertyServerException,
+                                                                           UserNotAuthorizedException
+    {
+        return repositoryHandler.getEntityNeighborhoodIfSupported(userId,
+                                                                  assetGUID,
+                                                                  null,
+                                                                  null,
+                                                                  null,
+                                                                  null,
+                                                                  null,
+                                                                  1,
+                                                                  methodName);
+    }
+
+
+    /**
+     * Return the entity from the neighborhood with the requested unique identifier.
+     *
+     * @param neighborhood entities and relationships around an asset
+     * @param entityGUID unique identifier of the entity
+     * @return entity or null if the neighborhood only includes a proxy for it
+     */
+    private EntityDetail getNeighborhoodEntity(InstanceGraph neighborhood,
+                                               String        entityGUID)
+    {
+        if (neighborhood.getEntities() != null)
+        {
+            for (EntityDetail entity : neighborhood.getEntities())
+            {
+                if ((entity != null) && (entityGUID.equals(entity.getGUID())))
+                {
+                    return entity;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Count each type of attachment from the relationships in the asset's level 1 neighborhood.
+     *
+     * @param assetGUID identifier for the asset that the objects are attached to
+     * @param neighborhood entities and relationships around the asset
+     * @return map of attachment type name to count
+     */
+    private Map<String, Integer> getAttachmentCounts(String        assetGUID,
+                                                     InstanceGraph neighborhood)
+    {
+        Map<String, Integer> attachmentCounts = this.getEmptyAttachmentCounts();
+
+        if (neighborhood.getRelationships() != null)
+        {
+            for (Relationship relationship : neighborhood.getRelationships())
+            {
+                if ((relationship != null) && (relationship.getType() != null))
+                {
+                    String relationshipTypeName = relationship.getType().getTypeDefName();
+
+                    for (String attachmentTypeName : attachmentCounts.keySet())
+                    {
+                        if ((! AssetMapper.ASSET_TYPE_NAME.equals(attachmentTypeName)) &&
+                            (repositoryHelper.isTypeOf(serviceName, relationshipTypeName, attachmentTypeName)))
+                        {
+                            attachmentCounts.put(attachmentTypeName, attachmentCounts.get(attachmentTypeName) + 1);
+                        }
+                    }
+
+                    EntityProxy otherEnd = repositoryHandler.getOtherEnd(assetGUID, relationship);
+
+                    if ((otherEnd != null) &&
+                        (otherEnd.getType() != null) &&
+                        (repositoryHelper.isTypeOf(serviceName, otherEnd.getType().getTypeDefName(), AssetMapper.ASSET_TYPE_NAME)))
+                    {
+                        attachmentCounts.put(AssetMapper.ASSET_TYPE_NAME, attachmentCounts.get(AssetMapper.ASSET_TYPE_NAME) + 1);
+                    }
+                }
+            }
+        }
+
+        return attachmentCounts;
+    }
+
+
+    /**
+     * Return a map of the attachment types counted by getAttachmentCounts, each with a count of zero.
+     *
+     * @return map of attachment type name to count
+     */
+    private Map<String, Integer> getEmptyAttachmentCounts()
+    {
+        Map<String, Integer> attachmentCounts = new HashMap<>();
+
+        attachmentCounts.put(CertificationMapper.CERTIFICATION_OF_REFERENCEABLE_TYPE_NAME, 0);
+        attachmentCounts.put(CommentMapper.REFERENCEABLE_TO_COMMENT_TYPE_NAME, 0);
+        attachmentCounts.put(AssetMapper.ASSET_TO_CONNECTION_TYPE_NAME, 0);
+        attachmentCounts.put(ExternalIdentifierMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_NAME, 0);
+        attachmentCounts.put(ExternalReferenceMapper.REFERENCEABLE_TO_EXT_REF_TYPE_NAME, 0);
+        attachmentCounts.put(InformalTagMapper.REFERENCEABLE_TO_TAG_TYPE_NAME, 0);
+        attachmentCounts.put(LicenseMapper.LICENSE_OF_REFERENCEABLE_TYPE_NAME, 0);
+        attachmentCounts.put(LikeMapper.REFERENCEABLE_TO_LIKE_TYPE_NAME, 0);
+        attachmentCounts.put(LocationMapper.ASSET_LOCATION_TYPE_NAME, 0);
+        attachmentCounts.put(NoteLogMapper.REFERENCEABLE_TO_NOTE_LOG_TYPE_NAME, 0);
+        attachmentCounts.put(RatingMapper.REFERENCEABLE_TO_RATING_TYPE_NAME, 0);
+        attachmentCounts.put(RelatedMediaMapper.REFERENCEABLE_TO_RELATED_MEDIA_TYPE_NAME, 0);
+        attachmentCounts.put(AssetMapper.ASSET_TYPE_NAME, 0);
+
+        return attachmentCounts;
+    }
+
+
+    /**
+     * Return the counts of each type of attachment for an asset using a separate call for each type of attachment.
+     *
+     * @param userId     calling user
+     * @param assetGUID identifier for the asset that the objects are attached to
+     * @param methodName calling method
+     * @return map of attachment type name to count
+     * @throws InvalidParameterException  the parameters are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private Map<String, Integer> getAttachmentCountsByType(String   userId,
+                                                           String   assetGUID,
+                                                           String   methodName) throws InvalidParameterException,
+                                                                                       PropertyServerException,
+                                                                                       UserNotAuthorizedException
+    {
+        Map<String, Integer> attachmentCounts = new HashMap<>();
+
+        attachmentCounts.put(CertificationMapper.CERTIFICATION_OF_REFERENCEABLE_TYPE_NAME,
+                             this.getCertificationCount(userId, assetGUID, methodName));
+        attachmentCounts.put(CommentMapper.REFERENCEABLE_TO_COMMENT_TYPE_NAME,
+                             this.getCommentCount(userId, assetGUID, methodName));
+        attachmentCounts.put(AssetMapper.ASSET_TO_CONNECTION_TYPE_NAME,
+                             this.getConnectionCount(userId, assetGUID, methodName));
+        attachmentCounts.put(ExternalIdentifierMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_NAME,
+                             this.getExternalIdentifierCount(userId, assetGUID, methodName));
+        attachmentCounts.put(ExternalReferenceMapper.REFERENCEABLE_TO_EXT_REF_TYPE_NAME,
+                             this.getExternalReferencesCount(userId, assetGUID, methodName));
+        attachmentCounts.put(InformalTagMapper.REFERENCEABLE_TO_TAG_TYPE_NAME,
+                             this.getInformalTagCount(userId, assetGUID, methodName));
+        attachmentCounts.put(LicenseMapper.LICENSE_OF_REFERENCEABLE_TYPE_NAME,
+                             this.getLicenseCount(userId, assetGUID, methodName));
+        attachmentCounts.put(LikeMapper.REFERENCEABLE_TO_LIKE_TYPE_NAME,
+                             this.getLikeCount(userId, assetGUID, methodName));
+        attachmentCounts.put(LocationMapper.ASSET_LOCATION_TYPE_NAME,
+                             this.getKnownLocationsCount(userId, assetGUID, methodName));
+        attachmentCounts.put(NoteLogMapper.REFERENCEABLE_TO_NOTE_LOG_TYPE_NAME,
+                             this.getNoteLogsCount(userId, assetGUID, methodName));
+        attachmentCounts.put(RatingMapper.REFERENCEABLE_TO_RATING_TYPE_NAME,
+                             this.getRatingsCount(userId, assetGUID, methodName));
+        attachmentCounts.put(RelatedMediaMapper.REFERENCEABLE_TO_RELATED_MEDIA_TYPE_NAME,
+                             this.getRelatedMediaReferenceCount(userId, assetGUID, methodName));
+        attachmentCounts.put(AssetMapper.ASSET_TYPE_NAME,
+                             this.getRelatedAssetCount(userId, assetGUID, methodName));
+
+        return attachmentCounts;
+    }
+
+
     /**
      * Is there an attached schema for this asset?
      *
@@ -15,11 +15,15 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -28,6 +32,17 @@ import java.util.List;
  */
 public class SchemaTypeHandler
 {
+    /*
+     * The relationships that link a schema type to its attributes and embedded schema types.
+     */
+    private static final List<String> schemaTypeRelationshipTypeGUIDs
+            = Arrays.asList(SchemaElementMapper.NESTED_ATTRIBUTE_RELATIONSHIP_TYPE_GUID,
+                            SchemaElementMapper.TYPE_TO_ATTRIBUTE_RELATIONSHIP_TYPE_GUID,
+                            SchemaElementMapper.MAP_FROM_RELATIONSHIP_TYPE_GUID,
+                            SchemaElementMapper.MAP_TO_RELATIONSHIP_TYPE_GUID,
+                            SchemaElementMapper.SCHEMA_TYPE_OPTION_RELATIONSHIP_TYPE_GUID,
+                            SchemaElementMapper.BOUNDED_ELEMENT_RELATIONSHIP_TYPE_GUID);
+
     private String                  serviceName;
     private String                  serverName;
     private OMRSRepositoryHelper    repositoryHelper;
@@ -274,6 +289,194 @@ public class SchemaTypeHandler
     }
 
 
+    /**
+     * Return the schema type bean for a schema type entity that has already been retrieved (for example as
+     * part of an asset's neighborhood).  The schema type's attribute count and embedded schema types are
+     * worked out from a single neighborhood query of the schema type.  If the repository does not support
+     * neighborhood queries, each relationship type is retrieved with a separate call.
+     *
+     * @param userId     calling user
+     * @param schemaTypeEntity schema type entity retrieved from the repository
+     * @param methodName calling method
+     *
+     * @return schemaType object or null
+     *
+     * @throws InvalidParameterException  the schemaType bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    SchemaType getSchemaTypeFromEntityNeighborhood(String       userId,
+                                                   EntityDetail schemaTypeEntity,
+                                                   String       methodName) throws InvalidParameterException,
+                                                                                   PropertyServerException,
+                                                                                   UserNotAuthorizedException
+    {
+        if ((schemaTypeEntity == null) || (schemaTypeEntity.getType() == null))
+        {
+            return null;
+        }
+
+        InstanceGraph neighborhood = repositoryHandler.getEntityNeighborhoodIfSupported(userId,
+                                                                                        schemaTypeEntity.getGUID(),
+                                                                                        null,
+                                                                                        schemaTypeRelationshipTypeGUIDs,
+                                                                                        null,
+                                                                                        null,
+                                                                                        null,
+                                                                                        1,
+                                                                                        methodName);
+
+        if (neighborhood == null)
+        {
+            return this.getSchemaTypeFromEntity(userId, schemaTypeEntity, methodName);
+        }
+
+        InstanceProperties properties = schemaTypeEntity.getProperties();
+        String typeName = repositoryHelper.removeStringProperty(serviceName,
+                                                                SchemaElementMapper.TYPE_NAME_PROPERTY_NAME,
+                                                                properties,
+                                                                methodName);
+
+        if (properties != null)
+        {
+            int attributeCount = 0;
+
+            if (typeName != null)
+            {
+                if (repositoryHelper.isTypeOf(serviceName,
+                                              typeName,
+                                              SchemaElementMapper.COMPLEX_SCHEMA_TYPE_TYPE_NAME))
+                {
+                    attributeCount = this.getLinkedRelationships(neighborhood,
+                                                                 schemaTypeEntity.getGUID(),
+                                                                 SchemaElementMapper.NESTED_ATTRIBUTE_RELATIONSHIP_TYPE_NAME).size();
+
+                    if (attributeCount == 0)
+                    {
+                        attributeCount = this.getLinkedRelationships(neighborhood,
+                                                                     schemaTypeEntity.getGUID(),
+                                                                     SchemaElementMapper.TYPE_TO_ATTRIBUTE_RELATIONSHIP_TYPE_NAME).size();
+                    }
+                }
+            }
+
+            SchemaTypeConverter converter = new SchemaTypeConverter(schemaTypeEntity,
+                                                                    attributeCount,
+                                                                    repositoryHelper,
+                                                                    serviceName);
+
+            return this.getEmbeddedTypes(userId, schemaTypeEntity.getGUID(), converter.getBean(), neighborhood, methodName);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the relationships of the requested type in the neighborhood that are attached to the anchor entity.
+     *
+     * @param neighborhood entities and relationships around the anchor entity
+     * @param anchorGUID unique identifier of the anchor entity
+     * @param relationshipTypeName name of the relationship type (subtypes are included)
+     * @return list of relationships (may be empty)
+     */
+    private List<Relationship> getLinkedRelationships(InstanceGraph neighborhood,
+                                                      String        anchorGUID,
+                                                      String        relationshipTypeName)
+    {
+        List<Relationship> linkedRelationships = new ArrayList<>();
+
+        if (neighborhood.getRelationships() != null)
+        {
+            for (Relationship relationship : neighborhood.getRelationships())
+            {
+                if ((relationship != null) &&
+                    (relationship.getType() != null) &&
+                    (repositoryHelper.isTypeOf(serviceName, relationship.getType().getTypeDefName(), relationshipTypeName)))
+                {
+                    EntityProxy entityOne = relationship.getEntityOneProxy();
+                    EntityProxy entityTwo = relationship.getEntityTwoProxy();
+
+                    if (((entityOne != null) && (anchorGUID.equals(entityOne.getGUID()))) ||
+                        ((entityTwo != null) && (anchorGUID.equals(entityTwo.getGUID()))))
+                    {
+                        linkedRelationships.add(relationship);
+                    }
+                }
+            }
+        }
+
+        return linkedRelationships;
+    }
+
+
+    /**
+     * Return the entities linked to the anchor entity by relationships of the requested type.  The entities are
+     * taken from the neighborhood if it includes them, otherwise they are retrieved from the repository.
+     *
+     * @param userId calling user
+     * @param neighborhood entities and relationships around the anchor entity
+     * @param anchorGUID unique identifier of the anchor entity
+     * @param relationshipTypeName name of the relationship type (subtypes are included)
+     * @param methodName calling method
+     * @return list of entities (may be empty)
+     *
+     * @throws InvalidParameterException  the guid of a linked entity is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private List<EntityDetail> getLinkedEntities(String        userId,
+                                                 InstanceGraph neighborhood,
+                                                 String        anchorGUID,
+                                                 String        relationshipTypeName,
+                                                 String        methodName) throws InvalidParameterException,
+                                                                                  PropertyServerException,
+                                                                                  UserNotAuthorizedException
+    {
+        final String guidParameterName = "relationship.getEntityProxy().getGUID()";
+
+        List<EntityDetail> linkedEntities = new ArrayList<>();
+
+        for (Relationship relationship : this.getLinkedRelationships(neighborhood, anchorGUID, relationshipTypeName))
+        {
+            EntityProxy otherEnd = repositoryHandler.getOtherEnd(anchorGUID, relationship);
+
+            if ((otherEnd != null) && (otherEnd.getGUID() != null))
+            {
+                EntityDetail linkedEntity = null;
+
+                if (neighborhood.getEntities() != null)
+                {
+                    for (EntityDetail entity : neighborhood.getEntities())
+                    {
+                        if ((entity != null) && (otherEnd.getGUID().equals(entity.getGUID())))
+                        {
+                            linkedEntity = entity;
+                            break;
+                        }
+                    }
+                }
+
+                if (linkedEntity == null)
+                {
+                    linkedEntity = repositoryHandler.getEntityByGUID(userId,
+                                                                     otherEnd.getGUID(),
+                                                                     guidParameterName,
+                                                                     SchemaElementMapper.SCHEMA_TYPE_TYPE_NAME,
+                                                                     methodName);
+                }
+
+                if (linkedEntity != null)
+                {
+                    linkedEntities.add(linkedEntity);
+                }
+            }
+        }
+
+        return linkedEntities;
+    }
+
+
 
     /**
      * Is there an attached schema for the SchemaAttribute? it may be in the classification of the schema attribute
@@ -618,6 +821,85 @@ public class SchemaTypeHandler
     }
 
 
+    /**
+     * Fill out the embedded schema types of a map, choice or bounded schema type using the schema type's
+     * neighborhood rather than a separate query for each relationship type.  The embedded types themselves
+     * are completed with getSchemaTypeFromEntity.
+     *
+     * @param userId calling user
+     * @param schemaElementGUID GUID of the object that is the root of the schema type
+     * @param parentSchemaType properties for the schema type
+     * @param neighborhood relationships and entities linked to the schema type
+     * @param methodName calling method
+     * @return schema type bean or null
+     *
+     * @throws InvalidParameterException problem with the properties
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server or values retrieved are weird.
+     */
+    @SuppressWarnings(value = "deprecation")
+    private SchemaType getEmbeddedTypes(String        userId,
+                                        String        schemaElementGUID,
+                                        SchemaType    parentSchemaType,
+                                        InstanceGraph neighborhood,
+                                        String        methodName) throws InvalidParameterException,
+                                                                         PropertyServerException,
+                                                                         UserNotAuthorizedException
+    {
+        if (parentSchemaType instanceof MapSchemaType)
+        {
+            for (EntityDetail entity : this.getLinkedEntities(userId,
+                                                              neighborhood,
+                                                              schemaElementGUID,
+                                                              SchemaElementMapper.MAP_FROM_RELATIONSHIP_TYPE_NAME,
+                                                              methodName))
+            {
+                ((MapSchemaType) parentSchemaType).setMapFromElement(this.getSchemaTypeFromEntity(userId, entity, methodName));
+            }
+
+            for (EntityDetail entity : this.getLinkedEntities(userId,
+                                                              neighborhood,
+                                                              schemaElementGUID,
+                                                              SchemaElementMapper.MAP_TO_RELATIONSHIP_TYPE_NAME,
+                                                              methodName))
+            {
+                ((MapSchemaType) parentSchemaType).setMapToElement(this.getSchemaTypeFromEntity(userId, entity, methodName));
+            }
+        }
+        else if (parentSchemaType instanceof SchemaTypeChoice)
+        {
+            List<SchemaType> schemaTypes = new ArrayList<>();
+
+            for (EntityDetail entity : this.getLinkedEntities(userId,
+                                                              neighborhood,
+                                                              schemaElementGUID,
+                                                              SchemaElementMapper.SCHEMA_TYPE_OPTION_RELATIONSHIP_TYPE_NAME,
+                                                              methodName))
+            {
+                schemaTypes.add(this.getSchemaTypeFromEntity(userId, entity, methodName));
+            }
+
+            if (! schemaTypes.isEmpty())
+            {
+                ((SchemaTypeChoice) parentSchemaType).setSchemaOptions(schemaTypes);
+            }
+        }
+        else if (parentSchemaType instanceof BoundedSchemaType)
+        {
+            for (EntityDetail entity : this.getLinkedEntities(userId,
+                                                              neighborhood,
+                                                              schemaElementGUID,
+                                                              SchemaElementMapper.BOUNDED_ELEMENT_RELATIONSHIP_TYPE_NAME,
+                                                              methodName))
+            {
+                ((BoundedSchemaType) parentSchemaType).setElementType(this.getSchemaTypeFromEntity(userId, entity, methodName));
+            }
+        }
+
+        return parentSchemaType;
+    }
+
+
     /**
      * Count the number of connection attached to an anchor schema type.
      *
@@ -35,6 +35,8 @@ import java.util.Map;
  */
 public class ValidValuesHandler
 {
+    private static final int        searchLookAheadDepth = 1;
+
     private String                  serviceName;
     private String                  serverName;
     private OMRSRepositoryHelper    repositoryHelper;
@@ -1141,23 +1143,30 @@ public class ValidValuesHandler
 
         List<ValidValue>  results = new ArrayList<>();
 
-        RepositorySelectedEntitiesIterator iterator = new RepositorySelectedEntitiesIterator(repositoryHandler,
-                                                                                             userId,
-                                                                                             ValidValuesMapper.VALID_VALUE_DEFINITION_TYPE_GUID,
-                                                                                             builder.getNameInstanceProperties(methodName),
-                                                                                             MatchCriteria.ANY,
-                                                                                             startFrom,
-                                                                                             validatedPageSize,
-                                                                                             methodName);
-        while (iterator.moreToReceive())
+        /*
+         * Every page of matching values is returned so the next page is requested while the current one is converted.
+         */
+        try (RepositorySelectedEntitiesIterator iterator = new RepositorySelectedEntitiesIterator(repositoryHandler,
+                                                                                                  userId,
+                                                                                                  ValidValuesMapper.VALID_VALUE_DEFINITION_TYPE_GUID,
+                                                                                                  builder.getNameInstanceProperties(methodName),
+                                                                                                  MatchCriteria.ANY,
+                                                                                                  startFrom,
+                                                                                                  validatedPageSize,
+                                                                                                  searchLookAheadDepth,
+                                                                                                  null,
+                                                                                                  methodName))
         {
-            EntityDetail validValueEntity = iterator.getNext();
-
-            if (validValueEntity != null)
+            while (iterator.moreToReceive())
             {
-                ValidValuesConverter converter = new ValidValuesConverter(validValueEntity, repositoryHelper, serviceName);
+                EntityDetail validValueEntity = iterator.getNext();
 
-                results.add(converter.getBean());
+                if (validValueEntity != null)
+                {
+                    ValidValuesConverter converter = new ValidValuesConverter(validValueEntity, repositoryHelper, serviceName);
+
+                    results.add(converter.getBean());
+                }
             }
         }
 
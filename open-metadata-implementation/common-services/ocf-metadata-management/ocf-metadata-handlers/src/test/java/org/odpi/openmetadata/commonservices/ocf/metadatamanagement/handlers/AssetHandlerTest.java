@@ -0,0 +1,361 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.handlers;
+
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.mappers.AssetMapper;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.mappers.CertificationMapper;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.mappers.CommentMapper;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.mappers.LikeMapper;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.mappers.ReferenceableMapper;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.mappers.SchemaElementMapper;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandlerErrorCode;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ComplexSchemaType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate that AssetHandler assembles the attachment counts and schema type of an asset from the asset's
+ * neighborhood, and only falls back to separate calls when the repository does not support neighborhood queries.
+ */
+public class AssetHandlerTest
+{
+    private static final String serviceName    = "testService";
+    private static final String userId         = "testUser";
+    private static final String methodName     = "testMethod";
+    private static final String assetGUID      = "asset-guid";
+    private static final String schemaTypeGUID = "schema-type-guid";
+
+    /*
+     * Supertypes used by the isTypeOf answer.
+     */
+    private static final Map<String, String> superTypes = new HashMap<>();
+
+    static
+    {
+        superTypes.put("DataFile", AssetMapper.ASSET_TYPE_NAME);
+        superTypes.put("TabularSchemaType", SchemaElementMapper.COMPLEX_SCHEMA_TYPE_TYPE_NAME);
+    }
+
+    private RepositoryHandler    repositoryHandler;
+    private OMRSRepositoryHelper repositoryHelper;
+    private CertificationHandler certificationHandler;
+    private AssetHandler         assetHandler;
+
+
+    /**
+     * Set up a handler over a mock repository.
+     *
+     * @throws Exception problem setting up mocks
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        repositoryHandler    = mock(RepositoryHandler.class);
+        repositoryHelper     = mock(OMRSRepositoryHelper.class);
+        certificationHandler = mock(CertificationHandler.class);
+
+        when(repositoryHelper.isTypeOf(anyString(), any(), any())).thenAnswer(invocation -> isTypeOf(invocation.getArgument(1),
+                                                                                                    invocation.getArgument(2)));
+        when(repositoryHelper.removeStringProperty(anyString(),
+                                                   eq(SchemaElementMapper.TYPE_NAME_PROPERTY_NAME),
+                                                   any(),
+                                                   anyString())).thenReturn("TabularSchemaType");
+        when(repositoryHandler.getOtherEnd(anyString(), any(Relationship.class))).thenCallRealMethod();
+        when(repositoryHandler.getEntityByGUID(eq(userId),
+                                               eq(assetGUID),
+                                               anyString(),
+                                               eq(AssetMapper.ASSET_TYPE_NAME),
+                                               anyString())).thenReturn(getEntity(assetGUID, "DataFile"));
+
+        InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
+        invalidParameterHandler.setMaxPagingSize(100);
+
+        SchemaTypeHandler schemaTypeHandler = new SchemaTypeHandler(serviceName,
+                                                                    "testServer",
+                                                                    invalidParameterHandler,
+                                                                    repositoryHandler,
+                                                                    repositoryHelper,
+                                                                    null);
+
+        assetHandler = new AssetHandler(serviceName,
+                                        "testServer",
+                                        userId,
+                                        invalidParameterHandler,
+                                        repositoryHandler,
+                                        repositoryHelper,
+                                        certificationHandler,
+                                        mock(CommentHandler.class),
+                                        mock(ConnectionHandler.class),
+                                        mock(EndpointHandler.class),
+                                        mock(ExternalIdentifierHandler.class),
+                                        mock(ExternalReferenceHandler.class),
+                                        mock(InformalTagHandler.class),
+                                        mock(LicenseHandler.class),
+                                        mock(LikeHandler.class),
+                                        mock(LocationHandler.class),
+                                        mock(NoteLogHandler.class),
+                                        mock(RatingHandler.class),
+                                        mock(RelatedMediaHandler.class),
+                                        schemaTypeHandler,
+                                        null,
+                                        null,
+                                        null);
+    }
+
+
+    /**
+     * The attachment counts and the schema type (with its attribute count) are assembled from two
+     * neighborhood queries with no per-type calls.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testSummaryFromNeighborhood() throws Exception
+    {
+        List<Relationship> assetRelationships = new ArrayList<>();
+
+        assetRelationships.add(getRelationship(CommentMapper.REFERENCEABLE_TO_COMMENT_TYPE_NAME, assetGUID, "comment-1", "Comment"));
+        assetRelationships.add(getRelationship(CommentMapper.REFERENCEABLE_TO_COMMENT_TYPE_NAME, assetGUID, "comment-2", "Comment"));
+        assetRelationships.add(getRelationship(LikeMapper.REFERENCEABLE_TO_LIKE_TYPE_NAME, assetGUID, "like-1", "Like"));
+        assetRelationships.add(getRelationship("DataContentForDataSet", "other-asset", assetGUID, "DataFile"));
+        assetRelationships.add(getRelationship(AssetMapper.ASSET_TO_SCHEMA_TYPE_TYPE_NAME, assetGUID, schemaTypeGUID, "TabularSchemaType"));
+
+        when(repositoryHandler.getEntityNeighborhoodIfSupported(eq(userId), eq(assetGUID), isNull(), isNull(),
+                                                                isNull(), isNull(), isNull(), eq(1), anyString()))
+                .thenReturn(new InstanceGraph(Arrays.asList(getEntity(assetGUID, "DataFile"),
+                                                            getEntity(schemaTypeGUID, "TabularSchemaType")),
+                                              assetRelationships));
+
+        List<Relationship> schemaRelationships = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            schemaRelationships.add(getRelationship(SchemaElementMapper.TYPE_TO_ATTRIBUTE_RELATIONSHIP_TYPE_NAME,
+                                                    schemaTypeGUID,
+                                                    "column-" + i,
+                                                    "TabularColumn"));
+        }
+
+        when(repositoryHandler.getEntityNeighborhoodIfSupported(eq(userId), eq(schemaTypeGUID), isNull(), any(),
+                                                                isNull(), isNull(), isNull(), eq(1), anyString()))
+                .thenReturn(new InstanceGraph(Collections.singletonList(getEntity(schemaTypeGUID, "TabularSchemaType")),
+                                              schemaRelationships));
+
+        AssetContentsSummary summary = assetHandler.getAssetContentsSummary(userId, assetGUID, methodName);
+
+        assertEquals(summary.getAttachmentCount(CommentMapper.REFERENCEABLE_TO_COMMENT_TYPE_NAME), 2);
+        assertEquals(summary.getAttachmentCount(LikeMapper.REFERENCEABLE_TO_LIKE_TYPE_NAME), 1);
+        assertEquals(summary.getAttachmentCount(CertificationMapper.CERTIFICATION_OF_REFERENCEABLE_TYPE_NAME), 0);
+        assertEquals(summary.getAttachmentCount(AssetMapper.ASSET_TYPE_NAME), 1);
+
+        assertTrue(summary.getSchemaType() instanceof ComplexSchemaType);
+        assertEquals(summary.getSchemaType().getGUID(), schemaTypeGUID);
+        assertEquals(((ComplexSchemaType) summary.getSchemaType()).getAttributeCount(), 3);
+
+        verify(certificationHandler, never()).countCertifications(anyString(), anyString(), anyString());
+        verify(repositoryHandler, never()).countAttachedRelationshipsByType(anyString(), anyString(), anyString(),
+                                                                            anyString(), anyString(), anyString());
+        verify(repositoryHandler, never()).getEntityForRelationshipType(anyString(), anyString(), anyString(),
+                                                                        anyString(), anyString(), anyString());
+    }
+
+
+    /**
+     * If the repository does not support neighborhood queries, each attachment type is counted separately.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testFallbackWhenNeighborhoodNotSupported() throws Exception
+    {
+        when(repositoryHandler.getEntityNeighborhoodIfSupported(anyString(), anyString(), any(), any(),
+                                                                any(), any(), any(), anyInt(), anyString())).thenReturn(null);
+        when(certificationHandler.countCertifications(userId, assetGUID, methodName)).thenReturn(4);
+
+        AssetContentsSummary summary = assetHandler.getAssetContentsSummary(userId, assetGUID, methodName);
+
+        assertEquals(summary.getAttachmentCount(CertificationMapper.CERTIFICATION_OF_REFERENCEABLE_TYPE_NAME), 4);
+        assertNull(summary.getSchemaType());
+
+        verify(certificationHandler, times(1)).countCertifications(userId, assetGUID, methodName);
+        verify(repositoryHandler, times(1)).getEntityForRelationshipType(eq(userId),
+                                                                         eq(assetGUID),
+                                                                         eq(AssetMapper.ASSET_TYPE_NAME),
+                                                                         eq(AssetMapper.ASSET_TO_SCHEMA_TYPE_TYPE_GUID),
+                                                                         eq(AssetMapper.ASSET_TO_SCHEMA_TYPE_TYPE_NAME),
+                                                                         anyString());
+    }
+
+
+    /**
+     * Other repository errors are returned to the caller rather than being treated as an unsupported query.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testRepositoryErrorIsNotTreatedAsUnsupported() throws Exception
+    {
+        PropertyServerException repositoryError
+                = new PropertyServerException(RepositoryHandlerErrorCode.PROPERTY_SERVER_ERROR.getMessageDefinition("simulated failure",
+                                                                                                                    methodName,
+                                                                                                                    serviceName,
+                                                                                                                    "testServer"),
+                                              this.getClass().getName(),
+                                              methodName);
+
+        when(repositoryHandler.getEntityNeighborhoodIfSupported(anyString(), anyString(), any(), any(),
+                                                                any(), any(), any(), anyInt(), anyString())).thenThrow(repositoryError);
+
+        try
+        {
+            assetHandler.getAttachmentCounts(userId, assetGUID, methodName);
+            fail("Repository error not returned");
+        }
+        catch (PropertyServerException error)
+        {
+            assertEquals(error, repositoryError);
+        }
+
+        verify(certificationHandler, never()).countCertifications(anyString(), anyString(), anyString());
+    }
+
+
+    /**
+     * Simple type hierarchy for the test types.
+     *
+     * @param typeName name of the type to test
+     * @param superTypeName name of the possible super type
+     * @return boolean
+     */
+    private static boolean isTypeOf(String typeName,
+                                    String superTypeName)
+    {
+        String currentTypeName = typeName;
+
+        while (currentTypeName != null)
+        {
+            if (currentTypeName.equals(superTypeName))
+            {
+                return true;
+            }
+
+            currentTypeName = superTypes.get(currentTypeName);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Create an entity with a qualified name property.
+     *
+     * @param guid unique identifier
+     * @param typeName name of the type
+     * @return entity
+     */
+    private static EntityDetail getEntity(String guid,
+                                          String typeName)
+    {
+        InstanceType type = new InstanceType();
+        type.setTypeDefName(typeName);
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setType(type);
+
+        /*
+         * An entity with no property values returns null properties.
+         */
+        PrimitivePropertyValue qualifiedName = new PrimitivePropertyValue();
+        qualifiedName.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        qualifiedName.setPrimitiveValue(guid);
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty(ReferenceableMapper.QUALIFIED_NAME_PROPERTY_NAME, qualifiedName);
+
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+
+    /**
+     * Create a relationship between two entities.
+     *
+     * @param typeName name of the relationship type
+     * @param entityOneGUID unique identifier of entity one
+     * @param entityTwoGUID unique identifier of entity two
+     * @param otherEndTypeName type name of the entity that is not the anchor
+     * @return relationship
+     */
+    private static Relationship getRelationship(String typeName,
+                                                String entityOneGUID,
+                                                String entityTwoGUID,
+                                                String otherEndTypeName)
+    {
+        InstanceType type = new InstanceType();
+        type.setTypeDefName(typeName);
+
+        Relationship relationship = new Relationship();
+        relationship.setType(type);
+        relationship.setEntityOneProxy(getProxy(entityOneGUID, otherEndTypeName));
+        relationship.setEntityTwoProxy(getProxy(entityTwoGUID, otherEndTypeName));
+
+        return relationship;
+    }
+
+
+    /**
+     * Create an entity proxy.
+     *
+     * @param guid unique identifier
+     * @param typeName name of the type
+     * @return proxy
+     */
+    private static EntityProxy getProxy(String guid,
+                                        String typeName)
+    {
+        InstanceType type = new InstanceType();
+        type.setTypeDefName(typeName);
+
+        EntityProxy proxy = new EntityProxy();
+        proxy.setGUID(guid);
+        proxy.setType(type);
+
+        return proxy;
+    }
+}
@@ -5,7 +5,7 @@ package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.server;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
 import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.handlers.*;
-import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.mappers.AssetMapper;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.mappers.*;
 import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.*;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -264,20 +264,22 @@ public class OCFMetadataRESTServices
                                                                         instanceHandler.getServiceName(serviceURLName),
                                                                         methodName));
             }
-            response.setCertificationCount(assetHandler.getCertificationCount(userId, assetGUID, methodName));
-            response.setCommentCount(assetHandler.getCommentCount(userId, assetGUID, methodName));
-            response.setConnectionCount(assetHandler.getConnectionCount(userId, assetGUID, methodName));
-            response.setExternalIdentifierCount(assetHandler.getExternalIdentifierCount(userId, assetGUID, methodName));
-            response.setExternalReferencesCount(assetHandler.getExternalReferencesCount(userId, assetGUID, methodName));
-            response.setInformalTagCount(assetHandler.getInformalTagCount(userId, assetGUID, methodName));
-            response.setLicenseCount(assetHandler.getLicenseCount(userId, assetGUID, methodName));
-            response.setLikeCount(assetHandler.getLikeCount(userId, assetGUID, methodName));
-            response.setKnownLocationsCount(assetHandler.getKnownLocationsCount(userId, assetGUID, methodName));
-            response.setNoteLogsCount(assetHandler.getNoteLogsCount(userId, assetGUID, methodName));
-            response.setRatingsCount(assetHandler.getRatingsCount(userId, assetGUID, methodName));
-            response.setRelatedAssetCount(assetHandler.getRelatedAssetCount(userId, assetGUID, methodName));
-            response.setRelatedMediaReferenceCount(assetHandler.getRelatedMediaReferenceCount(userId, assetGUID, methodName));
-            response.setSchemaType(assetHandler.getSchemaType(userId, assetGUID, methodName));
+            AssetContentsSummary assetContentsSummary = assetHandler.getAssetContentsSummary(userId, assetGUID, methodName);
+
+            response.setCertificationCount(assetContentsSummary.getAttachmentCount(CertificationMapper.CERTIFICATION_OF_REFERENCEABLE_TYPE_NAME));
+            response.setCommentCount(assetContentsSummary.getAttachmentCount(CommentMapper.REFERENCEABLE_TO_COMMENT_TYPE_NAME));
+            response.setConnectionCount(assetContentsSummary.getAttachmentCount(AssetMapper.ASSET_TO_CONNECTION_TYPE_NAME));
+            response.setExternalIdentifierCount(assetContentsSummary.getAttachmentCount(ExternalIdentifierMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_NAME));
+            response.setExternalReferencesCount(assetContentsSummary.getAttachmentCount(ExternalReferenceMapper.REFERENCEABLE_TO_EXT_REF_TYPE_NAME));
+            response.setInformalTagCount(assetContentsSummary.getAttachmentCount(InformalTagMapper.REFERENCEABLE_TO_TAG_TYPE_NAME));
+            response.setLicenseCount(assetContentsSummary.getAttachmentCount(LicenseMapper.LICENSE_OF_REFERENCEABLE_TYPE_NAME));
+            response.setLikeCount(assetContentsSummary.getAttachmentCount(LikeMapper.REFERENCEABLE_TO_LIKE_TYPE_NAME));
+            response.setKnownLocationsCount(assetContentsSummary.getAttachmentCount(LocationMapper.ASSET_LOCATION_TYPE_NAME));
+            response.setNoteLogsCount(assetContentsSummary.getAttachmentCount(NoteLogMapper.REFERENCEABLE_TO_NOTE_LOG_TYPE_NAME));
+            response.setRatingsCount(assetContentsSummary.getAttachmentCount(RatingMapper.REFERENCEABLE_TO_RATING_TYPE_NAME));
+            response.setRelatedAssetCount(assetContentsSummary.getAttachmentCount(AssetMapper.ASSET_TYPE_NAME));
+            response.setRelatedMediaReferenceCount(assetContentsSummary.getAttachmentCount(RelatedMediaMapper.REFERENCEABLE_TO_RELATED_MEDIA_TYPE_NAME));
+            response.setSchemaType(assetContentsSummary.getSchemaType());
         }
         catch (InvalidParameterException error)
         {
@@ -8,24 +8,30 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * RepositoryEntitiesIterator is an iterator class for iteratively retrieving entities (possibly restricting
  * the type of entities returned).  It is used where the caller needs to filter the results coming from the repository and may need to
  * make more than one call to the repository in order to accumulate the number of requested results.
  *
+ * The following pages of results can optionally be retrieved asynchronously while the current page is processed
+ * by setting a look-ahead depth.  The results can also be processed as a stream.  An iterator that is abandoned
+ * before all of the results are retrieved should be closed to cancel its outstanding page requests.
+ *
  * Note this class is intended for a single request's use - it is not thread-safe.
  */
-public class RepositoryEntitiesIterator
+public class RepositoryEntitiesIterator implements AutoCloseable
 {
-    private RepositoryHandler  repositoryHandler;
-    private String             userId;
-    private String             entityTypeGUID;
-    private String             entityTypeName;
-    private int                startingFrom;
-    private int                pageSize;
-    private String             methodName;
-    private List<EntityDetail> entitiesCache = null;
+    private RepositoryHandler                      repositoryHandler;
+    private String                                 userId;
+    private String                                 entityTypeGUID;
+    private String                                 entityTypeName;
+    private String                                 methodName;
+    private RepositoryPagePrefetcher<EntityDetail> prefetcher;
+    private List<EntityDetail>                     entitiesCache = null;
 
 
     /**
@@ -46,14 +52,63 @@ public class RepositoryEntitiesIterator
                                       int               startingFrom,
                                       int               pageSize,
                                       String            methodName)
+    {
+        this(repositoryHandler, userId, entityTypeGUID, entityTypeName, startingFrom, pageSize, 0, null, methodName);
+    }
+
+
+    /**
+     * Constructor takes the parameters used to call the repository handler and the number of pages to
+     * retrieve ahead of the page being processed.
+     *
+     * @param repositoryHandler interface to the open metadata repositories.
+     * @param userId  user making the request
+     * @param entityTypeGUID  identifier for the relationship to follow
+     * @param entityTypeName  type name for the relationship to follow
+     * @param startingFrom initial position in the stored list.
+     * @param pageSize maximum number of definitions to return on each call.
+     * @param lookAheadDepth number of pages to retrieve ahead of the page being processed (0 means no prefetching).
+     * @param executor executor used to retrieve pages ahead of time (null means use the dedicated prefetch pool).
+     * @param methodName  name of calling method
+     */
+    public RepositoryEntitiesIterator(RepositoryHandler repositoryHandler,
+                                      String            userId,
+                                      String            entityTypeGUID,
+                                      String            entityTypeName,
+                                      int               startingFrom,
+                                      int               pageSize,
+                                      int               lookAheadDepth,
+                                      Executor          executor,
+                                      String            methodName)
     {
         this.repositoryHandler    = repositoryHandler;
         this.userId               = userId;
         this.entityTypeGUID       = entityTypeGUID;
         this.entityTypeName       = entityTypeName;
-        this.startingFrom         = startingFrom;
-        this.pageSize             = pageSize;
         this.methodName           = methodName;
+        this.prefetcher           = new RepositoryPagePrefetcher<>(this::getPage, startingFrom, pageSize, lookAheadDepth, executor);
+    }
+
+
+    /**
+     * Retrieve a page of entities from the repository handler.
+     *
+     * @param startingFrom initial position in the stored list.
+     * @param pageSize maximum number of definitions to return on this call.
+     * @return list of entities or null
+     * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+     * @throws PropertyServerException there is a problem in the repository
+     */
+    private List<EntityDetail> getPage(int startingFrom,
+                                       int pageSize) throws UserNotAuthorizedException,
+                                                            PropertyServerException
+    {
+        return repositoryHandler.getEntitiesForType(userId,
+                                                    entityTypeGUID,
+                                                    entityTypeName,
+                                                    startingFrom,
+                                                    pageSize,
+                                                    methodName);
     }
 
 
@@ -69,17 +124,7 @@ public class RepositoryEntitiesIterator
     {
         if ((entitiesCache == null) || (entitiesCache.isEmpty()))
         {
-            entitiesCache = repositoryHandler.getEntitiesForType(userId,
-                                                                 entityTypeGUID,
-                                                                 entityTypeName,
-                                                                 startingFrom,
-                                                                 pageSize,
-                                                                 methodName);
-
-            if (entitiesCache != null)
-            {
-                startingFrom = startingFrom + entitiesCache.size();
-            }
+            entitiesCache = prefetcher.getNextPage();
         }
 
         return entitiesCache != null;
@@ -105,4 +150,26 @@ public class RepositoryEntitiesIterator
             return null;
         }
     }
+
+
+    /**
+     * Return the remaining entities as a stream.  Problems retrieving the entities are thrown as
+     * RepositoryIteratorException.
+     *
+     * @return stream of entities
+     */
+    public Stream<EntityDetail> stream()
+    {
+        return StreamSupport.stream(new RepositoryIteratorSpliterator<>(this::getNext), false);
+    }
+
+
+    /**
+     * Cancel any page requests that have been issued ahead of their use.
+     */
+    @Override
+    public void close()
+    {
+        prefetcher.close();
+    }
 }
@@ -3304,6 +3304,77 @@ public class RepositoryHandler
         return null;
     }
 
+
+    /**
+     * Return the entities and relationships that radiate out from the supplied entity GUID, or null if the
+     * repository does not support neighborhood queries.  This allows the caller to fall back to retrieving
+     * the relationships one type at a time.  Any other error is handled in the same way as getEntityNeighborhood.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param methodName name of calling method.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships
+     *         (empty if nothing is returned) or null if the repository does not support this query.
+     *
+     * @throws UserNotAuthorizedException security access problem
+     * @throws PropertyServerException problem accessing the property server
+     */
+    public InstanceGraph getEntityNeighborhoodIfSupported(String               userId,
+                                                          String               entityGUID,
+                                                          List<String>         entityTypeGUIDs,
+                                                          List<String>         relationshipTypeGUIDs,
+                                                          List<InstanceStatus> limitResultsByStatus,
+                                                          List<String>         limitResultsByClassification,
+                                                          Date                 asOfTime,
+                                                          int                  level,
+                                                          String               methodName) throws UserNotAuthorizedException,
+                                                                                                  PropertyServerException
+    {
+        try
+        {
+            InstanceGraph neighborhood = metadataCollection.getEntityNeighborhood(userId,
+                                                                                  entityGUID,
+                                                                                  entityTypeGUIDs,
+                                                                                  relationshipTypeGUIDs,
+                                                                                  limitResultsByStatus,
+                                                                                  limitResultsByClassification,
+                                                                                  asOfTime,
+                                                                                  level);
+
+            if (neighborhood == null)
+            {
+                return new InstanceGraph();
+            }
+
+            return neighborhood;
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException  error)
+        {
+            return null;
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Throwable   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName);
+        }
+        return null;
+    }
+
     /**
      * Return the metadata collection for the repository.  This is used by services that need function that is not
      * supported by this class.
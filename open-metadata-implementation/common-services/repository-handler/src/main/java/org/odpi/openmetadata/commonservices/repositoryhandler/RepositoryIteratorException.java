@@ -0,0 +1,52 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+/**
+ * RepositoryIteratorException is thrown from the streams returned by the repository iterators when the
+ * repository handler fails to retrieve the next page of results.  Streams can not throw checked exceptions so
+ * the original exception is passed as the cause.  It can be restored with rethrowCause().
+ */
+public class RepositoryIteratorException extends RuntimeException
+{
+    private static final long    serialVersionUID = 1L;
+
+
+    /**
+     * Constructor takes the exception from the repository handler.
+     *
+     * @param cause exception from the repository handler
+     */
+    RepositoryIteratorException(Exception cause)
+    {
+        super(cause.getMessage(), cause);
+    }
+
+
+    /**
+     * Throw the original exception from the repository handler.
+     *
+     * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+     * @throws PropertyServerException there is a problem in the repository
+     */
+    public void rethrowCause() throws UserNotAuthorizedException,
+                                      PropertyServerException
+    {
+        Throwable cause = super.getCause();
+
+        if (cause instanceof UserNotAuthorizedException)
+        {
+            throw (UserNotAuthorizedException) cause;
+        }
+        else if (cause instanceof PropertyServerException)
+        {
+            throw (PropertyServerException) cause;
+        }
+
+        throw this;
+    }
+}
@@ -0,0 +1,81 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * RepositoryIteratorSpliterator allows the results of a repository iterator to be processed as a stream.
+ * Exceptions from the repository handler are thrown as RepositoryIteratorException.
+ */
+class RepositoryIteratorSpliterator<T> extends Spliterators.AbstractSpliterator<T>
+{
+    /**
+     * NextResult is the repository iterator's getNext() method.
+     *
+     * @param <T> type of result
+     */
+    interface NextResult<T>
+    {
+        /**
+         * Return the next result.
+         *
+         * @return result or null if nothing left to retrieve
+         * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+         * @throws PropertyServerException there is a problem in the repository
+         */
+        T getNext() throws UserNotAuthorizedException,
+                           PropertyServerException;
+    }
+
+
+    private NextResult<T> nextResult;
+
+
+    /**
+     * Constructor takes the repository iterator's getNext() method.
+     *
+     * @param nextResult call to retrieve the next result
+     */
+    RepositoryIteratorSpliterator(NextResult<T> nextResult)
+    {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+
+        this.nextResult = nextResult;
+    }
+
+
+    /**
+     * Pass the next result to the action.
+     *
+     * @param action action to perform on the result
+     * @return whether there was a result
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action)
+    {
+        try
+        {
+            T result = nextResult.getNext();
+
+            if (result == null)
+            {
+                return false;
+            }
+
+            action.accept(result);
+
+            return true;
+        }
+        catch (UserNotAuthorizedException | PropertyServerException error)
+        {
+            throw new RepositoryIteratorException(error);
+        }
+    }
+}
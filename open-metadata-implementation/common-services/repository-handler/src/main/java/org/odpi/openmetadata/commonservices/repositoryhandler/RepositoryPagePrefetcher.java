@@ -0,0 +1,341 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RepositoryPagePrefetcher retrieves the pages of results for the repository iterators.  When a look-ahead depth
+ * is set, the requests for the following pages are issued asynchronously while the current page is being
+ * processed by the caller.  The pages are requested at offsets that assume each page is full.  If a page comes back
+ * with fewer results than requested, the outstanding requests are discarded and retrieval continues from the
+ * actual position, so the results are the same as those returned when the pages are retrieved one at a time.
+ *
+ * The page requests block on the repository so, unless the caller supplies an executor, they run on a small
+ * pool of daemon threads dedicated to prefetching.  The pool's queue is bounded.  When it is full the page is
+ * retrieved on the caller's thread, so a busy server falls back to one-page-at-a-time retrieval rather than
+ * queuing work without limit.  Outstanding requests are cancelled (interrupting the repository call) when the
+ * prefetcher is closed.
+ *
+ * Note this class is intended for a single request's use - it is not thread-safe.
+ */
+class RepositoryPagePrefetcher<T>
+{
+    /**
+     * PageRetriever makes the call to the repository handler for a single page of results.
+     *
+     * @param <T> type of result
+     */
+    interface PageRetriever<T>
+    {
+        /**
+         * Retrieve a page of results.
+         *
+         * @param startingFrom initial position in the stored list.
+         * @param pageSize maximum number of results to return on this call.
+         * @return list of results or null if there are no more results
+         * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+         * @throws PropertyServerException there is a problem in the repository
+         */
+        List<T> getPage(int startingFrom,
+                        int pageSize) throws UserNotAuthorizedException,
+                                             PropertyServerException;
+    }
+
+
+    private static final int    prefetchThreadCount = 4;
+    private static final int    prefetchQueueSize   = 64;
+
+    /*
+     * Executor shared by all of the prefetchers that are not given an executor by their caller.
+     */
+    private static final Executor defaultExecutor = createDefaultExecutor();
+
+    private PageRetriever<T>    pageRetriever;
+    private int                 startingFrom;
+    private int                 pageSize;
+    private int                 lookAheadDepth;
+    private Executor            executor;
+    private Deque<PendingPage>  pendingPages = new ArrayDeque<>();
+    private int                 nextRequestStart;
+
+
+    /**
+     * Constructor for retrieving the pages one at a time.
+     *
+     * @param pageRetriever call to retrieve a page
+     * @param startingFrom initial position in the stored list.
+     * @param pageSize maximum number of results to return on each call.
+     */
+    RepositoryPagePrefetcher(PageRetriever<T> pageRetriever,
+                             int              startingFrom,
+                             int              pageSize)
+    {
+        this(pageRetriever, startingFrom, pageSize, 0, null);
+    }
+
+
+    /**
+     * Constructor for retrieving the pages ahead of their use.
+     *
+     * @param pageRetriever call to retrieve a page
+     * @param startingFrom initial position in the stored list.
+     * @param pageSize maximum number of results to return on each call.
+     * @param lookAheadDepth number of pages to request ahead of the page being processed (0 means no prefetching)
+     * @param executor executor used to issue the page requests (null means use the dedicated prefetch pool)
+     */
+    RepositoryPagePrefetcher(PageRetriever<T> pageRetriever,
+                             int              startingFrom,
+                             int              pageSize,
+                             int              lookAheadDepth,
+                             Executor         executor)
+    {
+        this.pageRetriever    = pageRetriever;
+        this.startingFrom     = startingFrom;
+        this.pageSize         = pageSize;
+        this.nextRequestStart = startingFrom;
+        this.executor         = executor;
+
+        /*
+         * A page size of zero means return all results so there is nothing to prefetch.
+         */
+        if (pageSize > 0)
+        {
+            this.lookAheadDepth = Math.max(lookAheadDepth, 0);
+        }
+        else
+        {
+            this.lookAheadDepth = 0;
+        }
+
+        if ((this.lookAheadDepth > 0) && (this.executor == null))
+        {
+            this.executor = defaultExecutor;
+        }
+    }
+
+
+    /**
+     * Create the bounded pool used when the caller does not supply an executor.  The threads are daemon
+     * threads so they do not prevent the server from shutting down.
+     *
+     * @return executor
+     */
+    private static Executor createDefaultExecutor()
+    {
+        ThreadFactory threadFactory = new ThreadFactory()
+        {
+            private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(Runnable runnable)
+            {
+                Thread thread = new Thread(runnable, "RepositoryPagePrefetcher-" + threadNumber.getAndIncrement());
+
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(prefetchThreadCount,
+                                                             prefetchThreadCount,
+                                                             60,
+                                                             TimeUnit.SECONDS,
+                                                             new ArrayBlockingQueue<>(prefetchQueueSize),
+                                                             threadFactory,
+                                                             new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+
+    /**
+     * Return the next page of results.
+     *
+     * @return list of results or null if there are no more results
+     * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+     * @throws PropertyServerException there is a problem in the repository
+     */
+    List<T> getNextPage() throws UserNotAuthorizedException,
+                                 PropertyServerException
+    {
+        List<T> page;
+
+        if (lookAheadDepth == 0)
+        {
+            page = pageRetriever.getPage(startingFrom, pageSize);
+        }
+        else
+        {
+            while (pendingPages.size() <= lookAheadDepth)
+            {
+                pendingPages.addLast(new PendingPage(nextRequestStart));
+                nextRequestStart = nextRequestStart + pageSize;
+            }
+
+            page = pendingPages.removeFirst().getPage();
+        }
+
+        if ((page == null) || (page.isEmpty()))
+        {
+            this.discardPendingPages();
+            return null;
+        }
+
+        startingFrom = startingFrom + page.size();
+
+        if (page.size() < pageSize)
+        {
+            /*
+             * The prefetched pages were requested from the wrong offsets.
+             */
+            this.discardPendingPages();
+            nextRequestStart = startingFrom;
+        }
+
+        return page;
+    }
+
+
+    /**
+     * Cancel the outstanding page requests.  This is called when the iterator is no longer needed.
+     * Subsequent calls to getNextPage() issue new requests.
+     */
+    void close()
+    {
+        this.discardPendingPages();
+    }
+
+
+    /**
+     * Return the number of page requests that have been issued and not yet returned to the caller.
+     *
+     * @return count
+     */
+    int getPendingPageCount()
+    {
+        return pendingPages.size();
+    }
+
+
+    /**
+     * Cancel the outstanding page requests, interrupting any that are waiting on the repository.
+     */
+    private void discardPendingPages()
+    {
+        for (PendingPage pendingPage : pendingPages)
+        {
+            pendingPage.cancel();
+        }
+
+        pendingPages.clear();
+    }
+
+
+    /**
+     * PendingPage is a page request that has been issued asynchronously.
+     */
+    private class PendingPage
+    {
+        private int                 pageStart;
+        private FutureTask<List<T>> request;
+
+
+        /**
+         * Issue the request for the page.
+         *
+         * @param pageStart position of the start of the page
+         */
+        PendingPage(int pageStart)
+        {
+            this.pageStart = pageStart;
+            this.request   = new FutureTask<>(() -> pageRetriever.getPage(pageStart, pageSize));
+
+            executor.execute(request);
+        }
+
+
+        /**
+         * Wait for the page to be returned.
+         *
+         * @return list of results or null
+         * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+         * @throws PropertyServerException there is a problem in the repository
+         */
+        List<T> getPage() throws UserNotAuthorizedException,
+                                 PropertyServerException
+        {
+            try
+            {
+                return request.get();
+            }
+            catch (ExecutionException error)
+            {
+                Throwable cause = error.getCause();
+
+                if (cause instanceof UserNotAuthorizedException)
+                {
+                    throw (UserNotAuthorizedException) cause;
+                }
+                else if (cause instanceof PropertyServerException)
+                {
+                    throw (PropertyServerException) cause;
+                }
+                else if (cause instanceof RuntimeException)
+                {
+                    throw (RuntimeException) cause;
+                }
+                else if (cause instanceof Error)
+                {
+                    throw (Error) cause;
+                }
+
+                throw new IllegalStateException(cause);
+            }
+            catch (InterruptedException interrupted)
+            {
+                /*
+                 * The caller's thread is being interrupted - stop the background requests and keep the
+                 * interrupt for the caller's code to act on.
+                 */
+                request.cancel(true);
+                discardPendingPages();
+                Thread.currentThread().interrupt();
+
+                return pageRetriever.getPage(pageStart, pageSize);
+            }
+            catch (CancellationException cancelled)
+            {
+                /*
+                 * Should not happen since only discarded pages are cancelled - retrieve the page directly.
+                 */
+                return pageRetriever.getPage(pageStart, pageSize);
+            }
+        }
+
+
+        /**
+         * Discard the request, interrupting the repository call if it is in progress.
+         */
+        void cancel()
+        {
+            request.cancel(true);
+        }
+    }
+}
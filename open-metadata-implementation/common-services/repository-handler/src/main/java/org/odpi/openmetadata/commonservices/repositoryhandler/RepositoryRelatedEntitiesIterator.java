@@ -8,26 +8,32 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * RepositoryRelationshipsIterator is an iterator class for iteratively retrieving relationships for an anchor entity (possibly restricting
  * the type of relationships returned).  It is used where the caller needs to filter the results coming from the repository and may need to
  * make more than one call to the repository in order to accumulate the number of requested results.
  *
+ * The following pages of results can optionally be retrieved asynchronously while the current page is processed
+ * by setting a look-ahead depth.  The results can also be processed as a stream.  An iterator that is abandoned
+ * before all of the results are retrieved should be closed to cancel its outstanding page requests.
+ *
  * Note this class is intended for a single request's use - it is not thread-safe.
  */
-public class RepositoryRelatedEntitiesIterator
+public class RepositoryRelatedEntitiesIterator implements AutoCloseable
 {
-    private RepositoryHandler  repositoryHandler;
-    private String             userId;
-    private String             anchorEntityGUID;
-    private String             anchorEntityTypeName;
-    private String             relationshipTypeGUID;
-    private String             relationshipTypeName;
-    private int                startingFrom;
-    private int                pageSize;
-    private String             methodName;
-    private List<EntityDetail> entitiesCache = null;
+    private RepositoryHandler                      repositoryHandler;
+    private String                                 userId;
+    private String                                 anchorEntityGUID;
+    private String                                 anchorEntityTypeName;
+    private String                                 relationshipTypeGUID;
+    private String                                 relationshipTypeName;
+    private String                                 methodName;
+    private RepositoryPagePrefetcher<EntityDetail> prefetcher;
+    private List<EntityDetail>                     entitiesCache = null;
 
 
     /**
@@ -52,6 +58,48 @@ public class RepositoryRelatedEntitiesIterator
                                              int               startingFrom,
                                              int               pageSize,
                                              String            methodName)
+    {
+        this(repositoryHandler,
+             userId,
+             anchorEntityGUID,
+             anchorEntityTypeName,
+             relationshipTypeGUID,
+             relationshipTypeName,
+             startingFrom,
+             pageSize,
+             0,
+             null,
+             methodName);
+    }
+
+
+    /**
+     * Constructor takes the parameters used to call the repository handler and the number of pages to
+     * retrieve ahead of the page being processed.
+     *
+     * @param repositoryHandler interface to the open metadata repositories.
+     * @param userId  user making the request
+     * @param anchorEntityGUID  starting entity's GUID
+     * @param anchorEntityTypeName  starting entity's type name
+     * @param relationshipTypeGUID  identifier for the relationship to follow
+     * @param relationshipTypeName  type name for the relationship to follow
+     * @param startingFrom initial position in the stored list.
+     * @param pageSize maximum number of definitions to return on each call.
+     * @param lookAheadDepth number of pages to retrieve ahead of the page being processed (0 means no prefetching).
+     * @param executor executor used to retrieve pages ahead of time (null means use the dedicated prefetch pool).
+     * @param methodName  name of calling method
+     */
+    public RepositoryRelatedEntitiesIterator(RepositoryHandler repositoryHandler,
+                                             String            userId,
+                                             String            anchorEntityGUID,
+                                             String            anchorEntityTypeName,
+                                             String            relationshipTypeGUID,
+                                             String            relationshipTypeName,
+                                             int               startingFrom,
+                                             int               pageSize,
+                                             int               lookAheadDepth,
+                                             Executor          executor,
+                                             String            methodName)
     {
         this.repositoryHandler    = repositoryHandler;
         this.userId               = userId;
@@ -59,9 +107,32 @@ public class RepositoryRelatedEntitiesIterator
         this.anchorEntityTypeName = anchorEntityTypeName;
         this.relationshipTypeGUID = relationshipTypeGUID;
         this.relationshipTypeName = relationshipTypeName;
-        this.startingFrom         = startingFrom;
-        this.pageSize             = pageSize;
         this.methodName           = methodName;
+        this.prefetcher           = new RepositoryPagePrefetcher<>(this::getPage, startingFrom, pageSize, lookAheadDepth, executor);
+    }
+
+
+    /**
+     * Retrieve a page of related entities from the repository handler.
+     *
+     * @param startingFrom initial position in the stored list.
+     * @param pageSize maximum number of definitions to return on this call.
+     * @return list of entities or null
+     * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+     * @throws PropertyServerException there is a problem in the repository
+     */
+    private List<EntityDetail> getPage(int startingFrom,
+                                       int pageSize) throws UserNotAuthorizedException,
+                                                            PropertyServerException
+    {
+        return repositoryHandler.getEntitiesForRelationshipType(userId,
+                                                                anchorEntityGUID,
+                                                                anchorEntityTypeName,
+                                                                relationshipTypeGUID,
+                                                                relationshipTypeName,
+                                                                startingFrom,
+                                                                pageSize,
+                                                                methodName);
     }
 
 
@@ -77,19 +148,7 @@ public class RepositoryRelatedEntitiesIterator
     {
         if ((entitiesCache == null) || (entitiesCache.isEmpty()))
         {
-            entitiesCache = repositoryHandler.getEntitiesForRelationshipType(userId,
-                                                                             anchorEntityGUID,
-                                                                             anchorEntityTypeName,
-                                                                             relationshipTypeGUID,
-                                                                             relationshipTypeName,
-                                                                             startingFrom,
-                                                                             pageSize,
-                                                                             methodName);
-
-            if (entitiesCache != null)
-            {
-                startingFrom = startingFrom + entitiesCache.size();
-            }
+            entitiesCache = prefetcher.getNextPage();
         }
 
         return entitiesCache != null;
@@ -115,4 +174,26 @@ public class RepositoryRelatedEntitiesIterator
             return null;
         }
     }
+
+
+    /**
+     * Return the remaining related entities as a stream.  Problems retrieving the entities are thrown as
+     * RepositoryIteratorException.
+     *
+     * @return stream of entities
+     */
+    public Stream<EntityDetail> stream()
+    {
+        return StreamSupport.stream(new RepositoryIteratorSpliterator<>(this::getNext), false);
+    }
+
+
+    /**
+     * Cancel any page requests that have been issued ahead of their use.
+     */
+    @Override
+    public void close()
+    {
+        prefetcher.close();
+    }
 }
@@ -10,25 +10,31 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * RepositorySelectedEntitiesIterator is an iterator class for iteratively retrieving entities based on a search criteria.
  * It is used where the caller needs to filter the results coming from the repository and may need to
  * make more than one call to the repository in order to accumulate the number of requested results.
  *
+ * The following pages of results can optionally be retrieved asynchronously while the current page is processed
+ * by setting a look-ahead depth.  The results can also be processed as a stream.  An iterator that is abandoned
+ * before all of the results are retrieved should be closed to cancel its outstanding page requests.
+ *
  * Note this class is intended for a single request's use - it is not thread-safe.
  */
-public class RepositorySelectedEntitiesIterator
+public class RepositorySelectedEntitiesIterator implements AutoCloseable
 {
-    private RepositoryHandler  repositoryHandler;
-    private String             userId;
-    private String             entityTypeGUID;
-    private InstanceProperties properties;
-    private MatchCriteria      matchCriteria;
-    private int                startingFrom;
-    private int                pageSize;
-    private String             methodName;
-    private List<EntityDetail> entitiesCache = null;
+    private RepositoryHandler                      repositoryHandler;
+    private String                                 userId;
+    private String                                 entityTypeGUID;
+    private InstanceProperties                     properties;
+    private MatchCriteria                          matchCriteria;
+    private String                                 methodName;
+    private RepositoryPagePrefetcher<EntityDetail> prefetcher;
+    private List<EntityDetail>                     entitiesCache = null;
 
 
     /**
@@ -51,15 +57,78 @@ public class RepositorySelectedEntitiesIterator
                                               int                startingFrom,
                                               int                pageSize,
                                               String             methodName)
+    {
+        this(repositoryHandler, userId, entityTypeGUID, properties, matchCriteria, startingFrom, pageSize, 0, null, methodName);
+    }
+
+
+    /**
+     * Constructor takes the parameters used to call the repository handler and the number of pages to
+     * retrieve ahead of the page being processed.
+     *
+     * @param repositoryHandler interface to the open metadata repositories.
+     * @param userId  user making the request
+     * @param entityTypeGUID  identifier for the relationship to follow
+     * @param properties properties used in the search
+     * @param matchCriteria all or any
+     * @param startingFrom initial position in the stored list.
+     * @param pageSize maximum number of definitions to return on each call.
+     * @param lookAheadDepth number of pages to retrieve ahead of the page being processed (0 means no prefetching).
+     * @param executor executor used to retrieve pages ahead of time (null means use the dedicated prefetch pool).
+     * @param methodName  name of calling method
+     */
+    public RepositorySelectedEntitiesIterator(RepositoryHandler  repositoryHandler,
+                                              String             userId,
+                                              String             entityTypeGUID,
+                                              InstanceProperties properties,
+                                              MatchCriteria      matchCriteria,
+                                              int                startingFrom,
+                                              int                pageSize,
+                                              int                lookAheadDepth,
+                                              Executor           executor,
+                                              String             methodName)
     {
         this.repositoryHandler    = repositoryHandler;
         this.userId               = userId;
         this.entityTypeGUID       = entityTypeGUID;
         this.properties           = properties;
         this.matchCriteria        = matchCriteria;
-        this.startingFrom         = startingFrom;
-        this.pageSize             = pageSize;
         this.methodName           = methodName;
+        this.prefetcher           = new RepositoryPagePrefetcher<>(this::getPage, startingFrom, pageSize, lookAheadDepth, executor);
+    }
+
+
+    /**
+     * Retrieve a page of matching entities from the repository handler.
+     *
+     * @param startingFrom initial position in the stored list.
+     * @param pageSize maximum number of definitions to return on this call.
+     * @return list of entities or null
+     * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+     * @throws PropertyServerException there is a problem in the repository
+     */
+    private List<EntityDetail> getPage(int startingFrom,
+                                       int pageSize) throws UserNotAuthorizedException,
+                                                            PropertyServerException
+    {
+        if (matchCriteria == MatchCriteria.ANY)
+        {
+            return repositoryHandler.getEntitiesByName(userId,
+                                                       properties,
+                                                       entityTypeGUID,
+                                                       startingFrom,
+                                                       pageSize,
+                                                       methodName);
+        }
+        else
+        {
+            return repositoryHandler.getEntitiesByAllProperties(userId,
+                                                                properties,
+                                                                entityTypeGUID,
+                                                                startingFrom,
+                                                                pageSize,
+                                                                methodName);
+        }
     }
 
 
@@ -75,29 +144,7 @@ public class RepositorySelectedEntitiesIterator
     {
         if ((entitiesCache == null) || (entitiesCache.isEmpty()))
         {
-            if (matchCriteria == MatchCriteria.ANY)
-            {
-                entitiesCache = repositoryHandler.getEntitiesByName(userId,
-                                                                    properties,
-                                                                    entityTypeGUID,
-                                                                    startingFrom,
-                                                                    pageSize,
-                                                                    methodName);
-            }
-            else
-            {
-                entitiesCache = repositoryHandler.getEntitiesByAllProperties(userId,
-                                                                             properties,
-                                                                             entityTypeGUID,
-                                                                             startingFrom,
-                                                                             pageSize,
-                                                                             methodName);
-            }
-
-            if (entitiesCache != null)
-            {
-                startingFrom = startingFrom + entitiesCache.size();
-            }
+            entitiesCache = prefetcher.getNextPage();
         }
 
         return entitiesCache != null;
@@ -123,4 +170,26 @@ public class RepositorySelectedEntitiesIterator
             return null;
         }
     }
+
+
+    /**
+     * Return the remaining entities as a stream.  Problems retrieving the entities are thrown as
+     * RepositoryIteratorException.
+     *
+     * @return stream of entities
+     */
+    public Stream<EntityDetail> stream()
+    {
+        return StreamSupport.stream(new RepositoryIteratorSpliterator<>(this::getNext), false);
+    }
+
+
+    /**
+     * Cancel any page requests that have been issued ahead of their use.
+     */
+    @Override
+    public void close()
+    {
+        prefetcher.close();
+    }
 }
@@ -0,0 +1,272 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that the pages returned by the prefetcher are the same whether or not they are retrieved ahead of time,
+ * including when the repository returns fewer results than requested, and that failures are passed to the caller.
+ */
+public class RepositoryPagePrefetcherTest
+{
+    private static final int resultCount = 95;
+
+
+    /**
+     * Return a page of the test results.  No more than maxPageSize results are returned on each call.
+     *
+     * @param startingFrom initial position
+     * @param pageSize requested number of results
+     * @param maxPageSize maximum number of results the "repository" will return
+     * @return list of results or null
+     */
+    private List<Integer> getPage(int startingFrom,
+                                  int pageSize,
+                                  int maxPageSize)
+    {
+        List<Integer> page = new ArrayList<>();
+
+        for (int i = startingFrom; (i < resultCount) && (page.size() < Math.min(pageSize, maxPageSize)); i++)
+        {
+            page.add(i);
+        }
+
+        if (page.isEmpty())
+        {
+            return null;
+        }
+
+        return page;
+    }
+
+
+    /**
+     * Return a page of the test results, failing once the third page is requested.
+     *
+     * @param startingFrom initial position
+     * @param pageSize requested number of results
+     * @return list of results or null
+     * @throws PropertyServerException simulated repository failure
+     */
+    private List<Integer> getFailingPage(int startingFrom,
+                                         int pageSize) throws PropertyServerException
+    {
+        if (startingFrom >= 20)
+        {
+            throw new PropertyServerException(RepositoryHandlerErrorCode.PROPERTY_SERVER_ERROR.getMessageDefinition("simulated failure",
+                                                                                                              "getPage",
+                                                                                                              "test",
+                                                                                                              "test"),
+                                              this.getClass().getName(),
+                                              "getPage");
+        }
+
+        return getPage(startingFrom, pageSize, pageSize);
+    }
+
+
+    /**
+     * Retrieve all of the results through the prefetcher.
+     *
+     * @param prefetcher prefetcher to test
+     * @return list of results
+     * @throws Exception problem with the prefetcher
+     */
+    private List<Integer> getAll(RepositoryPagePrefetcher<Integer> prefetcher) throws Exception
+    {
+        List<Integer> results = new ArrayList<>();
+        List<Integer> page    = prefetcher.getNextPage();
+
+        while (page != null)
+        {
+            results.addAll(page);
+            page = prefetcher.getNextPage();
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return the expected results.
+     *
+     * @param startingFrom initial position
+     * @return list of results
+     */
+    private List<Integer> getExpected(int startingFrom)
+    {
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = startingFrom; i < resultCount; i++)
+        {
+            expected.add(i);
+        }
+
+        return expected;
+    }
+
+
+    @Test public void testNoPrefetching() throws Exception
+    {
+        RepositoryPagePrefetcher<Integer> prefetcher = new RepositoryPagePrefetcher<>((start, size) -> getPage(start, size, size), 0, 10);
+
+        assertEquals(getAll(prefetcher), getExpected(0));
+    }
+
+
+    @Test public void testPrefetching() throws Exception
+    {
+        for (int lookAheadDepth = 1; lookAheadDepth < 5; lookAheadDepth++)
+        {
+            RepositoryPagePrefetcher<Integer> prefetcher = new RepositoryPagePrefetcher<>((start, size) -> getPage(start, size, size),
+                                                                                          5,
+                                                                                          10,
+                                                                                          lookAheadDepth,
+                                                                                          null);
+
+            assertEquals(getAll(prefetcher), getExpected(5));
+        }
+    }
+
+
+    @Test public void testShortPages() throws Exception
+    {
+        RepositoryPagePrefetcher<Integer> prefetcher = new RepositoryPagePrefetcher<>((start, size) -> getPage(start, size, 7),
+                                                                                      0,
+                                                                                      10,
+                                                                                      3,
+                                                                                      null);
+
+        assertEquals(getAll(prefetcher), getExpected(0));
+    }
+
+
+    @Test public void testFailure() throws Exception
+    {
+        RepositoryPagePrefetcher<Integer> prefetcher = new RepositoryPagePrefetcher<>(this::getFailingPage, 0, 10, 2, null);
+
+        prefetcher.getNextPage();
+        prefetcher.getNextPage();
+
+        try
+        {
+            prefetcher.getNextPage();
+            fail("Exception not passed to caller");
+        }
+        catch (PropertyServerException expected)
+        {
+            assertEquals(expected.getReportingActionDescription(), "getPage");
+        }
+    }
+
+
+    @Test public void testStream()
+    {
+        RepositoryPagePrefetcher<Integer> prefetcher = new RepositoryPagePrefetcher<>((start, size) -> getPage(start, size, size),
+                                                                                      0,
+                                                                                      10,
+                                                                                      2,
+                                                                                      null);
+        List<Integer> cache = new ArrayList<>();
+
+        RepositoryIteratorSpliterator<Integer> spliterator = new RepositoryIteratorSpliterator<>(() ->
+        {
+            if (cache.isEmpty())
+            {
+                List<Integer> page = prefetcher.getNextPage();
+
+                if (page == null)
+                {
+                    return null;
+                }
+
+                cache.addAll(page);
+            }
+
+            return cache.remove(0);
+        });
+
+        Stream<Integer> stream = StreamSupport.stream(spliterator, false);
+
+        assertEquals(stream.collect(Collectors.toList()), getExpected(0));
+    }
+
+
+    @Test public void testPrefetchThreads() throws Exception
+    {
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+        RepositoryPagePrefetcher<Integer> prefetcher = new RepositoryPagePrefetcher<>((start, size) ->
+                                                                                      {
+                                                                                          threadNames.add(Thread.currentThread().getName());
+                                                                                          return getPage(start, size, size);
+                                                                                      },
+                                                                                      0,
+                                                                                      10,
+                                                                                      2,
+                                                                                      null);
+
+        assertEquals(getAll(prefetcher), getExpected(0));
+
+        for (String threadName : threadNames)
+        {
+            assertTrue(threadName.startsWith("RepositoryPagePrefetcher-"), threadName);
+        }
+    }
+
+
+    @Test public void testCloseCancelsOutstandingRequests() throws Exception
+    {
+        CountDownLatch blockedRequests     = new CountDownLatch(2);
+        CountDownLatch interruptedRequests = new CountDownLatch(2);
+
+        RepositoryPagePrefetcher<Integer> prefetcher = new RepositoryPagePrefetcher<>((start, size) ->
+                                                                                      {
+                                                                                          if (start > 0)
+                                                                                          {
+                                                                                              blockedRequests.countDown();
+
+                                                                                              try
+                                                                                              {
+                                                                                                  Thread.sleep(60000);
+                                                                                              }
+                                                                                              catch (InterruptedException interrupted)
+                                                                                              {
+                                                                                                  interruptedRequests.countDown();
+                                                                                              }
+                                                                                          }
+
+                                                                                          return getPage(start, size, size);
+                                                                                      },
+                                                                                      0,
+                                                                                      10,
+                                                                                      2,
+                                                                                      null);
+
+        assertEquals(prefetcher.getNextPage(), getExpected(0).subList(0, 10));
+        assertEquals(prefetcher.getPendingPageCount(), 2);
+        assertTrue(blockedRequests.await(10, TimeUnit.SECONDS));
+
+        prefetcher.close();
+
+        assertEquals(prefetcher.getPendingPageCount(), 0);
+        assertTrue(interruptedRequests.await(10, TimeUnit.SECONDS));
+    }
+}
@@ -15,17 +15,44 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.VirtualConnection;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The ConnectorBroker is a generic factory for Open Connector Framework (OCF) Connectors.
  * The OCF provides a default implementation because all of the implementation that is specific to a
  * particular type of connector is delegated to the connector provider specified in the connection.
+ * <p>
+ * The connector provider classes are loaded once and shared by all connector brokers.  Each connector broker
+ * keeps the connector provider instances it creates so they are reused on later requests.  They are not shared
+ * between connector brokers because each connector broker passes its own audit log to its connector providers.
+ * </p>
+ * <p>
+ * A connector broker created with a connector idle timeout also pools the connectors that implement
+ * ReusableConnector.  getConnector() leases a connector to the caller, and the caller hands it back with release()
+ * when it has finished with it.  A later request for an identical connection is given a released connector rather
+ * than a new one.  Released connectors are disconnected when they have not been leased again within the idle
+ * timeout, or when disconnectPooledConnectors() is called.  Leased connectors are never disconnected by the pool.
+ * </p>
  */
 public class ConnectorBroker
 {
     private static final Logger log      = LoggerFactory.getLogger(ConnectorBroker.class);
     private final        int    hashCode = UUID.randomUUID().hashCode();
 
+    private static final Map<String, Class<?>> connectorProviderClasses = new ConcurrentHashMap<>();
+
+    private final Map<String, ConnectorProvider>          connectorProviders = new ConcurrentHashMap<>();
+    private final Map<Connection, Deque<PooledConnector>> connectorPool;
+    private final Map<Connector, Connection>              leasedConnectors;
+    private final long                                    connectorIdleTimeout;
+
+    private final AtomicLong providerCacheHitCount  = new AtomicLong();
+    private final AtomicLong providerCacheMissCount = new AtomicLong();
+    private final AtomicLong connectorPoolHitCount  = new AtomicLong();
+    private final AtomicLong connectorPoolMissCount = new AtomicLong();
+    private final AtomicLong evictedConnectorCount  = new AtomicLong();
 
     private AuditLog auditLog = null;
 
@@ -35,7 +62,7 @@ public class ConnectorBroker
      */
     public ConnectorBroker()
     {
-        /* Nothing to do */
+        this(null, 0);
     }
 
 
@@ -45,8 +72,34 @@ public class ConnectorBroker
      * @param auditLog auditlog to pass on
      */
     public ConnectorBroker(AuditLog   auditLog)
+    {
+        this(auditLog, 0);
+    }
+
+
+    /**
+     * Constructor for a connector broker that pools the reusable connectors it creates.
+     *
+     * @param auditLog auditlog to pass on
+     * @param connectorIdleTimeout time in milliseconds that a released connector is kept in the pool before it is
+     *                             disconnected; zero or less means no connectors are pooled
+     */
+    public ConnectorBroker(AuditLog   auditLog,
+                           long       connectorIdleTimeout)
     {
         this.auditLog = auditLog;
+        this.connectorIdleTimeout = connectorIdleTimeout;
+
+        if (connectorIdleTimeout > 0)
+        {
+            this.connectorPool = new ConcurrentHashMap<>();
+            this.leasedConnectors = Collections.synchronizedMap(new IdentityHashMap<>());
+        }
+        else
+        {
+            this.connectorPool = null;
+            this.leasedConnectors = null;
+        }
     }
 
 
@@ -115,7 +168,8 @@ public class ConnectorBroker
 
 
     /**
-     * Create a connector provider object based on the content of the supplied connector type properties.
+     * Return the connector provider for the supplied connector type properties.  The connector provider is
+     * created the first time its class is requested and reused after that.
      *
      * @param requestedConnectorType  connector type properties
      * @param connectionName  name of the connection (for error handling)
@@ -144,6 +198,17 @@ public class ConnectorBroker
         }
 
 
+        ConnectorProvider     connectorProvider = connectorProviders.get(connectorProviderClassName);
+
+        if (connectorProvider != null)
+        {
+            providerCacheHitCount.incrementAndGet();
+
+            return connectorProvider;
+        }
+
+        providerCacheMissCount.incrementAndGet();
+
         /*
          * Extract the class for the connector provider and then create a connector provider object.
          * These actions may reveal that the class is not known to local JVM (ClassNotFound) or
@@ -151,11 +216,16 @@ public class ConnectorBroker
          * results in a connection error exception that hopefully guides the consumer to correct
          * the config and/or setup error.
          */
-        ConnectorProvider     connectorProvider;
-
         try
         {
-            Class<?>   connectorProviderClass = Class.forName(connectorProviderClassName);
+            Class<?>   connectorProviderClass = connectorProviderClasses.get(connectorProviderClassName);
+
+            if (connectorProviderClass == null)
+            {
+                connectorProviderClass = Class.forName(connectorProviderClassName);
+                connectorProviderClasses.put(connectorProviderClassName, connectorProviderClass);
+            }
+
             Object     potentialConnectorProvider = connectorProviderClass.newInstance();
 
             connectorProvider = (ConnectorProvider)potentialConnectorProvider;
@@ -195,6 +265,13 @@ public class ConnectorBroker
                                                  unexpectedSomething);
         }
 
+        ConnectorProvider existingConnectorProvider = connectorProviders.putIfAbsent(connectorProviderClassName, connectorProvider);
+
+        if (existingConnectorProvider != null)
+        {
+            return existingConnectorProvider;
+        }
+
         return connectorProvider;
     }
 
@@ -316,15 +393,94 @@ public class ConnectorBroker
 
 
     /**
-     * Creates a new instance of a connector using the name of the connector provider in the supplied connection.
+     * Returns a connector using the name of the connector provider in the supplied connection.  This is a new
+     * instance unless the connector broker has a connector pool and holds a released reusable connector for an
+     * identical connection.  A reusable connector is leased to the caller until it is passed to release().
      *
      * @param connection   properties for the connector and connector provider.
-     * @return new connector instance.
+     * @return connector instance.
      * @throws ConnectionCheckedException an error with the connection.
      * @throws ConnectorCheckedException an error initializing the connector.
      */
     public Connector getConnector(ConnectionProperties connection) throws ConnectionCheckedException,
                                                                           ConnectorCheckedException
+    {
+        if ((connectorPool == null) || (connection == null) || (connection instanceof VirtualConnectionProperties))
+        {
+            return this.createConnector(connection);
+        }
+
+        this.evictIdleConnectors();
+
+        /*
+         * The connection bean is a copy of the connection so it can be used as a key in the pool.  Its equals()
+         * method includes the connector type, endpoint, credentials and configuration properties.
+         */
+        Connection             poolKey         = new AccessibleConnection(connection).getConnectionBean();
+        Deque<PooledConnector> idleConnectors  = connectorPool.get(poolKey);
+        PooledConnector        pooledConnector = (idleConnectors == null) ? null : idleConnectors.pollFirst();
+
+        if (pooledConnector != null)
+        {
+            connectorPoolHitCount.incrementAndGet();
+            leasedConnectors.put(pooledConnector.connector, poolKey);
+
+            log.debug("Pooled connector returned: " + pooledConnector.connector.getConnectorInstanceId());
+
+            return pooledConnector.connector;
+        }
+
+        connectorPoolMissCount.incrementAndGet();
+
+        Connector connectorInstance = this.createConnector(connection);
+
+        if (connectorInstance instanceof ReusableConnector)
+        {
+            leasedConnectors.put(connectorInstance, poolKey);
+        }
+
+        return connectorInstance;
+    }
+
+
+    /**
+     * Hand back a connector that the caller has finished with.  A reusable connector leased from this connector
+     * broker's pool is kept for the next request for the same connection.  Any other connector is disconnected.
+     *
+     * @param connector connector returned by getConnector()
+     */
+    public void release(Connector connector)
+    {
+        if (connector == null)
+        {
+            return;
+        }
+
+        Connection poolKey = (leasedConnectors == null) ? null : leasedConnectors.remove(connector);
+
+        if (poolKey == null)
+        {
+            this.disconnectConnector(connector);
+        }
+        else
+        {
+            connectorPool.computeIfAbsent(poolKey, key -> new ConcurrentLinkedDeque<>()).offerFirst(new PooledConnector(connector));
+
+            this.evictIdleConnectors();
+        }
+    }
+
+
+    /**
+     * Creates a new instance of a connector using the name of the connector provider in the supplied connection.
+     *
+     * @param connection   properties for the connector and connector provider.
+     * @return new connector instance.
+     * @throws ConnectionCheckedException an error with the connection.
+     * @throws ConnectorCheckedException an error initializing the connector.
+     */
+    private Connector createConnector(ConnectionProperties connection) throws ConnectionCheckedException,
+                                                                              ConnectorCheckedException
     {
         final String         methodName = "getConnector";
         String               connectionName;
@@ -434,7 +590,7 @@ public class ConnectorBroker
 
                 for (EmbeddedConnectionProperties  embeddedConnection : embeddedConnections)
                 {
-                    embeddedConnectors.add(getConnector(this.getConnection(embeddedConnection)));
+                    embeddedConnectors.add(createConnector(this.getConnection(embeddedConnection)));
                 }
 
                 virtualConnectorExtension.initializeEmbeddedConnectors(embeddedConnectors);
@@ -464,6 +620,165 @@ public class ConnectorBroker
     }
 
 
+    /**
+     * Disconnect and remove the released connectors that have not been leased again within the idle timeout.
+     * This is called on each request for a connector and each release.
+     */
+    public void evictIdleConnectors()
+    {
+        if (connectorPool != null)
+        {
+            long evictionTime = System.currentTimeMillis() - connectorIdleTimeout;
+
+            for (Deque<PooledConnector> idleConnectors : connectorPool.values())
+            {
+                for (PooledConnector pooledConnector : idleConnectors)
+                {
+                    /*
+                     * Only the thread that removes the connector from the pool disconnects it.
+                     */
+                    if ((pooledConnector.releaseTime < evictionTime) && (idleConnectors.remove(pooledConnector)))
+                    {
+                        log.debug("Evicting idle connector: " + pooledConnector.connector.getConnectorInstanceId());
+
+                        evictedConnectorCount.incrementAndGet();
+                        this.disconnectConnector(pooledConnector.connector);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Disconnect and remove all of the released connectors.  This is called when the owner of the connector broker
+     * shuts down.  Connectors that are still leased are disconnected when they are released.
+     */
+    public void disconnectPooledConnectors()
+    {
+        if (connectorPool != null)
+        {
+            for (Deque<PooledConnector> idleConnectors : connectorPool.values())
+            {
+                PooledConnector pooledConnector;
+
+                while ((pooledConnector = idleConnectors.pollFirst()) != null)
+                {
+                    this.disconnectConnector(pooledConnector.connector);
+                }
+            }
+
+            leasedConnectors.clear();
+        }
+    }
+
+
+    /**
+     * Disconnect a connector that is no longer needed, ignoring any errors.
+     *
+     * @param connector connector to disconnect
+     */
+    private void disconnectConnector(Connector connector)
+    {
+        try
+        {
+            connector.disconnect();
+        }
+        catch (Throwable  exec)
+        {
+            log.debug("Ignoring unexpected exception " + exec.getClass().getSimpleName() + " with message " + exec.getMessage());
+        }
+    }
+
+
+    /**
+     * Return the number of requests for a connector provider that reused a connector provider created earlier.
+     *
+     * @return count
+     */
+    public long getProviderCacheHitCount()
+    {
+        return providerCacheHitCount.get();
+    }
+
+
+    /**
+     * Return the number of requests for a connector provider that created a new connector provider.
+     *
+     * @return count
+     */
+    public long getProviderCacheMissCount()
+    {
+        return providerCacheMissCount.get();
+    }
+
+
+    /**
+     * Return the number of requests for a connector that were given a released connector from the pool.
+     *
+     * @return count
+     */
+    public long getConnectorPoolHitCount()
+    {
+        return connectorPoolHitCount.get();
+    }
+
+
+    /**
+     * Return the number of requests for a connector that created a new connector because there was no released
+     * connector for the connection in the pool.
+     *
+     * @return count
+     */
+    public long getConnectorPoolMissCount()
+    {
+        return connectorPoolMissCount.get();
+    }
+
+
+    /**
+     * Return the number of released connectors that have been disconnected because they were idle.
+     *
+     * @return count
+     */
+    public long getEvictedConnectorCount()
+    {
+        return evictedConnectorCount.get();
+    }
+
+
+    /**
+     * Return the number of released connectors waiting in the pool.
+     *
+     * @return count
+     */
+    public int getPooledConnectorCount()
+    {
+        int pooledConnectorCount = 0;
+
+        if (connectorPool != null)
+        {
+            for (Deque<PooledConnector> idleConnectors : connectorPool.values())
+            {
+                pooledConnectorCount += idleConnectors.size();
+            }
+        }
+
+        return pooledConnectorCount;
+    }
+
+
+    /**
+     * Return the number of reusable connectors that are leased to callers.
+     *
+     * @return count
+     */
+    public int getLeasedConnectorCount()
+    {
+        return (leasedConnectors == null) ? 0 : leasedConnectors.size();
+    }
+
+
     /**
      * Provide an implementation of hashCode for all OCF Connector Broker objects.  The UUID is unique and
      * is randomly assigned and so its hashCode is as good as anything to describe the hash code of the connector
@@ -511,10 +826,33 @@ public class ConnectorBroker
     {
         return "ConnectorBroker{" +
                 "hashCode=" + hashCode +
+                ", connectorIdleTimeout=" + connectorIdleTimeout +
+                ", pooledConnectorCount=" + getPooledConnectorCount() +
+                ", leasedConnectorCount=" + getLeasedConnectorCount() +
+                ", providerCacheHitCount=" + getProviderCacheHitCount() +
+                ", providerCacheMissCount=" + getProviderCacheMissCount() +
+                ", connectorPoolHitCount=" + getConnectorPoolHitCount() +
+                ", connectorPoolMissCount=" + getConnectorPoolMissCount() +
+                ", evictedConnectorCount=" + getEvictedConnectorCount() +
                 '}';
     }
 
 
+    /**
+     * PooledConnector holds a released reusable connector in the pool along with the time it was released.
+     */
+    private static class PooledConnector
+    {
+        private final Connector connector;
+        private final long      releaseTime = System.currentTimeMillis();
+
+        PooledConnector(Connector connector)
+        {
+            this.connector = connector;
+        }
+    }
+
+
     /**
      * ProtectedConnection provides a subclass to Connection in order to extract protected values from the
      * connection in order to supply them to the Connector implementation.
@@ -0,0 +1,15 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors;
+
+/**
+ * ReusableConnector is an optional marker interface for a connector that can be used by a series of callers.
+ * A ConnectorBroker that has a connector pool leases a reusable connector to one caller at a time.  When the caller
+ * passes it to ConnectorBroker.release(), the connector is kept and leased to the next request for an identical
+ * connection.  This means the connector must tolerate start() being called by each caller that leases it and must
+ * not carry state from one caller to the next.  The connector broker disconnects a released connector when it has
+ * not been leased again within the pool's idle timeout.
+ */
+public interface ReusableConnector
+{
+}
@@ -0,0 +1,24 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MockCountingConnectorProvider creates MockConnectors and counts how many times it is instantiated.
+ * It is used to test the connector provider cache in the ConnectorBroker.
+ */
+public class MockCountingConnectorProvider extends ConnectorProviderBase
+{
+    static final AtomicInteger instanceCount = new AtomicInteger();
+
+    /**
+     * The constructor sets up the name of the connector class.
+     */
+    public MockCountingConnectorProvider()
+    {
+        super.setConnectorClassName(MockConnector.class.getName());
+
+        instanceCount.incrementAndGet();
+    }
+}
@@ -0,0 +1,41 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MockReusableConnector is a connector that can be pooled by the ConnectorBroker.  It counts how many
+ * instances are created and how many are disconnected.
+ */
+public class MockReusableConnector extends ConnectorBase implements ReusableConnector
+{
+    static final AtomicInteger instanceCount   = new AtomicInteger();
+    static final AtomicInteger disconnectCount = new AtomicInteger();
+
+    /**
+     * Default constructor
+     */
+    public MockReusableConnector()
+    {
+        super();
+
+        instanceCount.incrementAndGet();
+    }
+
+
+    /**
+     * Count the disconnect requests.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        super.disconnect();
+
+        disconnectCount.incrementAndGet();
+    }
+}
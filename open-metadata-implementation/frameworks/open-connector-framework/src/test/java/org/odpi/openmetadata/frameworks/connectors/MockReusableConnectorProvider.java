@@ -0,0 +1,18 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors;
+
+/**
+ * MockReusableConnectorProvider creates MockReusableConnectors.  It is used to test the connector pool
+ * in the ConnectorBroker.
+ */
+public class MockReusableConnectorProvider extends ConnectorProviderBase
+{
+    /**
+     * The constructor sets up the name of the connector class.
+     */
+    public MockReusableConnectorProvider()
+    {
+        super.setConnectorClassName(MockReusableConnector.class.getName());
+    }
+}
@@ -9,6 +9,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -594,4 +595,154 @@ public class TestConnectorBroker
     {
         assertTrue(new ConnectorBroker().toString().contains("ConnectorBroker"));
     }
+
+
+    /**
+     * Return a connection for the requested connector provider.
+     *
+     * @param connectorProviderClassName class name of the connector provider
+     * @param qualifiedName unique name of the connection
+     * @return connection
+     */
+    private Connection getTestConnection(String connectorProviderClassName, String qualifiedName)
+    {
+        ConnectorType testConnType = new ConnectorType();
+
+        testConnType.setQualifiedName("Test.ConnectorType");
+        testConnType.setConnectorProviderClassName(connectorProviderClassName);
+
+        Connection testConnection = new Connection();
+
+        testConnection.setQualifiedName(qualifiedName);
+        testConnection.setConnectorType(testConnType);
+
+        return testConnection;
+    }
+
+
+    /**
+     * Validate that the connector provider is only created once by a connector broker.
+     */
+    @Test public void testConnectorProviderCache() throws Exception
+    {
+        ConnectorBroker cb = new ConnectorBroker();
+
+        MockCountingConnectorProvider.instanceCount.set(0);
+
+        Connector firstConnector = cb.getConnector(getTestConnection(MockCountingConnectorProvider.class.getName(), "Test.Connection"));
+
+        for (int request = 1; request < 10; request++)
+        {
+            Connector connector = cb.getConnector(getTestConnection(MockCountingConnectorProvider.class.getName(), "Test.Connection"));
+
+            assertTrue(connector instanceof MockConnector);
+            assertTrue(connector != firstConnector);
+        }
+
+        assertEquals(MockCountingConnectorProvider.instanceCount.get(), 1);
+        assertEquals(cb.getProviderCacheMissCount(), 1L);
+        assertEquals(cb.getProviderCacheHitCount(), 19L);
+        assertEquals(cb.getConnectorPoolHitCount(), 0L);
+
+        new ConnectorBroker().getConnector(getTestConnection(MockCountingConnectorProvider.class.getName(), "Test.Connection"));
+
+        assertEquals(MockCountingConnectorProvider.instanceCount.get(), 2, "Connector providers are not shared between brokers");
+    }
+
+
+    /**
+     * Validate that a released reusable connector is leased to the next request for the same connection
+     * and that connectors that are not reusable are not pooled.
+     */
+    @Test public void testConnectorPool() throws Exception
+    {
+        ConnectorBroker cb = new ConnectorBroker(null, 60000);
+
+        MockReusableConnector.instanceCount.set(0);
+        MockReusableConnector.disconnectCount.set(0);
+
+        Connector firstConnector  = cb.getConnector(getTestConnection(MockReusableConnectorProvider.class.getName(), "Test.Connection"));
+        Connector secondConnector = cb.getConnector(getTestConnection(MockReusableConnectorProvider.class.getName(), "Test.Connection"));
+
+        assertTrue(secondConnector != firstConnector, "A leased connector is not given to another caller");
+        assertEquals(cb.getLeasedConnectorCount(), 2);
+        assertEquals(cb.getPooledConnectorCount(), 0);
+
+        cb.release(firstConnector);
+
+        assertEquals(cb.getLeasedConnectorCount(), 1);
+        assertEquals(cb.getPooledConnectorCount(), 1);
+        assertTrue(cb.getConnector(getTestConnection(MockReusableConnectorProvider.class.getName(), "Test.Connection")) == firstConnector);
+        assertTrue(cb.getConnector(getTestConnection(MockReusableConnectorProvider.class.getName(), "Other.Connection")) != firstConnector);
+
+        assertEquals(MockReusableConnector.instanceCount.get(), 3);
+        assertEquals(MockReusableConnector.disconnectCount.get(), 0);
+        assertEquals(cb.getConnectorPoolHitCount(), 1L);
+        assertEquals(cb.getConnectorPoolMissCount(), 3L);
+
+        Connector connector = cb.getConnector(getTestConnection(MockConnectorProvider.class.getName(), "Test.Connection"));
+
+        cb.release(connector);
+
+        assertTrue(cb.getConnector(getTestConnection(MockConnectorProvider.class.getName(), "Test.Connection")) != connector);
+        assertEquals(cb.getPooledConnectorCount(), 0, "Connectors that are not reusable are not pooled");
+    }
+
+
+    /**
+     * Validate that released connectors are disconnected when they are idle and leased connectors are not.
+     */
+    @Test public void testConnectorPoolEviction() throws Exception
+    {
+        ConnectorBroker cb = new ConnectorBroker(null, 50);
+
+        MockReusableConnector.instanceCount.set(0);
+        MockReusableConnector.disconnectCount.set(0);
+
+        Connector firstConnector  = cb.getConnector(getTestConnection(MockReusableConnectorProvider.class.getName(), "Test.Connection"));
+        Connector secondConnector = cb.getConnector(getTestConnection(MockReusableConnectorProvider.class.getName(), "Test.Connection"));
+
+        cb.release(firstConnector);
+
+        Thread.sleep(100);
+        cb.evictIdleConnectors();
+
+        assertEquals(MockReusableConnector.disconnectCount.get(), 1, "Only the released connector is disconnected");
+        assertEquals(cb.getEvictedConnectorCount(), 1L);
+        assertEquals(cb.getPooledConnectorCount(), 0);
+        assertEquals(cb.getLeasedConnectorCount(), 1);
+
+        cb.release(secondConnector);
+
+        assertTrue(cb.getConnector(getTestConnection(MockReusableConnectorProvider.class.getName(), "Test.Connection")) == secondConnector,
+                   "The idle time is measured from the last release");
+
+        cb.release(secondConnector);
+        cb.disconnectPooledConnectors();
+
+        assertEquals(MockReusableConnector.instanceCount.get(), 2);
+        assertEquals(MockReusableConnector.disconnectCount.get(), 2);
+        assertEquals(cb.getPooledConnectorCount(), 0);
+    }
+
+
+    /**
+     * Validate that a connector broker without a connector pool creates a new connector each time and
+     * disconnects released connectors.
+     */
+    @Test public void testNoConnectorPool() throws Exception
+    {
+        ConnectorBroker cb = new ConnectorBroker();
+
+        MockReusableConnector.disconnectCount.set(0);
+
+        Connector connector = cb.getConnector(getTestConnection(MockReusableConnectorProvider.class.getName(), "Test.Connection"));
+
+        cb.release(connector);
+
+        assertTrue(cb.getConnector(getTestConnection(MockReusableConnectorProvider.class.getName(), "Test.Connection")) != connector);
+        assertEquals(MockReusableConnector.disconnectCount.get(), 1);
+        assertEquals(cb.getPooledConnectorCount(), 0);
+        assertEquals(cb.getConnectorPoolMissCount(), 0L);
+    }
 }
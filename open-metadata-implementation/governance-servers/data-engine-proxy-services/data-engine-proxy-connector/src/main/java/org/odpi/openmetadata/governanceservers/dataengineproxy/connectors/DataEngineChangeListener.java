@@ -0,0 +1,16 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.dataengineproxy.connectors;
+
+/**
+ * Implemented by the component that retrieves changes from a Data Engine Connector so that connectors that are able
+ * to detect changes in the data engine can ask for them to be retrieved straight away rather than at the next poll.
+ */
+public interface DataEngineChangeListener {
+
+    /**
+     * Called by the Data Engine Connector when the data engine has changes waiting to be retrieved.
+     */
+    void changesAvailable();
+
+}
@@ -22,11 +22,34 @@ public abstract class DataEngineConnectorBase extends ConnectorBase implements D
 
     private static final Logger log = LoggerFactory.getLogger(DataEngineConnectorBase.class);
 
+    private volatile DataEngineChangeListener changeListener = null;
+
     /**
      * Default constructor
      */
     public DataEngineConnectorBase() { super(); }
 
+    /**
+     * Register the component that retrieves the changes from this connector.  It is called by notifyChanges().
+     *
+     * @param changeListener listener for change notifications
+     */
+    public void setChangeListener(DataEngineChangeListener changeListener) { this.changeListener = changeListener; }
+
+    /**
+     * Called by connectors that are able to detect changes in the data engine to request that the changes are
+     * retrieved straight away.  Connectors that do not require polling must call this method for their changes
+     * to be retrieved.
+     */
+    protected void notifyChanges() {
+        DataEngineChangeListener listener = changeListener;
+        if (listener != null) {
+            listener.changesAvailable();
+        } else {
+            log.debug("DataEngineConnectorBase::notifyChanges() called before a change listener was registered.");
+        }
+    }
+
     /**
      * Indicates whether the data engine requires polling (true) or is capable of notifying of changes on its own
      * (false).
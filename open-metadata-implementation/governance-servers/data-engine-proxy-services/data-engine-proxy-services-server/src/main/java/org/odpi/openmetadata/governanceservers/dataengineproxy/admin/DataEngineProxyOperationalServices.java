@@ -102,22 +102,18 @@ public class DataEngineProxyOperationalServices {
                 ConnectorBroker connectorBroker = new ConnectorBroker();
                 dataEngineConnector = (DataEngineConnectorBase) connectorBroker.getConnector(dataEngineConnection);
                 dataEngineConnector.start();
-                // If the config says we should poll for changes, do so via a new thread
-                if (dataEngineConnector.requiresPolling()) {
-                    changePoller = new DataEngineProxyChangePoller(
-                            dataEngineConnector,
-                            localServerUserId,
-                            dataEngineProxyConfig,
-                            dataEngineClient,
-                            auditLog
-                    );
-                    changePoller.start();
-                }
-                // TODO: otherwise we likely need to look for and process events
+                // Retrieve changes via a new thread: connectors that require polling are polled, and the others
+                // notify the poller when they have changes
+                changePoller = new DataEngineProxyChangePoller(
+                        dataEngineConnector,
+                        localServerUserId,
+                        dataEngineProxyConfig,
+                        dataEngineClient,
+                        auditLog
+                );
+                changePoller.start();
             } catch (ConnectionCheckedException | ConnectorCheckedException e) {
                 this.auditLog.logException(methodName, DataEngineProxyAuditCode.ERROR_INITIALIZING_CONNECTION.getMessageDefinition(), e);
-            } finally {
-                changePoller.stop();
             }
         }
 
@@ -8,6 +8,7 @@ import org.odpi.openmetadata.accessservices.dataengine.model.Process;
 import org.odpi.openmetadata.adminservices.configuration.properties.DataEngineProxyConfig;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.*;
 import org.odpi.openmetadata.governanceservers.dataengineproxy.auditlog.DataEngineProxyAuditCode;
+import org.odpi.openmetadata.governanceservers.dataengineproxy.connectors.DataEngineChangeListener;
 import org.odpi.openmetadata.governanceservers.dataengineproxy.connectors.DataEngineConnectorBase;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.slf4j.Logger;
@@ -15,31 +16,56 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Class to handle periodically polling a Data Engine for changes, for those data engines that do not
- * provide any event-based mechanism to notify on changes.
+ * Class to handle retrieving changes from a Data Engine and sending them to the Data Engine OMAS.
+ *
+ * For data engines that do not provide any event-based mechanism to notify on changes, the poller polls
+ * periodically.  The interval between polls is halved after a poll that finds changes and doubled after a poll
+ * that finds none, within the minimum and maximum intervals in the configuration.  Connectors that can detect
+ * changes call notifyChanges() on the connector base, which wakes the poller straight away.
+ *
+ * The different types of change are retrieved from the connector in parallel and then sent to the Data Engine OMAS
+ * in the order the OMAS needs them, in bulk where the client supports it.
  */
-public class DataEngineProxyChangePoller implements Runnable {
+public class DataEngineProxyChangePoller implements Runnable, DataEngineChangeListener {
 
     private static final Logger log = LoggerFactory.getLogger(DataEngineProxyChangePoller.class);
 
+    private static final String THREAD_NAME = "DataEngineProxyChangePoller";
+
     private OMRSAuditLog auditLog;
     private DataEngineProxyConfig dataEngineProxyConfig;
     private DataEngineImpl dataEngineOMASClient;
     private DataEngineConnectorBase connector;
     private String userId;
 
+    private final long minPollInterval;
+    private final long maxPollInterval;
+    private volatile long pollInterval;
+
+    private final ExecutorService changeRetrievalExecutor;
+    private final Semaphore changesAvailable = new Semaphore(0);
+
     private final AtomicBoolean running = new AtomicBoolean(false);
 
     public void start() {
-        Thread worker = new Thread(this);
+        running.set(true);
+        Thread worker = new Thread(this, THREAD_NAME);
         worker.start();
     }
 
     public void stop() {
         running.set(false);
+        changesAvailable.release();
     }
 
     /**
@@ -65,8 +91,24 @@ public class DataEngineProxyChangePoller implements Runnable {
         this.dataEngineOMASClient = dataEngineOMASClient;
         this.auditLog = auditLog;
 
+        long configuredInterval = TimeUnit.SECONDS.toMillis(Math.max(dataEngineProxyConfig.getPollIntervalInSeconds(), 1));
+        long configuredMinimum = TimeUnit.SECONDS.toMillis(dataEngineProxyConfig.getMinPollIntervalInSeconds());
+        long configuredMaximum = TimeUnit.SECONDS.toMillis(dataEngineProxyConfig.getMaxPollIntervalInSeconds());
+
+        this.pollInterval = configuredInterval;
+        this.minPollInterval = configuredMinimum > 0 ? Math.min(configuredMinimum, configuredInterval) : configuredInterval;
+        this.maxPollInterval = configuredMaximum > 0 ? Math.max(configuredMaximum, configuredInterval) : configuredInterval;
+
+        AtomicInteger threadCount = new AtomicInteger(0);
+        this.changeRetrievalExecutor = Executors.newFixedThreadPool(Math.max(dataEngineProxyConfig.getPollingThreads(), 1), runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME + ":" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
         // Retrieve the base information from the connector
         if (connector != null) {
+            connector.setChangeListener(this);
             try {
                 SoftwareServerCapability dataEngineDetails = connector.getDataEngineDetails();
                 dataEngineOMASClient.createExternalDataEngine(userId, dataEngineDetails);
@@ -80,6 +122,25 @@ public class DataEngineProxyChangePoller implements Runnable {
 
     }
 
+    /**
+     * Called by the connector when the data engine has changes waiting.  The poller wakes up and retrieves them.
+     */
+    @Override
+    public void changesAvailable() {
+        if (changesAvailable.availablePermits() == 0) {
+            changesAvailable.release();
+        }
+    }
+
+    /**
+     * Return the current interval between polls.
+     *
+     * @return milliseconds
+     */
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
     /**
      * Poll for Process changes.
      */
@@ -88,39 +149,115 @@ public class DataEngineProxyChangePoller implements Runnable {
 
         final String methodName = "ProcessPollThread::run";
 
-        running.set(true);
         while (running.get()) {
             try {
 
-                Date changesLastSynced = connector.getChangesLastSynced();
-                Date changesCutoff = new Date();
-
-                ensureSourceNameIsSet();
-
-                this.auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING.getMessageDefinition(changesLastSynced == null ? "(all changes)" : changesLastSynced.toString()));
-
-                // Send the changes, and ordering here is important
-                upsertSchemaTypes(changesLastSynced, changesCutoff);
-                upsertPortImplementations(changesLastSynced, changesCutoff);
-                upsertPortAliases(changesLastSynced, changesCutoff);
-                upsertProcesses(changesLastSynced, changesCutoff);
-                upsertLineageMappings(changesLastSynced, changesCutoff);
-
-                // Update the timestamp at which changes were last synced
-                connector.setChangesLastSynced(changesCutoff);
-
-                // Sleep for the poll interval before continuing with the next poll
-                Thread.sleep(dataEngineProxyConfig.getPollIntervalInSeconds() * 1000L);
+                pollForChanges();
 
             } catch (InvalidParameterException | PropertyServerException e) {
                 this.auditLog.logException(methodName, DataEngineProxyAuditCode.OMAS_CONNECTION_ERROR.getMessageDefinition(), e);
             } catch (UserNotAuthorizedException e) {
                 this.auditLog.logMessage(methodName, DataEngineProxyAuditCode.USER_NOT_AUTHORIZED.getMessageDefinition("send changes"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running.set(false);
             } catch (Exception e) {
                 this.auditLog.logException(methodName, DataEngineProxyAuditCode.UNKNOWN_ERROR.getMessageDefinition(), e);
             }
+
+            waitForChanges();
+        }
+
+        changeRetrievalExecutor.shutdownNow();
+    }
+
+    /**
+     * Retrieve the changes since the last successful poll and send them to the Data Engine OMAS.  The interval
+     * before the next poll is adjusted to the number of changes found.
+     *
+     * @return number of changes sent
+     * @throws InvalidParameterException the OMAS rejected a change
+     * @throws PropertyServerException the OMAS could not be reached
+     * @throws UserNotAuthorizedException the user is not authorized to send changes
+     * @throws InterruptedException the poller was interrupted while waiting for the connector
+     * @throws ExecutionException the connector failed to return a set of changes
+     */
+    int pollForChanges() throws
+            InvalidParameterException,
+            PropertyServerException,
+            UserNotAuthorizedException,
+            InterruptedException,
+            ExecutionException {
+
+        final String methodName = "pollForChanges";
+
+        // Any notifications received up to this point are covered by this poll
+        changesAvailable.drainPermits();
+
+        Date changesLastSynced = connector.getChangesLastSynced();
+        Date changesCutoff = new Date();
+
+        ensureSourceNameIsSet();
+
+        this.auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING.getMessageDefinition(changesLastSynced == null ? "(all changes)" : changesLastSynced.toString()));
+
+        // Retrieve each type of change in parallel
+        Future<List<SchemaType>> changedSchemaTypes = changeRetrievalExecutor.submit(() -> connector.getChangedSchemaTypes(changesLastSynced, changesCutoff));
+        Future<List<PortImplementation>> changedPortImplementations = changeRetrievalExecutor.submit(() -> connector.getChangedPortImplementations(changesLastSynced, changesCutoff));
+        Future<List<PortAlias>> changedPortAliases = changeRetrievalExecutor.submit(() -> connector.getChangedPortAliases(changesLastSynced, changesCutoff));
+        Future<List<Process>> changedProcesses = changeRetrievalExecutor.submit(() -> connector.getChangedProcesses(changesLastSynced, changesCutoff));
+        Future<List<LineageMapping>> changedLineageMappings = changeRetrievalExecutor.submit(() -> connector.getChangedLineageMappings(changesLastSynced, changesCutoff));
+
+        // Send the changes, and ordering here is important
+        int changeCount = upsertSchemaTypes(changedSchemaTypes.get());
+        changeCount += upsertPortImplementations(changedPortImplementations.get());
+        changeCount += upsertPortAliases(changedPortAliases.get());
+        changeCount += upsertProcesses(changedProcesses.get());
+        changeCount += upsertLineageMappings(changedLineageMappings.get());
+
+        // Update the timestamp at which changes were last synced
+        connector.setChangesLastSynced(changesCutoff);
+
+        adjustPollInterval(changeCount);
+
+        return changeCount;
+    }
+
+    /**
+     * Shorten the poll interval when changes are arriving and lengthen it when the data engine is quiet.
+     *
+     * @param changeCount number of changes found by the last poll
+     */
+    private void adjustPollInterval(int changeCount) {
+        long previousInterval = pollInterval;
+        if (changeCount > 0) {
+            pollInterval = Math.max(minPollInterval, pollInterval / 2);
+        } else {
+            pollInterval = Math.min(maxPollInterval, pollInterval * 2);
+        }
+        if (pollInterval != previousInterval) {
+            log.debug(" ... found {} changes; poll interval is now {} ms.", changeCount, pollInterval);
         }
+    }
 
+    /**
+     * Wait until the poll interval has passed or the connector reports changes.  Connectors that do not require
+     * polling are only polled when they report changes.
+     */
+    private void waitForChanges() {
+        if (!running.get()) {
+            return;
+        }
+        try {
+            if (connector.requiresPolling()) {
+                changesAvailable.tryAcquire(pollInterval, TimeUnit.MILLISECONDS);
+            } else {
+                changesAvailable.acquire();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running.set(false);
+        }
     }
 
     private void ensureSourceNameIsSet() {
@@ -129,78 +266,75 @@ public class DataEngineProxyChangePoller implements Runnable {
         }
     }
 
-    private void upsertSchemaTypes(Date changesLastSynced,
-                                   Date changesCutoff) throws
+    private int upsertSchemaTypes(List<SchemaType> changedSchemaTypes) throws
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException {
-        log.info(" ... getting changed schema types.");
-        List<SchemaType> changedSchemaTypes = connector.getChangedSchemaTypes(changesLastSynced, changesCutoff);
-
-        if (changedSchemaTypes != null) {
-            for (SchemaType changedSchemaType : changedSchemaTypes) {
-                dataEngineOMASClient.createOrUpdateSchemaType(userId, changedSchemaType);
-            }
-            log.info(" ... completing schema type changes.");
+        if (changedSchemaTypes == null || changedSchemaTypes.isEmpty()) {
+            return 0;
         }
+        log.info(" ... sending {} changed schema types.", changedSchemaTypes.size());
+        for (SchemaType changedSchemaType : changedSchemaTypes) {
+            dataEngineOMASClient.createOrUpdateSchemaType(userId, changedSchemaType);
+        }
+        log.info(" ... completing schema type changes.");
+        return changedSchemaTypes.size();
     }
 
-    private void upsertPortImplementations(Date changesLastSynced,
-                                           Date changesCutoff) throws
+    private int upsertPortImplementations(List<PortImplementation> changedPortImplementations) throws
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException {
-        log.info(" ... getting changed port implementations.");
-        List<PortImplementation> changedPortImplementations = connector.getChangedPortImplementations(changesLastSynced, changesCutoff);
-        if (changedPortImplementations != null) {
-            for (PortImplementation changedPortImplementation : changedPortImplementations) {
-                dataEngineOMASClient.createOrUpdatePortImplementation(userId, changedPortImplementation);
-            }
-            log.info(" ... completing port implementation changes.");
+        if (changedPortImplementations == null || changedPortImplementations.isEmpty()) {
+            return 0;
         }
+        log.info(" ... sending {} changed port implementations.", changedPortImplementations.size());
+        for (PortImplementation changedPortImplementation : changedPortImplementations) {
+            dataEngineOMASClient.createOrUpdatePortImplementation(userId, changedPortImplementation);
+        }
+        log.info(" ... completing port implementation changes.");
+        return changedPortImplementations.size();
     }
 
-    private void upsertPortAliases(Date changesLastSynced,
-                                   Date changesCutoff) throws
+    private int upsertPortAliases(List<PortAlias> changedPortAliases) throws
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException {
-        log.info(" ... getting changed port aliases.");
-        List<PortAlias> changedPortAliases = connector.getChangedPortAliases(changesLastSynced, changesCutoff);
-        if (changedPortAliases != null) {
-            for (PortAlias changedPortAlias : changedPortAliases) {
-                dataEngineOMASClient.createOrUpdatePortAlias(userId, changedPortAlias);
-            }
-            log.info(" ... completing port alias changes.");
+        if (changedPortAliases == null || changedPortAliases.isEmpty()) {
+            return 0;
         }
+        log.info(" ... sending {} changed port aliases.", changedPortAliases.size());
+        for (PortAlias changedPortAlias : changedPortAliases) {
+            dataEngineOMASClient.createOrUpdatePortAlias(userId, changedPortAlias);
+        }
+        log.info(" ... completing port alias changes.");
+        return changedPortAliases.size();
     }
 
-    private void upsertProcesses(Date changesLastSynced,
-                                 Date changesCutoff) throws
+    private int upsertProcesses(List<Process> changedProcesses) throws
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException {
-        log.info(" ... getting changed processes.");
-        List<Process> changedProcesses = connector.getChangedProcesses(changesLastSynced, changesCutoff);
-        if (changedProcesses != null) {
-            for (Process changedProcess : changedProcesses) {
-                dataEngineOMASClient.createOrUpdateProcess(userId, changedProcess);
-            }
-            log.info(" ... completing process changes.");
+        if (changedProcesses == null || changedProcesses.isEmpty()) {
+            return 0;
         }
+        log.info(" ... sending {} changed processes.", changedProcesses.size());
+        dataEngineOMASClient.createOrUpdateProcesses(userId, changedProcesses);
+        log.info(" ... completing process changes.");
+        return changedProcesses.size();
     }
 
-    private void upsertLineageMappings(Date changesLastSynced,
-                                       Date changesCutoff) throws
+    private int upsertLineageMappings(List<LineageMapping> changedLineageMappings) throws
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException {
-        log.info(" ... getting changed lineage mappings.");
-        List<LineageMapping> changedLineageMappings = connector.getChangedLineageMappings(changesLastSynced, changesCutoff);
-        if (changedLineageMappings != null) {
-            dataEngineOMASClient.addLineageMappings(userId, changedLineageMappings);
-            log.info(" ... completing lineage mapping changes.");
+        if (changedLineageMappings == null || changedLineageMappings.isEmpty()) {
+            return 0;
         }
+        log.info(" ... sending {} changed lineage mappings.", changedLineageMappings.size());
+        dataEngineOMASClient.addLineageMappings(userId, changedLineageMappings);
+        log.info(" ... completing lineage mapping changes.");
+        return changedLineageMappings.size();
     }
 
 }
@@ -0,0 +1,303 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.dataengineproxy.processor;
+
+import org.odpi.openmetadata.accessservices.dataengine.client.DataEngineImpl;
+import org.odpi.openmetadata.accessservices.dataengine.model.LineageMapping;
+import org.odpi.openmetadata.accessservices.dataengine.model.PortAlias;
+import org.odpi.openmetadata.accessservices.dataengine.model.PortImplementation;
+import org.odpi.openmetadata.accessservices.dataengine.model.Process;
+import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
+import org.odpi.openmetadata.accessservices.dataengine.model.SoftwareServerCapability;
+import org.odpi.openmetadata.adminservices.configuration.properties.DataEngineProxyConfig;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.governanceservers.dataengineproxy.connectors.DataEngineConnectorBase;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests DataEngineProxyChangePoller with a connector that scripts bursts of changes and a client that records
+ * what is sent to the Data Engine OMAS.
+ */
+public class DataEngineProxyChangePollerTest {
+
+    private static final String USER_ID = "testUser";
+
+    @Test
+    public void testChangesAreRetrievedInParallel() throws Exception {
+        ScriptedConnector connector = new ScriptedConnector(true);
+        connector.retrievalBarrier = new CountDownLatch(5);
+        connector.schemaTypes.add(Collections.singletonList(new SchemaType()));
+        connector.portImplementations.add(Collections.singletonList(new PortImplementation()));
+        connector.portAliases.add(Collections.singletonList(new PortAlias()));
+        connector.processes.add(Collections.singletonList(new Process()));
+        connector.lineageMappings.add(Collections.singletonList(new LineageMapping()));
+
+        RecordingClient client = new RecordingClient();
+        DataEngineProxyChangePoller poller = new DataEngineProxyChangePoller(connector, USER_ID, getConfig(60, 0, 0), client, getAuditLog());
+
+        assertEquals(poller.pollForChanges(), 5);
+        assertTrue(connector.retrievedInParallel, "Each type of change should be retrieved on its own thread");
+        assertEquals(client.calls, Arrays.asList("createOrUpdateSchemaType",
+                                                 "createOrUpdatePortImplementation",
+                                                 "createOrUpdatePortAlias",
+                                                 "createOrUpdateProcesses:1",
+                                                 "addLineageMappings:1"));
+    }
+
+    @Test
+    public void testProcessesAreSentInBulk() throws Exception {
+        ScriptedConnector connector = new ScriptedConnector(true);
+        connector.processes.add(Arrays.asList(new Process(), new Process(), new Process()));
+
+        RecordingClient client = new RecordingClient();
+        DataEngineProxyChangePoller poller = new DataEngineProxyChangePoller(connector, USER_ID, getConfig(60, 0, 0), client, getAuditLog());
+
+        assertEquals(poller.pollForChanges(), 3);
+        assertEquals(client.calls, Collections.singletonList("createOrUpdateProcesses:3"));
+
+        assertEquals(poller.pollForChanges(), 0);
+        assertEquals(client.calls.size(), 1, "Nothing is sent when there are no changes");
+    }
+
+    @Test
+    public void testPollIntervalFollowsChangeRate() throws Exception {
+        ScriptedConnector connector = new ScriptedConnector(true);
+        RecordingClient client = new RecordingClient();
+        DataEngineProxyChangePoller poller = new DataEngineProxyChangePoller(connector, USER_ID, getConfig(60, 10, 240), client, getAuditLog());
+
+        assertEquals(poller.getPollInterval(), 60000L);
+
+        // A burst of changes shortens the interval down to the minimum
+        for (int burst = 0; burst < 3; burst++) {
+            connector.processes.add(Collections.singletonList(new Process()));
+        }
+        poller.pollForChanges();
+        assertEquals(poller.getPollInterval(), 30000L);
+        poller.pollForChanges();
+        assertEquals(poller.getPollInterval(), 15000L);
+        poller.pollForChanges();
+        assertEquals(poller.getPollInterval(), 10000L);
+
+        // Quiet polls lengthen the interval up to the maximum
+        poller.pollForChanges();
+        assertEquals(poller.getPollInterval(), 20000L);
+        for (int poll = 0; poll < 5; poll++) {
+            poller.pollForChanges();
+        }
+        assertEquals(poller.getPollInterval(), 240000L);
+    }
+
+    @Test
+    public void testFixedIntervalWithoutBounds() throws Exception {
+        ScriptedConnector connector = new ScriptedConnector(true);
+        connector.processes.add(Collections.singletonList(new Process()));
+        RecordingClient client = new RecordingClient();
+        DataEngineProxyChangePoller poller = new DataEngineProxyChangePoller(connector, USER_ID, getConfig(60, 0, 0), client, getAuditLog());
+
+        poller.pollForChanges();
+        assertEquals(poller.getPollInterval(), 60000L);
+        poller.pollForChanges();
+        assertEquals(poller.getPollInterval(), 60000L);
+    }
+
+    @Test
+    public void testNotificationTriggersPoll() throws Exception {
+        ScriptedConnector connector = new ScriptedConnector(false);
+        RecordingClient client = new RecordingClient();
+        DataEngineProxyChangePoller poller = new DataEngineProxyChangePoller(connector, USER_ID, getConfig(3600, 0, 0), client, getAuditLog());
+
+        poller.start();
+        try {
+            assertTrue(connector.awaitPolls(1), "The poller should retrieve changes when it starts");
+
+            connector.processes.add(Arrays.asList(new Process(), new Process()));
+            connector.notifyChanges();
+
+            assertTrue(connector.awaitPolls(2), "A notification should wake the poller");
+            assertEquals(client.calls, Collections.singletonList("createOrUpdateProcesses:2"));
+        } finally {
+            poller.stop();
+        }
+    }
+
+    private DataEngineProxyConfig getConfig(int pollInterval, int minPollInterval, int maxPollInterval) {
+        DataEngineProxyConfig config = new DataEngineProxyConfig();
+        config.setPollIntervalInSeconds(pollInterval);
+        config.setMinPollIntervalInSeconds(minPollInterval);
+        config.setMaxPollIntervalInSeconds(maxPollInterval);
+        return config;
+    }
+
+    private OMRSAuditLog getAuditLog() {
+        OMRSAuditLogDestination destination = new OMRSAuditLogDestination("TestServer", "TestServerType", "TestOrg", new ArrayList<>());
+        return new OMRSAuditLog(destination, 0, "DataEngineProxyChangePollerTest", "Test", null);
+    }
+
+    /**
+     * Data Engine Connector that returns scripted bursts of changes, one burst per poll.
+     */
+    private static class ScriptedConnector extends DataEngineConnectorBase {
+
+        private final boolean requiresPolling;
+        private final Queue<List<SchemaType>> schemaTypes = new ConcurrentLinkedQueue<>();
+        private final Queue<List<PortImplementation>> portImplementations = new ConcurrentLinkedQueue<>();
+        private final Queue<List<PortAlias>> portAliases = new ConcurrentLinkedQueue<>();
+        private final Queue<List<Process>> processes = new ConcurrentLinkedQueue<>();
+        private final Queue<List<LineageMapping>> lineageMappings = new ConcurrentLinkedQueue<>();
+        private final List<CountDownLatch> pollLatches = Arrays.asList(new CountDownLatch(1), new CountDownLatch(2));
+
+        private volatile CountDownLatch retrievalBarrier = null;
+        private volatile boolean retrievedInParallel = false;
+        private volatile Date changesLastSynced = null;
+
+        ScriptedConnector(boolean requiresPolling) {
+            this.requiresPolling = requiresPolling;
+        }
+
+        @Override
+        public void notifyChanges() {
+            super.notifyChanges();
+        }
+
+        boolean awaitPolls(int polls) throws InterruptedException {
+            return pollLatches.get(polls - 1).await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public SoftwareServerCapability getDataEngineDetails() {
+            SoftwareServerCapability details = new SoftwareServerCapability();
+            details.setQualifiedName("TestDataEngine");
+            return details;
+        }
+
+        @Override
+        public boolean requiresPolling() {
+            return requiresPolling;
+        }
+
+        @Override
+        public Date getChangesLastSynced() {
+            return changesLastSynced;
+        }
+
+        @Override
+        public void setChangesLastSynced(Date time) {
+            changesLastSynced = time;
+            for (CountDownLatch pollLatch : pollLatches) {
+                pollLatch.countDown();
+            }
+        }
+
+        @Override
+        public List<SchemaType> getChangedSchemaTypes(Date from, Date to) {
+            return nextBurst(schemaTypes);
+        }
+
+        @Override
+        public List<PortImplementation> getChangedPortImplementations(Date from, Date to) {
+            return nextBurst(portImplementations);
+        }
+
+        @Override
+        public List<PortAlias> getChangedPortAliases(Date from, Date to) {
+            return nextBurst(portAliases);
+        }
+
+        @Override
+        public List<Process> getChangedProcesses(Date from, Date to) {
+            return nextBurst(processes);
+        }
+
+        @Override
+        public List<LineageMapping> getChangedLineageMappings(Date from, Date to) {
+            return nextBurst(lineageMappings);
+        }
+
+        /**
+         * Return the next scripted burst.  When a barrier is set, wait until every type of change is being
+         * retrieved at the same time.
+         */
+        private <T> List<T> nextBurst(Queue<List<T>> bursts) {
+            CountDownLatch barrier = retrievalBarrier;
+            if (barrier != null) {
+                barrier.countDown();
+                try {
+                    retrievedInParallel = barrier.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            List<T> burst = bursts.poll();
+            return burst == null ? Collections.emptyList() : burst;
+        }
+    }
+
+    /**
+     * Data Engine OMAS client that records the calls rather than sending them.
+     */
+    private static class RecordingClient extends DataEngineImpl {
+
+        private final List<String> calls = new CopyOnWriteArrayList<>();
+
+        RecordingClient() throws InvalidParameterException {
+            super("TestServer", "https://localhost:9443");
+        }
+
+        @Override
+        public String createExternalDataEngine(String userId, SoftwareServerCapability softwareServerCapability) {
+            setExternalSourceName(softwareServerCapability.getQualifiedName());
+            return "dataEngineGUID";
+        }
+
+        @Override
+        public String createOrUpdateSchemaType(String userId, SchemaType schemaType) {
+            calls.add("createOrUpdateSchemaType");
+            return "schemaTypeGUID";
+        }
+
+        @Override
+        public String createOrUpdatePortImplementation(String userId, PortImplementation portImplementation) {
+            calls.add("createOrUpdatePortImplementation");
+            return "portImplementationGUID";
+        }
+
+        @Override
+        public String createOrUpdatePortAlias(String userId, PortAlias portAlias) {
+            calls.add("createOrUpdatePortAlias");
+            return "portAliasGUID";
+        }
+
+        @Override
+        public String createOrUpdateProcess(String userId, Process process) {
+            calls.add("createOrUpdateProcess");
+            return "processGUID";
+        }
+
+        @Override
+        public List<String> createOrUpdateProcesses(String userId, List<Process> processes) {
+            calls.add("createOrUpdateProcesses:" + processes.size());
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void addLineageMappings(String userId, List<LineageMapping> lineageMappings) {
+            calls.add("addLineageMappings:" + lineageMappings.size());
+        }
+    }
+}
@@ -636,6 +636,7 @@ public class DiscoveryEngineHandler
         private DiscoveryService            nextDiscoveryService;
         private DiscoveryServiceProperties  properties;
         private Map<String, String>         defaultAnalysisParameters;
+        private ConnectorBroker             connectorBroker = new ConnectorBroker();
 
 
         /**
@@ -720,8 +721,6 @@ public class DiscoveryEngineHandler
 
             try
             {
-                ConnectorBroker  connectorBroker = new ConnectorBroker();
-
                 nextDiscoveryService = (DiscoveryService)connectorBroker.getConnector(properties.getConnection());
             }
             catch (ConnectionCheckedException  error)
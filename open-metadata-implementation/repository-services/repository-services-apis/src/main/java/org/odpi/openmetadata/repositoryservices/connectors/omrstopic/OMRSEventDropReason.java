@@ -0,0 +1,77 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+/**
+ * OMRSEventDropReason describes why an incoming event was discarded by the OMRSTopicConnector
+ * before it was fully parsed.  It is returned by an OMRSTopicEventFilter and used to count
+ * the events that are dropped.
+ */
+public enum OMRSEventDropReason
+{
+    LOCAL_ORIGINATOR       (0, "LocalOriginator",
+                               "The event was sent by the local server."),
+    CATEGORY_NOT_EXCHANGED (1, "CategoryNotExchanged",
+                               "The exchange rule does not process this category of event."),
+    TYPE_NOT_EXCHANGED     (2, "TypeNotExchanged",
+                               "The exchange rule does not process instances of this type.");
+
+    private int    ordinal;
+    private String name;
+    private String description;
+
+
+    /**
+     * Constructor to set up a single instance of the enum.
+     *
+     * @param ordinal numerical representation of the drop reason
+     * @param name default string name of the drop reason
+     * @param description default string description of the drop reason
+     */
+    OMRSEventDropReason(int ordinal, String name, String description)
+    {
+        this.ordinal = ordinal;
+        this.name = name;
+        this.description = description;
+    }
+
+
+    /**
+     * Return the numeric representation of the drop reason.
+     *
+     * @return int ordinal
+     */
+    public int getOrdinal() { return ordinal; }
+
+
+    /**
+     * Return the default name of the drop reason.
+     *
+     * @return String name
+     */
+    public String getName() { return name; }
+
+
+    /**
+     * Return the default description of the drop reason.
+     *
+     * @return String description
+     */
+    public String getDescription() { return description; }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSEventDropReason{" +
+                "ordinal=" + ordinal +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}
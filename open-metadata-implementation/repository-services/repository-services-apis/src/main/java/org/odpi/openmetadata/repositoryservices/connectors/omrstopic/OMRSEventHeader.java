@@ -0,0 +1,287 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+
+import java.io.IOException;
+
+
+/**
+ * OMRSEventHeader holds the fields of an incoming OMRS event that are needed to decide whether the event
+ * should be processed.  It is extracted from the JSON payload with a streaming parser that skips over
+ * the rest of the event (such as the entities and relationships in an instance event) without binding it.
+ */
+public class OMRSEventHeader
+{
+    private static final String EVENT_CLASS_PROPERTY         = "class";
+    private static final String ORIGINATOR_PROPERTY          = "originator";
+    private static final String METADATA_COLLECTION_PROPERTY = "metadataCollectionId";
+    private static final String EVENT_CATEGORY_PROPERTY      = "eventCategory";
+    private static final String INSTANCE_SECTION_PROPERTY    = "instanceEventSection";
+    private static final String EVENT_TYPE_PROPERTY          = "eventType";
+    private static final String TYPEDEF_GUID_PROPERTY        = "typeDefGUID";
+    private static final String TYPEDEF_NAME_PROPERTY        = "typeDefName";
+    private static final String INSTANCE_GUID_PROPERTY       = "instanceGUID";
+
+    private String                eventClass                     = null;
+    private OMRSEventCategory     eventCategory                  = null;
+    private String                originatorMetadataCollectionId = null;
+    private OMRSInstanceEventType instanceEventType              = null;
+    private String                typeDefGUID                    = null;
+    private String                typeDefName                    = null;
+    private String                instanceGUID                   = null;
+
+
+    /**
+     * Default constructor used by the parser.
+     */
+    private OMRSEventHeader()
+    {
+    }
+
+
+    /**
+     * Extract the header fields from a JSON event.
+     *
+     * @param jsonFactory factory for the streaming parser
+     * @param event JSON event
+     * @return header or null if the event is not a JSON object
+     * @throws IOException the event is not valid JSON
+     */
+    static OMRSEventHeader parse(JsonFactory jsonFactory,
+                                 String      event) throws IOException
+    {
+        try (JsonParser parser = jsonFactory.createParser(event))
+        {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+            {
+                return null;
+            }
+
+            OMRSEventHeader header = new OMRSEventHeader();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.getCurrentName();
+
+                parser.nextToken();
+
+                if (EVENT_CLASS_PROPERTY.equals(fieldName))
+                {
+                    header.eventClass = parser.getValueAsString();
+                }
+                else if (EVENT_CATEGORY_PROPERTY.equals(fieldName))
+                {
+                    header.eventCategory = getEnumValue(OMRSEventCategory.class, parser.getValueAsString());
+                }
+                else if ((ORIGINATOR_PROPERTY.equals(fieldName)) && (parser.currentToken() == JsonToken.START_OBJECT))
+                {
+                    header.parseOriginator(parser);
+                }
+                else if ((INSTANCE_SECTION_PROPERTY.equals(fieldName)) && (parser.currentToken() == JsonToken.START_OBJECT))
+                {
+                    header.parseInstanceSection(parser);
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+            }
+
+            return header;
+        }
+    }
+
+
+    /**
+     * Extract the metadata collection id from the originator object.
+     *
+     * @param parser parser positioned at the start of the originator object
+     * @throws IOException the event is not valid JSON
+     */
+    private void parseOriginator(JsonParser parser) throws IOException
+    {
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.getCurrentName();
+
+            parser.nextToken();
+
+            if (METADATA_COLLECTION_PROPERTY.equals(fieldName))
+            {
+                originatorMetadataCollectionId = parser.getValueAsString();
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+    }
+
+
+    /**
+     * Extract the event type, type and instance identifiers from the instance section.  The instances
+     * in the section are skipped.
+     *
+     * @param parser parser positioned at the start of the instance section object
+     * @throws IOException the event is not valid JSON
+     */
+    private void parseInstanceSection(JsonParser parser) throws IOException
+    {
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.getCurrentName();
+
+            parser.nextToken();
+
+            if (EVENT_TYPE_PROPERTY.equals(fieldName))
+            {
+                instanceEventType = getEnumValue(OMRSInstanceEventType.class, parser.getValueAsString());
+            }
+            else if (TYPEDEF_GUID_PROPERTY.equals(fieldName))
+            {
+                typeDefGUID = parser.getValueAsString();
+            }
+            else if (TYPEDEF_NAME_PROPERTY.equals(fieldName))
+            {
+                typeDefName = parser.getValueAsString();
+            }
+            else if (INSTANCE_GUID_PROPERTY.equals(fieldName))
+            {
+                instanceGUID = parser.getValueAsString();
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+    }
+
+
+    /**
+     * Convert the serialized name of an enum into its value.
+     *
+     * @param enumClass class of the enum
+     * @param name serialized name
+     * @param <E> type of the enum
+     * @return enum value or null if the name is not known to this server
+     */
+    private static <E extends Enum<E>> E getEnumValue(Class<E> enumClass, String name)
+    {
+        if (name != null)
+        {
+            try
+            {
+                return Enum.valueOf(enumClass, name);
+            }
+            catch (IllegalArgumentException error)
+            {
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the name of the event bean class used to decode the event.
+     *
+     * @return class name
+     */
+    public String getEventClass()
+    {
+        return eventClass;
+    }
+
+
+    /**
+     * Return the category of the event.
+     *
+     * @return category enum or null if the category is not recognized
+     */
+    public OMRSEventCategory getEventCategory()
+    {
+        return eventCategory;
+    }
+
+
+    /**
+     * Return the metadata collection id of the server that sent the event.
+     *
+     * @return metadata collection id
+     */
+    public String getOriginatorMetadataCollectionId()
+    {
+        return originatorMetadataCollectionId;
+    }
+
+
+    /**
+     * Return the type of an instance event.
+     *
+     * @return instance event type or null if this is not an instance event
+     */
+    public OMRSInstanceEventType getInstanceEventType()
+    {
+        return instanceEventType;
+    }
+
+
+    /**
+     * Return the unique identifier of the type of the instance in an instance event.
+     *
+     * @return guid
+     */
+    public String getTypeDefGUID()
+    {
+        return typeDefGUID;
+    }
+
+
+    /**
+     * Return the unique name of the type of the instance in an instance event.
+     *
+     * @return name
+     */
+    public String getTypeDefName()
+    {
+        return typeDefName;
+    }
+
+
+    /**
+     * Return the unique identifier of the instance in an instance event.
+     *
+     * @return guid
+     */
+    public String getInstanceGUID()
+    {
+        return instanceGUID;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSEventHeader{" +
+                "eventClass='" + eventClass + '\'' +
+                ", eventCategory=" + eventCategory +
+                ", originatorMetadataCollectionId='" + originatorMetadataCollectionId + '\'' +
+                ", instanceEventType=" + instanceEventType +
+                ", typeDefGUID='" + typeDefGUID + '\'' +
+                ", typeDefName='" + typeDefName + '\'' +
+                ", instanceGUID='" + instanceGUID + '\'' +
+                '}';
+    }
+}
@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
@@ -25,7 +26,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -61,11 +67,25 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 {
     private static final Logger       log      = LoggerFactory.getLogger(OMRSTopicConnector.class);
 
+    /*
+     * The object mapper is thread safe once configured so it is shared by all events.
+     */
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JsonFactory  jsonFactory  = objectMapper.getFactory();
+
     private List<Connector> embeddedConnectors = null;
 
-    private List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
+    /*
+     * Listeners may register concurrently when a server initializes its access services in parallel.
+     */
+    private List<OMRSTopicListenerWrapper>   internalTopicListeners = new CopyOnWriteArrayList<>();
     private List<OpenMetadataTopicConnector> eventBusConnectors     = new ArrayList<>();
 
+    /*
+     * Counts of the inbound events that were discarded from their header without being parsed.
+     */
+    private final Map<OMRSEventDropReason, AtomicLong> droppedEventCounts = new EnumMap<>(OMRSEventDropReason.class);
+
     private String                    connectionName       = OMRSAuditingComponent.OMRS_TOPIC_CONNECTOR.getComponentName();
     private String                    topicName = "<Unknown>";
     private OMRSEventProtocolVersion  eventProtocolVersion = OMRSEventProtocolVersion.V1;
@@ -79,6 +99,11 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     public OMRSTopicConnector()
     {
         super();
+
+        for (OMRSEventDropReason dropReason : OMRSEventDropReason.values())
+        {
+            droppedEventCounts.put(dropReason, new AtomicLong());
+        }
     }
 
 
@@ -358,8 +383,6 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         {
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
                 for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors)
                 {
                     if (eventBusConnector != null)
@@ -397,9 +420,30 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Return the number of inbound events that have been discarded from their header, without being parsed,
+     * because none of the registered listeners needed them.
+     *
+     * @return map of drop reason to count
+     */
+    public Map<OMRSEventDropReason, Long> getDroppedEventCounts()
+    {
+        Map<OMRSEventDropReason, Long> counts = new EnumMap<>(OMRSEventDropReason.class);
+
+        for (Map.Entry<OMRSEventDropReason, AtomicLong> droppedEventCount : droppedEventCounts.entrySet())
+        {
+            counts.put(droppedEventCount.getKey(), droppedEventCount.getValue().get());
+        }
+
+        return Collections.unmodifiableMap(counts);
+    }
+
+
     /**
      * Receives events from the real topic, parses them into event objects and passes them on to
-     * the OMRSTopicListeners registered with this connector.
+     * the OMRSTopicListeners registered with this connector.  If any of the listeners are able to filter
+     * events, the header of the event is read first and the event is only parsed if at least one
+     * listener needs it.
      *
      * @param event inbound event
      */
@@ -410,6 +454,13 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         if (event != null)
         {
+            List<OMRSTopicListenerWrapper> eventListeners = this.getEventListeners(event);
+
+            if (eventListeners.isEmpty())
+            {
+                return;
+            }
+
             OMRSEventBean   eventBean = null;
 
             /*
@@ -417,8 +468,6 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
              */
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
                 eventBean = objectMapper.readValue(event, OMRSEventBean.class);
             }
             catch (Throwable   exception)
@@ -438,7 +487,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             if (eventBean instanceof OMRSEventV1)
             {
                 OMRSEventBean finalEventBean = eventBean;
-                internalTopicListeners.parallelStream().forEach((topicListener) ->
+                eventListeners.parallelStream().forEach((topicListener) ->
                 {
                     try
                     {
@@ -473,6 +522,69 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Work out which of the registered listeners need the event by reading its header.  If the header can not
+     * be read, the event is passed to all listeners so that the full parse can report the error.  If none of
+     * the listeners need the event, it is counted against the reason given by the first listener.
+     *
+     * @param event inbound event
+     * @return list of listeners that should receive the event
+     */
+    private List<OMRSTopicListenerWrapper> getEventListeners(String event)
+    {
+        List<OMRSTopicListenerWrapper> registeredListeners = internalTopicListeners;
+
+        if (registeredListeners.stream().noneMatch(OMRSTopicListenerWrapper::isEventFilter))
+        {
+            return registeredListeners;
+        }
+
+        OMRSEventHeader eventHeader;
+
+        try
+        {
+            eventHeader = OMRSEventHeader.parse(jsonFactory, event);
+        }
+        catch (Throwable exception)
+        {
+            log.debug("Unable to read event header: " + exception.getMessage());
+
+            return registeredListeners;
+        }
+
+        if (eventHeader == null)
+        {
+            return registeredListeners;
+        }
+
+        List<OMRSTopicListenerWrapper> eventListeners = new ArrayList<>();
+        OMRSEventDropReason            dropReason     = null;
+
+        for (OMRSTopicListenerWrapper topicListener : registeredListeners)
+        {
+            OMRSEventDropReason listenerDropReason = topicListener.filterEvent(eventHeader);
+
+            if (listenerDropReason == null)
+            {
+                eventListeners.add(topicListener);
+            }
+            else if (dropReason == null)
+            {
+                dropReason = listenerDropReason;
+            }
+        }
+
+        if ((eventListeners.isEmpty()) && (dropReason != null))
+        {
+            log.debug("Dropping event " + eventHeader + " because " + dropReason.getName());
+
+            droppedEventCounts.get(dropReason).incrementAndGet();
+        }
+
+        return eventListeners;
+    }
+
+
     /**
      * Process the OMRS Event bean.  The processing is careful of nulls and ignores an event
      * that is incorrectly formatted.  The assumption is that the unformatted part of the message
@@ -0,0 +1,20 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+/**
+ * OMRSTopicEventFilter is implemented by an OMRSTopicListener that is able to reject events from the
+ * header fields alone.  The OMRSTopicConnector calls the filter before it parses the rest of the event.
+ * If every listener rejects the event, it is discarded without being parsed.  A filter must only reject
+ * events that its listener would ignore.
+ */
+public interface OMRSTopicEventFilter
+{
+    /**
+     * Decide whether the listener needs the event described by the header.
+     *
+     * @param eventHeader header fields of the incoming event
+     * @return null if the event is needed, otherwise the reason it is not needed
+     */
+    OMRSEventDropReason filterEvent(OMRSEventHeader eventHeader);
+}
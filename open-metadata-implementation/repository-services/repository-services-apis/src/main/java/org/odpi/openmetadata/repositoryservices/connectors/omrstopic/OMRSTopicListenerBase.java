@@ -1918,7 +1918,8 @@ public class OMRSTopicListenerBase implements OMRSTopicListener
 
     /**
      * An open metadata repository is passing information about a collection of entities and relationships
-     * with the other repositories in the cohort.
+     * with the other repositories in the cohort.  By default, each instance is passed to the new instance
+     * method if it has never been updated, otherwise to the updated instance method with no previous version.
      *
      * @param sourceName name of the source of the event.  It may be the cohort name for incoming events or the
      *                   local repository, or event mapper name.
@@ -1937,6 +1938,63 @@ public class OMRSTopicListenerBase implements OMRSTopicListener
                                           InstanceGraph instances)
     {
         log.debug("Processing instance batch event from: " + sourceName);
+
+        if (instances == null)
+        {
+            return;
+        }
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if (entity.getUpdateTime() == null)
+                {
+                    this.processNewEntityEvent(sourceName,
+                                               originatorMetadataCollectionId,
+                                               originatorServerName,
+                                               originatorServerType,
+                                               originatorOrganizationName,
+                                               entity);
+                }
+                else
+                {
+                    this.processUpdatedEntityEvent(sourceName,
+                                                   originatorMetadataCollectionId,
+                                                   originatorServerName,
+                                                   originatorServerType,
+                                                   originatorOrganizationName,
+                                                   null,
+                                                   entity);
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if (relationship.getUpdateTime() == null)
+                {
+                    this.processNewRelationshipEvent(sourceName,
+                                                     originatorMetadataCollectionId,
+                                                     originatorServerName,
+                                                     originatorServerType,
+                                                     originatorOrganizationName,
+                                                     relationship);
+                }
+                else
+                {
+                    this.processUpdatedRelationshipEvent(sourceName,
+                                                         originatorMetadataCollectionId,
+                                                         originatorServerName,
+                                                         originatorServerType,
+                                                         originatorOrganizationName,
+                                                         null,
+                                                         relationship);
+                }
+            }
+        }
     }
 
 
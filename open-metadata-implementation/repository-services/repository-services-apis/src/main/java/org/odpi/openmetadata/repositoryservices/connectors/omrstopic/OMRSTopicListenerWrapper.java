@@ -152,4 +152,42 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
 
         Thread.currentThread().setName(currentThreadName);
     }
+
+
+    /**
+     * Return whether the real listener is able to reject events from their header.
+     *
+     * @return boolean flag
+     */
+    boolean isEventFilter()
+    {
+        return realListener instanceof OMRSTopicEventFilter;
+    }
+
+
+    /**
+     * Ask the real listener whether it would ignore the event with this header.  Errors from the listener's
+     * filter mean the event is passed to the listener in the usual way.
+     *
+     * @param eventHeader header of the inbound event
+     * @return reason why the event is dropped or null if the listener wants the event
+     */
+    OMRSEventDropReason filterEvent(OMRSEventHeader eventHeader)
+    {
+        final String methodName = "filterEvent";
+
+        if (realListener instanceof OMRSTopicEventFilter)
+        {
+            try
+            {
+                return ((OMRSTopicEventFilter) realListener).filterEvent(eventHeader);
+            }
+            catch (Throwable  error)
+            {
+                logUnhandledException(error, methodName);
+            }
+        }
+
+        return null;
+    }
 }
@@ -0,0 +1,474 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * OpenMetadataTopicPublisher is the base class for the publishers that send events to an access service's
+ * out topic.  It converts each event to JSON on the caller's thread using an ObjectWriter that is built once
+ * for each event class and then passes the JSON to a bounded queue.  A background thread sends the queued events
+ * to the topic so the caller does not wait for the event bus.  If the queue is full, the caller waits for space
+ * so that a slow topic slows down the producers rather than filling the heap.
+ * <p>
+ * The publisher keeps counts of the events it has handled, which can be used to monitor the topic.  The counts
+ * are written to the audit log when the publisher is disconnected.
+ * The access service must call disconnect() when it shuts down so that the queued events are sent.  Events that
+ * are published once disconnect() has started are rejected.
+ * </p>
+ */
+public class OpenMetadataTopicPublisher
+{
+    public static final int  DEFAULT_MAX_QUEUE_SIZE   = 1000;
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT = 10000;
+
+    private static final Logger log = LoggerFactory.getLogger(OpenMetadataTopicPublisher.class);
+
+    private static final long                         POLL_INTERVAL = 100;
+    private static final ObjectMapper                 objectMapper  = new ObjectMapper();
+    private static final Map<Class<?>, ObjectWriter>  objectWriters = new ConcurrentHashMap<>();
+
+    private final String                publisherName;
+    private final OpenMetadataTopic     topic;
+    private final int                   maxQueueSize;
+    private final long                  shutdownTimeout;
+    private final AuditLog              auditLog;
+    private final BlockingQueue<String> sendQueue;
+    private final Thread                senderThread;
+
+    private final AtomicLong publishedEventCount = new AtomicLong();
+    private final AtomicLong sentEventCount      = new AtomicLong();
+    private final AtomicLong failedEventCount    = new AtomicLong();
+    private final AtomicLong blockedPublishCount = new AtomicLong();
+
+    private volatile boolean isActive = true;
+
+
+    /**
+     * Constructor uses the default queue size and shutdown timeout.
+     *
+     * @param publisherName name of the publisher used in messages and the name of its thread
+     * @param topic topic to send the events to; if null, events are discarded
+     * @param auditLog audit log for errors that occur when the events are sent
+     */
+    public OpenMetadataTopicPublisher(String            publisherName,
+                                      OpenMetadataTopic topic,
+                                      AuditLog          auditLog)
+    {
+        this(publisherName, topic, DEFAULT_MAX_QUEUE_SIZE, DEFAULT_SHUTDOWN_TIMEOUT, auditLog);
+    }
+
+
+    /**
+     * Constructor sets up the queue and starts the thread that sends events to the topic.
+     *
+     * @param publisherName name of the publisher used in messages and the name of its thread
+     * @param topic topic to send the events to; if null, events are discarded
+     * @param maxQueueSize maximum number of events waiting to be sent before callers have to wait
+     * @param shutdownTimeout maximum time in milliseconds that disconnect() waits for the queued events to be sent
+     * @param auditLog audit log for errors that occur when the events are sent
+     */
+    public OpenMetadataTopicPublisher(String            publisherName,
+                                      OpenMetadataTopic topic,
+                                      int               maxQueueSize,
+                                      long              shutdownTimeout,
+                                      AuditLog          auditLog)
+    {
+        this.publisherName   = publisherName;
+        this.topic           = topic;
+        this.maxQueueSize    = Math.max(maxQueueSize, 1);
+        this.shutdownTimeout = shutdownTimeout;
+        this.auditLog        = auditLog;
+        this.sendQueue       = new ArrayBlockingQueue<>(this.maxQueueSize);
+
+        if (topic != null)
+        {
+            senderThread = new Thread(this::sendQueuedEvents, "OpenMetadataTopicPublisher: " + publisherName);
+            senderThread.setDaemon(true);
+            senderThread.start();
+        }
+        else
+        {
+            senderThread = null;
+        }
+    }
+
+
+    /**
+     * Build the ObjectWriters for the event classes that the publisher sends.  Writers for other classes are built
+     * the first time an event of that class is published.
+     *
+     * @param eventClasses classes of the event beans
+     */
+    protected void prepareEventClasses(Class<?>... eventClasses)
+    {
+        for (Class<?> eventClass : eventClasses)
+        {
+            getObjectWriter(eventClass);
+        }
+    }
+
+
+    /**
+     * Return the ObjectWriter for an event class.  The writers are shared by all publishers.
+     *
+     * @param eventClass class of the event bean
+     * @return object writer
+     */
+    private static ObjectWriter getObjectWriter(Class<?> eventClass)
+    {
+        return objectWriters.computeIfAbsent(eventClass, objectMapper::writerFor);
+    }
+
+
+    /**
+     * Convert the event to JSON and queue it to be sent to the topic.  The caller waits if the queue is full.
+     * Errors from the topic are logged by the publisher since the event is sent after this method returns.
+     *
+     * @param event event bean
+     * @throws ConnectorCheckedException the event is null or can not be converted to JSON, or the publisher has shut down
+     */
+    public void publishEvent(Object event) throws ConnectorCheckedException
+    {
+        final String methodName = "publishEvent";
+
+        if (event == null)
+        {
+            throw new ConnectorCheckedException(OMRSErrorCode.OMRS_TOPIC_SEND_NULL_EVENT.getMessageDefinition(publisherName),
+                                                this.getClass().getName(),
+                                                methodName);
+        }
+
+        if (! isActive)
+        {
+            throw getStoppedException(event, methodName);
+        }
+
+        if (topic == null)
+        {
+            log.debug("Publisher " + publisherName + " has no topic; discarding event " + event);
+            return;
+        }
+
+        String jsonPayload;
+
+        try
+        {
+            jsonPayload = getObjectWriter(event.getClass()).writeValueAsString(event);
+        }
+        catch (Throwable error)
+        {
+            throw new ConnectorCheckedException(OMRSErrorCode.OPEN_METADATA_TOPIC_EVENT_NOT_SERIALIZABLE.getMessageDefinition(publisherName,
+                                                                                                                              event.toString(),
+                                                                                                                              error.getClass().getName(),
+                                                                                                                              error.getMessage()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+
+        publishedEventCount.incrementAndGet();
+
+        try
+        {
+            if (! sendQueue.offer(jsonPayload))
+            {
+                blockedPublishCount.incrementAndGet();
+
+                log.debug("Publisher " + publisherName + " is waiting for space in its queue");
+
+                /*
+                 * The wait is in steps so that a caller is not left waiting on a queue that will never be
+                 * emptied because the publisher has been disconnected.
+                 */
+                while (! sendQueue.offer(jsonPayload, POLL_INTERVAL, TimeUnit.MILLISECONDS))
+                {
+                    if (! isActive)
+                    {
+                        publishedEventCount.decrementAndGet();
+
+                        throw getStoppedException(event, methodName);
+                    }
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            publishedEventCount.decrementAndGet();
+
+            throw new ConnectorCheckedException(OMRSErrorCode.OPEN_METADATA_TOPIC_PUBLISHER_INTERRUPTED.getMessageDefinition(publisherName,
+                                                                                                                             event.toString()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+
+        /*
+         * If disconnect() started while the event was being queued, the sender thread may already have stopped.
+         * An event that is still in the queue is taken back and rejected rather than left behind.  Otherwise,
+         * it has either been sent or has been counted by disconnect() as discarded.
+         */
+        if ((! isActive) && (sendQueue.remove(jsonPayload)))
+        {
+            publishedEventCount.decrementAndGet();
+
+            throw getStoppedException(event, methodName);
+        }
+    }
+
+
+    /**
+     * Return the exception for an event that is published after the publisher is disconnected.
+     *
+     * @param event event bean
+     * @param methodName calling method
+     * @return exception
+     */
+    private ConnectorCheckedException getStoppedException(Object event,
+                                                          String methodName)
+    {
+        return new ConnectorCheckedException(OMRSErrorCode.OPEN_METADATA_TOPIC_PUBLISHER_STOPPED.getMessageDefinition(publisherName,
+                                                                                                                      event.toString()),
+                                             this.getClass().getName(),
+                                             methodName);
+    }
+
+
+    /**
+     * Run by the sender thread until the publisher is disconnected and the queue is empty.
+     */
+    private void sendQueuedEvents()
+    {
+        while ((isActive) || (! sendQueue.isEmpty()))
+        {
+            try
+            {
+                String jsonPayload = sendQueue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+
+                if (jsonPayload != null)
+                {
+                    this.sendToTopic(jsonPayload);
+                }
+            }
+            catch (InterruptedException error)
+            {
+                log.debug("Publisher " + publisherName + " interrupted with " + sendQueue.size() + " events waiting");
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Send a single event to the topic and record the outcome.
+     *
+     * @param jsonPayload event in JSON
+     */
+    private void sendToTopic(String jsonPayload)
+    {
+        final String methodName = "sendToTopic";
+
+        try
+        {
+            topic.sendEvent(jsonPayload);
+            sentEventCount.incrementAndGet();
+        }
+        catch (Throwable error)
+        {
+            failedEventCount.incrementAndGet();
+
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      OMRSAuditCode.OUT_TOPIC_EVENT_SEND_FAILED.getMessageDefinition(publisherName,
+                                                                                                     error.getClass().getName(),
+                                                                                                     error.getMessage()),
+                                      jsonPayload,
+                                      error);
+            }
+            else
+            {
+                log.error("Publisher " + publisherName + " unable to send event: " + error.getMessage());
+            }
+        }
+    }
+
+
+    /**
+     * Stop accepting events and wait for the queued events to be sent.  Any events that are still waiting
+     * when the shutdown timeout expires are discarded and logged.  The counts of the events handled by the
+     * publisher are then written to the audit log.
+     */
+    public void disconnect()
+    {
+        final String methodName = "disconnect";
+
+        isActive = false;
+
+        if (senderThread != null)
+        {
+            try
+            {
+                senderThread.join(shutdownTimeout);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            if (senderThread.isAlive())
+            {
+                senderThread.interrupt();
+            }
+
+            List<String> discardedEvents = new ArrayList<>();
+
+            sendQueue.drainTo(discardedEvents);
+
+            if (! discardedEvents.isEmpty())
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(methodName,
+                                        OMRSAuditCode.OUT_TOPIC_EVENTS_DISCARDED.getMessageDefinition(publisherName,
+                                                                                                      Integer.toString(discardedEvents.size())));
+                }
+                else
+                {
+                    log.error("Publisher " + publisherName + " discarded " + discardedEvents.size() + " events");
+                }
+            }
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    OMRSAuditCode.OUT_TOPIC_PUBLISHER_STOPPED.getMessageDefinition(publisherName,
+                                                                                                   Long.toString(getPublishedEventCount()),
+                                                                                                   Long.toString(getSentEventCount()),
+                                                                                                   Long.toString(getFailedEventCount()),
+                                                                                                   Long.toString(getBlockedPublishCount())));
+            }
+            else
+            {
+                log.debug("Publisher " + publisherName + " stopped: " + this.toString());
+            }
+        }
+    }
+
+
+    /**
+     * Return the name of the publisher.
+     *
+     * @return name
+     */
+    public String getPublisherName()
+    {
+        return publisherName;
+    }
+
+
+    /**
+     * Return the maximum number of events that can wait to be sent.
+     *
+     * @return queue size
+     */
+    public int getMaxQueueSize()
+    {
+        return maxQueueSize;
+    }
+
+
+    /**
+     * Return the number of events currently waiting to be sent.
+     *
+     * @return count
+     */
+    public int getQueuedEventCount()
+    {
+        return sendQueue.size();
+    }
+
+
+    /**
+     * Return the number of events accepted by publishEvent().
+     *
+     * @return count
+     */
+    public long getPublishedEventCount()
+    {
+        return publishedEventCount.get();
+    }
+
+
+    /**
+     * Return the number of events successfully sent to the topic.
+     *
+     * @return count
+     */
+    public long getSentEventCount()
+    {
+        return sentEventCount.get();
+    }
+
+
+    /**
+     * Return the number of events that the topic failed to send.
+     *
+     * @return count
+     */
+    public long getFailedEventCount()
+    {
+        return failedEventCount.get();
+    }
+
+
+    /**
+     * Return the number of times a caller had to wait because the queue was full.
+     *
+     * @return count
+     */
+    public long getBlockedPublishCount()
+    {
+        return blockedPublishCount.get();
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OpenMetadataTopicPublisher{" +
+                "publisherName='" + publisherName + '\'' +
+                ", maxQueueSize=" + maxQueueSize +
+                ", queuedEventCount=" + getQueuedEventCount() +
+                ", publishedEventCount=" + getPublishedEventCount() +
+                ", sentEventCount=" + getSentEventCount() +
+                ", failedEventCount=" + getFailedEventCount() +
+                ", blockedPublishCount=" + getBlockedPublishCount() +
+                ", isActive=" + isActive +
+                '}';
+    }
+}
@@ -0,0 +1,94 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+
+/**
+ * OpenMetadataArchiveContentProcessor receives the contents of an open metadata archive one element at a time.
+ * It is used by archive store connectors that are able to stream their content rather than materializing the
+ * whole archive in memory.  The elements are passed in the order that they need to be loaded:
+ * <ul>
+ *     <li>
+ *         The archive properties (always first).  If they are not present, no other content is passed.
+ *     </li>
+ *     <li>
+ *         The AttributeTypeDefs, followed by the new TypeDefs and then the TypeDef patches.
+ *     </li>
+ *     <li>
+ *         The entities, followed by the relationships and then the classifications.
+ *     </li>
+ * </ul>
+ */
+public interface OpenMetadataArchiveContentProcessor
+{
+    /**
+     * Receive the properties that describe the archive.
+     *
+     * @param archiveProperties descriptive properties of the archive
+     */
+    void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties);
+
+
+    /**
+     * Receive a new AttributeTypeDef from the archive's type store.
+     *
+     * @param attributeTypeDef new attribute type
+     */
+    void processAttributeTypeDef(AttributeTypeDef attributeTypeDef);
+
+
+    /**
+     * Receive a new TypeDef from the archive's type store.
+     *
+     * @param typeDef new type
+     */
+    void processNewTypeDef(TypeDef typeDef);
+
+
+    /**
+     * Receive a patch to an existing TypeDef from the archive's type store.
+     *
+     * @param typeDefPatch patch to apply
+     */
+    void processTypeDefPatch(TypeDefPatch typeDefPatch);
+
+
+    /**
+     * Receive an entity from the archive's instance store.
+     *
+     * @param entity entity instance
+     */
+    void processEntity(EntityDetail entity);
+
+
+    /**
+     * Receive a relationship from the archive's instance store.
+     *
+     * @param relationship relationship instance
+     */
+    void processRelationship(Relationship relationship);
+
+
+    /**
+     * Receive a classification from the archive's instance store.
+     *
+     * @param classification classification and the entity it is attached to
+     */
+    void processClassification(ClassificationEntityExtension classification);
+
+
+    /**
+     * Receive notification that the archive could not be read completely.  The content already passed to the
+     * processor is valid but any content after the point of failure is missing.
+     *
+     * @param error exception that stopped the archive from being read
+     */
+    void processArchiveError(Throwable error);
+}
@@ -5,6 +5,18 @@ package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+
+import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -13,6 +25,12 @@ import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 public abstract class OpenMetadataArchiveStoreConnector extends ConnectorBase implements OpenMetadataArchiveStore,
                                                                                          AuditLoggingComponent
 {
+    /**
+     * Name of the configuration property that sets the number of instances that are passed to the
+     * local repository in a single batch when the archive is loaded.
+     */
+    public static final String INSTANCE_BATCH_SIZE_PROPERTY = "instanceBatchSize";
+
     protected AuditLog auditLog = null;
 
 
@@ -26,4 +44,146 @@ public abstract class OpenMetadataArchiveStoreConnector extends ConnectorBase im
     {
         this.auditLog = auditLog;
     }
+
+
+    /**
+     * Pass the contents of the archive, element by element, to the supplied processor.  This default
+     * implementation retrieves the whole archive using getArchiveContents() and then steps through it.
+     * Connectors that are able to read their archive incrementally should override this method so that
+     * the archive does not need to be held in memory while it is loaded.
+     *
+     * @param contentProcessor receiver of the archive's contents
+     */
+    public void processArchiveContents(OpenMetadataArchiveContentProcessor contentProcessor)
+    {
+        OpenMetadataArchive archiveContent = this.getArchiveContents();
+
+        if ((archiveContent == null) || (archiveContent.getArchiveProperties() == null))
+        {
+            return;
+        }
+
+        contentProcessor.processArchiveProperties(archiveContent.getArchiveProperties());
+
+        OpenMetadataArchiveTypeStore typeStore = archiveContent.getArchiveTypeStore();
+
+        if (typeStore != null)
+        {
+            processTypeStore(typeStore, contentProcessor);
+        }
+
+        OpenMetadataArchiveInstanceStore instanceStore = archiveContent.getArchiveInstanceStore();
+
+        if (instanceStore != null)
+        {
+            List<EntityDetail>                  entities        = instanceStore.getEntities();
+            List<Relationship>                  relationships   = instanceStore.getRelationships();
+            List<ClassificationEntityExtension> classifications = instanceStore.getClassifications();
+
+            if (entities != null)
+            {
+                for (EntityDetail entity : entities)
+                {
+                    contentProcessor.processEntity(entity);
+                }
+            }
+
+            if (relationships != null)
+            {
+                for (Relationship relationship : relationships)
+                {
+                    contentProcessor.processRelationship(relationship);
+                }
+            }
+
+            if (classifications != null)
+            {
+                for (ClassificationEntityExtension classification : classifications)
+                {
+                    contentProcessor.processClassification(classification);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Pass the contents of a type store to the content processor in load order.
+     *
+     * @param typeStore type store from the archive
+     * @param contentProcessor receiver of the archive's contents
+     */
+    protected void processTypeStore(OpenMetadataArchiveTypeStore        typeStore,
+                                    OpenMetadataArchiveContentProcessor contentProcessor)
+    {
+        List<AttributeTypeDef> attributeTypeDefs = typeStore.getAttributeTypeDefs();
+        List<TypeDef>          newTypeDefs       = typeStore.getNewTypeDefs();
+        List<TypeDefPatch>     typeDefPatches    = typeStore.getTypeDefPatches();
+
+        if (attributeTypeDefs != null)
+        {
+            for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
+            {
+                contentProcessor.processAttributeTypeDef(attributeTypeDef);
+            }
+        }
+
+        if (newTypeDefs != null)
+        {
+            for (TypeDef typeDef : newTypeDefs)
+            {
+                contentProcessor.processNewTypeDef(typeDef);
+            }
+        }
+
+        if (typeDefPatches != null)
+        {
+            for (TypeDefPatch typeDefPatch : typeDefPatches)
+            {
+                contentProcessor.processTypeDefPatch(typeDefPatch);
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of instances that should be passed to the local repository in a single batch when
+     * this archive is loaded.  It is set through the instanceBatchSize configuration property of the connection.
+     * The default of 1 means each instance is passed individually.
+     *
+     * @return batch size
+     */
+    public int getInstanceBatchSize()
+    {
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object batchSize = configurationProperties.get(INSTANCE_BATCH_SIZE_PROPERTY);
+
+                if (batchSize != null)
+                {
+                    try
+                    {
+                        int instanceBatchSize = Integer.parseInt(batchSize.toString());
+
+                        if (instanceBatchSize > 1)
+                        {
+                            return instanceBatchSize;
+                        }
+                    }
+                    catch (NumberFormatException  error)
+                    {
+                        /*
+                         * Ignore the invalid value and use the default.
+                         */
+                    }
+                }
+            }
+        }
+
+        return 1;
+    }
 }
@@ -9,7 +9,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class OMRSMetadataSecurity implements OpenMetadataRepositorySecurity
 {
@@ -277,6 +279,37 @@ public class OMRSMetadataSecurity implements OpenMetadataRepositorySecurity
     }
 
 
+    /**
+     * Tests for whether a specific user should have read access to each of a list of instances within a repository.
+     *
+     * @param userId identifier of user
+     * @param metadataCollectionName configurable name of the metadata collection
+     * @param instances list of instance details
+     * @return the instances in the list, without any null entries (or null if the list is null)
+     * @throws UserNotAuthorizedException the user is not authorized to retrieve one of the instances
+     */
+    public List<EntityDetail>  validateUserForEntityListRead(String             userId,
+                                                             String             metadataCollectionName,
+                                                             List<EntityDetail> instances) throws UserNotAuthorizedException
+    {
+        if (connector != null)
+        {
+            return connector.validateUserForEntityListRead(userId, metadataCollectionName, instances);
+        }
+
+        if (instances == null)
+        {
+            return null;
+        }
+
+        List<EntityDetail> readableInstances = new ArrayList<>(instances);
+
+        readableInstances.removeIf(Objects::isNull);
+
+        return readableInstances;
+    }
+
+
     /**
      * Tests for whether a specific user should have read access to a specific instance within a repository.
      *
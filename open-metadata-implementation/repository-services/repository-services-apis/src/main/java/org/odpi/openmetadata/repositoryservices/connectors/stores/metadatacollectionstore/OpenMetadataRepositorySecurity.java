@@ -177,6 +177,20 @@ public interface OpenMetadataRepositorySecurity
                                     EntityDetail instance) throws UserNotAuthorizedException;
 
 
+    /**
+     * Tests for whether a specific user should have read access to each of a list of instances within a repository.
+     *
+     * @param userId identifier of user
+     * @param metadataCollectionName configurable name of the metadata collection
+     * @param instances list of instance details
+     * @return the instances in the list, without any null entries (or null if the list is null)
+     * @throws UserNotAuthorizedException the user is not authorized to retrieve one of the instances
+     */
+    List<EntityDetail>  validateUserForEntityListRead(String             userId,
+                                                      String             metadataCollectionName,
+                                                      List<EntityDetail> instances) throws UserNotAuthorizedException;
+
+
     /**
      * Tests for whether a specific user should have read access to a specific instance within a repository.
      *
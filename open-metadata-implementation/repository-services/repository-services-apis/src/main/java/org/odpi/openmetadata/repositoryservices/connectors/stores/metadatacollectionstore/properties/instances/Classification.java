@@ -164,9 +164,7 @@ public class Classification extends InstanceAuditHeader
         {
             return null;
         }
-        else if ((classificationProperties.getInstanceProperties() == null) &&
-                 (classificationProperties.getEffectiveFromTime() == null) &&
-                 (classificationProperties.getEffectiveToTime() == null))
+        else if (! classificationProperties.hasValues())
         {
             return null;
         }
@@ -232,6 +230,18 @@ public class Classification extends InstanceAuditHeader
     }
 
 
+    /**
+     * Return a read-only view of this classification that does not copy its values.
+     *
+     * @return view of the classification
+     */
+    @Override
+    public ClassificationView view()
+    {
+        return new ClassificationAccessor();
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -302,4 +312,26 @@ public class Classification extends InstanceAuditHeader
         return Objects.hash(super.hashCode(), classificationName, classificationProperties, getClassificationOrigin(),
                             getClassificationOriginGUID());
     }
+
+
+    /**
+     * Read-only access to the fields of this classification.
+     */
+    private class ClassificationAccessor extends InstanceAuditHeaderAccessor implements ClassificationView
+    {
+        @Override
+        public String getName() { return classificationName; }
+
+        @Override
+        public InstancePropertiesView getProperties()
+        {
+            return ((classificationProperties == null) || (! classificationProperties.hasValues())) ? null : classificationProperties.view();
+        }
+
+        @Override
+        public ClassificationOrigin getClassificationOrigin() { return classificationOrigin; }
+
+        @Override
+        public String getClassificationOriginGUID() { return classificationOriginGUID; }
+    }
 }
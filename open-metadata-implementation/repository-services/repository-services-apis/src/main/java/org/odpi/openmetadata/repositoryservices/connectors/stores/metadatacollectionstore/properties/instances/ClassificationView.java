@@ -0,0 +1,41 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+/**
+ * ClassificationView provides read-only access to a classification without copying it.  It is returned by
+ * Classification.view().
+ */
+public interface ClassificationView extends InstanceAuditHeaderView
+{
+    /**
+     * Return the name of the classification.
+     *
+     * @return name of classification
+     */
+    String getName();
+
+
+    /**
+     * Return the properties of the classification.
+     *
+     * @return view of the properties or null if there are no properties
+     */
+    InstancePropertiesView getProperties();
+
+
+    /**
+     * Return the origin of the classification.
+     *
+     * @return ClassificationOrigin enum
+     */
+    ClassificationOrigin getClassificationOrigin();
+
+
+    /**
+     * Return the guid of the entity where a propagated classification came from.
+     *
+     * @return unique identifier of the classification's origin
+     */
+    String getClassificationOriginGUID();
+}
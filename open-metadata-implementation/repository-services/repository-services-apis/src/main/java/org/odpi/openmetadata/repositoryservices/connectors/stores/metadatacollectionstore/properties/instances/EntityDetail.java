@@ -60,9 +60,7 @@ public class EntityDetail extends EntitySummary
         {
             return null;
         }
-        else if ((entityProperties.getInstanceProperties() == null) &&
-                 (entityProperties.getEffectiveFromTime() == null) &&
-                 (entityProperties.getEffectiveToTime() == null))
+        else if (! entityProperties.hasValues())
         {
             return null;
         }
@@ -84,6 +82,18 @@ public class EntityDetail extends EntitySummary
     }
 
 
+    /**
+     * Return a read-only view of this entity that does not copy its values.
+     *
+     * @return view of the entity
+     */
+    @Override
+    public EntityDetailView view()
+    {
+        return new EntityDetailAccessor();
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -150,4 +160,17 @@ public class EntityDetail extends EntitySummary
     {
         return Objects.hash(super.hashCode(), entityProperties);
     }
+
+
+    /**
+     * Read-only access to the fields of this entity.
+     */
+    private class EntityDetailAccessor extends EntitySummaryAccessor implements EntityDetailView
+    {
+        @Override
+        public InstancePropertiesView getProperties()
+        {
+            return ((entityProperties == null) || (! entityProperties.hasValues())) ? null : entityProperties.view();
+        }
+    }
 }
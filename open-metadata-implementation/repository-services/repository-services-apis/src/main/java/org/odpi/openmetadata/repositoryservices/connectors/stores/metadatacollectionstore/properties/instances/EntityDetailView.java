@@ -0,0 +1,16 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+/**
+ * EntityDetailView provides read-only access to an entity without copying it.  It is returned by EntityDetail.view().
+ */
+public interface EntityDetailView extends EntitySummaryView
+{
+    /**
+     * Return the properties of the entity.
+     *
+     * @return view of the properties or null if there are no properties
+     */
+    InstancePropertiesView getProperties();
+}
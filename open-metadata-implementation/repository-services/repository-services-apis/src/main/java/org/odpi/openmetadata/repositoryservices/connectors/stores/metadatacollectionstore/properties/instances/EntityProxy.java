@@ -72,9 +72,7 @@ public class EntityProxy extends EntitySummary
         {
             return null;
         }
-        else if ((uniqueProperties.getInstanceProperties() == null) &&
-                 (uniqueProperties.getEffectiveFromTime() == null) &&
-                 (uniqueProperties.getEffectiveToTime() == null))
+        else if (! uniqueProperties.hasValues())
         {
             return null;
         }
@@ -95,6 +93,18 @@ public class EntityProxy extends EntitySummary
 
 
 
+    /**
+     * Return a read-only view of this entity proxy that does not copy its values.
+     *
+     * @return view of the entity proxy
+     */
+    @Override
+    public EntityProxyView view()
+    {
+        return new EntityProxyAccessor();
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -160,4 +170,17 @@ public class EntityProxy extends EntitySummary
     {
         return Objects.hash(super.hashCode(), getUniqueProperties());
     }
+
+
+    /**
+     * Read-only access to the fields of this entity proxy.
+     */
+    private class EntityProxyAccessor extends EntitySummaryAccessor implements EntityProxyView
+    {
+        @Override
+        public InstancePropertiesView getUniqueProperties()
+        {
+            return ((uniqueProperties == null) || (! uniqueProperties.hasValues())) ? null : uniqueProperties.view();
+        }
+    }
 }
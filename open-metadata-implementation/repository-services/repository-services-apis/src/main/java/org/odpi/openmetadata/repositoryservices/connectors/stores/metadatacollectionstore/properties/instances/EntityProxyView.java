@@ -0,0 +1,17 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+/**
+ * EntityProxyView provides read-only access to an entity proxy without copying it.  It is returned by
+ * EntityProxy.view() and by the view of a relationship.
+ */
+public interface EntityProxyView extends EntitySummaryView
+{
+    /**
+     * Return the unique properties of the entity.
+     *
+     * @return view of the properties or null if there are no properties
+     */
+    InstancePropertiesView getUniqueProperties();
+}
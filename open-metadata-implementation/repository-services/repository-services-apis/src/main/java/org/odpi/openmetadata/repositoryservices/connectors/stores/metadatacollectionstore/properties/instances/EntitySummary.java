@@ -5,6 +5,7 @@ package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacolle
 import com.fasterxml.jackson.annotation.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -99,6 +100,18 @@ public class EntitySummary extends InstanceHeader
     }
 
 
+    /**
+     * Return a read-only view of this entity that does not copy its values.
+     *
+     * @return view of the entity
+     */
+    @Override
+    public EntitySummaryView view()
+    {
+        return new EntitySummaryAccessor();
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -164,4 +177,17 @@ public class EntitySummary extends InstanceHeader
     {
         return Objects.hash(super.hashCode(), getClassifications());
     }
+
+
+    /**
+     * Read-only access to the fields of this entity.  The subclasses extend it to add their own fields.
+     */
+    protected class EntitySummaryAccessor extends InstanceHeaderAccessor implements EntitySummaryView
+    {
+        @Override
+        public List<Classification> getClassifications()
+        {
+            return ((classifications == null) || classifications.isEmpty()) ? null : Collections.unmodifiableList(classifications);
+        }
+    }
 }
@@ -0,0 +1,20 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import java.util.List;
+
+/**
+ * EntitySummaryView provides read-only access to an entity's header and classifications without copying them.
+ * It is returned by EntitySummary.view().
+ */
+public interface EntitySummaryView extends InstanceHeaderView
+{
+    /**
+     * Return the classifications for the entity.  The classifications in the list are the entity's own objects.
+     * Use Classification.view() to read them without copying.
+     *
+     * @return unmodifiable list of classifications or null if there are none
+     */
+    List<Classification> getClassifications();
+}
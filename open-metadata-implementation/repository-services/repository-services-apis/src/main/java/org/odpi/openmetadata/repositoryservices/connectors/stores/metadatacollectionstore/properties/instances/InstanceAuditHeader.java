@@ -551,6 +551,17 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
     }
 
 
+    /**
+     * Return a read-only view of this header that does not copy its values.
+     *
+     * @return view of the header
+     */
+    public InstanceAuditHeaderView view()
+    {
+        return new InstanceAuditHeaderAccessor();
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -629,4 +640,65 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
                             getInstanceLicense(), getCreatedBy(), getUpdatedBy(), getCreateTime(), getMaintainedBy(), getUpdateTime(),
                             getVersion(), getStatus(), getStatusOnDelete(), getMappingProperties());
     }
+
+
+    /**
+     * Read-only access to the fields of this header.  The subclasses extend it to add their own fields.
+     */
+    protected class InstanceAuditHeaderAccessor implements InstanceAuditHeaderView
+    {
+        @Override
+        public long getHeaderVersion() { return headerVersion; }
+
+        @Override
+        public InstanceTypeView getType() { return (type == null) ? null : type.view(); }
+
+        @Override
+        public InstanceProvenanceType getInstanceProvenanceType() { return instanceProvenanceType; }
+
+        @Override
+        public String getMetadataCollectionId() { return metadataCollectionId; }
+
+        @Override
+        public String getMetadataCollectionName() { return metadataCollectionName; }
+
+        @Override
+        public String getReplicatedBy() { return replicatedBy; }
+
+        @Override
+        public String getInstanceLicense() { return instanceLicense; }
+
+        @Override
+        public InstanceStatus getStatus() { return currentStatus; }
+
+        @Override
+        public String getCreatedBy() { return createdBy; }
+
+        @Override
+        public String getUpdatedBy() { return updatedBy; }
+
+        @Override
+        public List<String> getMaintainedBy()
+        {
+            return ((maintainedBy == null) || maintainedBy.isEmpty()) ? null : Collections.unmodifiableList(maintainedBy);
+        }
+
+        @Override
+        public Date getCreateTime() { return createTime; }
+
+        @Override
+        public Date getUpdateTime() { return updateTime; }
+
+        @Override
+        public long getVersion() { return version; }
+
+        @Override
+        public InstanceStatus getStatusOnDelete() { return statusOnDelete; }
+
+        @Override
+        public Map<String, Serializable> getMappingProperties()
+        {
+            return ((mappingProperties == null) || mappingProperties.isEmpty()) ? null : Collections.unmodifiableMap(mappingProperties);
+        }
+    }
 }
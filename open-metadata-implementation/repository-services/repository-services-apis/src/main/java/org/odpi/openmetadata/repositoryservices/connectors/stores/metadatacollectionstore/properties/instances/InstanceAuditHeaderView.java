@@ -0,0 +1,148 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * InstanceAuditHeaderView provides read-only access to the header of a classification, entity or relationship
+ * without copying its values.  The getters of the instance beans return copies so that callers can change them
+ * freely.  The views are intended for code inside the server that only reads the instance, such as validation,
+ * event handling and federation.
+ * <p>
+ * A view shares its values with the instance.  Collections are returned unmodifiable.  The dates and other mutable
+ * objects must not be changed.  A view reflects any later change to the instance.  Null is returned for empty
+ * collections in the same way as the instance getters.
+ */
+public interface InstanceAuditHeaderView
+{
+    /**
+     * Return the version of this header.
+     *
+     * @return long
+     */
+    long getHeaderVersion();
+
+
+    /**
+     * Return the type of this instance.
+     *
+     * @return view of the InstanceType or null
+     */
+    InstanceTypeView getType();
+
+
+    /**
+     * Return the type of the provenance for this instance.
+     *
+     * @return InstanceProvenanceType enum
+     */
+    InstanceProvenanceType getInstanceProvenanceType();
+
+
+    /**
+     * Return the unique identifier for the metadata collection that is the home for this instance.
+     *
+     * @return String metadata collection id
+     */
+    String getMetadataCollectionId();
+
+
+    /**
+     * Return the name of the metadata collection that this instance belongs to.
+     *
+     * @return name in a String
+     */
+    String getMetadataCollectionName();
+
+
+    /**
+     * Return the metadata collection id of the repository that is replicating this instance.
+     *
+     * @return String metadata collection id
+     */
+    String getReplicatedBy();
+
+
+    /**
+     * Return the license string for this instance.
+     *
+     * @return String license string
+     */
+    String getInstanceLicense();
+
+
+    /**
+     * Return the status of this instance.
+     *
+     * @return InstanceStatus
+     */
+    InstanceStatus getStatus();
+
+
+    /**
+     * Return the user name of the person that created this instance.
+     *
+     * @return String user name
+     */
+    String getCreatedBy();
+
+
+    /**
+     * Return the user name of the person that last updated this instance.
+     *
+     * @return String user name
+     */
+    String getUpdatedBy();
+
+
+    /**
+     * Return the list of users responsible for maintaining this instance.
+     *
+     * @return unmodifiable list of user identifiers or null
+     */
+    List<String> getMaintainedBy();
+
+
+    /**
+     * Return the date/time that this instance was created.
+     *
+     * @return Date/Time of creation (must not be changed)
+     */
+    Date getCreateTime();
+
+
+    /**
+     * Return the date/time that this instance was last updated.
+     *
+     * @return Date/Time last updated (must not be changed)
+     */
+    Date getUpdateTime();
+
+
+    /**
+     * Return the version number for this instance.
+     *
+     * @return long version number
+     */
+    long getVersion();
+
+
+    /**
+     * Return the status to use when a deleted instance is restored.
+     *
+     * @return InstanceStatus
+     */
+    InstanceStatus getStatusOnDelete();
+
+
+    /**
+     * Return the additional properties used by the master repository to map to stored instances.
+     *
+     * @return unmodifiable property map or null
+     */
+    Map<String, Serializable> getMappingProperties();
+}
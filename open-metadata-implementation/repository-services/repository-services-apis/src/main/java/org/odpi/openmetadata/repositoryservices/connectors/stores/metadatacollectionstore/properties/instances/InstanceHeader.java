@@ -102,6 +102,18 @@ public abstract class InstanceHeader extends InstanceAuditHeader
     public void setGUID(String guid) { this.guid = guid; }
 
 
+    /**
+     * Return a read-only view of this header that does not copy its values.
+     *
+     * @return view of the header
+     */
+    @Override
+    public InstanceHeaderView view()
+    {
+        return new InstanceHeaderAccessor();
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -167,4 +179,17 @@ public abstract class InstanceHeader extends InstanceAuditHeader
     {
         return Objects.hash(super.hashCode(), guid, getInstanceURL());
     }
+
+
+    /**
+     * Read-only access to the fields of this header.  The subclasses extend it to add their own fields.
+     */
+    protected class InstanceHeaderAccessor extends InstanceAuditHeaderAccessor implements InstanceHeaderView
+    {
+        @Override
+        public String getGUID() { return guid; }
+
+        @Override
+        public String getInstanceURL() { return instanceURL; }
+    }
 }
@@ -0,0 +1,24 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+/**
+ * InstanceHeaderView provides read-only access to the header of an entity or relationship without copying it.
+ */
+public interface InstanceHeaderView extends InstanceAuditHeaderView
+{
+    /**
+     * Return the unique identifier for this instance.
+     *
+     * @return String unique identifier
+     */
+    String getGUID();
+
+
+    /**
+     * Return the URL for this instance (or null if the metadata repository does not support instance URLs).
+     *
+     * @return String URL
+     */
+    String getInstanceURL();
+}
@@ -269,6 +269,30 @@ public class InstanceProperties extends InstanceElementHeader
     }
 
 
+    /**
+     * Return whether there are any properties or effectivity dates.
+     *
+     * @return boolean
+     */
+    boolean hasValues()
+    {
+        return ((instanceProperties != null) && (! instanceProperties.isEmpty())) ||
+               (effectiveFromTime != null) ||
+               (effectiveToTime != null);
+    }
+
+
+    /**
+     * Return a read-only view of these properties that does not copy them.
+     *
+     * @return view of the properties
+     */
+    public InstancePropertiesView view()
+    {
+        return new InstancePropertiesAccessor();
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -320,5 +344,35 @@ public class InstanceProperties extends InstanceElementHeader
 
         return Objects.hash(getEffectiveFromTime(), getEffectiveToTime(), getInstanceProperties());
     }
-}
 
+
+    /**
+     * Read-only access to the fields of these properties.
+     */
+    private class InstancePropertiesAccessor implements InstancePropertiesView
+    {
+        @Override
+        public Date getEffectiveFromTime() { return effectiveFromTime; }
+
+        @Override
+        public Date getEffectiveToTime() { return effectiveToTime; }
+
+        @Override
+        public Map<String, InstancePropertyValue> getInstanceProperties()
+        {
+            return ((instanceProperties == null) || instanceProperties.isEmpty()) ? null : Collections.unmodifiableMap(instanceProperties);
+        }
+
+        @Override
+        public Iterator<String> getPropertyNames()
+        {
+            return Collections.unmodifiableSet(instanceProperties.keySet()).iterator();
+        }
+
+        @Override
+        public InstancePropertyValue getPropertyValue(String name) { return instanceProperties.get(name); }
+
+        @Override
+        public int getPropertyCount() { return instanceProperties.size(); }
+    }
+}
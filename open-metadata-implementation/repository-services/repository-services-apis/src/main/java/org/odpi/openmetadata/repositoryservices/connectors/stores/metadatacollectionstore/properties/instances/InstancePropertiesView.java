@@ -0,0 +1,63 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * InstancePropertiesView provides read-only access to InstanceProperties without copying them.  It is returned by
+ * InstanceProperties.view() and by the views of the instances that have properties.  The map is unmodifiable
+ * and shares its values with the InstanceProperties, so the dates and property values must not be changed.
+ */
+public interface InstancePropertiesView
+{
+    /**
+     * Return the date/time that this instance should start to be used (null means it can be used from creationTime).
+     *
+     * @return Date object
+     */
+    Date getEffectiveFromTime();
+
+
+    /**
+     * Return the date/time that this instance should no longer be used.
+     *
+     * @return Date object
+     */
+    Date getEffectiveToTime();
+
+
+    /**
+     * Return the instance properties as a map.
+     *
+     * @return unmodifiable map of properties or null if there are no properties
+     */
+    Map<String, InstancePropertyValue> getInstanceProperties();
+
+
+    /**
+     * Returns the names of the instance properties.
+     *
+     * @return iterator over the property names
+     */
+    Iterator<String> getPropertyNames();
+
+
+    /**
+     * Returns the requested instance property.
+     *
+     * @param name String name of the property to return.
+     * @return requested property value or null if it is not present
+     */
+    InstancePropertyValue getPropertyValue(String name);
+
+
+    /**
+     * Return the number of properties stored.
+     *
+     * @return int property count
+     */
+    int getPropertyCount();
+}
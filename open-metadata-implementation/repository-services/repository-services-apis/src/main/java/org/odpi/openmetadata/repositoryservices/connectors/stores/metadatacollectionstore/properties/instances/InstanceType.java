@@ -9,6 +9,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -330,6 +331,17 @@ public class InstanceType extends InstanceElementHeader
     }
 
 
+    /**
+     * Return a read-only view of this instance type that does not copy its values.
+     *
+     * @return view of the instance type
+     */
+    public InstanceTypeView view()
+    {
+        return new InstanceTypeAccessor();
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -400,4 +412,46 @@ public class InstanceType extends InstanceElementHeader
                             getValidStatusList(),
                             getValidInstanceProperties());
     }
+
+    /**
+     * Read-only access to the fields of this instance type.
+     */
+    private class InstanceTypeAccessor implements InstanceTypeView
+    {
+        @Override
+        public TypeDefCategory getTypeDefCategory() { return typeDefCategory; }
+
+        @Override
+        public String getTypeDefGUID() { return typeDefGUID; }
+
+        @Override
+        public String getTypeDefName() { return typeDefName; }
+
+        @Override
+        public long getTypeDefVersion() { return typeDefVersion; }
+
+        @Override
+        public List<TypeDefLink> getTypeDefSuperTypes()
+        {
+            return ((typeDefSuperTypes == null) || typeDefSuperTypes.isEmpty()) ? null : Collections.unmodifiableList(typeDefSuperTypes);
+        }
+
+        @Override
+        public String getTypeDefDescription() { return typeDefDescription; }
+
+        @Override
+        public String getTypeDefDescriptionGUID() { return typeDefDescriptionGUID; }
+
+        @Override
+        public List<InstanceStatus> getValidStatusList()
+        {
+            return ((validStatusList == null) || validStatusList.isEmpty()) ? null : Collections.unmodifiableList(validStatusList);
+        }
+
+        @Override
+        public List<String> getValidInstanceProperties()
+        {
+            return ((validInstanceProperties == null) || validInstanceProperties.isEmpty()) ? null : Collections.unmodifiableList(validInstanceProperties);
+        }
+    }
 }
@@ -0,0 +1,87 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.List;
+
+/**
+ * InstanceTypeView provides read-only access to an InstanceType without copying it.  It is returned by
+ * InstanceType.view().  The lists are unmodifiable and share their elements with the InstanceType so the
+ * elements must not be changed.  The view reflects later changes to the InstanceType.
+ */
+public interface InstanceTypeView
+{
+    /**
+     * Return the type category of the TypeDef used to create the instance.
+     *
+     * @return TypeDefCategory enum
+     */
+    TypeDefCategory getTypeDefCategory();
+
+
+    /**
+     * Return the unique identifier for the type of the instance.
+     *
+     * @return String unique identifier
+     */
+    String getTypeDefGUID();
+
+
+    /**
+     * Return the name of the type of the instance.
+     *
+     * @return String type name
+     */
+    String getTypeDefName();
+
+
+    /**
+     * Return the version number of the type of the instance.
+     *
+     * @return long version number
+     */
+    long getTypeDefVersion();
+
+
+    /**
+     * Return the full list of defined super-types for this TypeDef working up the type hierarchy.
+     *
+     * @return unmodifiable list of types or null if there are no super-types
+     */
+    List<TypeDefLink> getTypeDefSuperTypes();
+
+
+    /**
+     * Return the description for the TypeDef.
+     *
+     * @return String description
+     */
+    String getTypeDefDescription();
+
+
+    /**
+     * Return the unique identifier of the glossary term that describes this TypeDef.
+     *
+     * @return String unique identifier
+     */
+    String getTypeDefDescriptionGUID();
+
+
+    /**
+     * Return the list of valid instance statuses supported by this instance.
+     *
+     * @return unmodifiable list of supported statuses or null if none are defined
+     */
+    List<InstanceStatus> getValidStatusList();
+
+
+    /**
+     * Return the list of valid property names that can be stored in this instance.
+     *
+     * @return unmodifiable list of property names or null if none are defined
+     */
+    List<String> getValidInstanceProperties();
+}
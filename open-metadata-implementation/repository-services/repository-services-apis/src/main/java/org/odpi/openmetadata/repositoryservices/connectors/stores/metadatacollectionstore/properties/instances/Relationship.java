@@ -136,9 +136,7 @@ public class Relationship extends InstanceHeader
         {
             return null;
         }
-        else if ((relationshipProperties.getInstanceProperties() == null) &&
-                 (relationshipProperties.getEffectiveFromTime() == null) &&
-                 (relationshipProperties.getEffectiveToTime() == null))
+        else if (! relationshipProperties.hasValues())
         {
             return null;
         }
@@ -213,6 +211,18 @@ public class Relationship extends InstanceHeader
     public void setEntityTwoProxy(EntityProxy entityTwoProxy) { this.entityTwoProxy = entityTwoProxy; }
 
 
+    /**
+     * Return a read-only view of this relationship that does not copy its values.
+     *
+     * @return view of the relationship
+     */
+    @Override
+    public RelationshipView view()
+    {
+        return new RelationshipAccessor();
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -281,4 +291,23 @@ public class Relationship extends InstanceHeader
     {
         return Objects.hash(super.hashCode(), relationshipProperties, getEntityOneProxy(), getEntityTwoProxy());
     }
+
+
+    /**
+     * Read-only access to the fields of this relationship.
+     */
+    private class RelationshipAccessor extends InstanceHeaderAccessor implements RelationshipView
+    {
+        @Override
+        public InstancePropertiesView getProperties()
+        {
+            return ((relationshipProperties == null) || (! relationshipProperties.hasValues())) ? null : relationshipProperties.view();
+        }
+
+        @Override
+        public EntityProxyView getEntityOneProxy() { return (entityOneProxy == null) ? null : entityOneProxy.view(); }
+
+        @Override
+        public EntityProxyView getEntityTwoProxy() { return (entityTwoProxy == null) ? null : entityTwoProxy.view(); }
+    }
 }
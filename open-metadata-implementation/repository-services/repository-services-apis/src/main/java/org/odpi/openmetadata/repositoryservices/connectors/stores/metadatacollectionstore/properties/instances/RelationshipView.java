@@ -0,0 +1,33 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+/**
+ * RelationshipView provides read-only access to a relationship without copying it.  It is returned by
+ * Relationship.view().
+ */
+public interface RelationshipView extends InstanceHeaderView
+{
+    /**
+     * Return the properties of the relationship.
+     *
+     * @return view of the properties or null if there are no properties
+     */
+    InstancePropertiesView getProperties();
+
+
+    /**
+     * Return details of the entity at the first end of the relationship.
+     *
+     * @return view of the proxy or null
+     */
+    EntityProxyView getEntityOneProxy();
+
+
+    /**
+     * Return details of the entity at the second end of the relationship.
+     *
+     * @return view of the proxy or null
+     */
+    EntityProxyView getEntityTwoProxy();
+}
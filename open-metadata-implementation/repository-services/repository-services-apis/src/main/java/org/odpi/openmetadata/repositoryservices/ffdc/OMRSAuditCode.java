@@ -370,6 +370,15 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                        "The local server has completed the processing of the open metadata archive.",
                        "Verify that the expected content has loaded into the local repository."),
 
+    UNREADABLE_ARCHIVE("OMRS-AUDIT-0054",
+                       OMRSAuditLogRecordSeverity.EXCEPTION,
+                       "The Open Metadata Repository Services (OMRS) is unable to read open metadata archive {0}.  The {1} exception " +
+                               "was returned with message {2}",
+                       "The local server has stopped processing the open metadata archive.  Any content read before the error " +
+                               "has been loaded.",
+                       "Review the exception to determine whether the archive is corrupt or truncated.  Request a new version " +
+                               "of the archive or remove it from the server's archive list."),
+
     REGISTERED_WITH_COHORT("OMRS-AUDIT-0060",
                            OMRSAuditLogRecordSeverity.COHORT,
                            "Registering with open metadata repository cohort {0} using metadata collection id {1}",
@@ -407,6 +416,13 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                          "The local server has started up the logging destinations defined in the configuration document.",
                          "Validate that all of the logging destinations are working."),
 
+    OUTBOUND_INSTANCE_EVENT_BATCHING("OMRS-AUDIT-0065",
+                         OMRSAuditLogRecordSeverity.STARTUP,
+                         "New and updated instances from the local repository are sent to open metadata repository cohort {0} in batch events of up to {1} instances that are held for no more than {2} milliseconds",
+                         "The local server has been configured to combine consecutive instance events for the cohort into batch instance events.",
+                         "Check that all members of the cohort are able to process batch instance events.  If they are not, remove the " +
+                                 "batch properties from the configuration properties of the cohort's OMRS Topic connection."),
+
     EVENT_PARSING_ERROR("OMRS-AUDIT-0100",
                       OMRSAuditLogRecordSeverity.EXCEPTION,
                       "Unable parse an incoming event {0} due to exception {1}",
@@ -680,6 +696,62 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                                        "of servers that are called during a metadata request.",
                              "Verify that this message appears for each of the access services operating in this server."),
 
+    OUT_TOPIC_EVENT_SEND_FAILED("OMRS-AUDIT-0135",
+                               OMRSAuditLogRecordSeverity.EXCEPTION,
+                               "Publisher {0} was unable to send an event to its topic.  The {1} exception was returned with message {2}",
+                               "The event has not been sent.  The publisher continues with the next event waiting to be sent.",
+                               "Review the exception to determine the cause of the error.  It is likely to be a problem with " +
+                                       "the event bus or the connection to it."),
+
+    OUT_TOPIC_EVENTS_DISCARDED("OMRS-AUDIT-0136",
+                               OMRSAuditLogRecordSeverity.ERROR,
+                               "Publisher {0} discarded {1} events that were still waiting to be sent to its topic when it shut down",
+                               "The publisher waited for the events to be sent but the topic did not accept them in time.",
+                               "Check that the event bus is running and responsive.  The consumers of the topic may need to " +
+                                       "refresh their copy of the metadata."),
+
+    UNREADABLE_REGISTRY_JOURNAL("OMRS-AUDIT-0137",
+                               OMRSAuditLogRecordSeverity.ERROR,
+                               "Ignoring {0} unreadable records at the end of the journal for cohort registry store {1}",
+                               "The local server was probably stopped while it was writing a change to the cohort registry store. " +
+                                       "The changes recorded before the unreadable records have been restored and the journal " +
+                                       "has been rewritten without them.",
+                               "The cohort registration events from the other members of the cohort will refresh the " +
+                                       "registry store.  If this message occurs when the server has been stopped cleanly, " +
+                                       "check the file system that holds the registry store."),
+
+    IN_MEMORY_REPOSITORY_RESTORED("OMRS-AUDIT-0138",
+                               OMRSAuditLogRecordSeverity.STARTUP,
+                               "The in-memory repository for metadata collection {0} has restored {1} entities and {2} relationships " +
+                                       "from its snapshot and {3} journal records in {4} milliseconds",
+                               "The instances stored in the repository before the server was last stopped are available again.",
+                               "No action is required.  This is part of the normal operation of the server."),
+
+    UNUSABLE_IN_MEMORY_SNAPSHOT("OMRS-AUDIT-0139",
+                               OMRSAuditLogRecordSeverity.EXCEPTION,
+                               "The in-memory repository is unable to use its snapshot file {0}.  The {1} exception was returned with message {2}",
+                               "The changes to the repository may not be restored when the server restarts.",
+                               "Review the exception to determine the cause of the error.  It is likely to be a problem with the " +
+                                       "file system or the directory configured for the snapshot."),
+
+    UNREADABLE_IN_MEMORY_JOURNAL("OMRS-AUDIT-0140",
+                               OMRSAuditLogRecordSeverity.ERROR,
+                               "Ignoring {0} unreadable records at the end of the journal for the in-memory repository snapshot {1}",
+                               "The local server was probably stopped while it was writing a change to the journal. " +
+                                       "The changes recorded before the unreadable records have been restored and a new " +
+                                       "snapshot has been written without them.",
+                               "The most recent changes may need to be made again or refreshed from the other members of the cohort.  " +
+                                       "If this message occurs when the server has been stopped cleanly, check the file system " +
+                                       "that holds the snapshot."),
+
+    OUT_TOPIC_PUBLISHER_STOPPED("OMRS-AUDIT-0141",
+                               OMRSAuditLogRecordSeverity.INFO,
+                               "Publisher {0} has stopped.  It accepted {1} events, sent {2} events and failed to send {3} events.  " +
+                                       "Callers waited for space in its queue {4} times",
+                               "The publisher has been disconnected from its topic and will not accept any more events.",
+                               "No action is required.  Many waits for space in the queue suggest that the topic is slower than " +
+                                       "the services that publish to it."),
+
     INCOMING_CONFLICTING_TYPEDEFS("OMRS-AUDIT-0201",
                       OMRSAuditLogRecordSeverity.TYPES,
                       "Server {1} in cohort {0} that hosts metadata collection {2} has detected that " +
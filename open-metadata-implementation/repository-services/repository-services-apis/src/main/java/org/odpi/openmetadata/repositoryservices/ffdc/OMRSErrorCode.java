@@ -786,6 +786,18 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "A null topic listener has been passed to the {0} open metadata topic connector {1}",
             "There is an internal error in the open metadata repository.",
             "Raise a Github issue to get this fixed."),
+    OPEN_METADATA_TOPIC_PUBLISHER_STOPPED(500, "OMRS-METADATA-TOPIC-CONNECTOR-500-002",
+            "Publisher {0} is unable to send event {1} because it has been shut down",
+            "The event is not sent.  The access service that owns the publisher has been shut down.",
+            "Check that the server is not sending events during shutdown."),
+    OPEN_METADATA_TOPIC_EVENT_NOT_SERIALIZABLE(500, "OMRS-METADATA-TOPIC-CONNECTOR-500-003",
+            "Publisher {0} is unable to convert event {1} to JSON.  The {2} exception was returned with message {3}",
+            "The event is not sent.  There is an internal error in the event bean.",
+            "Raise a Github issue to get this fixed."),
+    OPEN_METADATA_TOPIC_PUBLISHER_INTERRUPTED(500, "OMRS-METADATA-TOPIC-CONNECTOR-500-004",
+            "Publisher {0} was interrupted while waiting to queue event {1}",
+            "The event is not sent.  The calling thread was interrupted while the publisher's queue was full.",
+            "Check that the event bus is keeping up with the events from the server."),
     NULL_OMRS_TOPIC_LISTENER(500, "OMRS-TOPIC-CONNECTOR-500-001",
             "A null topic listener has been passed to the open metadata topic connector {0}",
             "There is an internal error in the open metadata repository.",
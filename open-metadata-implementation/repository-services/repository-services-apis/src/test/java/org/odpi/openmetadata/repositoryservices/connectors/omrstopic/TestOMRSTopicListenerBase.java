@@ -0,0 +1,149 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Verify that OMRSTopicListenerBase passes each instance in a batch instance event to the new or updated
+ * instance methods so that listeners that do not process batches still see the instances.
+ */
+public class TestOMRSTopicListenerBase
+{
+    /**
+     * Instances that have never been updated are new, the rest are updated.
+     */
+    @Test
+    public void testBatchIsExpanded()
+    {
+        List<String> calls = new ArrayList<>();
+
+        OMRSTopicListenerBase listener = new OMRSTopicListenerBase("TestService")
+        {
+            @Override
+            public void processNewEntityEvent(String       sourceName,
+                                              String       originatorMetadataCollectionId,
+                                              String       originatorServerName,
+                                              String       originatorServerType,
+                                              String       originatorOrganizationName,
+                                              EntityDetail entity)
+            {
+                calls.add("new entity " + entity.getGUID() + " from " + originatorMetadataCollectionId);
+            }
+
+
+            @Override
+            public void processUpdatedEntityEvent(String       sourceName,
+                                                  String       originatorMetadataCollectionId,
+                                                  String       originatorServerName,
+                                                  String       originatorServerType,
+                                                  String       originatorOrganizationName,
+                                                  EntityDetail oldEntity,
+                                                  EntityDetail newEntity)
+            {
+                calls.add("updated entity " + newEntity.getGUID() + " from " + originatorMetadataCollectionId);
+            }
+
+
+            @Override
+            public void processNewRelationshipEvent(String       sourceName,
+                                                    String       originatorMetadataCollectionId,
+                                                    String       originatorServerName,
+                                                    String       originatorServerType,
+                                                    String       originatorOrganizationName,
+                                                    Relationship relationship)
+            {
+                calls.add("new relationship " + relationship.getGUID() + " from " + originatorMetadataCollectionId);
+            }
+
+
+            @Override
+            public void processUpdatedRelationshipEvent(String       sourceName,
+                                                        String       originatorMetadataCollectionId,
+                                                        String       originatorServerName,
+                                                        String       originatorServerType,
+                                                        String       originatorOrganizationName,
+                                                        Relationship oldRelationship,
+                                                        Relationship newRelationship)
+            {
+                calls.add("updated relationship " + newRelationship.getGUID() + " from " + originatorMetadataCollectionId);
+            }
+        };
+
+        EntityDetail newEntity = new EntityDetail();
+        newEntity.setGUID("entity-1");
+
+        EntityDetail updatedEntity = new EntityDetail();
+        updatedEntity.setGUID("entity-2");
+        updatedEntity.setUpdateTime(new Date());
+
+        Relationship updatedRelationship = new Relationship();
+        updatedRelationship.setGUID("relationship-1");
+        updatedRelationship.setUpdateTime(new Date());
+
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+        originator.setMetadataCollectionId("collection-1");
+
+        OMRSInstanceEvent batchEvent = new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT,
+                                                             new InstanceGraph(Arrays.asList(newEntity, updatedEntity),
+                                                                               Collections.singletonList(updatedRelationship)));
+        batchEvent.setEventOriginator(originator);
+
+        listener.processInstanceEvent(batchEvent);
+
+        assertEquals(calls, Arrays.asList("new entity entity-1 from collection-1",
+                                          "updated entity entity-2 from collection-1",
+                                          "updated relationship relationship-1 from collection-1"));
+    }
+
+
+    /**
+     * A batch with no relationships is handled.
+     */
+    @Test
+    public void testBatchWithoutRelationships()
+    {
+        List<String> calls = new ArrayList<>();
+
+        OMRSTopicListenerBase listener = new OMRSTopicListenerBase("TestService")
+        {
+            @Override
+            public void processNewEntityEvent(String       sourceName,
+                                              String       originatorMetadataCollectionId,
+                                              String       originatorServerName,
+                                              String       originatorServerType,
+                                              String       originatorOrganizationName,
+                                              EntityDetail entity)
+            {
+                calls.add(entity.getGUID());
+            }
+        };
+
+        EntityDetail newEntity = new EntityDetail();
+        newEntity.setGUID("entity-1");
+
+        listener.processInstanceBatchEvent("TestSource",
+                                           "collection-1",
+                                           null,
+                                           null,
+                                           null,
+                                           new InstanceGraph(Collections.singletonList(newEntity), new ArrayList<>()));
+
+        assertEquals(calls, Collections.singletonList("entity-1"));
+    }
+}
@@ -0,0 +1,320 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests the queueing, back-pressure and shutdown behaviour of OpenMetadataTopicPublisher using topic stubs.
+ */
+public class OpenMetadataTopicPublisherTest
+{
+    @Test
+    public void testEventsAreSentInOrder() throws Exception
+    {
+        RecordingTopic             topic     = new RecordingTopic(0, null);
+        OpenMetadataTopicPublisher publisher = new OpenMetadataTopicPublisher("TestPublisher", topic, null);
+
+        for (int sequence = 0; sequence < 50; sequence++)
+        {
+            publisher.publishEvent(new TestEvent(sequence));
+        }
+
+        publisher.disconnect();
+
+        assertEquals(topic.events.size(), 50);
+        assertEquals(topic.events.get(0), "{\"sequence\":0}");
+        assertEquals(topic.events.get(49), "{\"sequence\":49}");
+        assertEquals(publisher.getPublishedEventCount(), 50L);
+        assertEquals(publisher.getSentEventCount(), 50L);
+        assertEquals(publisher.getFailedEventCount(), 0L);
+        assertEquals(publisher.getQueuedEventCount(), 0);
+    }
+
+
+    @Test
+    public void testCallerDoesNotWaitForSlowTopic() throws Exception
+    {
+        final long sendDelay = 200;
+
+        RecordingTopic             topic     = new RecordingTopic(sendDelay, null);
+        OpenMetadataTopicPublisher publisher = new OpenMetadataTopicPublisher("TestPublisher", topic, null);
+
+        long startTime = System.currentTimeMillis();
+
+        for (int sequence = 0; sequence < 5; sequence++)
+        {
+            publisher.publishEvent(new TestEvent(sequence));
+        }
+
+        long publishTime = System.currentTimeMillis() - startTime;
+
+        assertTrue(publishTime < sendDelay, "Publishing took " + publishTime + " ms");
+
+        publisher.disconnect();
+
+        assertEquals(topic.events.size(), 5, "Queued events are sent on disconnect");
+        assertEquals(publisher.getBlockedPublishCount(), 0L);
+    }
+
+
+    @Test
+    public void testFullQueueBlocksPublisher() throws Exception
+    {
+        CountDownLatch             topicRelease = new CountDownLatch(1);
+        RecordingTopic             topic        = new RecordingTopic(0, topicRelease);
+        OpenMetadataTopicPublisher publisher    = new OpenMetadataTopicPublisher("TestPublisher",
+                                                                                 topic,
+                                                                                 2,
+                                                                                 OpenMetadataTopicPublisher.DEFAULT_SHUTDOWN_TIMEOUT,
+                                                                                 null);
+        CountDownLatch             published    = new CountDownLatch(1);
+
+        Thread producer = new Thread(() ->
+        {
+            try
+            {
+                for (int sequence = 0; sequence < 6; sequence++)
+                {
+                    publisher.publishEvent(new TestEvent(sequence));
+                }
+
+                published.countDown();
+            }
+            catch (ConnectorCheckedException error)
+            {
+                fail("Unexpected exception " + error.getMessage());
+            }
+        });
+
+        producer.start();
+
+        assertTrue(! published.await(500, TimeUnit.MILLISECONDS), "Producer should wait while the queue is full");
+        assertTrue(publisher.getBlockedPublishCount() > 0);
+        assertEquals(publisher.getQueuedEventCount(), 2);
+
+        topicRelease.countDown();
+
+        assertTrue(published.await(5, TimeUnit.SECONDS), "Producer should continue once the topic accepts events");
+
+        publisher.disconnect();
+
+        assertEquals(topic.events.size(), 6);
+        assertEquals(publisher.getSentEventCount(), 6L);
+    }
+
+
+    @Test
+    public void testShutdownTimeoutDiscardsEvents() throws Exception
+    {
+        CountDownLatch             topicRelease = new CountDownLatch(1);
+        RecordingTopic             topic        = new RecordingTopic(0, topicRelease);
+        OpenMetadataTopicPublisher publisher    = new OpenMetadataTopicPublisher("TestPublisher", topic, 10, 200, null);
+
+        for (int sequence = 0; sequence < 3; sequence++)
+        {
+            publisher.publishEvent(new TestEvent(sequence));
+        }
+
+        publisher.disconnect();
+
+        assertEquals(publisher.getQueuedEventCount(), 0);
+        assertTrue(topic.events.isEmpty());
+
+        try
+        {
+            publisher.publishEvent(new TestEvent(4));
+            fail("Events can not be published after disconnect");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertTrue(error.getReportedErrorMessage().contains("TestPublisher"));
+        }
+    }
+
+
+    @Test
+    public void testWaitingPublisherIsRejectedAtDisconnect() throws Exception
+    {
+        CountDownLatch             topicRelease = new CountDownLatch(1);
+        RecordingTopic             topic        = new RecordingTopic(0, topicRelease);
+        OpenMetadataTopicPublisher publisher    = new OpenMetadataTopicPublisher("TestPublisher", topic, 1, 200, null);
+        CountDownLatch             rejected     = new CountDownLatch(1);
+
+        /*
+         * The sender thread takes the first event and waits in the topic, the second fills the queue and the
+         * third has to wait for space.
+         */
+        publisher.publishEvent(new TestEvent(1));
+        waitForQueuedEventCount(publisher, 0);
+        publisher.publishEvent(new TestEvent(2));
+
+        Thread producer = new Thread(() ->
+        {
+            try
+            {
+                publisher.publishEvent(new TestEvent(3));
+            }
+            catch (ConnectorCheckedException error)
+            {
+                rejected.countDown();
+            }
+        });
+
+        producer.start();
+
+        assertTrue(! rejected.await(300, TimeUnit.MILLISECONDS), "Producer should wait while the queue is full");
+
+        publisher.disconnect();
+
+        assertTrue(rejected.await(5, TimeUnit.SECONDS), "Waiting producer should be rejected once disconnect starts");
+        assertEquals(publisher.getQueuedEventCount(), 0);
+        assertEquals(publisher.getPublishedEventCount(), 2L);
+    }
+
+
+    @Test
+    public void testSendErrorsAreCounted() throws Exception
+    {
+        OpenMetadataTopicPublisher publisher = new OpenMetadataTopicPublisher("TestPublisher", new FailingTopic(), null);
+
+        publisher.publishEvent(new TestEvent(1));
+        publisher.publishEvent(new TestEvent(2));
+        publisher.disconnect();
+
+        assertEquals(publisher.getPublishedEventCount(), 2L);
+        assertEquals(publisher.getSentEventCount(), 0L);
+        assertEquals(publisher.getFailedEventCount(), 2L);
+    }
+
+
+    @Test
+    public void testNoTopic() throws Exception
+    {
+        OpenMetadataTopicPublisher publisher = new OpenMetadataTopicPublisher("TestPublisher", null, null);
+
+        publisher.publishEvent(new TestEvent(1));
+        publisher.disconnect();
+
+        assertEquals(publisher.getPublishedEventCount(), 0L);
+    }
+
+
+    /**
+     * Wait for the sender thread to take the queued events.
+     *
+     * @param publisher publisher to test
+     * @param queuedEventCount expected number of queued events
+     * @throws InterruptedException interrupted while waiting
+     */
+    private void waitForQueuedEventCount(OpenMetadataTopicPublisher publisher,
+                                         int                        queuedEventCount) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while ((publisher.getQueuedEventCount() != queuedEventCount) && (System.currentTimeMillis() < deadline))
+        {
+            Thread.sleep(10);
+        }
+
+        assertEquals(publisher.getQueuedEventCount(), queuedEventCount);
+    }
+
+
+    /**
+     * Simple event bean.
+     */
+    public static class TestEvent
+    {
+        private int sequence;
+
+        TestEvent(int sequence)
+        {
+            this.sequence = sequence;
+        }
+
+        public int getSequence()
+        {
+            return sequence;
+        }
+    }
+
+
+    /**
+     * Topic stub that records the events it is sent.  It can be slowed down with a delay or held until a latch is released.
+     */
+    private static class RecordingTopic implements OpenMetadataTopic
+    {
+        private final List<String>   events = new CopyOnWriteArrayList<>();
+        private final long           sendDelay;
+        private final CountDownLatch release;
+
+        RecordingTopic(long sendDelay, CountDownLatch release)
+        {
+            this.sendDelay = sendDelay;
+            this.release = release;
+        }
+
+        @Override
+        public String registerListener(OpenMetadataTopicListener newListener)
+        {
+            return "TestTopic";
+        }
+
+        @Override
+        public void sendEvent(String event)
+        {
+            try
+            {
+                if (release != null)
+                {
+                    release.await();
+                }
+
+                if (sendDelay > 0)
+                {
+                    Thread.sleep(sendDelay);
+                }
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            events.add(event);
+        }
+    }
+
+
+    /**
+     * Topic stub that rejects every event.
+     */
+    private static class FailingTopic implements OpenMetadataTopic
+    {
+        @Override
+        public String registerListener(OpenMetadataTopicListener newListener)
+        {
+            return "TestTopic";
+        }
+
+        @Override
+        public void sendEvent(String event) throws ConnectorCheckedException
+        {
+            throw new ConnectorCheckedException(OMRSErrorCode.OMRS_TOPIC_SEND_EVENT_FAILED.getMessageDefinition("TestTopic", event, "Topic unavailable"),
+                                                this.getClass().getName(),
+                                                "sendEvent");
+        }
+    }
+}
@@ -2,11 +2,30 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EnumDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
 /**
- * OpenMetadataArchiveStoreConnectorTest just tests the null constructor and the fact that the connector
- * is auditable.
+ * OpenMetadataArchiveStoreConnectorTest tests the null constructor, the fact that the connector
+ * is auditable and the default processing of the archive contents.
  */
 public class OpenMetadataArchiveStoreConnectorTest
 {
@@ -15,5 +34,117 @@ public class OpenMetadataArchiveStoreConnectorTest
        OpenMetadataArchiveStoreConnector connector = new MockOpenMetadataArchiveStoreConnector();
 
        connector.setAuditLog(null);
+
+       assertEquals(connector.getInstanceBatchSize(), 1);
+   }
+
+
+   @Test public void testEmptyArchive()
+   {
+       OpenMetadataArchiveStoreConnector connector = new MockOpenMetadataArchiveStoreConnector();
+       List<String>                      received  = new ArrayList<>();
+
+       connector.processArchiveContents(new RecordingContentProcessor(received));
+
+       assertTrue(received.isEmpty());
+   }
+
+
+   @Test public void testArchiveContentOrder()
+   {
+       OpenMetadataArchive              archive       = new OpenMetadataArchive();
+       OpenMetadataArchiveTypeStore     typeStore     = new OpenMetadataArchiveTypeStore();
+       OpenMetadataArchiveInstanceStore instanceStore = new OpenMetadataArchiveInstanceStore();
+
+       archive.setArchiveProperties(new OpenMetadataArchiveProperties());
+
+       typeStore.setTypeDefPatches(Collections.singletonList(new TypeDefPatch()));
+       typeStore.setNewTypeDefs(Collections.singletonList(new EntityDef()));
+       typeStore.setAttributeTypeDefs(Collections.singletonList(new EnumDef()));
+       archive.setArchiveTypeStore(typeStore);
+
+       instanceStore.setClassifications(Collections.singletonList(new ClassificationEntityExtension()));
+       instanceStore.setRelationships(Collections.singletonList(new Relationship()));
+       instanceStore.setEntities(Collections.singletonList(new EntityDetail()));
+       archive.setArchiveInstanceStore(instanceStore);
+
+       OpenMetadataArchiveStoreConnector connector = new MockOpenMetadataArchiveStoreConnector()
+       {
+           @Override
+           public OpenMetadataArchive getArchiveContents()
+           {
+               return archive;
+           }
+       };
+
+       List<String> received = new ArrayList<>();
+
+       connector.processArchiveContents(new RecordingContentProcessor(received));
+
+       List<String> expected = new ArrayList<>();
+
+       expected.add("properties");
+       expected.add("attributeTypeDef");
+       expected.add("typeDef");
+       expected.add("typeDefPatch");
+       expected.add("entity");
+       expected.add("relationship");
+       expected.add("classification");
+
+       assertEquals(received, expected);
+   }
+
+
+   /**
+    * Content processor that records the order that it receives the archive content.
+    */
+   private static class RecordingContentProcessor implements OpenMetadataArchiveContentProcessor
+   {
+       private List<String> received;
+
+       RecordingContentProcessor(List<String> received)
+       {
+           this.received = received;
+       }
+
+       public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+       {
+           received.add("properties");
+       }
+
+       public void processAttributeTypeDef(AttributeTypeDef attributeTypeDef)
+       {
+           received.add("attributeTypeDef");
+       }
+
+       public void processNewTypeDef(TypeDef typeDef)
+       {
+           received.add("typeDef");
+       }
+
+       public void processTypeDefPatch(TypeDefPatch typeDefPatch)
+       {
+           received.add("typeDefPatch");
+       }
+
+       public void processEntity(EntityDetail entity)
+       {
+           received.add("entity");
+       }
+
+       public void processRelationship(Relationship relationship)
+       {
+           received.add("relationship");
+       }
+
+       public void processClassification(ClassificationEntityExtension classification)
+       {
+           received.add("classification");
+       }
+
+       public void processArchiveError(Throwable error)
+       {
+           received.add("error");
+       }
    }
 }
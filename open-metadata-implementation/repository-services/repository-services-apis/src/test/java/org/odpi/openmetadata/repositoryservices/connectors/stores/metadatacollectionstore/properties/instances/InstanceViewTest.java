@@ -0,0 +1,240 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * InstanceViewTest checks that the read-only views of the instance beans share the bean's content rather
+ * than copying it, and that the content can not be changed through the view.
+ */
+public class InstanceViewTest
+{
+    private static final int PROPERTY_COUNT       = 50;
+    private static final int CLASSIFICATION_COUNT = 10;
+    private static final int READ_COUNT           = 10000;
+
+
+    /**
+     * Return a filled in entity with many properties and classifications.
+     *
+     * @return test object
+     */
+    private EntityDetail getTestObject()
+    {
+        EntityDetail testObject = new EntityDetail();
+
+        InstanceType type = new InstanceType();
+        type.setTypeDefName("TestType");
+        type.setTypeDefGUID("TestTypeGUID");
+        type.setValidInstanceProperties(new ArrayList<>(Collections.singletonList("property0")));
+
+        testObject.setType(type);
+        testObject.setGUID("TestGUID");
+        testObject.setMetadataCollectionId("TestHomeId");
+        testObject.setCreateTime(new Date(23));
+        testObject.setMaintainedBy(new ArrayList<>(Collections.singletonList("TestMaintainer")));
+
+        InstanceProperties properties = new InstanceProperties();
+        for (int propertyNumber = 0; propertyNumber < PROPERTY_COUNT; propertyNumber++)
+        {
+            PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+            propertyValue.setPrimitiveValue("value" + propertyNumber);
+            properties.setProperty("property" + propertyNumber, propertyValue);
+        }
+        testObject.setProperties(properties);
+
+        List<Classification> classifications = new ArrayList<>();
+        for (int classificationNumber = 0; classificationNumber < CLASSIFICATION_COUNT; classificationNumber++)
+        {
+            Classification classification = new Classification();
+            classification.setName("Classification" + classificationNumber);
+            classification.setType(type);
+            classification.setProperties(properties);
+            classifications.add(classification);
+        }
+        testObject.setClassifications(classifications);
+
+        return testObject;
+    }
+
+
+    /**
+     * Validate that the view returns the bean's own content.
+     */
+    @Test public void testViewSharesContent()
+    {
+        EntityDetail     testObject = getTestObject();
+        EntityDetailView view       = testObject.view();
+
+        assertEquals(view.getGUID(), "TestGUID");
+        assertEquals(view.getType().getTypeDefName(), "TestType");
+        assertEquals(view.getProperties().getPropertyCount(), PROPERTY_COUNT);
+        assertEquals(view.getClassifications().size(), CLASSIFICATION_COUNT);
+
+        assertSame(view.getCreateTime(), view.getCreateTime());
+        assertSame(view.getClassifications().get(0), view.getClassifications().get(0));
+        assertSame(view.getProperties().getPropertyValue("property1"), view.getProperties().getPropertyValue("property1"));
+    }
+
+
+    /**
+     * Validate that the collections returned by the view can not be updated.
+     */
+    @Test public void testViewIsReadOnly()
+    {
+        EntityDetailView view = getTestObject().view();
+
+        expectUnsupported(() -> view.getClassifications().add(new Classification()));
+        expectUnsupported(() -> view.getMaintainedBy().add("TestIntruder"));
+        expectUnsupported(() -> view.getProperties().getInstanceProperties().clear());
+        expectUnsupported(() -> view.getType().getValidInstanceProperties().clear());
+
+        Iterator<String> propertyNames = view.getProperties().getPropertyNames();
+        propertyNames.next();
+        expectUnsupported(propertyNames::remove);
+    }
+
+
+    /**
+     * Validate that the view matches the getters for empty content.
+     */
+    @Test public void testEmptyContent()
+    {
+        EntityDetail testObject = new EntityDetail();
+
+        testObject.setProperties(new InstanceProperties());
+        testObject.setClassifications(new ArrayList<>());
+
+        EntityDetailView view = testObject.view();
+
+        assertNull(view.getType());
+        assertNull(view.getProperties());
+        assertNull(view.getClassifications());
+        assertNull(view.getMaintainedBy());
+        assertNull(view.getMappingProperties());
+
+        assertNull(testObject.getProperties());
+        assertNull(testObject.getClassifications());
+    }
+
+
+    /**
+     * Validate that the relationship view returns views of its ends.
+     */
+    @Test public void testRelationshipView()
+    {
+        EntityProxy entityOneProxy = new EntityProxy();
+        entityOneProxy.setGUID("TestEntityOneGUID");
+
+        Relationship relationship = new Relationship();
+        relationship.setEntityOneProxy(entityOneProxy);
+
+        RelationshipView view = relationship.view();
+
+        assertEquals(view.getEntityOneProxy().getGUID(), "TestEntityOneGUID");
+        assertNull(view.getEntityTwoProxy());
+        assertNull(view.getProperties());
+    }
+
+
+    /**
+     * Validate that reading an entity through its view allocates a small fraction of the memory used by the
+     * copying getters.
+     */
+    @Test public void testViewDoesNotCopy()
+    {
+        EntityDetail testObject = getTestObject();
+
+        /*
+         * Warm up both paths so class loading and compilation are not counted.
+         */
+        readThroughGetters(testObject);
+        readThroughView(testObject);
+
+        long getterBytes = measureAllocation(() -> readThroughGetters(testObject));
+        long viewBytes   = measureAllocation(() -> readThroughView(testObject));
+
+        assertTrue(viewBytes * 10 < getterBytes,
+                   "View allocated " + viewBytes + " bytes; getters allocated " + getterBytes + " bytes");
+    }
+
+
+    private int readThroughGetters(EntityDetail entity)
+    {
+        int count = 0;
+
+        for (int readNumber = 0; readNumber < READ_COUNT; readNumber++)
+        {
+            count += entity.getType().getTypeDefName().length();
+            count += entity.getProperties().getPropertyCount();
+            count += entity.getClassifications().size();
+            count += (int) entity.getCreateTime().getTime();
+        }
+
+        return count;
+    }
+
+
+    private int readThroughView(EntityDetail entity)
+    {
+        int count = 0;
+
+        for (int readNumber = 0; readNumber < READ_COUNT; readNumber++)
+        {
+            EntityDetailView view = entity.view();
+
+            count += view.getType().getTypeDefName().length();
+            count += view.getProperties().getPropertyCount();
+            count += view.getClassifications().size();
+            count += (int) view.getCreateTime().getTime();
+        }
+
+        return count;
+    }
+
+
+    private long measureAllocation(Runnable work)
+    {
+        if (! (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean))
+        {
+            throw new SkipException("Thread allocation counting is not available in this JVM");
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long                            threadId     = Thread.currentThread().getId();
+
+        if (! threadMXBean.isThreadAllocatedMemorySupported())
+        {
+            throw new SkipException("Thread allocation counting is not available in this JVM");
+        }
+
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        work.run();
+
+        return threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+    }
+
+
+    private void expectUnsupported(Runnable update)
+    {
+        try
+        {
+            update.run();
+            fail("Update through view was allowed");
+        }
+        catch (UnsupportedOperationException expected)
+        {
+            // view is read-only
+        }
+    }
+}
@@ -388,6 +388,7 @@ public class OMRSOperationalServices
                 OMRSRepositoryEventPublisher
                         enterpriseEventPublisher = new OMRSRepositoryEventPublisher("Local Repository to Enterprise",
                                                                                     enterpriseOMRSTopicConnector,
+                                                                                    true,
                                                                                     auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER));
 
                 this.localRepositoryEventManager.registerRepositoryEventProcessor(enterpriseEventPublisher);
@@ -0,0 +1,486 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.archivemanager;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * OMRSArchiveLoader passes the contents of a single open metadata archive to the local repository's event
+ * processors as the archive is read.  This means the archive does not need to be held in memory while it is loaded.
+ * Instances may be passed to the local repository individually or, if a batch size greater than one is
+ * requested, grouped into batches that are passed to the local repository as a single instance graph.
+ */
+class OMRSArchiveLoader implements OpenMetadataArchiveContentProcessor
+{
+    private static final String actionDescription = "Process Open Metadata Archive";
+
+    private String                              archiveSource;
+    private OMRSTypeDefEventProcessorInterface  typeDefProcessor;
+    private OMRSInstanceEventProcessorInterface instanceProcessor;
+    private int                                 instanceBatchSize;
+    private AuditLog                            auditLog;
+
+    private OpenMetadataArchiveProperties archiveProperties = null;
+    private int                           typeCount         = 0;
+    private int                           instanceCount     = 0;
+
+    /*
+     * Values extracted from the archive properties that are used when passing types to the local repository.
+     */
+    private String typeArchiveId                  = null;
+    private String typeOriginatorServerType       = null;
+
+    /*
+     * Values extracted from the archive properties that are used when passing instances to the local repository.
+     */
+    private String                 instanceArchiveId          = null;
+    private String                 originatorName             = null;
+    private String                 originatorServerType       = null;
+    private InstanceProvenanceType provenanceType             = null;
+
+    private List<EntityDetail>     entityBatch       = new ArrayList<>();
+    private List<Relationship>     relationshipBatch = new ArrayList<>();
+
+
+    /**
+     * Constructor takes the destination of the archive's contents.
+     *
+     * @param archiveSource source of the archive - such as file name
+     * @param typeDefProcessor receiver of new TypeDefs
+     * @param instanceProcessor receiver of new instances - may be null if there is no local repository
+     * @param instanceBatchSize number of instances to pass to the local repository in a single batch
+     * @param auditLog audit log for the archive manager
+     */
+    OMRSArchiveLoader(String                              archiveSource,
+                      OMRSTypeDefEventProcessorInterface  typeDefProcessor,
+                      OMRSInstanceEventProcessorInterface instanceProcessor,
+                      int                                 instanceBatchSize,
+                      AuditLog                            auditLog)
+    {
+        this.archiveSource = archiveSource;
+        this.typeDefProcessor = typeDefProcessor;
+        this.instanceProcessor = instanceProcessor;
+        this.instanceBatchSize = instanceBatchSize;
+        this.auditLog = auditLog;
+    }
+
+
+    /**
+     * Step through the content of an open metadata archive that is already in memory.
+     *
+     * @param archiveContent open metadata archive to process
+     */
+    void processArchive(OpenMetadataArchive archiveContent)
+    {
+        if ((archiveContent != null) && (archiveContent.getArchiveProperties() != null))
+        {
+            this.processArchiveProperties(archiveContent.getArchiveProperties());
+
+            OpenMetadataArchiveTypeStore     archiveTypeStore     = archiveContent.getArchiveTypeStore();
+            OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContent.getArchiveInstanceStore();
+
+            if (archiveTypeStore != null)
+            {
+                if (archiveTypeStore.getAttributeTypeDefs() != null)
+                {
+                    archiveTypeStore.getAttributeTypeDefs().forEach(this::processAttributeTypeDef);
+                }
+
+                if (archiveTypeStore.getNewTypeDefs() != null)
+                {
+                    archiveTypeStore.getNewTypeDefs().forEach(this::processNewTypeDef);
+                }
+
+                if (archiveTypeStore.getTypeDefPatches() != null)
+                {
+                    archiveTypeStore.getTypeDefPatches().forEach(this::processTypeDefPatch);
+                }
+            }
+
+            if (archiveInstanceStore != null)
+            {
+                if (archiveInstanceStore.getEntities() != null)
+                {
+                    archiveInstanceStore.getEntities().forEach(this::processEntity);
+                }
+
+                if (archiveInstanceStore.getRelationships() != null)
+                {
+                    archiveInstanceStore.getRelationships().forEach(this::processRelationship);
+                }
+
+                if (archiveInstanceStore.getClassifications() != null)
+                {
+                    archiveInstanceStore.getClassifications().forEach(this::processClassification);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Pass any batched instances to the local repository and record the outcome of the load in the audit log.
+     */
+    void completeArchive()
+    {
+        if (archiveProperties == null)
+        {
+            auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
+        }
+        else
+        {
+            this.flushInstanceBatch();
+
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(typeCount),
+                                                                                     Integer.toString(instanceCount),
+                                                                                     archiveProperties.getArchiveName()));
+        }
+    }
+
+
+    /**
+     * Receive the properties that describe the archive.  These are used to set up the originator
+     * information passed with each type and instance.
+     *
+     * @param archiveProperties descriptive properties of the archive
+     */
+    @Override
+    public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+    {
+        if (archiveProperties == null)
+        {
+            return;
+        }
+
+        this.archiveProperties = archiveProperties;
+
+        auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
+
+        String archiveVersion = archiveProperties.getArchiveVersion();
+
+        /*
+         * Originator name can not be null for types since it is used as the userId for calls to the repository
+         */
+        String typeOriginatorName = archiveProperties.getOriginatorName();
+
+        if (typeOriginatorName == null)
+        {
+            typeOriginatorName = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
+        }
+
+        typeArchiveId = typeOriginatorName + " (" + archiveVersion + ")";
+
+        if (archiveProperties.getArchiveType() != null)
+        {
+            typeOriginatorServerType = archiveProperties.getArchiveType().getName();
+        }
+
+        originatorName       = archiveProperties.getOriginatorName();
+        instanceArchiveId    = originatorName + " (" + archiveVersion + ")";
+        originatorServerType = OpenMetadataArchiveType.CONTENT_PACK.getName();
+        provenanceType       = InstanceProvenanceType.CONTENT_PACK;
+
+        if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
+        {
+            provenanceType       = InstanceProvenanceType.EXPORT_ARCHIVE;
+            originatorServerType = OpenMetadataArchiveType.METADATA_EXPORT.getName();
+        }
+    }
+
+
+    /**
+     * Pass a new AttributeTypeDef to the local repository.
+     *
+     * @param attributeTypeDef new attribute type
+     */
+    @Override
+    public void processAttributeTypeDef(AttributeTypeDef attributeTypeDef)
+    {
+        if ((attributeTypeDef != null) && (typeDefProcessor != null) && (archiveProperties != null))
+        {
+            typeDefProcessor.processNewAttributeTypeDefEvent(typeArchiveId,
+                                                             archiveProperties.getArchiveGUID(),
+                                                             archiveProperties.getArchiveName(),
+                                                             typeOriginatorServerType,
+                                                             archiveProperties.getOriginatorOrganization(),
+                                                             attributeTypeDef);
+            typeCount ++;
+        }
+    }
+
+
+    /**
+     * Pass a new TypeDef to the local repository.
+     *
+     * @param typeDef new type
+     */
+    @Override
+    public void processNewTypeDef(TypeDef typeDef)
+    {
+        if ((typeDef != null) && (typeDefProcessor != null) && (archiveProperties != null))
+        {
+            typeDefProcessor.processNewTypeDefEvent(typeArchiveId,
+                                                    archiveProperties.getArchiveGUID(),
+                                                    archiveProperties.getArchiveName(),
+                                                    typeOriginatorServerType,
+                                                    archiveProperties.getOriginatorOrganization(),
+                                                    typeDef);
+            typeCount ++;
+        }
+    }
+
+
+    /**
+     * Pass a patch for an existing TypeDef to the local repository.
+     *
+     * @param typeDefPatch patch to apply
+     */
+    @Override
+    public void processTypeDefPatch(TypeDefPatch typeDefPatch)
+    {
+        if ((typeDefPatch != null) && (typeDefProcessor != null) && (archiveProperties != null))
+        {
+            typeDefProcessor.processUpdatedTypeDefEvent(typeArchiveId,
+                                                        archiveProperties.getArchiveGUID(),
+                                                        archiveProperties.getArchiveName(),
+                                                        typeOriginatorServerType,
+                                                        archiveProperties.getOriginatorOrganization(),
+                                                        typeDefPatch);
+            typeCount ++;
+        }
+    }
+
+
+    /**
+     * Pass an entity to the local repository, either directly or as part of a batch.
+     *
+     * @param entity entity instance
+     */
+    @Override
+    public void processEntity(EntityDetail entity)
+    {
+        if ((entity != null) && (instanceProcessor != null) && (archiveProperties != null))
+        {
+            this.setInstanceAuditHeader(entity);
+
+            if (instanceBatchSize > 1)
+            {
+                entityBatch.add(entity);
+                this.checkInstanceBatch();
+            }
+            else
+            {
+                instanceProcessor.processNewEntityEvent(instanceArchiveId,
+                                                        archiveProperties.getArchiveGUID(),
+                                                        archiveProperties.getArchiveName(),
+                                                        originatorServerType,
+                                                        archiveProperties.getOriginatorOrganization(),
+                                                        entity);
+            }
+
+            instanceCount ++;
+        }
+    }
+
+
+    /**
+     * Pass a relationship to the local repository, either directly or as part of a batch.
+     *
+     * @param relationship relationship instance
+     */
+    @Override
+    public void processRelationship(Relationship relationship)
+    {
+        if ((relationship != null) && (instanceProcessor != null) && (archiveProperties != null))
+        {
+            this.setInstanceAuditHeader(relationship);
+
+            if (instanceBatchSize > 1)
+            {
+                relationshipBatch.add(relationship);
+                this.checkInstanceBatch();
+            }
+            else
+            {
+                instanceProcessor.processNewRelationshipEvent(instanceArchiveId,
+                                                              archiveProperties.getArchiveGUID(),
+                                                              archiveProperties.getArchiveName(),
+                                                              originatorServerType,
+                                                              archiveProperties.getOriginatorOrganization(),
+                                                              relationship);
+            }
+
+            instanceCount ++;
+        }
+    }
+
+
+    /**
+     * Set up the header of a classification from the archive.  Classifications are not yet passed to the
+     * local repository.
+     *
+     * @param classificationEntityExtension classification and the entity it is attached to
+     */
+    @Override
+    public void processClassification(ClassificationEntityExtension classificationEntityExtension)
+    {
+        if ((classificationEntityExtension != null) && (instanceProcessor != null) && (archiveProperties != null))
+        {
+            Classification classification = classificationEntityExtension.getClassification();
+
+            this.setInstanceAuditHeader(classification);
+
+            classificationEntityExtension.setClassification(classification);
+
+            // Todo
+            /* new method required
+            instanceProcessor.processNewClassificationEvent(archiveId,
+                                                            homeMetadataCollectionId,
+                                                            originatorServerName,
+                                                            originatorServerType,
+                                                            originatorOrganizationName,
+                                                            classificationEntityExtension);
+
+            instanceCount ++;
+            */
+        }
+    }
+
+
+    /**
+     * Record that the archive could not be read completely.  The instances that have already been read are
+     * passed to the local repository.
+     *
+     * @param error exception that stopped the archive from being read
+     */
+    @Override
+    public void processArchiveError(Throwable error)
+    {
+        this.flushInstanceBatch();
+
+        auditLog.logException(actionDescription,
+                              OMRSAuditCode.UNREADABLE_ARCHIVE.getMessageDefinition(archiveSource,
+                                                                                    error.getClass().getName(),
+                                                                                    error.getMessage()),
+                              error);
+    }
+
+
+    /**
+     * Pass the current batch of instances to the local repository if it is full.
+     */
+    private void checkInstanceBatch()
+    {
+        if (entityBatch.size() + relationshipBatch.size() >= instanceBatchSize)
+        {
+            this.flushInstanceBatch();
+        }
+    }
+
+
+    /**
+     * Pass any waiting instances to the local repository.  Within a batch, the entities are saved before the
+     * relationships and since the archive lists all of its entities before its relationships,
+     * the relationships' entities are always saved first.  The local repository validates each instance in
+     * the batch in the same way as an individual instance so an instance in error does not affect the rest
+     * of the batch.
+     */
+    private void flushInstanceBatch()
+    {
+        if ((! entityBatch.isEmpty()) || (! relationshipBatch.isEmpty()))
+        {
+            InstanceGraph instances = new InstanceGraph();
+
+            if (! entityBatch.isEmpty())
+            {
+                instances.setEntities(entityBatch);
+            }
+
+            if (! relationshipBatch.isEmpty())
+            {
+                instances.setRelationships(relationshipBatch);
+            }
+
+            instanceProcessor.processInstanceBatchEvent(instanceArchiveId,
+                                                        archiveProperties.getArchiveGUID(),
+                                                        archiveProperties.getArchiveName(),
+                                                        originatorServerType,
+                                                        archiveProperties.getOriginatorOrganization(),
+                                                        instances);
+
+            entityBatch = new ArrayList<>();
+            relationshipBatch = new ArrayList<>();
+        }
+    }
+
+
+    /**
+     * Set up the header of an archive instance.
+     *
+     * @param instance instance to fill in
+     */
+    private void setInstanceAuditHeader(InstanceAuditHeader    instance)
+    {
+        String metadataCollectionId   = archiveProperties.getArchiveGUID();
+        String metadataConnectionName = archiveProperties.getArchiveName();
+        Date   creationTime           = archiveProperties.getCreationDate();
+        String originatorLicense      = archiveProperties.getOriginatorLicense();
+
+        if (provenanceType == InstanceProvenanceType.EXPORT_ARCHIVE)
+        {
+            if (instance.getMetadataCollectionId() == null)
+            {
+                instance.setMetadataCollectionId(metadataCollectionId);
+            }
+
+            if (instance.getMetadataCollectionName() == null)
+            {
+                instance.setMetadataCollectionName(metadataConnectionName);
+            }
+
+            if (instance.getCreatedBy() == null)
+            {
+                instance.setCreatedBy(originatorName);
+            }
+
+            if (instance.getCreateTime() == null)
+            {
+                instance.setCreateTime(creationTime);
+            }
+
+            if (instance.getInstanceProvenanceType() == null)
+            {
+                instance.setInstanceProvenanceType(provenanceType);
+            }
+
+            if (instance.getInstanceLicense() == null)
+            {
+                instance.setInstanceLicense(originatorLicense);
+            }
+        }
+        else /* assume this is a content pack and set up instances consistently */
+        {
+            instance.setMetadataCollectionId(metadataCollectionId);
+            instance.setMetadataCollectionName(metadataConnectionName);
+            instance.setCreatedBy(originatorName);
+            instance.setCreateTime(creationTime);
+            instance.setInstanceProvenanceType(InstanceProvenanceType.CONTENT_PACK);
+            instance.setInstanceLicense(originatorLicense);
+        }
+    }
+}
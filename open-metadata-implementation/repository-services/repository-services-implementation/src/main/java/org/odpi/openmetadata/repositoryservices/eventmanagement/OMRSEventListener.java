@@ -8,6 +8,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.events.*;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSEventDropReason;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSEventHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicEventFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
 
 /**
@@ -21,11 +24,16 @@ import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicLi
  * The role of the OMRSEventListener is to decide which events to process.  This is controlled by the
  * synchronization rule passed on the constructor.
  * </p>
+ * <p>
+ * When the exchange rule is supplied, the OMRSEventListener also acts as an OMRSTopicEventFilter so that
+ * the OMRSTopicConnector can discard events that would be ignored without parsing them.
+ * </p>
  */
-public class OMRSEventListener implements OMRSTopicListener
+public class OMRSEventListener implements OMRSTopicListener, OMRSTopicEventFilter
 {
-    private String cohortName;
-    private String localMetadataCollectionId;
+    private String                          cohortName;
+    private String                          localMetadataCollectionId;
+    private OMRSRepositoryEventExchangeRule exchangeRule = null;
 
     /*
      * There is an event processor for each category of event.  The OMRSEventListener passes appropriate events to these
@@ -67,6 +75,78 @@ public class OMRSEventListener implements OMRSTopicListener
     }
 
 
+    /**
+     * Constructor saves configuration parameters, including the exchange rule used by the repository event
+     * processor to select inbound events.  This rule is used to discard unwanted events before they are parsed.
+     *
+     * @param cohortName name of the cohort that this event listener belongs to
+     * @param localMetadataCollectionId unique identifier for the local metadata collection
+     * @param registryEventProcessor processor for registry events
+     * @param repositoryEventProcessor processor for TypeDef and Instance synchronization events
+     * @param exchangeRule rule applied by the repository event processor to inbound events
+     * @param auditLog audit log for this component.
+     */
+    public OMRSEventListener(String                          cohortName,
+                             String                          localMetadataCollectionId,
+                             OMRSRegistryEventProcessor      registryEventProcessor,
+                             OMRSRepositoryEventProcessor    repositoryEventProcessor,
+                             OMRSRepositoryEventExchangeRule exchangeRule,
+                             AuditLog                        auditLog)
+    {
+        this(cohortName, localMetadataCollectionId, registryEventProcessor, repositoryEventProcessor, auditLog);
+
+        this.exchangeRule = exchangeRule;
+    }
+
+
+    /**
+     * Decide from the header of an inbound event whether it would be ignored.  Events from the local server
+     * are always ignored.  TypeDef and instance events are ignored if the exchange rule rejects them.
+     * Batch instance events are not filtered since the exchange rule is applied to each instance in the batch.
+     *
+     * @param eventHeader header fields of the incoming event
+     * @return null if the event is needed, otherwise the reason it is not needed
+     */
+    public OMRSEventDropReason filterEvent(OMRSEventHeader eventHeader)
+    {
+        if ((localMetadataCollectionId != null) &&
+            (localMetadataCollectionId.equals(eventHeader.getOriginatorMetadataCollectionId())))
+        {
+            return OMRSEventDropReason.LOCAL_ORIGINATOR;
+        }
+
+        if ((exchangeRule == null) || (eventHeader.getEventCategory() == null))
+        {
+            return null;
+        }
+
+        switch (eventHeader.getEventCategory())
+        {
+            case TYPEDEF:
+                if ((typeDefEventProcessor != null) && (! exchangeRule.processTypeDefEvents()))
+                {
+                    return OMRSEventDropReason.CATEGORY_NOT_EXCHANGED;
+                }
+                break;
+
+            case INSTANCE:
+                if ((instanceEventProcessor != null) &&
+                    (eventHeader.getInstanceEventType() != null) &&
+                    (eventHeader.getInstanceEventType() != OMRSInstanceEventType.BATCH_INSTANCES_EVENT) &&
+                    (! exchangeRule.processInstanceEvent(eventHeader.getTypeDefGUID(), eventHeader.getTypeDefName())))
+                {
+                    return OMRSEventDropReason.TYPE_NOT_EXCHANGED;
+                }
+                break;
+
+            default:
+                break;
+        }
+
+        return null;
+    }
+
+
     /**
      * The event contains a registry event.  It needs to be further unpacked and passed to the appropriate
      * registry event processor (OMRSCohortRegistry).
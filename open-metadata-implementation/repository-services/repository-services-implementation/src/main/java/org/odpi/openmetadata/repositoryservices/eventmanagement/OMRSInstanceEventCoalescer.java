@@ -0,0 +1,223 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * OMRSInstanceEventCoalescer combines consecutive new and updated instance events into batch instance events
+ * before they are passed to an OMRSRepositoryEventPublisher.  A batch is sent when it holds the maximum
+ * number of instances, when it has been held for the maximum delay, or when an event that can not be
+ * batched arrives.  Since the batch is always sent before the next event, the events about an instance
+ * arrive in the same order as they were produced.  If an instance changes more than once while a batch is
+ * being built, the batch holds the latest version.
+ */
+class OMRSInstanceEventCoalescer
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSInstanceEventCoalescer.class);
+
+    private final OMRSRepositoryEventPublisher publisher;
+    private final int                          maxBatchSize;
+    private final long                         maxBatchDelay;
+    private final ScheduledThreadPoolExecutor  flushTimer;
+
+    private final List<OMRSInstanceEvent>      bufferedEvents = new ArrayList<>();
+    private final Map<String, EntityDetail>    entities       = new LinkedHashMap<>();
+    private final Map<String, Relationship>    relationships  = new LinkedHashMap<>();
+    private String                             batchSourceName = null;
+    private OMRSEventOriginator                batchOriginator = null;
+    private ScheduledFuture<?>                 scheduledFlush  = null;
+    private boolean                            isActive        = true;
+
+
+    /**
+     * Constructor sets up the limits of each batch.
+     *
+     * @param publisher publisher that sends the events to the OMRS Topic
+     * @param maxBatchSize maximum number of instances in a batch event
+     * @param maxBatchDelay maximum time in milliseconds that an event is held before it is sent
+     */
+    OMRSInstanceEventCoalescer(OMRSRepositoryEventPublisher publisher,
+                               int                          maxBatchSize,
+                               long                         maxBatchDelay)
+    {
+        this.publisher = publisher;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelay = maxBatchDelay;
+
+        this.flushTimer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "OMRSInstanceEventCoalescer: " + publisher.getEventProcessorName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flushTimer.setRemoveOnCancelPolicy(true);
+    }
+
+
+    /**
+     * Add an instance event to the current batch, or send it straight away if it can not be batched.
+     *
+     * @param sourceName name of caller
+     * @param instanceEvent event to send
+     */
+    synchronized void sendInstanceEvent(String            sourceName,
+                                        OMRSInstanceEvent instanceEvent)
+    {
+        if ((! isActive) || (! canBatch(instanceEvent)))
+        {
+            this.flush();
+            publisher.publishInstanceEvent(sourceName, instanceEvent);
+            return;
+        }
+
+        if ((! bufferedEvents.isEmpty()) &&
+            ((! Objects.equals(sourceName, batchSourceName)) ||
+             (! Objects.equals(getMetadataCollectionId(instanceEvent.getEventOriginator()), getMetadataCollectionId(batchOriginator)))))
+        {
+            this.flush();
+        }
+
+        if (bufferedEvents.isEmpty())
+        {
+            batchSourceName = sourceName;
+            batchOriginator = instanceEvent.getEventOriginator();
+            scheduledFlush = flushTimer.schedule(this::flushOnTimer, maxBatchDelay, TimeUnit.MILLISECONDS);
+        }
+
+        bufferedEvents.add(instanceEvent);
+
+        if (instanceEvent.getEntity() != null)
+        {
+            entities.put(instanceEvent.getEntity().getGUID(), instanceEvent.getEntity());
+        }
+        else
+        {
+            relationships.put(instanceEvent.getRelationship().getGUID(), instanceEvent.getRelationship());
+        }
+
+        if (entities.size() + relationships.size() >= maxBatchSize)
+        {
+            this.flush();
+        }
+    }
+
+
+    /**
+     * Send any buffered events and stop the timer.  Later events are sent straight away.
+     */
+    synchronized void disconnect()
+    {
+        this.flush();
+        isActive = false;
+        flushTimer.shutdownNow();
+    }
+
+
+    /**
+     * Return whether the event is a new or updated instance that can be sent as part of a batch event.
+     *
+     * @param instanceEvent event to test
+     * @return boolean flag
+     */
+    private boolean canBatch(OMRSInstanceEvent instanceEvent)
+    {
+        OMRSInstanceEventType eventType = instanceEvent.getInstanceEventType();
+
+        if ((eventType == OMRSInstanceEventType.NEW_ENTITY_EVENT) || (eventType == OMRSInstanceEventType.UPDATED_ENTITY_EVENT))
+        {
+            return (instanceEvent.getEntity() != null) && (instanceEvent.getEntity().getGUID() != null);
+        }
+
+        if ((eventType == OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT) || (eventType == OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT))
+        {
+            return (instanceEvent.getRelationship() != null) && (instanceEvent.getRelationship().getGUID() != null);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the metadata collection id from an event originator.
+     *
+     * @param originator originator of the event
+     * @return metadata collection id or null
+     */
+    private String getMetadataCollectionId(OMRSEventOriginator originator)
+    {
+        if (originator == null)
+        {
+            return null;
+        }
+
+        return originator.getMetadataCollectionId();
+    }
+
+
+    /**
+     * Called by the timer when the batch has been held for the maximum delay.
+     */
+    private synchronized void flushOnTimer()
+    {
+        scheduledFlush = null;
+        this.flush();
+    }
+
+
+    /**
+     * Send the buffered events.  A single buffered event is sent as it was received.
+     */
+    private void flush()
+    {
+        if (scheduledFlush != null)
+        {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+
+        if (bufferedEvents.isEmpty())
+        {
+            return;
+        }
+
+        if (bufferedEvents.size() == 1)
+        {
+            publisher.publishInstanceEvent(batchSourceName, bufferedEvents.get(0));
+        }
+        else
+        {
+            InstanceGraph     instances  = new InstanceGraph(new ArrayList<>(entities.values()),
+                                                             new ArrayList<>(relationships.values()));
+            OMRSInstanceEvent batchEvent = new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT, instances);
+
+            batchEvent.setEventOriginator(batchOriginator);
+
+            log.debug("Sending " + bufferedEvents.size() + " instance events as a batch of " + (entities.size() + relationships.size()) + " instances");
+
+            publisher.publishInstanceEvent(batchSourceName, batchEvent);
+        }
+
+        bufferedEvents.clear();
+        entities.clear();
+        relationships.clear();
+        batchSourceName = null;
+        batchOriginator = null;
+    }
+}
@@ -6,7 +6,7 @@ import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadata
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceTypeView;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 
 
@@ -157,7 +157,7 @@ public class OMRSRepositoryEventExchangeRule
         }
         else
         {
-            InstanceType type = instance.getType();
+            InstanceTypeView type = instance.view().getType();
 
             if (type == null)
             {
@@ -187,7 +187,7 @@ public class OMRSRepositoryEventExchangeRule
 
         if (exchangeRule == OpenMetadataExchangeRule.LEARNED_TYPES)
         {
-            InstanceType type = instance.getType();
+            InstanceTypeView type = instance.view().getType();
 
             if (type != null)
             {
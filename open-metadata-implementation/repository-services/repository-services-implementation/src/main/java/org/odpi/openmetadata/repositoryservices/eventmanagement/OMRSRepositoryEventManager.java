@@ -294,26 +294,32 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     	     * references and entities in the contained graph are valid to be processed
     		 */
     		InstanceGraph eventGraph = event.getInstanceBatch();
-    		List<EntityDetail> eventEntities = eventGraph.getEntities();
-    		List<Relationship> eventRelationships = eventGraph.getRelationships();
-    		
     		List<EntityDetail> validEntities = new ArrayList<>();
     		List<Relationship> validRelationships = new ArrayList<>();
-    		
-    		for (EntityDetail entity: eventEntities)
+
+    		/*
+    		 * The instance graph returns null rather than an empty list so a batch
+    		 * may hold just entities or just relationships.
+    		 */
+    		if ((eventGraph != null) && (eventGraph.getEntities() != null))
     		{
-    			if(exchangeRule.processInstanceEvent(entity))
+    			for (EntityDetail entity : eventGraph.getEntities())
     			{
-    				validEntities.add(entity);
+    				if (exchangeRule.processInstanceEvent(entity))
+    				{
+    					validEntities.add(entity);
+    				}
     			}
     		}
-    		
-    		
-    		for (Relationship relationship: eventRelationships)
+
+    		if ((eventGraph != null) && (eventGraph.getRelationships() != null))
     		{
-    			if (exchangeRule.processInstanceEvent(relationship))
+    			for (Relationship relationship : eventGraph.getRelationships())
     			{
-    				validRelationships.add(relationship);
+    				if (exchangeRule.processInstanceEvent(relationship))
+    				{
+    					validRelationships.add(relationship);
+    				}
     			}
     		}
     		
@@ -3,6 +3,9 @@
 package org.odpi.openmetadata.repositoryservices.eventmanagement;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,13 +18,18 @@ import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicCo
 
 /**
  * OMRSRepositoryEventPublisher publishes TypeDef and Instance OMRS Events to the supplied OMRSTopicConnector.
+ * It can optionally combine consecutive new and updated instance events into batch instance events, or
+ * split the batch instance events it receives into one event per instance for consumers, such as the access
+ * services, that do not process batches.
  */
 public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
 {
     private static final Logger log = LoggerFactory.getLogger(OMRSRepositoryEventPublisher.class);
 
-    private OMRSTopicConnector omrsTopicConnector;
-    private AuditLog           auditLog;
+    private OMRSTopicConnector         omrsTopicConnector;
+    private OMRSInstanceEventCoalescer instanceEventCoalescer = null;
+    private boolean                    expandInstanceBatches  = false;
+    private AuditLog                   auditLog;
 
 
     /**
@@ -61,6 +69,59 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
     }
 
 
+    /**
+     * Constructor for a publisher that sends new and updated instances in batch instance events.
+     * A batch is sent when it holds maxInstanceBatchSize instances or when its first event has waited
+     * for maxInstanceBatchDelay milliseconds, whichever comes first.  All other events are sent
+     * after any waiting batch.
+     *
+     * @param publisherName  name of the cohort (or enterprise virtual repository) that this event publisher
+     *                       is sending events to.
+     * @param topicConnector OMRS Topic to send requests on
+     * @param maxInstanceBatchSize maximum number of instances in a batch event.  A value of 1 or less
+     *                             means every event is sent as it is received.
+     * @param maxInstanceBatchDelay maximum time in milliseconds that an instance event waits to be sent
+     * @param auditLog audit log for this component.
+     */
+    public OMRSRepositoryEventPublisher(String             publisherName,
+                                        OMRSTopicConnector topicConnector,
+                                        int                maxInstanceBatchSize,
+                                        long               maxInstanceBatchDelay,
+                                        AuditLog           auditLog)
+    {
+        this(publisherName, topicConnector, auditLog);
+
+        if (maxInstanceBatchSize > 1)
+        {
+            this.instanceEventCoalescer = new OMRSInstanceEventCoalescer(this,
+                                                                         maxInstanceBatchSize,
+                                                                         Math.max(maxInstanceBatchDelay, 0L));
+        }
+    }
+
+
+    /**
+     * Constructor for a publisher that can send each instance in a batch instance event as a separate
+     * new or updated instance event.  This is used for the enterprise topic since the access services
+     * process individual instance events.
+     *
+     * @param publisherName  name of the cohort (or enterprise virtual repository) that this event publisher
+     *                       is sending events to.
+     * @param topicConnector OMRS Topic to send requests on
+     * @param expandInstanceBatches send the instances in a batch instance event as individual events
+     * @param auditLog audit log for this component.
+     */
+    public OMRSRepositoryEventPublisher(String             publisherName,
+                                        OMRSTopicConnector topicConnector,
+                                        boolean            expandInstanceBatches,
+                                        AuditLog           auditLog)
+    {
+        this(publisherName, topicConnector, auditLog);
+
+        this.expandInstanceBatches = expandInstanceBatches;
+    }
+
+
     /**
      * Send the TypeDef event to the OMRS Topic connector (providing TypeDef Events are enabled).
      *
@@ -95,13 +156,112 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
 
     /**
      * Set the instance event to the OMRS Topic connector if the instance
-     * event is of the permitted type.
+     * event is of the permitted type.  If batching is enabled, the event
+     * may be held and sent later as part of a batch instance event.  If batches
+     * are expanded, a batch instance event is sent as one event per instance.
      *
      * @param sourceName name of caller
      * @param instanceEvent properties of the event to send
      */
     public void sendInstanceEvent(String            sourceName,
                                   OMRSInstanceEvent instanceEvent)
+    {
+        if ((expandInstanceBatches) && (instanceEvent.getInstanceEventType() == OMRSInstanceEventType.BATCH_INSTANCES_EVENT))
+        {
+            this.publishInstanceBatch(sourceName, instanceEvent);
+        }
+        else if (instanceEventCoalescer != null)
+        {
+            instanceEventCoalescer.sendInstanceEvent(sourceName, instanceEvent);
+        }
+        else
+        {
+            this.publishInstanceEvent(sourceName, instanceEvent);
+        }
+    }
+
+
+    /**
+     * Send any instance events that are waiting to be batched.  Any events received after
+     * this call are sent straight away.
+     */
+    public void disconnect()
+    {
+        if (instanceEventCoalescer != null)
+        {
+            instanceEventCoalescer.disconnect();
+        }
+    }
+
+
+    /**
+     * Send each instance in a batch instance event as a separate event.  An instance that has never been updated
+     * is sent as a new instance event, otherwise it is sent as an updated instance event.  The previous version
+     * of the instance is not known.
+     *
+     * @param sourceName name of caller
+     * @param batchEvent batch instance event
+     */
+    private void publishInstanceBatch(String            sourceName,
+                                      OMRSInstanceEvent batchEvent)
+    {
+        InstanceGraph instances = batchEvent.getInstanceBatch();
+
+        if (instances == null)
+        {
+            return;
+        }
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                OMRSInstanceEvent instanceEvent;
+
+                if (entity.getUpdateTime() == null)
+                {
+                    instanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity);
+                }
+                else
+                {
+                    instanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, entity);
+                }
+
+                instanceEvent.setEventOriginator(batchEvent.getEventOriginator());
+                this.publishInstanceEvent(sourceName, instanceEvent);
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                OMRSInstanceEvent instanceEvent;
+
+                if (relationship.getUpdateTime() == null)
+                {
+                    instanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT, relationship);
+                }
+                else
+                {
+                    instanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT, relationship);
+                }
+
+                instanceEvent.setEventOriginator(batchEvent.getEventOriginator());
+                this.publishInstanceEvent(sourceName, instanceEvent);
+            }
+        }
+    }
+
+
+    /**
+     * Pass the instance event to the OMRS Topic connector.
+     *
+     * @param sourceName name of caller
+     * @param instanceEvent properties of the event to send
+     */
+    void publishInstanceEvent(String            sourceName,
+                              OMRSInstanceEvent instanceEvent)
     {
         String actionDescription = "Send Instance Event";
 
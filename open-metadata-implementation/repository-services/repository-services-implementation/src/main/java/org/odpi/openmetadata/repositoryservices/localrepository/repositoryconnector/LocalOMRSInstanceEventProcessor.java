@@ -23,6 +23,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.eventmanagement.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 
@@ -1687,9 +1689,6 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
-
-            localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
-                                                                instances);
         }
         catch (Throwable error)
         {
@@ -1697,6 +1696,93 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                            methodName,
                                            originatorServerName,
                                            originatorMetadataCollectionId);
+            return;
+        }
+
+        if (instances == null)
+        {
+            return;
+        }
+
+        /*
+         * Each instance is validated in the same way as an instance received in its own event.
+         * An instance that fails validation is logged and skipped without affecting the rest of the batch.
+         */
+        List<EntityDetail> entitiesToSave      = new ArrayList<>();
+        List<Relationship> relationshipsToSave = new ArrayList<>();
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if (validateReferenceEntity(sourceName, methodName, originatorMetadataCollectionId, originatorServerName, entity))
+                {
+                    entitiesToSave.add(entity);
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if (validateReferenceRelationship(sourceName, methodName, originatorMetadataCollectionId, originatorServerName, relationship))
+                {
+                    relationshipsToSave.add(relationship);
+                }
+            }
+        }
+
+        if ((entitiesToSave.isEmpty()) && (relationshipsToSave.isEmpty()))
+        {
+            return;
+        }
+
+        InstanceGraph instancesToSave = new InstanceGraph();
+
+        instancesToSave.setEntities(entitiesToSave);
+        instancesToSave.setRelationships(relationshipsToSave);
+
+        try
+        {
+            localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
+                                                                instancesToSave);
+        }
+        catch (Throwable batchError)
+        {
+            /*
+             * The repository stopped part way through the batch.  Saving a reference copy again is harmless
+             * so the instances are saved one at a time to isolate the instances that are in error.
+             */
+            for (EntityDetail entity : entitiesToSave)
+            {
+                try
+                {
+                    localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
+                }
+                catch (Throwable error)
+                {
+                    handleUnexpectedErrorFromEvent(error,
+                                                   methodName,
+                                                   originatorServerName,
+                                                   originatorMetadataCollectionId);
+                }
+            }
+
+            for (Relationship relationship : relationshipsToSave)
+            {
+                try
+                {
+                    localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(), relationship);
+                }
+                catch (Throwable error)
+                {
+                    handleUnexpectedErrorFromEvent(error,
+                                                   methodName,
+                                                   originatorServerName,
+                                                   originatorMetadataCollectionId);
+                }
+            }
         }
     }
 
@@ -1995,7 +2081,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                 if (localMetadataCollection.isRelationshipKnown(localRepositoryConnector.getServerUserId(),
                                                                 processedRelationship.getGUID()) == null)
                 {
-                    InstanceType type = processedRelationship.getType();
+                    InstanceTypeView type = processedRelationship.view().getType();
 
                     if (type != null)
                     {
@@ -2095,12 +2181,47 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                        String       originatorMetadataCollectionId,
                                        String       originatorServerName,
                                        EntityDetail entity)
+    {
+        try
+        {
+            verifyEventProcessor(methodName);
+
+            if (validateReferenceEntity(sourceName, methodName, originatorMetadataCollectionId, originatorServerName, entity))
+            {
+                localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
+            }
+        }
+        catch (Throwable error)
+        {
+            handleUnexpectedErrorFromEvent(error,
+                                           methodName,
+                                           originatorServerName,
+                                           originatorMetadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Validate that an incoming entity can be saved as a reference copy.  Any error is logged.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param entity                         details of the entity
+     * @return boolean flag indicating whether the entity should be saved
+     */
+    private boolean validateReferenceEntity(String       sourceName,
+                                            String       methodName,
+                                            String       originatorMetadataCollectionId,
+                                            String       originatorServerName,
+                                            EntityDetail entity)
     {
         try
         {
             final String entityParameterName = "entity";
 
-            verifyEventProcessor(methodName);
             repositoryValidator.validateReferenceInstanceHeader(sourceName,
                                                                 localMetadataCollectionId,
                                                                 entityParameterName,
@@ -2111,21 +2232,14 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                                                               entity.getGUID());
 
             /*
-             * Verify that the incoming instance is compatible with the stored instance.
+             * Verify that the incoming instance is compatible with the stored instance and
+             * that the rules allow the entity to be saved.
              */
-            if (compareAndValidateReferenceInstance(originatorServerName,
-                                                    entity,
-                                                    storedEntity,
-                                                    methodName))
-            {
-                /*
-                 * Verify that the rules allow the entity to be saved
-                 */
-                if (verifyEventToSave(sourceName, entity))
-                {
-                    localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
-                }
-            }
+            return ((compareAndValidateReferenceInstance(originatorServerName,
+                                                         entity,
+                                                         storedEntity,
+                                                         methodName)) &&
+                    (verifyEventToSave(sourceName, entity)));
         }
         catch (Throwable error)
         {
@@ -2134,6 +2248,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                            originatorServerName,
                                            originatorMetadataCollectionId);
         }
+
+        return false;
     }
 
 
@@ -2158,8 +2274,10 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         }
         else
         {
-            InstanceType storedInstanceType   = storedInstance.getType();
-            InstanceType incomingInstanceType = incomingInstance.getType();
+            InstanceHeaderView storedInstanceView   = storedInstance.view();
+            InstanceHeaderView incomingInstanceView = incomingInstance.view();
+            InstanceTypeView   storedInstanceType   = storedInstanceView.getType();
+            InstanceTypeView   incomingInstanceType = incomingInstanceView.getType();
 
             if ((storedInstanceType != null) && (incomingInstanceType != null))
             {
@@ -2169,7 +2287,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                  * Since the protocol allows some adjustment to the guid (reIdentify), the type (reType) and
                  * the home metadataCollectionId (reHome) we use the creation time to validate that this is the same instance.
                  */
-                if (incomingInstance.getCreateTime().equals(storedInstance.getCreateTime()))
+                if (incomingInstanceView.getCreateTime().equals(storedInstanceView.getCreateTime()))
                 {
                     /*
                      * It is probably the same instance.  Is the incoming value a later version? If it isn't, it means
@@ -2347,20 +2465,52 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     {
         try
         {
-            final String     relationshipParameterName = "relationship";
-
             verifyEventProcessor(methodName);
+
+            if (validateReferenceRelationship(sourceName, methodName, originatorMetadataCollectionId, originatorServerName, relationship))
+            {
+                localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
+                                                                      relationship);
+            }
+        }
+        catch (Throwable error)
+        {
+            handleUnexpectedErrorFromEvent(error,
+                                           methodName,
+                                           originatorServerName,
+                                           originatorMetadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Validate that an incoming relationship can be saved as a reference copy.  Any error is logged.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param relationship                   details of the relationship
+     * @return boolean flag indicating whether the relationship should be saved
+     */
+    private boolean validateReferenceRelationship(String       sourceName,
+                                                  String       methodName,
+                                                  String       originatorMetadataCollectionId,
+                                                  String       originatorServerName,
+                                                  Relationship relationship)
+    {
+        try
+        {
+            final String relationshipParameterName = "relationship";
+
             repositoryValidator.validateReferenceInstanceHeader(sourceName,
                                                                 localMetadataCollectionId,
                                                                 relationshipParameterName,
                                                                 relationship,
                                                                 methodName);
 
-            if (verifyEventToSave(sourceName, relationship))
-            {
-                localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
-                                                                      relationship);
-            }
+            return verifyEventToSave(sourceName, relationship);
         }
         catch (Throwable error)
         {
@@ -2369,6 +2519,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                            originatorServerName,
                                            originatorMetadataCollectionId);
         }
+
+        return false;
     }
 
 
@@ -2454,7 +2606,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     private boolean verifyEventToSave(String             source,
                                       InstanceHeader     instance)
     {
-        InstanceType   instanceType = instance.getType();
+        InstanceTypeView instanceType = instance.view().getType();
 
         return ((saveExchangeRule.processInstanceEvent(instance)) &&
                 (repositoryValidator.isActiveType(source,
@@ -2472,7 +2624,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     private boolean verifyEventToLearn(String             source,
                                        InstanceHeader     instance)
     {
-        InstanceType   instanceType = instance.getType();
+        InstanceTypeView instanceType = instance.view().getType();
 
         return ((saveExchangeRule.learnInstanceEvent(instance)) &&
                 (repositoryValidator.isActiveType(source,
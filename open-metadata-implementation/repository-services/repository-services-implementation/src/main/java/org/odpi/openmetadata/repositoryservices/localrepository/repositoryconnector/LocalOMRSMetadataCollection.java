@@ -1436,26 +1436,14 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         }
         else
         {
-            List<EntityDetail>   resultList = new ArrayList<>();
-
-            for (EntityDetail   entity : instanceList)
+            try
             {
-                if (entity != null)
-                {
-                    try
-                    {
-                        securityVerifier.validateUserForEntityRead(userId, metadataCollectionName, entity);
-                    }
-                    catch (org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException  error)
-                    {
-                        throw new UserNotAuthorizedException(error);
-                    }
-
-                    resultList.add(entity);
-                }
+                return securityVerifier.validateUserForEntityListRead(userId, metadataCollectionName, instanceList);
+            }
+            catch (org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException  error)
+            {
+                throw new UserNotAuthorizedException(error);
             }
-
-            return resultList;
         }
     }
 
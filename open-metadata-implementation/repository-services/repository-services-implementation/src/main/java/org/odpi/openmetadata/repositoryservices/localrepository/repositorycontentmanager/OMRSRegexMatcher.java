@@ -0,0 +1,222 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * OMRSRegexMatcher is the compiled form of a regular expression used in a search.  The repository validator
+ * tests each candidate instance against the same search string so the search string is compiled once and the
+ * result is remembered.  The exact match, starts with, ends with and contains regular expressions generated
+ * by OMRSRepositoryHelper are matched as literal strings without using the regular expression engine.
+ * Other regular expressions are matched using a compiled Pattern.
+ *
+ * Matchers are immutable once constructed so they can be shared between threads.  The cache holds the most
+ * recently used matchers and discards the least recently used one when it is full.
+ */
+class OMRSRegexMatcher
+{
+    private static final int                           maxCachedMatchers = 1000;
+    private static final Map<String, OMRSRegexMatcher> cachedMatchers    = new LinkedHashMap<String, OMRSRegexMatcher>(16, 0.75f, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, OMRSRegexMatcher> eldest)
+        {
+            return size() > maxCachedMatchers;
+        }
+    };
+
+    private static final String quoteStart = "\\Q";
+    private static final String quoteEnd   = "\\E";
+    private static final String anyChars   = ".*";
+
+    private enum MatchType
+    {
+        EXACT,
+        STARTS_WITH,
+        ENDS_WITH,
+        CONTAINS,
+        PATTERN
+    }
+
+    private final MatchType matchType;
+    private final String    literal;
+    private final Pattern   pattern;
+
+
+    /**
+     * Return the matcher for the supplied regular expression.
+     *
+     * @param regex regular expression
+     * @return matcher
+     * @throws java.util.regex.PatternSyntaxException the regular expression is not valid
+     */
+    static OMRSRegexMatcher getMatcher(String regex)
+    {
+        OMRSRegexMatcher matcher;
+
+        synchronized (cachedMatchers)
+        {
+            matcher = cachedMatchers.get(regex);
+        }
+
+        if (matcher == null)
+        {
+            /*
+             * Compiled outside of the lock - if two threads compile the same regex, the matchers are equivalent.
+             */
+            matcher = new OMRSRegexMatcher(regex);
+
+            synchronized (cachedMatchers)
+            {
+                cachedMatchers.put(regex, matcher);
+            }
+        }
+
+        return matcher;
+    }
+
+
+    /**
+     * Return the number of matchers in the cache.
+     *
+     * @return count
+     */
+    static int getCachedMatcherCount()
+    {
+        synchronized (cachedMatchers)
+        {
+            return cachedMatchers.size();
+        }
+    }
+
+
+    /**
+     * Return the maximum number of matchers held in the cache.
+     *
+     * @return count
+     */
+    static int getMaxCachedMatchers()
+    {
+        return maxCachedMatchers;
+    }
+
+
+    /**
+     * Constructor classifies the regular expression and compiles it.  The compiled pattern is only used for the
+     * literal forms when the value contains a line terminator.
+     *
+     * @param regex regular expression
+     * @throws java.util.regex.PatternSyntaxException the regular expression is not valid
+     */
+    private OMRSRegexMatcher(String regex)
+    {
+        boolean startsWithAny = regex.startsWith(anyChars);
+        boolean endsWithAny   = regex.endsWith(anyChars) && (! regex.endsWith("\\" + anyChars));
+
+        String quotedPart = regex;
+
+        if (startsWithAny)
+        {
+            quotedPart = quotedPart.substring(anyChars.length());
+        }
+        if (endsWithAny && (quotedPart.length() >= anyChars.length()))
+        {
+            quotedPart = quotedPart.substring(0, quotedPart.length() - anyChars.length());
+        }
+
+        if ((quotedPart.startsWith(quoteStart)) &&
+            (quotedPart.endsWith(quoteEnd)) &&
+            (quotedPart.indexOf(quoteEnd) == quotedPart.length() - quoteEnd.length()))
+        {
+            this.literal = quotedPart.substring(quoteStart.length(), quotedPart.length() - quoteEnd.length());
+
+            if (startsWithAny && endsWithAny)
+            {
+                this.matchType = MatchType.CONTAINS;
+            }
+            else if (startsWithAny)
+            {
+                this.matchType = MatchType.ENDS_WITH;
+            }
+            else if (endsWithAny)
+            {
+                this.matchType = MatchType.STARTS_WITH;
+            }
+            else
+            {
+                this.matchType = MatchType.EXACT;
+            }
+        }
+        else
+        {
+            this.literal   = null;
+            this.matchType = MatchType.PATTERN;
+        }
+
+        this.pattern = Pattern.compile(regex);
+    }
+
+
+    /**
+     * Test whether the value matches the complete regular expression - the same result as value.matches(regex).
+     *
+     * @param value value to test
+     * @return boolean result
+     */
+    boolean matches(String value)
+    {
+        if ((matchType != MatchType.EXACT) && (matchType != MatchType.PATTERN) && (containsLineTerminator(value)))
+        {
+            /*
+             * ".*" does not match line terminators so the literal tests would give the wrong answer.
+             */
+            return pattern.matcher(value).matches();
+        }
+
+        switch (matchType)
+        {
+            case EXACT:
+                return value.equals(literal);
+
+            case STARTS_WITH:
+                return value.startsWith(literal);
+
+            case ENDS_WITH:
+                return value.endsWith(literal);
+
+            case CONTAINS:
+                return value.contains(literal);
+
+            default:
+                return pattern.matcher(value).matches();
+        }
+    }
+
+
+    /**
+     * Determine whether the value contains any of the characters that "." does not match.
+     *
+     * @param value value to test
+     * @return boolean result
+     */
+    private static boolean containsLineTerminator(String value)
+    {
+        for (int i = 0; i < value.length(); i++)
+        {
+            char character = value.charAt(i);
+
+            if ((character == '\n') || (character == '\r') || (character == '\u0085') ||
+                (character == '\u2028') || (character == '\u2029'))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
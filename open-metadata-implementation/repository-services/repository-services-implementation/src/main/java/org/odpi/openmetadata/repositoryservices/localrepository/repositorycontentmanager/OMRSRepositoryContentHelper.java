@@ -170,13 +170,14 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
     {
         if (relationship != null)
         {
-            RelationshipDef relationshipTypeDef = (RelationshipDef)this.getTypeDefByName(sourceName,
-                                                                                         relationship.getType().getTypeDefName());
+            RelationshipView relationshipView    = relationship.view();
+            RelationshipDef  relationshipTypeDef = (RelationshipDef)this.getTypeDefByName(sourceName,
+                                                                                          relationshipView.getType().getTypeDefName());
 
-            String          endOneName = relationshipTypeDef.getEndDef1().getAttributeName();
-            String          endTwoName = relationshipTypeDef.getEndDef2().getAttributeName();
+            String           endOneName = relationshipTypeDef.getEndDef1().getAttributeName();
+            String           endTwoName = relationshipTypeDef.getEndDef2().getAttributeName();
 
-            EntityProxy     entityProxy = relationship.getEntityOneProxy();
+            EntityProxyView  entityProxy = relationshipView.getEntityOneProxy();
 
             if (entityProxy != null)
             {
@@ -825,7 +826,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
              * Duplicate classifications are not allowed so a hash map is used to remove duplicates.
              */
             Map<String, Classification> entityClassificationsMap = new HashMap<>();
-            List<Classification>        entityClassifications    = updatedEntity.getClassifications();
+            List<Classification>        entityClassifications    = updatedEntity.view().getClassifications();
 
             if (entityClassifications != null)
             {
@@ -892,7 +893,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
                                               methodName);
         }
 
-        List<Classification> entityClassifications = entity.getClassifications();
+        List<Classification> entityClassifications = entity.view().getClassifications();
 
         if (entityClassifications != null)
         {
@@ -975,7 +976,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
              * Duplicate classifications are not allowed so a hash map is used to remove duplicates.
              */
             Map<String, Classification> entityClassificationsMap = new HashMap<>();
-            List<Classification>        entityClassifications    = updatedEntity.getClassifications();
+            List<Classification>        entityClassifications    = updatedEntity.view().getClassifications();
 
             if (entityClassifications != null)
             {
@@ -1151,7 +1152,8 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
 
         if (entity != null)
         {
-            InstanceType type = entity.getType();
+            EntityDetailView entityView = entity.view();
+            InstanceTypeView type       = entityView.getType();
 
             if (type != null)
             {
@@ -1165,7 +1167,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
                                                                           methodName);
 
                     EntityProxy            entityProxy          = new EntityProxy(entity);
-                    InstanceProperties     entityProperties     = entity.getProperties();
+                    InstancePropertiesView entityProperties     = entityView.getProperties();
 
                     if (entityProperties != null)
                     {
@@ -1306,8 +1308,9 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
     {
         if (relationship != null)
         {
-            EntityProxy entityOneProxy = relationship.getEntityOneProxy();
-            EntityProxy entityTwoProxy = relationship.getEntityTwoProxy();
+            RelationshipView relationshipView = relationship.view();
+            EntityProxyView  entityOneProxy   = relationshipView.getEntityOneProxy();
+            EntityProxyView  entityTwoProxy   = relationshipView.getEntityTwoProxy();
 
             if (entityOneProxy != null)
             {
@@ -1344,7 +1347,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
 
         if (instance != null)
         {
-            InstanceType type = instance.getType();
+            InstanceTypeView type = instance.view().getType();
 
             if (type != null)
             {
@@ -1372,7 +1375,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
     {
         if (relationship != null)
         {
-            EntityProxy entityProxy = relationship.getEntityOneProxy();
+            EntityProxyView entityProxy = relationship.view().getEntityOneProxy();
 
             if (entityProxy != null)
             {
@@ -1397,7 +1400,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
     {
         if (relationship != null)
         {
-            EntityProxy entityProxy = relationship.getEntityTwoProxy();
+            EntityProxyView entityProxy = relationship.view().getEntityTwoProxy();
 
             if (entityProxy != null)
             {
@@ -1459,8 +1462,8 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
                              @Override
                              public int compare(final EntityDetail object1, final EntityDetail object2)
                              {
-                                 return OMRSRepositoryContentHelper.compareProperties(object1.getProperties(),
-                                                                                      object2.getProperties(),
+                                 return OMRSRepositoryContentHelper.compareProperties(object1.view().getProperties(),
+                                                                                      object2.view().getProperties(),
                                                                                       sequencingProperty,
                                                                                       sequencingOrder);
                              }
@@ -1528,8 +1531,8 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
                             @Override
                             public int compare(final Relationship object1, final Relationship object2)
                             {
-                                return OMRSRepositoryContentHelper.compareProperties(object1.getProperties(),
-                                                                                     object2.getProperties(),
+                                return OMRSRepositoryContentHelper.compareProperties(object1.view().getProperties(),
+                                                                                     object2.view().getProperties(),
                                                                                      sequencingProperty,
                                                                                      sequencingOrder);
                             }
@@ -1556,8 +1559,8 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
      * @param sequencingOrder ascending or descending order
      * @return sort result
      */
-    private static int  compareProperties(InstanceProperties     instance1Properties,
-                                          InstanceProperties     instance2Properties,
+    private static int  compareProperties(InstancePropertiesView instance1Properties,
+                                          InstancePropertiesView instance2Properties,
                                           String                 propertyName,
                                           SequencingOrder        sequencingOrder)
     {
@@ -491,7 +491,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             return false;
         }
 
-        InstanceType instanceType = instance.getType();
+        InstanceTypeView instanceType = instance.view().getType();
 
         if (instanceType == null)
         {
@@ -2251,7 +2251,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             }
             else
             {
-                InstanceType entityType = instance.getType();
+                InstanceTypeView entityType = instance.view().getType();
 
                 if (entityType != null)
                 {
@@ -2426,7 +2426,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
         if (instance != null)
         {
-            InstanceType instanceType = instance.getType();
+            InstanceTypeView instanceType = instance.view().getType();
 
             if (instanceType != null)
             {
@@ -2682,8 +2682,8 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
      */
     private String getTypeNameForMessage(InstanceHeader  instanceHeader)
     {
-        String       typeName = "<nullType>";
-        InstanceType type = instanceHeader.getType();
+        String           typeName = "<nullType>";
+        InstanceTypeView type = instanceHeader.view().getType();
 
         if ((type != null) && (type.getTypeDefName() != null))
         {
@@ -3173,8 +3173,8 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                 TypeDefLink        entityTwoTypeDef     = null;
                 String             entityOneTypeDefName = null;
                 String             entityTwoTypeDefName = null;
-                InstanceType       entityOneType        = null;
-                InstanceType       entityTwoType        = null;
+                InstanceTypeView   entityOneType        = null;
+                InstanceTypeView   entityTwoType        = null;
                 String             entityOneTypeName    = null;
                 String             entityTwoTypeName    = null;
 
@@ -3207,8 +3207,8 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                  */
                 if ((entityOneProxy != null) && (entityTwoProxy != null))
                 {
-                    entityOneType = entityOneProxy.getType();
-                    entityTwoType = entityTwoProxy.getType();
+                    entityOneType = entityOneProxy.view().getType();
+                    entityTwoType = entityTwoProxy.view().getType();
 
                     log.debug("Got Proxy Types of One: " + entityOneType + " and Two: " + entityOneType);
                 }
@@ -3268,7 +3268,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
     {
         if (requiredClassification != null)
         {
-            List<Classification> entityClassifications = entity.getClassifications();
+            List<Classification> entityClassifications = entity.view().getClassifications();
             if (entityClassifications != null)
             {
                 for (Classification entityClassification : entityClassifications)
@@ -3305,7 +3305,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
     {
         if (requiredClassifications != null)
         {
-            List<Classification> entityClassifications = entity.getClassifications();
+            List<Classification> entityClassifications = entity.view().getClassifications();
 
             if (entityClassifications != null)
             {
@@ -3636,7 +3636,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                 {
                                                     try
                                                     {
-                                                        if (instancePropertyValueString.matches(matchPropertyValueString))
+                                                        if (OMRSRegexMatcher.getMatcher(matchPropertyValueString).matches(instancePropertyValueString))
                                                         {
                                                             matchingProperties++;
                                                         }
@@ -3695,7 +3695,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                     if (matchValue != null)
                     {
-                        if (matchValue.matches(expectedValue))
+                        if (OMRSRegexMatcher.getMatcher(expectedValue).matches(matchValue))
                         {
                             result = true;
                         }
@@ -3787,39 +3787,40 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
         if ((matchProperties != null) && (instanceHeader != null))
         {
-            Map<String, InstancePropertyValue>   propertyMap = matchProperties.getInstanceProperties();
+            Map<String, InstancePropertyValue>   propertyMap = matchProperties.view().getInstanceProperties();
+            InstanceAuditHeaderView              header      = instanceHeader.view();
 
             if (propertyMap != null)
             {
-                if (this.checkStringPropertyValue(propertyMap, metadataCollectionIdPropertyName, instanceHeader.getMetadataCollectionId()))
+                if (this.checkStringPropertyValue(propertyMap, metadataCollectionIdPropertyName, header.getMetadataCollectionId()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkStringPropertyValue(propertyMap, metadataCollectionNamePropertyName, instanceHeader.getMetadataCollectionName()))
+                if (this.checkStringPropertyValue(propertyMap, metadataCollectionNamePropertyName, header.getMetadataCollectionName()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkStringPropertyValue(propertyMap, typeNamePropertyName, instanceHeader.getType().getTypeDefName()))
+                if (this.checkStringPropertyValue(propertyMap, typeNamePropertyName, header.getType().getTypeDefName()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkStringPropertyValue(propertyMap, typeGUIDPropertyName, instanceHeader.getType().getTypeDefGUID()))
+                if (this.checkStringPropertyValue(propertyMap, typeGUIDPropertyName, header.getType().getTypeDefGUID()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkStringPropertyValue(propertyMap, createdByPropertyName, instanceHeader.getCreatedBy()))
+                if (this.checkStringPropertyValue(propertyMap, createdByPropertyName, header.getCreatedBy()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkStringPropertyValue(propertyMap, updatedByPropertyName, instanceHeader.getUpdatedBy()))
+                if (this.checkStringPropertyValue(propertyMap, updatedByPropertyName, header.getUpdatedBy()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkDatePropertyValue(propertyMap, createTimePropertyName, instanceHeader.getCreateTime()))
+                if (this.checkDatePropertyValue(propertyMap, createTimePropertyName, header.getCreateTime()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkDatePropertyValue(propertyMap, updateTimePropertyName, instanceHeader.getUpdateTime()))
+                if (this.checkDatePropertyValue(propertyMap, updateTimePropertyName, header.getUpdateTime()))
                 {
                     matchingProperties ++;
                 }
@@ -3855,7 +3856,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                         InstanceProperties   instanceProperties,
                                                         MatchCriteria        matchCriteria) throws InvalidParameterException
     {
-        if (matchProperties != null && matchProperties.getInstanceProperties() != null)
+        if (matchProperties != null && matchProperties.getPropertyCount() > 0)
         {
             int matchingProperties = this.countMatchingPropertyValues(matchProperties, instanceProperties) +
                                      this.countMatchingHeaderPropertyValues(matchProperties, instanceHeader, instanceProperties);
@@ -4033,7 +4034,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                         else
                         {
                             String actual = actualValue.valueAsString();
-                            matchesProperties = actual.matches(test);
+                            matchesProperties = OMRSRegexMatcher.getMatcher(test).matches(actual);
                         }
                     }
                     else
@@ -4093,7 +4094,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             return true;
         }
         int matchingClassificationCount = 0;
-        List<Classification> classifications = entity.getClassifications();
+        List<Classification> classifications = entity.view().getClassifications();
         for (ClassificationCondition condition : conditions)
         {
             String classificationName = condition.getName();
@@ -4271,7 +4272,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                             if (stringProperty != null)
                             {
-                                if (stringProperty.matches(searchCriteria))
+                                if (OMRSRegexMatcher.getMatcher(searchCriteria).matches(stringProperty))
                                 {
                                     return true;
                                 }
@@ -4285,7 +4286,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                         String  enumValue = enumPropertyValue.getSymbolicName();
                         if (enumValue != null)
                         {
-                            if (enumValue.matches(searchCriteria))
+                            if (OMRSRegexMatcher.getMatcher(searchCriteria).matches(enumValue))
                             {
                                 return true;
                             }
@@ -4532,7 +4533,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             throwValidatorLogicError(sourceName, methodName, localMethodName);
         }
 
-        InstanceType   instanceType = instance.getType();
+        InstanceTypeView instanceType = instance.view().getType();
 
         if (instanceType != null)
         {
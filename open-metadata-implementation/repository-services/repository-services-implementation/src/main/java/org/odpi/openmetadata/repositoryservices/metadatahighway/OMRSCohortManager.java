@@ -25,6 +25,7 @@ import org.odpi.openmetadata.repositoryservices.localrepository.OMRSLocalReposit
 import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
 
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -32,6 +33,16 @@ import java.util.List;
  */
 public class OMRSCohortManager
 {
+    /*
+     * Configuration properties of the cohort's OMRS Topic connection that enable batching of outbound
+     * instance events.  All members of the cohort must be able to process batch instance events.
+     */
+    public static final String MAX_OUTBOUND_INSTANCE_BATCH_SIZE_PROPERTY  = "maxOutboundInstanceBatchSize";
+    public static final String MAX_OUTBOUND_INSTANCE_BATCH_DELAY_PROPERTY = "maxOutboundInstanceBatchDelay";
+
+    private static final int   DEFAULT_MAX_OUTBOUND_INSTANCE_BATCH_SIZE  = 1;
+    private static final long  DEFAULT_MAX_OUTBOUND_INSTANCE_BATCH_DELAY = 100;
+
     private String                     cohortName                   = null;
     private OMRSTopicConnector         cohortTopicConnector         = null;
     private Connection                 cohortTopicConnection        = null;
@@ -40,7 +51,8 @@ public class OMRSCohortManager
     private OMRSEventListener          cohortEventListener          = null;
     private CohortConnectionStatus     cohortConnectionStatus       = CohortConnectionStatus.NOT_INITIALIZED;
 
-    private OMRSRepositoryEventManager localRepositoryEventManager  = null;
+    private OMRSRepositoryEventManager   localRepositoryEventManager  = null;
+    private OMRSRepositoryEventPublisher localRepositoryEventPublisher = null;
 
     private AuditLog                   auditLog;
 
@@ -163,11 +175,29 @@ public class OMRSCohortManager
                      * Register an event publisher with the local repository for this cohort.  This will mean
                      * other members of the cohort can receive events from the local server's repository.
                      */
+                    int  maxInstanceBatchSize  = (int)getConfigurationProperty(cohortTopicConnection,
+                                                                               MAX_OUTBOUND_INSTANCE_BATCH_SIZE_PROPERTY,
+                                                                               DEFAULT_MAX_OUTBOUND_INSTANCE_BATCH_SIZE);
+                    long maxInstanceBatchDelay = getConfigurationProperty(cohortTopicConnection,
+                                                                          MAX_OUTBOUND_INSTANCE_BATCH_DELAY_PROPERTY,
+                                                                          DEFAULT_MAX_OUTBOUND_INSTANCE_BATCH_DELAY);
+
                     OMRSRepositoryEventPublisher repositoryEventPublisher = new OMRSRepositoryEventPublisher(cohortName,
                                                                                                              cohortTopicConnector,
+                                                                                                             maxInstanceBatchSize,
+                                                                                                             maxInstanceBatchDelay,
                                                                                                              auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER));
 
+                    if (maxInstanceBatchSize > 1)
+                    {
+                        auditLog.logMessage(actionDescription,
+                                            OMRSAuditCode.OUTBOUND_INSTANCE_EVENT_BATCHING.getMessageDefinition(cohortName,
+                                                                                                                Integer.toString(maxInstanceBatchSize),
+                                                                                                                Long.toString(maxInstanceBatchDelay)));
+                    }
+
                     localRepositoryEventManager.registerRepositoryEventProcessor(repositoryEventPublisher);
+                    this.localRepositoryEventPublisher = repositoryEventPublisher;
                 }
 
                 /*
@@ -209,6 +239,7 @@ public class OMRSCohortManager
             {
                 OMRSRepositoryEventPublisher enterpriseEventPublisher = new OMRSRepositoryEventPublisher("Cohort to Enterprise",
                                                                                                          enterpriseTopicConnector,
+                                                                                                         true,
                                                                                                          auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER));
 
                 this.cohortRepositoryEventManager.registerRepositoryEventProcessor(enterpriseEventPublisher);
@@ -238,6 +269,7 @@ public class OMRSCohortManager
                                                                               localMetadataCollectionId,
                                                                               this.cohortRegistry,
                                                                               this.cohortRepositoryEventManager,
+                                                                              inboundEventExchangeRule,
                                                                               auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_LISTENER));
                 cohortTopicConnector.registerListener(cohortEventListener, cohortName);
                 cohortTopicConnector.start();
@@ -269,6 +301,48 @@ public class OMRSCohortManager
     }
 
 
+    /**
+     * Return a numeric configuration property from the connection, or the default value if it is not set.
+     *
+     * @param connection connection to the cohort topic
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @return property value
+     */
+    private long getConfigurationProperty(Connection connection,
+                                          String     propertyName,
+                                          long       defaultValue)
+    {
+        if (connection != null)
+        {
+            Map<String, Object> configurationProperties = connection.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object propertyValue = configurationProperties.get(propertyName);
+
+                if (propertyValue instanceof Number)
+                {
+                    return ((Number)propertyValue).longValue();
+                }
+                else if (propertyValue != null)
+                {
+                    try
+                    {
+                        return Long.parseLong(propertyValue.toString());
+                    }
+                    catch (NumberFormatException error)
+                    {
+                        log.debug("Ignoring invalid value for " + propertyName + ": " + propertyValue);
+                    }
+                }
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Return the name of the cohort.
      *
@@ -356,6 +430,11 @@ public class OMRSCohortManager
         {
             cohortConnectionStatus = CohortConnectionStatus.DISCONNECTING;
 
+            if (localRepositoryEventPublisher != null)
+            {
+                localRepositoryEventPublisher.disconnect();
+            }
+
             if (cohortRegistry != null)
             {
                 cohortRegistry.disconnectFromCohort(permanent);
@@ -0,0 +1,194 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.archivemanager;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Tests that OMRSArchiveLoader groups the instances from an archive into batches of the requested size,
+ * and passes the last, partly filled, batch to the local repository when the archive is complete or
+ * can not be read any further.
+ */
+public class OMRSArchiveLoaderTest
+{
+    private final List<String>        receivedEvents  = new ArrayList<>();
+    private final List<InstanceGraph> receivedBatches = new ArrayList<>();
+
+    private AuditLog                            auditLog;
+    private OMRSInstanceEventProcessorInterface instanceProcessor;
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        receivedEvents.clear();
+        receivedBatches.clear();
+
+        auditLog = new AuditLog(new AuditLogDestination()
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                // not needed for the test
+            }
+        }, 0, "OMRSArchiveLoaderTest", "Archive loader test", null);
+
+        /*
+         * Record the name of each call to the local repository and the instances passed in each batch.
+         */
+        instanceProcessor = (OMRSInstanceEventProcessorInterface) Proxy.newProxyInstance(OMRSInstanceEventProcessorInterface.class.getClassLoader(),
+                                                                                         new Class<?>[]{OMRSInstanceEventProcessorInterface.class},
+                                                                                         (proxy, method, args) ->
+                                                                                         {
+                                                                                             receivedEvents.add(method.getName());
+
+                                                                                             if ((args != null) && (args[args.length - 1] instanceof InstanceGraph))
+                                                                                             {
+                                                                                                 receivedBatches.add((InstanceGraph) args[args.length - 1]);
+                                                                                             }
+
+                                                                                             return null;
+                                                                                         });
+    }
+
+
+    @Test
+    public void testUnbatchedInstances()
+    {
+        OMRSArchiveLoader archiveLoader = new OMRSArchiveLoader("TestArchive", null, instanceProcessor, 1, auditLog);
+
+        archiveLoader.processArchiveProperties(getArchiveProperties());
+        archiveLoader.processEntity(new EntityDetail());
+        archiveLoader.processEntity(new EntityDetail());
+        archiveLoader.processRelationship(new Relationship());
+        archiveLoader.completeArchive();
+
+        assertEquals(receivedEvents.size(), 3);
+        assertEquals(receivedEvents.get(0), "processNewEntityEvent");
+        assertEquals(receivedEvents.get(1), "processNewEntityEvent");
+        assertEquals(receivedEvents.get(2), "processNewRelationshipEvent");
+        assertEquals(receivedBatches.size(), 0);
+    }
+
+
+    @Test
+    public void testBatchBoundaries()
+    {
+        OMRSArchiveLoader archiveLoader = new OMRSArchiveLoader("TestArchive", null, instanceProcessor, 3, auditLog);
+
+        archiveLoader.processArchiveProperties(getArchiveProperties());
+
+        for (int i = 0; i < 7; i++)
+        {
+            archiveLoader.processEntity(new EntityDetail());
+
+            /*
+             * A batch is only passed on when it is full.
+             */
+            assertEquals(receivedBatches.size(), (i + 1) / 3);
+        }
+
+        archiveLoader.processRelationship(new Relationship());
+        archiveLoader.processRelationship(new Relationship());
+
+        assertEquals(receivedBatches.size(), 3);
+
+        archiveLoader.processRelationship(new Relationship());
+
+        assertEquals(receivedBatches.size(), 3);
+
+        archiveLoader.completeArchive();
+
+        assertEquals(receivedBatches.size(), 4);
+
+        for (String eventName : receivedEvents)
+        {
+            assertEquals(eventName, "processInstanceBatchEvent");
+        }
+
+        assertEquals(receivedBatches.get(0).getEntities().size(), 3);
+        assertNull(receivedBatches.get(0).getRelationships());
+        assertEquals(receivedBatches.get(1).getEntities().size(), 3);
+        assertEquals(receivedBatches.get(2).getEntities().size(), 1);
+        assertEquals(receivedBatches.get(2).getRelationships().size(), 2);
+        assertNull(receivedBatches.get(3).getEntities());
+        assertEquals(receivedBatches.get(3).getRelationships().size(), 1);
+    }
+
+
+    @Test
+    public void testExactlyFullBatchIsNotRepeated()
+    {
+        OMRSArchiveLoader archiveLoader = new OMRSArchiveLoader("TestArchive", null, instanceProcessor, 2, auditLog);
+
+        archiveLoader.processArchiveProperties(getArchiveProperties());
+        archiveLoader.processEntity(new EntityDetail());
+        archiveLoader.processEntity(new EntityDetail());
+        archiveLoader.completeArchive();
+
+        assertEquals(receivedBatches.size(), 1);
+        assertEquals(receivedBatches.get(0).getEntities().size(), 2);
+    }
+
+
+    @Test
+    public void testArchiveErrorPassesPartialBatch()
+    {
+        OMRSArchiveLoader archiveLoader = new OMRSArchiveLoader("TestArchive", null, instanceProcessor, 5, auditLog);
+
+        archiveLoader.processArchiveProperties(getArchiveProperties());
+        archiveLoader.processEntity(new EntityDetail());
+        archiveLoader.processEntity(new EntityDetail());
+        archiveLoader.processArchiveError(new IOException("Archive truncated"));
+
+        assertEquals(receivedBatches.size(), 1);
+        assertEquals(receivedBatches.get(0).getEntities().size(), 2);
+    }
+
+
+    @Test
+    public void testNoInstancesBeforeArchiveProperties()
+    {
+        OMRSArchiveLoader archiveLoader = new OMRSArchiveLoader("TestArchive", null, instanceProcessor, 2, auditLog);
+
+        archiveLoader.processEntity(new EntityDetail());
+        archiveLoader.processEntity(new EntityDetail());
+        archiveLoader.completeArchive();
+
+        assertEquals(receivedEvents.size(), 0);
+    }
+
+
+    private OpenMetadataArchiveProperties getArchiveProperties()
+    {
+        OpenMetadataArchiveProperties archiveProperties = new OpenMetadataArchiveProperties();
+
+        archiveProperties.setArchiveGUID("TestArchiveGUID");
+        archiveProperties.setArchiveName("TestArchive");
+        archiveProperties.setArchiveVersion("1");
+        archiveProperties.setArchiveType(OpenMetadataArchiveType.CONTENT_PACK);
+        archiveProperties.setOriginatorName("TestOriginator");
+        archiveProperties.setCreationDate(new Date());
+
+        return archiveProperties;
+    }
+}
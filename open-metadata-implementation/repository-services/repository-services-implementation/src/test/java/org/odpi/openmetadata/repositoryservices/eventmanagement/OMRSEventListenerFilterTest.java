@@ -0,0 +1,368 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.adapters.repositoryservices.ConnectorConfigurationFactory;
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSEventDropReason;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Replays a file of captured cohort events through the in-memory topic connector to test that the events
+ * rejected by the OMRSEventListener are dropped from their header without changing the events that are
+ * delivered to the repository event manager.
+ */
+public class OMRSEventListenerFilterTest
+{
+    private static final String CAPTURED_EVENTS_FILE     = "captured-cohort-events.txt";
+    private static final String COHORT_NAME              = "TestCohort";
+    private static final String LOCAL_COLLECTION_ID      = "local-collection";
+    private static final String GLOSSARY_TERM_TYPE_GUID  = "0db3e6ec-f5ef-4d75-ae38-b7ee6fd6ec0a";
+    private static final String GLOSSARY_TERM_TYPE_NAME  = "GlossaryTerm";
+
+    private final List<OMRSTypeDefEvent>  receivedTypeDefEvents  = Collections.synchronizedList(new ArrayList<>());
+    private final List<OMRSInstanceEvent> receivedInstanceEvents = Collections.synchronizedList(new ArrayList<>());
+    private final List<OMRSTopicConnector> topicConnectors       = new ArrayList<>();
+
+    private AuditLog     auditLog;
+    private List<String> capturedEvents;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        receivedTypeDefEvents.clear();
+        receivedInstanceEvents.clear();
+        topicConnectors.clear();
+
+        auditLog = new AuditLog(new AuditLogDestination()
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                // not needed for the test
+            }
+        }, 0, "OMRSEventListenerFilterTest", "Event filter test", null);
+
+        capturedEvents = new ArrayList<>();
+
+        InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream(CAPTURED_EVENTS_FILE);
+
+        assertNotNull(inputStream, "Missing " + CAPTURED_EVENTS_FILE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)))
+        {
+            String event;
+
+            while ((event = reader.readLine()) != null)
+            {
+                if (! event.isEmpty())
+                {
+                    capturedEvents.add(event);
+                }
+            }
+        }
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        for (OMRSTopicConnector topicConnector : topicConnectors)
+        {
+            topicConnector.disconnect();
+        }
+    }
+
+
+    @Test
+    public void testSelectedTypesAreFiltered() throws Exception
+    {
+        OMRSTopicConnector topicConnector = getTopicConnector(getEventListener(OpenMetadataExchangeRule.SELECTED_TYPES));
+
+        this.replay(topicConnector);
+
+        Map<OMRSEventDropReason, Long> droppedEventCounts = topicConnector.getDroppedEventCounts();
+
+        assertEquals(droppedEventCounts.get(OMRSEventDropReason.LOCAL_ORIGINATOR).longValue(), 5L);
+        assertEquals(droppedEventCounts.get(OMRSEventDropReason.TYPE_NOT_EXCHANGED).longValue(), 10L);
+        assertEquals(droppedEventCounts.get(OMRSEventDropReason.CATEGORY_NOT_EXCHANGED).longValue(), 0L);
+
+        assertEquals(receivedTypeDefEvents.size(), 1);
+        assertEquals(receivedInstanceEvents.size(), 6);
+
+        for (OMRSInstanceEvent instanceEvent : receivedInstanceEvents)
+        {
+            if (instanceEvent.getInstanceEventType() == OMRSInstanceEventType.BATCH_INSTANCES_EVENT)
+            {
+                assertEquals(instanceEvent.getInstanceBatch().getEntities().size(), 2, "Batch events are not filtered");
+            }
+            else
+            {
+                assertEquals(instanceEvent.getTypeDefName(), GLOSSARY_TERM_TYPE_NAME);
+                assertTrue(instanceEvent.getEntity().getGUID().startsWith("term-"));
+            }
+        }
+    }
+
+
+    @Test
+    public void testRegistrationOnlyFiltersMetadataEvents() throws Exception
+    {
+        OMRSTopicConnector topicConnector = getTopicConnector(getEventListener(OpenMetadataExchangeRule.REGISTRATION_ONLY));
+
+        this.replay(topicConnector);
+
+        Map<OMRSEventDropReason, Long> droppedEventCounts = topicConnector.getDroppedEventCounts();
+
+        assertEquals(droppedEventCounts.get(OMRSEventDropReason.LOCAL_ORIGINATOR).longValue(), 5L);
+        assertEquals(droppedEventCounts.get(OMRSEventDropReason.TYPE_NOT_EXCHANGED).longValue(), 15L);
+        assertEquals(droppedEventCounts.get(OMRSEventDropReason.CATEGORY_NOT_EXCHANGED).longValue(), 1L);
+
+        assertEquals(receivedTypeDefEvents.size(), 0);
+        assertEquals(receivedInstanceEvents.size(), 1);
+        assertEquals(receivedInstanceEvents.get(0).getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+    }
+
+
+    @Test
+    public void testFilteringMatchesFullParse() throws Exception
+    {
+        OMRSEventListener filteringListener = getEventListener(OpenMetadataExchangeRule.SELECTED_TYPES);
+
+        this.replay(getTopicConnector(filteringListener));
+
+        List<String> filteredGUIDs = getReceivedInstanceGUIDs();
+
+        receivedTypeDefEvents.clear();
+        receivedInstanceEvents.clear();
+
+        OMRSTopicConnector unfilteredTopicConnector = getTopicConnector(new UnfilteredTopicListener(filteringListener));
+
+        this.replay(unfilteredTopicConnector);
+
+        assertEquals(getReceivedInstanceGUIDs(), filteredGUIDs);
+        assertEquals(receivedTypeDefEvents.size(), 1);
+
+        for (Long droppedEventCount : unfilteredTopicConnector.getDroppedEventCounts().values())
+        {
+            assertEquals(droppedEventCount.longValue(), 0L);
+        }
+    }
+
+
+    @Test
+    public void testFilteringReducesAllocation() throws Exception
+    {
+        final int replayCount = 20;
+
+        OMRSEventListener  filteringListener        = getEventListener(OpenMetadataExchangeRule.SELECTED_TYPES);
+        OMRSTopicConnector filteredTopicConnector   = getTopicConnector(filteringListener);
+        OMRSTopicConnector unfilteredTopicConnector = getTopicConnector(new UnfilteredTopicListener(filteringListener));
+
+        /*
+         * Warm up both paths before measuring.
+         */
+        for (int replay = 0; replay < 5; replay++)
+        {
+            this.replay(filteredTopicConnector);
+            this.replay(unfilteredTopicConnector);
+        }
+
+        long filteredBytes = measureAllocation(() ->
+        {
+            for (int replay = 0; replay < replayCount; replay++)
+            {
+                this.replay(filteredTopicConnector);
+            }
+        });
+
+        long unfilteredBytes = measureAllocation(() ->
+        {
+            for (int replay = 0; replay < replayCount; replay++)
+            {
+                this.replay(unfilteredTopicConnector);
+            }
+        });
+
+        assertTrue(filteredBytes < unfilteredBytes,
+                   "Filtered replay allocated " + filteredBytes + " bytes; unfiltered replay allocated " + unfilteredBytes + " bytes");
+    }
+
+
+    private void replay(OMRSTopicConnector topicConnector)
+    {
+        for (String event : capturedEvents)
+        {
+            topicConnector.processEvent(event);
+        }
+    }
+
+
+    private List<String> getReceivedInstanceGUIDs()
+    {
+        List<String> instanceGUIDs = new ArrayList<>();
+
+        synchronized (receivedInstanceEvents)
+        {
+            for (OMRSInstanceEvent instanceEvent : receivedInstanceEvents)
+            {
+                if (instanceEvent.getInstanceEventType() == OMRSInstanceEventType.BATCH_INSTANCES_EVENT)
+                {
+                    for (EntityDetail entity : instanceEvent.getInstanceBatch().getEntities())
+                    {
+                        instanceGUIDs.add(entity.getGUID());
+                    }
+                }
+                else
+                {
+                    instanceGUIDs.add(instanceEvent.getEntity().getGUID());
+                }
+            }
+        }
+
+        return instanceGUIDs;
+    }
+
+
+    private OMRSTopicConnector getTopicConnector(OMRSTopicListener topicListener) throws Exception
+    {
+        ConnectorConfigurationFactory connectorConfigurationFactory = new ConnectorConfigurationFactory();
+
+        OMRSTopicConnector topicConnector = (OMRSTopicConnector)new ConnectorBroker().getConnector(connectorConfigurationFactory.getDefaultEnterpriseOMRSTopicConnection("TestServer", "TestServerId"));
+
+        topicConnector.setAuditLog(auditLog);
+        topicConnector.registerListener(topicListener, COHORT_NAME);
+        topicConnector.start();
+
+        topicConnectors.add(topicConnector);
+
+        return topicConnector;
+    }
+
+
+    private OMRSEventListener getEventListener(OpenMetadataExchangeRule openMetadataExchangeRule)
+    {
+        TypeDefSummary glossaryTermType = new TypeDefSummary();
+
+        glossaryTermType.setGUID(GLOSSARY_TERM_TYPE_GUID);
+        glossaryTermType.setName(GLOSSARY_TERM_TYPE_NAME);
+
+        OMRSRepositoryEventExchangeRule exchangeRule = new OMRSRepositoryEventExchangeRule(openMetadataExchangeRule,
+                                                                                           Collections.singletonList(glossaryTermType));
+
+        OMRSRepositoryEventManager eventManager = new OMRSRepositoryEventManager(COHORT_NAME + " cohort inbound",
+                                                                                 exchangeRule,
+                                                                                 new OMRSRepositoryContentValidator(new OMRSRepositoryContentManager("TestUser", auditLog)),
+                                                                                 auditLog)
+        {
+            @Override
+            public void sendTypeDefEvent(String sourceName, OMRSTypeDefEvent typeDefEvent)
+            {
+                if (exchangeRule.processTypeDefEvents())
+                {
+                    receivedTypeDefEvents.add(typeDefEvent);
+                }
+            }
+
+            @Override
+            public void sendInstanceEvent(String sourceName, OMRSInstanceEvent instanceEvent)
+            {
+                if ((instanceEvent.getInstanceEventType() == OMRSInstanceEventType.BATCH_INSTANCES_EVENT) ||
+                    (exchangeRule.processInstanceEvent(instanceEvent.getTypeDefGUID(), instanceEvent.getTypeDefName())))
+                {
+                    receivedInstanceEvents.add(instanceEvent);
+                }
+            }
+        };
+
+        return new OMRSEventListener(COHORT_NAME, LOCAL_COLLECTION_ID, null, eventManager, exchangeRule, auditLog);
+    }
+
+
+    private long measureAllocation(Runnable work)
+    {
+        if (! (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean))
+        {
+            throw new SkipException("Thread allocation counting is not available in this JVM");
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long                            threadId     = Thread.currentThread().getId();
+
+        if (! threadMXBean.isThreadAllocatedMemorySupported())
+        {
+            throw new SkipException("Thread allocation counting is not available in this JVM");
+        }
+
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        work.run();
+
+        return threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+    }
+
+
+    /**
+     * Passes every event to the real listener so the topic connector parses every event in full.
+     */
+    private static class UnfilteredTopicListener implements OMRSTopicListener
+    {
+        private final OMRSTopicListener realListener;
+
+        UnfilteredTopicListener(OMRSTopicListener realListener)
+        {
+            this.realListener = realListener;
+        }
+
+        @Override
+        public void processRegistryEvent(OMRSRegistryEvent event)
+        {
+            realListener.processRegistryEvent(event);
+        }
+
+        @Override
+        public void processTypeDefEvent(OMRSTypeDefEvent event)
+        {
+            realListener.processTypeDefEvent(event);
+        }
+
+        @Override
+        public void processInstanceEvent(OMRSInstanceEvent event)
+        {
+            realListener.processInstanceEvent(event);
+        }
+    }
+}
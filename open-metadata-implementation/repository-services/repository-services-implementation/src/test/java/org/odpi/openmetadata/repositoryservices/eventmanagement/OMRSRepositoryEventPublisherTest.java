@@ -0,0 +1,362 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.adapters.repositoryservices.ConnectorConfigurationFactory;
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests the batching of instance events by the OMRSRepositoryEventPublisher using the in-memory topic connector.
+ */
+public class OMRSRepositoryEventPublisherTest
+{
+    private static final String SOURCE_NAME            = "TestSource";
+    private static final String METADATA_COLLECTION_ID = "TestMetadataCollectionId";
+    private static final long   LONG_DELAY             = 60000;
+
+    private final List<OMRSInstanceEvent> receivedEvents = new CopyOnWriteArrayList<>();
+
+    private AuditLog                     auditLog;
+    private OMRSTopicConnector           topicConnector;
+    private OMRSRepositoryEventPublisher publisher;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        receivedEvents.clear();
+
+        auditLog = new AuditLog(new AuditLogDestination()
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                // not needed for the test
+            }
+        }, 0, "OMRSRepositoryEventPublisherTest", "Event publisher test", null);
+
+        topicConnector = getTopicConnector(receivedEvents);
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        publisher.disconnect();
+        topicConnector.disconnect();
+    }
+
+
+    @Test
+    public void testUnbatchedEventsAreSentIndividually()
+    {
+        publisher = new OMRSRepositoryEventPublisher("TestCohort", topicConnector, auditLog);
+
+        sendNewEntity("entity-1", 1);
+        sendNewEntity("entity-2", 1);
+
+        waitForEvents(2);
+        assertEquals(receivedEvents.get(0).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        assertEquals(receivedEvents.get(1).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+    }
+
+
+    @Test
+    public void testBatchBoundaries()
+    {
+        publisher = new OMRSRepositoryEventPublisher("TestCohort", topicConnector, 3, LONG_DELAY, auditLog);
+
+        for (int entityNumber = 0; entityNumber < 7; entityNumber++)
+        {
+            sendNewEntity("entity-" + entityNumber, 1);
+        }
+
+        waitForEvents(2);
+        for (OMRSInstanceEvent batchEvent : receivedEvents)
+        {
+            assertEquals(batchEvent.getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+            assertEquals(batchEvent.getInstanceBatch().getEntities().size(), 3);
+            assertEquals(batchEvent.getEventOriginator().getMetadataCollectionId(), METADATA_COLLECTION_ID);
+        }
+        assertEquals(receivedEvents.get(0).getInstanceBatch().getEntities().get(0).getGUID(), "entity-0");
+        assertEquals(receivedEvents.get(1).getInstanceBatch().getEntities().get(2).getGUID(), "entity-5");
+
+        /*
+         * The last event is still waiting and is sent as it was received when the publisher is disconnected.
+         */
+        publisher.disconnect();
+
+        waitForEvents(3);
+        assertEquals(receivedEvents.get(2).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        assertEquals(receivedEvents.get(2).getEntity().getGUID(), "entity-6");
+    }
+
+
+    @Test
+    public void testPerInstanceOrdering()
+    {
+        publisher = new OMRSRepositoryEventPublisher("TestCohort", topicConnector, 10, LONG_DELAY, auditLog);
+
+        EntityDetail originalEntity = sendNewEntity("entity-1", 1);
+        publisher.processUpdatedEntityEvent(SOURCE_NAME,
+                                            METADATA_COLLECTION_ID,
+                                            null,
+                                            null,
+                                            null,
+                                            originalEntity,
+                                            getEntity("entity-1", 2));
+        publisher.processNewRelationshipEvent(SOURCE_NAME,
+                                              METADATA_COLLECTION_ID,
+                                              null,
+                                              null,
+                                              null,
+                                              getRelationship("relationship-1", "entity-1", "entity-2"));
+        publisher.processDeletedEntityEvent(SOURCE_NAME,
+                                            METADATA_COLLECTION_ID,
+                                            null,
+                                            null,
+                                            null,
+                                            getEntity("entity-1", 3));
+        sendNewEntity("entity-3", 1);
+
+        waitForEvents(2);
+
+        OMRSInstanceEvent batchEvent = receivedEvents.get(0);
+        assertEquals(batchEvent.getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+        assertEquals(batchEvent.getInstanceBatch().getEntities().size(), 1, "Only the latest version of an entity is sent");
+        assertEquals(batchEvent.getInstanceBatch().getEntities().get(0).getVersion(), 2L);
+        assertEquals(batchEvent.getInstanceBatch().getRelationships().get(0).getGUID(), "relationship-1");
+
+        OMRSInstanceEvent deleteEvent = receivedEvents.get(1);
+        assertEquals(deleteEvent.getInstanceEventType(), OMRSInstanceEventType.DELETED_ENTITY_EVENT);
+        assertEquals(deleteEvent.getEntity().getGUID(), "entity-1");
+
+        publisher.disconnect();
+
+        waitForEvents(3);
+        assertEquals(receivedEvents.get(2).getEntity().getGUID(), "entity-3");
+    }
+
+
+    @Test
+    public void testMaximumDelay()
+    {
+        final long maxBatchDelay = 500;
+
+        publisher = new OMRSRepositoryEventPublisher("TestCohort", topicConnector, 100, maxBatchDelay, auditLog);
+
+        long startTime = System.currentTimeMillis();
+
+        sendNewEntity("entity-1", 1);
+        sendNewEntity("entity-2", 1);
+
+        waitForEvents(1);
+
+        long latency = System.currentTimeMillis() - startTime;
+
+        assertTrue(latency >= maxBatchDelay, "Batch sent after " + latency + " ms");
+        assertTrue(latency < maxBatchDelay + 5000, "Batch sent after " + latency + " ms");
+        assertEquals(receivedEvents.get(0).getInstanceBatch().getEntities().size(), 2);
+        assertNull(receivedEvents.get(0).getInstanceBatch().getRelationships());
+    }
+
+
+    @Test
+    public void testBatchIsReceivedAndExpandedForTheEnterprise() throws Exception
+    {
+        publisher = new OMRSRepositoryEventPublisher("TestCohort", topicConnector, 10, LONG_DELAY, auditLog);
+
+        sendNewEntity("entity-1", 1);
+        sendNewEntity("entity-2", 1);
+
+        EntityDetail updatedEntity = getEntity("entity-3", 2);
+        updatedEntity.setUpdateTime(new Date());
+        publisher.processUpdatedEntityEvent(SOURCE_NAME, METADATA_COLLECTION_ID, null, null, null, getEntity("entity-3", 1), updatedEntity);
+
+        publisher.disconnect();
+        waitForEvents(1);
+
+        /*
+         * The batch has no relationships.
+         */
+        OMRSInstanceEvent batchEvent = receivedEvents.get(0);
+        assertEquals(batchEvent.getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+        assertNull(batchEvent.getInstanceBatch().getRelationships());
+
+        /*
+         * Pass the batch through an inbound event manager to the publisher for the enterprise topic.
+         */
+        List<OMRSInstanceEvent> enterpriseEvents = new CopyOnWriteArrayList<>();
+        OMRSTopicConnector      enterpriseTopicConnector = getTopicConnector(enterpriseEvents);
+
+        try
+        {
+            OMRSRepositoryEventManager eventManager = new OMRSRepositoryEventManager("TestCohort inbound",
+                                                                                     new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.ALL, null),
+                                                                                     new OMRSRepositoryContentValidator(new OMRSRepositoryContentManager("TestUser", auditLog)),
+                                                                                     auditLog);
+
+            eventManager.registerRepositoryEventProcessor(new OMRSRepositoryEventPublisher("Cohort to Enterprise",
+                                                                                           enterpriseTopicConnector,
+                                                                                           true,
+                                                                                           auditLog));
+            eventManager.start();
+            eventManager.sendInstanceEvent("TestCohort", batchEvent);
+
+            waitForEvents(enterpriseEvents, 3);
+            assertEquals(enterpriseEvents.get(0).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+            assertEquals(enterpriseEvents.get(0).getEntity().getGUID(), "entity-1");
+            assertEquals(enterpriseEvents.get(1).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+            assertEquals(enterpriseEvents.get(1).getEntity().getGUID(), "entity-2");
+            assertEquals(enterpriseEvents.get(2).getInstanceEventType(), OMRSInstanceEventType.UPDATED_ENTITY_EVENT);
+            assertEquals(enterpriseEvents.get(2).getEntity().getGUID(), "entity-3");
+            assertEquals(enterpriseEvents.get(2).getEventOriginator().getMetadataCollectionId(), METADATA_COLLECTION_ID);
+        }
+        finally
+        {
+            enterpriseTopicConnector.disconnect();
+        }
+    }
+
+
+    private OMRSTopicConnector getTopicConnector(List<OMRSInstanceEvent> instanceEvents) throws Exception
+    {
+        ConnectorConfigurationFactory connectorConfigurationFactory = new ConnectorConfigurationFactory();
+
+        OMRSTopicConnector newTopicConnector = (OMRSTopicConnector)new ConnectorBroker().getConnector(connectorConfigurationFactory.getDefaultEnterpriseOMRSTopicConnection("TestServer", "TestServerId"));
+        newTopicConnector.setAuditLog(auditLog);
+        newTopicConnector.registerListener(new OMRSTopicListener()
+        {
+            @Override
+            public void processRegistryEvent(OMRSRegistryEvent event)
+            {
+            }
+
+            @Override
+            public void processTypeDefEvent(OMRSTypeDefEvent event)
+            {
+            }
+
+            @Override
+            public void processInstanceEvent(OMRSInstanceEvent event)
+            {
+                instanceEvents.add(event);
+            }
+        });
+        newTopicConnector.start();
+
+        return newTopicConnector;
+    }
+
+
+    private EntityDetail sendNewEntity(String guid, long version)
+    {
+        EntityDetail entity = getEntity(guid, version);
+
+        publisher.processNewEntityEvent(SOURCE_NAME, METADATA_COLLECTION_ID, null, null, null, entity);
+
+        return entity;
+    }
+
+
+    private EntityDetail getEntity(String guid, long version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+        entity.setMetadataCollectionId(METADATA_COLLECTION_ID);
+        entity.setType(getType("TestEntityTypeGUID", "TestEntityType"));
+
+        return entity;
+    }
+
+
+    private InstanceType getType(String typeDefGUID, String typeDefName)
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefGUID(typeDefGUID);
+        instanceType.setTypeDefName(typeDefName);
+
+        return instanceType;
+    }
+
+
+    private Relationship getRelationship(String guid, String entityOneGUID, String entityTwoGUID)
+    {
+        EntityProxy entityOneProxy = new EntityProxy();
+        entityOneProxy.setGUID(entityOneGUID);
+
+        EntityProxy entityTwoProxy = new EntityProxy();
+        entityTwoProxy.setGUID(entityTwoGUID);
+
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+        relationship.setMetadataCollectionId(METADATA_COLLECTION_ID);
+        relationship.setEntityOneProxy(entityOneProxy);
+        relationship.setEntityTwoProxy(entityTwoProxy);
+
+        return relationship;
+    }
+
+
+    private void waitForEvents(int eventCount)
+    {
+        waitForEvents(receivedEvents, eventCount);
+    }
+
+
+    private void waitForEvents(List<OMRSInstanceEvent> instanceEvents, int eventCount)
+    {
+        long timeout = System.currentTimeMillis() + 10000;
+
+        while (instanceEvents.size() < eventCount)
+        {
+            if (System.currentTimeMillis() > timeout)
+            {
+                fail("Received " + instanceEvents.size() + " events; expected " + eventCount);
+            }
+
+            try
+            {
+                Thread.sleep(20);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        assertEquals(instanceEvents.size(), eventCount);
+    }
+}
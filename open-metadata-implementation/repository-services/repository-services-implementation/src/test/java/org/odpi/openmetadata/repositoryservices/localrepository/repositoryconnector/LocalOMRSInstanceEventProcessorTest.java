@@ -0,0 +1,331 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests that LocalOMRSInstanceEventProcessor saves the valid instances from a batch event in a single
+ * call to the local repository, and falls back to saving them one at a time if the batch call fails.
+ */
+public class LocalOMRSInstanceEventProcessorTest
+{
+    private static final String LOCAL_METADATA_COLLECTION_ID  = "LocalMetadataCollectionId";
+    private static final String REMOTE_METADATA_COLLECTION_ID = "RemoteMetadataCollectionId";
+    private static final String SERVER_USER_ID                = "TestServerUserId";
+    private static final String SOURCE_NAME                   = "TestSource";
+    private static final String REJECTED_GUID                 = "RejectedEntityGUID";
+
+    private final List<AuditLogRecord> auditLogRecords = new ArrayList<>();
+
+    private AuditLog                     auditLog;
+    private OMRSRepositoryContentManager repositoryContentManager;
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        auditLogRecords.clear();
+
+        auditLog = new AuditLog(new AuditLogDestination()
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                auditLogRecords.add(logRecord);
+            }
+        }, 0, "LocalOMRSInstanceEventProcessorTest", "Instance event processor test", null);
+
+        repositoryContentManager = new OMRSRepositoryContentManager(SERVER_USER_ID, auditLog);
+    }
+
+
+    @Test
+    public void testInvalidInstancesAreSkipped()
+    {
+        TestRepositoryConnector         repositoryConnector = new TestRepositoryConnector(false);
+        LocalOMRSInstanceEventProcessor eventProcessor      = getEventProcessor(repositoryConnector);
+
+        EntityDetail validEntity       = getEntity("ValidEntityGUID", REMOTE_METADATA_COLLECTION_ID);
+        EntityDetail localEntity       = getEntity("LocalEntityGUID", LOCAL_METADATA_COLLECTION_ID);
+        Relationship validRelationship = getRelationship("ValidRelationshipGUID", REMOTE_METADATA_COLLECTION_ID);
+        Relationship localRelationship = getRelationship("LocalRelationshipGUID", LOCAL_METADATA_COLLECTION_ID);
+
+        eventProcessor.processInstanceBatchEvent(SOURCE_NAME,
+                                                 REMOTE_METADATA_COLLECTION_ID,
+                                                 "RemoteServer",
+                                                 "RemoteServerType",
+                                                 "RemoteOrganization",
+                                                 getInstanceGraph(Arrays.asList(validEntity, localEntity),
+                                                                  Arrays.asList(localRelationship, validRelationship)));
+
+        assertEquals(repositoryConnector.savedBatches.size(), 1);
+        assertEquals(repositoryConnector.savedBatches.get(0).getEntities(), Collections.singletonList(validEntity));
+        assertEquals(repositoryConnector.savedBatches.get(0).getRelationships(), Collections.singletonList(validRelationship));
+        assertTrue(repositoryConnector.savedInstances.isEmpty());
+        assertEquals(auditLogRecords.size(), 2);
+    }
+
+
+    @Test
+    public void testBatchWithNoValidInstances()
+    {
+        TestRepositoryConnector         repositoryConnector = new TestRepositoryConnector(false);
+        LocalOMRSInstanceEventProcessor eventProcessor      = getEventProcessor(repositoryConnector);
+
+        eventProcessor.processInstanceBatchEvent(SOURCE_NAME,
+                                                 REMOTE_METADATA_COLLECTION_ID,
+                                                 "RemoteServer",
+                                                 "RemoteServerType",
+                                                 "RemoteOrganization",
+                                                 getInstanceGraph(Collections.singletonList(getEntity("LocalEntityGUID", LOCAL_METADATA_COLLECTION_ID)),
+                                                                  null));
+
+        assertTrue(repositoryConnector.savedBatches.isEmpty());
+        assertTrue(repositoryConnector.savedInstances.isEmpty());
+        assertEquals(auditLogRecords.size(), 1);
+    }
+
+
+    @Test
+    public void testFailedBatchIsSavedOneAtATime()
+    {
+        TestRepositoryConnector         repositoryConnector = new TestRepositoryConnector(true);
+        LocalOMRSInstanceEventProcessor eventProcessor      = getEventProcessor(repositoryConnector);
+
+        EntityDetail firstEntity       = getEntity("FirstEntityGUID", REMOTE_METADATA_COLLECTION_ID);
+        EntityDetail rejectedEntity    = getEntity(REJECTED_GUID, REMOTE_METADATA_COLLECTION_ID);
+        EntityDetail lastEntity        = getEntity("LastEntityGUID", REMOTE_METADATA_COLLECTION_ID);
+        Relationship validRelationship = getRelationship("ValidRelationshipGUID", REMOTE_METADATA_COLLECTION_ID);
+
+        eventProcessor.processInstanceBatchEvent(SOURCE_NAME,
+                                                 REMOTE_METADATA_COLLECTION_ID,
+                                                 "RemoteServer",
+                                                 "RemoteServerType",
+                                                 "RemoteOrganization",
+                                                 getInstanceGraph(Arrays.asList(firstEntity, rejectedEntity, lastEntity),
+                                                                  Collections.singletonList(validRelationship)));
+
+        assertTrue(repositoryConnector.savedBatches.isEmpty());
+        assertEquals(repositoryConnector.savedInstances, Arrays.asList(firstEntity, lastEntity, validRelationship));
+        assertEquals(auditLogRecords.size(), 1);
+    }
+
+
+    private LocalOMRSInstanceEventProcessor getEventProcessor(TestRepositoryConnector repositoryConnector)
+    {
+        OMRSRepositoryHelper    repositoryHelper    = new OMRSRepositoryContentHelper(repositoryContentManager);
+        OMRSRepositoryValidator repositoryValidator = new ReferenceCopyValidator(repositoryContentManager);
+
+        repositoryConnector.setServerUserId(SERVER_USER_ID);
+        repositoryConnector.setMetadataCollectionId(LOCAL_METADATA_COLLECTION_ID);
+        repositoryConnector.setRepositoryHelper(repositoryHelper);
+        repositoryConnector.setRepositoryValidator(repositoryValidator);
+        repositoryConnector.createMetadataCollection();
+
+        return new LocalOMRSInstanceEventProcessor(LOCAL_METADATA_COLLECTION_ID,
+                                                   "LocalServer",
+                                                   repositoryConnector,
+                                                   repositoryHelper,
+                                                   repositoryValidator,
+                                                   new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.ALL, null),
+                                                   null,
+                                                   auditLog);
+    }
+
+
+    private InstanceGraph getInstanceGraph(List<EntityDetail> entities, List<Relationship> relationships)
+    {
+        InstanceGraph instanceGraph = new InstanceGraph();
+
+        instanceGraph.setEntities(entities);
+        instanceGraph.setRelationships(relationships);
+
+        return instanceGraph;
+    }
+
+
+    private EntityDetail getEntity(String guid, String metadataCollectionId)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        setUpInstanceHeader(entity, guid, metadataCollectionId, "Asset");
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String guid, String metadataCollectionId)
+    {
+        Relationship relationship = new Relationship();
+
+        setUpInstanceHeader(relationship, guid, metadataCollectionId, "AssetSchemaType");
+
+        return relationship;
+    }
+
+
+    private void setUpInstanceHeader(InstanceHeader instance, String guid, String metadataCollectionId, String typeName)
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefGUID(typeName + "GUID");
+        instanceType.setTypeDefName(typeName);
+
+        instance.setGUID(guid);
+        instance.setType(instanceType);
+        instance.setMetadataCollectionId(metadataCollectionId);
+        instance.setCreateTime(new Date());
+        instance.setVersion(1L);
+    }
+
+
+    /**
+     * Validator that treats every type as active and only rejects reference copies of instances homed in the
+     * local repository.  This means the test does not need to load the open metadata types.
+     */
+    private static class ReferenceCopyValidator extends OMRSRepositoryContentValidator
+    {
+        ReferenceCopyValidator(OMRSRepositoryContentManager repositoryContentManager)
+        {
+            super(repositoryContentManager);
+        }
+
+
+        @Override
+        public boolean isActiveType(String sourceName, String typeGUID, String typeName)
+        {
+            return true;
+        }
+
+
+        @Override
+        public void validateReferenceInstanceHeader(String         sourceName,
+                                                    String         localMetadataCollectionId,
+                                                    String         instanceParameterName,
+                                                    InstanceHeader instance,
+                                                    String         methodName) throws InvalidParameterException
+        {
+            if (localMetadataCollectionId.equals(instance.getMetadataCollectionId()))
+            {
+                throw new InvalidParameterException(OMRSErrorCode.LOCAL_REFERENCE_INSTANCE.getMessageDefinition(sourceName,
+                                                                                                                methodName,
+                                                                                                                instanceParameterName),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    instanceParameterName);
+            }
+        }
+    }
+
+
+    /**
+     * Repository connector with a metadata collection that records the reference copies that are saved.
+     * The batch save fails if requested, and the entity with REJECTED_GUID is always rejected when it is saved
+     * on its own.
+     */
+    private static class TestRepositoryConnector extends OMRSRepositoryConnector
+    {
+        private final boolean failBatch;
+
+        final List<InstanceGraph>  savedBatches   = new ArrayList<>();
+        final List<InstanceHeader> savedInstances = new ArrayList<>();
+
+
+        TestRepositoryConnector(boolean failBatch)
+        {
+            this.failBatch = failBatch;
+        }
+
+
+        void createMetadataCollection()
+        {
+            super.metadataCollection = new OMRSMetadataCollectionBase(this,
+                                                                      "TestRepository",
+                                                                      repositoryHelper,
+                                                                      repositoryValidator,
+                                                                      metadataCollectionId)
+            {
+                @Override
+                public EntityDetail isEntityKnown(String userId, String guid)
+                {
+                    return null;
+                }
+
+
+                @Override
+                public void saveInstanceReferenceCopies(String userId, InstanceGraph instances) throws RepositoryErrorException
+                {
+                    final String methodName = "saveInstanceReferenceCopies";
+
+                    if (failBatch)
+                    {
+                        throw new RepositoryErrorException(OMRSErrorCode.REPOSITORY_LOGIC_ERROR.getMessageDefinition(repositoryName,
+                                                                                                                    methodName,
+                                                                                                                    "Batch failed"),
+                                                           this.getClass().getName(),
+                                                           methodName);
+                    }
+
+                    savedBatches.add(instances);
+                }
+
+
+                @Override
+                public void saveEntityReferenceCopy(String userId, EntityDetail entity) throws InvalidParameterException
+                {
+                    final String methodName = "saveEntityReferenceCopy";
+
+                    if (REJECTED_GUID.equals(entity.getGUID()))
+                    {
+                        throw new InvalidParameterException(OMRSErrorCode.LOCAL_REFERENCE_INSTANCE.getMessageDefinition(repositoryName,
+                                                                                                                        methodName,
+                                                                                                                        "entity"),
+                                                            this.getClass().getName(),
+                                                            methodName,
+                                                            "entity");
+                    }
+
+                    savedInstances.add(entity);
+                }
+
+
+                @Override
+                public void saveRelationshipReferenceCopy(String userId, Relationship relationship)
+                {
+                    savedInstances.add(relationship);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that OMRSRegexMatcher gives the same results as String.matches() for the regular expressions
+ * generated by the repository helper and for general regular expressions.
+ */
+public class OMRSRegexMatcherTest
+{
+    private static final String[] searchStrings = { "Customer", "customer", "Cust.omer", "a\\Eb", "", "*" };
+    private static final String[] values        = { "Customer", "customer", "CustomerDetails", "MyCustomer",
+                                                    "My Customer Details", "Cust.omer", "Custxomer", "a\\Eb",
+                                                    "Customer\nDetails", "Line\r\nCustomer", "", "*" };
+
+
+    @Test
+    void testHelperRegexes()
+    {
+        OMRSRepositoryHelper helper = new OMRSRepositoryContentHelper(null);
+        List<String>         regexes = new ArrayList<>();
+
+        for (String searchString : searchStrings)
+        {
+            regexes.add(helper.getExactMatchRegex(searchString));
+            regexes.add(helper.getExactMatchRegex(searchString, true));
+            regexes.add(helper.getStartsWithRegex(searchString));
+            regexes.add(helper.getStartsWithRegex(searchString, true));
+            regexes.add(helper.getEndsWithRegex(searchString));
+            regexes.add(helper.getEndsWithRegex(searchString, true));
+            regexes.add(helper.getContainsRegex(searchString));
+            regexes.add(helper.getContainsRegex(searchString, true));
+        }
+
+        for (String regex : regexes)
+        {
+            for (String value : values)
+            {
+                assertEquals(OMRSRegexMatcher.getMatcher(regex).matches(value), value.matches(regex), regex + " -> " + value);
+            }
+        }
+    }
+
+
+    @Test
+    void testGeneralRegexes()
+    {
+        String[] regexes = { ".*", "Cust.*", ".*omer", "[Cc]ustomer", ".*Cust.*", "\\Q.*\\E", ".*\\Q.*\\E.*" };
+
+        for (String regex : regexes)
+        {
+            for (String value : values)
+            {
+                assertEquals(OMRSRegexMatcher.getMatcher(regex).matches(value), value.matches(regex), regex + " -> " + value);
+            }
+        }
+    }
+
+
+    @Test
+    void testLeastRecentlyUsedEviction()
+    {
+        OMRSRegexMatcher frequentMatcher = OMRSRegexMatcher.getMatcher("frequent.*");
+        OMRSRegexMatcher rareMatcher     = OMRSRegexMatcher.getMatcher("rare.*");
+
+        for (int i = 0; i < OMRSRegexMatcher.getMaxCachedMatchers(); i++)
+        {
+            OMRSRegexMatcher.getMatcher("filler" + i + ".*");
+
+            assertSame(OMRSRegexMatcher.getMatcher("frequent.*"), frequentMatcher);
+            assertTrue(OMRSRegexMatcher.getCachedMatcherCount() <= OMRSRegexMatcher.getMaxCachedMatchers());
+        }
+
+        assertEquals(OMRSRegexMatcher.getCachedMatcherCount(), OMRSRegexMatcher.getMaxCachedMatchers());
+        assertNotSame(OMRSRegexMatcher.getMatcher("rare.*"), rareMatcher);
+    }
+
+
+    @Test(expectedExceptions = PatternSyntaxException.class)
+    void testInvalidRegex()
+    {
+        OMRSRegexMatcher.getMatcher("[Customer");
+    }
+}
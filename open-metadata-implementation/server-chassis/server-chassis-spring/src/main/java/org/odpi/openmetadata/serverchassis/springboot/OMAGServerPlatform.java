@@ -78,6 +78,12 @@ public class OMAGServerPlatform
     @Value("${startup.server.list}")
     String startupServers;
 
+    @Value("${startup.server.parallelism:1}")
+    int startupServerParallelism;
+
+    @Value("${startup.service.parallelism:1}")
+    int startupServiceParallelism;
+
     @Autowired
     private Environment env;
 
@@ -103,6 +109,7 @@ public class OMAGServerPlatform
                 log.warn("strict.ssl is set to false! Invalid certificates will be accepted for connection!");
                 HttpHelper.noStrictSSL();
             }
+            OMAGServerOperationalServices.setServiceStartUpParallelism(startupServiceParallelism);
             autoStartConfig();
         };
     }
@@ -130,7 +137,8 @@ public class OMAGServerPlatform
     }
 
     /**
-     * Starts the servers specified in the startup.server.list property
+     * Starts the servers specified in the startup.server.list property.  Up to startup.server.parallelism
+     * servers are started at the same time.
      */
     private void autoStartConfig()
     {
@@ -141,7 +149,9 @@ public class OMAGServerPlatform
             log.info("Startup detected for servers: {}", startupServers);
         }
 
-        SuccessMessageResponse response = operationalServices.activateServerListWithStoredConfig(sysUser.trim(), servers);
+        SuccessMessageResponse response = operationalServices.activateServerListWithStoredConfig(sysUser.trim(),
+                                                                                                 servers,
+                                                                                                 startupServerParallelism);
 
         if (response.getRelatedHTTPCode() == 200)
         {
@@ -48,6 +48,12 @@ public class RexTraversal {
     private Map<String,RexEntityDigest>         entities;
     private Map<String,RexRelationshipDigest>   relationships;
 
+    // Fields that describe whether the maps are the complete (remaining) neighborhood.
+    // If the caller set a limit on the number of relationships and more were available, the traversal is
+    // truncated and the caller can request the next chunk by passing the GUIDs it now holds as known GUIDs.
+    private Boolean                             truncated;                   // true if there is more to retrieve
+    private Integer                             remainingRelationshipCount;  // number of relationships not returned
+
 
     public RexTraversal() {
 
@@ -81,6 +87,10 @@ public class RexTraversal {
 
     public String getServerName() { return serverName; }
 
+    public Boolean getTruncated() { return truncated; }
+
+    public Integer getRemainingRelationshipCount() { return remainingRelationshipCount; }
+
 
 
 
@@ -102,6 +112,10 @@ public class RexTraversal {
 
     public void setServerName(String serverName) { this.serverName = serverName; }
 
+    public void setTruncated(Boolean truncated) { this.truncated = truncated; }
+
+    public void setRemainingRelationshipCount(Integer remainingRelationshipCount) { this.remainingRelationshipCount = remainingRelationshipCount; }
+
     @Override
     public String toString()
     {
@@ -115,6 +129,8 @@ public class RexTraversal {
                 ", entities=" + entities +
                 ", relationships=" + relationships +
                 ", serverName=" + serverName +
+                ", truncated=" + truncated +
+                ", remainingRelationshipCount=" + remainingRelationshipCount +
                 '}';
     }
 
@@ -31,6 +31,9 @@ public class RexTraversalRequestBody {
     private List<String>              classificationNames;           // a list of names or null
     private Integer                   depth;                         // the depth of traversal
     private Integer                   gen;                           // indicator of the current gen of the traversal
+    private List<String>              knownEntityGUIDs;              // guids of entities the caller already holds or null
+    private List<String>              knownRelationshipGUIDs;        // guids of relationships the caller already holds or null
+    private Integer                   maxRelationships;              // the maximum number of relationships to return or null
 
 
     public RexTraversalRequestBody() {
@@ -63,6 +66,12 @@ public class RexTraversalRequestBody {
 
     public Integer getGen() { return gen; }
 
+    public List<String> getKnownEntityGUIDs() { return knownEntityGUIDs; }
+
+    public List<String> getKnownRelationshipGUIDs() { return knownRelationshipGUIDs; }
+
+    public Integer getMaxRelationships() { return maxRelationships; }
+
 
     public void setServerName(String serverName) { this.serverName = serverName; }
 
@@ -86,6 +95,12 @@ public class RexTraversalRequestBody {
 
     public void setGen(Integer gen) { this.gen = gen; }
 
+    public void setKnownEntityGUIDs(List<String> knownEntityGUIDs) { this.knownEntityGUIDs = knownEntityGUIDs; }
+
+    public void setKnownRelationshipGUIDs(List<String> knownRelationshipGUIDs) { this.knownRelationshipGUIDs = knownRelationshipGUIDs; }
+
+    public void setMaxRelationships(Integer maxRelationships) { this.maxRelationships = maxRelationships; }
+
 
 
 
@@ -103,6 +118,9 @@ public class RexTraversalRequestBody {
                 ", relationshipTypeGUIDs=" + relationshipTypeGUIDs +
                 ", classificationNames=" + classificationNames +
                 ", gen=" + gen +
+                ", knownEntityGUIDs=" + knownEntityGUIDs +
+                ", knownRelationshipGUIDs=" + knownRelationshipGUIDs +
+                ", maxRelationships=" + maxRelationships +
                 '}';
     }
 
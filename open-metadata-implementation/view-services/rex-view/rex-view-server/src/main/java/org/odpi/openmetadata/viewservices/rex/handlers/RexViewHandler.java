@@ -49,15 +49,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 
 /**
  * The RexViewHandler is initialised with the server the call should be sent to.
  * The handler exposes methods for functionality for the repository explorer view
+ *
+ * The handler keeps one repository services client for each repository server that it calls, and remembers the
+ * TypeExplorer built for each user and repository server for a period of time (five minutes by default) since every
+ * request needs the type information and it changes rarely.  The type information is kept per user because the
+ * repository server may return different types to different users.  The repository server URL root is supplied by
+ * the caller so the number of clients and type explorers that are kept is bounded - the least recently used
+ * one is discarded when the limit is reached.
  */
 public class RexViewHandler
 {
@@ -68,12 +80,95 @@ public class RexViewHandler
      */
     private static final int TRUNCATED_STRING_LENGTH = 24;
 
+    /*
+     * Specify the default number of milliseconds that a type explorer is reused for.
+     */
+    private static final long DEFAULT_TYPE_EXPLORER_TIME_TO_LIVE = 5 * 60 * 1000;
+
+    /*
+     * Specify the default number of repository services clients and type explorers that are kept.
+     */
+    private static final int DEFAULT_MAX_CACHED_ENTRIES = 100;
+
+    private final long typeExplorerTimeToLive;
+
+    private final Map<TypeExplorerKey, CachedTypeExplorer>        typeExplorers;
+    private final Map<String, LocalRepositoryServicesClient>      localClients;
+    private final Map<String, EnterpriseRepositoryServicesClient> enterpriseClients;
+
 
     /**
      * Constructor for the RexViewHandler
      */
     public RexViewHandler() {
 
+        this(DEFAULT_TYPE_EXPLORER_TIME_TO_LIVE);
+    }
+
+
+    /**
+     * Constructor for the RexViewHandler that sets how long type information is reused for.
+     *
+     * @param typeExplorerTimeToLive number of milliseconds that a type explorer is reused for (0 means it is
+     *                               rebuilt on every request)
+     */
+    public RexViewHandler(long typeExplorerTimeToLive) {
+
+        this(typeExplorerTimeToLive, DEFAULT_MAX_CACHED_ENTRIES);
+    }
+
+
+    /**
+     * Constructor for the RexViewHandler that sets how long type information is reused for and how many
+     * repository services clients and type explorers are kept.
+     *
+     * @param typeExplorerTimeToLive number of milliseconds that a type explorer is reused for (0 means it is
+     *                               rebuilt on every request)
+     * @param maxCachedEntries maximum number of type explorers, and of each kind of repository services client,
+     *                         that are kept
+     */
+    public RexViewHandler(long typeExplorerTimeToLive,
+                          int  maxCachedEntries) {
+
+        this.typeExplorerTimeToLive = typeExplorerTimeToLive;
+        this.typeExplorers          = new LeastRecentlyUsedMap<>(maxCachedEntries);
+        this.localClients           = new LeastRecentlyUsedMap<>(maxCachedEntries);
+        this.enterpriseClients      = new LeastRecentlyUsedMap<>(maxCachedEntries);
+    }
+
+
+    /**
+     * Discard the remembered type information for a repository server (for all users) so that it is retrieved
+     * again on the next request.  This is used when the types known to the repository server have changed.
+     *
+     * @param repositoryServerName The name of the repository server
+     * @param repositoryServerURLRoot The URL root of the repository server
+     */
+    public void refreshTypeExplorer(String repositoryServerName,
+                                    String repositoryServerURLRoot) {
+
+        String localServerKey      = getServerKey(repositoryServerName, repositoryServerURLRoot, false);
+        String enterpriseServerKey = getServerKey(repositoryServerName, repositoryServerURLRoot, true);
+
+        synchronized (typeExplorers) {
+            typeExplorers.keySet().removeIf(key -> key.serverKey.equals(localServerKey) || key.serverKey.equals(enterpriseServerKey));
+        }
+    }
+
+
+    /**
+     * Return the key used to remember information about a repository server.
+     *
+     * @param repositoryServerName The name of the repository server
+     * @param repositoryServerURLRoot The URL root of the repository server
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @return key
+     */
+    private String getServerKey(String  repositoryServerName,
+                                String  repositoryServerURLRoot,
+                                boolean enterpriseOption) {
+
+        return repositoryServerURLRoot + "/servers/" + repositoryServerName + (enterpriseOption ? " (enterprise)" : " (local)");
     }
 
     /**
@@ -102,6 +197,56 @@ public class RexViewHandler
         InvalidParameterException,
         UserNotAuthorizedException
 
+    {
+        TypeExplorerKey    typeExplorerKey = new TypeExplorerKey(userId,
+                                                                 getServerKey(repositoryServerName, repositoryServerURLRoot, enterpriseOption));
+        CachedTypeExplorer cachedTypeExplorer;
+
+        synchronized (typeExplorers) {
+            cachedTypeExplorer = typeExplorers.get(typeExplorerKey);
+        }
+
+        if ((cachedTypeExplorer != null) && (cachedTypeExplorer.expiryTime > System.currentTimeMillis())) {
+            return cachedTypeExplorer.typeExplorer;
+        }
+
+        /*
+         * The types are retrieved outside of the lock so a slow repository server does not hold up requests to
+         * other servers.
+         */
+        TypeExplorer typeExplorer = buildTypeExplorer(userId, repositoryServerName, repositoryServerURLRoot, enterpriseOption);
+
+        if (typeExplorerTimeToLive > 0) {
+            synchronized (typeExplorers) {
+                typeExplorers.put(typeExplorerKey, new CachedTypeExplorer(typeExplorer, System.currentTimeMillis() + typeExplorerTimeToLive));
+            }
+        }
+
+        return typeExplorer;
+    }
+
+
+    /**
+     * Retrieve the types from the repository server and build the TypeExplorer.
+     * @param userId  userId under which the request is performed
+     * @param repositoryServerName The name of the repository server to interrogate
+     * @param repositoryServerURLRoot The URL root of the repository server to interrogate
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @return the TypeExplorer object.
+     *
+     * @throws UserNotAuthorizedException  the requesting user is not authorized to issue this request.
+     * @throws InvalidParameterException  one of the parameters is null or invalid.
+     * @throws RepositoryErrorException Repository could not satisfy the request
+     */
+    private TypeExplorer buildTypeExplorer(String    userId,
+                                           String    repositoryServerName,
+                                           String    repositoryServerURLRoot,
+                                           boolean   enterpriseOption)
+    throws
+        RepositoryErrorException,
+        InvalidParameterException,
+        UserNotAuthorizedException
+
     {
 
         try {
@@ -786,6 +931,75 @@ public class RexViewHandler
      * @throws FunctionNotSupportedException the repository does not support the operation with the provided parameters.
      * @throws UserNotAuthorizedException    the userId is not permitted to perform this operation.
      */
+    public RexTraversal traversal(String          userId,
+                                  String          repositoryServerName,
+                                  String          repositoryServerURLRoot,
+                                  boolean         enterpriseOption,
+                                  String          entityGUID,
+                                  int             depth,
+                                  List<String>    entityTypeGUIDs,
+                                  List<String>    relationshipTypeGUIDs,
+                                  List<String>    classificationNames,
+                                  String          methodName)
+    throws
+    RepositoryErrorException,
+    InvalidParameterException,
+    EntityNotKnownException,
+    EntityProxyOnlyException,
+    UserNotAuthorizedException,
+    TypeErrorException,
+    PropertyErrorException,
+    FunctionNotSupportedException
+
+    {
+        return traversal(userId,
+                         repositoryServerName,
+                         repositoryServerURLRoot,
+                         enterpriseOption,
+                         entityGUID,
+                         depth,
+                         entityTypeGUIDs,
+                         relationshipTypeGUIDs,
+                         classificationNames,
+                         null,
+                         null,
+                         0,
+                         methodName);
+    }
+
+
+    /**
+     * Retrieve the part of the neighborhood surrounding an entity that the caller does not already hold.
+     * @param userId  userId under which the request is performed
+     * @param repositoryServerName The name of the repository server to interrogate
+     * @param repositoryServerURLRoot The URL root of the repository server to interrogate
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @param entityGUID the identity of the entity from which to traverse
+     * @param depth the depth to which the method should traverse
+     * @param entityTypeGUIDs the GUIDs of entity types to filter the neighborhood
+     * @param relationshipTypeGUIDs the GUIDs of relationship types to filter the neighborhood
+     * @param classificationNames the names of classification types to filter the neighborhood
+     * @param knownEntityGUIDs the GUIDs of entities that the caller already holds - these are not returned
+     * @param knownRelationshipGUIDs the GUIDs of relationships that the caller already holds - these are not returned
+     * @param maxRelationships the maximum number of relationships to return (0 means no limit) - if more are
+     *                         available the traversal is marked as truncated and the caller can retrieve the next
+     *                         chunk by calling again with the returned instances added to the known GUIDs
+     * @param methodName The name of the method being invoked
+     * @return a RexTraversal object containing the neighborhood information
+     *
+     * Exceptions returned by the server
+     *
+     * @throws InvalidParameterException     a parameter is invalid or null.
+     * @throws TypeErrorException            the type guid passed on the request is not known by the metadata collection.
+     * @throws EntityNotKnownException       the specified start entity could not be found
+     * @throws EntityProxyOnlyException      the specified start entity could not be found
+     * @throws RepositoryErrorException      there is a problem communicating with the metadata repository where
+     *                                       the metadata collection is stored.
+     * @throws PropertyErrorException        the sequencing property specified is not valid for any of the requested types of
+     *                                       entity.
+     * @throws FunctionNotSupportedException the repository does not support the operation with the provided parameters.
+     * @throws UserNotAuthorizedException    the userId is not permitted to perform this operation.
+     */
     public RexTraversal traversal(String          userId,
                                      String          repositoryServerName,
                                      String          repositoryServerURLRoot,
@@ -795,6 +1009,9 @@ public class RexViewHandler
                                      List<String>    entityTypeGUIDs,
                                      List<String>    relationshipTypeGUIDs,
                                      List<String>    classificationNames,
+                                     List<String>    knownEntityGUIDs,
+                                     List<String>    knownRelationshipGUIDs,
+                                     int             maxRelationships,
                                      String          methodName)
     throws
     RepositoryErrorException,
@@ -808,6 +1025,16 @@ public class RexViewHandler
 
     {
 
+        Set<String> knownEntities      = new HashSet<>();
+        Set<String> knownRelationships = new HashSet<>();
+
+        if (knownEntityGUIDs != null) {
+            knownEntities.addAll(knownEntityGUIDs);
+        }
+        if (knownRelationshipGUIDs != null) {
+            knownRelationships.addAll(knownRelationshipGUIDs);
+        }
+
         try {
 
             /*
@@ -891,16 +1118,51 @@ public class RexViewHandler
                  * Then process the relationships and check fr each end of each relationship whether we need to
                  * augment the RexTraversal entityDigestMap.
                  */
+                /*
+                 * Only the instances that the caller does not already hold are returned.  The new relationships are
+                 * sorted by GUID so that, if there are more than the caller's budget, successive calls return
+                 * successive chunks of the neighborhood.
+                 */
+                List<Relationship> relationships = new ArrayList<>();
+                if (instGraph.getRelationships() != null) {
+                    for (Relationship relationship : instGraph.getRelationships()) {
+                        if (!knownRelationships.contains(relationship.getGUID())) {
+                            relationships.add(relationship);
+                        }
+                    }
+                }
+
+                int remainingRelationshipCount = 0;
+                if (maxRelationships > 0 && relationships.size() > maxRelationships) {
+                    relationships.sort(Comparator.comparing(Relationship::getGUID));
+                    remainingRelationshipCount = relationships.size() - maxRelationships;
+                    relationships = relationships.subList(0, maxRelationships);
+                }
+
+                Set<String> relationshipEnds = new HashSet<>();
+                for (Relationship relationship : relationships) {
+                    relationshipEnds.add(relationship.getEntityOneProxy().getGUID());
+                    relationshipEnds.add(relationship.getEntityTwoProxy().getGUID());
+                }
+
                 List<EntityDetail> entities = instGraph.getEntities();
-                Map<String, RexEntityDigest> entityDigestMap = null;
+                Map<String, RexEntityDigest> entityDigestMap = new HashMap<>();
                 if (entities != null && !entities.isEmpty()) {
-                    entityDigestMap = new HashMap<>();
                     for (EntityDetail entityDetail : entities) {
                         /*
-                         * We need entityGUID, label (computed) and if !preTraversal also include gen
+                         * We need entityGUID, label (computed) and if !preTraversal also include gen.
+                         * When the traversal is truncated, entities that are only reached through relationships
+                         * that have not been returned are left for a later chunk.
                          */
                         String entGUID = entityDetail.getGUID();
 
+                        if (knownEntities.contains(entGUID)) {
+                            continue;
+                        }
+                        if (remainingRelationshipCount > 0 && !entGUID.equals(entityGUID) && !relationshipEnds.contains(entGUID)) {
+                            continue;
+                        }
+
                         // Pass the typeExplorer to the labeller so that it can traverse...
                         String entLabel = this.chooseLabelForEntity(entityDetail, typeExplorer);
 
@@ -910,9 +1172,8 @@ public class RexViewHandler
 
                 }
 
-                List<Relationship> relationships = instGraph.getRelationships();
                 Map<String, RexRelationshipDigest> relationshipDigestMap = null;
-                if (relationships != null && !relationships.isEmpty()) {
+                if (!relationships.isEmpty()) {
                     relationshipDigestMap = new HashMap<>();
                     for (Relationship relationship : relationships) {
                         /*
@@ -925,14 +1186,14 @@ public class RexViewHandler
                         String end2GUID = relationship.getEntityTwoProxy().getGUID();
 
                         /* check for proxies... */
-                        if (entityDigestMap.get(end1GUID) == null) {
+                        if (entityDigestMap.get(end1GUID) == null && !knownEntities.contains(end1GUID)) {
                             /* add a digest for this proxy... */
                             EntityProxy end1Proxy = relationship.getEntityOneProxy();
                             String end1Label = this.chooseLabelForEntityProxy(end1Proxy, typeExplorer);
                             RexEntityDigest red = new RexEntityDigest(end1GUID, end1Label, 0, end1Proxy.getMetadataCollectionName());
                             entityDigestMap.put(end1GUID, red);
                         }
-                        if (entityDigestMap.get(end2GUID) == null) {
+                        if (entityDigestMap.get(end2GUID) == null && !knownEntities.contains(end2GUID)) {
                             /* add a digest for this proxy... */
                             EntityProxy end2Proxy = relationship.getEntityTwoProxy();
                             String end2Label = this.chooseLabelForEntityProxy(end2Proxy, typeExplorer);
@@ -949,6 +1210,15 @@ public class RexViewHandler
                     }
                 }
 
+                if (entityDigestMap.isEmpty()) {
+                    entityDigestMap = null;
+                }
+
+                if (remainingRelationshipCount > 0) {
+                    rt.setTruncated(true);
+                    rt.setRemainingRelationshipCount(remainingRelationshipCount);
+                }
+
                 rt.setEntityGUID(entityGUID);
                 rt.setDepth(depth);
                 rt.setGen(0);
@@ -1018,9 +1288,34 @@ public class RexViewHandler
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
         String restURLRoot = serverURLRoot + "/servers/" + serverName;
-        LocalRepositoryServicesClient client = new LocalRepositoryServicesClient(serverName, restURLRoot);
 
-        return client;
+        synchronized (localClients) {
+            LocalRepositoryServicesClient client = localClients.get(restURLRoot);
+
+            if (client == null) {
+                client = createLocalRepositoryServicesClient(serverName, restURLRoot);
+                localClients.put(restURLRoot, client);
+            }
+
+            return client;
+        }
+    }
+
+
+    /**
+     * Create a client for a single repository server.
+     *
+     * @param serverName name of the repository server
+     * @param restURLRoot URL root of the repository server including the server name
+     * @return client
+     * @throws InvalidParameterException the URL root is not valid
+     */
+    LocalRepositoryServicesClient createLocalRepositoryServicesClient(String serverName,
+                                                                      String restURLRoot)
+    throws
+    InvalidParameterException
+    {
+        return new LocalRepositoryServicesClient(serverName, restURLRoot);
     }
 
     /**
@@ -1050,9 +1345,54 @@ public class RexViewHandler
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
         String restURLRoot = serverURLRoot + "/servers/" + serverName;
-        EnterpriseRepositoryServicesClient client = new EnterpriseRepositoryServicesClient(serverName, restURLRoot);
 
-        return client;
+        synchronized (enterpriseClients) {
+            EnterpriseRepositoryServicesClient client = enterpriseClients.get(restURLRoot);
+
+            if (client == null) {
+                client = createEnterpriseRepositoryServicesClient(serverName, restURLRoot);
+                enterpriseClients.put(restURLRoot, client);
+            }
+
+            return client;
+        }
+    }
+
+
+    /**
+     * Create a client for the cohorts that a repository server belongs to.
+     *
+     * @param serverName name of the repository server
+     * @param restURLRoot URL root of the repository server including the server name
+     * @return client
+     * @throws InvalidParameterException the URL root is not valid
+     */
+    EnterpriseRepositoryServicesClient createEnterpriseRepositoryServicesClient(String serverName,
+                                                                                String restURLRoot)
+    throws
+    InvalidParameterException
+    {
+        return new EnterpriseRepositoryServicesClient(serverName, restURLRoot);
+    }
+
+
+    /**
+     * Return the number of repository services clients that are kept.
+     *
+     * @return count of local and enterprise clients
+     */
+    int getCachedClientCount() {
+
+        int count;
+
+        synchronized (localClients) {
+            count = localClients.size();
+        }
+        synchronized (enterpriseClients) {
+            count = count + enterpriseClients.size();
+        }
+
+        return count;
     }
 
     private String chooseLabelForEntity(EntityDetail entityDetail, TypeExplorer typeExplorer)
@@ -1337,5 +1677,75 @@ public class RexViewHandler
     }
 
 
+    /**
+     * CachedTypeExplorer is a TypeExplorer and the time it should be rebuilt.
+     */
+    private static class CachedTypeExplorer {
+
+        private final TypeExplorer typeExplorer;
+        private final long         expiryTime;
+
+        CachedTypeExplorer(TypeExplorer typeExplorer, long expiryTime) {
+            this.typeExplorer = typeExplorer;
+            this.expiryTime   = expiryTime;
+        }
+    }
+
 
+    /**
+     * TypeExplorerKey identifies the type information retrieved by a user from a repository server.
+     */
+    private static class TypeExplorerKey {
+
+        private final String userId;
+        private final String serverKey;
+
+        TypeExplorerKey(String userId, String serverKey) {
+            this.userId    = userId;
+            this.serverKey = serverKey;
+        }
+
+        @Override
+        public boolean equals(Object objectToCompare) {
+            if (this == objectToCompare) {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass()) {
+                return false;
+            }
+            TypeExplorerKey that = (TypeExplorerKey) objectToCompare;
+            return Objects.equals(userId, that.userId) &&
+                   Objects.equals(serverKey, that.serverKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, serverKey);
+        }
+    }
+
+
+    /**
+     * LeastRecentlyUsedMap discards the least recently used entry when it holds more than its maximum number of
+     * entries.  It is not thread-safe - callers synchronize on the map.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     */
+    private static class LeastRecentlyUsedMap<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        LeastRecentlyUsedMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
 }
@@ -458,6 +458,11 @@ public class RexViewRESTServices {
             if (requestBody != null) {
                 RexViewHandler handler = instanceHandler.getRexViewHandler(userId, serverName, methodName);
 
+                int maxRelationships = 0;
+                if (requestBody.getMaxRelationships() != null) {
+                    maxRelationships = requestBody.getMaxRelationships();
+                }
+
                 RexTraversal traversal = handler.traversal(userId,
                                                               requestBody.getServerName(),
                                                               requestBody.getServerURLRoot(),
@@ -467,6 +472,9 @@ public class RexViewRESTServices {
                                                               requestBody.getEntityTypeGUIDs(),
                                                               requestBody.getRelationshipTypeGUIDs(),
                                                               requestBody.getClassificationNames(),
+                                                              requestBody.getKnownEntityGUIDs(),
+                                                              requestBody.getKnownRelationshipGUIDs(),
+                                                              maxRelationships,
                                                               methodName);
 
                 if (traversal != null) {
@@ -0,0 +1,393 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.viewservices.rex.handlers;
+
+import org.odpi.openmetadata.repositoryservices.clients.EnterpriseRepositoryServicesClient;
+import org.odpi.openmetadata.repositoryservices.clients.LocalRepositoryServicesClient;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EnumDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefGallery;
+import org.odpi.openmetadata.viewservices.rex.api.properties.RexTraversal;
+import org.odpi.openmetadata.viewservices.rex.api.properties.TypeExplorer;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that RexViewHandler keeps type information separately for each user and repository server, bounds
+ * the number of repository services clients that it keeps, and returns traversals that leave out the instances
+ * the caller already holds and are split into chunks when a relationship budget is set.
+ */
+public class RexViewHandlerTest {
+
+    private static final String serverName    = "testServer";
+    private static final String serverURLRoot = "https://localhost:9443";
+    private static final String methodName    = "testMethod";
+    private static final String userId        = "user1";
+    private static final String centreGUID    = "entity-0";
+    private static final int    linkedCount   = 5;
+
+    private TestRexViewHandler handler;
+
+
+    /**
+     * Create a handler whose repository services clients are mocks.
+     *
+     * @throws Exception problem setting up the mocks
+     */
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        handler = new TestRexViewHandler(60000, 2);
+    }
+
+
+    /**
+     * The type information is retrieved once for each user.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testTypeExplorerKeptPerUser() throws Exception {
+
+        TypeExplorer user1Explorer = handler.getTypeExplorer("user1", serverName, serverURLRoot, false, methodName);
+
+        assertSame(handler.getTypeExplorer("user1", serverName, serverURLRoot, false, methodName), user1Explorer);
+        assertNotSame(handler.getTypeExplorer("user2", serverName, serverURLRoot, false, methodName), user1Explorer);
+
+        LocalRepositoryServicesClient client = handler.localClients.get(0);
+
+        verify(client, times(1)).getAllTypes("user1");
+        verify(client, times(1)).getAllTypes("user2");
+    }
+
+
+    /**
+     * Refreshing the type information for a server discards it for every user.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testRefreshDiscardsAllUsers() throws Exception {
+
+        handler.getTypeExplorer("user1", serverName, serverURLRoot, false, methodName);
+        handler.getTypeExplorer("user2", serverName, serverURLRoot, false, methodName);
+
+        handler.refreshTypeExplorer(serverName, serverURLRoot);
+
+        handler.getTypeExplorer("user1", serverName, serverURLRoot, false, methodName);
+        handler.getTypeExplorer("user2", serverName, serverURLRoot, false, methodName);
+
+        LocalRepositoryServicesClient client = handler.localClients.get(0);
+
+        verify(client, times(2)).getAllTypes("user1");
+        verify(client, times(2)).getAllTypes("user2");
+    }
+
+
+    /**
+     * The number of clients kept is bounded and the least recently used one is discarded.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testClientsBounded() throws Exception {
+
+        for (int i = 0; i < 5; i++) {
+            handler.getTypeExplorer("user1", serverName, serverURLRoot + i, false, methodName);
+            handler.getTypeExplorer("user1", serverName, serverURLRoot + 0, false, methodName);
+        }
+
+        assertEquals(handler.getCachedClientCount(), 2);
+        assertEquals(handler.localClients.size(), 5);
+    }
+
+
+    /**
+     * Entities and relationships that the caller already holds are left out of the traversal.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testKnownInstancesNotReturned() throws Exception {
+
+        RexTraversal traversal = this.traverse(Arrays.asList(centreGUID, "entity-1", "entity-2"),
+                                               Arrays.asList("relationship-1", "relationship-3"),
+                                               0);
+
+        assertEquals(traversal.getEntities().keySet(), new HashSet<>(Arrays.asList("entity-3", "entity-4", "entity-5")));
+        assertEquals(traversal.getRelationships().keySet(), new HashSet<>(Arrays.asList("relationship-2",
+                                                                                         "relationship-4",
+                                                                                         "relationship-5")));
+        assertNull(traversal.getTruncated());
+        assertNull(traversal.getRemainingRelationshipCount());
+    }
+
+
+    /**
+     * Nothing new is returned when the caller holds the whole neighborhood.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testNothingNew() throws Exception {
+
+        List<String> entityGUIDs       = new ArrayList<>();
+        List<String> relationshipGUIDs = new ArrayList<>();
+
+        for (int i = 0; i <= linkedCount; i++) {
+            entityGUIDs.add("entity-" + i);
+            relationshipGUIDs.add("relationship-" + i);
+        }
+
+        RexTraversal traversal = this.traverse(entityGUIDs, relationshipGUIDs, 0);
+
+        assertNull(traversal.getEntities());
+        assertNull(traversal.getRelationships());
+    }
+
+
+    /**
+     * With a relationship budget, successive calls that pass back the returned instances as known instances
+     * return successive chunks that together make up the whole neighborhood without repeats.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testBudgetChunking() throws Exception {
+
+        List<String> knownEntityGUIDs       = new ArrayList<>();
+        List<String> knownRelationshipGUIDs = new ArrayList<>();
+
+        RexTraversal firstChunk = this.traverse(knownEntityGUIDs, knownRelationshipGUIDs, 2);
+
+        assertEquals(firstChunk.getRelationships().keySet(), new HashSet<>(Arrays.asList("relationship-1", "relationship-2")));
+        assertEquals(firstChunk.getEntities().keySet(), new HashSet<>(Arrays.asList(centreGUID, "entity-1", "entity-2")));
+        assertTrue(firstChunk.getTruncated());
+        assertEquals(firstChunk.getRemainingRelationshipCount(), Integer.valueOf(3));
+
+        knownEntityGUIDs.addAll(firstChunk.getEntities().keySet());
+        knownRelationshipGUIDs.addAll(firstChunk.getRelationships().keySet());
+
+        RexTraversal secondChunk = this.traverse(knownEntityGUIDs, knownRelationshipGUIDs, 2);
+
+        assertEquals(secondChunk.getRelationships().keySet(), new HashSet<>(Arrays.asList("relationship-3", "relationship-4")));
+        assertEquals(secondChunk.getEntities().keySet(), new HashSet<>(Arrays.asList("entity-3", "entity-4")));
+        assertTrue(secondChunk.getTruncated());
+        assertEquals(secondChunk.getRemainingRelationshipCount(), Integer.valueOf(1));
+
+        knownEntityGUIDs.addAll(secondChunk.getEntities().keySet());
+        knownRelationshipGUIDs.addAll(secondChunk.getRelationships().keySet());
+
+        RexTraversal lastChunk = this.traverse(knownEntityGUIDs, knownRelationshipGUIDs, 2);
+
+        assertEquals(lastChunk.getRelationships().keySet(), new HashSet<>(Arrays.asList("relationship-5")));
+        assertEquals(lastChunk.getEntities().keySet(), new HashSet<>(Arrays.asList("entity-5")));
+        assertNull(lastChunk.getTruncated());
+
+        Set<String> allEntityGUIDs = new HashSet<>(knownEntityGUIDs);
+        allEntityGUIDs.addAll(lastChunk.getEntities().keySet());
+
+        assertEquals(allEntityGUIDs.size(), linkedCount + 1);
+        assertEquals(knownEntityGUIDs.size(), new HashSet<>(knownEntityGUIDs).size());
+    }
+
+
+    /**
+     * Traverse the test neighborhood.
+     *
+     * @param knownEntityGUIDs entities the caller already holds
+     * @param knownRelationshipGUIDs relationships the caller already holds
+     * @param maxRelationships relationship budget (0 for no limit)
+     * @return traversal
+     * @throws Exception unexpected error
+     */
+    private RexTraversal traverse(List<String> knownEntityGUIDs,
+                                  List<String> knownRelationshipGUIDs,
+                                  int          maxRelationships) throws Exception {
+
+        /*
+         * Create the client so the neighborhood can be set up.
+         */
+        handler.getTypeExplorer(userId, serverName, serverURLRoot, false, methodName);
+
+        LocalRepositoryServicesClient client = handler.localClients.get(0);
+
+        when(client.getEntityNeighborhood(eq(userId), eq(centreGUID), any(), any(), any(), any(), any(), anyInt()))
+                .thenAnswer(invocation -> getNeighborhood());
+
+        return handler.traversal(userId,
+                                 serverName,
+                                 serverURLRoot,
+                                 false,
+                                 centreGUID,
+                                 1,
+                                 null,
+                                 null,
+                                 null,
+                                 knownEntityGUIDs,
+                                 knownRelationshipGUIDs,
+                                 maxRelationships,
+                                 methodName);
+    }
+
+
+    /**
+     * Return a neighborhood of a centre entity linked to five other entities.  The relationships are
+     * listed in reverse order of GUID to show that chunks are chosen by GUID.
+     *
+     * @return instance graph
+     */
+    private static InstanceGraph getNeighborhood() {
+
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        entities.add(getEntity(centreGUID));
+
+        for (int i = linkedCount; i > 0; i--) {
+            entities.add(getEntity("entity-" + i));
+
+            Relationship relationship = new Relationship();
+            relationship.setGUID("relationship-" + i);
+            relationship.setEntityOneProxy(getProxy(centreGUID));
+            relationship.setEntityTwoProxy(getProxy("entity-" + i));
+
+            relationships.add(relationship);
+        }
+
+        return new InstanceGraph(entities, relationships);
+    }
+
+
+    /**
+     * Return an entity with no type so it is labelled with its GUID.
+     *
+     * @param guid unique identifier
+     * @return entity
+     */
+    private static EntityDetail getEntity(String guid) {
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    /**
+     * Return an entity proxy with no type.
+     *
+     * @param guid unique identifier
+     * @return proxy
+     */
+    private static EntityProxy getProxy(String guid) {
+
+        EntityProxy proxy = new EntityProxy();
+        proxy.setGUID(guid);
+
+        return proxy;
+    }
+
+
+    /**
+     * Return a type gallery with a single entity type and a single enum type.
+     *
+     * @return type gallery
+     */
+    static TypeDefGallery getTypeDefGallery() {
+
+        EntityDef entityDef = new EntityDef();
+        entityDef.setName("Referenceable");
+        entityDef.setGUID("referenceable-guid");
+
+        EnumDef enumDef = new EnumDef();
+        enumDef.setName("TestEnum");
+        enumDef.setGUID("test-enum-guid");
+
+        List<TypeDef>          typeDefs          = new ArrayList<>();
+        List<AttributeTypeDef> attributeTypeDefs = new ArrayList<>();
+
+        typeDefs.add(entityDef);
+        attributeTypeDefs.add(enumDef);
+
+        TypeDefGallery typeDefGallery = new TypeDefGallery();
+        typeDefGallery.setTypeDefs(typeDefs);
+        typeDefGallery.setAttributeTypeDefs(attributeTypeDefs);
+
+        return typeDefGallery;
+    }
+
+
+    /**
+     * TestRexViewHandler creates mock repository services clients and records each one it creates.
+     */
+    static class TestRexViewHandler extends RexViewHandler {
+
+        final List<LocalRepositoryServicesClient>      localClients      = new ArrayList<>();
+        final List<EnterpriseRepositoryServicesClient> enterpriseClients = new ArrayList<>();
+
+        TestRexViewHandler(long typeExplorerTimeToLive, int maxCachedEntries) {
+            super(typeExplorerTimeToLive, maxCachedEntries);
+        }
+
+        @Override
+        LocalRepositoryServicesClient createLocalRepositoryServicesClient(String serverName,
+                                                                          String restURLRoot) {
+
+            LocalRepositoryServicesClient client = mock(LocalRepositoryServicesClient.class);
+
+            try {
+                when(client.getAllTypes(anyString())).thenAnswer(invocation -> getTypeDefGallery());
+            }
+            catch (Exception error) {
+                throw new IllegalStateException(error);
+            }
+
+            localClients.add(client);
+            return client;
+        }
+
+        @Override
+        EnterpriseRepositoryServicesClient createEnterpriseRepositoryServicesClient(String serverName,
+                                                                                    String restURLRoot) {
+
+            EnterpriseRepositoryServicesClient client = mock(EnterpriseRepositoryServicesClient.class);
+
+            try {
+                when(client.getAllTypes(anyString())).thenAnswer(invocation -> getTypeDefGallery());
+            }
+            catch (Exception error) {
+                throw new IllegalStateException(error);
+            }
+
+            enterpriseClients.add(client);
+            return client;
+        }
+    }
+}
@@ -87,6 +87,17 @@ public class OpenMetadataTypesArchive
     }
 
 
+    /**
+     * Return the version of this archive.
+     *
+     * @return String version
+     */
+    public String getArchiveVersion()
+    {
+        return archiveVersion;
+    }
+
+
     /**
      * Returns the open metadata type archive containing all of the standard open metadata types.
      *
@@ -0,0 +1,228 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.opentypes;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * OpenMetadataTypesSnapshot returns the open metadata types archive from a compact binary snapshot that is
+ * generated when this module is built (see OpenMetadataTypesSnapshotWriter).  This avoids executing the
+ * archive builder code in OpenMetadataTypesArchive each time a server starts.
+ * <p>
+ * The snapshot starts with a header that identifies the archive GUID and version it was built from, followed by
+ * the length and CRC32 checksum of the encoded archive.  The encoding (see OpenMetadataTypesSnapshotEncoder) writes
+ * each string once, refers to the TypeDefs and AttributeTypeDefs of the archive by their position and is decoded
+ * from a single byte array without reflection.  The snapshot is only used if it matches the archive GUID and
+ * version of the OpenMetadataTypesArchive class on the classpath and its checksum is valid.  Otherwise the
+ * archive is built from OpenMetadataTypesArchive as before.
+ * </p>
+ */
+public class OpenMetadataTypesSnapshot
+{
+    /**
+     * Name of the classpath resource holding the snapshot.
+     */
+    public static final String snapshotResourceName = "open-metadata-types.snapshot";
+
+    private static final int snapshotMagicNumber   = 0x4F4D5453; /* OMTS */
+    private static final int snapshotFormatVersion = 2;
+    private static final int maximumContentLength  = 16 * 1024 * 1024;
+
+    private OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
+    private boolean                  loadedFromSnapshot       = false;
+
+
+    /**
+     * Return the unique identifier for the open metadata types archive.
+     *
+     * @return String guid
+     */
+    public String getArchiveGUID()
+    {
+        return openMetadataTypesArchive.getArchiveGUID();
+    }
+
+
+    /**
+     * Return whether the last call to getOpenMetadataArchive() was satisfied from the snapshot.
+     *
+     * @return boolean flag
+     */
+    public boolean isLoadedFromSnapshot()
+    {
+        return loadedFromSnapshot;
+    }
+
+
+    /**
+     * Return the open metadata types archive.  It is read from the snapshot if it is available and matches this
+     * version of the open metadata types, otherwise it is built from OpenMetadataTypesArchive.
+     *
+     * @return populated open metadata archive object
+     */
+    public OpenMetadataArchive getOpenMetadataArchive()
+    {
+        OpenMetadataArchive openMetadataArchive = null;
+
+        try (InputStream snapshotStream = this.getClass().getClassLoader().getResourceAsStream(snapshotResourceName))
+        {
+            if (snapshotStream != null)
+            {
+                openMetadataArchive = this.readSnapshot(snapshotStream);
+            }
+        }
+        catch (IOException error)
+        {
+            openMetadataArchive = null;
+        }
+
+        loadedFromSnapshot = (openMetadataArchive != null);
+
+        if (openMetadataArchive == null)
+        {
+            openMetadataArchive = openMetadataTypesArchive.getOpenMetadataArchive();
+        }
+
+        return openMetadataArchive;
+    }
+
+
+    /**
+     * Write a snapshot of the supplied open metadata types archive.
+     *
+     * @param openMetadataArchive archive built by OpenMetadataTypesArchive
+     * @param snapshotStream destination of the snapshot
+     * @throws IOException unable to write the snapshot or the archive contains elements it can not encode
+     */
+    public void writeSnapshot(OpenMetadataArchive openMetadataArchive,
+                              OutputStream        snapshotStream) throws IOException
+    {
+        byte[] content = new OpenMetadataTypesSnapshotEncoder().encode(openMetadataArchive);
+
+        DataOutputStream dataStream = new DataOutputStream(snapshotStream);
+
+        dataStream.writeInt(snapshotMagicNumber);
+        dataStream.writeInt(snapshotFormatVersion);
+        dataStream.writeUTF(openMetadataTypesArchive.getArchiveGUID());
+        dataStream.writeUTF(openMetadataTypesArchive.getArchiveVersion());
+        dataStream.writeInt(content.length);
+        dataStream.writeLong(this.getChecksum(content, 0, content.length));
+        dataStream.write(content);
+        dataStream.flush();
+    }
+
+
+    /**
+     * Read a snapshot of the open metadata types archive.  Null is returned if the snapshot does not match this
+     * version of the open metadata types or is corrupt.
+     *
+     * @param snapshotStream source of the snapshot
+     * @return open metadata archive or null
+     * @throws IOException unable to read the snapshot
+     */
+    public OpenMetadataArchive readSnapshot(InputStream snapshotStream) throws IOException
+    {
+        ByteBuffer snapshot = ByteBuffer.wrap(this.readFully(snapshotStream));
+
+        try
+        {
+            if ((snapshot.getInt() != snapshotMagicNumber) ||
+                (snapshot.getInt() != snapshotFormatVersion) ||
+                (! openMetadataTypesArchive.getArchiveGUID().equals(this.getUTF(snapshot))) ||
+                (! openMetadataTypesArchive.getArchiveVersion().equals(this.getUTF(snapshot))))
+            {
+                return null;
+            }
+
+            int  contentLength    = snapshot.getInt();
+            long expectedChecksum = snapshot.getLong();
+
+            if ((contentLength <= 0) || (contentLength != snapshot.remaining()) ||
+                (expectedChecksum != this.getChecksum(snapshot.array(), snapshot.position(), contentLength)))
+            {
+                return null;
+            }
+
+            return new OpenMetadataTypesSnapshotDecoder(snapshot.array(), snapshot.position()).decode();
+        }
+        catch (RuntimeException error)
+        {
+            /*
+             * The snapshot is truncated or was written by a different version of the encoder - ignore it.
+             */
+            return null;
+        }
+    }
+
+
+    /**
+     * Read the whole snapshot into memory so it can be decoded without further copying.
+     *
+     * @param snapshotStream source of the snapshot
+     * @return snapshot bytes
+     * @throws IOException unable to read the snapshot or it is too big
+     */
+    private byte[] readFully(InputStream snapshotStream) throws IOException
+    {
+        ByteArrayOutputStream snapshotBytes = new ByteArrayOutputStream(256 * 1024);
+        byte[]                buffer        = new byte[64 * 1024];
+        int                   length;
+
+        while ((length = snapshotStream.read(buffer)) != -1)
+        {
+            snapshotBytes.write(buffer, 0, length);
+
+            if (snapshotBytes.size() > maximumContentLength)
+            {
+                throw new IOException("Open metadata types snapshot is larger than " + maximumContentLength + " bytes");
+            }
+        }
+
+        return snapshotBytes.toByteArray();
+    }
+
+
+    /**
+     * Read a string written by DataOutputStream.writeUTF().  The header strings are plain ASCII GUIDs and
+     * version numbers.
+     *
+     * @param snapshot snapshot bytes positioned at the string
+     * @return string value
+     */
+    private String getUTF(ByteBuffer snapshot)
+    {
+        int    length = snapshot.getShort() & 0xFFFF;
+        String value  = new String(snapshot.array(), snapshot.position(), length, StandardCharsets.UTF_8);
+
+        snapshot.position(snapshot.position() + length);
+
+        return value;
+    }
+
+
+    /**
+     * Calculate the checksum of the snapshot content.
+     *
+     * @param content buffer holding the encoded archive
+     * @param offset start of the encoded archive in the buffer
+     * @param length length of the encoded archive
+     * @return checksum
+     */
+    private long getChecksum(byte[] content, int offset, int length)
+    {
+        CRC32 checksum = new CRC32();
+
+        checksum.update(content, offset, length);
+
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,815 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.opentypes;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.odpi.openmetadata.opentypes.OpenMetadataTypesSnapshotEncoder.*;
+
+/**
+ * OpenMetadataTypesSnapshotDecoder rebuilds the open metadata types archive from the form written by
+ * OpenMetadataTypesSnapshotEncoder.  The encoded archive is read directly from the snapshot bytes.  A snapshot that
+ * does not follow the encoding causes a RuntimeException, which OpenMetadataTypesSnapshot treats as a snapshot
+ * that can not be used.
+ */
+class OpenMetadataTypesSnapshotDecoder
+{
+    /*
+     * The values() methods copy their array on each call so they are cached here.
+     */
+    private static final OpenMetadataArchiveType[]       archiveTypes               = OpenMetadataArchiveType.values();
+    private static final TypeDefStatus[]                 typeDefStatuses            = TypeDefStatus.values();
+    private static final TypeDefCategory[]               typeDefCategories          = TypeDefCategory.values();
+    private static final InstanceStatus[]                instanceStatuses           = InstanceStatus.values();
+    private static final ClassificationPropagationRule[] propagationRules           = ClassificationPropagationRule.values();
+    private static final RelationshipEndCardinality[]    endCardinalities           = RelationshipEndCardinality.values();
+    private static final TypeDefAttributeStatus[]        attributeStatuses          = TypeDefAttributeStatus.values();
+    private static final AttributeCardinality[]          attributeCardinalities     = AttributeCardinality.values();
+    private static final AttributeTypeDefCategory[]      attributeTypeDefCategories = AttributeTypeDefCategory.values();
+    private static final PrimitiveDefCategory[]          primitiveDefCategories     = PrimitiveDefCategory.values();
+    private static final CollectionDefCategory[]         collectionDefCategories    = CollectionDefCategory.values();
+
+    private final byte[]                 encodedArchive;
+    private int                          position;
+
+    private final List<String>           strings           = new ArrayList<>();
+    private final List<TypeDef>          typeDefs          = new ArrayList<>();
+    private final List<AttributeTypeDef> attributeTypeDefs = new ArrayList<>();
+
+
+    /**
+     * Constructor supplies the bytes to decode.
+     *
+     * @param encodedArchive buffer holding the encoded archive
+     * @param offset start of the encoded archive in the buffer
+     */
+    OpenMetadataTypesSnapshotDecoder(byte[] encodedArchive,
+                                     int    offset)
+    {
+        this.encodedArchive = encodedArchive;
+        this.position       = offset;
+    }
+
+
+    /**
+     * Decode the archive.
+     *
+     * @return open metadata archive
+     */
+    OpenMetadataArchive decode()
+    {
+        OpenMetadataArchive openMetadataArchive = new OpenMetadataArchive();
+
+        openMetadataArchive.setArchiveProperties(this.readArchiveProperties());
+        openMetadataArchive.setArchiveTypeStore(this.readTypeStore());
+
+        if (position != encodedArchive.length)
+        {
+            throw new IllegalStateException("Unexpected content at the end of the open metadata types snapshot");
+        }
+
+        return openMetadataArchive;
+    }
+
+
+    /**
+     * Read the header properties of the archive.
+     *
+     * @return archive properties or null
+     */
+    private OpenMetadataArchiveProperties readArchiveProperties()
+    {
+        if (! this.readBoolean())
+        {
+            return null;
+        }
+
+        OpenMetadataArchiveProperties archiveProperties = new OpenMetadataArchiveProperties();
+
+        archiveProperties.setArchiveGUID(this.readString());
+        archiveProperties.setArchiveName(this.readString());
+        archiveProperties.setArchiveDescription(this.readString());
+        archiveProperties.setArchiveType(this.readEnum(archiveTypes));
+        archiveProperties.setArchiveVersion(this.readString());
+        archiveProperties.setOriginatorName(this.readString());
+        archiveProperties.setOriginatorOrganization(this.readString());
+        archiveProperties.setOriginatorLicense(this.readString());
+        archiveProperties.setCreationDate(this.readDate());
+        archiveProperties.setDependsOnArchives(this.readStringList());
+
+        return archiveProperties;
+    }
+
+
+    /**
+     * Read the type store.  All of the TypeDefs are created before their properties are read so references
+     * between them can be resolved in one pass.
+     *
+     * @return type store or null
+     */
+    private OpenMetadataArchiveTypeStore readTypeStore()
+    {
+        if (! this.readBoolean())
+        {
+            return null;
+        }
+
+        OpenMetadataArchiveTypeStore typeStore = new OpenMetadataArchiveTypeStore();
+
+        int attributeTypeDefCount = this.readVarInt();
+
+        if (attributeTypeDefCount != nullValue)
+        {
+            for (int index = 1; index < attributeTypeDefCount; index++)
+            {
+                attributeTypeDefs.add(this.readAttributeTypeDef());
+            }
+
+            typeStore.setAttributeTypeDefs(attributeTypeDefs);
+        }
+
+        int typeDefCount = this.readVarInt();
+
+        if (typeDefCount != nullValue)
+        {
+            for (int index = 1; index < typeDefCount; index++)
+            {
+                typeDefs.add(this.newTypeDef(this.readVarInt()));
+            }
+
+            for (TypeDef typeDef : typeDefs)
+            {
+                this.readTypeDefContent(typeDef);
+            }
+
+            typeStore.setNewTypeDefs(typeDefs);
+        }
+
+        int typeDefPatchCount = this.readVarInt();
+
+        if (typeDefPatchCount != nullValue)
+        {
+            List<TypeDefPatch> typeDefPatches = new ArrayList<>(typeDefPatchCount - 1);
+
+            for (int index = 1; index < typeDefPatchCount; index++)
+            {
+                typeDefPatches.add(this.readTypeDefPatch());
+            }
+
+            typeStore.setTypeDefPatches(typeDefPatches);
+        }
+
+        return typeStore;
+    }
+
+
+    /**
+     * Create an empty TypeDef of the requested class.
+     *
+     * @param typeDefClass class code
+     * @return new TypeDef
+     */
+    private TypeDef newTypeDef(int typeDefClass)
+    {
+        switch (typeDefClass)
+        {
+            case entityDefClass:
+                return new EntityDef();
+
+            case relationshipDefClass:
+                return new RelationshipDef();
+
+            case classificationDefClass:
+                return new ClassificationDef();
+
+            default:
+                throw new IllegalStateException("Unknown TypeDef class " + typeDefClass);
+        }
+    }
+
+
+    /**
+     * Read the properties of a TypeDef.
+     *
+     * @param typeDef TypeDef to fill in
+     */
+    private void readTypeDefContent(TypeDef typeDef)
+    {
+        this.readTypeDefSummary(typeDef);
+        typeDef.setSuperType(this.readTypeDefLink());
+        typeDef.setDescription(this.readString());
+        typeDef.setDescriptionGUID(this.readString());
+        typeDef.setOrigin(this.readString());
+        typeDef.setCreatedBy(this.readString());
+        typeDef.setUpdatedBy(this.readString());
+        typeDef.setCreateTime(this.readDate());
+        typeDef.setUpdateTime(this.readDate());
+        typeDef.setOptions(this.readStringMap());
+        typeDef.setExternalStandardMappings(this.readExternalStandardMappings());
+        typeDef.setValidInstanceStatusList(this.readEnumList(instanceStatuses));
+        typeDef.setInitialStatus(this.readEnum(instanceStatuses));
+        typeDef.setPropertiesDefinition(this.readTypeDefAttributes());
+
+        if (typeDef instanceof RelationshipDef)
+        {
+            RelationshipDef relationshipDef = (RelationshipDef) typeDef;
+
+            relationshipDef.setPropagationRule(this.readEnum(propagationRules));
+            relationshipDef.setEndDef1(this.readRelationshipEndDef());
+            relationshipDef.setEndDef2(this.readRelationshipEndDef());
+        }
+        else if (typeDef instanceof ClassificationDef)
+        {
+            ClassificationDef classificationDef = (ClassificationDef) typeDef;
+
+            classificationDef.setValidEntityDefs(this.readTypeDefLinks());
+            classificationDef.setPropagatable(this.readBoolean());
+        }
+    }
+
+
+    /**
+     * Read the properties of a TypeDefSummary.
+     *
+     * @param typeDefSummary summary to fill in
+     */
+    private void readTypeDefSummary(TypeDefSummary typeDefSummary)
+    {
+        this.readTypeDefLinkContent(typeDefSummary);
+        typeDefSummary.setVersion(this.readLong());
+        typeDefSummary.setVersionName(this.readString());
+        typeDefSummary.setCategory(this.readEnum(typeDefCategories));
+    }
+
+
+    /**
+     * Read the properties of a TypeDefLink.
+     *
+     * @param typeDefLink link to fill in
+     */
+    private void readTypeDefLinkContent(TypeDefLink typeDefLink)
+    {
+        typeDefLink.setHeaderVersion(this.readLong());
+        typeDefLink.setGUID(this.readString());
+        typeDefLink.setName(this.readString());
+        typeDefLink.setStatus(this.readEnum(typeDefStatuses));
+        typeDefLink.setReplacedByTypeGUID(this.readString());
+        typeDefLink.setReplacedByTypeName(this.readString());
+    }
+
+
+    /**
+     * Read a link to a TypeDef.
+     *
+     * @return link or null
+     */
+    private TypeDefLink readTypeDefLink()
+    {
+        int linkKind = this.readVarInt();
+
+        switch (linkKind)
+        {
+            case nullValue:
+                return null;
+
+            case typeDefReference:
+                return typeDefs.get(this.readVarInt());
+
+            case typeDefLinkValue:
+                TypeDefLink typeDefLink = new TypeDefLink();
+
+                this.readTypeDefLinkContent(typeDefLink);
+
+                return typeDefLink;
+
+            case typeDefSummaryValue:
+                TypeDefSummary summary = new TypeDefSummary();
+
+                this.readTypeDefSummary(summary);
+
+                return summary;
+
+            case typeDefValue:
+                TypeDef typeDef = this.newTypeDef(this.readVarInt());
+
+                this.readTypeDefContent(typeDef);
+
+                return typeDef;
+
+            default:
+                throw new IllegalStateException("Unknown TypeDefLink kind " + linkKind);
+        }
+    }
+
+
+    /**
+     * Read a list of links to TypeDefs.
+     *
+     * @return list of links or null
+     */
+    private List<TypeDefLink> readTypeDefLinks()
+    {
+        int count = this.readVarInt();
+
+        if (count == nullValue)
+        {
+            return null;
+        }
+
+        List<TypeDefLink> typeDefLinks = new ArrayList<>(count - 1);
+
+        for (int index = 1; index < count; index++)
+        {
+            typeDefLinks.add(this.readTypeDefLink());
+        }
+
+        return typeDefLinks;
+    }
+
+
+    /**
+     * Read the definition of one end of a relationship.
+     *
+     * @return end definition or null
+     */
+    private RelationshipEndDef readRelationshipEndDef()
+    {
+        if (! this.readBoolean())
+        {
+            return null;
+        }
+
+        RelationshipEndDef relationshipEndDef = new RelationshipEndDef();
+
+        relationshipEndDef.setHeaderVersion(this.readLong());
+        relationshipEndDef.setEntityType(this.readTypeDefLink());
+        relationshipEndDef.setAttributeName(this.readString());
+        relationshipEndDef.setAttributeDescription(this.readString());
+        relationshipEndDef.setAttributeDescriptionGUID(this.readString());
+        relationshipEndDef.setAttributeCardinality(this.readEnum(endCardinalities));
+
+        return relationshipEndDef;
+    }
+
+
+    /**
+     * Read the attribute definitions of a TypeDef or TypeDefPatch.
+     *
+     * @return list of attributes or null
+     */
+    private List<TypeDefAttribute> readTypeDefAttributes()
+    {
+        int count = this.readVarInt();
+
+        if (count == nullValue)
+        {
+            return null;
+        }
+
+        List<TypeDefAttribute> typeDefAttributes = new ArrayList<>(count - 1);
+
+        for (int index = 1; index < count; index++)
+        {
+            if (! this.readBoolean())
+            {
+                typeDefAttributes.add(null);
+                continue;
+            }
+
+            TypeDefAttribute typeDefAttribute = new TypeDefAttribute();
+
+            typeDefAttribute.setHeaderVersion(this.readLong());
+            typeDefAttribute.setAttributeName(this.readString());
+            typeDefAttribute.setAttributeType(this.readAttributeTypeDefLink());
+            typeDefAttribute.setAttributeStatus(this.readEnum(attributeStatuses));
+            typeDefAttribute.setReplacedByAttribute(this.readString());
+            typeDefAttribute.setAttributeDescription(this.readString());
+            typeDefAttribute.setAttributeDescriptionGUID(this.readString());
+            typeDefAttribute.setAttributeCardinality(this.readEnum(attributeCardinalities));
+            typeDefAttribute.setValuesMinCount(this.readInt());
+            typeDefAttribute.setValuesMaxCount(this.readInt());
+            typeDefAttribute.setIndexable(this.readBoolean());
+            typeDefAttribute.setUnique(this.readBoolean());
+            typeDefAttribute.setDefaultValue(this.readString());
+            typeDefAttribute.setExternalStandardMappings(this.readExternalStandardMappings());
+
+            typeDefAttributes.add(typeDefAttribute);
+        }
+
+        return typeDefAttributes;
+    }
+
+
+    /**
+     * Read the type of an attribute.
+     *
+     * @return attribute type or null
+     */
+    private AttributeTypeDef readAttributeTypeDefLink()
+    {
+        int code = this.readVarInt();
+
+        if (code == nullValue)
+        {
+            return null;
+        }
+        else if (code == newValue)
+        {
+            return this.readAttributeTypeDef();
+        }
+
+        return attributeTypeDefs.get(code - firstReferenceCode);
+    }
+
+
+    /**
+     * Read an AttributeTypeDef in full.
+     *
+     * @return attribute type
+     */
+    private AttributeTypeDef readAttributeTypeDef()
+    {
+        int              attributeTypeDefClass = this.readVarInt();
+        AttributeTypeDef attributeTypeDef;
+
+        switch (attributeTypeDefClass)
+        {
+            case primitiveDefClass:
+                attributeTypeDef = new PrimitiveDef();
+                break;
+
+            case collectionDefClass:
+                attributeTypeDef = new CollectionDef();
+                break;
+
+            case enumDefClass:
+                attributeTypeDef = new EnumDef();
+                break;
+
+            default:
+                throw new IllegalStateException("Unknown AttributeTypeDef class " + attributeTypeDefClass);
+        }
+
+        attributeTypeDef.setHeaderVersion(this.readLong());
+        attributeTypeDef.setVersion(this.readLong());
+        attributeTypeDef.setVersionName(this.readString());
+        attributeTypeDef.setCategory(this.readEnum(attributeTypeDefCategories));
+        attributeTypeDef.setGUID(this.readString());
+        attributeTypeDef.setName(this.readString());
+        attributeTypeDef.setDescription(this.readString());
+        attributeTypeDef.setDescriptionGUID(this.readString());
+
+        if (attributeTypeDef instanceof PrimitiveDef)
+        {
+            ((PrimitiveDef) attributeTypeDef).setPrimitiveDefCategory(this.readEnum(primitiveDefCategories));
+        }
+        else if (attributeTypeDef instanceof CollectionDef)
+        {
+            CollectionDef collectionDef = (CollectionDef) attributeTypeDef;
+
+            collectionDef.setCollectionDefCategory(this.readEnum(collectionDefCategories));
+            collectionDef.setArgumentCount(this.readInt());
+            collectionDef.setArgumentTypes(this.readEnumList(primitiveDefCategories));
+        }
+        else
+        {
+            EnumDef              enumDef     = (EnumDef) attributeTypeDef;
+            List<EnumElementDef> elementDefs = null;
+            int                  count       = this.readVarInt();
+
+            if (count != nullValue)
+            {
+                elementDefs = new ArrayList<>(count - 1);
+
+                for (int index = 1; index < count; index++)
+                {
+                    elementDefs.add(this.readEnumElementDef());
+                }
+
+                enumDef.setElementDefs(elementDefs);
+            }
+
+            int defaultCode = this.readVarInt();
+
+            if (defaultCode == newValue)
+            {
+                enumDef.setDefaultValue(this.readEnumElementDef());
+            }
+            else if (defaultCode != nullValue)
+            {
+                enumDef.setDefaultValue(elementDefs.get(defaultCode - firstReferenceCode));
+            }
+        }
+
+        return attributeTypeDef;
+    }
+
+
+    /**
+     * Read one of the valid values of an EnumDef.
+     *
+     * @return valid value or null
+     */
+    private EnumElementDef readEnumElementDef()
+    {
+        if (! this.readBoolean())
+        {
+            return null;
+        }
+
+        EnumElementDef enumElementDef = new EnumElementDef();
+
+        enumElementDef.setHeaderVersion(this.readLong());
+        enumElementDef.setOrdinal(this.readInt());
+        enumElementDef.setValue(this.readString());
+        enumElementDef.setDescription(this.readString());
+        enumElementDef.setDescriptionGUID(this.readString());
+
+        return enumElementDef;
+    }
+
+
+    /**
+     * Read a patch to an existing TypeDef.
+     *
+     * @return patch or null
+     */
+    private TypeDefPatch readTypeDefPatch()
+    {
+        if (! this.readBoolean())
+        {
+            return null;
+        }
+
+        TypeDefPatch typeDefPatch = new TypeDefPatch();
+
+        typeDefPatch.setHeaderVersion(this.readLong());
+        typeDefPatch.setTypeDefGUID(this.readString());
+        typeDefPatch.setTypeDefName(this.readString());
+        typeDefPatch.setTypeDefStatus(this.readEnum(typeDefStatuses));
+        typeDefPatch.setApplyToVersion(this.readLong());
+        typeDefPatch.setUpdateToVersion(this.readLong());
+        typeDefPatch.setNewVersionName(this.readString());
+        typeDefPatch.setUpdatedBy(this.readString());
+        typeDefPatch.setUpdateTime(this.readDate());
+        typeDefPatch.setDescription(this.readString());
+        typeDefPatch.setDescriptionGUID(this.readString());
+        typeDefPatch.setPropertyDefinitions(this.readTypeDefAttributes());
+        typeDefPatch.setTypeDefOptions(this.readStringMap());
+        typeDefPatch.setExternalStandardMappings(this.readExternalStandardMappings());
+        typeDefPatch.setValidInstanceStatusList(this.readEnumList(instanceStatuses));
+        typeDefPatch.setInitialStatus(this.readEnum(instanceStatuses));
+        typeDefPatch.setValidEntityDefs(this.readTypeDefLinks());
+        typeDefPatch.setEndDef1(this.readRelationshipEndDef());
+        typeDefPatch.setEndDef2(this.readRelationshipEndDef());
+
+        return typeDefPatch;
+    }
+
+
+    /**
+     * Read the mappings of a type or attribute to external standards.
+     *
+     * @return list of mappings or null
+     */
+    private List<ExternalStandardMapping> readExternalStandardMappings()
+    {
+        int count = this.readVarInt();
+
+        if (count == nullValue)
+        {
+            return null;
+        }
+
+        List<ExternalStandardMapping> externalStandardMappings = new ArrayList<>(count - 1);
+
+        for (int index = 1; index < count; index++)
+        {
+            if (! this.readBoolean())
+            {
+                externalStandardMappings.add(null);
+                continue;
+            }
+
+            ExternalStandardMapping externalStandardMapping = new ExternalStandardMapping();
+
+            externalStandardMapping.setHeaderVersion(this.readLong());
+            externalStandardMapping.setStandardName(this.readString());
+            externalStandardMapping.setStandardOrganization(this.readString());
+            externalStandardMapping.setStandardTypeName(this.readString());
+
+            externalStandardMappings.add(externalStandardMapping);
+        }
+
+        return externalStandardMappings;
+    }
+
+
+    /**
+     * Read a map of string options.
+     *
+     * @return map or null
+     */
+    private Map<String, String> readStringMap()
+    {
+        int count = this.readVarInt();
+
+        if (count == nullValue)
+        {
+            return null;
+        }
+
+        Map<String, String> stringMap = new HashMap<>();
+
+        for (int index = 1; index < count; index++)
+        {
+            stringMap.put(this.readString(), this.readString());
+        }
+
+        return stringMap;
+    }
+
+
+    /**
+     * Read a list of strings.
+     *
+     * @return list or null
+     */
+    private List<String> readStringList()
+    {
+        int count = this.readVarInt();
+
+        if (count == nullValue)
+        {
+            return null;
+        }
+
+        List<String> stringList = new ArrayList<>(count - 1);
+
+        for (int index = 1; index < count; index++)
+        {
+            stringList.add(this.readString());
+        }
+
+        return stringList;
+    }
+
+
+    /**
+     * Read a list of enum values.
+     *
+     * @param values values of the enum
+     * @param <E> enum type
+     * @return list or null
+     */
+    private <E extends Enum<E>> List<E> readEnumList(E[] values)
+    {
+        int count = this.readVarInt();
+
+        if (count == nullValue)
+        {
+            return null;
+        }
+
+        List<E> enumList = new ArrayList<>(count - 1);
+
+        for (int index = 1; index < count; index++)
+        {
+            enumList.add(this.readEnum(values));
+        }
+
+        return enumList;
+    }
+
+
+    /**
+     * Read an enum value from its ordinal.
+     *
+     * @param values values of the enum
+     * @param <E> enum type
+     * @return enum value or null
+     */
+    private <E extends Enum<E>> E readEnum(E[] values)
+    {
+        int code = this.readVarInt();
+
+        return code == nullValue ? null : values[code - 1];
+    }
+
+
+    /**
+     * Read a date.
+     *
+     * @return date or null
+     */
+    private Date readDate()
+    {
+        return this.readBoolean() ? new Date(this.readLong()) : null;
+    }
+
+
+    /**
+     * Read a string, or a reference to a string that has already been read.
+     *
+     * @return string or null
+     */
+    private String readString()
+    {
+        int code = this.readVarInt();
+
+        if (code == nullValue)
+        {
+            return null;
+        }
+        else if (code == newValue)
+        {
+            int    length = this.readVarInt();
+            String string = new String(encodedArchive, position, length, StandardCharsets.UTF_8);
+
+            position += length;
+            strings.add(string);
+
+            return string;
+        }
+
+        return strings.get(code - firstReferenceCode);
+    }
+
+
+    /**
+     * Read a non-negative integer written seven bits per byte.
+     *
+     * @return integer value
+     */
+    private int readVarInt()
+    {
+        int value = 0;
+        int shift = 0;
+        int nextByte;
+
+        do
+        {
+            nextByte = encodedArchive[position++];
+            value |= (nextByte & 0x7F) << shift;
+            shift += 7;
+        }
+        while ((nextByte & 0x80) != 0);
+
+        return value;
+    }
+
+
+    /**
+     * Read a boolean written by DataOutputStream.
+     *
+     * @return boolean value
+     */
+    private boolean readBoolean()
+    {
+        return encodedArchive[position++] != 0;
+    }
+
+
+    /**
+     * Read an int written by DataOutputStream.
+     *
+     * @return int value
+     */
+    private int readInt()
+    {
+        int value = ((encodedArchive[position]     & 0xFF) << 24) |
+                    ((encodedArchive[position + 1] & 0xFF) << 16) |
+                    ((encodedArchive[position + 2] & 0xFF) << 8)  |
+                     (encodedArchive[position + 3] & 0xFF);
+
+        position += 4;
+
+        return value;
+    }
+
+
+    /**
+     * Read a long written by DataOutputStream.
+     *
+     * @return long value
+     */
+    private long readLong()
+    {
+        long high = this.readInt();
+        long low  = this.readInt();
+
+        return (high << 32) | (low & 0xFFFFFFFFL);
+    }
+}
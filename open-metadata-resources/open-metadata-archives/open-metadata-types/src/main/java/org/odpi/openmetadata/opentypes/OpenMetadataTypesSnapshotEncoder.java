@@ -0,0 +1,776 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.opentypes;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenMetadataTypesSnapshotEncoder writes the content of the open metadata types archive in the compact form read by
+ * OpenMetadataTypesSnapshotDecoder.
+ * <p>
+ * Counts, enum ordinals and references are written as variable length integers.  Each string is written once and
+ * later occurrences refer back to it.  A TypeDef used as a super type, entity type or valid entity def is written
+ * as the position of that TypeDef in the archive, and an AttributeTypeDef used by an attribute is written as its
+ * position in the archive's attribute type defs.  Anything that does not match the archive content is written
+ * in full so the decoded archive is always equal to the one that was encoded.
+ * </p>
+ */
+class OpenMetadataTypesSnapshotEncoder
+{
+    /*
+     * Values used for null and for references to elements that have already been decoded.
+     */
+    static final int nullValue          = 0;
+    static final int newValue           = 1;
+    static final int firstReferenceCode = 2;
+
+    /*
+     * Kinds of TypeDefLink.
+     */
+    static final int typeDefReference    = 1;
+    static final int typeDefLinkValue    = 2;
+    static final int typeDefSummaryValue = 3;
+    static final int typeDefValue        = 4;
+
+    /*
+     * Classes of TypeDef and AttributeTypeDef.
+     */
+    static final int entityDefClass         = 1;
+    static final int relationshipDefClass   = 2;
+    static final int classificationDefClass = 3;
+    static final int primitiveDefClass      = 1;
+    static final int collectionDefClass     = 2;
+    static final int enumDefClass           = 3;
+
+    private final ByteArrayOutputStream encodedArchive = new ByteArrayOutputStream(256 * 1024);
+    private final DataOutputStream      outputStream   = new DataOutputStream(encodedArchive);
+
+    private final Map<String, Integer>  stringIndexes           = new HashMap<>();
+    private final Map<String, Integer>  typeDefIndexes          = new HashMap<>();
+    private final Map<String, Integer>  attributeTypeDefIndexes = new HashMap<>();
+    private List<TypeDef>               typeDefs                = new ArrayList<>();
+    private List<AttributeTypeDef>      attributeTypeDefs       = new ArrayList<>();
+
+
+    /**
+     * Encode the supplied open metadata types archive.
+     *
+     * @param openMetadataArchive archive to encode
+     * @return encoded archive
+     * @throws IOException the archive contains elements that can not be encoded
+     */
+    byte[] encode(OpenMetadataArchive openMetadataArchive) throws IOException
+    {
+        if (openMetadataArchive.getArchiveInstanceStore() != null)
+        {
+            throw new IOException("The open metadata types snapshot can not hold instances");
+        }
+
+        this.writeArchiveProperties(openMetadataArchive.getArchiveProperties());
+        this.writeTypeStore(openMetadataArchive.getArchiveTypeStore());
+        outputStream.flush();
+
+        return encodedArchive.toByteArray();
+    }
+
+
+    /**
+     * Write the header properties of the archive.
+     *
+     * @param archiveProperties properties to write
+     * @throws IOException problem writing the properties
+     */
+    private void writeArchiveProperties(OpenMetadataArchiveProperties archiveProperties) throws IOException
+    {
+        if (this.writePresence(archiveProperties))
+        {
+            this.writeString(archiveProperties.getArchiveGUID());
+            this.writeString(archiveProperties.getArchiveName());
+            this.writeString(archiveProperties.getArchiveDescription());
+            this.writeEnum(archiveProperties.getArchiveType());
+            this.writeString(archiveProperties.getArchiveVersion());
+            this.writeString(archiveProperties.getOriginatorName());
+            this.writeString(archiveProperties.getOriginatorOrganization());
+            this.writeString(archiveProperties.getOriginatorLicense());
+            this.writeDate(archiveProperties.getCreationDate());
+            this.writeStringList(archiveProperties.getDependsOnArchives());
+        }
+    }
+
+
+    /**
+     * Write the type store.  The AttributeTypeDefs are written first, followed by the class of each TypeDef so
+     * the decoder can create them all before reading references between them.
+     *
+     * @param typeStore type store to write
+     * @throws IOException problem writing the type store
+     */
+    private void writeTypeStore(OpenMetadataArchiveTypeStore typeStore) throws IOException
+    {
+        if (! this.writePresence(typeStore))
+        {
+            return;
+        }
+
+        List<AttributeTypeDef> storeAttributeTypeDefs = typeStore.getAttributeTypeDefs();
+        List<TypeDef>          storeTypeDefs          = typeStore.getNewTypeDefs();
+
+        if (storeAttributeTypeDefs != null)
+        {
+            attributeTypeDefs = storeAttributeTypeDefs;
+
+            for (int index = 0; index < attributeTypeDefs.size(); index++)
+            {
+                if (attributeTypeDefs.get(index) != null)
+                {
+                    attributeTypeDefIndexes.putIfAbsent(attributeTypeDefs.get(index).getGUID(), index);
+                }
+            }
+        }
+
+        if (storeTypeDefs != null)
+        {
+            typeDefs = storeTypeDefs;
+
+            for (int index = 0; index < typeDefs.size(); index++)
+            {
+                typeDefIndexes.putIfAbsent(typeDefs.get(index).getGUID(), index);
+            }
+        }
+
+        if (this.writeCount(storeAttributeTypeDefs))
+        {
+            for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
+            {
+                this.writeAttributeTypeDef(attributeTypeDef);
+            }
+        }
+
+        if (this.writeCount(storeTypeDefs))
+        {
+            for (TypeDef typeDef : typeDefs)
+            {
+                this.writeVarInt(this.getTypeDefClass(typeDef));
+            }
+
+            for (TypeDef typeDef : typeDefs)
+            {
+                this.writeTypeDefContent(typeDef);
+            }
+        }
+
+        List<TypeDefPatch> typeDefPatches = typeStore.getTypeDefPatches();
+
+        if (this.writeCount(typeDefPatches))
+        {
+            for (TypeDefPatch typeDefPatch : typeDefPatches)
+            {
+                this.writeTypeDefPatch(typeDefPatch);
+            }
+        }
+    }
+
+
+    /**
+     * Return the code for the class of TypeDef.
+     *
+     * @param typeDef TypeDef to test
+     * @return class code
+     * @throws IOException unsupported class of TypeDef
+     */
+    private int getTypeDefClass(TypeDef typeDef) throws IOException
+    {
+        if (typeDef instanceof EntityDef)
+        {
+            return entityDefClass;
+        }
+        else if (typeDef instanceof RelationshipDef)
+        {
+            return relationshipDefClass;
+        }
+        else if (typeDef instanceof ClassificationDef)
+        {
+            return classificationDefClass;
+        }
+
+        throw new IOException("Unsupported TypeDef " + typeDef);
+    }
+
+
+    /**
+     * Write the properties of a TypeDef.
+     *
+     * @param typeDef TypeDef to write
+     * @throws IOException problem writing the TypeDef
+     */
+    private void writeTypeDefContent(TypeDef typeDef) throws IOException
+    {
+        this.writeTypeDefSummary(typeDef);
+        this.writeTypeDefLink(typeDef.getSuperType());
+        this.writeString(typeDef.getDescription());
+        this.writeString(typeDef.getDescriptionGUID());
+        this.writeString(typeDef.getOrigin());
+        this.writeString(typeDef.getCreatedBy());
+        this.writeString(typeDef.getUpdatedBy());
+        this.writeDate(typeDef.getCreateTime());
+        this.writeDate(typeDef.getUpdateTime());
+        this.writeStringMap(typeDef.getOptions());
+        this.writeExternalStandardMappings(typeDef.getExternalStandardMappings());
+        this.writeEnumList(typeDef.getValidInstanceStatusList());
+        this.writeEnum(typeDef.getInitialStatus());
+        this.writeTypeDefAttributes(typeDef.getPropertiesDefinition());
+
+        if (typeDef instanceof RelationshipDef)
+        {
+            RelationshipDef relationshipDef = (RelationshipDef) typeDef;
+
+            this.writeEnum(relationshipDef.getPropagationRule());
+            this.writeRelationshipEndDef(relationshipDef.getEndDef1());
+            this.writeRelationshipEndDef(relationshipDef.getEndDef2());
+        }
+        else if (typeDef instanceof ClassificationDef)
+        {
+            ClassificationDef classificationDef = (ClassificationDef) typeDef;
+
+            this.writeTypeDefLinks(classificationDef.getValidEntityDefs());
+            outputStream.writeBoolean(classificationDef.isPropagatable());
+        }
+    }
+
+
+    /**
+     * Write the properties of a TypeDefSummary (the TypeDefLink properties plus the version and category).
+     *
+     * @param typeDefSummary summary to write
+     * @throws IOException problem writing the summary
+     */
+    private void writeTypeDefSummary(TypeDefSummary typeDefSummary) throws IOException
+    {
+        this.writeTypeDefLinkContent(typeDefSummary);
+        outputStream.writeLong(typeDefSummary.getVersion());
+        this.writeString(typeDefSummary.getVersionName());
+        this.writeEnum(typeDefSummary.getCategory());
+    }
+
+
+    /**
+     * Write the properties of a TypeDefLink.
+     *
+     * @param typeDefLink link to write
+     * @throws IOException problem writing the link
+     */
+    private void writeTypeDefLinkContent(TypeDefLink typeDefLink) throws IOException
+    {
+        outputStream.writeLong(typeDefLink.getHeaderVersion());
+        this.writeString(typeDefLink.getGUID());
+        this.writeString(typeDefLink.getName());
+        this.writeEnum(typeDefLink.getStatus());
+        this.writeString(typeDefLink.getReplacedByTypeGUID());
+        this.writeString(typeDefLink.getReplacedByTypeName());
+    }
+
+
+    /**
+     * Write a link to a TypeDef.  TypeDefs from the archive are written as their position in the archive.
+     *
+     * @param typeDefLink link to write
+     * @throws IOException problem writing the link
+     */
+    private void writeTypeDefLink(TypeDefLink typeDefLink) throws IOException
+    {
+        if (typeDefLink == null)
+        {
+            this.writeVarInt(nullValue);
+        }
+        else if ((typeDefLink instanceof TypeDef) && (this.getTypeDefIndex((TypeDef) typeDefLink) != null))
+        {
+            this.writeVarInt(typeDefReference);
+            this.writeVarInt(this.getTypeDefIndex((TypeDef) typeDefLink));
+        }
+        else if (typeDefLink.getClass() == TypeDefLink.class)
+        {
+            this.writeVarInt(typeDefLinkValue);
+            this.writeTypeDefLinkContent(typeDefLink);
+        }
+        else if (typeDefLink.getClass() == TypeDefSummary.class)
+        {
+            this.writeVarInt(typeDefSummaryValue);
+            this.writeTypeDefSummary((TypeDefSummary) typeDefLink);
+        }
+        else if (typeDefLink instanceof TypeDef)
+        {
+            this.writeVarInt(typeDefValue);
+            this.writeVarInt(this.getTypeDefClass((TypeDef) typeDefLink));
+            this.writeTypeDefContent((TypeDef) typeDefLink);
+        }
+        else
+        {
+            throw new IOException("Unsupported TypeDefLink " + typeDefLink);
+        }
+    }
+
+
+    /**
+     * Return the position of the TypeDef in the archive if it is equal to the one in the archive.
+     *
+     * @param typeDef TypeDef to look up
+     * @return position or null
+     */
+    private Integer getTypeDefIndex(TypeDef typeDef)
+    {
+        Integer index = typeDefIndexes.get(typeDef.getGUID());
+
+        if ((index != null) && (typeDef.equals(typeDefs.get(index))))
+        {
+            return index;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Write a list of links to TypeDefs.
+     *
+     * @param typeDefLinks links to write
+     * @throws IOException problem writing the links
+     */
+    private void writeTypeDefLinks(List<TypeDefLink> typeDefLinks) throws IOException
+    {
+        if (this.writeCount(typeDefLinks))
+        {
+            for (TypeDefLink typeDefLink : typeDefLinks)
+            {
+                this.writeTypeDefLink(typeDefLink);
+            }
+        }
+    }
+
+
+    /**
+     * Write the definition of one end of a relationship.
+     *
+     * @param relationshipEndDef end to write
+     * @throws IOException problem writing the end
+     */
+    private void writeRelationshipEndDef(RelationshipEndDef relationshipEndDef) throws IOException
+    {
+        if (this.writePresence(relationshipEndDef))
+        {
+            outputStream.writeLong(relationshipEndDef.getHeaderVersion());
+            this.writeTypeDefLink(relationshipEndDef.getEntityType());
+            this.writeString(relationshipEndDef.getAttributeName());
+            this.writeString(relationshipEndDef.getAttributeDescription());
+            this.writeString(relationshipEndDef.getAttributeDescriptionGUID());
+            this.writeEnum(relationshipEndDef.getAttributeCardinality());
+        }
+    }
+
+
+    /**
+     * Write the attribute definitions of a TypeDef or TypeDefPatch.
+     *
+     * @param typeDefAttributes attributes to write
+     * @throws IOException problem writing the attributes
+     */
+    private void writeTypeDefAttributes(List<TypeDefAttribute> typeDefAttributes) throws IOException
+    {
+        if (this.writeCount(typeDefAttributes))
+        {
+            for (TypeDefAttribute typeDefAttribute : typeDefAttributes)
+            {
+                if (this.writePresence(typeDefAttribute))
+                {
+                    outputStream.writeLong(typeDefAttribute.getHeaderVersion());
+                    this.writeString(typeDefAttribute.getAttributeName());
+                    this.writeAttributeTypeDefLink(typeDefAttribute.getAttributeType());
+                    this.writeEnum(typeDefAttribute.getAttributeStatus());
+                    this.writeString(typeDefAttribute.getReplacedByAttribute());
+                    this.writeString(typeDefAttribute.getAttributeDescription());
+                    this.writeString(typeDefAttribute.getAttributeDescriptionGUID());
+                    this.writeEnum(typeDefAttribute.getAttributeCardinality());
+                    outputStream.writeInt(typeDefAttribute.getValuesMinCount());
+                    outputStream.writeInt(typeDefAttribute.getValuesMaxCount());
+                    outputStream.writeBoolean(typeDefAttribute.isIndexable());
+                    outputStream.writeBoolean(typeDefAttribute.isUnique());
+                    this.writeString(typeDefAttribute.getDefaultValue());
+                    this.writeExternalStandardMappings(typeDefAttribute.getExternalStandardMappings());
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Write the type of an attribute.  AttributeTypeDefs from the archive are written as their position in the
+     * archive.
+     *
+     * @param attributeTypeDef attribute type to write
+     * @throws IOException problem writing the attribute type
+     */
+    private void writeAttributeTypeDefLink(AttributeTypeDef attributeTypeDef) throws IOException
+    {
+        if (attributeTypeDef == null)
+        {
+            this.writeVarInt(nullValue);
+
+            return;
+        }
+
+        Integer index = attributeTypeDefIndexes.get(attributeTypeDef.getGUID());
+
+        if ((index != null) && (attributeTypeDef.equals(attributeTypeDefs.get(index))))
+        {
+            this.writeVarInt(firstReferenceCode + index);
+        }
+        else
+        {
+            this.writeVarInt(newValue);
+            this.writeAttributeTypeDef(attributeTypeDef);
+        }
+    }
+
+
+    /**
+     * Write an AttributeTypeDef in full.
+     *
+     * @param attributeTypeDef attribute type to write
+     * @throws IOException problem writing the attribute type
+     */
+    private void writeAttributeTypeDef(AttributeTypeDef attributeTypeDef) throws IOException
+    {
+        if (attributeTypeDef instanceof PrimitiveDef)
+        {
+            this.writeVarInt(primitiveDefClass);
+        }
+        else if (attributeTypeDef instanceof CollectionDef)
+        {
+            this.writeVarInt(collectionDefClass);
+        }
+        else if (attributeTypeDef instanceof EnumDef)
+        {
+            this.writeVarInt(enumDefClass);
+        }
+        else
+        {
+            throw new IOException("Unsupported AttributeTypeDef " + attributeTypeDef);
+        }
+
+        outputStream.writeLong(attributeTypeDef.getHeaderVersion());
+        outputStream.writeLong(attributeTypeDef.getVersion());
+        this.writeString(attributeTypeDef.getVersionName());
+        this.writeEnum(attributeTypeDef.getCategory());
+        this.writeString(attributeTypeDef.getGUID());
+        this.writeString(attributeTypeDef.getName());
+        this.writeString(attributeTypeDef.getDescription());
+        this.writeString(attributeTypeDef.getDescriptionGUID());
+
+        if (attributeTypeDef instanceof PrimitiveDef)
+        {
+            this.writeEnum(((PrimitiveDef) attributeTypeDef).getPrimitiveDefCategory());
+        }
+        else if (attributeTypeDef instanceof CollectionDef)
+        {
+            CollectionDef collectionDef = (CollectionDef) attributeTypeDef;
+
+            this.writeEnum(collectionDef.getCollectionDefCategory());
+            outputStream.writeInt(collectionDef.getArgumentCount());
+            this.writeEnumList(collectionDef.getArgumentTypes());
+        }
+        else
+        {
+            EnumDef              enumDef      = (EnumDef) attributeTypeDef;
+            List<EnumElementDef> elementDefs  = enumDef.getElementDefs();
+            EnumElementDef       defaultValue = enumDef.getDefaultValue();
+
+            if (this.writeCount(elementDefs))
+            {
+                for (EnumElementDef elementDef : elementDefs)
+                {
+                    this.writeEnumElementDef(elementDef);
+                }
+            }
+
+            int defaultIndex = (defaultValue == null) || (elementDefs == null) ? -1 : elementDefs.indexOf(defaultValue);
+
+            if (defaultValue == null)
+            {
+                this.writeVarInt(nullValue);
+            }
+            else if (defaultIndex >= 0)
+            {
+                this.writeVarInt(firstReferenceCode + defaultIndex);
+            }
+            else
+            {
+                this.writeVarInt(newValue);
+                this.writeEnumElementDef(defaultValue);
+            }
+        }
+    }
+
+
+    /**
+     * Write one of the valid values of an EnumDef.
+     *
+     * @param enumElementDef valid value to write
+     * @throws IOException problem writing the value
+     */
+    private void writeEnumElementDef(EnumElementDef enumElementDef) throws IOException
+    {
+        if (this.writePresence(enumElementDef))
+        {
+            outputStream.writeLong(enumElementDef.getHeaderVersion());
+            outputStream.writeInt(enumElementDef.getOrdinal());
+            this.writeString(enumElementDef.getValue());
+            this.writeString(enumElementDef.getDescription());
+            this.writeString(enumElementDef.getDescriptionGUID());
+        }
+    }
+
+
+    /**
+     * Write a patch to an existing TypeDef.
+     *
+     * @param typeDefPatch patch to write
+     * @throws IOException problem writing the patch
+     */
+    private void writeTypeDefPatch(TypeDefPatch typeDefPatch) throws IOException
+    {
+        if (this.writePresence(typeDefPatch))
+        {
+            outputStream.writeLong(typeDefPatch.getHeaderVersion());
+            this.writeString(typeDefPatch.getTypeDefGUID());
+            this.writeString(typeDefPatch.getTypeDefName());
+            this.writeEnum(typeDefPatch.getTypeDefStatus());
+            outputStream.writeLong(typeDefPatch.getApplyToVersion());
+            outputStream.writeLong(typeDefPatch.getUpdateToVersion());
+            this.writeString(typeDefPatch.getNewVersionName());
+            this.writeString(typeDefPatch.getUpdatedBy());
+            this.writeDate(typeDefPatch.getUpdateTime());
+            this.writeString(typeDefPatch.getDescription());
+            this.writeString(typeDefPatch.getDescriptionGUID());
+            this.writeTypeDefAttributes(typeDefPatch.getPropertyDefinitions());
+            this.writeStringMap(typeDefPatch.getTypeDefOptions());
+            this.writeExternalStandardMappings(typeDefPatch.getExternalStandardMappings());
+            this.writeEnumList(typeDefPatch.getValidInstanceStatusList());
+            this.writeEnum(typeDefPatch.getInitialStatus());
+            this.writeTypeDefLinks(typeDefPatch.getValidEntityDefs());
+            this.writeRelationshipEndDef(typeDefPatch.getEndDef1());
+            this.writeRelationshipEndDef(typeDefPatch.getEndDef2());
+        }
+    }
+
+
+    /**
+     * Write the mappings of a type or attribute to external standards.
+     *
+     * @param externalStandardMappings mappings to write
+     * @throws IOException problem writing the mappings
+     */
+    private void writeExternalStandardMappings(List<ExternalStandardMapping> externalStandardMappings) throws IOException
+    {
+        if (this.writeCount(externalStandardMappings))
+        {
+            for (ExternalStandardMapping externalStandardMapping : externalStandardMappings)
+            {
+                if (this.writePresence(externalStandardMapping))
+                {
+                    outputStream.writeLong(externalStandardMapping.getHeaderVersion());
+                    this.writeString(externalStandardMapping.getStandardName());
+                    this.writeString(externalStandardMapping.getStandardOrganization());
+                    this.writeString(externalStandardMapping.getStandardTypeName());
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Write a map of string options.
+     *
+     * @param stringMap map to write
+     * @throws IOException problem writing the map
+     */
+    private void writeStringMap(Map<String, String> stringMap) throws IOException
+    {
+        if (stringMap == null)
+        {
+            this.writeVarInt(nullValue);
+        }
+        else
+        {
+            this.writeVarInt(stringMap.size() + 1);
+
+            for (Map.Entry<String, String> entry : stringMap.entrySet())
+            {
+                this.writeString(entry.getKey());
+                this.writeString(entry.getValue());
+            }
+        }
+    }
+
+
+    /**
+     * Write a list of strings.
+     *
+     * @param strings list to write
+     * @throws IOException problem writing the list
+     */
+    private void writeStringList(List<String> strings) throws IOException
+    {
+        if (this.writeCount(strings))
+        {
+            for (String string : strings)
+            {
+                this.writeString(string);
+            }
+        }
+    }
+
+
+    /**
+     * Write a list of enum values.
+     *
+     * @param enums list to write
+     * @throws IOException problem writing the list
+     */
+    private void writeEnumList(List<? extends Enum<?>> enums) throws IOException
+    {
+        if (this.writeCount(enums))
+        {
+            for (Enum<?> value : enums)
+            {
+                this.writeEnum(value);
+            }
+        }
+    }
+
+
+    /**
+     * Write the size of a list, or null.
+     *
+     * @param list list to write
+     * @return true if the list is not null and its elements should follow
+     * @throws IOException problem writing the size
+     */
+    private boolean writeCount(List<?> list) throws IOException
+    {
+        if (list == null)
+        {
+            this.writeVarInt(nullValue);
+
+            return false;
+        }
+
+        this.writeVarInt(list.size() + 1);
+
+        return true;
+    }
+
+
+    /**
+     * Write whether an object is present.
+     *
+     * @param value object to test
+     * @return true if the object is present and its properties should follow
+     * @throws IOException problem writing the flag
+     */
+    private boolean writePresence(Object value) throws IOException
+    {
+        outputStream.writeBoolean(value != null);
+
+        return value != null;
+    }
+
+
+    /**
+     * Write a date, or null.
+     *
+     * @param date date to write
+     * @throws IOException problem writing the date
+     */
+    private void writeDate(Date date) throws IOException
+    {
+        if (this.writePresence(date))
+        {
+            outputStream.writeLong(date.getTime());
+        }
+    }
+
+
+    /**
+     * Write an enum value as its ordinal, or null.
+     *
+     * @param value enum value to write
+     * @throws IOException problem writing the value
+     */
+    private void writeEnum(Enum<?> value) throws IOException
+    {
+        this.writeVarInt(value == null ? nullValue : value.ordinal() + 1);
+    }
+
+
+    /**
+     * Write a string the first time it is seen and a reference to it after that.
+     *
+     * @param string string to write
+     * @throws IOException problem writing the string
+     */
+    private void writeString(String string) throws IOException
+    {
+        if (string == null)
+        {
+            this.writeVarInt(nullValue);
+
+            return;
+        }
+
+        Integer index = stringIndexes.get(string);
+
+        if (index != null)
+        {
+            this.writeVarInt(firstReferenceCode + index);
+        }
+        else
+        {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+            this.writeVarInt(newValue);
+            this.writeVarInt(bytes.length);
+            outputStream.write(bytes);
+            stringIndexes.put(string, stringIndexes.size());
+        }
+    }
+
+
+    /**
+     * Write a non-negative integer using seven bits per byte.
+     *
+     * @param value integer to write
+     * @throws IOException problem writing the integer
+     */
+    private void writeVarInt(int value) throws IOException
+    {
+        while ((value & ~0x7F) != 0)
+        {
+            outputStream.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        outputStream.writeByte(value);
+    }
+}
@@ -0,0 +1,72 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.opentypes;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+
+/**
+ * OpenMetadataTypesSnapshotWriter generates the binary snapshot of the open metadata types that is read by
+ * OpenMetadataTypesSnapshot.  It is run as part of the build so the snapshot is packaged with the classes it
+ * was generated from.
+ */
+public class OpenMetadataTypesSnapshotWriter
+{
+    /**
+     * Default constructor
+     */
+    private OpenMetadataTypesSnapshotWriter()
+    {
+    }
+
+
+    /**
+     * Build the open metadata types archive and write the snapshot into the supplied directory.
+     *
+     * @param outputDirectoryName directory to write the snapshot into
+     * @throws IOException unable to write the snapshot
+     */
+    private void writeOpenMetadataTypesSnapshot(String outputDirectoryName) throws IOException
+    {
+        OpenMetadataTypesArchive  openMetadataTypesArchive  = new OpenMetadataTypesArchive();
+        OpenMetadataTypesSnapshot openMetadataTypesSnapshot = new OpenMetadataTypesSnapshot();
+        File                      outputDirectory           = new File(outputDirectoryName);
+
+        if ((! outputDirectory.isDirectory()) && (! outputDirectory.mkdirs()))
+        {
+            throw new IOException("Unable to create directory " + outputDirectoryName);
+        }
+
+        File snapshotFile = new File(outputDirectory, OpenMetadataTypesSnapshot.snapshotResourceName);
+
+        try (OutputStream snapshotStream = new BufferedOutputStream(new FileOutputStream(snapshotFile)))
+        {
+            openMetadataTypesSnapshot.writeSnapshot(openMetadataTypesArchive.getOpenMetadataArchive(), snapshotStream);
+        }
+    }
+
+
+    /**
+     * Main program to control the snapshot writer.
+     *
+     * @param args first argument is the directory to write the snapshot to (defaults to the current directory)
+     * @throws IOException unable to write the snapshot
+     */
+    public static void main(String[] args) throws IOException
+    {
+        OpenMetadataTypesSnapshotWriter snapshotWriter = new OpenMetadataTypesSnapshotWriter();
+
+        if ((args != null) && (args.length > 0))
+        {
+            snapshotWriter.writeOpenMetadataTypesSnapshot(args[0]);
+        }
+        else
+        {
+            snapshotWriter.writeOpenMetadataTypesSnapshot(".");
+        }
+    }
+}
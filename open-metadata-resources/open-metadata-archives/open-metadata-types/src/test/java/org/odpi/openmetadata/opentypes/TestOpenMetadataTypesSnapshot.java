@@ -0,0 +1,116 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.opentypes;
+
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test that the snapshot of the open metadata types matches the archive built by OpenMetadataTypesArchive
+ * and that a snapshot that does not match is ignored.  The startup cost of each way of obtaining the types is
+ * measured by OpenMetadataTypesStartupBenchmark in open-metadata-benchmarks.
+ */
+public class TestOpenMetadataTypesSnapshot
+{
+    @Test
+    public void testSnapshotRoundTrip() throws Exception
+    {
+        OpenMetadataArchive builtArchive    = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+        OpenMetadataArchive snapshotArchive = new OpenMetadataTypesSnapshot().readSnapshot(new ByteArrayInputStream(getSnapshot(builtArchive)));
+
+        assertNotNull(snapshotArchive);
+        assertEquals(snapshotArchive, builtArchive);
+        assertEquals(snapshotArchive.getArchiveTypeStore().getNewTypeDefs(), builtArchive.getArchiveTypeStore().getNewTypeDefs());
+        assertEquals(snapshotArchive.getArchiveTypeStore().getAttributeTypeDefs(), builtArchive.getArchiveTypeStore().getAttributeTypeDefs());
+        assertEquals(snapshotArchive.getArchiveTypeStore().getTypeDefPatches(), builtArchive.getArchiveTypeStore().getTypeDefPatches());
+    }
+
+
+    @Test
+    public void testDecodedTypeDefs() throws Exception
+    {
+        OpenMetadataArchive snapshotArchive = new OpenMetadataTypesSnapshot().readSnapshot(new ByteArrayInputStream(getSnapshot(new OpenMetadataTypesArchive().getOpenMetadataArchive())));
+
+        assertNotNull(snapshotArchive);
+
+        List<TypeDef> typeDefs = snapshotArchive.getArchiveTypeStore().getNewTypeDefs();
+        TypeDef       referenceable = null;
+        TypeDef       asset         = null;
+
+        for (TypeDef typeDef : typeDefs)
+        {
+            if ("Referenceable".equals(typeDef.getName()))
+            {
+                referenceable = typeDef;
+            }
+            else if ("Asset".equals(typeDef.getName()))
+            {
+                asset = typeDef;
+            }
+        }
+
+        assertNotNull(referenceable);
+        assertNotNull(asset);
+        assertEquals(asset.getSuperType().getGUID(), referenceable.getGUID());
+        assertTrue(asset instanceof EntityDef);
+        assertTrue(typeDefs.stream().anyMatch(typeDef -> typeDef instanceof RelationshipDef));
+    }
+
+
+    @Test
+    public void testCorruptSnapshot() throws Exception
+    {
+        byte[] snapshotBytes = getSnapshot(new OpenMetadataTypesArchive().getOpenMetadataArchive());
+
+        snapshotBytes[snapshotBytes.length - 10] ^= 0xFF;
+
+        assertNull(new OpenMetadataTypesSnapshot().readSnapshot(new ByteArrayInputStream(snapshotBytes)));
+    }
+
+
+    @Test
+    public void testTruncatedSnapshot() throws Exception
+    {
+        byte[] snapshotBytes = getSnapshot(new OpenMetadataTypesArchive().getOpenMetadataArchive());
+
+        assertNull(new OpenMetadataTypesSnapshot().readSnapshot(new ByteArrayInputStream(Arrays.copyOf(snapshotBytes, snapshotBytes.length / 2))));
+        assertNull(new OpenMetadataTypesSnapshot().readSnapshot(new ByteArrayInputStream(Arrays.copyOf(snapshotBytes, 6))));
+    }
+
+
+    @Test
+    public void testPackagedSnapshot()
+    {
+        OpenMetadataTypesSnapshot snapshot = new OpenMetadataTypesSnapshot();
+        OpenMetadataArchive       archive  = snapshot.getOpenMetadataArchive();
+
+        assertTrue(snapshot.isLoadedFromSnapshot());
+        assertEquals(archive, new OpenMetadataTypesArchive().getOpenMetadataArchive());
+        assertEquals(snapshot.getArchiveGUID(), new OpenMetadataTypesArchive().getArchiveGUID());
+    }
+
+
+    private byte[] getSnapshot(OpenMetadataArchive archive) throws Exception
+    {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        new OpenMetadataTypesSnapshot().writeSnapshot(archive, outputStream);
+
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,109 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks.repositoryservices;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * EventSerializationBenchmark measures the conversion of an instance event to and from the JSON sent over the
+ * cohort topic.  It follows the same steps as the OMRS topic connector: the event is converted to an
+ * OMRSEventV1 bean and serialized on the way out, and parsed as an OMRSEventBean and converted back to an
+ * instance event on the way in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerializationBenchmark extends RepositoryContentState
+{
+    private ObjectMapper      objectMapper = new ObjectMapper();
+    private OMRSInstanceEvent instanceEvent;
+    private String            eventJSON;
+
+
+    /**
+     * Build the event for a new glossary term.
+     *
+     * @throws Exception the event could not be created
+     */
+    @Override
+    protected void setUpBenchmark() throws Exception
+    {
+        EntityDetail        entity          = super.getEntity(1);
+        OMRSEventOriginator eventOriginator = new OMRSEventOriginator();
+
+        eventOriginator.setMetadataCollectionId(metadataCollectionId);
+        eventOriginator.setServerName("benchmarkServer");
+        eventOriginator.setServerType("Open Metadata and Governance Server");
+        eventOriginator.setOrganizationName("ODPi");
+
+        instanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity);
+        instanceEvent.setEventOriginator(eventOriginator);
+
+        eventJSON = objectMapper.writeValueAsString(instanceEvent.getOMRSEventV1());
+    }
+
+
+    /**
+     * Convert the event to JSON.
+     *
+     * @return JSON string
+     * @throws Exception the event could not be serialized
+     */
+    @Benchmark
+    public String serialize() throws Exception
+    {
+        return objectMapper.writeValueAsString(instanceEvent.getOMRSEventV1());
+    }
+
+
+    /**
+     * Parse the JSON back into an instance event.
+     *
+     * @return instance event
+     * @throws Exception the event could not be parsed
+     */
+    @Benchmark
+    public OMRSInstanceEvent deserialize() throws Exception
+    {
+        OMRSEventBean eventBean = objectMapper.readValue(eventJSON, OMRSEventBean.class);
+
+        return new OMRSInstanceEvent((OMRSEventV1) eventBean);
+    }
+
+
+    /**
+     * Serialize and parse the event.
+     *
+     * @return instance event
+     * @throws Exception the event could not be serialized or parsed
+     */
+    @Benchmark
+    public OMRSInstanceEvent roundTrip() throws Exception
+    {
+        String        json      = objectMapper.writeValueAsString(instanceEvent.getOMRSEventV1());
+        OMRSEventBean eventBean = objectMapper.readValue(json, OMRSEventBean.class);
+
+        return new OMRSInstanceEvent((OMRSEventV1) eventBean);
+    }
+}
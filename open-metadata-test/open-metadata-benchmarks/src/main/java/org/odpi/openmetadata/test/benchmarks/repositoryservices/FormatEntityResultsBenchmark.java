@@ -0,0 +1,108 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * FormatEntityResultsBenchmark measures the sorting and paging of search results by
+ * OMRSRepositoryContentHelper.formatEntityResults().  The helper sorts the list it is passed so each
+ * invocation works on a fresh copy of the unsorted results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatEntityResultsBenchmark extends RepositoryContentState
+{
+    @Param({"100", "1000", "10000"})
+    public int resultCount;
+
+    @Param({"25", "100"})
+    public int pageSize;
+
+    private List<EntityDetail> fullResults;
+    private int                fromElement;
+
+
+    /**
+     * Build the unsorted search results.
+     *
+     * @throws Exception the entities could not be created
+     */
+    @Override
+    protected void setUpBenchmark() throws Exception
+    {
+        fullResults = super.getEntities(resultCount);
+        fromElement = (resultCount / pageSize / 2) * pageSize;
+    }
+
+
+    /**
+     * Return a page from the middle of the results sorted on a property value.
+     *
+     * @return page of results
+     * @throws Exception invalid paging or sequencing parameters
+     */
+    @Benchmark
+    public List<EntityDetail> sortByPropertyValue() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(fullResults),
+                                                    fromElement,
+                                                    "displayName",
+                                                    SequencingOrder.PROPERTY_ASCENDING,
+                                                    pageSize);
+    }
+
+
+    /**
+     * Return a page from the middle of the results sorted on creation time.
+     *
+     * @return page of results
+     * @throws Exception invalid paging or sequencing parameters
+     */
+    @Benchmark
+    public List<EntityDetail> sortByCreationDate() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(fullResults),
+                                                    fromElement,
+                                                    null,
+                                                    SequencingOrder.CREATION_DATE_RECENT,
+                                                    pageSize);
+    }
+
+
+    /**
+     * Return a page from the middle of the results with no requested order.
+     *
+     * @return page of results
+     * @throws Exception invalid paging or sequencing parameters
+     */
+    @Benchmark
+    public List<EntityDetail> anyOrder() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(fullResults),
+                                                    fromElement,
+                                                    null,
+                                                    SequencingOrder.ANY,
+                                                    pageSize);
+    }
+}
@@ -0,0 +1,69 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * InstancePropertiesCloneBenchmark measures the copy constructors that the repositories use to protect
+ * their stored instances from changes made by the caller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstancePropertiesCloneBenchmark extends RepositoryContentState
+{
+    private EntityDetail entity;
+
+
+    /**
+     * Build the glossary term to copy.
+     *
+     * @throws Exception the entity could not be created
+     */
+    @Override
+    protected void setUpBenchmark() throws Exception
+    {
+        entity = super.getEntity(1);
+    }
+
+
+    /**
+     * Copy the properties of the entity.
+     *
+     * @return copied properties
+     */
+    @Benchmark
+    public InstanceProperties cloneProperties()
+    {
+        return new InstanceProperties(entity.getProperties());
+    }
+
+
+    /**
+     * Copy the whole entity.
+     *
+     * @return copied entity
+     */
+    @Benchmark
+    public EntityDetail cloneEntity()
+    {
+        return new EntityDetail(entity);
+    }
+}
@@ -0,0 +1,70 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks.repositoryservices;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * IsTypeOfBenchmark measures the type hierarchy checks made by the repository content manager for every
+ * instance returned from a search that is restricted to a type.  The actual types are chosen to give a
+ * range of depths in the open metadata type hierarchy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsTypeOfBenchmark extends RepositoryContentState
+{
+    @Param({"Referenceable", "GlossaryTerm", "RelationalColumn", "CSVFile"})
+    public String actualTypeName;
+
+
+    /**
+     * Test against the actual type itself.
+     *
+     * @return true
+     */
+    @Benchmark
+    public boolean sameType()
+    {
+        return repositoryHelper.isTypeOf(sourceName, actualTypeName, actualTypeName);
+    }
+
+
+    /**
+     * Test against the root of the hierarchy so every super type is visited.
+     *
+     * @return true
+     */
+    @Benchmark
+    public boolean rootSuperType()
+    {
+        return repositoryHelper.isTypeOf(sourceName, actualTypeName, "Referenceable");
+    }
+
+
+    /**
+     * Test against a type that is not in the hierarchy so every super type is visited before failing.
+     *
+     * @return false
+     */
+    @Benchmark
+    public boolean unrelatedType()
+    {
+        return repositoryHelper.isTypeOf(sourceName, actualTypeName, "Connection");
+    }
+}
@@ -0,0 +1,79 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesSnapshot;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * OpenMetadataTypesStartupBenchmark measures the time a starting server takes to obtain the open metadata types,
+ * either by building them with OpenMetadataTypesArchive or by reading the snapshot generated at build time.
+ * Each measurement is a single call in a new JVM so it includes the class loading and interpreted execution
+ * that a server sees at start up.  Logging is initialised before the measurement because the server has
+ * already done this when it loads the types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class OpenMetadataTypesStartupBenchmark
+{
+    /**
+     * Initialise logging outside of the measurement.
+     */
+    @Setup(Level.Trial)
+    public void setUpBenchmark()
+    {
+        LoggerFactory.getLogger(OpenMetadataTypesStartupBenchmark.class).debug("Logging initialised");
+    }
+
+
+    /**
+     * Build the open metadata types archive by running the archive builder code.
+     *
+     * @return open metadata types archive
+     */
+    @Benchmark
+    public OpenMetadataArchive buildTypes()
+    {
+        return new OpenMetadataTypesArchive().getOpenMetadataArchive();
+    }
+
+
+    /**
+     * Read the open metadata types archive from the snapshot packaged with open-metadata-types.
+     *
+     * @return open metadata types archive
+     */
+    @Benchmark
+    public OpenMetadataArchive readTypesSnapshot()
+    {
+        OpenMetadataTypesSnapshot openMetadataTypesSnapshot = new OpenMetadataTypesSnapshot();
+        OpenMetadataArchive       openMetadataArchive       = openMetadataTypesSnapshot.getOpenMetadataArchive();
+
+        if (! openMetadataTypesSnapshot.isLoadedFromSnapshot())
+        {
+            throw new IllegalStateException("The open metadata types snapshot is not on the classpath");
+        }
+
+        return openMetadataArchive;
+    }
+}
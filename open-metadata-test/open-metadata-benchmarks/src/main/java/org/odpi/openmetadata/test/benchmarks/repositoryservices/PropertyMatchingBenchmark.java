@@ -0,0 +1,179 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * PropertyMatchingBenchmark measures the property matching of OMRSRepositoryContentValidator in the way
+ * that a repository that filters in memory uses it: each search tests every stored entity in turn.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyMatchingBenchmark extends RepositoryContentState
+{
+    private static final String methodName = "findEntitiesByPropertyValue";
+
+    @Param({"1000", "10000"})
+    public int entityCount;
+
+    private List<EntityDetail> entities;
+    private InstanceProperties exactMatchProperties;
+    private InstanceProperties containsMatchProperties;
+    private String             exactSearchCriteria;
+    private String             containsSearchCriteria;
+
+
+    /**
+     * Build the stored entities and the search criteria.  Each search matches a single entity.
+     *
+     * @throws Exception the entities could not be created
+     */
+    @Override
+    protected void setUpBenchmark() throws Exception
+    {
+        final String setUpMethodName = "setUpBenchmark";
+
+        int matchingIndex = entityCount / 2;
+
+        entities = super.getEntities(entityCount);
+
+        exactMatchProperties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                            null,
+                                                                            "qualifiedName",
+                                                                            repositoryHelper.getExactMatchRegex("GlossaryTerm:BenchmarkGlossary:Term" + matchingIndex),
+                                                                            setUpMethodName);
+        containsMatchProperties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                               null,
+                                                                               "description",
+                                                                               repositoryHelper.getContainsRegex("benchmark term " + matchingIndex + " "),
+                                                                               setUpMethodName);
+
+        exactSearchCriteria = repositoryHelper.getExactMatchRegex("BT" + matchingIndex);
+        containsSearchCriteria = repositoryHelper.getContainsRegex("benchmark term " + matchingIndex + " ");
+    }
+
+
+    /**
+     * Match a single property with an exact match regular expression.
+     *
+     * @return number of matching entities
+     * @throws Exception invalid search criteria
+     */
+    @Benchmark
+    public int matchPropertiesExact() throws Exception
+    {
+        int matches = 0;
+
+        for (EntityDetail entity : entities)
+        {
+            if (repositoryValidator.verifyMatchingInstancePropertyValues(exactMatchProperties,
+                                                                         entity,
+                                                                         entity.getProperties(),
+                                                                         MatchCriteria.ALL))
+            {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+
+    /**
+     * Match a single property with a contains regular expression.
+     *
+     * @return number of matching entities
+     * @throws Exception invalid search criteria
+     */
+    @Benchmark
+    public int matchPropertiesContains() throws Exception
+    {
+        int matches = 0;
+
+        for (EntityDetail entity : entities)
+        {
+            if (repositoryValidator.verifyMatchingInstancePropertyValues(containsMatchProperties,
+                                                                         entity,
+                                                                         entity.getProperties(),
+                                                                         MatchCriteria.ALL))
+            {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+
+    /**
+     * Test every string property of each entity against an exact match regular expression.
+     *
+     * @return number of matching entities
+     * @throws Exception the properties are not properly set up
+     */
+    @Benchmark
+    public int matchSearchCriteriaExact() throws Exception
+    {
+        int matches = 0;
+
+        for (EntityDetail entity : entities)
+        {
+            if (repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(sourceName,
+                                                                                entity.getProperties(),
+                                                                                exactSearchCriteria,
+                                                                                methodName))
+            {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+
+    /**
+     * Test every string property of each entity against a contains regular expression.
+     *
+     * @return number of matching entities
+     * @throws Exception the properties are not properly set up
+     */
+    @Benchmark
+    public int matchSearchCriteriaContains() throws Exception
+    {
+        int matches = 0;
+
+        for (EntityDetail entity : entities)
+        {
+            if (repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(sourceName,
+                                                                                entity.getProperties(),
+                                                                                containsSearchCriteria,
+                                                                                methodName))
+            {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+}
@@ -0,0 +1,235 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PatchErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+
+/**
+ * RepositoryContentState is the common fixture for the repository services benchmarks.  It loads the
+ * open metadata types from the OpenMetadataTypesArchive into a repository content manager, in the same way
+ * as the archive manager does at server start up, and then creates a population of glossary terms with
+ * realistic properties.  The benchmark classes extend this class and are annotated as JMH state
+ * so the fixture is built once for each trial.  They build their own fixtures in setUpBenchmark()
+ * which is called once the types are loaded.
+ */
+public abstract class RepositoryContentState
+{
+    static final String sourceName           = "Repository Services Benchmarks";
+    static final String userId               = "benchmarkUser";
+    static final String metadataCollectionId = UUID.randomUUID().toString();
+    static final String entityTypeName       = "GlossaryTerm";
+
+    private static final String serverName   = "benchmarkServer";
+    private static final String serverType   = "Open Metadata and Governance Server";
+    private static final String organization = "ODPi";
+
+    OMRSRepositoryContentManager   repositoryContentManager;
+    OMRSRepositoryContentHelper    repositoryHelper;
+    OMRSRepositoryContentValidator repositoryValidator;
+
+
+    /**
+     * Load the open metadata types into a new repository content manager and then build the
+     * fixtures for the benchmark.
+     *
+     * @throws Exception the fixtures could not be built
+     */
+    @Setup(Level.Trial)
+    public void setUpRepositoryContent() throws Exception
+    {
+        OMRSAuditLogDestination auditLogDestination = new OMRSAuditLogDestination(serverName,
+                                                                                  serverType,
+                                                                                  organization,
+                                                                                  new ArrayList<>());
+        OMRSAuditLog            auditLog            = new OMRSAuditLog(auditLogDestination,
+                                                                       OMRSAuditingComponent.REPOSITORY_CONTENT_MANAGER);
+
+        repositoryContentManager = new OMRSRepositoryContentManager(userId, auditLog);
+        repositoryHelper = new OMRSRepositoryContentHelper(repositoryContentManager);
+        repositoryValidator = new OMRSRepositoryContentValidator(repositoryContentManager);
+
+        OpenMetadataTypesArchive     openMetadataTypesArchive = new OpenMetadataTypesArchive();
+        OpenMetadataArchiveTypeStore typeStore = openMetadataTypesArchive.getOpenMetadataArchive().getArchiveTypeStore();
+
+        if (typeStore.getAttributeTypeDefs() != null)
+        {
+            for (AttributeTypeDef attributeTypeDef : typeStore.getAttributeTypeDefs())
+            {
+                repositoryContentManager.addAttributeTypeDef(sourceName, attributeTypeDef);
+            }
+        }
+
+        if (typeStore.getNewTypeDefs() != null)
+        {
+            for (TypeDef typeDef : typeStore.getNewTypeDefs())
+            {
+                repositoryContentManager.addTypeDef(sourceName, typeDef);
+            }
+        }
+
+        if (typeStore.getTypeDefPatches() != null)
+        {
+            for (TypeDefPatch typeDefPatch : typeStore.getTypeDefPatches())
+            {
+                this.applyTypeDefPatch(typeDefPatch);
+            }
+        }
+
+        this.setUpBenchmark();
+    }
+
+
+    /**
+     * Build the fixtures for the benchmark.  The open metadata types are loaded when this is called.
+     *
+     * @throws Exception the fixtures could not be built
+     */
+    protected void setUpBenchmark() throws Exception
+    {
+    }
+
+
+    /**
+     * Apply a patch from the archive to the cached TypeDef.
+     *
+     * @param typeDefPatch patch to apply
+     * @throws InvalidParameterException the TypeDef or patch is null
+     * @throws PatchErrorException the patch does not apply to the cached TypeDef
+     */
+    private void applyTypeDefPatch(TypeDefPatch typeDefPatch) throws InvalidParameterException,
+                                                                    PatchErrorException
+    {
+        TypeDef originalTypeDef = repositoryHelper.getTypeDefByName(sourceName, typeDefPatch.getTypeDefName());
+
+        if (originalTypeDef != null)
+        {
+            TypeDef updatedTypeDef = repositoryHelper.applyPatch(sourceName, originalTypeDef, typeDefPatch);
+
+            repositoryContentManager.updateTypeDef(sourceName, updatedTypeDef);
+        }
+    }
+
+
+    /**
+     * Create a population of glossary terms.  The property values vary with the index so that searches and
+     * sorts have realistic work to do.
+     *
+     * @param entityCount number of entities to create
+     * @return list of entities
+     * @throws TypeErrorException the glossary term type is not loaded
+     */
+    List<EntityDetail> getEntities(int entityCount) throws TypeErrorException
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int index = 0; index < entityCount; index++)
+        {
+            entities.add(this.getEntity(index));
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Create a single glossary term.
+     *
+     * @param index number of the entity used to vary its property values
+     * @return entity
+     * @throws TypeErrorException the glossary term type is not loaded
+     */
+    EntityDetail getEntity(int index) throws TypeErrorException
+    {
+        EntityDetail entity = repositoryHelper.getSkeletonEntity(sourceName,
+                                                                 metadataCollectionId,
+                                                                 InstanceProvenanceType.LOCAL_COHORT,
+                                                                 userId,
+                                                                 entityTypeName);
+
+        entity.setCreateTime(new Date(System.currentTimeMillis() - (index * 1000L)));
+        entity.setProperties(this.getProperties(index));
+
+        return entity;
+    }
+
+
+    /**
+     * Create the properties for a glossary term.
+     *
+     * @param index number of the entity used to vary its property values
+     * @return properties
+     */
+    InstanceProperties getProperties(int index)
+    {
+        final String methodName = "getProperties";
+
+        /*
+         * Mix up the ordering of the display names so that sorting is not presented with sorted input.
+         */
+        int                sortKey    = (index * 7919) % 100003;
+        InstanceProperties properties = new InstanceProperties();
+
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  "qualifiedName",
+                                                                  "GlossaryTerm:BenchmarkGlossary:Term" + index,
+                                                                  methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  "displayName",
+                                                                  "Term " + sortKey,
+                                                                  methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  "summary",
+                                                                  "Summary of benchmark term " + index,
+                                                                  methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  "description",
+                                                                  "A longer description of benchmark term " + index +
+                                                                          " that is typical of the descriptions found in a business glossary.",
+                                                                  methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  "examples",
+                                                                  "Example " + index,
+                                                                  methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  "abbreviation",
+                                                                  "BT" + index,
+                                                                  methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  "usage",
+                                                                  "Used by the repository services benchmarks",
+                                                                  methodName);
+
+        return properties;
+    }
+}